@@ -0,0 +1,8 @@
+#!/bin/bash
+# Usage: ./scripts/benchmark.sh [-P vector] [JMH arguments...]
+profiles=benchmark
+if [ "$1" = "-P" ]; then
+  profiles="benchmark,$2"
+  shift 2
+fi
+mvn -P "$profiles" test-compile exec:exec -Djmh.args="-prof gc $*"
@@ -1,2 +1,3 @@
 #!/bin/bash
 mvn clean
+mvn -f themis-processor/pom.xml clean
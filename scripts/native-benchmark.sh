@@ -0,0 +1,36 @@
+#!/bin/bash
+# Usage: ./scripts/native-benchmark.sh [runs]
+#
+# Compares the startup and first call latency of the Themis native sample on
+# the JVM and as a GraalVM native image. Needs Themis and the processor to be
+# installed, and GraalVM's native-image on the PATH for the native run.
+runs=${1:-20}
+sample=themis-native-sample
+
+mvn -q -f "$sample/pom.xml" -P native package || exit 1
+
+classpath=$(mvn -q -f "$sample/pom.xml" \
+  org.codehaus.mojo:exec-maven-plugin:3.1.0:exec \
+  -Dexec.executable=echo -Dexec.args="%classpath")
+main=uk.co.noop.themis.sample.ThemisNativeSample
+
+measure() {
+  local name=$1
+  shift
+  for ((i = 0; i < runs; i++)); do
+    local start=$(date +%s%N)
+    "$@" > "$sample/target/run.txt"
+    echo "process_us=$((($(date +%s%N) - start) / 1000))"
+    cat "$sample/target/run.txt"
+  done | tr '=' ' ' | sort -k1,1 -k2,2n | awk -v name="$name" '
+    function report() {
+      printf "%-8s %-30s median %10d us\n",
+        name, key, values[int((count + 1) / 2)]
+    }
+    $1 != key { if (count) report(); key = $1; count = 0 }
+    { values[++count] = $2 }
+    END { if (count) report() }'
+}
+
+measure jvm java -cp "$classpath" "$main"
+measure native "./$sample/target/$sample"
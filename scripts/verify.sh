@@ -1,3 +1,6 @@
 #!/bin/bash
+# The processor depends on the Themis artifact, so Themis is installed first
+# and the processor, with its tests, is built against it.
 ./scripts/clean.sh
-mvn verify
+mvn install || exit 1
+mvn -f themis-processor/pom.xml verify
@@ -0,0 +1,55 @@
+package uk.co.noop.themis.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import uk.co.noop.themis.Themis;
+import uk.co.noop.themis.annotation.NotBlank;
+import uk.co.noop.themis.annotation.NotEmpty;
+import uk.co.noop.themis.annotation.NotNull;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>Benchmarks {@link Themis#validateAnnotated(Object)} on a record of three
+ * annotated components against the equivalent hand-written
+ * <code>Themis.validate</code> calls.</p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AnnotatedPlanBenchmark {
+
+  private User user = new User("0a1b2c3d", "Ada Lovelace", new Object());
+
+  @Benchmark
+  public Object annotated_pass() {
+    return Themis.validateAnnotated(user);
+  }
+
+  @Benchmark
+  public Object handWritten_pass() {
+
+    Themis.validate("id", user.id()).againstBlankStrings();
+    Themis.validate("name", user.name()).againstEmptyStrings();
+    Themis.validate("data", user.data()).againstNullObjects();
+
+    return user;
+  }
+
+  public record User(
+      @NotBlank String id,
+      @NotEmpty String name,
+      @NotNull Object data) {
+  }
+
+}
@@ -0,0 +1,65 @@
+package uk.co.noop.themis.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import uk.co.noop.themis.rule.CollectionRules;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * <p>Compares the sequential and parallel paths of the element rules on
+ * valid <b>targets</b> of increasing size. The parallel path needs more
+ * than one CPU.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CollectionEunomiaBenchmark {
+
+  @Param({"1000", "100000", "1000000"})
+  private int size;
+
+  @Param({"true", "false"})
+  private boolean parallel;
+
+  private List<String> target;
+
+  @Setup
+  public void setUp() {
+
+    target = IntStream.range(0, size)
+        .mapToObj(i -> "ID-" + i)
+        .collect(Collectors.toList());
+
+    CollectionRules.setParallelThreshold(parallel ? 1 : Integer.MAX_VALUE);
+  }
+
+  @Benchmark
+  public Object invalidElements() {
+
+    return CollectionRules.invalidElementViolation(
+        target,
+        (String id) -> !id.startsWith("ID-") || id.isBlank());
+  }
+
+  @Benchmark
+  public Object duplicateElements() {
+    return CollectionRules.duplicateElementViolation(target);
+  }
+
+}
@@ -0,0 +1,138 @@
+package uk.co.noop.themis.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import uk.co.noop.themis.Themis;
+import uk.co.noop.themis.column.IntColumnValidator;
+import uk.co.noop.themis.column.ThemisColumns;
+import uk.co.noop.themis.exception.ThemisTargetException;
+import uk.co.noop.themis.validator.ThemisValidator;
+
+import java.util.BitSet;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>Compares validating whole columns with {@link ThemisColumns} against one
+ * <code>Themis.validate</code> or <code>Themis.check</code> call per value,
+ * with a given percentage of invalid values.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ColumnValidatorBenchmark {
+
+  private static final String TARGET_NAME = "age";
+
+  private static final IntColumnValidator AGES =
+      ThemisColumns.forInts(TARGET_NAME)
+          .againstValuesOutside(0, 150)
+          .build();
+
+  private static final ThemisValidator<String> NAMES =
+      ThemisValidator.forStrings(TARGET_NAME)
+          .againstBlankStrings()
+          .againstLongStrings(16)
+          .build();
+
+  @Param({"10000"})
+  private int size;
+
+  @Param({"0", "1", "50"})
+  private int invalidPercent;
+
+  private int[] ints;
+  private String[] strings;
+
+  @Setup
+  public void setUp() {
+
+    final Random random = new Random(42);
+
+    ints = new int[size];
+    strings = new String[size];
+
+    for (int i = 0; i < size; i++) {
+
+      final boolean invalid = random.nextInt(100) < invalidPercent;
+
+      ints[i] = invalid ? -1 - random.nextInt(10) : random.nextInt(151);
+      strings[i] = invalid ? " " : "name-" + i;
+    }
+  }
+
+  @Benchmark
+  public Object intColumn() {
+    return AGES.validate(ints);
+  }
+
+  @Benchmark
+  public Object intValuesCheck() {
+
+    final BitSet failures = new BitSet(size);
+
+    for (int i = 0; i < size; i++) {
+      if (Themis.check(TARGET_NAME, ints[i])
+          .againstValuesOutside(0, 150)
+          .getResult()
+          .isInvalid()) {
+
+        failures.set(i);
+      }
+    }
+
+    return failures;
+  }
+
+  @Benchmark
+  public Object intValuesValidate() {
+
+    final BitSet failures = new BitSet(size);
+
+    for (int i = 0; i < size; i++) {
+      try {
+        Themis.validate(TARGET_NAME, ints[i]).againstValuesOutside(0, 150);
+      } catch (final ThemisTargetException e) {
+        failures.set(i);
+      }
+    }
+
+    return failures;
+  }
+
+  @Benchmark
+  public Object stringColumn() {
+    return ThemisColumns.validate(strings, NAMES);
+  }
+
+  @Benchmark
+  public Object stringValuesValidate() {
+
+    final BitSet failures = new BitSet(size);
+
+    for (int i = 0; i < size; i++) {
+      try {
+        Themis.validate(TARGET_NAME, strings[i])
+            .againstBlankStrings()
+            .againstLongStrings(16);
+      } catch (final ThemisTargetException e) {
+        failures.set(i);
+      }
+    }
+
+    return failures;
+  }
+
+}
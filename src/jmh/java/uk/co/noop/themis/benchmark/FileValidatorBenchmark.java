@@ -0,0 +1,100 @@
+package uk.co.noop.themis.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import uk.co.noop.themis.file.ThemisFileValidator;
+import uk.co.noop.themis.rule.StringRules;
+import uk.co.noop.themis.rule.Utf8Rules;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>Compares {@link ThemisFileValidator} with reading the same CSV file line
+ * by line with a <code>BufferedReader</code> and validating each field as a
+ * <code>String</code>.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FileValidatorBenchmark {
+
+  @Param({"100000", "1000000"})
+  private int records;
+
+  private Path path;
+  private ThemisFileValidator validator;
+
+  @Setup
+  public void setUp() throws IOException {
+
+    path = Files.createTempFile("themis", ".csv");
+
+    try (BufferedWriter writer = Files.newBufferedWriter(path)) {
+      for (int i = 0; i < records; i++) {
+        writer.write("ID-" + i + ",name " + i + ",city\n");
+      }
+    }
+
+    validator = ThemisFileValidator.forCsv()
+        .againstRule(0, Utf8Rules.againstBlankUtf8Bytes())
+        .againstRule(0, Utf8Rules.againstLongUtf8Bytes(16))
+        .againstRule(1, Utf8Rules.againstControlCharacters())
+        .againstRule(2, Utf8Rules.againstNonAsciiCharacters())
+        .build();
+  }
+
+  @TearDown
+  public void tearDown() throws IOException {
+    Files.deleteIfExists(path);
+  }
+
+  @Benchmark
+  public Object fileValidator() throws IOException {
+    return validator.validate(path);
+  }
+
+  @Benchmark
+  public int bufferedReader() throws IOException {
+
+    int violations = 0;
+
+    try (BufferedReader reader = Files.newBufferedReader(path)) {
+
+      String line;
+
+      while ((line = reader.readLine()) != null) {
+
+        final String[] fields = line.split(",", -1);
+
+        if (StringRules.blankStringViolation(fields[0]) != null
+            || StringRules.longStringViolation(fields[0], 16) != null
+            || StringRules.controlCharactersViolation(fields[1]) != null
+            || StringRules.nonAsciiCharactersViolation(fields[2]) != null) {
+
+          violations++;
+        }
+      }
+    }
+
+    return violations;
+  }
+
+}
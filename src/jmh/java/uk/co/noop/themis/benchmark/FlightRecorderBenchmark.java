@@ -0,0 +1,77 @@
+package uk.co.noop.themis.benchmark;
+
+import jdk.jfr.Recording;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import uk.co.noop.themis.Themis;
+import uk.co.noop.themis.violation.ThemisResult;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>Measures the cost of the Themis Java Flight Recorder events, with no
+ * recording and with a recording of them running: the passing path through a
+ * custom <code>Predicate</code>, which is timed, and the checking failing
+ * path, which commits a violation event.</p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FlightRecorderBenchmark {
+
+  @Param({"false", "true"})
+  private boolean recording;
+
+  private Recording flightRecording;
+
+  private String targetName = "id";
+  private String target = "0a1b2c3d";
+  private String blankTarget = "   ";
+
+  @Setup
+  public void setUp() {
+
+    if (recording) {
+      flightRecording = new Recording();
+      flightRecording.enable("uk.co.noop.themis.Violation");
+      flightRecording.enable("uk.co.noop.themis.SlowPredicate");
+      flightRecording.setToDisk(false);
+      flightRecording.start();
+    }
+  }
+
+  @TearDown
+  public void tearDown() {
+
+    if (flightRecording != null) {
+      flightRecording.close();
+    }
+  }
+
+  @Benchmark
+  public Object againstInvalidStrings_pass() {
+
+    return Themis.validate(targetName, target)
+        .againstInvalidStrings(String::isEmpty);
+  }
+
+  @Benchmark
+  public ThemisResult againstBlankStrings_check_fail() {
+    return Themis.check(targetName, blankTarget).againstBlankStrings()
+        .getResult();
+  }
+
+}
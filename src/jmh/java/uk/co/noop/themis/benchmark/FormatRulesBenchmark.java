@@ -0,0 +1,77 @@
+package uk.co.noop.themis.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import uk.co.noop.themis.rule.FormatRules;
+
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * <p>Compares the hand-written {@link FormatRules} with the regular
+ * expressions they replace, both recompiled for each <b>target</b> (as with
+ * <code>Pattern.matches</code>) and precompiled.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FormatRulesBenchmark {
+
+  private static final String UUID_REGEX =
+      "[0-9a-fA-F]{8}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-"
+          + "[0-9a-fA-F]{12}";
+
+  private static final String EMAIL_REGEX =
+      "[A-Za-z0-9!#$%&'*+/=?^_`{|}~-]+(\\.[A-Za-z0-9!#$%&'*+/=?^_`{|}~-]+)*"
+          + "@[A-Za-z0-9]([A-Za-z0-9-]{0,61}[A-Za-z0-9])?"
+          + "(\\.[A-Za-z0-9]([A-Za-z0-9-]{0,61}[A-Za-z0-9])?)*";
+
+  private static final Pattern UUID_PATTERN = Pattern.compile(UUID_REGEX);
+
+  private static final Pattern EMAIL_PATTERN = Pattern.compile(EMAIL_REGEX);
+
+  private final String uuid = "123e4567-e89b-12d3-a456-426614174000";
+
+  private final String email = "first.last+tag@mail.example.co.uk";
+
+  @Benchmark
+  public Object uuidFormatRule() {
+    return FormatRules.uuidViolation(uuid);
+  }
+
+  @Benchmark
+  public boolean uuidPatternMatches() {
+    return Pattern.matches(UUID_REGEX, uuid);
+  }
+
+  @Benchmark
+  public boolean uuidCompiledPattern() {
+    return UUID_PATTERN.matcher(uuid).matches();
+  }
+
+  @Benchmark
+  public Object emailFormatRule() {
+    return FormatRules.emailViolation(email);
+  }
+
+  @Benchmark
+  public boolean emailPatternMatches() {
+    return Pattern.matches(EMAIL_REGEX, email);
+  }
+
+  @Benchmark
+  public boolean emailCompiledPattern() {
+    return EMAIL_PATTERN.matcher(email).matches();
+  }
+
+}
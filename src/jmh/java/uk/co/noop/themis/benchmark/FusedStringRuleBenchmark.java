@@ -0,0 +1,72 @@
+package uk.co.noop.themis.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import uk.co.noop.themis.Themis;
+import uk.co.noop.themis.rule.CharacterSet;
+import uk.co.noop.themis.rule.StringRules;
+import uk.co.noop.themis.rule.ThemisRule;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>Compares a chain of character-level <code>StringEunomia</code> checks,
+ * which walks the <b>target</b> once per check, with the equivalent
+ * {@link uk.co.noop.themis.rule.FusedStringRule FusedStringRule}, which walks
+ * it once.</p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FusedStringRuleBenchmark {
+
+  private static final int MAX_LENGTH = 1 << 20;
+
+  private static final CharacterSet TOKEN =
+      CharacterSet.ASCII_ALPHANUMERICS.or(CharacterSet.of("-_"));
+
+  private static final ThemisRule<String> FUSED = StringRules.fuse()
+      .againstBlankStrings()
+      .againstLongStrings(MAX_LENGTH)
+      .againstCharactersOutside(CharacterSet.PRINTABLE_ASCII)
+      .againstCharactersOutside(TOKEN)
+      .build();
+
+  @Param({"16", "65536"})
+  private int length;
+
+  private String target;
+
+  @Setup
+  public void setUp() {
+    target = "a1-_".repeat(length / 4);
+  }
+
+  @Benchmark
+  public Object chain() {
+
+    return Themis.validate("token", target)
+        .againstBlankStrings()
+        .againstLongStrings(MAX_LENGTH)
+        .againstCharactersOutside(CharacterSet.PRINTABLE_ASCII)
+        .againstCharactersOutside(TOKEN);
+  }
+
+  @Benchmark
+  public Object fused() {
+    return Themis.validate("token", target).againstRule(FUSED);
+  }
+
+}
@@ -0,0 +1,53 @@
+package uk.co.noop.themis.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import uk.co.noop.themis.Themis;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>Compares validating a <code>double</code> with {@link
+ * uk.co.noop.themis.eunomia.DoubleEunomia DoubleEunomia} and with the boxing
+ * {@link uk.co.noop.themis.eunomia.ObjectEunomia ObjectEunomia} it
+ * replaces.</p>
+ *
+ * <p>Each benchmark returns the shared valid result rather than the Eunomia,
+ * so that only the allocations made by validating are measured.</p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NumberEunomiaBenchmark {
+
+  private double price = 1234.57;
+
+  @Benchmark
+  public Object object_pass() {
+
+    return Themis.validate("price", (Object) price)
+        .againstInvalidObjects(p -> !Double.isFinite((Double) p))
+        .againstInvalidObjects(p -> (Double) p < 0.01)
+        .getResult();
+  }
+
+  @Benchmark
+  public Object double_pass() {
+
+    return Themis.validate("price", price)
+        .againstNonFiniteValues()
+        .againstValuesBelow(0.01)
+        .getResult();
+  }
+
+}
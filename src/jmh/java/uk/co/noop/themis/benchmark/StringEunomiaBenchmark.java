@@ -0,0 +1,94 @@
+package uk.co.noop.themis.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import uk.co.noop.themis.Themis;
+import uk.co.noop.themis.exception.ThemisTargetException;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>Benchmarks the {@link uk.co.noop.themis.eunomia.StringEunomia
+ * StringEunomia} chains, from <code>Themis.validate</code> through to the
+ * final check, for both the passing and the failing (exception) case.</p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StringEunomiaBenchmark {
+
+  private String targetName = "id";
+  private String target = "0a1b2c3d";
+  private String nullTarget = null;
+  private String emptyTarget = "";
+  private String blankTarget = "   ";
+
+  @Benchmark
+  public Object againstNullStrings_pass() {
+    return Themis.validate(targetName, target).againstNullStrings();
+  }
+
+  @Benchmark
+  public Object againstNullStrings_fail() {
+
+    try {
+      return Themis.validate(targetName, nullTarget).againstNullStrings();
+    } catch (final ThemisTargetException e) {
+      return e;
+    }
+  }
+
+  @Benchmark
+  public Object againstEmptyStrings_pass() {
+    return Themis.validate(targetName, target).againstEmptyStrings();
+  }
+
+  @Benchmark
+  public Object againstEmptyStrings_fail() {
+
+    try {
+      return Themis.validate(targetName, emptyTarget).againstEmptyStrings();
+    } catch (final ThemisTargetException e) {
+      return e;
+    }
+  }
+
+  @Benchmark
+  public Object againstBlankStrings_pass() {
+    return Themis.validate(targetName, target).againstBlankStrings();
+  }
+
+  @Benchmark
+  public Object againstBlankStrings_fail() {
+
+    try {
+      return Themis.validate(targetName, blankTarget).againstBlankStrings();
+    } catch (final ThemisTargetException e) {
+      return e;
+    }
+  }
+
+  @Benchmark
+  public Object check_againstBlankStrings_pass() {
+    return Themis.check(targetName, target).againstBlankStrings().getResult();
+  }
+
+  @Benchmark
+  public Object check_againstBlankStrings_fail() {
+
+    return Themis.check(targetName, blankTarget)
+        .againstBlankStrings()
+        .getResult();
+  }
+
+}
@@ -0,0 +1,71 @@
+package uk.co.noop.themis.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import uk.co.noop.themis.rule.CharacterSet;
+import uk.co.noop.themis.rule.StringRules;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>Measures the character-level string rules on valid <b>targets</b> of
+ * increasing length, which must be scanned to the end.</p>
+ *
+ * <p>Run with and without the <code>vector</code> profile to compare SIMD and
+ * scalar scanning, e.g.
+ * <code>./scripts/benchmark.sh StringScanBenchmark</code> and
+ * <code>./scripts/benchmark.sh -P vector StringScanBenchmark</code>.</p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StringScanBenchmark {
+
+  private static final CharacterSet TOKEN =
+      CharacterSet.ASCII_ALPHANUMERICS.or(CharacterSet.of("-_"));
+
+  @Param({"16", "1024", "65536", "1048576"})
+  private int length;
+
+  private String whitespace;
+  private String token;
+
+  @Setup
+  public void setUp() {
+    whitespace = " ".repeat(length - 1) + "x";
+    token = "a1-_".repeat(length / 4);
+  }
+
+  @Benchmark
+  public Object blank() {
+    return StringRules.blankStringViolation(whitespace);
+  }
+
+  @Benchmark
+  public Object nonAscii() {
+    return StringRules.nonAsciiCharactersViolation(token);
+  }
+
+  @Benchmark
+  public Object control() {
+    return StringRules.controlCharactersViolation(token);
+  }
+
+  @Benchmark
+  public Object outside() {
+    return StringRules.charactersOutsideViolation(token, TOKEN);
+  }
+
+}
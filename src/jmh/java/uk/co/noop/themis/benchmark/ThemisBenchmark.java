@@ -0,0 +1,109 @@
+package uk.co.noop.themis.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import uk.co.noop.themis.Themis;
+import uk.co.noop.themis.eunomia.StringEunomia;
+import uk.co.noop.themis.exception.ThemisTargetException;
+
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>Benchmarks the {@link Themis} entry points for both the passing and the
+ * failing (exception) case.</p>
+ *
+ * <p>The failing case uses a blank <b>targetName</b>, which every entry point
+ * rejects before creating a Eunomia. The <code>validateAny</code> cases
+ * dispatch on the runtime type of a <code>String</code> and of an
+ * <code>ArrayList</code>, which is matched through its
+ * <code>Collection</code> interface.</p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ThemisBenchmark {
+
+  private String targetName = "id";
+  private String blankTargetName = " ";
+  private String stringTarget = "0a1b2c3d";
+  private Object objectTarget = new Object();
+  private Object listTarget = new ArrayList<>();
+
+  @Benchmark
+  public Object validateString_pass() {
+    return Themis.validate(targetName, stringTarget);
+  }
+
+  @Benchmark
+  public Object validateString_fail() {
+
+    try {
+      return Themis.validate(blankTargetName, stringTarget);
+    } catch (final ThemisTargetException e) {
+      return e;
+    }
+  }
+
+  @Benchmark
+  public Object validateObject_pass() {
+    return Themis.validate(targetName, objectTarget);
+  }
+
+  @Benchmark
+  public Object validateObject_fail() {
+
+    try {
+      return Themis.validate(blankTargetName, objectTarget);
+    } catch (final ThemisTargetException e) {
+      return e;
+    }
+  }
+
+  @Benchmark
+  public Object validateCustom_pass() {
+    return Themis.validate(targetName, stringTarget, StringEunomia.class);
+  }
+
+  @Benchmark
+  public Object validateCustom_baseline() {
+
+    Themis.validate(targetName, stringTarget);
+
+    return new StringEunomia(targetName, stringTarget);
+  }
+
+  @Benchmark
+  public Object validateCustom_fail() {
+
+    try {
+      return Themis.validate(
+          blankTargetName,
+          stringTarget,
+          StringEunomia.class);
+    } catch (final ThemisTargetException e) {
+      return e;
+    }
+  }
+
+  @Benchmark
+  public Object validateAnyString_pass() {
+    return Themis.validateAny(targetName, stringTarget);
+  }
+
+  @Benchmark
+  public Object validateAnyCollection_pass() {
+    return Themis.validateAny(targetName, listTarget);
+  }
+
+}
@@ -0,0 +1,70 @@
+package uk.co.noop.themis.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import uk.co.noop.themis.metrics.ThemisFailureTracker;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>Measures recording a failure in a {@link ThemisFailureTracker}, for a
+ * few hot <b>targetNames</b>, which are found through the hash index over
+ * the candidates, and for many distinct ones, which are mostly below the
+ * floor and otherwise compared against every candidate.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ThemisFailureTrackerBenchmark {
+
+  @Param({"4", "100000"})
+  private int distinctTargets;
+
+  @Param({"10", "100"})
+  private int capacity;
+
+  private ThemisFailureTracker tracker;
+  private String[] targetNames;
+
+  @Setup
+  public void setUp() {
+
+    tracker = new ThemisFailureTracker(capacity);
+    targetNames = new String[distinctTargets];
+
+    for (int i = 0; i < distinctTargets; i++) {
+      targetNames[i] = "target " + i;
+    }
+  }
+
+  @Benchmark
+  public ThemisFailureTracker record() {
+
+    tracker.record(
+        targetNames[ThreadLocalRandom.current().nextInt(distinctTargets)],
+        "againstBlankStrings");
+
+    return tracker;
+  }
+
+  @Benchmark
+  @Threads(4)
+  public ThemisFailureTracker record_contended() {
+    return record();
+  }
+
+}
@@ -0,0 +1,79 @@
+package uk.co.noop.themis.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import uk.co.noop.themis.Themis;
+import uk.co.noop.themis.metrics.ThemisMetrics;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>Measures the cost of {@link ThemisMetrics} on the passing path: disabled,
+ * enabled with the default sampling and enabled with every timed check
+ * sampled. The chain ends with a predicate, the kind of check that is
+ * timed.</p>
+ *
+ * <p>The <code>_contended</code> variant runs on four threads validating the
+ * same <b>targetName</b>, so they update the same counters.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ThemisMetricsBenchmark {
+
+  @Param({"0", "64", "1"})
+  private int sampleRate;
+
+  private String targetName = "id";
+  private String target = "0a1b2c3d";
+
+  @Setup
+  public void setUp() {
+
+    ThemisMetrics.reset();
+    ThemisMetrics.setEnabled(sampleRate > 0);
+    ThemisMetrics.setSampleRate(Math.max(1, sampleRate));
+  }
+
+  @TearDown
+  public void tearDown() {
+
+    ThemisMetrics.setEnabled(false);
+    ThemisMetrics.setSampleRate(64);
+    ThemisMetrics.reset();
+  }
+
+  @Benchmark
+  public Object validate_pass() {
+
+    return Themis.validate(targetName, target)
+        .againstBlankStrings()
+        .againstLongStrings(64)
+        .againstInvalidStrings(String::isEmpty);
+  }
+
+  @Benchmark
+  @Threads(4)
+  public Object validate_pass_contended() {
+
+    return Themis.validate(targetName, target)
+        .againstBlankStrings()
+        .againstLongStrings(64)
+        .againstInvalidStrings(String::isEmpty);
+  }
+
+}
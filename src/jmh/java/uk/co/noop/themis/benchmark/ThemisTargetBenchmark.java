@@ -0,0 +1,68 @@
+package uk.co.noop.themis.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import uk.co.noop.themis.Themis;
+import uk.co.noop.themis.ThemisTarget;
+import uk.co.noop.themis.exception.ThemisTargetException;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>Benchmarks a {@link ThemisTarget} held as a <code>static final</code>
+ * field against {@link Themis#validate(String, String)}, which validates the
+ * <b>targetName</b> on every call, for both the passing and the failing
+ * (exception) case.</p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ThemisTargetBenchmark {
+
+  private static final ThemisTarget ID = Themis.target("id");
+
+  private String targetName = "id";
+  private String validTarget = "0a1b2c3d";
+  private String blankTarget = " ";
+
+  @Benchmark
+  public Object themis_pass() {
+    return Themis.validate(targetName, validTarget).againstBlankStrings();
+  }
+
+  @Benchmark
+  public Object target_pass() {
+    return ID.validate(validTarget).againstBlankStrings();
+  }
+
+  @Benchmark
+  public Object themis_fail() {
+
+    try {
+      return Themis.validate(targetName, blankTarget).againstBlankStrings();
+    } catch (final ThemisTargetException e) {
+      return e.getMessage();
+    }
+  }
+
+  @Benchmark
+  public Object target_fail() {
+
+    try {
+      return ID.validate(blankTarget).againstBlankStrings();
+    } catch (final ThemisTargetException e) {
+      return e.getMessage();
+    }
+  }
+
+}
@@ -0,0 +1,95 @@
+package uk.co.noop.themis.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import uk.co.noop.themis.Themis;
+import uk.co.noop.themis.exception.ThemisTargetException;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>Compares the throughput of the failing (exception) path with and without
+ * {@link ThemisTargetException#setLightweight(boolean) lightweight}
+ * exceptions.</p>
+ *
+ * <p>The <code>_message</code> variants also read the message, which is what a
+ * caller that logs or returns it pays.</p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ThemisTargetExceptionBenchmark {
+
+  @Param({"false", "true"})
+  private boolean lightweight;
+
+  private String targetName = "id";
+  private String blankTarget = "   ";
+  private String invalidTarget = "0a1b2c3d";
+
+  @Setup
+  public void setUp() {
+    ThemisTargetException.setLightweight(lightweight);
+  }
+
+  @TearDown
+  public void tearDown() {
+    ThemisTargetException.setLightweight(false);
+  }
+
+  @Benchmark
+  public Object againstBlankStrings_fail() {
+
+    try {
+      return Themis.validate(targetName, blankTarget).againstBlankStrings();
+    } catch (final ThemisTargetException e) {
+      return e;
+    }
+  }
+
+  @Benchmark
+  public Object againstBlankStrings_fail_message() {
+
+    try {
+      return Themis.validate(targetName, blankTarget).againstBlankStrings();
+    } catch (final ThemisTargetException e) {
+      return e.getMessage();
+    }
+  }
+
+  @Benchmark
+  public Object againstInvalidStrings_fail() {
+
+    try {
+      return Themis.validate(targetName, invalidTarget)
+          .againstInvalidStrings(t -> !t.isEmpty());
+    } catch (final ThemisTargetException e) {
+      return e;
+    }
+  }
+
+  @Benchmark
+  public Object againstInvalidStrings_fail_message() {
+
+    try {
+      return Themis.validate(targetName, invalidTarget)
+          .againstInvalidStrings(t -> !t.isEmpty());
+    } catch (final ThemisTargetException e) {
+      return e.getMessage();
+    }
+  }
+
+}
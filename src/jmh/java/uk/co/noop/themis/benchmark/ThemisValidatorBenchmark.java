@@ -0,0 +1,57 @@
+package uk.co.noop.themis.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import uk.co.noop.themis.Themis;
+import uk.co.noop.themis.validator.ThemisValidator;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>Compares a precompiled {@link ThemisValidator} with the equivalent
+ * <code>Themis.validate</code> chain.</p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ThemisValidatorBenchmark {
+
+  private static final ThemisValidator<String> ID =
+      ThemisValidator.forStrings("id")
+          .againstBlankStrings()
+          .againstLongStrings(64)
+          .againstInvalidStrings(id -> id.charAt(0) == '-')
+          .build();
+
+  private String target = "0a1b2c3d";
+
+  @Benchmark
+  public Object chain_pass() {
+
+    return Themis.validate("id", target)
+        .againstBlankStrings()
+        .againstLongStrings(64)
+        .againstInvalidStrings(id -> id.charAt(0) == '-');
+  }
+
+  @Benchmark
+  public Object validator_pass() {
+    return ID.validate(target);
+  }
+
+  @Benchmark
+  public Object validator_check_pass() {
+    return ID.check(target);
+  }
+
+}
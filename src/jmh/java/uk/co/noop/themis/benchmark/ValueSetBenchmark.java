@@ -0,0 +1,168 @@
+package uk.co.noop.themis.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import uk.co.noop.themis.rule.IntValueSet;
+import uk.co.noop.themis.rule.ValueSet;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>Compares {@link ValueSet} and {@link IntValueSet} lookups against
+ * {@link HashSet}, over a batch of probes of which about half are in the
+ * set.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ValueSetBenchmark {
+
+  private static final int PROBES = 1024;
+
+  @Param({"16", "256", "4096"})
+  private int size;
+
+  private ValueSet<String> stringSet;
+  private Set<String> stringHashSet;
+  private IntValueSet denseIntSet;
+  private IntValueSet sparseIntSet;
+  private Set<Integer> intHashSet;
+  private Set<Integer> sparseIntHashSet;
+
+  private String[] stringProbes;
+  private int[] denseProbes;
+  private int[] sparseProbes;
+
+  @Setup
+  public void setUp() {
+
+    final Random random = new Random(42);
+    final String[] strings = new String[size];
+    final int[] dense = new int[size];
+    final int[] sparse = new int[size];
+
+    stringHashSet = new HashSet<>();
+    intHashSet = new HashSet<>();
+    sparseIntHashSet = new HashSet<>();
+
+    for (int i = 0; i < size; i++) {
+
+      strings[i] = "value-" + random.nextInt();
+      dense[i] = i * 2;
+      sparse[i] = random.nextInt();
+
+      stringHashSet.add(strings[i]);
+      intHashSet.add(dense[i]);
+      sparseIntHashSet.add(sparse[i]);
+    }
+
+    stringSet = ValueSet.of(strings);
+    denseIntSet = IntValueSet.of(dense);
+    sparseIntSet = IntValueSet.of(sparse);
+
+    stringProbes = new String[PROBES];
+    denseProbes = new int[PROBES];
+    sparseProbes = new int[PROBES];
+
+    for (int i = 0; i < PROBES; i++) {
+
+      final boolean hit = random.nextBoolean();
+      final int index = random.nextInt(size);
+
+      // Copy the String so lookups cannot short-circuit on identity.
+      stringProbes[i] = hit
+          ? new String(strings[index])
+          : "value-" + random.nextInt();
+      denseProbes[i] = hit ? dense[index] : dense[index] + 1;
+      sparseProbes[i] = hit ? sparse[index] : random.nextInt();
+    }
+  }
+
+  @Benchmark
+  public int stringValueSet() {
+
+    int hits = 0;
+
+    for (final String probe : stringProbes) {
+      hits += stringSet.contains(probe) ? 1 : 0;
+    }
+
+    return hits;
+  }
+
+  @Benchmark
+  public int stringHashSet() {
+
+    int hits = 0;
+
+    for (final String probe : stringProbes) {
+      hits += stringHashSet.contains(probe) ? 1 : 0;
+    }
+
+    return hits;
+  }
+
+  @Benchmark
+  public int denseIntValueSet() {
+
+    int hits = 0;
+
+    for (final int probe : denseProbes) {
+      hits += denseIntSet.contains(probe) ? 1 : 0;
+    }
+
+    return hits;
+  }
+
+  @Benchmark
+  public int denseIntHashSet() {
+
+    int hits = 0;
+
+    for (final int probe : denseProbes) {
+      hits += intHashSet.contains(probe) ? 1 : 0;
+    }
+
+    return hits;
+  }
+
+  @Benchmark
+  public int sparseIntValueSet() {
+
+    int hits = 0;
+
+    for (final int probe : sparseProbes) {
+      hits += sparseIntSet.contains(probe) ? 1 : 0;
+    }
+
+    return hits;
+  }
+
+  @Benchmark
+  public int sparseIntHashSet() {
+
+    int hits = 0;
+
+    for (final int probe : sparseProbes) {
+      hits += sparseIntHashSet.contains(probe) ? 1 : 0;
+    }
+
+    return hits;
+  }
+
+}
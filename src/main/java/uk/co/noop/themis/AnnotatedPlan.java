@@ -0,0 +1,898 @@
+package uk.co.noop.themis;
+
+import uk.co.noop.themis.annotation.NotBlank;
+import uk.co.noop.themis.annotation.NotEmpty;
+import uk.co.noop.themis.annotation.NotNull;
+import uk.co.noop.themis.annotation.ValidWith;
+import uk.co.noop.themis.eunomia.AbstractEunomia;
+import uk.co.noop.themis.eunomia.ThemisViolations;
+import uk.co.noop.themis.exception.ThemisEunomiaException;
+import uk.co.noop.themis.exception.ThemisTargetException;
+import uk.co.noop.themis.metrics.ThemisMetrics;
+import uk.co.noop.themis.rule.CharSequenceRules;
+import uk.co.noop.themis.rule.CollectionRules;
+import uk.co.noop.themis.rule.ObjectRules;
+import uk.co.noop.themis.rule.StringRules;
+import uk.co.noop.themis.rule.ThemisRule;
+import uk.co.noop.themis.violation.ThemisResult;
+import uk.co.noop.themis.violation.ThemisViolationHandler;
+import uk.co.noop.themis.violation.ThemisViolationType;
+
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandleInfo;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.AnnotatedElement;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.RecordComponent;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * <p>The compiled plan for validating the annotated fields or record
+ * components of one class, for {@link Themis#validateAnnotated(Object)}.</p>
+ *
+ * <p>Each class is inspected once, when it is first validated, and its plan
+ * is cached in a {@link ClassValue}. A plan is an array of properties, each
+ * holding an accessor, bound from a {@link MethodHandle} for the field or
+ * record accessor, and the checks for its annotations. The built-in checks
+ * are static calls to the same rules as the Eunomia, so validating an
+ * object involves no reflection and allocates nothing unless it is invalid
+ * or has a {@link ValidWith} property.</p>
+ *
+ * <p>For {@link #validate(Object)} and {@link #check(Object)} the accessors
+ * and checks of every property are also composed into one
+ * <code>MethodHandle</code> for the class, which the JIT compiles as a whole
+ * once it is hot, inlining every accessor and check into a single
+ * straight-line test. A native image, which would interpret such a chain,
+ * walks the properties instead, as does every plan while
+ * {@link ThemisMetrics} are enabled, recording each built-in check under the
+ * name of its annotation, e.g. <code>@NotBlank</code>.</p>
+ *
+ * <p>A {@link ValidWith} Eunomia is created with the same
+ * {@link ThemisViolationHandler} as the plan is run with, so its violations
+ * are reported with its own exceptions.</p>
+ */
+final class AnnotatedPlan {
+
+  private static final ClassValue<AnnotatedPlan> PLANS =
+      new ClassValue<>() {
+
+        @Override
+        protected AnnotatedPlan computeValue(final Class<?> type) {
+          return new AnnotatedPlan(type);
+        }
+      };
+
+  private static final MethodType GETTER_TYPE =
+      MethodType.methodType(Object.class, Object.class);
+
+  private static final MethodType FUNCTION_TYPE =
+      MethodType.methodType(Function.class);
+
+  private static final MethodType CONSTRUCTOR_TYPE = MethodType.methodType(
+      Object.class,
+      String.class,
+      Object.class,
+      ThemisViolationHandler.class);
+
+  private static final MethodType RULE_TYPE =
+      MethodType.methodType(void.class, Object.class);
+
+  private static final MethodType CHECK_TYPE =
+      MethodType.methodType(ThemisViolationType.class, Object.class);
+
+  private static final MethodType PROPERTY_TYPE = MethodType.methodType(
+      ThemisViolationType.class,
+      Object.class,
+      ThemisViolationHandler.class);
+
+  private static final ThemisViolationType[] VIOLATION_TYPES =
+      ThemisViolationType.values();
+
+  private final Property[] properties;
+  private final MethodHandle plan;
+
+  /**
+   * <p>Returns the cached plan for the specified <b>type</b>, compiling it on
+   * first use.</p>
+   *
+   * @param type The type of the annotated <b>targets</b>.
+   *
+   * @return The cached plan. This will never be <code>null</code>.
+   *
+   * @throws ThemisEunomiaException If an annotation is not supported on the
+   * type of its field or record component, or a {@link ValidWith} Eunomia
+   * has no matching constructor or rule.
+   */
+  static AnnotatedPlan of(final Class<?> type) {
+    return PLANS.get(type);
+  }
+
+  private AnnotatedPlan(final Class<?> type) {
+
+    super();
+
+    final List<Property> compiled = new ArrayList<>();
+
+    try {
+
+      if (type.isRecord()) {
+
+        final MethodHandles.Lookup lookup = lookup(type);
+
+        for (final RecordComponent component : type.getRecordComponents()) {
+          addProperty(
+              compiled,
+              component.getName(),
+              component.getType(),
+              component,
+              lookup,
+              lookup.unreflect(component.getAccessor()));
+        }
+
+      } else {
+
+        for (final Class<?> owner : hierarchy(type)) {
+
+          final MethodHandles.Lookup lookup = lookup(owner);
+
+          for (final Field field : owner.getDeclaredFields()) {
+            if (!Modifier.isStatic(field.getModifiers())
+                && !field.isSynthetic()) {
+
+              addProperty(
+                  compiled,
+                  field.getName(),
+                  field.getType(),
+                  field,
+                  lookup,
+                  lookup.unreflectGetter(field));
+            }
+          }
+        }
+      }
+
+    } catch (final IllegalAccessException e) {
+      throw new ThemisEunomiaException(e);
+    }
+
+    this.properties = compiled.toArray(new Property[0]);
+    this.plan = NativeImage.isRuntime() ? null : compose(properties);
+  }
+
+  /**
+   * <p>Validates each property of the specified <b>target</b>, throwing for
+   * the first violation.</p>
+   *
+   * @param target The <b>target</b>, an instance of the planned type.
+   *
+   * @throws uk.co.noop.themis.exception.ThemisTargetException For the first
+   * violation, named after the property.
+   */
+  void validate(final Object target) {
+
+    if (plan != null && !ThemisMetrics.isEnabled()) {
+
+      final int violation = run(target, ThemisViolationHandler.THROWING);
+
+      if (violation >= 0) {
+
+        final Property property = propertyOf(violation);
+
+        property.raise(
+            property.get(target),
+            violationTypeOf(violation),
+            ThemisViolationHandler.THROWING);
+      }
+
+      return;
+    }
+
+    validate(target, ThemisViolationHandler.THROWING);
+  }
+
+  /**
+   * <p>Checks each property of the specified <b>target</b>, stopping at the
+   * first violation.</p>
+   *
+   * @param target The <b>target</b>, an instance of the planned type.
+   *
+   * @return A {@link ThemisResult} describing the first violation, or the
+   * shared valid <code>ThemisResult</code>.
+   */
+  ThemisResult check(final Object target) {
+
+    if (plan != null && !ThemisMetrics.isEnabled()) {
+
+      final int violation = run(target, ThemisViolationHandler.RECORDING);
+
+      return violation < 0
+          ? ThemisResult.valid()
+          : ThemisResult.invalid(
+              propertyOf(violation).name,
+              violationTypeOf(violation));
+    }
+
+    for (final Property property : properties) {
+
+      final Object value = property.get(target);
+
+      ThemisViolationType violationType = property.test(value);
+
+      if (violationType == null) {
+        violationType =
+            property.validateWith(value, ThemisViolationHandler.RECORDING);
+      }
+
+      if (violationType != null) {
+        return ThemisResult.invalid(property.name, violationType);
+      }
+    }
+
+    return ThemisResult.valid();
+  }
+
+  /**
+   * <p>Validates every property of the specified <b>target</b>, passing the
+   * first violation of each to the specified <b>violationHandler</b>.</p>
+   *
+   * @param target The <b>target</b>, an instance of the planned type.
+   * @param violationHandler Handles the violations.
+   */
+  void validate(
+      final Object target,
+      final ThemisViolationHandler violationHandler) {
+
+    for (final Property property : properties) {
+
+      final Object value = property.get(target);
+      final ThemisViolationType violationType = property.test(value);
+
+      if (violationType != null) {
+        property.raise(value, violationType, violationHandler);
+      } else {
+        property.validateWith(value, violationHandler);
+      }
+    }
+  }
+
+  /**
+   * <p>Runs the composed plan, returning the encoded first violation or
+   * <code>-1</code>.</p>
+   */
+  private int run(
+      final Object target,
+      final ThemisViolationHandler violationHandler) {
+
+    try {
+      return (int) plan.invokeExact(target, violationHandler);
+    } catch (final RuntimeException | Error e) {
+      throw e;
+    } catch (final Throwable e) {
+      throw new ThemisEunomiaException(e);
+    }
+  }
+
+  private Property propertyOf(final int violation) {
+    return properties[violation / VIOLATION_TYPES.length];
+  }
+
+  private static ThemisViolationType violationTypeOf(final int violation) {
+    return VIOLATION_TYPES[violation % VIOLATION_TYPES.length];
+  }
+
+  private static int encode(
+      final int index,
+      final ThemisViolationType violationType) {
+
+    return index * VIOLATION_TYPES.length + violationType.ordinal();
+  }
+
+  /**
+   * <p>Composes the <b>properties</b> into one
+   * <code>(Object, ThemisViolationHandler)int</code> handle that reads and
+   * tests each in turn, returning the encoded first violation or
+   * <code>-1</code>.</p>
+   */
+  private static MethodHandle compose(final Property[] properties) {
+
+    MethodHandle rest = MethodHandles.dropArguments(
+        MethodHandles.constant(int.class, -1),
+        0,
+        Object.class,
+        ThemisViolationHandler.class);
+
+    for (int i = properties.length - 1; i >= 0; i--) {
+
+      final MethodHandle test = MethodHandles.filterArguments(
+          properties[i].handle(),
+          0,
+          properties[i].getter);
+
+      final MethodHandle select = MethodHandles.guardWithTest(
+          Handles.IS_NULL,
+          MethodHandles.dropArguments(rest, 0, ThemisViolationType.class),
+          MethodHandles.dropArguments(
+              MethodHandles.insertArguments(Handles.ENCODE, 0, i),
+              1,
+              Object.class,
+              ThemisViolationHandler.class));
+
+      rest = MethodHandles.foldArguments(select, test);
+    }
+
+    return rest;
+  }
+
+  /**
+   * <p>Returns a handle that calls <b>first</b> and, only if it finds no
+   * violation, <b>second</b>, with the same arguments.</p>
+   */
+  private static MethodHandle orElse(
+      final MethodHandle first,
+      final MethodHandle second) {
+
+    return MethodHandles.foldArguments(
+        MethodHandles.guardWithTest(
+            Handles.IS_NOT_NULL,
+            MethodHandles.dropArguments(
+                MethodHandles.identity(ThemisViolationType.class),
+                1,
+                Object.class,
+                ThemisViolationHandler.class),
+            MethodHandles.dropArguments(
+                second,
+                0,
+                ThemisViolationType.class)),
+        first);
+  }
+
+  private static MethodHandles.Lookup lookup(final Class<?> type) {
+
+    try {
+      return MethodHandles.privateLookupIn(type, MethodHandles.lookup());
+    } catch (final IllegalAccessException e) {
+      throw new ThemisEunomiaException(e);
+    }
+  }
+
+  private static List<Class<?>> hierarchy(final Class<?> type) {
+
+    final List<Class<?>> hierarchy = new ArrayList<>();
+
+    for (Class<?> owner = type; owner != Object.class && owner != null;
+        owner = owner.getSuperclass()) {
+
+      hierarchy.add(0, owner);
+    }
+
+    return hierarchy;
+  }
+
+  private static void addProperty(
+      final List<Property> properties,
+      final String name,
+      final Class<?> type,
+      final AnnotatedElement element,
+      final MethodHandles.Lookup lookup,
+      final MethodHandle getter) throws IllegalAccessException {
+
+    final List<Check> checks = new ArrayList<>();
+
+    if (element.isAnnotationPresent(NotNull.class)) {
+      checks.add(Check.NOT_NULL);
+    }
+
+    if (element.isAnnotationPresent(NotEmpty.class)) {
+      checks.add(notEmptyCheck(name, type));
+    }
+
+    if (element.isAnnotationPresent(NotBlank.class)) {
+      checks.add(notBlankCheck(name, type));
+    }
+
+    final ValidWith validWith = element.getAnnotation(ValidWith.class);
+
+    if (checks.isEmpty() && validWith == null) {
+      return;
+    }
+
+    properties.add(new Property(
+        name,
+        getter.asType(GETTER_TYPE),
+        accessor(lookup, getter),
+        checks.toArray(new Check[0]),
+        validWith == null ? null : validWithRule(name, type, validWith)));
+  }
+
+  private static Check notEmptyCheck(final String name, final Class<?> type) {
+
+    if (type == String.class) {
+      return Check.NOT_EMPTY_STRING;
+    }
+
+    if (CharSequence.class.isAssignableFrom(type)) {
+      return Check.NOT_EMPTY_CHAR_SEQUENCE;
+    }
+
+    if (Collection.class.isAssignableFrom(type)) {
+      return Check.NOT_EMPTY_COLLECTION;
+    }
+
+    if (Object[].class.isAssignableFrom(type)) {
+      return Check.NOT_EMPTY_ARRAY;
+    }
+
+    throw unsupported(NotEmpty.class, name, type);
+  }
+
+  private static Check notBlankCheck(final String name, final Class<?> type) {
+
+    if (type == String.class) {
+      return Check.NOT_BLANK_STRING;
+    }
+
+    if (CharSequence.class.isAssignableFrom(type)) {
+      return Check.NOT_BLANK_CHAR_SEQUENCE;
+    }
+
+    throw unsupported(NotBlank.class, name, type);
+  }
+
+  /**
+   * <p>Returns a <code>Function</code> for the specified <b>getter</b>,
+   * spun by the {@link LambdaMetafactory} for a record accessor, or
+   * otherwise one that invokes the <code>MethodHandle</code>. The generated
+   * <code>Function</code> calls the accessor directly, avoiding the generic
+   * invocation of a <code>MethodHandle</code> that is not a constant; the
+   * <code>LambdaMetafactory</code> cannot link field getters, nor spin
+   * classes in a native image.</p>
+   */
+  @SuppressWarnings("unchecked")
+  private static Function<Object, Object> accessor(
+      final MethodHandles.Lookup lookup,
+      final MethodHandle getter) {
+
+    final MethodHandleInfo info = lookup.revealDirect(getter);
+
+    if (info.getReferenceKind() == MethodHandleInfo.REF_invokeVirtual
+        && lookup.hasFullPrivilegeAccess()
+        && !NativeImage.isRuntime()) {
+
+      try {
+        return (Function<Object, Object>) LambdaMetafactory.metafactory(
+            lookup,
+            "apply",
+            FUNCTION_TYPE,
+            GETTER_TYPE.erase(),
+            getter,
+            getter.type().wrap())
+            .getTarget()
+            .invokeExact();
+      } catch (final Throwable e) {
+        // Fall back to invoking the MethodHandle.
+      }
+    }
+
+    final MethodHandle generic = getter.asType(GETTER_TYPE);
+
+    return target -> {
+      try {
+        return generic.invokeExact(target);
+      } catch (final RuntimeException | Error e) {
+        throw e;
+      } catch (final Throwable e) {
+        throw new ThemisEunomiaException(e);
+      }
+    };
+  }
+
+  /**
+   * <p>Binds the custom Eunomia constructor and rules named by the specified
+   * {@link ValidWith} into a rule that creates the Eunomia with the given
+   * <code>ThemisViolationHandler</code>, calls each rule and returns the
+   * violation from its <code>ThemisResult</code>. A
+   * {@link ThemisTargetException} thrown by the handler is passed on as it
+   * is.</p>
+   */
+  private static ValidWithRule validWithRule(
+      final String name,
+      final Class<?> type,
+      final ValidWith validWith) throws IllegalAccessException {
+
+    final Class<?> eunomiaClass = validWith.value();
+    final MethodHandle constructor = MethodHandles.publicLookup()
+        .unreflectConstructor(constructor(eunomiaClass, name, type))
+        .asType(CONSTRUCTOR_TYPE);
+
+    final MethodHandle[] rules = new MethodHandle[validWith.rules().length];
+
+    for (int i = 0; i < rules.length; i++) {
+      try {
+        rules[i] = MethodHandles.publicLookup()
+            .unreflect(eunomiaClass.getMethod(validWith.rules()[i]))
+            .asType(RULE_TYPE);
+      } catch (final NoSuchMethodException e) {
+        throw new ThemisEunomiaException(e);
+      }
+    }
+
+    return (target, violationHandler) -> {
+
+      final AbstractEunomia<?, ?> eunomia;
+
+      try {
+
+        final Object created = constructor.invokeExact(
+            name,
+            target,
+            violationHandler);
+
+        for (final MethodHandle rule : rules) {
+          rule.invokeExact(created);
+        }
+
+        eunomia = (AbstractEunomia<?, ?>) created;
+
+      } catch (final ThemisTargetException | ThemisEunomiaException e) {
+        throw e;
+      } catch (final Throwable e) {
+        throw new ThemisEunomiaException(e);
+      }
+
+      return eunomia.getResult().getViolationType();
+    };
+  }
+
+  /**
+   * <p>Finds the public <code>(String, X, ThemisViolationHandler)</code>
+   * constructor of the specified <b>eunomiaClass</b> whose <code>X</code> is
+   * the most specific supertype of the specified <b>type</b>.</p>
+   */
+  private static Constructor<?> constructor(
+      final Class<?> eunomiaClass,
+      final String name,
+      final Class<?> type) {
+
+    final Class<?> targetType = MethodType.methodType(type).wrap()
+        .returnType();
+    final List<Constructor<?>> matches = new ArrayList<>();
+
+    for (final Constructor<?> constructor : eunomiaClass.getConstructors()) {
+
+      final Class<?>[] parameterTypes = constructor.getParameterTypes();
+
+      if (parameterTypes.length == 3
+          && parameterTypes[0] == String.class
+          && parameterTypes[1].isAssignableFrom(targetType)
+          && parameterTypes[2] == ThemisViolationHandler.class) {
+
+        matches.add(constructor);
+      }
+    }
+
+    for (final Constructor<?> candidate : matches) {
+
+      boolean mostSpecific = true;
+
+      for (final Constructor<?> match : matches) {
+        mostSpecific &= match.getParameterTypes()[1]
+            .isAssignableFrom(candidate.getParameterTypes()[1]);
+      }
+
+      if (mostSpecific) {
+        return candidate;
+      }
+    }
+
+    throw new ThemisEunomiaException(new NoSuchMethodException(
+        String.format(
+            "%s has %s public (String, %s, ThemisViolationHandler) "
+                + "constructor for `%s`.",
+            eunomiaClass.getName(),
+            matches.isEmpty() ? "no" : "more than one matching",
+            targetType.getName(),
+            name)));
+  }
+
+  private static ThemisEunomiaException unsupported(
+      final Class<?> annotationType,
+      final String name,
+      final Class<?> type) {
+
+    return new ThemisEunomiaException(new IllegalArgumentException(
+        String.format(
+            "@%s is not supported on `%s` of type %s.",
+            annotationType.getSimpleName(),
+            name,
+            type.getName())));
+  }
+
+  /**
+   * <p>The built-in checks. These are dispatched by a <code>switch</code>
+   * rather than through {@link ThemisRule} instances, so that each is a
+   * static call that can be inlined.</p>
+   */
+  private interface ValidWithRule {
+
+    ThemisViolationType test(
+        Object target,
+        ThemisViolationHandler violationHandler);
+
+  }
+
+  private enum Check {
+    NOT_NULL(
+        NotNull.class,
+        ObjectRules.class,
+        "nullObjectViolation",
+        Object.class),
+    NOT_EMPTY_STRING(
+        NotEmpty.class,
+        StringRules.class,
+        "emptyStringViolation",
+        String.class),
+    NOT_EMPTY_CHAR_SEQUENCE(
+        NotEmpty.class,
+        CharSequenceRules.class,
+        "emptyViolation",
+        CharSequence.class),
+    NOT_EMPTY_COLLECTION(
+        NotEmpty.class,
+        CollectionRules.class,
+        "emptyViolation",
+        Collection.class),
+    NOT_EMPTY_ARRAY(
+        NotEmpty.class,
+        CollectionRules.class,
+        "emptyViolation",
+        Object[].class),
+    NOT_BLANK_STRING(
+        NotBlank.class,
+        StringRules.class,
+        "blankStringViolation",
+        String.class),
+    NOT_BLANK_CHAR_SEQUENCE(
+        NotBlank.class,
+        CharSequenceRules.class,
+        "blankViolation",
+        CharSequence.class);
+
+    private final String rule;
+    private final Class<?> rules;
+    private final String name;
+    private final Class<?> type;
+
+    Check(
+        final Class<?> annotationType,
+        final Class<?> rules,
+        final String name,
+        final Class<?> type) {
+
+      this.rule = "@" + annotationType.getSimpleName();
+      this.rules = rules;
+      this.name = name;
+      this.type = type;
+    }
+
+    /**
+     * <p>Returns <code>true</code> if this check can find the specified
+     * <b>violationType</b>. Every check finds a <code>null</code> value.</p>
+     */
+    private boolean canFind(final ThemisViolationType violationType) {
+
+      return switch (violationType) {
+        case NULL_TARGET -> true;
+        case EMPTY_TARGET -> this != NOT_NULL;
+        case BLANK_TARGET_STRING ->
+            this == NOT_BLANK_STRING || this == NOT_BLANK_CHAR_SEQUENCE;
+        case INVALID_TARGET -> false;
+      };
+    }
+
+    /**
+     * <p>Returns an <code>(Object)ThemisViolationType</code> handle for the
+     * rule behind this check.</p>
+     */
+    private MethodHandle handle() {
+
+      try {
+        return MethodHandles.publicLookup()
+            .findStatic(
+                rules,
+                name,
+                MethodType.methodType(ThemisViolationType.class, type))
+            .asType(CHECK_TYPE);
+      } catch (final ReflectiveOperationException e) {
+        throw new ThemisEunomiaException(e);
+      }
+    }
+  }
+
+  /**
+   * <p>The handles the composed plans are built from, held apart so that a
+   * native image, which never composes a plan, never looks them up.</p>
+   */
+  private static final class Handles {
+
+    private static final MethodHandle IS_NULL;
+    private static final MethodHandle IS_NOT_NULL;
+    private static final MethodHandle VALID_WITH;
+    private static final MethodHandle ENCODE;
+
+    static {
+
+      final MethodHandles.Lookup lookup = MethodHandles.lookup();
+
+      try {
+
+        IS_NULL = lookup.findStatic(
+            Objects.class,
+            "isNull",
+            MethodType.methodType(boolean.class, Object.class))
+            .asType(MethodType.methodType(
+                boolean.class,
+                ThemisViolationType.class));
+        IS_NOT_NULL = lookup.findStatic(
+            Objects.class,
+            "nonNull",
+            MethodType.methodType(boolean.class, Object.class))
+            .asType(IS_NULL.type());
+        VALID_WITH = lookup.findVirtual(
+            ValidWithRule.class,
+            "test",
+            PROPERTY_TYPE);
+        ENCODE = lookup.findStatic(
+            AnnotatedPlan.class,
+            "encode",
+            MethodType.methodType(
+                int.class,
+                int.class,
+                ThemisViolationType.class));
+
+      } catch (final ReflectiveOperationException e) {
+        throw new ExceptionInInitializerError(e);
+      }
+    }
+
+    private Handles() {
+    }
+
+  }
+
+  private static final class Property {
+
+    private final String name;
+    private final MethodHandle getter;
+    private final Function<Object, Object> accessor;
+    private final Check[] checks;
+    private final ValidWithRule rule;
+
+    private Property(
+        final String name,
+        final MethodHandle getter,
+        final Function<Object, Object> accessor,
+        final Check[] checks,
+        final ValidWithRule rule) {
+
+      this.name = name;
+      this.getter = getter;
+      this.accessor = accessor;
+      this.checks = checks;
+      this.rule = rule;
+    }
+
+    private Object get(final Object target) {
+      return accessor.apply(target);
+    }
+
+    private ThemisViolationType test(final Object value) {
+
+      for (final Check check : checks) {
+
+        final ThemisViolationType violationType = switch (check) {
+          case NOT_NULL -> ObjectRules.nullObjectViolation(value);
+          case NOT_EMPTY_STRING ->
+              StringRules.emptyStringViolation((String) value);
+          case NOT_EMPTY_CHAR_SEQUENCE ->
+              CharSequenceRules.emptyViolation((CharSequence) value);
+          case NOT_EMPTY_COLLECTION ->
+              CollectionRules.emptyViolation((Collection<?>) value);
+          case NOT_EMPTY_ARRAY ->
+              CollectionRules.emptyViolation((Object[]) value);
+          case NOT_BLANK_STRING ->
+              StringRules.blankStringViolation((String) value);
+          case NOT_BLANK_CHAR_SEQUENCE ->
+              CharSequenceRules.blankViolation((CharSequence) value);
+        };
+
+        if (ThemisMetrics.isEnabled()) {
+          ThemisMetrics.record(
+              name,
+              check.rule,
+              violationType != null,
+              ThemisMetrics.NOT_SAMPLED);
+        }
+
+        if (violationType != null) {
+          return violationType;
+        }
+      }
+
+      return null;
+    }
+
+    /**
+     * <p>Returns an <code>(Object, ThemisViolationHandler)
+     * ThemisViolationType</code> handle that tests a value as
+     * {@link #test(Object)} and then {@link #validateWith} do.</p>
+     */
+    private MethodHandle handle() {
+
+      MethodHandle handle = rule == null
+          ? null
+          : Handles.VALID_WITH.bindTo(rule);
+
+      for (int i = checks.length - 1; i >= 0; i--) {
+
+        final MethodHandle check = MethodHandles.dropArguments(
+            checks[i].handle(),
+            1,
+            ThemisViolationHandler.class);
+
+        handle = handle == null ? check : orElse(check, handle);
+      }
+
+      return handle;
+    }
+
+    private ThemisViolationType validateWith(
+        final Object value,
+        final ThemisViolationHandler violationHandler) {
+
+      return rule == null ? null : rule.test(value, violationHandler);
+    }
+
+    /**
+     * <p>Raises a violation found by {@link #test(Object)}. A violation of a
+     * {@link ValidWith} rule is raised by its own Eunomia.</p>
+     */
+    private void raise(
+        final Object value,
+        final ThemisViolationType violationType,
+        final ThemisViolationHandler violationHandler) {
+
+      ThemisViolations.raise(
+          name,
+          ruleOf(violationType),
+          violationType,
+          () -> violationType.toException(name, value),
+          violationHandler);
+    }
+
+    /**
+     * <p>Returns the name of the check that found the specified
+     * <b>violationType</b>: the first that can find it, as the checks run in
+     * order and stop at the first violation.</p>
+     */
+    private String ruleOf(final ThemisViolationType violationType) {
+
+      for (final Check check : checks) {
+        if (check.canFind(violationType)) {
+          return check.rule;
+        }
+      }
+
+      return ThemisMetrics.UNNAMED_RULE;
+    }
+
+  }
+
+}
@@ -0,0 +1,277 @@
+package uk.co.noop.themis;
+
+import uk.co.noop.themis.eunomia.AbstractEunomia;
+import uk.co.noop.themis.exception.ThemisEunomiaException;
+
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BiFunction;
+
+/**
+ * <p>Creates instances of a custom Eunomia class for {@link
+ * Themis#validate(String, Object, Class)}.</p>
+ *
+ * <p>Each custom Eunomia class is inspected once, when it is first used, and
+ * the result is cached in a {@link ClassValue}. The public
+ * <code>(String, X)</code> constructor that best matches each <b>target</b>
+ * type is then resolved once per <b>target</b> type and bound into a
+ * {@link LambdaMetafactory} generated {@link BiFunction}, so the cached path
+ * costs the same as calling the constructor directly.</p>
+ *
+ * <p>Constructors that generated code cannot link against, and every
+ * constructor in a GraalVM native image, are invoked through their
+ * <code>MethodHandle</code> instead; in a native image the custom Eunomia
+ * class must be registered for reflection (See:
+ * <code>META-INF/native-image</code>).</p>
+ *
+ * @param <E> The Eunomia type.
+ */
+final class CustomEunomiaFactory<E extends AbstractEunomia<?, E>> {
+
+  private static final ClassValue<CustomEunomiaFactory<?>> FACTORIES =
+      new ClassValue<>() {
+
+        @Override
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        protected CustomEunomiaFactory<?> computeValue(final Class<?> type) {
+          return new CustomEunomiaFactory(type);
+        }
+      };
+
+  private static final MethodType FACTORY_TYPE =
+      MethodType.methodType(BiFunction.class);
+
+  private static final MethodType APPLY_TYPE =
+      MethodType.methodType(Object.class, Object.class, Object.class);
+
+  private final Class<E> eunomiaClass;
+  private final List<Constructor<?>> constructors;
+  private final BiFunction<String, Object, E> nullTargetFactory;
+
+  private final ClassValue<BiFunction<String, Object, E>> targetFactories =
+      new ClassValue<>() {
+
+        @Override
+        protected BiFunction<String, Object, E> computeValue(
+            final Class<?> targetClass) {
+
+          return bind(targetClass);
+        }
+      };
+
+  /**
+   * <p>Returns the cached <code>CustomEunomiaFactory</code> for the specified
+   * <b>eunomiaClass</b>.</p>
+   *
+   * @param eunomiaClass The type of the custom Eunomia.
+   * @param <E> The Eunomia type.
+   *
+   * @return The cached <code>CustomEunomiaFactory</code>. This will never be
+   * <code>null</code>.
+   */
+  @SuppressWarnings("unchecked")
+  static <E extends AbstractEunomia<?, E>> CustomEunomiaFactory<E> of(
+      final Class<E> eunomiaClass) {
+
+    return (CustomEunomiaFactory<E>) FACTORIES.get(eunomiaClass);
+  }
+
+  private CustomEunomiaFactory(final Class<E> eunomiaClass) {
+
+    super();
+
+    this.eunomiaClass = eunomiaClass;
+    this.constructors = new ArrayList<>();
+
+    for (final Constructor<?> constructor : eunomiaClass.getConstructors()) {
+
+      final Class<?>[] parameterTypes = constructor.getParameterTypes();
+
+      if (parameterTypes.length == 2
+          && parameterTypes[0] == String.class
+          && !parameterTypes[1].isPrimitive()) {
+
+        constructors.add(constructor);
+      }
+    }
+
+    this.nullTargetFactory = bind(null);
+  }
+
+  /**
+   * <p>Creates a new custom Eunomia for the specified <b>targetName</b> and
+   * <b>target</b>.</p>
+   *
+   * @param targetName The name of the <b>target</b>.
+   * @param target The <b>target</b>; this may be <code>null</code>.
+   *
+   * @return A new custom Eunomia. This will never be <code>null</code>.
+   *
+   * @throws ThemisEunomiaException If there is no unambiguous public
+   * constructor for the <b>target</b> type or the constructor fails.
+   */
+  E create(final String targetName, final Object target) {
+
+    final BiFunction<String, Object, E> factory =
+        target == null
+            ? nullTargetFactory
+            : targetFactories.get(target.getClass());
+
+    try {
+      return factory.apply(targetName, target);
+    } catch (final ThemisEunomiaException e) {
+      throw e;
+    } catch (final RuntimeException e) {
+      throw new ThemisEunomiaException(e);
+    }
+  }
+
+  /**
+   * <p>Binds the constructor that best matches the specified
+   * <b>targetClass</b>, or a factory that always fails if there is none.</p>
+   *
+   * <p>The best match is the constructor whose <b>target</b> parameter type is
+   * the most specific supertype of <b>targetClass</b>, in the same way that
+   * the compiler chooses between overloads. A <code>null</code>
+   * <b>targetClass</b> (for <code>null</code> targets) matches every
+   * constructor.</p>
+   */
+  private BiFunction<String, Object, E> bind(final Class<?> targetClass) {
+
+    final List<Constructor<?>> matches = new ArrayList<>();
+
+    for (final Constructor<?> candidate : constructors) {
+      if (targetClass == null
+          || targetType(candidate).isAssignableFrom(targetClass)) {
+
+        matches.add(candidate);
+      }
+    }
+
+    for (final Constructor<?> candidate : matches) {
+      if (isMostSpecific(candidate, matches)) {
+        try {
+          return metafactory(candidate);
+        } catch (final Throwable e) {
+          return failing(e);
+        }
+      }
+    }
+
+    return failing(targetClass, !matches.isEmpty());
+  }
+
+  private static boolean isMostSpecific(
+      final Constructor<?> candidate,
+      final List<Constructor<?>> matches) {
+
+    for (final Constructor<?> match : matches) {
+      if (!targetType(match).isAssignableFrom(targetType(candidate))) {
+        return false;
+      }
+    }
+
+    return true;
+  }
+
+  private static Class<?> targetType(final Constructor<?> constructor) {
+    return constructor.getParameterTypes()[1];
+  }
+
+  @SuppressWarnings("unchecked")
+  private BiFunction<String, Object, E> metafactory(
+      final Constructor<?> constructor) throws Throwable {
+
+    final MethodHandle handle =
+        MethodHandles.lookup().unreflectConstructor(constructor);
+
+    if (isVisible(constructor) && !NativeImage.isRuntime()) {
+      try {
+        return (BiFunction<String, Object, E>) LambdaMetafactory.metafactory(
+            MethodHandles.lookup(),
+            "apply",
+            FACTORY_TYPE,
+            APPLY_TYPE,
+            handle,
+            handle.type())
+            .getTarget()
+            .invokeExact();
+      } catch (final Throwable e) {
+        // Fall back to invoking the MethodHandle.
+      }
+    }
+
+    final MethodHandle generic = handle.asType(APPLY_TYPE);
+
+    return (targetName, target) -> {
+      try {
+        return (E) generic.invokeExact((Object) targetName, target);
+      } catch (final RuntimeException | Error e) {
+        throw e;
+      } catch (final Throwable e) {
+        throw new ThemisEunomiaException(e);
+      }
+    };
+  }
+
+  /**
+   * <p>Tests whether generated code in this package can link against the
+   * specified <b>constructor</b>, i.e. its types are public and can be
+   * resolved from the Themis class loader.</p>
+   */
+  private static boolean isVisible(final Constructor<?> constructor) {
+
+    for (final Class<?> type : List.of(
+        constructor.getDeclaringClass(),
+        targetType(constructor))) {
+
+      if (!Modifier.isPublic(type.getModifiers())) {
+        return false;
+      }
+
+      try {
+
+        final Class<?> resolved = Class.forName(
+            type.getName(),
+            false,
+            CustomEunomiaFactory.class.getClassLoader());
+
+        if (resolved != type) {
+          return false;
+        }
+
+      } catch (final ClassNotFoundException | LinkageError e) {
+        return false;
+      }
+    }
+
+    return true;
+  }
+
+  private BiFunction<String, Object, E> failing(
+      final Class<?> targetClass,
+      final boolean ambiguous) {
+
+    final String message = String.format(
+        "%s has %s public (String, %s) constructor.",
+        eunomiaClass.getName(),
+        ambiguous ? "more than one matching" : "no",
+        targetClass == null ? "Object" : targetClass.getName());
+
+    return failing(new NoSuchMethodException(message));
+  }
+
+  private BiFunction<String, Object, E> failing(final Throwable cause) {
+
+    return (targetName, target) -> {
+      throw new ThemisEunomiaException(cause);
+    };
+  }
+
+}
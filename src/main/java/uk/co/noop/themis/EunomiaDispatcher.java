@@ -0,0 +1,275 @@
+package uk.co.noop.themis;
+
+import uk.co.noop.themis.eunomia.AbstractEunomia;
+import uk.co.noop.themis.eunomia.ArrayEunomia;
+import uk.co.noop.themis.eunomia.CharSequenceEunomia;
+import uk.co.noop.themis.eunomia.CollectionEunomia;
+import uk.co.noop.themis.eunomia.DoubleEunomia;
+import uk.co.noop.themis.eunomia.IntEunomia;
+import uk.co.noop.themis.eunomia.LongEunomia;
+import uk.co.noop.themis.eunomia.ObjectEunomia;
+import uk.co.noop.themis.eunomia.StringEunomia;
+import uk.co.noop.themis.eunomia.Utf8Eunomia;
+import uk.co.noop.themis.exception.ThemisEunomiaException;
+import uk.co.noop.themis.spi.ThemisEunomiaProvider;
+import uk.co.noop.themis.violation.ThemisViolationHandler;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.ServiceLoader;
+
+/**
+ * <p>Dispatches <b>targets</b> to the {@link ThemisEunomiaProvider} for their
+ * runtime type, for {@link Themis#validateAny(String, Object)} and {@link
+ * Themis#checkAny(String, Object)}.</p>
+ *
+ * <p>The providers are held in an immutable snapshot, which resolves each
+ * runtime type once and caches the result in a {@link ClassValue}, so every
+ * later dispatch of that type is one volatile read and one
+ * <code>ClassValue</code> lookup. Registering a provider replaces the
+ * snapshot, and with it every cached resolution.</p>
+ *
+ * <p>The built-in providers mirror the overloads of {@link Themis}; providers
+ * found by the {@link ServiceLoader} are registered after them, on the first
+ * dispatch.</p>
+ */
+final class EunomiaDispatcher {
+
+  private static final Object LOCK = new Object();
+
+  private static volatile EunomiaDispatcher current;
+
+  private final Map<Class<?>, ThemisEunomiaProvider<?>> providers;
+  private final ThemisEunomiaProvider<?> nullTargetProvider;
+
+  private final ClassValue<ThemisEunomiaProvider<?>> resolved =
+      new ClassValue<>() {
+
+        @Override
+        protected ThemisEunomiaProvider<?> computeValue(
+            final Class<?> targetClass) {
+
+          return resolve(targetClass);
+        }
+      };
+
+  /**
+   * <p>Creates a new Eunomia for the specified <b>target</b> using the
+   * provider for its runtime type.</p>
+   *
+   * @param targetName The name of the <b>target</b>.
+   * @param target The <b>target</b>; this may be <code>null</code>.
+   * @param violationHandler Handles any violations detected.
+   *
+   * @return A new Eunomia. This will never be <code>null</code>.
+   *
+   * @throws ThemisEunomiaException If the provider fails or returns
+   * <code>null</code>.
+   */
+  static AbstractEunomia<?, ?> create(
+      final String targetName,
+      final Object target,
+      final ThemisViolationHandler violationHandler) {
+
+    return get().dispatch(targetName, target, violationHandler);
+  }
+
+  /**
+   * <p>Registers the specified <b>provider</b>, replacing any provider
+   * registered for the same <b>target</b> type.</p>
+   *
+   * @param provider The provider; this should not be <code>null</code> and
+   *                 its <b>target</b> type should not be <code>null</code>
+   *                 or primitive, but this is not validated.
+   */
+  static void register(final ThemisEunomiaProvider<?> provider) {
+
+    synchronized (LOCK) {
+
+      final Map<Class<?>, ThemisEunomiaProvider<?>> providers =
+          new LinkedHashMap<>(get().providers);
+
+      put(providers, provider);
+
+      current = new EunomiaDispatcher(providers);
+    }
+  }
+
+  private static EunomiaDispatcher get() {
+
+    final EunomiaDispatcher dispatcher = current;
+
+    return dispatcher == null ? load() : dispatcher;
+  }
+
+  /**
+   * <p>Loads the built-in providers and then the providers found by the
+   * <code>ServiceLoader</code>. Nothing is published if loading fails, so a
+   * <code>ServiceConfigurationError</code> is thrown again by the next
+   * dispatch rather than leaving Themis half configured.</p>
+   */
+  @SuppressWarnings("rawtypes")
+  private static EunomiaDispatcher load() {
+
+    synchronized (LOCK) {
+
+      if (current == null) {
+
+        final Map<Class<?>, ThemisEunomiaProvider<?>> providers =
+            new LinkedHashMap<>();
+
+        put(providers, builtIn(Object.class, ObjectEunomia::new));
+        put(providers, builtIn(String.class, StringEunomia::new));
+        put(providers, builtIn(CharSequence.class, CharSequenceEunomia::new));
+        put(providers, builtIn(
+            Collection.class,
+            (targetName, target, violationHandler) -> new CollectionEunomia<>(
+                targetName,
+                (Collection<?>) target,
+                violationHandler)));
+        put(providers, builtIn(Object[].class, ArrayEunomia::new));
+        put(providers, builtIn(Integer.class, IntEunomia::new));
+        put(providers, builtIn(Long.class, LongEunomia::new));
+        put(providers, builtIn(Double.class, DoubleEunomia::new));
+        put(providers, builtIn(ByteBuffer.class, Utf8Eunomia::new));
+        put(providers, builtIn(
+            byte[].class,
+            (targetName, target, violationHandler) -> new Utf8Eunomia(
+                targetName,
+                target,
+                0,
+                target.length,
+                violationHandler)));
+
+        for (final ThemisEunomiaProvider provider
+            : ServiceLoader.load(ThemisEunomiaProvider.class)) {
+
+          put(providers, provider);
+        }
+
+        current = new EunomiaDispatcher(providers);
+      }
+
+      return current;
+    }
+  }
+
+  private static void put(
+      final Map<Class<?>, ThemisEunomiaProvider<?>> providers,
+      final ThemisEunomiaProvider<?> provider) {
+
+    // Removing first moves a replaced type to the end, so that the order of
+    // the map is always the order of registration.
+    providers.remove(provider.getTargetType());
+    providers.put(provider.getTargetType(), provider);
+  }
+
+  private EunomiaDispatcher(
+      final Map<Class<?>, ThemisEunomiaProvider<?>> providers) {
+
+    this.providers = providers;
+    this.nullTargetProvider = providers.get(Object.class);
+  }
+
+  @SuppressWarnings("unchecked")
+  private AbstractEunomia<?, ?> dispatch(
+      final String targetName,
+      final Object target,
+      final ThemisViolationHandler violationHandler) {
+
+    final ThemisEunomiaProvider<Object> provider =
+        (ThemisEunomiaProvider<Object>) (target == null
+            ? nullTargetProvider
+            : resolved.get(target.getClass()));
+
+    final AbstractEunomia<?, ?> eunomia;
+
+    try {
+      eunomia = provider.create(targetName, target, violationHandler);
+    } catch (final ThemisEunomiaException e) {
+      throw e;
+    } catch (final RuntimeException e) {
+      throw new ThemisEunomiaException(e);
+    }
+
+    if (eunomia == null) {
+      throw new ThemisEunomiaException(new NullPointerException(
+          provider.getClass().getName() + " returned a null Eunomia."));
+    }
+
+    return eunomia;
+  }
+
+  /**
+   * <p>Resolves the provider for the most specific registered supertype of
+   * the specified <b>targetClass</b>. Between unrelated types that are
+   * equally specific, the provider registered last wins.</p>
+   */
+  private ThemisEunomiaProvider<?> resolve(final Class<?> targetClass) {
+
+    final List<Class<?>> matches = new ArrayList<>();
+
+    for (final Class<?> targetType : providers.keySet()) {
+      if (targetType.isAssignableFrom(targetClass)) {
+        matches.add(targetType);
+      }
+    }
+
+    for (int i = matches.size() - 1; i >= 0; i--) {
+      if (isMostSpecific(matches.get(i), matches)) {
+        return providers.get(matches.get(i));
+      }
+    }
+
+    return nullTargetProvider;
+  }
+
+  private static boolean isMostSpecific(
+      final Class<?> candidate,
+      final List<Class<?>> matches) {
+
+    for (final Class<?> match : matches) {
+      if (match != candidate && candidate.isAssignableFrom(match)) {
+        return false;
+      }
+    }
+
+    return true;
+  }
+
+  private static <T> ThemisEunomiaProvider<T> builtIn(
+      final Class<T> targetType,
+      final Factory<T> factory) {
+
+    return new ThemisEunomiaProvider<>() {
+
+      @Override
+      public Class<T> getTargetType() {
+        return targetType;
+      }
+
+      @Override
+      public AbstractEunomia<?, ?> create(
+          final String targetName,
+          final T target,
+          final ThemisViolationHandler violationHandler) {
+
+        return factory.create(targetName, target, violationHandler);
+      }
+    };
+  }
+
+  @FunctionalInterface
+  private interface Factory<T> {
+
+    AbstractEunomia<?, ?> create(
+        String targetName,
+        T target,
+        ThemisViolationHandler violationHandler);
+  }
+
+}
@@ -0,0 +1,31 @@
+package uk.co.noop.themis;
+
+/**
+ * <p>Detects whether Themis is running in a GraalVM native image.</p>
+ *
+ * <p>A native image cannot spin classes at run time, so the
+ * {@link java.lang.invoke.LambdaMetafactory} cannot bind the constructors of
+ * custom Eunomia classes or the accessors of annotated records there. They
+ * are invoked through their <code>MethodHandle</code> instead, which only
+ * needs them to be registered for reflection (See:
+ * <code>META-INF/native-image</code>).</p>
+ */
+final class NativeImage {
+
+  private static final boolean RUNTIME = "runtime".equals(
+      System.getProperty("org.graalvm.nativeimage.imagecode"));
+
+  /**
+   * <p>Returns whether this is the run time of a native image.</p>
+   *
+   * @return <code>true</code> if classes cannot be defined at run time.
+   */
+  static boolean isRuntime() {
+    return RUNTIME;
+  }
+
+  private NativeImage() {
+    super();
+  }
+
+}
@@ -1,9 +1,23 @@
 package uk.co.noop.themis;
 
 import uk.co.noop.themis.eunomia.AbstractEunomia;
+import uk.co.noop.themis.eunomia.ArrayEunomia;
+import uk.co.noop.themis.eunomia.CharSequenceEunomia;
+import uk.co.noop.themis.eunomia.CollectionEunomia;
+import uk.co.noop.themis.eunomia.DoubleEunomia;
+import uk.co.noop.themis.eunomia.IntEunomia;
+import uk.co.noop.themis.eunomia.LongEunomia;
 import uk.co.noop.themis.eunomia.ObjectEunomia;
 import uk.co.noop.themis.eunomia.StringEunomia;
-import uk.co.noop.themis.exception.ThemisEunomiaException;
+import uk.co.noop.themis.eunomia.Utf8Eunomia;
+import uk.co.noop.themis.rule.StringRules;
+import uk.co.noop.themis.spi.ThemisEunomiaProvider;
+import uk.co.noop.themis.violation.ThemisResult;
+import uk.co.noop.themis.violation.ThemisViolationHandler;
+import uk.co.noop.themis.violation.ThemisViolationType;
+
+import java.nio.ByteBuffer;
+import java.util.Collection;
 
 /**
  * <p>Goddess of divine law and order. A library for validating against various
@@ -11,6 +25,8 @@ import uk.co.noop.themis.exception.ThemisEunomiaException;
  */
 public class Themis {
 
+  private static final String ANNOTATED_TARGET_NAME = "target";
+
   /**
    * <p>Creates a new {@link StringEunomia} to validate the specified
    * <b>target</b> <code>String</code>.</p>
@@ -65,7 +81,7 @@ public class Themis {
       final String targetName,
       final String target) {
 
-    validate(targetName).againstBlankStrings();
+    StringRules.validateTargetName(targetName);
 
     return new StringEunomia(targetName, target);
   }
@@ -145,7 +161,7 @@ public class Themis {
       final String targetName,
       final Object target) {
 
-    validate(targetName).againstBlankStrings();
+    StringRules.validateTargetName(targetName);
 
     return new ObjectEunomia(targetName, target);
   }
@@ -169,6 +185,388 @@ public class Themis {
     return validate(targetName, target);
   }
 
+  /**
+   * <p>Creates a new {@link IntEunomia} to validate the specified
+   * <b>target</b> <code>int</code>, without boxing it.</p>
+   *
+   * <p>For example:</p>
+   *
+   * <p><code>
+   * Themis.validate("quantity", quantity).againstValuesOutside(1, 100);
+   * </code></p>
+   *
+   * <p>Note:</p>
+   *
+   * <p>The <b>targetName</b> parameter is validated against blank values using
+   * {@link StringEunomia#againstBlankStrings()}.</p>
+   *
+   * @param targetName The name of the <b>target</b> <code>int</code>.
+   * @param target The <b>target</b> <code>int</code>.
+   *
+   * @return An <code>IntEunomia</code> to validate the specified
+   * <b>target</b> <code>int</code>. This will never be <code>null</code>.
+   *
+   * @throws uk.co.noop.themis.exception.ThemisTargetException Extensions of
+   * <code>ThemisTargetException</code> will be thrown for any invalid parameter
+   * scenarios.
+   *
+   * @see IntEunomia
+   * @see StringEunomia#againstBlankStrings()
+   * @see uk.co.noop.themis.exception.ThemisTargetException
+   */
+  public static IntEunomia validate(
+      final String targetName,
+      final int target) {
+
+    StringRules.validateTargetName(targetName);
+
+    return new IntEunomia(targetName, target);
+  }
+
+  /**
+   * <p>Overloads {@link Themis#validate(String, int)}.</p>
+   *
+   * @param targetName The name of the <b>target</b> <code>int</code>.
+   * @param target The <b>target</b> <code>int</code>.
+   *
+   * @return An {@link IntEunomia} to validate the specified <b>target</b>
+   * <code>int</code>. This will never be <code>null</code>.
+   *
+   * @see Themis#validate(String, int)
+   * @see IntEunomia
+   */
+  public static IntEunomia themis(
+      final String targetName,
+      final int target) {
+
+    return validate(targetName, target);
+  }
+
+  /**
+   * <p>Creates a new {@link LongEunomia} to validate the specified
+   * <b>target</b> <code>long</code>, without boxing it.</p>
+   *
+   * <p>For example:</p>
+   *
+   * <p><code>
+   * Themis.validate("amountInPence", amountInPence).againstNegativeValues();
+   * </code></p>
+   *
+   * <p>Note:</p>
+   *
+   * <p>The <b>targetName</b> parameter is validated against blank values using
+   * {@link StringEunomia#againstBlankStrings()}.</p>
+   *
+   * @param targetName The name of the <b>target</b> <code>long</code>.
+   * @param target The <b>target</b> <code>long</code>.
+   *
+   * @return A <code>LongEunomia</code> to validate the specified
+   * <b>target</b> <code>long</code>. This will never be <code>null</code>.
+   *
+   * @throws uk.co.noop.themis.exception.ThemisTargetException Extensions of
+   * <code>ThemisTargetException</code> will be thrown for any invalid parameter
+   * scenarios.
+   *
+   * @see LongEunomia
+   * @see StringEunomia#againstBlankStrings()
+   * @see uk.co.noop.themis.exception.ThemisTargetException
+   */
+  public static LongEunomia validate(
+      final String targetName,
+      final long target) {
+
+    StringRules.validateTargetName(targetName);
+
+    return new LongEunomia(targetName, target);
+  }
+
+  /**
+   * <p>Overloads {@link Themis#validate(String, long)}.</p>
+   *
+   * @param targetName The name of the <b>target</b> <code>long</code>.
+   * @param target The <b>target</b> <code>long</code>.
+   *
+   * @return A {@link LongEunomia} to validate the specified <b>target</b>
+   * <code>long</code>. This will never be <code>null</code>.
+   *
+   * @see Themis#validate(String, long)
+   * @see LongEunomia
+   */
+  public static LongEunomia themis(
+      final String targetName,
+      final long target) {
+
+    return validate(targetName, target);
+  }
+
+  /**
+   * <p>Creates a new {@link DoubleEunomia} to validate the specified
+   * <b>target</b> <code>double</code>, without boxing it.</p>
+   *
+   * <p>For example:</p>
+   *
+   * <p><code>
+   * Themis.validate("price", price).againstNonFiniteValues();
+   * </code></p>
+   *
+   * <p>Note:</p>
+   *
+   * <p>The <b>targetName</b> parameter is validated against blank values using
+   * {@link StringEunomia#againstBlankStrings()}.</p>
+   *
+   * @param targetName The name of the <b>target</b> <code>double</code>.
+   * @param target The <b>target</b> <code>double</code>.
+   *
+   * @return A <code>DoubleEunomia</code> to validate the specified
+   * <b>target</b> <code>double</code>. This will never be <code>null</code>.
+   *
+   * @throws uk.co.noop.themis.exception.ThemisTargetException Extensions of
+   * <code>ThemisTargetException</code> will be thrown for any invalid parameter
+   * scenarios.
+   *
+   * @see DoubleEunomia
+   * @see StringEunomia#againstBlankStrings()
+   * @see uk.co.noop.themis.exception.ThemisTargetException
+   */
+  public static DoubleEunomia validate(
+      final String targetName,
+      final double target) {
+
+    StringRules.validateTargetName(targetName);
+
+    return new DoubleEunomia(targetName, target);
+  }
+
+  /**
+   * <p>Overloads {@link Themis#validate(String, double)}.</p>
+   *
+   * @param targetName The name of the <b>target</b> <code>double</code>.
+   * @param target The <b>target</b> <code>double</code>.
+   *
+   * @return A {@link DoubleEunomia} to validate the specified <b>target</b>
+   * <code>double</code>. This will never be <code>null</code>.
+   *
+   * @see Themis#validate(String, double)
+   * @see DoubleEunomia
+   */
+  public static DoubleEunomia themis(
+      final String targetName,
+      final double target) {
+
+    return validate(targetName, target);
+  }
+
+  /**
+   * <p>Creates a new {@link CollectionEunomia} to validate the specified
+   * <b>target</b> <code>Collection</code> and its elements.</p>
+   *
+   * <p>This is not an overload of <code>validate</code>, so that
+   * <code>Themis.validate(targetName, null)</code> remains unambiguous.</p>
+   *
+   * <p>For example:</p>
+   *
+   * <p><code>
+   * Themis.validateCollection("ids", ids).againstNullElements();
+   * </code></p>
+   *
+   * @param targetName The name of the <b>target</b> <code>Collection</code>.
+   * @param target The <b>target</b> <code>Collection</code>.
+   * @param <T> The element type.
+   *
+   * @return A <code>CollectionEunomia</code> to validate the specified
+   * <b>target</b> <code>Collection</code>. This will never be
+   * <code>null</code>.
+   *
+   * @throws uk.co.noop.themis.exception.ThemisTargetException Extensions of
+   * <code>ThemisTargetException</code> will be thrown for any invalid parameter
+   * scenarios.
+   *
+   * @see CollectionEunomia
+   * @see uk.co.noop.themis.rule.CollectionRules
+   */
+  public static <T> CollectionEunomia<T> validateCollection(
+      final String targetName,
+      final Collection<T> target) {
+
+    StringRules.validateTargetName(targetName);
+
+    return new CollectionEunomia<>(targetName, target);
+  }
+
+  /**
+   * <p>Creates a new {@link ArrayEunomia} to validate the specified
+   * <b>target</b> array and its elements.</p>
+   *
+   * <p>This is not an overload of <code>validate</code>, so that
+   * <code>Themis.validate(targetName, null)</code> remains unambiguous.</p>
+   *
+   * <p>For example:</p>
+   *
+   * <p><code>
+   * Themis.validateArray("ids", ids).againstDuplicateElements();
+   * </code></p>
+   *
+   * @param targetName The name of the <b>target</b> array.
+   * @param target The <b>target</b> array.
+   * @param <T> The element type.
+   *
+   * @return An <code>ArrayEunomia</code> to validate the specified
+   * <b>target</b> array. This will never be <code>null</code>.
+   *
+   * @throws uk.co.noop.themis.exception.ThemisTargetException Extensions of
+   * <code>ThemisTargetException</code> will be thrown for any invalid parameter
+   * scenarios.
+   *
+   * @see ArrayEunomia
+   * @see uk.co.noop.themis.rule.CollectionRules
+   */
+  public static <T> ArrayEunomia<T> validateArray(
+      final String targetName,
+      final T[] target) {
+
+    StringRules.validateTargetName(targetName);
+
+    return new ArrayEunomia<>(targetName, target);
+  }
+
+  /**
+   * <p>Creates a new {@link CharSequenceEunomia} to validate the specified
+   * <b>target</b> <code>CharSequence</code> in place, without converting it to
+   * a <code>String</code>.</p>
+   *
+   * <p>For example:</p>
+   *
+   * <p><code>
+   * Themis.validateCharSequence("name", builder).againstBlankCharSequences();
+   * </code></p>
+   *
+   * @param targetName The name of the <b>target</b>
+   *                   <code>CharSequence</code>.
+   * @param target The <b>target</b> <code>CharSequence</code>.
+   *
+   * @return A <code>CharSequenceEunomia</code> to validate the specified
+   * <b>target</b> <code>CharSequence</code>. This will never be
+   * <code>null</code>.
+   *
+   * @throws uk.co.noop.themis.exception.ThemisTargetException Extensions of
+   * <code>ThemisTargetException</code> will be thrown for any invalid parameter
+   * scenarios.
+   *
+   * @see CharSequenceEunomia
+   * @see uk.co.noop.themis.rule.CharSequenceRules
+   */
+  public static CharSequenceEunomia validateCharSequence(
+      final String targetName,
+      final CharSequence target) {
+
+    StringRules.validateTargetName(targetName);
+
+    return new CharSequenceEunomia(targetName, target);
+  }
+
+  /**
+   * <p>Creates a new {@link Utf8Eunomia} to validate the specified UTF-8
+   * encoded <b>target</b> bytes in place, without decoding them.</p>
+   *
+   * <p>For example:</p>
+   *
+   * <p><code>
+   * Themis.validateUtf8("name", bytes).againstMalformedUtf8Bytes();
+   * </code></p>
+   *
+   * @param targetName The name of the <b>target</b>.
+   * @param target The <b>target</b> bytes.
+   *
+   * @return A <code>Utf8Eunomia</code> to validate the specified
+   * <b>target</b>. This will never be <code>null</code>.
+   *
+   * @throws uk.co.noop.themis.exception.ThemisTargetException Extensions of
+   * <code>ThemisTargetException</code> will be thrown for any invalid parameter
+   * scenarios.
+   *
+   * @see Utf8Eunomia
+   * @see uk.co.noop.themis.rule.Utf8Rules
+   */
+  public static Utf8Eunomia validateUtf8(
+      final String targetName,
+      final byte[] target) {
+
+    return validateUtf8(
+        targetName,
+        target,
+        0,
+        target == null ? 0 : target.length);
+  }
+
+  /**
+   * <p>Creates a new {@link Utf8Eunomia} to validate the specified slice of
+   * UTF-8 encoded <b>target</b> bytes in place, without copying or decoding
+   * them.</p>
+   *
+   * @param targetName The name of the <b>target</b>.
+   * @param target The <b>target</b> bytes.
+   * @param offset The index of the first byte of the slice.
+   * @param length The number of bytes in the slice.
+   *
+   * @return A <code>Utf8Eunomia</code> to validate the specified
+   * <b>target</b>. This will never be <code>null</code>.
+   *
+   * @throws uk.co.noop.themis.exception.ThemisTargetException Extensions of
+   * <code>ThemisTargetException</code> will be thrown for any invalid parameter
+   * scenarios.
+   * @throws IndexOutOfBoundsException If the <b>target</b> is not
+   * <code>null</code> and the slice is out of its bounds.
+   *
+   * @see Utf8Eunomia
+   * @see uk.co.noop.themis.rule.Utf8Rules
+   */
+  public static Utf8Eunomia validateUtf8(
+      final String targetName,
+      final byte[] target,
+      final int offset,
+      final int length) {
+
+    StringRules.validateTargetName(targetName);
+
+    return new Utf8Eunomia(targetName, target, offset, length);
+  }
+
+  /**
+   * <p>Creates a new {@link Utf8Eunomia} to validate the remaining UTF-8
+   * encoded bytes of the specified heap or direct <b>target</b> buffer in
+   * place, without changing its position or limit.</p>
+   *
+   * <p>For example, to reject a payload before decoding it:</p>
+   *
+   * <p><code>
+   * Themis.validateUtf8("name", buffer)<br>
+   * &nbsp; &nbsp;.againstLongUtf8Bytes(256)<br>
+   * &nbsp; &nbsp;.againstMalformedUtf8Bytes()<br>
+   * &nbsp; &nbsp;.againstControlCharacters();
+   * </code></p>
+   *
+   * @param targetName The name of the <b>target</b>.
+   * @param target The <b>target</b> buffer.
+   *
+   * @return A <code>Utf8Eunomia</code> to validate the specified
+   * <b>target</b>. This will never be <code>null</code>.
+   *
+   * @throws uk.co.noop.themis.exception.ThemisTargetException Extensions of
+   * <code>ThemisTargetException</code> will be thrown for any invalid parameter
+   * scenarios.
+   *
+   * @see Utf8Eunomia
+   * @see uk.co.noop.themis.rule.Utf8Rules
+   */
+  public static Utf8Eunomia validateUtf8(
+      final String targetName,
+      final ByteBuffer target) {
+
+    StringRules.validateTargetName(targetName);
+
+    return new Utf8Eunomia(targetName, target);
+  }
+
   /**
    * <p>Creates a new custom Eunomia to validate the specified
    * <b>target</b>.</p>
@@ -198,6 +596,11 @@ public class Themis {
    * }
    * </code></p>
    *
+   * <p>The custom Eunomia is created using its public <code>(String,
+   * X)</code> constructor, where <code>X</code> is the most specific supertype
+   * of the <b>target</b>'s runtime type. Constructors are resolved once per
+   * custom Eunomia and <b>target</b> type and then cached.</p>
+   *
    * <p>Note:</p>
    *
    * <p>The <b>targetName</b> parameter is validated against blank values using
@@ -215,6 +618,9 @@ public class Themis {
    * @throws uk.co.noop.themis.exception.ThemisTargetException Extensions of
    * <code>ThemisTargetException</code> will be thrown for any invalid parameter
    * scenarios.
+   * @throws uk.co.noop.themis.exception.ThemisEunomiaException If the custom
+   * Eunomia has no unambiguous constructor for the <b>target</b> or the
+   * constructor fails.
    *
    * @see StringEunomia#againstBlankStrings()
    * @see uk.co.noop.themis.exception.ThemisNullTargetException
@@ -225,21 +631,9 @@ public class Themis {
       final T target,
       final Class<E> eunomiaClass) {
 
-    validate(targetName).againstBlankStrings();
-
-    E eunomia;
-
-    try {
-
-      eunomia =
-          eunomiaClass.getConstructor(String.class, target.getClass())
-              .newInstance(targetName, target);
-
-    } catch (final Exception e) {
-      throw new ThemisEunomiaException(e);
-    }
+    StringRules.validateTargetName(targetName);
 
-    return eunomia;
+    return CustomEunomiaFactory.of(eunomiaClass).create(targetName, target);
   }
 
   /**
@@ -264,8 +658,628 @@ public class Themis {
     return validate(targetName, target, eunomiaClass);
   }
 
-  private static StringEunomia validate(final String targetName) {
-    return new StringEunomia("targetName", targetName);
+  /**
+   * <p>Creates a new Eunomia to validate the specified <b>target</b>, chosen
+   * by the runtime type of the <b>target</b> rather than by overload
+   * resolution.</p>
+   *
+   * <p>The Eunomia is created by the {@link ThemisEunomiaProvider} registered
+   * for the most specific supertype of the <b>target</b>'s runtime type,
+   * including its interfaces; a <code>null</code> <b>target</b> uses the
+   * provider for <code>Object</code>. The built-in providers return the same
+   * Eunomia as the overloads of <code>Themis.validate</code>, e.g. a
+   * {@link StringEunomia} for a <code>String</code>, a {@link
+   * CollectionEunomia} for a <code>Collection</code> and an {@link
+   * ObjectEunomia} for anything else, and more are found by the {@link
+   * java.util.ServiceLoader} or added with {@link
+   * #register(ThemisEunomiaProvider)}. The provider for each runtime type is
+   * resolved once and then cached.</p>
+   *
+   * <p>For example:</p>
+   *
+   * <p><code>
+   * if (Themis.validateAny("value", value) instanceof StringEunomia s) {<br>
+   * &nbsp; s.againstBlankStrings();<br>
+   * }
+   * </code></p>
+   *
+   * <p>Note:</p>
+   *
+   * <p>The <b>targetName</b> parameter is validated against blank values using
+   * {@link StringEunomia#againstBlankStrings()}.</p>
+   *
+   * @param targetName The name of the <b>target</b>.
+   * @param target The <b>target</b>.
+   *
+   * @return A Eunomia to validate the specified <b>target</b>. This will never
+   * be <code>null</code>.
+   *
+   * @throws uk.co.noop.themis.exception.ThemisTargetException Extensions of
+   * <code>ThemisTargetException</code> will be thrown for an invalid
+   * <b>targetName</b>.
+   * @throws uk.co.noop.themis.exception.ThemisEunomiaException If the provider
+   * fails or returns <code>null</code>.
+   *
+   * @see ThemisEunomiaProvider
+   * @see #register(ThemisEunomiaProvider)
+   */
+  public static AbstractEunomia<?, ?> validateAny(
+      final String targetName,
+      final Object target) {
+
+    StringRules.validateTargetName(targetName);
+
+    return EunomiaDispatcher.create(
+        targetName,
+        target,
+        ThemisViolationHandler.THROWING);
+  }
+
+  /**
+   * <p>Creates a new {@link StringEunomia} to check the specified
+   * <b>target</b> <code>String</code> without throwing.</p>
+   *
+   * <p>The returned <code>StringEunomia</code> has the same rules as {@link
+   * Themis#validate(String, String)}, but violations are recorded in its
+   * {@link uk.co.noop.themis.violation.ThemisResult ThemisResult} instead of
+   * resulting in a <code>ThemisTargetException</code>. This is much cheaper
+   * when most <b>targets</b> are expected to be invalid, e.g. when parsing
+   * untrusted input.</p>
+   *
+   * <p>For example:</p>
+   *
+   * <p><code>
+   * final ThemisResult result =<br>
+   * &nbsp; Themis.check("id", id).againstBlankStrings().getResult();<br>
+   * <br>
+   * if (result.isInvalid()) {<br>
+   * &nbsp; reject(result.getTargetName(), result.getViolationType());<br>
+   * }
+   * </code></p>
+   *
+   * <p>Note:</p>
+   *
+   * <p>The <b>targetName</b> parameter is still validated against blank values
+   * using {@link StringEunomia#againstBlankStrings()}, as an invalid
+   * <b>targetName</b> is a programming error.</p>
+   *
+   * @param targetName The name of the <b>target</b> <code>String</code>.
+   * @param target The <b>target</b> <code>String</code>.
+   *
+   * @return A <code>StringEunomia</code> to check the specified
+   * <b>target</b> <code>String</code>. This will never be <code>null</code>.
+   *
+   * @throws uk.co.noop.themis.exception.ThemisTargetException Extensions of
+   * <code>ThemisTargetException</code> will be thrown for an invalid
+   * <b>targetName</b>.
+   *
+   * @see StringEunomia
+   * @see StringEunomia#getResult()
+   * @see uk.co.noop.themis.violation.ThemisResult
+   */
+  public static StringEunomia check(
+      final String targetName,
+      final String target) {
+
+    StringRules.validateTargetName(targetName);
+
+    return new StringEunomia(
+        targetName,
+        target,
+        ThemisViolationHandler.RECORDING);
+  }
+
+  /**
+   * <p>Creates a new {@link ObjectEunomia} to check the specified
+   * <b>target</b> <code>Object</code> without throwing.</p>
+   *
+   * <p>The returned <code>ObjectEunomia</code> has the same rules as {@link
+   * Themis#validate(String, Object)}, but violations are recorded in its
+   * {@link uk.co.noop.themis.violation.ThemisResult ThemisResult} instead of
+   * resulting in a <code>ThemisTargetException</code>.</p>
+   *
+   * <p>For example:</p>
+   *
+   * <p><code>
+   * Themis.check("data", data).againstNullObjects().getResult().isValid();
+   * </code></p>
+   *
+   * @param targetName The name of the <b>target</b> <code>Object</code>.
+   * @param target The <b>target</b> <code>Object</code>.
+   *
+   * @return An <code>ObjectEunomia</code> to check the specified
+   * <b>target</b> <code>Object</code>. This will never be <code>null</code>.
+   *
+   * @throws uk.co.noop.themis.exception.ThemisTargetException Extensions of
+   * <code>ThemisTargetException</code> will be thrown for an invalid
+   * <b>targetName</b>.
+   *
+   * @see Themis#check(String, String)
+   * @see ObjectEunomia
+   * @see ObjectEunomia#getResult()
+   */
+  public static ObjectEunomia check(
+      final String targetName,
+      final Object target) {
+
+    StringRules.validateTargetName(targetName);
+
+    return new ObjectEunomia(
+        targetName,
+        target,
+        ThemisViolationHandler.RECORDING);
+  }
+
+  /**
+   * <p>Creates a new {@link IntEunomia} to check the specified
+   * <b>target</b> <code>int</code> without throwing.</p>
+   *
+   * @param targetName The name of the <b>target</b> <code>int</code>.
+   * @param target The <b>target</b> <code>int</code>.
+   *
+   * @return An <code>IntEunomia</code> to check the specified <b>target</b>
+   * <code>int</code>. This will never be <code>null</code>.
+   *
+   * @throws uk.co.noop.themis.exception.ThemisTargetException Extensions of
+   * <code>ThemisTargetException</code> will be thrown for an invalid
+   * <b>targetName</b>.
+   *
+   * @see Themis#check(String, String)
+   * @see IntEunomia
+   * @see IntEunomia#getResult()
+   */
+  public static IntEunomia check(
+      final String targetName,
+      final int target) {
+
+    StringRules.validateTargetName(targetName);
+
+    return new IntEunomia(
+        targetName,
+        target,
+        ThemisViolationHandler.RECORDING);
+  }
+
+  /**
+   * <p>Creates a new {@link LongEunomia} to check the specified
+   * <b>target</b> <code>long</code> without throwing.</p>
+   *
+   * @param targetName The name of the <b>target</b> <code>long</code>.
+   * @param target The <b>target</b> <code>long</code>.
+   *
+   * @return A <code>LongEunomia</code> to check the specified <b>target</b>
+   * <code>long</code>. This will never be <code>null</code>.
+   *
+   * @throws uk.co.noop.themis.exception.ThemisTargetException Extensions of
+   * <code>ThemisTargetException</code> will be thrown for an invalid
+   * <b>targetName</b>.
+   *
+   * @see Themis#check(String, String)
+   * @see LongEunomia
+   * @see LongEunomia#getResult()
+   */
+  public static LongEunomia check(
+      final String targetName,
+      final long target) {
+
+    StringRules.validateTargetName(targetName);
+
+    return new LongEunomia(
+        targetName,
+        target,
+        ThemisViolationHandler.RECORDING);
+  }
+
+  /**
+   * <p>Creates a new {@link DoubleEunomia} to check the specified
+   * <b>target</b> <code>double</code> without throwing.</p>
+   *
+   * @param targetName The name of the <b>target</b> <code>double</code>.
+   * @param target The <b>target</b> <code>double</code>.
+   *
+   * @return A <code>DoubleEunomia</code> to check the specified <b>target</b>
+   * <code>double</code>. This will never be <code>null</code>.
+   *
+   * @throws uk.co.noop.themis.exception.ThemisTargetException Extensions of
+   * <code>ThemisTargetException</code> will be thrown for an invalid
+   * <b>targetName</b>.
+   *
+   * @see Themis#check(String, String)
+   * @see DoubleEunomia
+   * @see DoubleEunomia#getResult()
+   */
+  public static DoubleEunomia check(
+      final String targetName,
+      final double target) {
+
+    StringRules.validateTargetName(targetName);
+
+    return new DoubleEunomia(
+        targetName,
+        target,
+        ThemisViolationHandler.RECORDING);
+  }
+
+  /**
+   * <p>Creates a new {@link CollectionEunomia} to check the specified
+   * <b>target</b> <code>Collection</code> without throwing.</p>
+   *
+   * @param targetName The name of the <b>target</b> <code>Collection</code>.
+   * @param target The <b>target</b> <code>Collection</code>.
+   * @param <T> The element type.
+   *
+   * @return A <code>CollectionEunomia</code> to check the specified
+   * <b>target</b> <code>Collection</code>. This will never be
+   * <code>null</code>.
+   *
+   * @throws uk.co.noop.themis.exception.ThemisTargetException Extensions of
+   * <code>ThemisTargetException</code> will be thrown for an invalid
+   * <b>targetName</b>.
+   *
+   * @see CollectionEunomia
+   * @see uk.co.noop.themis.rule.CollectionRules
+   */
+  public static <T> CollectionEunomia<T> checkCollection(
+      final String targetName,
+      final Collection<T> target) {
+
+    StringRules.validateTargetName(targetName);
+
+    return new CollectionEunomia<>(
+        targetName,
+        target,
+        ThemisViolationHandler.RECORDING);
+  }
+
+  /**
+   * <p>Creates a new {@link ArrayEunomia} to check the specified
+   * <b>target</b> array without throwing.</p>
+   *
+   * @param targetName The name of the <b>target</b> array.
+   * @param target The <b>target</b> array.
+   * @param <T> The element type.
+   *
+   * @return An <code>ArrayEunomia</code> to check the specified
+   * <b>target</b> array. This will never be <code>null</code>.
+   *
+   * @throws uk.co.noop.themis.exception.ThemisTargetException Extensions of
+   * <code>ThemisTargetException</code> will be thrown for an invalid
+   * <b>targetName</b>.
+   *
+   * @see ArrayEunomia
+   * @see uk.co.noop.themis.rule.CollectionRules
+   */
+  public static <T> ArrayEunomia<T> checkArray(
+      final String targetName,
+      final T[] target) {
+
+    StringRules.validateTargetName(targetName);
+
+    return new ArrayEunomia<>(
+        targetName,
+        target,
+        ThemisViolationHandler.RECORDING);
+  }
+
+  /**
+   * <p>Creates a new {@link CharSequenceEunomia} to check the specified
+   * <b>target</b> <code>CharSequence</code> without throwing.</p>
+   *
+   * @param targetName The name of the <b>target</b>
+   *                   <code>CharSequence</code>.
+   * @param target The <b>target</b> <code>CharSequence</code>.
+   *
+   * @return A <code>CharSequenceEunomia</code> to check the specified
+   * <b>target</b> <code>CharSequence</code>. This will never be
+   * <code>null</code>.
+   *
+   * @throws uk.co.noop.themis.exception.ThemisTargetException Extensions of
+   * <code>ThemisTargetException</code> will be thrown for an invalid
+   * <b>targetName</b>.
+   *
+   * @see CharSequenceEunomia
+   * @see uk.co.noop.themis.rule.CharSequenceRules
+   */
+  public static CharSequenceEunomia checkCharSequence(
+      final String targetName,
+      final CharSequence target) {
+
+    StringRules.validateTargetName(targetName);
+
+    return new CharSequenceEunomia(
+        targetName,
+        target,
+        ThemisViolationHandler.RECORDING);
+  }
+
+  /**
+   * <p>Creates a new {@link Utf8Eunomia} to check the specified UTF-8 encoded
+   * <b>target</b> bytes without throwing.</p>
+   *
+   * @param targetName The name of the <b>target</b>.
+   * @param target The <b>target</b> bytes.
+   *
+   * @return A <code>Utf8Eunomia</code> to check the specified <b>target</b>.
+   * This will never be <code>null</code>.
+   *
+   * @throws uk.co.noop.themis.exception.ThemisTargetException Extensions of
+   * <code>ThemisTargetException</code> will be thrown for an invalid
+   * <b>targetName</b>.
+   *
+   * @see Utf8Eunomia
+   * @see uk.co.noop.themis.rule.Utf8Rules
+   */
+  public static Utf8Eunomia checkUtf8(
+      final String targetName,
+      final byte[] target) {
+
+    return checkUtf8(
+        targetName,
+        target,
+        0,
+        target == null ? 0 : target.length);
+  }
+
+  /**
+   * <p>Creates a new {@link Utf8Eunomia} to check the specified slice of
+   * UTF-8 encoded <b>target</b> bytes without throwing.</p>
+   *
+   * @param targetName The name of the <b>target</b>.
+   * @param target The <b>target</b> bytes.
+   * @param offset The index of the first byte of the slice.
+   * @param length The number of bytes in the slice.
+   *
+   * @return A <code>Utf8Eunomia</code> to check the specified <b>target</b>.
+   * This will never be <code>null</code>.
+   *
+   * @throws uk.co.noop.themis.exception.ThemisTargetException Extensions of
+   * <code>ThemisTargetException</code> will be thrown for an invalid
+   * <b>targetName</b>.
+   * @throws IndexOutOfBoundsException If the <b>target</b> is not
+   * <code>null</code> and the slice is out of its bounds.
+   *
+   * @see Utf8Eunomia
+   * @see uk.co.noop.themis.rule.Utf8Rules
+   */
+  public static Utf8Eunomia checkUtf8(
+      final String targetName,
+      final byte[] target,
+      final int offset,
+      final int length) {
+
+    StringRules.validateTargetName(targetName);
+
+    return new Utf8Eunomia(
+        targetName,
+        target,
+        offset,
+        length,
+        ThemisViolationHandler.RECORDING);
+  }
+
+  /**
+   * <p>Creates a new {@link Utf8Eunomia} to check the remaining UTF-8
+   * encoded bytes of the specified <b>target</b> buffer without
+   * throwing.</p>
+   *
+   * @param targetName The name of the <b>target</b>.
+   * @param target The <b>target</b> buffer.
+   *
+   * @return A <code>Utf8Eunomia</code> to check the specified <b>target</b>.
+   * This will never be <code>null</code>.
+   *
+   * @throws uk.co.noop.themis.exception.ThemisTargetException Extensions of
+   * <code>ThemisTargetException</code> will be thrown for an invalid
+   * <b>targetName</b>.
+   *
+   * @see Utf8Eunomia
+   * @see uk.co.noop.themis.rule.Utf8Rules
+   */
+  public static Utf8Eunomia checkUtf8(
+      final String targetName,
+      final ByteBuffer target) {
+
+    StringRules.validateTargetName(targetName);
+
+    return new Utf8Eunomia(
+        targetName,
+        target,
+        ThemisViolationHandler.RECORDING);
+  }
+
+  /**
+   * <p>Creates a new Eunomia to check the specified <b>target</b> without
+   * throwing, chosen by the runtime type of the <b>target</b> in the same way
+   * as {@link Themis#validateAny(String, Object)}.</p>
+   *
+   * @param targetName The name of the <b>target</b>.
+   * @param target The <b>target</b>.
+   *
+   * @return A Eunomia to check the specified <b>target</b>. This will never be
+   * <code>null</code>.
+   *
+   * @throws uk.co.noop.themis.exception.ThemisTargetException Extensions of
+   * <code>ThemisTargetException</code> will be thrown for an invalid
+   * <b>targetName</b>.
+   * @throws uk.co.noop.themis.exception.ThemisEunomiaException If the provider
+   * fails or returns <code>null</code>.
+   *
+   * @see Themis#validateAny(String, Object)
+   * @see AbstractEunomia#getResult()
+   */
+  public static AbstractEunomia<?, ?> checkAny(
+      final String targetName,
+      final Object target) {
+
+    StringRules.validateTargetName(targetName);
+
+    return EunomiaDispatcher.create(
+        targetName,
+        target,
+        ThemisViolationHandler.RECORDING);
+  }
+
+  /**
+   * <p>Validates the annotated fields, or record components, of the specified
+   * <b>target</b> and returns it.</p>
+   *
+   * <p>Each field or record component is validated by its annotations, e.g.
+   * {@link uk.co.noop.themis.annotation.NotNull NotNull}, {@link
+   * uk.co.noop.themis.annotation.NotBlank NotBlank} or {@link
+   * uk.co.noop.themis.annotation.ValidWith ValidWith}, with the same rules
+   * as the matching Eunomia and using its name as the <b>targetName</b>.
+   * Fields inherited from superclasses are validated first.</p>
+   *
+   * <p>For example:</p>
+   *
+   * <p><code>
+   * public record User(&#64;NotBlank String id, &#64;NotNull Object data) {<br>
+   * &nbsp; public User {<br>
+   * &nbsp; &nbsp; Themis.validateAnnotated(this);<br>
+   * &nbsp; }<br>
+   * }
+   * </code></p>
+   *
+   * <p>The annotations of each class are compiled once, when it is first
+   * validated, into a cached plan of <code>MethodHandle</code> accessors and
+   * rules, so later calls involve no reflection.</p>
+   *
+   * @param target The annotated <b>target</b>.
+   * @param <T> The <b>target</b> type.
+   *
+   * @return The <b>target</b>, which is valid.
+   *
+   * @throws uk.co.noop.themis.exception.ThemisTargetException Extensions of
+   * <code>ThemisTargetException</code> will be thrown for the first
+   * violation, or if the <b>target</b> is <code>null</code>.
+   * @throws uk.co.noop.themis.exception.ThemisEunomiaException If an
+   * annotation is not supported on the type it is placed on, or a custom
+   * Eunomia has no matching constructor or rule.
+   *
+   * @see uk.co.noop.themis.annotation.NotNull
+   * @see uk.co.noop.themis.annotation.NotEmpty
+   * @see uk.co.noop.themis.annotation.NotBlank
+   * @see uk.co.noop.themis.annotation.ValidWith
+   */
+  public static <T> T validateAnnotated(final T target) {
+
+    validate(ANNOTATED_TARGET_NAME, target).againstNullObjects();
+
+    AnnotatedPlan.of(target.getClass()).validate(target);
+
+    return target;
+  }
+
+  /**
+   * <p>Checks the annotated fields, or record components, of the specified
+   * <b>target</b> without throwing, stopping at the first violation.</p>
+   *
+   * @param target The annotated <b>target</b>.
+   *
+   * @return A {@link uk.co.noop.themis.violation.ThemisResult ThemisResult}
+   * describing the first violation, or the shared valid
+   * <code>ThemisResult</code>. This will never be <code>null</code>.
+   *
+   * @throws uk.co.noop.themis.exception.ThemisEunomiaException If an
+   * annotation is not supported on the type it is placed on, or a custom
+   * Eunomia has no matching constructor or rule.
+   *
+   * @see Themis#validateAnnotated(Object)
+   */
+  public static ThemisResult checkAnnotated(final Object target) {
+
+    if (target == null) {
+      return ThemisResult.invalid(
+          ANNOTATED_TARGET_NAME,
+          ThemisViolationType.NULL_TARGET);
+    }
+
+    return AnnotatedPlan.of(target.getClass()).check(target);
+  }
+
+  /**
+   * <p>Creates a new {@link ThemisCollector} to validate many <b>targets</b>,
+   * collecting every violation instead of failing on the first.</p>
+   *
+   * <p>For example, to report every invalid field of a form at once:</p>
+   *
+   * <p><code>
+   * final ThemisCollector collector = Themis.collect();<br>
+   * <br>
+   * collector.validate("id", id).againstBlankStrings();<br>
+   * collector.validate("name", name).againstBlankStrings();<br>
+   * collector.validate("data", data).againstNullObjects();<br>
+   * <br>
+   * final ThemisReport report = collector.getReport();
+   * </code></p>
+   *
+   * @return A new <code>ThemisCollector</code>. This will never be
+   * <code>null</code>.
+   *
+   * @see ThemisCollector
+   * @see uk.co.noop.themis.violation.ThemisReport
+   */
+  public static ThemisCollector collect() {
+    return new ThemisCollector();
+  }
+
+  /**
+   * <p>Creates a {@link ThemisTarget} for the specified <b>targetName</b>,
+   * validating the <b>targetName</b> once rather than on every call.</p>
+   *
+   * <p>For example:</p>
+   *
+   * <p><code>
+   * private static final ThemisTarget ID = Themis.target("id");<br>
+   * <br>
+   * ID.validate(id).againstBlankStrings();
+   * </code></p>
+   *
+   * @param targetName The name of the <b>target</b>.
+   *
+   * @return A new <code>ThemisTarget</code>. This will never be
+   * <code>null</code>.
+   *
+   * @throws uk.co.noop.themis.exception.ThemisTargetException Extensions of
+   * <code>ThemisTargetException</code> will be thrown for an invalid
+   * <b>targetName</b>.
+   *
+   * @see ThemisTarget
+   */
+  public static ThemisTarget target(final String targetName) {
+
+    StringRules.validateTargetName(targetName);
+
+    return new ThemisTarget(targetName);
+  }
+
+  /**
+   * <p>Registers the specified <b>provider</b> for {@link
+   * Themis#validateAny(String, Object)} and {@link Themis#checkAny(String,
+   * Object)}, replacing any provider registered for the same <b>target</b>
+   * type, including a built-in provider.</p>
+   *
+   * <p>Registering is rare and relatively expensive, as it discards the
+   * cached provider of every runtime type; it is intended for application
+   * start-up, as an alternative to the {@link java.util.ServiceLoader}.</p>
+   *
+   * @param provider The provider.
+   *
+   * @throws uk.co.noop.themis.exception.ThemisTargetException Extensions of
+   * <code>ThemisTargetException</code> will be thrown if the <b>provider</b>
+   * or its <b>target</b> type is <code>null</code>, or its <b>target</b> type
+   * is primitive.
+   *
+   * @see ThemisEunomiaProvider
+   */
+  public static void register(final ThemisEunomiaProvider<?> provider) {
+
+    validate("provider", provider).againstNullObjects();
+    validate("targetType", provider.getTargetType())
+        .againstNullObjects()
+        .againstInvalidObjects(type -> ((Class<?>) type).isPrimitive());
+
+    EunomiaDispatcher.register(provider);
   }
 
   private Themis() {
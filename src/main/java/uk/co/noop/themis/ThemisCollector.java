@@ -0,0 +1,377 @@
+package uk.co.noop.themis;
+
+import uk.co.noop.themis.eunomia.ArrayEunomia;
+import uk.co.noop.themis.eunomia.CharSequenceEunomia;
+import uk.co.noop.themis.eunomia.CollectionEunomia;
+import uk.co.noop.themis.eunomia.DoubleEunomia;
+import uk.co.noop.themis.eunomia.IntEunomia;
+import uk.co.noop.themis.eunomia.LongEunomia;
+import uk.co.noop.themis.eunomia.ObjectEunomia;
+import uk.co.noop.themis.eunomia.StringEunomia;
+import uk.co.noop.themis.eunomia.Utf8Eunomia;
+import uk.co.noop.themis.exception.ThemisTargetException;
+import uk.co.noop.themis.rule.StringRules;
+import uk.co.noop.themis.violation.ThemisReport;
+import uk.co.noop.themis.violation.ThemisViolationHandler;
+import uk.co.noop.themis.violation.ThemisViolationType;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.function.Supplier;
+
+/**
+ * <p>Collects every violation across many <b>targets</b> in one pass, instead
+ * of failing on the first (See: {@link Themis#collect()}). As when checking,
+ * only the first violation of each <b>target</b> is collected.</p>
+ *
+ * <p>Violations are stored in parallel arrays that are only allocated when the
+ * first violation is collected and then grow as needed, so collecting from
+ * valid <b>targets</b> allocates nothing beyond the Eunomia instances.</p>
+ *
+ * <p>A <code>ThemisCollector</code> is not thread-safe.</p>
+ *
+ * @see Themis#collect()
+ * @see ThemisReport
+ */
+public final class ThemisCollector implements ThemisViolationHandler {
+
+  private static final int INITIAL_CAPACITY = 8;
+
+  private String[] targetNames;
+  private ThemisViolationType[] violationTypes;
+  private int size;
+
+  ThemisCollector() {
+    super();
+  }
+
+  /**
+   * <p>Creates a new {@link StringEunomia} to validate the specified
+   * <b>target</b> <code>String</code>, collecting any violations in
+   * <code>this</code> <code>ThemisCollector</code>.</p>
+   *
+   * @param targetName The name of the <b>target</b> <code>String</code>.
+   * @param target The <b>target</b> <code>String</code>.
+   *
+   * @return A <code>StringEunomia</code> to validate the specified
+   * <b>target</b> <code>String</code>. This will never be <code>null</code>.
+   *
+   * @throws ThemisTargetException Extensions of
+   * <code>ThemisTargetException</code> will be thrown for an invalid
+   * <b>targetName</b>.
+   *
+   * @see Themis#validate(String, String)
+   */
+  public StringEunomia validate(final String targetName, final String target) {
+
+    StringRules.validateTargetName(targetName);
+
+    return new StringEunomia(targetName, target, this);
+  }
+
+  /**
+   * <p>Creates a new {@link ObjectEunomia} to validate the specified
+   * <b>target</b> <code>Object</code>, collecting any violations in
+   * <code>this</code> <code>ThemisCollector</code>.</p>
+   *
+   * @param targetName The name of the <b>target</b> <code>Object</code>.
+   * @param target The <b>target</b> <code>Object</code>.
+   *
+   * @return An <code>ObjectEunomia</code> to validate the specified
+   * <b>target</b> <code>Object</code>. This will never be <code>null</code>.
+   *
+   * @throws ThemisTargetException Extensions of
+   * <code>ThemisTargetException</code> will be thrown for an invalid
+   * <b>targetName</b>.
+   *
+   * @see Themis#validate(String, Object)
+   */
+  public ObjectEunomia validate(final String targetName, final Object target) {
+
+    StringRules.validateTargetName(targetName);
+
+    return new ObjectEunomia(targetName, target, this);
+  }
+
+  /**
+   * <p>Creates a new {@link IntEunomia} to validate the specified
+   * <b>target</b> <code>int</code>, collecting any violations in
+   * <code>this</code> <code>ThemisCollector</code>.</p>
+   *
+   * @param targetName The name of the <b>target</b> <code>int</code>.
+   * @param target The <b>target</b> <code>int</code>.
+   *
+   * @return An <code>IntEunomia</code> to validate the specified
+   * <b>target</b> <code>int</code>. This will never be <code>null</code>.
+   *
+   * @throws ThemisTargetException Extensions of
+   * <code>ThemisTargetException</code> will be thrown for an invalid
+   * <b>targetName</b>.
+   *
+   * @see Themis#validate(String, int)
+   */
+  public IntEunomia validate(final String targetName, final int target) {
+
+    StringRules.validateTargetName(targetName);
+
+    return new IntEunomia(targetName, target, this);
+  }
+
+  /**
+   * <p>Creates a new {@link LongEunomia} to validate the specified
+   * <b>target</b> <code>long</code>, collecting any violations in
+   * <code>this</code> <code>ThemisCollector</code>.</p>
+   *
+   * @param targetName The name of the <b>target</b> <code>long</code>.
+   * @param target The <b>target</b> <code>long</code>.
+   *
+   * @return A <code>LongEunomia</code> to validate the specified
+   * <b>target</b> <code>long</code>. This will never be <code>null</code>.
+   *
+   * @throws ThemisTargetException Extensions of
+   * <code>ThemisTargetException</code> will be thrown for an invalid
+   * <b>targetName</b>.
+   *
+   * @see Themis#validate(String, long)
+   */
+  public LongEunomia validate(final String targetName, final long target) {
+
+    StringRules.validateTargetName(targetName);
+
+    return new LongEunomia(targetName, target, this);
+  }
+
+  /**
+   * <p>Creates a new {@link DoubleEunomia} to validate the specified
+   * <b>target</b> <code>double</code>, collecting any violations in
+   * <code>this</code> <code>ThemisCollector</code>.</p>
+   *
+   * @param targetName The name of the <b>target</b> <code>double</code>.
+   * @param target The <b>target</b> <code>double</code>.
+   *
+   * @return A <code>DoubleEunomia</code> to validate the specified
+   * <b>target</b> <code>double</code>. This will never be <code>null</code>.
+   *
+   * @throws ThemisTargetException Extensions of
+   * <code>ThemisTargetException</code> will be thrown for an invalid
+   * <b>targetName</b>.
+   *
+   * @see Themis#validate(String, double)
+   */
+  public DoubleEunomia validate(final String targetName, final double target) {
+
+    StringRules.validateTargetName(targetName);
+
+    return new DoubleEunomia(targetName, target, this);
+  }
+
+  /**
+   * <p>Creates a new {@link CollectionEunomia} to validate the specified
+   * <b>target</b> <code>Collection</code>, collecting any violations in
+   * <code>this</code> <code>ThemisCollector</code>.</p>
+   *
+   * @param targetName The name of the <b>target</b> <code>Collection</code>.
+   * @param target The <b>target</b> <code>Collection</code>.
+   * @param <T> The element type.
+   *
+   * @return A <code>CollectionEunomia</code> to validate the specified
+   * <b>target</b> <code>Collection</code>. This will never be
+   * <code>null</code>.
+   *
+   * @throws ThemisTargetException Extensions of
+   * <code>ThemisTargetException</code> will be thrown for an invalid
+   * <b>targetName</b>.
+   *
+   * @see Themis#validateCollection(String, Collection)
+   */
+  public <T> CollectionEunomia<T> validateCollection(
+      final String targetName,
+      final Collection<T> target) {
+
+    StringRules.validateTargetName(targetName);
+
+    return new CollectionEunomia<>(targetName, target, this);
+  }
+
+  /**
+   * <p>Creates a new {@link ArrayEunomia} to validate the specified
+   * <b>target</b> array, collecting any violations in
+   * <code>this</code> <code>ThemisCollector</code>.</p>
+   *
+   * @param targetName The name of the <b>target</b> array.
+   * @param target The <b>target</b> array.
+   * @param <T> The element type.
+   *
+   * @return An <code>ArrayEunomia</code> to validate the specified
+   * <b>target</b> array. This will never be <code>null</code>.
+   *
+   * @throws ThemisTargetException Extensions of
+   * <code>ThemisTargetException</code> will be thrown for an invalid
+   * <b>targetName</b>.
+   *
+   * @see Themis#validateArray(String, Object[])
+   */
+  public <T> ArrayEunomia<T> validateArray(
+      final String targetName,
+      final T[] target) {
+
+    StringRules.validateTargetName(targetName);
+
+    return new ArrayEunomia<>(targetName, target, this);
+  }
+
+  /**
+   * <p>Creates a new {@link CharSequenceEunomia} to validate the specified
+   * <b>target</b> <code>CharSequence</code>, collecting any violations in
+   * <code>this</code> <code>ThemisCollector</code>.</p>
+   *
+   * @param targetName The name of the <b>target</b>
+   *                   <code>CharSequence</code>.
+   * @param target The <b>target</b> <code>CharSequence</code>.
+   *
+   * @return A <code>CharSequenceEunomia</code> to validate the specified
+   * <b>target</b> <code>CharSequence</code>. This will never be
+   * <code>null</code>.
+   *
+   * @throws ThemisTargetException Extensions of
+   * <code>ThemisTargetException</code> will be thrown for an invalid
+   * <b>targetName</b>.
+   *
+   * @see Themis#validateCharSequence(String, CharSequence)
+   */
+  public CharSequenceEunomia validateCharSequence(
+      final String targetName,
+      final CharSequence target) {
+
+    StringRules.validateTargetName(targetName);
+
+    return new CharSequenceEunomia(targetName, target, this);
+  }
+
+  /**
+   * <p>Creates a new {@link Utf8Eunomia} to validate the specified UTF-8
+   * encoded <b>target</b> bytes, collecting any violations in
+   * <code>this</code> <code>ThemisCollector</code>.</p>
+   *
+   * @param targetName The name of the <b>target</b>.
+   * @param target The <b>target</b> bytes.
+   *
+   * @return A <code>Utf8Eunomia</code> to validate the specified
+   * <b>target</b>. This will never be <code>null</code>.
+   *
+   * @throws ThemisTargetException Extensions of
+   * <code>ThemisTargetException</code> will be thrown for an invalid
+   * <b>targetName</b>.
+   *
+   * @see Themis#validateUtf8(String, byte[])
+   */
+  public Utf8Eunomia validateUtf8(
+      final String targetName,
+      final byte[] target) {
+
+    StringRules.validateTargetName(targetName);
+
+    return new Utf8Eunomia(
+        targetName,
+        target,
+        0,
+        target == null ? 0 : target.length,
+        this);
+  }
+
+  /**
+   * <p>Creates a new {@link Utf8Eunomia} to validate the remaining UTF-8
+   * encoded bytes of the specified <b>target</b> buffer, collecting any
+   * violations in <code>this</code> <code>ThemisCollector</code>.</p>
+   *
+   * @param targetName The name of the <b>target</b>.
+   * @param target The <b>target</b> buffer.
+   *
+   * @return A <code>Utf8Eunomia</code> to validate the specified
+   * <b>target</b>. This will never be <code>null</code>.
+   *
+   * @throws ThemisTargetException Extensions of
+   * <code>ThemisTargetException</code> will be thrown for an invalid
+   * <b>targetName</b>.
+   *
+   * @see Themis#validateUtf8(String, ByteBuffer)
+   */
+  public Utf8Eunomia validateUtf8(
+      final String targetName,
+      final ByteBuffer target) {
+
+    StringRules.validateTargetName(targetName);
+
+    return new Utf8Eunomia(targetName, target, this);
+  }
+
+  /**
+   * <p>Validates the annotated fields, or record components, of the specified
+   * <b>target</b>, collecting the first violation of each in
+   * <code>this</code> <code>ThemisCollector</code>.</p>
+   *
+   * @param target The annotated <b>target</b>; a <code>null</code>
+   *               <b>target</b> is collected as a violation named
+   *               <code>target</code>.
+   *
+   * @throws uk.co.noop.themis.exception.ThemisEunomiaException If an
+   * annotation is not supported on the type it is placed on, or a custom
+   * Eunomia has no matching constructor or rule.
+   *
+   * @see Themis#validateAnnotated(Object)
+   */
+  public void validateAnnotated(final Object target) {
+
+    if (target == null) {
+      new ObjectEunomia("target", null, this).againstNullObjects();
+      return;
+    }
+
+    AnnotatedPlan.of(target.getClass()).validate(target, this);
+  }
+
+  /**
+   * <p>Records the violation.</p>
+   */
+  @Override
+  public void onViolation(
+      final String targetName,
+      final ThemisViolationType violationType,
+      final Supplier<? extends ThemisTargetException> exceptionSupplier) {
+
+    if (targetNames == null) {
+      targetNames = new String[INITIAL_CAPACITY];
+      violationTypes = new ThemisViolationType[INITIAL_CAPACITY];
+    } else if (size == targetNames.length) {
+      targetNames = Arrays.copyOf(targetNames, size << 1);
+      violationTypes = Arrays.copyOf(violationTypes, size << 1);
+    }
+
+    targetNames[size] = targetName;
+    violationTypes[size] = violationType;
+    size++;
+  }
+
+  /**
+   * <p>Returns whether no violations have been collected so far.</p>
+   *
+   * @return <code>true</code> if no violations have been collected, otherwise
+   * <code>false</code>.
+   */
+  public boolean isValid() {
+    return size == 0;
+  }
+
+  /**
+   * <p>Returns a {@link ThemisReport} of every violation collected so
+   * far.</p>
+   *
+   * @return A <code>ThemisReport</code> of every violation collected so far.
+   * This will never be <code>null</code>.
+   */
+  public ThemisReport getReport() {
+    return ThemisReport.of(targetNames, violationTypes, size);
+  }
+
+}
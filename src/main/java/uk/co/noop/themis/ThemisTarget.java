@@ -0,0 +1,247 @@
+package uk.co.noop.themis;
+
+import uk.co.noop.themis.eunomia.DoubleEunomia;
+import uk.co.noop.themis.eunomia.IntEunomia;
+import uk.co.noop.themis.eunomia.LongEunomia;
+import uk.co.noop.themis.eunomia.ObjectEunomia;
+import uk.co.noop.themis.eunomia.StringEunomia;
+import uk.co.noop.themis.exception.ThemisTargetMessages;
+import uk.co.noop.themis.violation.ThemisViolationHandler;
+
+/**
+ * <p>A named <b>target</b> whose <b>targetName</b> has already been
+ * validated, created by {@link Themis#target(String)}.</p>
+ *
+ * <p>{@link Themis#validate(String, String) Themis.validate} validates the
+ * <b>targetName</b> on every call, although it is nearly always a constant. A
+ * <code>ThemisTarget</code> validates it once, so it is best held as a
+ * <code>static final</code> field, and also builds the messages of its
+ * exceptions once (See: {@link ThemisTargetMessages}):</p>
+ *
+ * <p><code>
+ * private static final ThemisTarget ID = Themis.target("id");<br>
+ * <br>
+ * public void setId(final String id) {<br>
+ * &nbsp; ID.validate(id).againstBlankStrings();<br>
+ * &nbsp; this.id = id;<br>
+ * }
+ * </code></p>
+ *
+ * <p>The Eunomia instances returned have the same rules as those returned by
+ * <code>Themis.validate</code> and <code>Themis.check</code>.</p>
+ *
+ * <p>A <code>ThemisTarget</code> is immutable and safe to share between
+ * threads.</p>
+ *
+ * @see Themis#target(String)
+ */
+public final class ThemisTarget {
+
+  private final ThemisTargetMessages messages;
+
+  ThemisTarget(final String targetName) {
+    this.messages = ThemisTargetMessages.of(targetName);
+  }
+
+  /**
+   * <p>Returns the validated <b>targetName</b>.</p>
+   *
+   * @return The <b>targetName</b>. This will never be <code>null</code>.
+   */
+  public String getTargetName() {
+    return messages.getTargetName();
+  }
+
+  /**
+   * <p>Creates a new {@link StringEunomia} to validate the specified
+   * <b>target</b> <code>String</code>, like {@link Themis#validate(String,
+   * String)} but without validating the <b>targetName</b> again.</p>
+   *
+   * @param target The <b>target</b> <code>String</code>.
+   *
+   * @return A <code>StringEunomia</code> to validate the specified
+   * <b>target</b> <code>String</code>. This will never be <code>null</code>.
+   *
+   * @see Themis#validate(String, String)
+   */
+  public StringEunomia validate(final String target) {
+
+    return new StringEunomia(
+        messages,
+        target,
+        ThemisViolationHandler.THROWING);
+  }
+
+  /**
+   * <p>Creates a new {@link ObjectEunomia} to validate the specified
+   * <b>target</b> <code>Object</code>, like {@link Themis#validate(String,
+   * Object)} but without validating the <b>targetName</b> again.</p>
+   *
+   * @param target The <b>target</b> <code>Object</code>.
+   *
+   * @return An <code>ObjectEunomia</code> to validate the specified
+   * <b>target</b> <code>Object</code>. This will never be <code>null</code>.
+   *
+   * @see Themis#validate(String, Object)
+   */
+  public ObjectEunomia validate(final Object target) {
+
+    return new ObjectEunomia(
+        messages,
+        target,
+        ThemisViolationHandler.THROWING);
+  }
+
+  /**
+   * <p>Creates a new {@link IntEunomia} to validate the specified
+   * <b>target</b> <code>int</code>, like {@link Themis#validate(String, int)}
+   * but without validating the <b>targetName</b> again.</p>
+   *
+   * @param target The <b>target</b> <code>int</code>.
+   *
+   * @return An <code>IntEunomia</code> to validate the specified <b>target</b>
+   * <code>int</code>. This will never be <code>null</code>.
+   *
+   * @see Themis#validate(String, int)
+   */
+  public IntEunomia validate(final int target) {
+    return new IntEunomia(messages, target, ThemisViolationHandler.THROWING);
+  }
+
+  /**
+   * <p>Creates a new {@link LongEunomia} to validate the specified
+   * <b>target</b> <code>long</code>, like {@link Themis#validate(String,
+   * long)} but without validating the <b>targetName</b> again.</p>
+   *
+   * @param target The <b>target</b> <code>long</code>.
+   *
+   * @return A <code>LongEunomia</code> to validate the specified
+   * <b>target</b> <code>long</code>. This will never be <code>null</code>.
+   *
+   * @see Themis#validate(String, long)
+   */
+  public LongEunomia validate(final long target) {
+    return new LongEunomia(messages, target, ThemisViolationHandler.THROWING);
+  }
+
+  /**
+   * <p>Creates a new {@link DoubleEunomia} to validate the specified
+   * <b>target</b> <code>double</code>, like {@link Themis#validate(String,
+   * double)} but without validating the <b>targetName</b> again.</p>
+   *
+   * @param target The <b>target</b> <code>double</code>.
+   *
+   * @return A <code>DoubleEunomia</code> to validate the specified
+   * <b>target</b> <code>double</code>. This will never be <code>null</code>.
+   *
+   * @see Themis#validate(String, double)
+   */
+  public DoubleEunomia validate(final double target) {
+
+    return new DoubleEunomia(
+        messages,
+        target,
+        ThemisViolationHandler.THROWING);
+  }
+
+  /**
+   * <p>Creates a new {@link StringEunomia} to check the specified
+   * <b>target</b> <code>String</code> without throwing, like {@link
+   * Themis#check(String, String)} but without validating the
+   * <b>targetName</b> again.</p>
+   *
+   * @param target The <b>target</b> <code>String</code>.
+   *
+   * @return A <code>StringEunomia</code> to check the specified
+   * <b>target</b> <code>String</code>. This will never be <code>null</code>.
+   *
+   * @see Themis#check(String, String)
+   */
+  public StringEunomia check(final String target) {
+
+    return new StringEunomia(
+        messages,
+        target,
+        ThemisViolationHandler.RECORDING);
+  }
+
+  /**
+   * <p>Creates a new {@link ObjectEunomia} to check the specified
+   * <b>target</b> <code>Object</code> without throwing, like {@link
+   * Themis#check(String, Object)} but without validating the
+   * <b>targetName</b> again.</p>
+   *
+   * @param target The <b>target</b> <code>Object</code>.
+   *
+   * @return An <code>ObjectEunomia</code> to check the specified
+   * <b>target</b> <code>Object</code>. This will never be <code>null</code>.
+   *
+   * @see Themis#check(String, Object)
+   */
+  public ObjectEunomia check(final Object target) {
+
+    return new ObjectEunomia(
+        messages,
+        target,
+        ThemisViolationHandler.RECORDING);
+  }
+
+  /**
+   * <p>Creates a new {@link IntEunomia} to check the specified <b>target</b>
+   * <code>int</code> without throwing, like {@link Themis#check(String, int)}
+   * but without validating the <b>targetName</b> again.</p>
+   *
+   * @param target The <b>target</b> <code>int</code>.
+   *
+   * @return An <code>IntEunomia</code> to check the specified <b>target</b>
+   * <code>int</code>. This will never be <code>null</code>.
+   *
+   * @see Themis#check(String, int)
+   */
+  public IntEunomia check(final int target) {
+    return new IntEunomia(messages, target, ThemisViolationHandler.RECORDING);
+  }
+
+  /**
+   * <p>Creates a new {@link LongEunomia} to check the specified
+   * <b>target</b> <code>long</code> without throwing, like {@link
+   * Themis#check(String, long)} but without validating the <b>targetName</b>
+   * again.</p>
+   *
+   * @param target The <b>target</b> <code>long</code>.
+   *
+   * @return A <code>LongEunomia</code> to check the specified <b>target</b>
+   * <code>long</code>. This will never be <code>null</code>.
+   *
+   * @see Themis#check(String, long)
+   */
+  public LongEunomia check(final long target) {
+
+    return new LongEunomia(
+        messages,
+        target,
+        ThemisViolationHandler.RECORDING);
+  }
+
+  /**
+   * <p>Creates a new {@link DoubleEunomia} to check the specified
+   * <b>target</b> <code>double</code> without throwing, like {@link
+   * Themis#check(String, double)} but without validating the
+   * <b>targetName</b> again.</p>
+   *
+   * @param target The <b>target</b> <code>double</code>.
+   *
+   * @return A <code>DoubleEunomia</code> to check the specified
+   * <b>target</b> <code>double</code>. This will never be <code>null</code>.
+   *
+   * @see Themis#check(String, double)
+   */
+  public DoubleEunomia check(final double target) {
+
+    return new DoubleEunomia(
+        messages,
+        target,
+        ThemisViolationHandler.RECORDING);
+  }
+
+}
@@ -0,0 +1,25 @@
+package uk.co.noop.themis.annotation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * <p>Validates the annotated field or record component against
+ * <code>null</code>, empty and blank values, like {@link
+ * uk.co.noop.themis.eunomia.StringEunomia#againstBlankStrings()}, when its
+ * owner is validated by {@link
+ * uk.co.noop.themis.Themis#validateAnnotated(Object)
+ * Themis.validateAnnotated}.</p>
+ *
+ * <p>The annotated type must be a <code>CharSequence</code>.</p>
+ *
+ * @see uk.co.noop.themis.Themis#validateAnnotated(Object)
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.FIELD, ElementType.RECORD_COMPONENT})
+public @interface NotBlank {
+}
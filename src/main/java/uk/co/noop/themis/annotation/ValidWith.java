@@ -0,0 +1,54 @@
+package uk.co.noop.themis.annotation;
+
+import uk.co.noop.themis.eunomia.AbstractEunomia;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * <p>Validates the annotated field or record component with a custom
+ * Eunomia, when its owner is validated by {@link
+ * uk.co.noop.themis.Themis#validateAnnotated(Object)
+ * Themis.validateAnnotated}.</p>
+ *
+ * <p>The Eunomia is created with its public <code>(String, X,
+ * ThemisViolationHandler)</code> constructor, where <code>X</code> is the
+ * most specific supertype of the annotated type, and then each of the
+ * named {@link #rules()} is called in turn. The rules must be public
+ * methods without parameters, e.g. <code>againstNullObjects</code>:</p>
+ *
+ * <p><code>
+ * &#64;ValidWith(value = UuidEunomia.class, rules = "againstNilUuids")<br>
+ * private final UUID id;
+ * </code></p>
+ *
+ * <p>The Eunomia is given the same <code>ThemisViolationHandler</code> as the
+ * owner is validated with, so a violation is reported with the exception,
+ * and message, that its rule supplies.</p>
+ *
+ * @see uk.co.noop.themis.Themis#validateAnnotated(Object)
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.FIELD, ElementType.RECORD_COMPONENT})
+public @interface ValidWith {
+
+  /**
+   * <p>The type of the custom Eunomia.</p>
+   *
+   * @return The type of the custom Eunomia.
+   */
+  @SuppressWarnings("rawtypes")
+  Class<? extends AbstractEunomia> value();
+
+  /**
+   * <p>The names of the rules to call, in order.</p>
+   *
+   * @return The names of the rules.
+   */
+  String[] rules();
+
+}
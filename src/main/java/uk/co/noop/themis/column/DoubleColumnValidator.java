@@ -0,0 +1,141 @@
+package uk.co.noop.themis.column;
+
+
+import java.util.function.DoublePredicate;
+
+/**
+ * <p>An immutable, precompiled chain of rules for a named column of
+ * <code>double</code> values, applied to a whole <code>double[]</code> at a
+ * time.</p>
+ *
+ * <p>The range rules are merged into a single bound when the plan is built,
+ * and each value's result is shifted straight into the failure mask without
+ * a branch. As in {@link uk.co.noop.themis.rule.NumberRules NumberRules},
+ * <code>NaN</code> fails every rule except the negative and zero rules. Any
+ * <code>DoublePredicate</code> is only tested against values that passed the
+ * other rules.</p>
+ *
+ * @see ThemisColumns#forDoubles(String)
+ * @see DoubleColumnValidatorBuilder
+ */
+public final class DoubleColumnValidator {
+
+  private final String targetName;
+  private final boolean ranged;
+  private final double min;
+  private final double max;
+  private final boolean negative;
+  private final boolean zero;
+  private final boolean nan;
+  private final DoublePredicate[] predicates;
+
+  DoubleColumnValidator(
+      final String targetName,
+      final boolean ranged,
+      final double min,
+      final double max,
+      final boolean negative,
+      final boolean zero,
+      final boolean nan,
+      final DoublePredicate[] predicates) {
+
+    super();
+    this.targetName = targetName;
+    this.ranged = ranged;
+    this.min = min;
+    this.max = max;
+    this.negative = negative;
+    this.zero = zero;
+    this.nan = nan;
+    this.predicates = predicates;
+  }
+
+  /**
+   * <p>Returns the name of the <b>target</b> column.</p>
+   *
+   * @return The name of the <b>target</b> column. This will never be
+   * <code>null</code>.
+   */
+  public String getTargetName() {
+    return targetName;
+  }
+
+  /**
+   * <p>Tests every value of the specified <b>column</b>.</p>
+   *
+   * @param column The <b>target</b> column.
+   *
+   * @return The failure mask and counts. This will never be
+   * <code>null</code>.
+   *
+   * @throws uk.co.noop.themis.exception.ThemisNullTargetException If
+   * <b>column</b> is <code>null</code>.
+   */
+  public ThemisColumnResult validate(final double[] column) {
+
+    ThemisColumns.againstNullColumns(targetName, column);
+
+    final long[] mask = new long[(column.length + 63) >>> 6];
+
+    int failureCount = 0;
+
+    for (int word = 0; word < mask.length; word++) {
+
+      final int from = word << 6;
+      final int to = Math.min(from + 64, column.length);
+
+      long bits = 0;
+
+      for (int i = from; i < to; i++) {
+
+        final double value = column[i];
+        final boolean failed = ranged & !(value >= min & value <= max)
+            | negative & value < 0
+            | zero & value == 0
+            | nan & value != value;
+
+        bits |= (failed ? 1L : 0L) << i;
+      }
+
+      if (predicates.length > 0) {
+        bits = testPredicates(column, from, to, bits);
+      }
+
+      mask[word] = bits;
+      failureCount += Long.bitCount(bits);
+    }
+
+    return new ThemisColumnResult(
+        targetName,
+        column.length,
+        mask,
+        failureCount,
+        null);
+  }
+
+  private long testPredicates(
+      final double[] column,
+      final int from,
+      final int to,
+      final long bits) {
+
+    long result = bits;
+
+    for (int i = from; i < to; i++) {
+
+      if ((result & 1L << i) != 0) {
+        continue;
+      }
+
+      for (final DoublePredicate predicate : predicates) {
+        if (predicate.test(column[i])) {
+          result |= 1L << i;
+          break;
+        }
+      }
+    }
+
+    return result;
+  }
+
+}
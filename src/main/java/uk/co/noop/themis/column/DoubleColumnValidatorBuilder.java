@@ -0,0 +1,184 @@
+package uk.co.noop.themis.column;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.DoublePredicate;
+
+/**
+ * <p>Builds a {@link DoubleColumnValidator} from the same rules as {@link
+ * uk.co.noop.themis.eunomia.DoubleEunomia DoubleEunomia}.</p>
+ *
+ * <p>A builder is not thread-safe, but the <code>DoubleColumnValidator</code>
+ * it builds is.</p>
+ *
+ * @see ThemisColumns#forDoubles(String)
+ */
+public final class DoubleColumnValidatorBuilder {
+
+  private final String targetName;
+  private final List<DoublePredicate> predicates = new ArrayList<>();
+
+  private boolean ranged;
+  private double min = Double.NEGATIVE_INFINITY;
+  private double max = Double.POSITIVE_INFINITY;
+  private boolean negative;
+  private boolean zero;
+  private boolean nan;
+
+  DoubleColumnValidatorBuilder(final String targetName) {
+    super();
+    this.targetName = targetName;
+  }
+
+  /**
+   * <p>Adds the rule against negative values. <code>-0.0</code> and
+   * <code>NaN</code> are not negative.</p>
+   *
+   * @return <code>this</code> builder. This will never be <code>null</code>.
+   *
+   * @see uk.co.noop.themis.eunomia.DoubleEunomia#againstNegativeValues()
+   */
+  public DoubleColumnValidatorBuilder againstNegativeValues() {
+
+    negative = true;
+
+    return this;
+  }
+
+  /**
+   * <p>Adds the rule against zero, positive or negative.</p>
+   *
+   * @return <code>this</code> builder. This will never be <code>null</code>.
+   *
+   * @see uk.co.noop.themis.eunomia.DoubleEunomia#againstZeroValues()
+   */
+  public DoubleColumnValidatorBuilder againstZeroValues() {
+
+    zero = true;
+
+    return this;
+  }
+
+  /**
+   * <p>Adds a rule against values less than the specified <b>min</b>, and
+   * <code>NaN</code>.</p>
+   *
+   * @param min The minimum valid value.
+   *
+   * @return <code>this</code> builder. This will never be <code>null</code>.
+   *
+   * @see uk.co.noop.themis.eunomia.DoubleEunomia#againstValuesBelow(double)
+   */
+  public DoubleColumnValidatorBuilder againstValuesBelow(final double min) {
+
+    ranged = true;
+    this.min = Math.max(this.min, min);
+
+    return this;
+  }
+
+  /**
+   * <p>Adds a rule against values greater than the specified <b>max</b>, and
+   * <code>NaN</code>.</p>
+   *
+   * @param max The maximum valid value.
+   *
+   * @return <code>this</code> builder. This will never be <code>null</code>.
+   *
+   * @see uk.co.noop.themis.eunomia.DoubleEunomia#againstValuesAbove(double)
+   */
+  public DoubleColumnValidatorBuilder againstValuesAbove(final double max) {
+
+    ranged = true;
+    this.max = Math.min(this.max, max);
+
+    return this;
+  }
+
+  /**
+   * <p>Adds a rule against values outside the range <b>min</b> to
+   * <b>max</b>, inclusive, and <code>NaN</code>.</p>
+   *
+   * @param min The minimum valid value.
+   * @param max The maximum valid value.
+   *
+   * @return <code>this</code> builder. This will never be <code>null</code>.
+   *
+   * @see uk.co.noop.themis.eunomia.DoubleEunomia#againstValuesOutside(
+   * double, double)
+   */
+  public DoubleColumnValidatorBuilder againstValuesOutside(
+      final double min,
+      final double max) {
+
+    return againstValuesBelow(min).againstValuesAbove(max);
+  }
+
+  /**
+   * <p>Adds the rule against <code>NaN</code>.</p>
+   *
+   * @return <code>this</code> builder. This will never be <code>null</code>.
+   *
+   * @see uk.co.noop.themis.eunomia.DoubleEunomia#againstNaNValues()
+   */
+  public DoubleColumnValidatorBuilder againstNaNValues() {
+
+    nan = true;
+
+    return this;
+  }
+
+  /**
+   * <p>Adds the rule against values that are not finite, i.e.
+   * <code>NaN</code> or infinite.</p>
+   *
+   * @return <code>this</code> builder. This will never be <code>null</code>.
+   *
+   * @see uk.co.noop.themis.eunomia.DoubleEunomia#againstNonFiniteValues()
+   */
+  public DoubleColumnValidatorBuilder againstNonFiniteValues() {
+    return againstValuesOutside(-Double.MAX_VALUE, Double.MAX_VALUE);
+  }
+
+  /**
+   * <p>Adds a rule against invalid values using the specified {@link
+   * DoublePredicate}.</p>
+   *
+   * @param predicate The <code>DoublePredicate</code> used to test each
+   *                  value. Returns <code>true</code> if the value is
+   *                  invalid. This should be stateless.
+   *
+   * @return <code>this</code> builder. This will never be <code>null</code>.
+   *
+   * @see uk.co.noop.themis.eunomia.DoubleEunomia#againstInvalidDoubles(
+   * DoublePredicate)
+   */
+  public DoubleColumnValidatorBuilder againstInvalidDoubles(
+      final DoublePredicate predicate) {
+
+    predicates.add(predicate);
+
+    return this;
+  }
+
+  /**
+   * <p>Builds an immutable {@link DoubleColumnValidator} from the rules so
+   * far.</p>
+   *
+   * @return A new <code>DoubleColumnValidator</code>. This will never be
+   * <code>null</code>.
+   */
+  public DoubleColumnValidator build() {
+
+    return new DoubleColumnValidator(
+        targetName,
+        ranged,
+        min,
+        max,
+        negative,
+        zero,
+        nan,
+        predicates.toArray(new DoublePredicate[0]));
+  }
+
+}
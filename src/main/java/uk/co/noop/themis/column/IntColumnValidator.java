@@ -0,0 +1,132 @@
+package uk.co.noop.themis.column;
+
+
+import java.util.function.IntPredicate;
+
+/**
+ * <p>An immutable, precompiled chain of rules for a named column of
+ * <code>int</code> values, applied to a whole <code>int[]</code> at a
+ * time.</p>
+ *
+ * <p>The range rules are merged into a single bound when the plan is built,
+ * so each value is tested with one unsigned comparison, and its result is
+ * shifted straight into the failure mask without a branch. Any
+ * <code>IntPredicate</code> is only tested against values that passed the
+ * range rules.</p>
+ *
+ * @see ThemisColumns#forInts(String)
+ * @see IntColumnValidatorBuilder
+ */
+public final class IntColumnValidator {
+
+  private final String targetName;
+  private final int min;
+  private final int range;
+  private final boolean empty;
+  private final boolean zero;
+  private final IntPredicate[] predicates;
+
+  IntColumnValidator(
+      final String targetName,
+      final int min,
+      final int max,
+      final boolean zero,
+      final IntPredicate[] predicates) {
+
+    super();
+    this.targetName = targetName;
+    this.min = min;
+    this.range = max - min;
+    this.empty = min > max;
+    this.zero = zero;
+    this.predicates = predicates;
+  }
+
+  /**
+   * <p>Returns the name of the <b>target</b> column.</p>
+   *
+   * @return The name of the <b>target</b> column. This will never be
+   * <code>null</code>.
+   */
+  public String getTargetName() {
+    return targetName;
+  }
+
+  /**
+   * <p>Tests every value of the specified <b>column</b>.</p>
+   *
+   * @param column The <b>target</b> column.
+   *
+   * @return The failure mask and counts. This will never be
+   * <code>null</code>.
+   *
+   * @throws uk.co.noop.themis.exception.ThemisNullTargetException If
+   * <b>column</b> is <code>null</code>.
+   */
+  public ThemisColumnResult validate(final int[] column) {
+
+    ThemisColumns.againstNullColumns(targetName, column);
+
+    final long[] mask = new long[(column.length + 63) >>> 6];
+
+    int failureCount = 0;
+
+    for (int word = 0; word < mask.length; word++) {
+
+      final int from = word << 6;
+      final int to = Math.min(from + 64, column.length);
+
+      long bits = 0;
+
+      for (int i = from; i < to; i++) {
+
+        final int value = column[i];
+        final boolean failed = Integer.compareUnsigned(value - min, range) > 0
+            | zero & value == 0
+            | empty;
+
+        bits |= (failed ? 1L : 0L) << i;
+      }
+
+      if (predicates.length > 0) {
+        bits = testPredicates(column, from, to, bits);
+      }
+
+      mask[word] = bits;
+      failureCount += Long.bitCount(bits);
+    }
+
+    return new ThemisColumnResult(
+        targetName,
+        column.length,
+        mask,
+        failureCount,
+        null);
+  }
+
+  private long testPredicates(
+      final int[] column,
+      final int from,
+      final int to,
+      final long bits) {
+
+    long result = bits;
+
+    for (int i = from; i < to; i++) {
+
+      if ((result & 1L << i) != 0) {
+        continue;
+      }
+
+      for (final IntPredicate predicate : predicates) {
+        if (predicate.test(column[i])) {
+          result |= 1L << i;
+          break;
+        }
+      }
+    }
+
+    return result;
+  }
+
+}
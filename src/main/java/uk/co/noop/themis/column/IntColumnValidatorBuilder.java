@@ -0,0 +1,162 @@
+package uk.co.noop.themis.column;
+
+import uk.co.noop.themis.rule.IntValueSet;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.IntPredicate;
+
+/**
+ * <p>Builds an {@link IntColumnValidator} from the same rules as {@link
+ * uk.co.noop.themis.eunomia.IntEunomia IntEunomia}.</p>
+ *
+ * <p>A builder is not thread-safe, but the <code>IntColumnValidator</code> it
+ * builds is.</p>
+ *
+ * @see ThemisColumns#forInts(String)
+ */
+public final class IntColumnValidatorBuilder {
+
+  private final String targetName;
+  private final List<IntPredicate> predicates = new ArrayList<>();
+
+  private int min = Integer.MIN_VALUE;
+  private int max = Integer.MAX_VALUE;
+  private boolean zero;
+
+  IntColumnValidatorBuilder(final String targetName) {
+    super();
+    this.targetName = targetName;
+  }
+
+  /**
+   * <p>Adds the rule against negative values.</p>
+   *
+   * @return <code>this</code> builder. This will never be <code>null</code>.
+   *
+   * @see uk.co.noop.themis.eunomia.IntEunomia#againstNegativeValues()
+   */
+  public IntColumnValidatorBuilder againstNegativeValues() {
+    return againstValuesBelow(0);
+  }
+
+  /**
+   * <p>Adds the rule against zero.</p>
+   *
+   * @return <code>this</code> builder. This will never be <code>null</code>.
+   *
+   * @see uk.co.noop.themis.eunomia.IntEunomia#againstZeroValues()
+   */
+  public IntColumnValidatorBuilder againstZeroValues() {
+
+    zero = true;
+
+    return this;
+  }
+
+  /**
+   * <p>Adds a rule against values less than the specified <b>min</b>.</p>
+   *
+   * @param min The minimum valid value.
+   *
+   * @return <code>this</code> builder. This will never be <code>null</code>.
+   *
+   * @see uk.co.noop.themis.eunomia.IntEunomia#againstValuesBelow(int)
+   */
+  public IntColumnValidatorBuilder againstValuesBelow(final int min) {
+
+    this.min = Math.max(this.min, min);
+
+    return this;
+  }
+
+  /**
+   * <p>Adds a rule against values greater than the specified <b>max</b>.</p>
+   *
+   * @param max The maximum valid value.
+   *
+   * @return <code>this</code> builder. This will never be <code>null</code>.
+   *
+   * @see uk.co.noop.themis.eunomia.IntEunomia#againstValuesAbove(int)
+   */
+  public IntColumnValidatorBuilder againstValuesAbove(final int max) {
+
+    this.max = Math.min(this.max, max);
+
+    return this;
+  }
+
+  /**
+   * <p>Adds a rule against values outside the range <b>min</b> to
+   * <b>max</b>, inclusive.</p>
+   *
+   * @param min The minimum valid value.
+   * @param max The maximum valid value.
+   *
+   * @return <code>this</code> builder. This will never be <code>null</code>.
+   *
+   * @see uk.co.noop.themis.eunomia.IntEunomia#againstValuesOutside(int, int)
+   */
+  public IntColumnValidatorBuilder againstValuesOutside(
+      final int min,
+      final int max) {
+
+    return againstValuesBelow(min).againstValuesAbove(max);
+  }
+
+  /**
+   * <p>Adds a rule against values that are not in the specified {@link
+   * IntValueSet}.</p>
+   *
+   * @param allowed The allowed values.
+   *
+   * @return <code>this</code> builder. This will never be <code>null</code>.
+   *
+   * @see uk.co.noop.themis.eunomia.IntEunomia#againstValuesNotIn(
+   * IntValueSet)
+   */
+  public IntColumnValidatorBuilder againstValuesNotIn(
+      final IntValueSet allowed) {
+
+    return againstInvalidInts(value -> !allowed.contains(value));
+  }
+
+  /**
+   * <p>Adds a rule against invalid values using the specified {@link
+   * IntPredicate}.</p>
+   *
+   * @param predicate The <code>IntPredicate</code> used to test each value.
+   *                  Returns <code>true</code> if the value is invalid. This
+   *                  should be stateless.
+   *
+   * @return <code>this</code> builder. This will never be <code>null</code>.
+   *
+   * @see uk.co.noop.themis.eunomia.IntEunomia#againstInvalidInts(
+   * IntPredicate)
+   */
+  public IntColumnValidatorBuilder againstInvalidInts(
+      final IntPredicate predicate) {
+
+    predicates.add(predicate);
+
+    return this;
+  }
+
+  /**
+   * <p>Builds an immutable {@link IntColumnValidator} from the rules so
+   * far.</p>
+   *
+   * @return A new <code>IntColumnValidator</code>. This will never be
+   * <code>null</code>.
+   */
+  public IntColumnValidator build() {
+
+    return new IntColumnValidator(
+        targetName,
+        min,
+        max,
+        zero,
+        predicates.toArray(new IntPredicate[0]));
+  }
+
+}
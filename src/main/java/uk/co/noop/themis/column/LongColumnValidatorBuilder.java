@@ -0,0 +1,162 @@
+package uk.co.noop.themis.column;
+
+import uk.co.noop.themis.rule.LongValueSet;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.LongPredicate;
+
+/**
+ * <p>Builds an {@link LongColumnValidator} from the same rules as {@link
+ * uk.co.noop.themis.eunomia.LongEunomia LongEunomia}.</p>
+ *
+ * <p>A builder is not thread-safe, but the <code>LongColumnValidator</code> it
+ * builds is.</p>
+ *
+ * @see ThemisColumns#forInts(String)
+ */
+public final class LongColumnValidatorBuilder {
+
+  private final String targetName;
+  private final List<LongPredicate> predicates = new ArrayList<>();
+
+  private long min = Long.MIN_VALUE;
+  private long max = Long.MAX_VALUE;
+  private boolean zero;
+
+  LongColumnValidatorBuilder(final String targetName) {
+    super();
+    this.targetName = targetName;
+  }
+
+  /**
+   * <p>Adds the rule against negative values.</p>
+   *
+   * @return <code>this</code> builder. This will never be <code>null</code>.
+   *
+   * @see uk.co.noop.themis.eunomia.LongEunomia#againstNegativeValues()
+   */
+  public LongColumnValidatorBuilder againstNegativeValues() {
+    return againstValuesBelow(0);
+  }
+
+  /**
+   * <p>Adds the rule against zero.</p>
+   *
+   * @return <code>this</code> builder. This will never be <code>null</code>.
+   *
+   * @see uk.co.noop.themis.eunomia.LongEunomia#againstZeroValues()
+   */
+  public LongColumnValidatorBuilder againstZeroValues() {
+
+    zero = true;
+
+    return this;
+  }
+
+  /**
+   * <p>Adds a rule against values less than the specified <b>min</b>.</p>
+   *
+   * @param min The minimum valid value.
+   *
+   * @return <code>this</code> builder. This will never be <code>null</code>.
+   *
+   * @see uk.co.noop.themis.eunomia.LongEunomia#againstValuesBelow(long)
+   */
+  public LongColumnValidatorBuilder againstValuesBelow(final long min) {
+
+    this.min = Math.max(this.min, min);
+
+    return this;
+  }
+
+  /**
+   * <p>Adds a rule against values greater than the specified <b>max</b>.</p>
+   *
+   * @param max The maximum valid value.
+   *
+   * @return <code>this</code> builder. This will never be <code>null</code>.
+   *
+   * @see uk.co.noop.themis.eunomia.LongEunomia#againstValuesAbove(long)
+   */
+  public LongColumnValidatorBuilder againstValuesAbove(final long max) {
+
+    this.max = Math.min(this.max, max);
+
+    return this;
+  }
+
+  /**
+   * <p>Adds a rule against values outside the range <b>min</b> to
+   * <b>max</b>, inclusive.</p>
+   *
+   * @param min The minimum valid value.
+   * @param max The maximum valid value.
+   *
+   * @return <code>this</code> builder. This will never be <code>null</code>.
+   *
+   * @see uk.co.noop.themis.eunomia.LongEunomia#againstValuesOutside(long, long)
+   */
+  public LongColumnValidatorBuilder againstValuesOutside(
+      final long min,
+      final long max) {
+
+    return againstValuesBelow(min).againstValuesAbove(max);
+  }
+
+  /**
+   * <p>Adds a rule against values that are not in the specified {@link
+   * LongValueSet}.</p>
+   *
+   * @param allowed The allowed values.
+   *
+   * @return <code>this</code> builder. This will never be <code>null</code>.
+   *
+   * @see uk.co.noop.themis.eunomia.LongEunomia#againstValuesNotIn(
+   * LongValueSet)
+   */
+  public LongColumnValidatorBuilder againstValuesNotIn(
+      final LongValueSet allowed) {
+
+    return againstInvalidLongs(value -> !allowed.contains(value));
+  }
+
+  /**
+   * <p>Adds a rule against invalid values using the specified {@link
+   * LongPredicate}.</p>
+   *
+   * @param predicate The <code>LongPredicate</code> used to test each value.
+   *                  Returns <code>true</code> if the value is invalid. This
+   *                  should be stateless.
+   *
+   * @return <code>this</code> builder. This will never be <code>null</code>.
+   *
+   * @see uk.co.noop.themis.eunomia.LongEunomia#againstInvalidLongs(
+   * LongPredicate)
+   */
+  public LongColumnValidatorBuilder againstInvalidLongs(
+      final LongPredicate predicate) {
+
+    predicates.add(predicate);
+
+    return this;
+  }
+
+  /**
+   * <p>Builds an immutable {@link LongColumnValidator} from the rules so
+   * far.</p>
+   *
+   * @return A new <code>LongColumnValidator</code>. This will never be
+   * <code>null</code>.
+   */
+  public LongColumnValidator build() {
+
+    return new LongColumnValidator(
+        targetName,
+        min,
+        max,
+        zero,
+        predicates.toArray(new LongPredicate[0]));
+  }
+
+}
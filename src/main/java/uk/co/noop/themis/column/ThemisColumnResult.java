@@ -0,0 +1,209 @@
+package uk.co.noop.themis.column;
+
+import uk.co.noop.themis.violation.ThemisViolationType;
+
+import java.util.BitSet;
+import java.util.Objects;
+
+/**
+ * <p>The immutable result of validating a whole column of values: a mask with
+ * one bit set for each invalid index, and the number of invalid values.</p>
+ *
+ * <p>The mask is stored as a <code>long[]</code> in the same layout as {@link
+ * BitSet#toLongArray()}, i.e. index <code>i</code> is bit <code>i % 64</code>
+ * of word <code>i / 64</code>.</p>
+ *
+ * @see ThemisColumns
+ */
+public final class ThemisColumnResult {
+
+  private static final ThemisViolationType[] VIOLATION_TYPES =
+      ThemisViolationType.values();
+
+  private final String targetName;
+  private final int size;
+  private final long[] mask;
+  private final int failureCount;
+  private final int[] counts;
+
+  ThemisColumnResult(
+      final String targetName,
+      final int size,
+      final long[] mask,
+      final int failureCount,
+      final int[] counts) {
+
+    super();
+    this.targetName = targetName;
+    this.size = size;
+    this.mask = mask;
+    this.failureCount = failureCount;
+    this.counts = counts;
+  }
+
+  /**
+   * <p>Returns the name of the <b>target</b> column.</p>
+   *
+   * @return The name of the <b>target</b> column. This will never be
+   * <code>null</code>.
+   */
+  public String getTargetName() {
+    return targetName;
+  }
+
+  /**
+   * <p>Returns whether every value in the column is valid.</p>
+   *
+   * @return <code>true</code> if every value is valid, otherwise
+   * <code>false</code>.
+   */
+  public boolean isValid() {
+    return failureCount == 0;
+  }
+
+  /**
+   * <p>Returns the number of values in the column.</p>
+   *
+   * @return The number of values in the column.
+   */
+  public int size() {
+    return size;
+  }
+
+  /**
+   * <p>Returns the number of invalid values in the column.</p>
+   *
+   * @return The number of invalid values.
+   */
+  public int getFailureCount() {
+    return failureCount;
+  }
+
+  /**
+   * <p>Returns the number of invalid values with the specified kind of
+   * violation. Every invalid primitive value is an {@link
+   * ThemisViolationType#INVALID_TARGET}.</p>
+   *
+   * @param violationType The kind of violation.
+   *
+   * @return The number of invalid values with the kind of violation.
+   */
+  public int getCount(final ThemisViolationType violationType) {
+
+    if (counts == null) {
+
+      return violationType == ThemisViolationType.INVALID_TARGET
+          ? failureCount
+          : 0;
+    }
+
+    return counts[violationType.ordinal()];
+  }
+
+  /**
+   * <p>Returns whether the value at the specified <b>index</b> is
+   * invalid.</p>
+   *
+   * @param index The index of the value.
+   *
+   * @return <code>true</code> if the value is invalid, otherwise
+   * <code>false</code>.
+   *
+   * @throws IndexOutOfBoundsException If <b>index</b> is out of range.
+   */
+  public boolean isFailed(final int index) {
+
+    Objects.checkIndex(index, size);
+
+    return (mask[index >>> 6] & 1L << index) != 0;
+  }
+
+  /**
+   * <p>Returns the index of the first invalid value at or after the
+   * specified <b>index</b>, to iterate over the invalid values:</p>
+   *
+   * <p><code>
+   * for (int i = result.nextFailure(0); i &gt;= 0;
+   * i = result.nextFailure(i + 1)) {<br>
+   * &nbsp; ...<br>
+   * }
+   * </code></p>
+   *
+   * @param index The index to start from, inclusive.
+   *
+   * @return The index of the next invalid value, or <code>-1</code> if there
+   * is none.
+   *
+   * @throws IndexOutOfBoundsException If <b>index</b> is negative.
+   */
+  public int nextFailure(final int index) {
+
+    if (index < 0) {
+      throw new IndexOutOfBoundsException(index);
+    }
+
+    int word = index >>> 6;
+
+    if (word >= mask.length) {
+      return -1;
+    }
+
+    long bits = mask[word] & -1L << index;
+
+    while (bits == 0) {
+
+      if (++word == mask.length) {
+        return -1;
+      }
+
+      bits = mask[word];
+    }
+
+    return (word << 6) + Long.numberOfTrailingZeros(bits);
+  }
+
+  /**
+   * <p>Returns a copy of the failure mask.</p>
+   *
+   * @return A new <code>long[]</code> in the layout of {@link
+   * BitSet#toLongArray()}. This will never be <code>null</code>.
+   */
+  public long[] getFailureMask() {
+    return mask.clone();
+  }
+
+  /**
+   * <p>Returns the failure mask as a new {@link BitSet}.</p>
+   *
+   * @return A new <code>BitSet</code> of the invalid indexes. This will never
+   * be <code>null</code>.
+   */
+  public BitSet toBitSet() {
+    return BitSet.valueOf(mask);
+  }
+
+  @Override
+  public String toString() {
+
+    final StringBuilder builder = new StringBuilder("ThemisColumnResult[")
+        .append(targetName)
+        .append(", size=")
+        .append(size)
+        .append(", failures=")
+        .append(failureCount);
+
+    if (counts != null) {
+      for (final ThemisViolationType violationType : VIOLATION_TYPES) {
+        if (counts[violationType.ordinal()] > 0) {
+          builder.append(", ")
+              .append(violationType)
+              .append('=')
+              .append(counts[violationType.ordinal()]);
+        }
+      }
+    }
+
+    return builder.append(']').toString();
+  }
+
+}
@@ -0,0 +1,161 @@
+package uk.co.noop.themis.column;
+
+import uk.co.noop.themis.eunomia.ThemisViolations;
+import uk.co.noop.themis.rule.StringRules;
+import uk.co.noop.themis.validator.ThemisValidator;
+import uk.co.noop.themis.violation.ThemisViolationHandler;
+import uk.co.noop.themis.violation.ThemisViolationType;
+
+/**
+ * <p>Validates whole columns of values at once, e.g. an <code>int[]</code> or
+ * a <code>String[]</code> with thousands of values, returning a {@link
+ * ThemisColumnResult} with a mask of the invalid indexes instead of throwing
+ * at the first.</p>
+ *
+ * <p>Primitive columns are validated by plans built once, which test every
+ * value in a tight loop over the array without boxing:</p>
+ *
+ * <p><code>
+ * private static final IntColumnValidator AGES =<br>
+ * &nbsp; ThemisColumns.forInts("age")<br>
+ * &nbsp; &nbsp; .againstValuesOutside(0, 150)<br>
+ * &nbsp; &nbsp; .build();<br>
+ * <br>
+ * final ThemisColumnResult result = AGES.validate(ages);
+ * </code></p>
+ *
+ * <p>Other columns are validated with a {@link ThemisValidator}.</p>
+ *
+ * @see ThemisColumnResult
+ */
+public final class ThemisColumns {
+
+  /**
+   * <p>Creates a new {@link IntColumnValidatorBuilder} for the named
+   * <b>target</b> column.</p>
+   *
+   * @param targetName The name of the <b>target</b> column.
+   *
+   * @return A new <code>IntColumnValidatorBuilder</code>. This will never be
+   * <code>null</code>.
+   *
+   * @throws uk.co.noop.themis.exception.ThemisTargetException Extensions of
+   * <code>ThemisTargetException</code> will be thrown for an invalid
+   * <b>targetName</b>.
+   */
+  public static IntColumnValidatorBuilder forInts(final String targetName) {
+
+    return new IntColumnValidatorBuilder(
+        StringRules.validateTargetName(targetName));
+  }
+
+  /**
+   * <p>Creates a new {@link LongColumnValidatorBuilder} for the named
+   * <b>target</b> column.</p>
+   *
+   * @param targetName The name of the <b>target</b> column.
+   *
+   * @return A new <code>LongColumnValidatorBuilder</code>. This will never be
+   * <code>null</code>.
+   *
+   * @throws uk.co.noop.themis.exception.ThemisTargetException Extensions of
+   * <code>ThemisTargetException</code> will be thrown for an invalid
+   * <b>targetName</b>.
+   */
+  public static LongColumnValidatorBuilder forLongs(final String targetName) {
+
+    return new LongColumnValidatorBuilder(
+        StringRules.validateTargetName(targetName));
+  }
+
+  /**
+   * <p>Creates a new {@link DoubleColumnValidatorBuilder} for the named
+   * <b>target</b> column.</p>
+   *
+   * @param targetName The name of the <b>target</b> column.
+   *
+   * @return A new <code>DoubleColumnValidatorBuilder</code>. This will never
+   * be <code>null</code>.
+   *
+   * @throws uk.co.noop.themis.exception.ThemisTargetException Extensions of
+   * <code>ThemisTargetException</code> will be thrown for an invalid
+   * <b>targetName</b>.
+   */
+  public static DoubleColumnValidatorBuilder forDoubles(
+      final String targetName) {
+
+
+    return new DoubleColumnValidatorBuilder(
+        StringRules.validateTargetName(targetName));
+  }
+
+  /**
+   * <p>Tests every value of the specified <b>column</b> with the specified
+   * {@link ThemisValidator}, counting the invalid values by kind of
+   * violation.</p>
+   *
+   * @param column The <b>target</b> column; its values may be
+   *               <code>null</code>.
+   * @param validator The <code>ThemisValidator</code> applied to each value.
+   *                  Its <b>targetName</b> names the column.
+   * @param <T> The value type.
+   *
+   * @return The failure mask and counts. This will never be
+   * <code>null</code>.
+   *
+   * @throws uk.co.noop.themis.exception.ThemisNullTargetException If
+   * <b>column</b> is <code>null</code>.
+   */
+  public static <T> ThemisColumnResult validate(
+      final T[] column,
+      final ThemisValidator<? super T> validator) {
+
+    final String targetName = validator.getTargetName();
+
+    againstNullColumns(targetName, column);
+
+    final long[] mask = new long[(column.length + 63) >>> 6];
+    final int[] counts = new int[ThemisViolationType.values().length];
+
+    int failureCount = 0;
+
+    for (int i = 0; i < column.length; i++) {
+
+      final ThemisViolationType violationType = validator.test(column[i]);
+
+      if (violationType != null) {
+        mask[i >>> 6] |= 1L << i;
+        counts[violationType.ordinal()]++;
+        failureCount++;
+      }
+    }
+
+    return new ThemisColumnResult(
+        targetName,
+        column.length,
+        mask,
+        failureCount,
+        counts);
+  }
+
+  /**
+   * <p>Raises a {@link ThemisViolationType#NULL_TARGET} violation, which
+   * throws, if the <b>column</b> is <code>null</code>.</p>
+   */
+  static void againstNullColumns(final String targetName, final Object column) {
+
+    if (column == null) {
+      ThemisViolations.raise(
+          targetName,
+          "againstNullColumns",
+          ThemisViolationType.NULL_TARGET,
+          () -> ThemisViolationType.NULL_TARGET.toException(targetName, null),
+          ThemisViolationHandler.THROWING);
+    }
+  }
+
+  private ThemisColumns() {
+    super();
+  }
+
+}
@@ -4,8 +4,13 @@ import uk.co.noop.themis.exception.ThemisEmptyTargetException;
 import uk.co.noop.themis.exception.ThemisInvalidTargetException;
 import uk.co.noop.themis.exception.ThemisNullTargetException;
 import uk.co.noop.themis.exception.ThemisTargetException;
+import uk.co.noop.themis.exception.ThemisTargetMessages;
+import uk.co.noop.themis.metrics.ThemisMetrics;
+import uk.co.noop.themis.rule.ThemisRule;
+import uk.co.noop.themis.violation.ThemisResult;
+import uk.co.noop.themis.violation.ThemisViolationHandler;
+import uk.co.noop.themis.violation.ThemisViolationType;
 
-import java.util.Optional;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
 
@@ -22,20 +27,140 @@ public abstract class AbstractEunomia<T, E extends AbstractEunomia<T, E>> {
 
   private final String targetName;
   private final T target;
+  private final ThemisViolationHandler violationHandler;
+  private final ThemisTargetMessages messages;
+
+  private ThemisResult result = ThemisResult.valid();
 
   /**
    * <p>Creates a new instance of <code>AbstractEunomia</code> using the
    * specified <b>targetName</b> and <b>target</b>.</p>
    *
+   * <p>Violations will result in a {@link ThemisTargetException}.</p>
+   *
    * @param targetName The <b>target</b> name; this should not be
    *                   <code>null</code>, empty or contain only whitespace
    *                   characters but this is not validated.
    * @param target The target.
    */
   protected AbstractEunomia(final String targetName, final T target) {
+    this(targetName, target, ThemisViolationHandler.THROWING);
+  }
+
+  /**
+   * <p>Creates a new instance of <code>AbstractEunomia</code> using the
+   * specified <b>targetName</b>, <b>target</b> and
+   * <b>violationHandler</b>.</p>
+   *
+   * @param targetName The <b>target</b> name; this should not be
+   *                   <code>null</code>, empty or contain only whitespace
+   *                   characters but this is not validated.
+   * @param target The target.
+   * @param violationHandler Handles any violations detected; this should not
+   *                         be <code>null</code> but this is not validated.
+   *
+   * @see ThemisViolationHandler
+   */
+  protected AbstractEunomia(
+      final String targetName,
+      final T target,
+      final ThemisViolationHandler violationHandler) {
+
     super();
     this.targetName = targetName;
     this.target = target;
+    this.violationHandler = violationHandler;
+    this.messages = null;
+  }
+
+  /**
+   * <p>Creates a new instance of <code>AbstractEunomia</code> using the
+   * <b>targetName</b> and prebuilt exception messages of the specified
+   * <b>messages</b>, the <b>target</b> and the <b>violationHandler</b>.</p>
+   *
+   * <p>Any <code>ThemisTargetException</code> will take its message from
+   * <b>messages</b> instead of formatting one.</p>
+   *
+   * @param messages The prebuilt messages; this should not be
+   *                 <code>null</code> but this is not validated.
+   * @param target The target.
+   * @param violationHandler Handles any violations detected; this should not
+   *                         be <code>null</code> but this is not validated.
+   *
+   * @see ThemisTargetMessages
+   * @see uk.co.noop.themis.ThemisTarget
+   */
+  protected AbstractEunomia(
+      final ThemisTargetMessages messages,
+      final T target,
+      final ThemisViolationHandler violationHandler) {
+
+    super();
+    this.targetName = messages.getTargetName();
+    this.target = target;
+    this.violationHandler = violationHandler;
+    this.messages = messages;
+  }
+
+  /**
+   * <p>Returns the {@link ThemisResult} of the checks made so far.</p>
+   *
+   * <p>When checking (See: {@link uk.co.noop.themis.Themis#check(String,
+   * String) Themis.check}) this describes the first violation detected, if
+   * any. When validating, any violation will already have thrown, so this is
+   * always valid.</p>
+   *
+   * @return The <code>ThemisResult</code> of the checks made so far. This will
+   * never be <code>null</code>.
+   *
+   * @see ThemisResult
+   */
+  public ThemisResult getResult() {
+    return result;
+  }
+
+  /**
+   * <p>Validates against the specified {@link ThemisRule}.</p>
+   *
+   * <p>This will result in the extension of {@link ThemisTargetException}
+   * matching the {@link ThemisViolationType} returned by the
+   * <code>ThemisRule</code>, if any.</p>
+   *
+   * <p>For example, to share a rule between many <b>targets</b>:</p>
+   *
+   * <p><code>
+   * Themis.validate("id", id).againstRule(StringRules.againstLongStrings(64));
+   * </code></p>
+   *
+   * @param rule The <code>ThemisRule</code> used to test the <b>target</b>.
+   *
+   * @return <code>this</code> instance of <code>AbstractEunomia</code> to
+   * further validate the <code>target</code>. This will never be
+   * <code>null</code>.
+   *
+   * @throws uk.co.noop.themis.exception.ThemisTargetException Extensions of
+   * <code>ThemisTargetException</code> will be thrown for any invalid parameter
+   * scenarios.
+   *
+   * @see ThemisRule
+   * @see uk.co.noop.themis.rule.StringRules
+   * @see uk.co.noop.themis.rule.ObjectRules
+   */
+  public E againstRule(final ThemisRule<? super T> rule) {
+
+    final long start = startSample();
+    final ThemisViolationType violationType = rule.test(getTarget());
+    final long latency = ThemisMetrics.latencySince(start);
+
+    if (violationType == null) {
+      return passed("againstRule", latency);
+    }
+
+    return violated(
+        "againstRule",
+        violationType,
+        () -> violationDetected(violationType),
+        latency);
   }
 
   /**
@@ -73,7 +198,45 @@ public abstract class AbstractEunomia<T, E extends AbstractEunomia<T, E>> {
    * @see uk.co.noop.themis.exception.ThemisTargetException
    */
   protected E againstInvalidValues(final Predicate<T> predicate) {
-    return againstInvalidValues(predicate, this::invalidTargetDetected);
+    return againstInvalidValues(ThemisMetrics.UNNAMED_RULE, predicate);
+  }
+
+  /**
+   * <p>Validates against invalid <b>target</b> values using the specified
+   * {@link Predicate}, recording the check under the specified <b>rule</b>
+   * name while {@link ThemisMetrics} are enabled.</p>
+   *
+   * @param rule The name of the rule, usually the name of the calling
+   *             method.
+   * @param predicate The <code>Predicate</code> used to test the
+   *                  <b>target</b>. Returns <code>true</code> if the
+   *                  <b>target</b> is invalid.
+   *
+   * @return <code>this</code> instance of <code>AbstractEunomia</code> to
+   * further validate the <code>target</code>. This will never be
+   * <code>null</code>.
+   *
+   * @throws uk.co.noop.themis.exception.ThemisTargetException Extensions of
+   * <code>ThemisTargetException</code> will be thrown for any invalid parameter
+   * scenarios.
+   *
+   * @see #againstInvalidValues(Predicate)
+   */
+  protected E againstInvalidValues(
+      final String rule,
+      final Predicate<T> predicate) {
+
+    final long start = startSample();
+
+    if (isInvalidTimed(rule, predicate)) {
+      return violated(
+          rule,
+          ThemisViolationType.INVALID_TARGET,
+          this::invalidTargetDetected,
+          ThemisMetrics.latencySince(start));
+    }
+
+    return passed(rule, ThemisMetrics.latencySince(start));
   }
 
   /**
@@ -95,6 +258,12 @@ public abstract class AbstractEunomia<T, E extends AbstractEunomia<T, E>> {
    * &nbsp; &nbsp; &nbsp; &nbsp;Objects::isNull, NullPointerException:new);
    * </code></p>
    *
+   * <p>The violation is recorded as
+   * {@link ThemisViolationType#INVALID_TARGET}; if the supplied exception is
+   * of another kind use
+   * {@link #againstInvalidValues(Predicate, ThemisViolationType, Supplier)}
+   * so that checking reports the same kind as validating.</p>
+   *
    * @param predicate The <code>Predicate</code> used to test the
    *                  <b>target</b>. Returns <code>true</code> if the
    *                  <b>target</b> is invalid.
@@ -113,10 +282,361 @@ public abstract class AbstractEunomia<T, E extends AbstractEunomia<T, E>> {
       final Predicate<T> predicate,
       final Supplier<? extends ThemisTargetException> exceptionSupplier) {
 
-    return Optional.ofNullable(getTarget())
-        .filter(t -> !predicate.test(t))
-        .map(t -> getEunomia())
-        .orElseThrow(exceptionSupplier);
+    return againstInvalidValues(
+        ThemisMetrics.UNNAMED_RULE,
+        predicate,
+        ThemisViolationType.INVALID_TARGET,
+        exceptionSupplier);
+  }
+
+  /**
+   * <p>Validates against invalid <b>target</b> values using the specified
+   * {@link Predicate}, handling a violation of the specified
+   * <b>violationType</b> with the <b>exceptionSupplier</b>.</p>
+   *
+   * <p>For example, a rule that rejects <code>null</code> <b>targets</b> with
+   * its own exception, and is reported as
+   * {@link ThemisViolationType#NULL_TARGET} when checking:</p>
+   *
+   * <p><code>
+   * againstInvalidValues(<br>
+   * &nbsp; &nbsp;target -&gt; false,<br>
+   * &nbsp; &nbsp;ThemisViolationType.NULL_TARGET,<br>
+   * &nbsp; &nbsp;this::nullTargetDetected);
+   * </code></p>
+   *
+   * @param predicate The <code>Predicate</code> used to test the
+   *                  <b>target</b>. Returns <code>true</code> if the
+   *                  <b>target</b> is invalid.
+   * @param violationType The kind of violation, matching the exception
+   *                      supplied.
+   * @param exceptionSupplier The <code>Exception</code> supplier for if the
+   *                          <b>target</b> is invalid.
+   *
+   * @return <code>this</code> instance of <code>AbstractEunomia</code> to
+   * further validate the <code>target</code>. This will never be
+   * <code>null</code>.
+   *
+   * @see ThemisViolationType
+   */
+  protected E againstInvalidValues(
+      final Predicate<T> predicate,
+      final ThemisViolationType violationType,
+      final Supplier<? extends ThemisTargetException> exceptionSupplier) {
+
+    return againstInvalidValues(
+        ThemisMetrics.UNNAMED_RULE,
+        predicate,
+        violationType,
+        exceptionSupplier);
+  }
+
+  /**
+   * <p>Validates against invalid <b>target</b> values using the specified
+   * {@link Predicate} and <b>exceptionSupplier</b>, recording the check under
+   * the specified <b>rule</b> name while {@link ThemisMetrics} are
+   * enabled.</p>
+   *
+   * @param rule The name of the rule, usually the name of the calling
+   *             method.
+   * @param predicate The <code>Predicate</code> used to test the
+   *                  <b>target</b>. Returns <code>true</code> if the
+   *                  <b>target</b> is invalid.
+   * @param exceptionSupplier The <code>Exception</code> supplier for if the
+   *                          <b>target</b> is invalid.
+   *
+   * @return <code>this</code> instance of <code>AbstractEunomia</code> to
+   * further validate the <code>target</code>. This will never be
+   * <code>null</code>.
+   *
+   * @see #againstInvalidValues(Predicate, Supplier)
+   */
+  protected E againstInvalidValues(
+      final String rule,
+      final Predicate<T> predicate,
+      final Supplier<? extends ThemisTargetException> exceptionSupplier) {
+
+    return againstInvalidValues(
+        rule,
+        predicate,
+        ThemisViolationType.INVALID_TARGET,
+        exceptionSupplier);
+  }
+
+  /**
+   * <p>Validates against invalid <b>target</b> values as
+   * {@link #againstInvalidValues(Predicate, ThemisViolationType, Supplier)}
+   * does, recording the check under the specified <b>rule</b> name while
+   * {@link ThemisMetrics} are enabled.</p>
+   *
+   * @param rule The name of the rule, usually the name of the calling
+   *             method.
+   * @param predicate The <code>Predicate</code> used to test the
+   *                  <b>target</b>. Returns <code>true</code> if the
+   *                  <b>target</b> is invalid.
+   * @param violationType The kind of violation, matching the exception
+   *                      supplied.
+   * @param exceptionSupplier The <code>Exception</code> supplier for if the
+   *                          <b>target</b> is invalid.
+   *
+   * @return <code>this</code> instance of <code>AbstractEunomia</code> to
+   * further validate the <code>target</code>. This will never be
+   * <code>null</code>.
+   */
+  protected E againstInvalidValues(
+      final String rule,
+      final Predicate<T> predicate,
+      final ThemisViolationType violationType,
+      final Supplier<? extends ThemisTargetException> exceptionSupplier) {
+
+    final long start = startSample();
+
+    if (isInvalidTimed(rule, predicate)) {
+      return violated(
+          rule,
+          violationType,
+          exceptionSupplier,
+          ThemisMetrics.latencySince(start));
+    }
+
+    return passed(rule, ThemisMetrics.latencySince(start));
+  }
+
+  /**
+   * <p>Tests the <b>target</b> using the specified {@link Predicate}.</p>
+   *
+   * <p>A <code>null</code> <b>target</b> is always invalid and is never passed
+   * to the <code>Predicate</code>.</p>
+   *
+   * <p>This allocates nothing, so the passing case of every check built on it
+   * is free of garbage.</p>
+   *
+   * @param predicate The <code>Predicate</code> used to test the
+   *                  <b>target</b>. Returns <code>true</code> if the
+   *                  <b>target</b> is invalid.
+   *
+   * @return <code>true</code> if the <b>target</b> is <code>null</code> or
+   * the <code>Predicate</code> returns <code>true</code>, otherwise
+   * <code>false</code>.
+   *
+   * @see Predicate
+   */
+  protected boolean isInvalid(final Predicate<T> predicate) {
+
+    final T target = getTarget();
+
+    return target == null || predicate.test(target);
+  }
+
+  /**
+   * <p>Handles the specified <b>violationType</b> returned by a rule, if
+   * any.</p>
+   *
+   * <p>The <code>ThemisTargetException</code> for the violation is created by
+   * {@link #violationDetected(ThemisViolationType)}, and only if it is
+   * needed.</p>
+   *
+   * @param violationType The kind of violation detected or <code>null</code>
+   *                      if the <b>target</b> is valid.
+   *
+   * @return <code>this</code> instance of <code>AbstractEunomia</code> to
+   * further validate the <code>target</code>. This will never be
+   * <code>null</code>.
+   *
+   * @throws ThemisTargetException If the <code>ThemisViolationHandler</code>
+   * throws on violations.
+   *
+   * @see #violated(ThemisViolationType, Supplier)
+   */
+  protected E againstViolation(final ThemisViolationType violationType) {
+    return againstViolation(ThemisMetrics.UNNAMED_RULE, violationType);
+  }
+
+  /**
+   * <p>Handles the specified <b>violationType</b> returned by a rule, if any,
+   * recording the check under the specified <b>rule</b> name while
+   * {@link ThemisMetrics} are enabled.</p>
+   *
+   * @param rule The name of the rule, usually the name of the calling
+   *             method.
+   * @param violationType The kind of violation detected or <code>null</code>
+   *                      if the <b>target</b> is valid.
+   *
+   * @return <code>this</code> instance of <code>AbstractEunomia</code> to
+   * further validate the <code>target</code>. This will never be
+   * <code>null</code>.
+   *
+   * @throws ThemisTargetException If the <code>ThemisViolationHandler</code>
+   * throws on violations.
+   *
+   * @see #againstViolation(ThemisViolationType)
+   */
+  protected E againstViolation(
+      final String rule,
+      final ThemisViolationType violationType) {
+
+    if (violationType == null) {
+      return passed(rule);
+    }
+
+    return violated(
+        rule,
+        violationType,
+        () -> violationDetected(violationType));
+  }
+
+  /**
+   * <p>Handles a violation of the <b>target</b>, either by throwing the
+   * {@link ThemisTargetException} supplied by the specified
+   * <b>exceptionSupplier</b> or by recording it in the {@link ThemisResult},
+   * depending on the {@link ThemisViolationHandler}.</p>
+   *
+   * <p>Only the first violation is handled and recorded in the
+   * <code>ThemisResult</code>; later violations of the same <b>target</b>,
+   * e.g. every rule after <code>againstNullObjects</code> failing for a
+   * <code>null</code> <b>target</b>, are ignored.</p>
+   *
+   * @param violationType The kind of violation.
+   * @param exceptionSupplier Supplies the <code>ThemisTargetException</code>
+   *                          for the violation.
+   *
+   * @return <code>this</code> instance of <code>AbstractEunomia</code> to
+   * further validate the <code>target</code>, if the
+   * <code>ThemisViolationHandler</code> does not throw. This will never be
+   * <code>null</code>.
+   *
+   * @throws ThemisTargetException If the <code>ThemisViolationHandler</code>
+   * throws on violations.
+   *
+   * @see ThemisViolationHandler
+   * @see ThemisViolationType
+   */
+  protected E violated(
+      final ThemisViolationType violationType,
+      final Supplier<? extends ThemisTargetException> exceptionSupplier) {
+
+    return violated(
+        ThemisMetrics.UNNAMED_RULE,
+        violationType,
+        exceptionSupplier);
+  }
+
+  /**
+   * <p>Handles a violation of the <b>target</b> as
+   * {@link #violated(ThemisViolationType, Supplier)} does, first recording
+   * the failed check under the specified <b>rule</b> name while
+   * {@link ThemisMetrics} are enabled.</p>
+   *
+   * @param rule The name of the rule, usually the name of the calling
+   *             method.
+   * @param violationType The kind of violation.
+   * @param exceptionSupplier Supplies the <code>ThemisTargetException</code>
+   *                          for the violation.
+   *
+   * @return <code>this</code> instance of <code>AbstractEunomia</code> to
+   * further validate the <code>target</code>, if the
+   * <code>ThemisViolationHandler</code> does not throw. This will never be
+   * <code>null</code>.
+   *
+   * @throws ThemisTargetException If the <code>ThemisViolationHandler</code>
+   * throws on violations.
+   */
+  protected E violated(
+      final String rule,
+      final ThemisViolationType violationType,
+      final Supplier<? extends ThemisTargetException> exceptionSupplier) {
+
+    return violated(
+        rule,
+        violationType,
+        exceptionSupplier,
+        ThemisMetrics.NOT_SAMPLED);
+  }
+
+  private E violated(
+      final String rule,
+      final ThemisViolationType violationType,
+      final Supplier<? extends ThemisTargetException> exceptionSupplier,
+      final long latencyNanos) {
+
+    if (ThemisMetrics.isEnabled()) {
+      ThemisMetrics.record(getTargetName(), rule, true, latencyNanos);
+    }
+
+    if (!result.isValid()) {
+      return getEunomia();
+    }
+
+    ThemisViolations.raise(
+        getTargetName(),
+        rule,
+        violationType,
+        exceptionSupplier,
+        violationHandler);
+
+    result = ThemisResult.invalid(getTargetName(), violationType);
+
+    return getEunomia();
+  }
+
+  /**
+   * <p>Records that the <b>target</b> passed the specified <b>rule</b> while
+   * {@link ThemisMetrics} are enabled. Rules that do not use
+   * {@link #againstViolation(String, ThemisViolationType)} or
+   * {@link #againstInvalidValues(String, Predicate)} call this when the
+   * <b>target</b> is valid.</p>
+   *
+   * @param rule The name of the rule, usually the name of the calling
+   *             method.
+   *
+   * @return <code>this</code> instance of <code>AbstractEunomia</code> to
+   * further validate the <code>target</code>. This will never be
+   * <code>null</code>.
+   */
+  protected E passed(final String rule) {
+    return passed(rule, ThemisMetrics.NOT_SAMPLED);
+  }
+
+  private E passed(final String rule, final long latencyNanos) {
+
+    if (ThemisMetrics.isEnabled()) {
+      ThemisMetrics.record(getTargetName(), rule, false, latencyNanos);
+    }
+
+    return getEunomia();
+  }
+
+  /**
+   * <p>Starts timing a check if it is sampled for {@link ThemisMetrics}. The
+   * start is kept in a local of the check, so an unsampled check reads no
+   * clock.</p>
+   */
+  private static long startSample() {
+
+    return ThemisMetrics.isEnabled()
+        ? ThemisMetrics.startSample()
+        : ThemisMetrics.NOT_SAMPLED;
+  }
+
+  /**
+   * <p>Tests the <b>target</b> as {@link #isInvalid(Predicate)} does, timing
+   * the <code>Predicate</code> while a Java Flight Recorder recording with
+   * the {@link SlowPredicateEvent} enabled is running.</p>
+   */
+  private boolean isInvalidTimed(
+      final String rule,
+      final Predicate<T> predicate) {
+
+    if (!FlightRecording.isSlowPredicateEnabled()) {
+      return isInvalid(predicate);
+    }
+
+    final Object event = FlightRecording.beginSlowPredicate();
+    final boolean invalid = isInvalid(predicate);
+
+    FlightRecording.endSlowPredicate(event, getTargetName(), rule, invalid);
+
+    return invalid;
   }
 
   /**
@@ -148,6 +668,33 @@ public abstract class AbstractEunomia<T, E extends AbstractEunomia<T, E>> {
    */
   protected abstract E getEunomia();
 
+  /**
+   * <p>Returns a new {@link ThemisTargetException} for the specified
+   * <b>violationType</b>.</p>
+   *
+   * <p>By default this delegates to {@link #nullTargetDetected()}, {@link
+   * #emptyTargetDetected()} and {@link #invalidTargetDetected()}, so overriding
+   * those also changes the exceptions for rules.</p>
+   *
+   * @param violationType The kind of violation.
+   *
+   * @return a new <code>ThemisTargetException</code>.
+   *
+   * @see ThemisViolationType#toException(String, Object)
+   */
+  protected ThemisTargetException violationDetected(
+      final ThemisViolationType violationType) {
+
+    return switch (violationType) {
+      case NULL_TARGET -> nullTargetDetected();
+      case EMPTY_TARGET -> emptyTargetDetected();
+      case INVALID_TARGET -> invalidTargetDetected();
+      case BLANK_TARGET_STRING -> messages == null
+          ? violationType.toException(getTargetName(), getTarget())
+          : messages.blankTargetString();
+    };
+  }
+
   /**
    * <p>Returns a new {@link ThemisNullTargetException}.</p>
    *
@@ -156,7 +703,10 @@ public abstract class AbstractEunomia<T, E extends AbstractEunomia<T, E>> {
    * @see ThemisNullTargetException
    */
   protected ThemisNullTargetException nullTargetDetected() {
-    return new ThemisNullTargetException(getTargetName());
+
+    return messages == null
+        ? new ThemisNullTargetException(getTargetName())
+        : messages.nullTarget();
   }
 
   /**
@@ -167,7 +717,10 @@ public abstract class AbstractEunomia<T, E extends AbstractEunomia<T, E>> {
    * @see ThemisEmptyTargetException
    */
   protected ThemisEmptyTargetException emptyTargetDetected() {
-    return new ThemisEmptyTargetException(getTargetName());
+
+    return messages == null
+        ? new ThemisEmptyTargetException(getTargetName())
+        : messages.emptyTarget();
   }
 
   /**
@@ -178,7 +731,10 @@ public abstract class AbstractEunomia<T, E extends AbstractEunomia<T, E>> {
    * @see ThemisInvalidTargetException
    */
   protected ThemisInvalidTargetException invalidTargetDetected() {
-    return new ThemisInvalidTargetException(getTargetName(), getTarget());
+
+    return messages == null
+        ? new ThemisInvalidTargetException(getTargetName(), getTarget())
+        : messages.invalidTarget(getTarget());
   }
 
 }
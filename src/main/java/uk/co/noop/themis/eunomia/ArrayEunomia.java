@@ -0,0 +1,228 @@
+package uk.co.noop.themis.eunomia;
+
+import uk.co.noop.themis.rule.CollectionRules;
+import uk.co.noop.themis.rule.ObjectRules;
+import uk.co.noop.themis.violation.ThemisViolationHandler;
+
+import java.util.function.Predicate;
+
+/**
+ * <p>A default Eunomia instance for validating against various invalid
+ * <b>target</b> array scenarios, including invalid elements.</p>
+ *
+ * <p>Element rules test <b>targets</b> with at least {@link
+ * CollectionRules#getParallelThreshold()} elements in parallel (See:
+ * {@link CollectionRules}).</p>
+ *
+ * @param <T> The element type.
+ */
+public class ArrayEunomia<T> extends AbstractEunomia<T[], ArrayEunomia<T>> {
+
+  /**
+   * <p>Creates a new instance of <code>ArrayEunomia</code> using the
+   * specified <b>targetName</b> and <b>target</b>.</p>
+   *
+   * @param targetName The <b>target</b> name; this should not be
+   *                   <code>null</code>, empty or contain only whitespace
+   *                   characters but this is not validated.
+   * @param target The target.
+   */
+  public ArrayEunomia(final String targetName, final T[] target) {
+    super(targetName, target);
+  }
+
+  /**
+   * <p>Creates a new instance of <code>ArrayEunomia</code> using the
+   * specified <b>targetName</b>, <b>target</b> and <b>violationHandler</b>.</p>
+   *
+   * @param targetName The <b>target</b> name; this should not be
+   *                   <code>null</code>, empty or contain only whitespace
+   *                   characters but this is not validated.
+   * @param target The target.
+   * @param violationHandler Handles any violations detected; this should not
+   *                         be <code>null</code> but this is not validated.
+   *
+   * @see ThemisViolationHandler
+   */
+  public ArrayEunomia(
+      final String targetName,
+      final T[] target,
+      final ThemisViolationHandler violationHandler) {
+
+    super(targetName, target, violationHandler);
+  }
+
+  /**
+   * <p>Validates against <code>null</code> <b>target</b> values.</p>
+   *
+   * <p>This will result in a {@link
+   * uk.co.noop.themis.exception.ThemisNullTargetException
+   * ThemisNullTargetException} if the <b>target</b> <code>array</code> is
+   * <code>null</code>.</p>
+   *
+   * @return <code>this</code> instance of {@link ArrayEunomia} to further
+   * validate the <b>target</b> <code>array</code>. This will never be
+   * <code>null</code>.
+   *
+   * @throws uk.co.noop.themis.exception.ThemisTargetException Extensions of
+   * <code>ThemisTargetException</code> will be thrown for any invalid parameter
+   * scenarios.
+   *
+   * @see ArrayEunomia
+   * @see uk.co.noop.themis.exception.ThemisNullTargetException
+   * @see uk.co.noop.themis.exception.ThemisTargetException
+   */
+  public ArrayEunomia<T> againstNullArrays() {
+
+    return againstViolation(
+        "againstNullArrays",
+        ObjectRules.nullObjectViolation(getTarget()));
+  }
+
+  /**
+   * <p>Validates against empty <b>target</b> values (<code>null</code> or
+   * an empty <code>array</code>).</p>
+   *
+   * <p>This will result in a {@link
+   * uk.co.noop.themis.exception.ThemisNullTargetException
+   * ThemisNullTargetException} if the <b>target</b> <code>array</code> is
+   * <code>null</code> or a {@link
+   * uk.co.noop.themis.exception.ThemisEmptyTargetException
+   * ThemisEmptyTargetException} if it has no elements.</p>
+   *
+   * @return <code>this</code> instance of {@link ArrayEunomia} to further
+   * validate the <b>target</b> <code>array</code>. This will never be
+   * <code>null</code>.
+   *
+   * @throws uk.co.noop.themis.exception.ThemisTargetException Extensions of
+   * <code>ThemisTargetException</code> will be thrown for any invalid parameter
+   * scenarios.
+   *
+   * @see ArrayEunomia
+   * @see uk.co.noop.themis.exception.ThemisNullTargetException
+   * @see uk.co.noop.themis.exception.ThemisEmptyTargetException
+   * @see uk.co.noop.themis.exception.ThemisTargetException
+   */
+  public ArrayEunomia<T> againstEmptyArrays() {
+
+    return againstViolation(
+        "againstEmptyArrays",
+        CollectionRules.emptyViolation(getTarget()));
+  }
+
+  /**
+   * <p>Validates against <b>target</b> values containing a
+   * <code>null</code> element.</p>
+   *
+   * <p>This will result in a {@link
+   * uk.co.noop.themis.exception.ThemisNullTargetException
+   * ThemisNullTargetException} if the <b>target</b> <code>array</code> is
+   * <code>null</code> or a {@link
+   * uk.co.noop.themis.exception.ThemisInvalidTargetException
+   * ThemisInvalidTargetException} if any element is <code>null</code>.</p>
+   *
+   * @return <code>this</code> instance of {@link ArrayEunomia} to further
+   * validate the <b>target</b> <code>array</code>. This will never be
+   * <code>null</code>.
+   *
+   * @throws uk.co.noop.themis.exception.ThemisTargetException Extensions of
+   * <code>ThemisTargetException</code> will be thrown for any invalid parameter
+   * scenarios.
+   *
+   * @see ArrayEunomia
+   * @see uk.co.noop.themis.exception.ThemisNullTargetException
+   * @see uk.co.noop.themis.exception.ThemisInvalidTargetException
+   * @see uk.co.noop.themis.exception.ThemisTargetException
+   */
+  public ArrayEunomia<T> againstNullElements() {
+
+    return againstViolation(
+        "againstNullElements",
+        CollectionRules.nullElementViolation(getTarget()));
+  }
+
+  /**
+   * <p>Validates against <b>target</b> values containing equal
+   * elements.</p>
+   *
+   * <p>This will result in a {@link
+   * uk.co.noop.themis.exception.ThemisNullTargetException
+   * ThemisNullTargetException} if the <b>target</b> <code>array</code> is
+   * <code>null</code> or a {@link
+   * uk.co.noop.themis.exception.ThemisInvalidTargetException
+   * ThemisInvalidTargetException} if any two elements are equal.</p>
+   *
+   * @return <code>this</code> instance of {@link ArrayEunomia} to further
+   * validate the <b>target</b> <code>array</code>. This will never be
+   * <code>null</code>.
+   *
+   * @throws uk.co.noop.themis.exception.ThemisTargetException Extensions of
+   * <code>ThemisTargetException</code> will be thrown for any invalid parameter
+   * scenarios.
+   *
+   * @see ArrayEunomia
+   * @see uk.co.noop.themis.exception.ThemisNullTargetException
+   * @see uk.co.noop.themis.exception.ThemisInvalidTargetException
+   * @see uk.co.noop.themis.exception.ThemisTargetException
+   */
+  public ArrayEunomia<T> againstDuplicateElements() {
+
+    return againstViolation(
+        "againstDuplicateElements",
+        CollectionRules.duplicateElementViolation(getTarget()));
+  }
+
+  /**
+   * <p>Validates against <b>target</b> values containing an element that
+   * is invalid according to the specified {@link Predicate}.</p>
+   *
+   * <p>This will result in a {@link
+   * uk.co.noop.themis.exception.ThemisNullTargetException
+   * ThemisNullTargetException} if the <b>target</b> <code>array</code> is
+   * <code>null</code> or a {@link
+   * uk.co.noop.themis.exception.ThemisInvalidTargetException
+   * ThemisInvalidTargetException} if the <code>Predicate</code> returns
+   * <code>true</code> for any element.</p>
+   *
+   * <p>For example:</p>
+   *
+   * <p><code>
+   * Themis.validateArray("ids", ids)<br>
+   * &nbsp; &nbsp;.againstInvalidElements(String::isBlank);
+   * </code></p>
+   *
+   * @param predicate The <code>Predicate</code> used to test each element.
+   *                  Returns <code>true</code> if the element is invalid.
+   *                  This should be thread-safe.
+   *
+   * @return <code>this</code> instance of {@link ArrayEunomia} to further
+   * validate the <b>target</b> <code>array</code>. This will never be
+   * <code>null</code>.
+   *
+   * @throws uk.co.noop.themis.exception.ThemisTargetException Extensions of
+   * <code>ThemisTargetException</code> will be thrown for any invalid parameter
+   * scenarios.
+   *
+   * @see ArrayEunomia
+   * @see uk.co.noop.themis.exception.ThemisNullTargetException
+   * @see uk.co.noop.themis.exception.ThemisInvalidTargetException
+   * @see uk.co.noop.themis.exception.ThemisTargetException
+   */
+  public ArrayEunomia<T> againstInvalidElements(
+      final Predicate<? super T> predicate) {
+
+    return againstViolation(
+        "againstInvalidElements",
+        CollectionRules.invalidElementViolation(getTarget(), predicate));
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @return <code>this</code> instance of <code>ArrayEunomia</code>.
+   */
+  protected ArrayEunomia<T> getEunomia() {
+    return this;
+  }
+
+}
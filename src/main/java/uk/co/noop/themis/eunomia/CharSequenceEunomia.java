@@ -0,0 +1,363 @@
+package uk.co.noop.themis.eunomia;
+
+import uk.co.noop.themis.rule.CharSequenceRules;
+import uk.co.noop.themis.rule.CharacterSet;
+import uk.co.noop.themis.rule.ObjectRules;
+import uk.co.noop.themis.violation.ThemisViolationHandler;
+
+import java.util.function.Predicate;
+
+/**
+ * <p>A default Eunomia instance for validating against various invalid
+ * <b>target</b> <code>CharSequence</code> scenarios, e.g. a
+ * <code>StringBuilder</code> or a <code>CharBuffer</code>.</p>
+ *
+ * <p>The <b>target</b> is read in place with <code>charAt</code> (See:
+ * {@link CharSequenceRules}) and never converted to a <code>String</code>,
+ * so it can be rejected without being copied.</p>
+ */
+public class CharSequenceEunomia
+    extends AbstractEunomia<CharSequence, CharSequenceEunomia> {
+
+  /**
+   * <p>Creates a new instance of <code>CharSequenceEunomia</code> using the
+   * specified <b>targetName</b> and <b>target</b>.</p>
+   *
+   * @param targetName The <b>target</b> name; this should not be
+   *                   <code>null</code>, empty or contain only whitespace
+   *                   characters but this is not validated.
+   * @param target The target.
+   */
+  public CharSequenceEunomia(
+      final String targetName,
+      final CharSequence target) {
+
+    super(targetName, target);
+  }
+
+  /**
+   * <p>Creates a new instance of <code>CharSequenceEunomia</code> using the
+   * specified <b>targetName</b>, <b>target</b> and <b>violationHandler</b>.</p>
+   *
+   * @param targetName The <b>target</b> name; this should not be
+   *                   <code>null</code>, empty or contain only whitespace
+   *                   characters but this is not validated.
+   * @param target The target.
+   * @param violationHandler Handles any violations detected; this should not
+   *                         be <code>null</code> but this is not validated.
+   *
+   * @see ThemisViolationHandler
+   */
+  public CharSequenceEunomia(
+      final String targetName,
+      final CharSequence target,
+      final ThemisViolationHandler violationHandler) {
+
+    super(targetName, target, violationHandler);
+  }
+
+  /**
+   * <p>Validates against <code>null</code> <b>target</b> values.</p>
+   *
+   * <p>This will result in a {@link
+   * uk.co.noop.themis.exception.ThemisNullTargetException
+   * ThemisNullTargetException} if the <b>target</b>
+   * <code>CharSequence</code> is <code>null</code>.</p>
+   *
+   * @return <code>this</code> instance of {@link CharSequenceEunomia} to
+   * further validate the <b>target</b> <code>CharSequence</code>. This will
+   * never be <code>null</code>.
+   *
+   * @throws uk.co.noop.themis.exception.ThemisTargetException Extensions of
+   * <code>ThemisTargetException</code> will be thrown for any invalid parameter
+   * scenarios.
+   *
+   * @see CharSequenceEunomia
+   * @see uk.co.noop.themis.exception.ThemisNullTargetException
+   * @see uk.co.noop.themis.exception.ThemisTargetException
+   */
+  public CharSequenceEunomia againstNullCharSequences() {
+
+    return againstViolation(
+        "againstNullCharSequences",
+        ObjectRules.nullObjectViolation(getTarget()));
+  }
+
+  /**
+   * <p>Validates against empty <b>target</b> values (<code>null</code> or an
+   * empty <code>CharSequence</code>).</p>
+   *
+   * <p>This will result in a {@link
+   * uk.co.noop.themis.exception.ThemisNullTargetException
+   * ThemisNullTargetException} if the <b>target</b>
+   * <code>CharSequence</code> is <code>null</code> or a {@link
+   * uk.co.noop.themis.exception.ThemisEmptyTargetException
+   * ThemisEmptyTargetException} if it is empty.</p>
+   *
+   * @return <code>this</code> instance of {@link CharSequenceEunomia} to
+   * further validate the <b>target</b> <code>CharSequence</code>. This will
+   * never be <code>null</code>.
+   *
+   * @throws uk.co.noop.themis.exception.ThemisTargetException Extensions of
+   * <code>ThemisTargetException</code> will be thrown for any invalid parameter
+   * scenarios.
+   *
+   * @see CharSequenceEunomia
+   * @see uk.co.noop.themis.exception.ThemisNullTargetException
+   * @see uk.co.noop.themis.exception.ThemisEmptyTargetException
+   * @see uk.co.noop.themis.exception.ThemisTargetException
+   */
+  public CharSequenceEunomia againstEmptyCharSequences() {
+
+    return againstViolation(
+        "againstEmptyCharSequences",
+        CharSequenceRules.emptyViolation(getTarget()));
+  }
+
+  /**
+   * <p>Validates against blank <b>target</b> values (<code>null</code>, an
+   * empty <code>CharSequence</code> or a <code>CharSequence</code> containing
+   * only whitespace characters).</p>
+   *
+   * <p>This will result in a {@link
+   * uk.co.noop.themis.exception.ThemisNullTargetException
+   * ThemisNullTargetException} if the <b>target</b>
+   * <code>CharSequence</code> is <code>null</code>, a {@link
+   * uk.co.noop.themis.exception.ThemisEmptyTargetException
+   * ThemisEmptyTargetException} if it is empty or a {@link
+   * uk.co.noop.themis.exception.ThemisBlankTargetStringException
+   * ThemisBlankTargetStringException} if it contains only whitespace
+   * characters.</p>
+   *
+   * @return <code>this</code> instance of {@link CharSequenceEunomia} to
+   * further validate the <b>target</b> <code>CharSequence</code>. This will
+   * never be <code>null</code>.
+   *
+   * @throws uk.co.noop.themis.exception.ThemisTargetException Extensions of
+   * <code>ThemisTargetException</code> will be thrown for any invalid parameter
+   * scenarios.
+   *
+   * @see CharSequenceEunomia
+   * @see uk.co.noop.themis.exception.ThemisBlankTargetStringException
+   * @see uk.co.noop.themis.exception.ThemisTargetException
+   */
+  public CharSequenceEunomia againstBlankCharSequences() {
+
+    return againstViolation(
+        "againstBlankCharSequences",
+        CharSequenceRules.blankViolation(getTarget()));
+  }
+
+  /**
+   * <p>Validates against short <b>target</b> values (<code>null</code> or a
+   * <code>CharSequence</code> shorter than the specified
+   * <b>minLength</b>).</p>
+   *
+   * <p>This will result in a {@link
+   * uk.co.noop.themis.exception.ThemisNullTargetException
+   * ThemisNullTargetException} if the <b>target</b>
+   * <code>CharSequence</code> is <code>null</code> or a {@link
+   * uk.co.noop.themis.exception.ThemisInvalidTargetException
+   * ThemisInvalidTargetException} if it is shorter than <b>minLength</b>
+   * <code>char</code> values.</p>
+   *
+   * @param minLength The minimum length, in <code>char</code> values.
+   *
+   * @return <code>this</code> instance of {@link CharSequenceEunomia} to
+   * further validate the <b>target</b> <code>CharSequence</code>. This will
+   * never be <code>null</code>.
+   *
+   * @throws uk.co.noop.themis.exception.ThemisTargetException Extensions of
+   * <code>ThemisTargetException</code> will be thrown for any invalid parameter
+   * scenarios.
+   *
+   * @see CharSequenceEunomia
+   * @see uk.co.noop.themis.exception.ThemisInvalidTargetException
+   * @see uk.co.noop.themis.exception.ThemisTargetException
+   */
+  public CharSequenceEunomia againstShortCharSequences(final int minLength) {
+
+    return againstViolation(
+        "againstShortCharSequences",
+        CharSequenceRules.shortViolation(getTarget(), minLength));
+  }
+
+  /**
+   * <p>Validates against long <b>target</b> values (<code>null</code> or a
+   * <code>CharSequence</code> longer than the specified
+   * <b>maxLength</b>).</p>
+   *
+   * <p>This will result in a {@link
+   * uk.co.noop.themis.exception.ThemisNullTargetException
+   * ThemisNullTargetException} if the <b>target</b>
+   * <code>CharSequence</code> is <code>null</code> or a {@link
+   * uk.co.noop.themis.exception.ThemisInvalidTargetException
+   * ThemisInvalidTargetException} if it is longer than <b>maxLength</b>
+   * <code>char</code> values.</p>
+   *
+   * @param maxLength The maximum length, in <code>char</code> values.
+   *
+   * @return <code>this</code> instance of {@link CharSequenceEunomia} to
+   * further validate the <b>target</b> <code>CharSequence</code>. This will
+   * never be <code>null</code>.
+   *
+   * @throws uk.co.noop.themis.exception.ThemisTargetException Extensions of
+   * <code>ThemisTargetException</code> will be thrown for any invalid parameter
+   * scenarios.
+   *
+   * @see CharSequenceEunomia
+   * @see uk.co.noop.themis.exception.ThemisInvalidTargetException
+   * @see uk.co.noop.themis.exception.ThemisTargetException
+   */
+  public CharSequenceEunomia againstLongCharSequences(final int maxLength) {
+
+    return againstViolation(
+        "againstLongCharSequences",
+        CharSequenceRules.longViolation(getTarget(), maxLength));
+  }
+
+  /**
+   * <p>Validates against <b>target</b> values (<code>null</code> or a
+   * <code>CharSequence</code>) containing any <code>char</code> outside the
+   * specified {@link CharacterSet}.</p>
+   *
+   * <p>This will result in a {@link
+   * uk.co.noop.themis.exception.ThemisNullTargetException
+   * ThemisNullTargetException} if the <b>target</b>
+   * <code>CharSequence</code> is <code>null</code> or a {@link
+   * uk.co.noop.themis.exception.ThemisInvalidTargetException
+   * ThemisInvalidTargetException} if it contains a <code>char</code> that is
+   * not allowed.</p>
+   *
+   * @param allowed The allowed characters.
+   *
+   * @return <code>this</code> instance of {@link CharSequenceEunomia} to
+   * further validate the <b>target</b> <code>CharSequence</code>. This will
+   * never be <code>null</code>.
+   *
+   * @throws uk.co.noop.themis.exception.ThemisTargetException Extensions of
+   * <code>ThemisTargetException</code> will be thrown for any invalid parameter
+   * scenarios.
+   *
+   * @see CharacterSet
+   * @see CharSequenceEunomia
+   * @see uk.co.noop.themis.exception.ThemisInvalidTargetException
+   * @see uk.co.noop.themis.exception.ThemisTargetException
+   */
+  public CharSequenceEunomia againstCharactersOutside(
+      final CharacterSet allowed) {
+
+    return againstViolation(
+        "againstCharactersOutside",
+        CharSequenceRules.charactersOutsideViolation(getTarget(), allowed));
+  }
+
+  /**
+   * <p>Validates against <b>target</b> values (<code>null</code> or a
+   * <code>CharSequence</code>) containing any non-ASCII <code>char</code>,
+   * i.e. any <code>char</code> above <code>0x7F</code>.</p>
+   *
+   * <p>This will result in a {@link
+   * uk.co.noop.themis.exception.ThemisNullTargetException
+   * ThemisNullTargetException} if the <b>target</b>
+   * <code>CharSequence</code> is <code>null</code> or a {@link
+   * uk.co.noop.themis.exception.ThemisInvalidTargetException
+   * ThemisInvalidTargetException} if it contains a non-ASCII
+   * <code>char</code>.</p>
+   *
+   * @return <code>this</code> instance of {@link CharSequenceEunomia} to
+   * further validate the <b>target</b> <code>CharSequence</code>. This will
+   * never be <code>null</code>.
+   *
+   * @throws uk.co.noop.themis.exception.ThemisTargetException Extensions of
+   * <code>ThemisTargetException</code> will be thrown for any invalid parameter
+   * scenarios.
+   *
+   * @see CharSequenceEunomia
+   * @see uk.co.noop.themis.exception.ThemisInvalidTargetException
+   * @see uk.co.noop.themis.exception.ThemisTargetException
+   */
+  public CharSequenceEunomia againstNonAsciiCharacters() {
+
+    return againstViolation(
+        "againstNonAsciiCharacters",
+        CharSequenceRules.nonAsciiCharactersViolation(getTarget()));
+  }
+
+  /**
+   * <p>Validates against <b>target</b> values (<code>null</code> or a
+   * <code>CharSequence</code>) containing any ISO control <code>char</code>
+   * (See: {@link Character#isISOControl(char)}).</p>
+   *
+   * <p>This will result in a {@link
+   * uk.co.noop.themis.exception.ThemisNullTargetException
+   * ThemisNullTargetException} if the <b>target</b>
+   * <code>CharSequence</code> is <code>null</code> or a {@link
+   * uk.co.noop.themis.exception.ThemisInvalidTargetException
+   * ThemisInvalidTargetException} if it contains a control
+   * <code>char</code>.</p>
+   *
+   * @return <code>this</code> instance of {@link CharSequenceEunomia} to
+   * further validate the <b>target</b> <code>CharSequence</code>. This will
+   * never be <code>null</code>.
+   *
+   * @throws uk.co.noop.themis.exception.ThemisTargetException Extensions of
+   * <code>ThemisTargetException</code> will be thrown for any invalid parameter
+   * scenarios.
+   *
+   * @see CharSequenceEunomia
+   * @see uk.co.noop.themis.exception.ThemisInvalidTargetException
+   * @see uk.co.noop.themis.exception.ThemisTargetException
+   */
+  public CharSequenceEunomia againstControlCharacters() {
+
+    return againstViolation(
+        "againstControlCharacters",
+        CharSequenceRules.controlCharactersViolation(getTarget()));
+  }
+
+  /**
+   * <p>Validates against invalid <b>target</b> values using the specified
+   * {@link Predicate}.</p>
+   *
+   * <p>This will result in a {@link
+   * uk.co.noop.themis.exception.ThemisInvalidTargetException
+   * ThemisInvalidTargetException} if the <code>Predicate</code> returns
+   * <code>true</code> when testing the <b>target</b>
+   * <code>CharSequence</code>.</p>
+   *
+   * @param predicate The <code>Predicate</code> used to test the
+   *                  <b>target</b> <code>CharSequence</code>. Returns
+   *                  <code>true</code> if the <b>target</b>
+   *                  <code>CharSequence</code> is invalid.
+   *
+   * @return <code>this</code> instance of {@link CharSequenceEunomia} to
+   * further validate the <b>target</b> <code>CharSequence</code>. This will
+   * never be <code>null</code>.
+   *
+   * @throws uk.co.noop.themis.exception.ThemisTargetException Extensions of
+   * <code>ThemisTargetException</code> will be thrown for any invalid parameter
+   * scenarios.
+   *
+   * @see Predicate
+   * @see CharSequenceEunomia
+   * @see uk.co.noop.themis.exception.ThemisInvalidTargetException
+   * @see uk.co.noop.themis.exception.ThemisTargetException
+   */
+  public CharSequenceEunomia againstInvalidCharSequences(
+      final Predicate<CharSequence> predicate) {
+
+    return againstInvalidValues("againstInvalidCharSequences", predicate);
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @return <code>this</code> instance of <code>CharSequenceEunomia</code>.
+   */
+  @Override
+  protected CharSequenceEunomia getEunomia() {
+    return this;
+  }
+
+}
@@ -0,0 +1,372 @@
+package uk.co.noop.themis.eunomia;
+
+import uk.co.noop.themis.exception.ThemisTargetMessages;
+import uk.co.noop.themis.rule.NumberRules;
+import uk.co.noop.themis.rule.ThemisRule;
+import uk.co.noop.themis.violation.ThemisViolationHandler;
+import uk.co.noop.themis.violation.ThemisViolationType;
+
+import java.util.function.DoublePredicate;
+
+/**
+ * <p>A default Eunomia instance for validating against various invalid
+ * <b>target</b> <code>double</code> scenarios.</p>
+ *
+ * <p>The <b>target</b> is held as a <code>double</code> and tested with
+ * {@link NumberRules} or an {@link DoublePredicate}, so validating a valid
+ * <b>target</b> never boxes it. It is only boxed, as a <code>Double</code>,
+ * for the message of a {@link
+ * uk.co.noop.themis.exception.ThemisInvalidTargetException
+ * ThemisInvalidTargetException}, to apply a {@link
+ * uk.co.noop.themis.rule.ThemisRule ThemisRule} or to test it with the
+ * <code>Predicate</code> of a sub-class calling
+ * {@link #againstInvalidValues(java.util.function.Predicate)}. Recording
+ * {@link uk.co.noop.themis.metrics.ThemisMetrics ThemisMetrics} or Java
+ * Flight Recorder events never boxes it.</p>
+ */
+public class DoubleEunomia extends AbstractEunomia<Double, DoubleEunomia> {
+
+  private final double value;
+
+  /**
+   * <p>Creates a new instance of <code>DoubleEunomia</code> using the specified
+   * <b>targetName</b> and <b>target</b>.</p>
+   *
+   * @param targetName The <b>target</b> name; this should not be
+   *                   <code>null</code>, empty or contain only whitespace
+   *                   characters but this is not validated.
+   * @param target The target.
+   */
+  public DoubleEunomia(final String targetName, final double target) {
+    this(targetName, target, ThemisViolationHandler.THROWING);
+  }
+
+  /**
+   * <p>Creates a new instance of <code>DoubleEunomia</code> using the specified
+   * <b>targetName</b>, <b>target</b> and <b>violationHandler</b>.</p>
+   *
+   * @param targetName The <b>target</b> name; this should not be
+   *                   <code>null</code>, empty or contain only whitespace
+   *                   characters but this is not validated.
+   * @param target The target.
+   * @param violationHandler Handles any violations detected; this should not
+   *                         be <code>null</code> but this is not validated.
+   *
+   * @see ThemisViolationHandler
+   */
+  public DoubleEunomia(
+      final String targetName,
+      final double target,
+      final ThemisViolationHandler violationHandler) {
+
+    super(targetName, null, violationHandler);
+    this.value = target;
+  }
+
+  /**
+   * <p>Creates a new instance of <code>DoubleEunomia</code> using the specified
+   * prebuilt <b>messages</b>, <b>target</b> and <b>violationHandler</b>.</p>
+   *
+   * @param messages The <b>target</b> name and its prebuilt exception
+   *                 messages; this should not be <code>null</code> but this
+   *                 is not validated.
+   * @param target The target.
+   * @param violationHandler Handles any violations detected; this should not
+   *                         be <code>null</code> but this is not validated.
+   *
+   * @see ThemisTargetMessages
+   * @see uk.co.noop.themis.ThemisTarget
+   */
+  public DoubleEunomia(
+      final ThemisTargetMessages messages,
+      final double target,
+      final ThemisViolationHandler violationHandler) {
+
+    super(messages, null, violationHandler);
+    this.value = target;
+  }
+
+  /**
+   * <p>Validates against negative <b>target</b> values.</p>
+   *
+   * <p>This will result in a {@link
+   * uk.co.noop.themis.exception.ThemisInvalidTargetException
+   * ThemisInvalidTargetException} if the <b>target</b> <code>double</code>
+   * is less than zero (<code>-0.0</code> and <code>NaN</code> are
+   * not negative).</p>
+   *
+   * @return <code>this</code> instance of {@link DoubleEunomia} to further
+   * validate the <b>target</b> <code>double</code>. This will never be
+   * <code>null</code>.
+   *
+   * @throws uk.co.noop.themis.exception.ThemisTargetException Extensions of
+   * <code>ThemisTargetException</code> will be thrown for any invalid parameter
+   * scenarios.
+   *
+   * @see DoubleEunomia
+   * @see uk.co.noop.themis.exception.ThemisInvalidTargetException
+   * @see uk.co.noop.themis.exception.ThemisTargetException
+   */
+  public DoubleEunomia againstNegativeValues() {
+
+    return againstViolation(
+        "againstNegativeValues",
+        NumberRules.negativeViolation(value));
+  }
+
+  /**
+   * <p>Validates against zero <b>target</b> values.</p>
+   *
+   * <p>This will result in a {@link
+   * uk.co.noop.themis.exception.ThemisInvalidTargetException
+   * ThemisInvalidTargetException} if the <b>target</b> <code>double</code>
+   * is zero (<code>0.0</code> or <code>-0.0</code>).</p>
+   *
+   * @return <code>this</code> instance of {@link DoubleEunomia} to further
+   * validate the <b>target</b> <code>double</code>. This will never be
+   * <code>null</code>.
+   *
+   * @throws uk.co.noop.themis.exception.ThemisTargetException Extensions of
+   * <code>ThemisTargetException</code> will be thrown for any invalid parameter
+   * scenarios.
+   *
+   * @see DoubleEunomia
+   * @see uk.co.noop.themis.exception.ThemisInvalidTargetException
+   * @see uk.co.noop.themis.exception.ThemisTargetException
+   */
+  public DoubleEunomia againstZeroValues() {
+
+    return againstViolation(
+        "againstZeroValues",
+        NumberRules.zeroViolation(value));
+  }
+
+  /**
+   * <p>Validates against <b>target</b> values less than the specified
+   * <b>min</b>.</p>
+   *
+   * <p>This will result in a {@link
+   * uk.co.noop.themis.exception.ThemisInvalidTargetException
+   * ThemisInvalidTargetException} if the <b>target</b> <code>double</code>
+   * is less than <b>min</b> or is <code>NaN</code>.</p>
+   *
+   * @param min The minimum valid value.
+   *
+   * @return <code>this</code> instance of {@link DoubleEunomia} to further
+   * validate the <b>target</b> <code>double</code>. This will never be
+   * <code>null</code>.
+   *
+   * @throws uk.co.noop.themis.exception.ThemisTargetException Extensions of
+   * <code>ThemisTargetException</code> will be thrown for any invalid parameter
+   * scenarios.
+   *
+   * @see DoubleEunomia
+   * @see uk.co.noop.themis.exception.ThemisInvalidTargetException
+   * @see uk.co.noop.themis.exception.ThemisTargetException
+   */
+  public DoubleEunomia againstValuesBelow(final double min) {
+
+    return againstViolation(
+        "againstValuesBelow",
+        NumberRules.rangeViolation(value, min, Double.POSITIVE_INFINITY));
+  }
+
+  /**
+   * <p>Validates against <b>target</b> values greater than the specified
+   * <b>max</b>.</p>
+   *
+   * <p>This will result in a {@link
+   * uk.co.noop.themis.exception.ThemisInvalidTargetException
+   * ThemisInvalidTargetException} if the <b>target</b> <code>double</code>
+   * is greater than <b>max</b> or is <code>NaN</code>.</p>
+   *
+   * @param max The maximum valid value.
+   *
+   * @return <code>this</code> instance of {@link DoubleEunomia} to further
+   * validate the <b>target</b> <code>double</code>. This will never be
+   * <code>null</code>.
+   *
+   * @throws uk.co.noop.themis.exception.ThemisTargetException Extensions of
+   * <code>ThemisTargetException</code> will be thrown for any invalid parameter
+   * scenarios.
+   *
+   * @see DoubleEunomia
+   * @see uk.co.noop.themis.exception.ThemisInvalidTargetException
+   * @see uk.co.noop.themis.exception.ThemisTargetException
+   */
+  public DoubleEunomia againstValuesAbove(final double max) {
+
+    return againstViolation(
+        "againstValuesAbove",
+        NumberRules.rangeViolation(value, Double.NEGATIVE_INFINITY, max));
+  }
+
+  /**
+   * <p>Validates against <b>target</b> values outside the range
+   * <b>min</b> to <b>max</b>, inclusive.</p>
+   *
+   * <p>This will result in a {@link
+   * uk.co.noop.themis.exception.ThemisInvalidTargetException
+   * ThemisInvalidTargetException} if the <b>target</b> <code>double</code>
+   * is less than <b>min</b> or greater than
+   * <b>max</b> or is <code>NaN</code>.</p>
+   *
+   * @param min The minimum valid value.
+   * @param max The maximum valid value.
+   *
+   * @return <code>this</code> instance of {@link DoubleEunomia} to further
+   * validate the <b>target</b> <code>double</code>. This will never be
+   * <code>null</code>.
+   *
+   * @throws uk.co.noop.themis.exception.ThemisTargetException Extensions of
+   * <code>ThemisTargetException</code> will be thrown for any invalid parameter
+   * scenarios.
+   *
+   * @see DoubleEunomia
+   * @see uk.co.noop.themis.exception.ThemisInvalidTargetException
+   * @see uk.co.noop.themis.exception.ThemisTargetException
+   */
+  public DoubleEunomia againstValuesOutside(
+      final double min,
+      final double max) {
+
+    return againstViolation(
+        "againstValuesOutside",
+        NumberRules.rangeViolation(value, min, max));
+  }
+
+  /**
+   * <p>Validates against <code>NaN</code> <b>target</b> values.</p>
+   *
+   * <p>This will result in a {@link
+   * uk.co.noop.themis.exception.ThemisInvalidTargetException
+   * ThemisInvalidTargetException} if the <b>target</b> <code>double</code>
+   * is <code>NaN</code>.</p>
+   *
+   * @return <code>this</code> instance of {@link DoubleEunomia} to further
+   * validate the <b>target</b> <code>double</code>. This will never be
+   * <code>null</code>.
+   *
+   * @throws uk.co.noop.themis.exception.ThemisTargetException Extensions of
+   * <code>ThemisTargetException</code> will be thrown for any invalid parameter
+   * scenarios.
+   *
+   * @see DoubleEunomia
+   * @see uk.co.noop.themis.exception.ThemisInvalidTargetException
+   * @see uk.co.noop.themis.exception.ThemisTargetException
+   */
+  public DoubleEunomia againstNaNValues() {
+
+    return againstViolation(
+        "againstNaNValues",
+        NumberRules.nanViolation(value));
+  }
+
+  /**
+   * <p>Validates against <b>target</b> values that are not finite.</p>
+   *
+   * <p>This will result in a {@link
+   * uk.co.noop.themis.exception.ThemisInvalidTargetException
+   * ThemisInvalidTargetException} if the <b>target</b> <code>double</code>
+   * is <code>NaN</code> or infinite.</p>
+   *
+   * @return <code>this</code> instance of {@link DoubleEunomia} to further
+   * validate the <b>target</b> <code>double</code>. This will never be
+   * <code>null</code>.
+   *
+   * @throws uk.co.noop.themis.exception.ThemisTargetException Extensions of
+   * <code>ThemisTargetException</code> will be thrown for any invalid parameter
+   * scenarios.
+   *
+   * @see DoubleEunomia
+   * @see uk.co.noop.themis.exception.ThemisInvalidTargetException
+   * @see uk.co.noop.themis.exception.ThemisTargetException
+   */
+  public DoubleEunomia againstNonFiniteValues() {
+
+    return againstViolation(
+        "againstNonFiniteValues",
+        NumberRules.nonFiniteViolation(value));
+  }
+
+  /**
+   * <p>Validates against invalid <b>target</b> values using the specified
+   * {@link DoublePredicate}.</p>
+   *
+   * <p>This will result in a {@link
+   * uk.co.noop.themis.exception.ThemisInvalidTargetException
+   * ThemisInvalidTargetException} if the <code>DoublePredicate</code> returns
+   * <code>true</code> when testing the <b>target</b> <code>double</code>.</p>
+   *
+   * <p>For example:</p>
+   *
+   * <p>This will result in a <code>ThemisInvalidTargetException</code> if
+   * <b>target</b> is not a whole number:</p>
+   *
+   * <p><code>
+   * Themis.validate("target", target)<br>
+   * &nbsp; &nbsp;.againstInvalidDoubles(t -&gt; t % 1 != 0);
+   * </code></p>
+   *
+   * @param predicate The <code>DoublePredicate</code> used to test the
+   *                  <b>target</b> <code>double</code>. Returns
+   *                  <code>true</code> if the <b>target</b> <code>double</code>
+   *                  is invalid.
+   *
+   * @return <code>this</code> instance of {@link DoubleEunomia} to further
+   * validate the <b>target</b> <code>double</code>. This will never be
+   * <code>null</code>.
+   *
+   * @throws uk.co.noop.themis.exception.ThemisTargetException Extensions of
+   * <code>ThemisTargetException</code> will be thrown for any invalid
+   * parameter scenarios.
+   *
+   * @see DoublePredicate
+   * @see DoubleEunomia
+   * @see uk.co.noop.themis.exception.ThemisInvalidTargetException
+   * @see uk.co.noop.themis.exception.ThemisTargetException
+   */
+  public DoubleEunomia againstInvalidDoubles(final DoublePredicate predicate) {
+
+    if (predicate.test(value)) {
+      return violated(
+          "againstInvalidDoubles",
+          ThemisViolationType.INVALID_TARGET,
+          this::invalidTargetDetected);
+    }
+
+    return passed("againstInvalidDoubles");
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * <p>The <b>target</b> is boxed, as a <code>Double</code>, to apply the
+   * <b>rule</b>. Use {@link #againstInvalidDoubles(DoublePredicate)} to test
+   * it without boxing.</p>
+   */
+  @Override
+  public DoubleEunomia againstRule(final ThemisRule<? super Double> rule) {
+    return super.againstRule(rule);
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * <p>The <b>target</b> is boxed on each call.</p>
+   */
+  @Override
+  protected Double getTarget() {
+    return value;
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @return <code>this</code> instance of <code>DoubleEunomia</code>.
+   */
+  protected DoubleEunomia getEunomia() {
+    return this;
+  }
+
+}
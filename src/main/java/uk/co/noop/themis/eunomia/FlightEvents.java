@@ -0,0 +1,134 @@
+package uk.co.noop.themis.eunomia;
+
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.FlightRecorder;
+import uk.co.noop.themis.exception.ThemisTargetException;
+import uk.co.noop.themis.violation.ThemisViolationHandler;
+import uk.co.noop.themis.violation.ThemisViolationType;
+
+import java.util.function.Supplier;
+
+/**
+ * <p>Creates and commits the Java Flight Recorder events of Themis. This is
+ * the only class, besides the events themselves, that uses the
+ * <code>jdk.jfr</code> module, and it is only initialized through
+ * {@link FlightRecording} once that module has been found.</p>
+ *
+ * <p>Creating an event and asking it whether it is enabled, as JFR suggests,
+ * allocates on every check unless the JIT removes the event, which it does
+ * not reliably do. Until JFR is initialized the enabled checks read one
+ * <code>volatile</code> flag; afterwards the {@link EventType} of each
+ * event, registered on first use, answers.</p>
+ */
+final class FlightEvents {
+
+  private static final Enablement VIOLATIONS =
+      new Enablement(ViolationEvent.class);
+  private static final Enablement SLOW_PREDICATES =
+      new Enablement(SlowPredicateEvent.class);
+
+  static boolean isViolationEnabled() {
+    return VIOLATIONS.isEnabled();
+  }
+
+  static boolean isSlowPredicateEnabled() {
+    return SLOW_PREDICATES.isEnabled();
+  }
+
+  static void onViolation(
+      final String targetName,
+      final String rule,
+      final ThemisViolationType violationType,
+      final Supplier<? extends ThemisTargetException> exceptionSupplier,
+      final ThemisViolationHandler violationHandler) {
+
+    final ViolationEvent event = new ViolationEvent();
+
+    event.targetName = targetName;
+    event.rule = rule;
+    event.violationType = violationType.name();
+
+    try {
+
+      violationHandler.onViolation(
+          targetName,
+          violationType,
+          () -> {
+
+            final ThemisTargetException exception = exceptionSupplier.get();
+
+            event.exceptionType = exception.getClass();
+
+            return exception;
+          });
+
+    } finally {
+      event.commit();
+    }
+  }
+
+  static Object beginSlowPredicate() {
+
+    final SlowPredicateEvent event = new SlowPredicateEvent();
+
+    event.begin();
+
+    return event;
+  }
+
+  static void endSlowPredicate(
+      final Object predicateEvent,
+      final String targetName,
+      final String rule,
+      final boolean invalid) {
+
+    final SlowPredicateEvent event = (SlowPredicateEvent) predicateEvent;
+
+    event.end();
+
+    if (event.shouldCommit()) {
+      event.targetName = targetName;
+      event.rule = rule;
+      event.invalid = invalid;
+      event.commit();
+    }
+  }
+
+  /**
+   * <p>Whether an event type is enabled in a running recording, checked
+   * before the event is created.</p>
+   */
+  private static final class Enablement {
+
+    private final Class<? extends Event> eventClass;
+
+    private volatile EventType eventType;
+
+    private Enablement(final Class<? extends Event> eventClass) {
+      this.eventClass = eventClass;
+    }
+
+    private boolean isEnabled() {
+
+      if (!FlightRecorder.isInitialized()) {
+        return false;
+      }
+
+      EventType type = eventType;
+
+      if (type == null) {
+        type = EventType.getEventType(eventClass);
+        eventType = type;
+      }
+
+      return type.isEnabled();
+    }
+
+  }
+
+  private FlightEvents() {
+    super();
+  }
+
+}
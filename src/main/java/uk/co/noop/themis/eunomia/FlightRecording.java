@@ -0,0 +1,89 @@
+package uk.co.noop.themis.eunomia;
+
+import uk.co.noop.themis.exception.ThemisTargetException;
+import uk.co.noop.themis.violation.ThemisViolationHandler;
+import uk.co.noop.themis.violation.ThemisViolationType;
+
+import java.util.function.Supplier;
+
+/**
+ * <p>The Java Flight Recorder events of Themis, reached only when the
+ * <code>jdk.jfr</code> module is present.</p>
+ *
+ * <p>The events extend <code>jdk.jfr.Event</code>, so a class whose code
+ * uses them cannot be loaded on a runtime without <code>jdk.jfr</code>, e.g.
+ * one built by jlink. This class uses none of them: it looks for the module
+ * once, and only if it is present touches {@link FlightEvents}, which holds
+ * everything that does.</p>
+ */
+final class FlightRecording {
+
+  private static final boolean AVAILABLE =
+      ModuleLayer.boot().findModule("jdk.jfr").isPresent();
+
+  /**
+   * <p>Returns <code>true</code> if a running recording has the
+   * {@link ViolationEvent} enabled.</p>
+   */
+  static boolean isViolationEnabled() {
+    return AVAILABLE && FlightEvents.isViolationEnabled();
+  }
+
+  /**
+   * <p>Returns <code>true</code> if a running recording has the
+   * {@link SlowPredicateEvent} enabled.</p>
+   */
+  static boolean isSlowPredicateEnabled() {
+    return AVAILABLE && FlightEvents.isSlowPredicateEnabled();
+  }
+
+  /**
+   * <p>Passes a violation to the <b>violationHandler</b>, committing a
+   * {@link ViolationEvent} for it even if the handler throws. Only called
+   * once {@link #isViolationEnabled()} has returned <code>true</code>.</p>
+   */
+  static void onViolation(
+      final String targetName,
+      final String rule,
+      final ThemisViolationType violationType,
+      final Supplier<? extends ThemisTargetException> exceptionSupplier,
+      final ThemisViolationHandler violationHandler) {
+
+    FlightEvents.onViolation(
+        targetName,
+        rule,
+        violationType,
+        exceptionSupplier,
+        violationHandler);
+  }
+
+  /**
+   * <p>Starts timing a <code>Predicate</code>. Only called once
+   * {@link #isSlowPredicateEnabled()} has returned <code>true</code>.</p>
+   *
+   * @return The {@link SlowPredicateEvent}, typed as <code>Object</code> so
+   * that callers never name it.
+   */
+  static Object beginSlowPredicate() {
+    return FlightEvents.beginSlowPredicate();
+  }
+
+  /**
+   * <p>Finishes timing a <code>Predicate</code> started by
+   * {@link #beginSlowPredicate()}, committing the event if it took longer
+   * than the threshold.</p>
+   */
+  static void endSlowPredicate(
+      final Object event,
+      final String targetName,
+      final String rule,
+      final boolean invalid) {
+
+    FlightEvents.endSlowPredicate(event, targetName, rule, invalid);
+  }
+
+  private FlightRecording() {
+    super();
+  }
+
+}
@@ -0,0 +1,352 @@
+package uk.co.noop.themis.eunomia;
+
+import uk.co.noop.themis.exception.ThemisTargetMessages;
+import uk.co.noop.themis.rule.LongValueSet;
+import uk.co.noop.themis.rule.NumberRules;
+import uk.co.noop.themis.rule.ThemisRule;
+import uk.co.noop.themis.violation.ThemisViolationHandler;
+import uk.co.noop.themis.violation.ThemisViolationType;
+
+import java.util.function.LongPredicate;
+
+/**
+ * <p>A default Eunomia instance for validating against various invalid
+ * <b>target</b> <code>long</code> scenarios.</p>
+ *
+ * <p>The <b>target</b> is held as a <code>long</code> and tested with
+ * {@link NumberRules} or an {@link LongPredicate}, so validating a valid
+ * <b>target</b> never boxes it. It is only boxed, as a <code>Long</code>,
+ * for the message of a {@link
+ * uk.co.noop.themis.exception.ThemisInvalidTargetException
+ * ThemisInvalidTargetException}, to apply a {@link
+ * uk.co.noop.themis.rule.ThemisRule ThemisRule} or to test it with the
+ * <code>Predicate</code> of a sub-class calling
+ * {@link #againstInvalidValues(java.util.function.Predicate)}. Recording
+ * {@link uk.co.noop.themis.metrics.ThemisMetrics ThemisMetrics} or Java
+ * Flight Recorder events never boxes it.</p>
+ */
+public class LongEunomia extends AbstractEunomia<Long, LongEunomia> {
+
+  private final long value;
+
+  /**
+   * <p>Creates a new instance of <code>LongEunomia</code> using the specified
+   * <b>targetName</b> and <b>target</b>.</p>
+   *
+   * @param targetName The <b>target</b> name; this should not be
+   *                   <code>null</code>, empty or contain only whitespace
+   *                   characters but this is not validated.
+   * @param target The target.
+   */
+  public LongEunomia(final String targetName, final long target) {
+    this(targetName, target, ThemisViolationHandler.THROWING);
+  }
+
+  /**
+   * <p>Creates a new instance of <code>LongEunomia</code> using the specified
+   * <b>targetName</b>, <b>target</b> and <b>violationHandler</b>.</p>
+   *
+   * @param targetName The <b>target</b> name; this should not be
+   *                   <code>null</code>, empty or contain only whitespace
+   *                   characters but this is not validated.
+   * @param target The target.
+   * @param violationHandler Handles any violations detected; this should not
+   *                         be <code>null</code> but this is not validated.
+   *
+   * @see ThemisViolationHandler
+   */
+  public LongEunomia(
+      final String targetName,
+      final long target,
+      final ThemisViolationHandler violationHandler) {
+
+    super(targetName, null, violationHandler);
+    this.value = target;
+  }
+
+  /**
+   * <p>Creates a new instance of <code>LongEunomia</code> using the specified
+   * prebuilt <b>messages</b>, <b>target</b> and <b>violationHandler</b>.</p>
+   *
+   * @param messages The <b>target</b> name and its prebuilt exception
+   *                 messages; this should not be <code>null</code> but this
+   *                 is not validated.
+   * @param target The target.
+   * @param violationHandler Handles any violations detected; this should not
+   *                         be <code>null</code> but this is not validated.
+   *
+   * @see ThemisTargetMessages
+   * @see uk.co.noop.themis.ThemisTarget
+   */
+  public LongEunomia(
+      final ThemisTargetMessages messages,
+      final long target,
+      final ThemisViolationHandler violationHandler) {
+
+    super(messages, null, violationHandler);
+    this.value = target;
+  }
+
+  /**
+   * <p>Validates against negative <b>target</b> values.</p>
+   *
+   * <p>This will result in a {@link
+   * uk.co.noop.themis.exception.ThemisInvalidTargetException
+   * ThemisInvalidTargetException} if the <b>target</b> <code>long</code>
+   * is less than zero.</p>
+   *
+   * @return <code>this</code> instance of {@link LongEunomia} to further
+   * validate the <b>target</b> <code>long</code>. This will never be
+   * <code>null</code>.
+   *
+   * @throws uk.co.noop.themis.exception.ThemisTargetException Extensions of
+   * <code>ThemisTargetException</code> will be thrown for any invalid parameter
+   * scenarios.
+   *
+   * @see LongEunomia
+   * @see uk.co.noop.themis.exception.ThemisInvalidTargetException
+   * @see uk.co.noop.themis.exception.ThemisTargetException
+   */
+  public LongEunomia againstNegativeValues() {
+
+    return againstViolation(
+        "againstNegativeValues",
+        NumberRules.negativeViolation(value));
+  }
+
+  /**
+   * <p>Validates against zero <b>target</b> values.</p>
+   *
+   * <p>This will result in a {@link
+   * uk.co.noop.themis.exception.ThemisInvalidTargetException
+   * ThemisInvalidTargetException} if the <b>target</b> <code>long</code>
+   * is zero.</p>
+   *
+   * @return <code>this</code> instance of {@link LongEunomia} to further
+   * validate the <b>target</b> <code>long</code>. This will never be
+   * <code>null</code>.
+   *
+   * @throws uk.co.noop.themis.exception.ThemisTargetException Extensions of
+   * <code>ThemisTargetException</code> will be thrown for any invalid parameter
+   * scenarios.
+   *
+   * @see LongEunomia
+   * @see uk.co.noop.themis.exception.ThemisInvalidTargetException
+   * @see uk.co.noop.themis.exception.ThemisTargetException
+   */
+  public LongEunomia againstZeroValues() {
+
+    return againstViolation(
+        "againstZeroValues",
+        NumberRules.zeroViolation(value));
+  }
+
+  /**
+   * <p>Validates against <b>target</b> values less than the specified
+   * <b>min</b>.</p>
+   *
+   * <p>This will result in a {@link
+   * uk.co.noop.themis.exception.ThemisInvalidTargetException
+   * ThemisInvalidTargetException} if the <b>target</b> <code>long</code>
+   * is less than <b>min</b>.</p>
+   *
+   * @param min The minimum valid value.
+   *
+   * @return <code>this</code> instance of {@link LongEunomia} to further
+   * validate the <b>target</b> <code>long</code>. This will never be
+   * <code>null</code>.
+   *
+   * @throws uk.co.noop.themis.exception.ThemisTargetException Extensions of
+   * <code>ThemisTargetException</code> will be thrown for any invalid parameter
+   * scenarios.
+   *
+   * @see LongEunomia
+   * @see uk.co.noop.themis.exception.ThemisInvalidTargetException
+   * @see uk.co.noop.themis.exception.ThemisTargetException
+   */
+  public LongEunomia againstValuesBelow(final long min) {
+
+    return againstViolation(
+        "againstValuesBelow",
+        NumberRules.rangeViolation(value, min, Long.MAX_VALUE));
+  }
+
+  /**
+   * <p>Validates against <b>target</b> values greater than the specified
+   * <b>max</b>.</p>
+   *
+   * <p>This will result in a {@link
+   * uk.co.noop.themis.exception.ThemisInvalidTargetException
+   * ThemisInvalidTargetException} if the <b>target</b> <code>long</code>
+   * is greater than <b>max</b>.</p>
+   *
+   * @param max The maximum valid value.
+   *
+   * @return <code>this</code> instance of {@link LongEunomia} to further
+   * validate the <b>target</b> <code>long</code>. This will never be
+   * <code>null</code>.
+   *
+   * @throws uk.co.noop.themis.exception.ThemisTargetException Extensions of
+   * <code>ThemisTargetException</code> will be thrown for any invalid parameter
+   * scenarios.
+   *
+   * @see LongEunomia
+   * @see uk.co.noop.themis.exception.ThemisInvalidTargetException
+   * @see uk.co.noop.themis.exception.ThemisTargetException
+   */
+  public LongEunomia againstValuesAbove(final long max) {
+
+    return againstViolation(
+        "againstValuesAbove",
+        NumberRules.rangeViolation(value, Long.MIN_VALUE, max));
+  }
+
+  /**
+   * <p>Validates against <b>target</b> values outside the range
+   * <b>min</b> to <b>max</b>, inclusive.</p>
+   *
+   * <p>This will result in a {@link
+   * uk.co.noop.themis.exception.ThemisInvalidTargetException
+   * ThemisInvalidTargetException} if the <b>target</b> <code>long</code>
+   * is less than <b>min</b> or greater than
+   * <b>max</b>.</p>
+   *
+   * @param min The minimum valid value.
+   * @param max The maximum valid value.
+   *
+   * @return <code>this</code> instance of {@link LongEunomia} to further
+   * validate the <b>target</b> <code>long</code>. This will never be
+   * <code>null</code>.
+   *
+   * @throws uk.co.noop.themis.exception.ThemisTargetException Extensions of
+   * <code>ThemisTargetException</code> will be thrown for any invalid parameter
+   * scenarios.
+   *
+   * @see LongEunomia
+   * @see uk.co.noop.themis.exception.ThemisInvalidTargetException
+   * @see uk.co.noop.themis.exception.ThemisTargetException
+   */
+  public LongEunomia againstValuesOutside(final long min, final long max) {
+
+    return againstViolation(
+        "againstValuesOutside",
+        NumberRules.rangeViolation(value, min, max));
+  }
+
+  /**
+   * <p>Validates against <b>target</b> values that are not in the specified
+   * {@link LongValueSet}.</p>
+   *
+   * <p>This will result in a {@link
+   * uk.co.noop.themis.exception.ThemisInvalidTargetException
+   * ThemisInvalidTargetException} if the <b>target</b> <code>long</code>
+   * is not in <b>allowed</b>.</p>
+   *
+   * <p>For example, with a set built once:</p>
+   *
+   * <p><code>
+   * Themis.validate("accountId", target).againstValuesNotIn(IDS);
+   * </code></p>
+   *
+   * @param allowed The allowed values.
+   *
+   * @return <code>this</code> instance of {@link LongEunomia} to further
+   * validate the <b>target</b> <code>long</code>. This will never be
+   * <code>null</code>.
+   *
+   * @throws uk.co.noop.themis.exception.ThemisTargetException Extensions of
+   * <code>ThemisTargetException</code> will be thrown for any invalid parameter
+   * scenarios.
+   *
+   * @see LongValueSet
+   * @see LongEunomia
+   * @see uk.co.noop.themis.exception.ThemisInvalidTargetException
+   * @see uk.co.noop.themis.exception.ThemisTargetException
+   */
+  public LongEunomia againstValuesNotIn(final LongValueSet allowed) {
+
+    return againstViolation(
+        "againstValuesNotIn",
+        NumberRules.valueNotInViolation(value, allowed));
+  }
+
+  /**
+   * <p>Validates against invalid <b>target</b> values using the specified
+   * {@link LongPredicate}.</p>
+   *
+   * <p>This will result in a {@link
+   * uk.co.noop.themis.exception.ThemisInvalidTargetException
+   * ThemisInvalidTargetException} if the <code>LongPredicate</code> returns
+   * <code>true</code> when testing the <b>target</b> <code>long</code>.</p>
+   *
+   * <p>For example:</p>
+   *
+   * <p>This will result in a <code>ThemisInvalidTargetException</code> if
+   * <b>target</b> is odd:</p>
+   *
+   * <p><code>
+   * Themis.validate("target", target).againstInvalidLongs(t -&gt; t % 2 != 0);
+   * </code></p>
+   *
+   * @param predicate The <code>LongPredicate</code> used to test the
+   *                  <b>target</b> <code>long</code>. Returns
+   *                  <code>true</code> if the <b>target</b> <code>long</code>
+   *                  is invalid.
+   *
+   * @return <code>this</code> instance of {@link LongEunomia} to further
+   * validate the <b>target</b> <code>long</code>. This will never be
+   * <code>null</code>.
+   *
+   * @throws uk.co.noop.themis.exception.ThemisTargetException Extensions of
+   * <code>ThemisTargetException</code> will be thrown for any invalid
+   * parameter scenarios.
+   *
+   * @see LongPredicate
+   * @see LongEunomia
+   * @see uk.co.noop.themis.exception.ThemisInvalidTargetException
+   * @see uk.co.noop.themis.exception.ThemisTargetException
+   */
+  public LongEunomia againstInvalidLongs(final LongPredicate predicate) {
+
+    if (predicate.test(value)) {
+      return violated(
+          "againstInvalidLongs",
+          ThemisViolationType.INVALID_TARGET,
+          this::invalidTargetDetected);
+    }
+
+    return passed("againstInvalidLongs");
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * <p>The <b>target</b> is boxed, as a <code>Long</code>, to apply the
+   * <b>rule</b>. Use {@link #againstInvalidLongs(LongPredicate)} to test
+   * it without boxing.</p>
+   */
+  @Override
+  public LongEunomia againstRule(final ThemisRule<? super Long> rule) {
+    return super.againstRule(rule);
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * <p>The <b>target</b> is boxed on each call.</p>
+   */
+  @Override
+  protected Long getTarget() {
+    return value;
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @return <code>this</code> instance of <code>LongEunomia</code>.
+   */
+  protected LongEunomia getEunomia() {
+    return this;
+  }
+
+}
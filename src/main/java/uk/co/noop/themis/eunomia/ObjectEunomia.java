@@ -1,6 +1,10 @@
 package uk.co.noop.themis.eunomia;
 
-import java.util.Objects;
+import uk.co.noop.themis.exception.ThemisTargetMessages;
+import uk.co.noop.themis.rule.ObjectRules;
+import uk.co.noop.themis.rule.ValueSet;
+import uk.co.noop.themis.violation.ThemisViolationHandler;
+
 import java.util.function.Predicate;
 
 /**
@@ -22,6 +26,49 @@ public class ObjectEunomia extends AbstractEunomia<Object, ObjectEunomia> {
     super(targetName, target);
   }
 
+  /**
+   * <p>Creates a new instance of <code>ObjectEunomia</code> using the specified
+   * <b>targetName</b>, <b>target</b> and <b>violationHandler</b>.</p>
+   *
+   * @param targetName The <b>target</b> name; this should not be
+   *                   <code>null</code>, empty or contain only whitespace
+   *                   characters but this is not validated.
+   * @param target The target.
+   * @param violationHandler Handles any violations detected; this should not
+   *                         be <code>null</code> but this is not validated.
+   *
+   * @see ThemisViolationHandler
+   */
+  public ObjectEunomia(
+      final String targetName,
+      final Object target,
+      final ThemisViolationHandler violationHandler) {
+
+    super(targetName, target, violationHandler);
+  }
+
+  /**
+   * <p>Creates a new instance of <code>ObjectEunomia</code> using the specified
+   * prebuilt <b>messages</b>, <b>target</b> and <b>violationHandler</b>.</p>
+   *
+   * @param messages The <b>target</b> name and its prebuilt exception
+   *                 messages; this should not be <code>null</code> but this
+   *                 is not validated.
+   * @param target The target.
+   * @param violationHandler Handles any violations detected; this should not
+   *                         be <code>null</code> but this is not validated.
+   *
+   * @see ThemisTargetMessages
+   * @see uk.co.noop.themis.ThemisTarget
+   */
+  public ObjectEunomia(
+      final ThemisTargetMessages messages,
+      final Object target,
+      final ThemisViolationHandler violationHandler) {
+
+    super(messages, target, violationHandler);
+  }
+
   /**
    * <p>Validates against <code>null</code> <b>target</b> values.</p>
    *
@@ -43,7 +90,50 @@ public class ObjectEunomia extends AbstractEunomia<Object, ObjectEunomia> {
    * @see uk.co.noop.themis.exception.ThemisTargetException
    */
   public ObjectEunomia againstNullObjects() {
-    return againstInvalidValues(Objects::isNull, this::nullTargetDetected);
+
+    return againstViolation(
+        "againstNullObjects",
+        ObjectRules.nullObjectViolation(getTarget()));
+  }
+
+  /**
+   * <p>Validates against <b>target</b> values (<code>null</code> or an
+   * <code>Object</code>) that are not in the specified {@link ValueSet}.</p>
+   *
+   * <p>This will result in a {@link
+   * uk.co.noop.themis.exception.ThemisInvalidTargetException
+   * ThemisInvalidTargetException} if the <b>target</b> <code>Object</code>
+   * is not in <b>allowed</b>, or a {@link
+   * uk.co.noop.themis.exception.ThemisNullTargetException
+   * ThemisNullTargetException} if it is <code>null</code>.</p>
+   *
+   * <p>For example, with a set built once:</p>
+   *
+   * <p><code>
+   * Themis.validate("status", target).againstValuesNotIn(STATUSES);
+   * </code></p>
+   *
+   * @param allowed The allowed values.
+   *
+   * @return <code>this</code> instance of {@link ObjectEunomia} to further
+   * validate the <b>target</b> <code>Object</code>. This will never be
+   * <code>null</code>.
+   *
+   * @throws uk.co.noop.themis.exception.ThemisTargetException Extensions of
+   * <code>ThemisTargetException</code> will be thrown for any invalid parameter
+   * scenarios.
+   *
+   * @see ValueSet
+   * @see ObjectEunomia
+   * @see uk.co.noop.themis.exception.ThemisNullTargetException
+   * @see uk.co.noop.themis.exception.ThemisInvalidTargetException
+   * @see uk.co.noop.themis.exception.ThemisTargetException
+   */
+  public ObjectEunomia againstValuesNotIn(final ValueSet<?> allowed) {
+
+    return againstViolation(
+        "againstValuesNotIn",
+        ObjectRules.valueNotInViolation(getTarget(), allowed));
   }
 
   /**
@@ -85,7 +175,7 @@ public class ObjectEunomia extends AbstractEunomia<Object, ObjectEunomia> {
   public ObjectEunomia againstInvalidObjects(
       final Predicate<Object> predicate) {
 
-    return againstInvalidValues(predicate);
+    return againstInvalidValues("againstInvalidObjects", predicate);
   }
 
   /**
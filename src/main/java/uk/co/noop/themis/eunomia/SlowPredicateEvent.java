@@ -0,0 +1,39 @@
+package uk.co.noop.themis.eunomia;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Threshold;
+
+/**
+ * <p>The Java Flight Recorder event committed when a <code>Predicate</code>
+ * passed to {@link AbstractEunomia#againstInvalidValues(String,
+ * java.util.function.Predicate) againstInvalidValues}, e.g. by
+ * <code>againstInvalidStrings</code> or <code>againstInvalidObjects</code>,
+ * takes longer than the threshold, by default 1 ms.</p>
+ *
+ * <p>The threshold can be changed in the recording settings, e.g.
+ * <code>uk.co.noop.themis.SlowPredicate#threshold=100 us</code>.</p>
+ */
+@Name(SlowPredicateEvent.NAME)
+@Label("Themis Slow Predicate")
+@Category("Themis")
+@Description("A custom validation predicate exceeded the threshold")
+@Threshold("1 ms")
+final class SlowPredicateEvent extends Event {
+
+  static final String NAME = "uk.co.noop.themis.SlowPredicate";
+
+  @Label("Target Name")
+  String targetName;
+
+  @Label("Rule")
+  String rule;
+
+  @Label("Invalid")
+  @Description("Whether the predicate rejected the target")
+  boolean invalid;
+
+}
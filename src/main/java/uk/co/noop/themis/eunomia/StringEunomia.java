@@ -1,10 +1,16 @@
 package uk.co.noop.themis.eunomia;
 
 import uk.co.noop.themis.exception.ThemisBlankTargetStringException;
-import uk.co.noop.themis.exception.ThemisInvalidTargetException;
+import uk.co.noop.themis.exception.ThemisTargetMessages;
+import uk.co.noop.themis.rule.CharacterSet;
+import uk.co.noop.themis.rule.FormatRules;
+import uk.co.noop.themis.rule.ObjectRules;
+import uk.co.noop.themis.rule.StringRules;
+import uk.co.noop.themis.rule.ValueSet;
+import uk.co.noop.themis.violation.ThemisViolationHandler;
 
-import java.util.Objects;
 import java.util.function.Predicate;
+import java.util.regex.Pattern;
 
 /**
  * <p>A Eunomia instance for validating against various invalid <b>target</b>
@@ -25,6 +31,49 @@ public class StringEunomia extends AbstractEunomia<String, StringEunomia> {
     super(targetName, target);
   }
 
+  /**
+   * <p>Creates a new instance of <code>StringEunomia</code> using the specified
+   * <b>targetName</b>, <b>target</b> and <b>violationHandler</b>.</p>
+   *
+   * @param targetName The <b>target</b> name; this should not be
+   *                   <code>null</code>, empty or contain only whitespace
+   *                   characters but this is not validated.
+   * @param target The target.
+   * @param violationHandler Handles any violations detected; this should not
+   *                         be <code>null</code> but this is not validated.
+   *
+   * @see ThemisViolationHandler
+   */
+  public StringEunomia(
+      final String targetName,
+      final String target,
+      final ThemisViolationHandler violationHandler) {
+
+    super(targetName, target, violationHandler);
+  }
+
+  /**
+   * <p>Creates a new instance of <code>StringEunomia</code> using the specified
+   * prebuilt <b>messages</b>, <b>target</b> and <b>violationHandler</b>.</p>
+   *
+   * @param messages The <b>target</b> name and its prebuilt exception
+   *                 messages; this should not be <code>null</code> but this
+   *                 is not validated.
+   * @param target The target.
+   * @param violationHandler Handles any violations detected; this should not
+   *                         be <code>null</code> but this is not validated.
+   *
+   * @see ThemisTargetMessages
+   * @see uk.co.noop.themis.ThemisTarget
+   */
+  public StringEunomia(
+      final ThemisTargetMessages messages,
+      final String target,
+      final ThemisViolationHandler violationHandler) {
+
+    super(messages, target, violationHandler);
+  }
+
   /**
    * {@inheritDoc}
    *
@@ -55,7 +104,10 @@ public class StringEunomia extends AbstractEunomia<String, StringEunomia> {
    * @see uk.co.noop.themis.exception.ThemisTargetException
    */
   public StringEunomia againstNullStrings() {
-    return againstInvalidValues(Objects::isNull, this::nullTargetDetected);
+
+    return againstViolation(
+        "againstNullStrings",
+        ObjectRules.nullObjectViolation(getTarget()));
   }
 
   /**
@@ -85,8 +137,9 @@ public class StringEunomia extends AbstractEunomia<String, StringEunomia> {
    */
   public StringEunomia againstEmptyStrings() {
 
-    return againstNullStrings()
-        .againstInvalidValues(String::isEmpty, this::emptyTargetDetected);
+    return againstViolation(
+        "againstEmptyStrings",
+        StringRules.emptyStringViolation(getTarget()));
   }
 
   /**
@@ -120,10 +173,572 @@ public class StringEunomia extends AbstractEunomia<String, StringEunomia> {
    */
   public StringEunomia againstBlankStrings() {
 
-    return againstEmptyStrings()
-        .againstInvalidValues(
-            t -> t.trim().isEmpty(),
-            this::blankTargetStringDetected);
+    return againstViolation(
+        "againstBlankStrings",
+        StringRules.blankStringViolation(getTarget()));
+  }
+
+  /**
+   * <p>Validates against short <b>target</b> values (<code>null</code> or a
+   * <code>String</code> shorter than the specified <b>minLength</b>).</p>
+   *
+   * <p>This will result in a {@link
+   * uk.co.noop.themis.exception.ThemisNullTargetException
+   * ThemisNullTargetException} if the <b>target</b> <code>String</code> is
+   * <code>null</code> or a {@link
+   * uk.co.noop.themis.exception.ThemisInvalidTargetException
+   * ThemisInvalidTargetException} if the <b>target</b> <code>String</code> is
+   * shorter than <b>minLength</b> <code>char</code> values.</p>
+   *
+   * @param minLength The minimum length, in <code>char</code> values.
+   *
+   * @return <code>this</code> instance of {@link StringEunomia} to further
+   * validate the <b>target</b> <code>String</code>. This will never be
+   * <code>null</code>.
+   *
+   * @throws uk.co.noop.themis.exception.ThemisTargetException Extensions of
+   * <code>ThemisTargetException</code> will be thrown for any invalid parameter
+   * scenarios.
+   *
+   * @see StringEunomia
+   * @see uk.co.noop.themis.exception.ThemisNullTargetException
+   * @see uk.co.noop.themis.exception.ThemisInvalidTargetException
+   * @see uk.co.noop.themis.exception.ThemisTargetException
+   */
+  public StringEunomia againstShortStrings(final int minLength) {
+
+    return againstViolation(
+        "againstShortStrings",
+        StringRules.shortStringViolation(getTarget(), minLength));
+  }
+
+  /**
+   * <p>Validates against long <b>target</b> values (<code>null</code> or a
+   * <code>String</code> longer than the specified <b>maxLength</b>).</p>
+   *
+   * <p>This will result in a {@link
+   * uk.co.noop.themis.exception.ThemisNullTargetException
+   * ThemisNullTargetException} if the <b>target</b> <code>String</code> is
+   * <code>null</code> or a {@link
+   * uk.co.noop.themis.exception.ThemisInvalidTargetException
+   * ThemisInvalidTargetException} if the <b>target</b> <code>String</code> is
+   * longer than <b>maxLength</b> <code>char</code> values.</p>
+   *
+   * @param maxLength The maximum length, in <code>char</code> values.
+   *
+   * @return <code>this</code> instance of {@link StringEunomia} to further
+   * validate the <b>target</b> <code>String</code>. This will never be
+   * <code>null</code>.
+   *
+   * @throws uk.co.noop.themis.exception.ThemisTargetException Extensions of
+   * <code>ThemisTargetException</code> will be thrown for any invalid parameter
+   * scenarios.
+   *
+   * @see StringEunomia
+   * @see uk.co.noop.themis.exception.ThemisNullTargetException
+   * @see uk.co.noop.themis.exception.ThemisInvalidTargetException
+   * @see uk.co.noop.themis.exception.ThemisTargetException
+   */
+  public StringEunomia againstLongStrings(final int maxLength) {
+
+    return againstViolation(
+        "againstLongStrings",
+        StringRules.longStringViolation(getTarget(), maxLength));
+  }
+
+  /**
+   * <p>Validates against <b>target</b> values (<code>null</code> or a
+   * <code>String</code>) containing any <code>char</code> outside the
+   * specified {@link CharacterSet}.</p>
+   *
+   * <p>This will result in a {@link
+   * uk.co.noop.themis.exception.ThemisNullTargetException
+   * ThemisNullTargetException} if the <b>target</b> <code>String</code> is
+   * <code>null</code> or a {@link
+   * uk.co.noop.themis.exception.ThemisInvalidTargetException
+   * ThemisInvalidTargetException} if the <b>target</b> <code>String</code>
+   * contains a <code>char</code> that is not allowed.</p>
+   *
+   * <p>For example:</p>
+   *
+   * <p><code>
+   * Themis.validate("id", id)<br>
+   * &nbsp; &nbsp;.againstCharactersOutside(CharacterSet.ASCII_ALPHANUMERICS);
+   * </code></p>
+   *
+   * @param allowed The allowed characters.
+   *
+   * @return <code>this</code> instance of {@link StringEunomia} to further
+   * validate the <b>target</b> <code>String</code>. This will never be
+   * <code>null</code>.
+   *
+   * @throws uk.co.noop.themis.exception.ThemisTargetException Extensions of
+   * <code>ThemisTargetException</code> will be thrown for any invalid parameter
+   * scenarios.
+   *
+   * @see CharacterSet
+   * @see StringEunomia
+   * @see uk.co.noop.themis.exception.ThemisNullTargetException
+   * @see uk.co.noop.themis.exception.ThemisInvalidTargetException
+   * @see uk.co.noop.themis.exception.ThemisTargetException
+   */
+  public StringEunomia againstCharactersOutside(final CharacterSet allowed) {
+
+    return againstViolation(
+        "againstCharactersOutside",
+        StringRules.charactersOutsideViolation(getTarget(), allowed));
+  }
+
+  /**
+   * <p>Validates against <b>target</b> values (<code>null</code> or a
+   * <code>String</code>) containing any non-ASCII <code>char</code>, i.e. any
+   * <code>char</code> above <code>0x7F</code>.</p>
+   *
+   * <p>This will result in a {@link
+   * uk.co.noop.themis.exception.ThemisNullTargetException
+   * ThemisNullTargetException} if the <b>target</b> <code>String</code> is
+   * <code>null</code> or a {@link
+   * uk.co.noop.themis.exception.ThemisInvalidTargetException
+   * ThemisInvalidTargetException} if the <b>target</b> <code>String</code>
+   * contains a non-ASCII <code>char</code>.</p>
+   *
+   * @return <code>this</code> instance of {@link StringEunomia} to further
+   * validate the <b>target</b> <code>String</code>. This will never be
+   * <code>null</code>.
+   *
+   * @throws uk.co.noop.themis.exception.ThemisTargetException Extensions of
+   * <code>ThemisTargetException</code> will be thrown for any invalid parameter
+   * scenarios.
+   *
+   * @see StringEunomia
+   * @see uk.co.noop.themis.exception.ThemisNullTargetException
+   * @see uk.co.noop.themis.exception.ThemisInvalidTargetException
+   * @see uk.co.noop.themis.exception.ThemisTargetException
+   */
+  public StringEunomia againstNonAsciiCharacters() {
+
+    return againstViolation(
+        "againstNonAsciiCharacters",
+        StringRules.nonAsciiCharactersViolation(getTarget()));
+  }
+
+  /**
+   * <p>Validates against <b>target</b> values (<code>null</code> or a
+   * <code>String</code>) containing any ISO control <code>char</code> (See:
+   * {@link Character#isISOControl(char)}).</p>
+   *
+   * <p>This will result in a {@link
+   * uk.co.noop.themis.exception.ThemisNullTargetException
+   * ThemisNullTargetException} if the <b>target</b> <code>String</code> is
+   * <code>null</code> or a {@link
+   * uk.co.noop.themis.exception.ThemisInvalidTargetException
+   * ThemisInvalidTargetException} if the <b>target</b> <code>String</code>
+   * contains a control <code>char</code>.</p>
+   *
+   * @return <code>this</code> instance of {@link StringEunomia} to further
+   * validate the <b>target</b> <code>String</code>. This will never be
+   * <code>null</code>.
+   *
+   * @throws uk.co.noop.themis.exception.ThemisTargetException Extensions of
+   * <code>ThemisTargetException</code> will be thrown for any invalid parameter
+   * scenarios.
+   *
+   * @see StringEunomia
+   * @see uk.co.noop.themis.exception.ThemisNullTargetException
+   * @see uk.co.noop.themis.exception.ThemisInvalidTargetException
+   * @see uk.co.noop.themis.exception.ThemisTargetException
+   */
+  public StringEunomia againstControlCharacters() {
+
+    return againstViolation(
+        "againstControlCharacters",
+        StringRules.controlCharactersViolation(getTarget()));
+  }
+
+  /**
+   * <p>Validates against <b>target</b> values (<code>null</code> or a
+   * <code>String</code>) that are not UUIDs (See: {@link
+   * FormatRules#uuidViolation(String)}).</p>
+   *
+   * <p>This will result in a {@link
+   * uk.co.noop.themis.exception.ThemisNullTargetException
+   * ThemisNullTargetException} if the <b>target</b> <code>String</code> is
+   * <code>null</code> or a {@link
+   * uk.co.noop.themis.exception.ThemisInvalidTargetException
+   * ThemisInvalidTargetException} if the <b>target</b> <code>String</code> is
+   * not a UUID.</p>
+   *
+   * @return <code>this</code> instance of {@link StringEunomia} to further
+   * validate the <b>target</b> <code>String</code>. This will never be
+   * <code>null</code>.
+   *
+   * @throws uk.co.noop.themis.exception.ThemisTargetException Extensions of
+   * <code>ThemisTargetException</code> will be thrown for any invalid parameter
+   * scenarios.
+   *
+   * @see StringEunomia
+   * @see FormatRules
+   * @see uk.co.noop.themis.exception.ThemisNullTargetException
+   * @see uk.co.noop.themis.exception.ThemisInvalidTargetException
+   * @see uk.co.noop.themis.exception.ThemisTargetException
+   */
+  public StringEunomia againstNonUuids() {
+
+    return againstViolation(
+        "againstNonUuids",
+        FormatRules.uuidViolation(getTarget()));
+  }
+
+  /**
+   * <p>Validates against <b>target</b> values (<code>null</code> or a
+   * <code>String</code>) that are not email addresses (See: {@link
+   * FormatRules#emailViolation(String)}).</p>
+   *
+   * <p>This will result in a {@link
+   * uk.co.noop.themis.exception.ThemisNullTargetException
+   * ThemisNullTargetException} if the <b>target</b> <code>String</code> is
+   * <code>null</code> or a {@link
+   * uk.co.noop.themis.exception.ThemisInvalidTargetException
+   * ThemisInvalidTargetException} if the <b>target</b> <code>String</code> is
+   * not an email address.</p>
+   *
+   * @return <code>this</code> instance of {@link StringEunomia} to further
+   * validate the <b>target</b> <code>String</code>. This will never be
+   * <code>null</code>.
+   *
+   * @throws uk.co.noop.themis.exception.ThemisTargetException Extensions of
+   * <code>ThemisTargetException</code> will be thrown for any invalid parameter
+   * scenarios.
+   *
+   * @see StringEunomia
+   * @see FormatRules
+   * @see uk.co.noop.themis.exception.ThemisNullTargetException
+   * @see uk.co.noop.themis.exception.ThemisInvalidTargetException
+   * @see uk.co.noop.themis.exception.ThemisTargetException
+   */
+  public StringEunomia againstNonEmails() {
+
+    return againstViolation(
+        "againstNonEmails",
+        FormatRules.emailViolation(getTarget()));
+  }
+
+  /**
+   * <p>Validates against <b>target</b> values (<code>null</code> or a
+   * <code>String</code>) that are not ISO-8601 dates (See: {@link
+   * FormatRules#isoDateViolation(String)}).</p>
+   *
+   * <p>This will result in a {@link
+   * uk.co.noop.themis.exception.ThemisNullTargetException
+   * ThemisNullTargetException} if the <b>target</b> <code>String</code> is
+   * <code>null</code> or a {@link
+   * uk.co.noop.themis.exception.ThemisInvalidTargetException
+   * ThemisInvalidTargetException} if the <b>target</b> <code>String</code> is
+   * not an ISO-8601 date.</p>
+   *
+   * @return <code>this</code> instance of {@link StringEunomia} to further
+   * validate the <b>target</b> <code>String</code>. This will never be
+   * <code>null</code>.
+   *
+   * @throws uk.co.noop.themis.exception.ThemisTargetException Extensions of
+   * <code>ThemisTargetException</code> will be thrown for any invalid parameter
+   * scenarios.
+   *
+   * @see StringEunomia
+   * @see FormatRules
+   * @see uk.co.noop.themis.exception.ThemisNullTargetException
+   * @see uk.co.noop.themis.exception.ThemisInvalidTargetException
+   * @see uk.co.noop.themis.exception.ThemisTargetException
+   */
+  public StringEunomia againstNonIsoDates() {
+
+    return againstViolation(
+        "againstNonIsoDates",
+        FormatRules.isoDateViolation(getTarget()));
+  }
+
+  /**
+   * <p>Validates against <b>target</b> values (<code>null</code> or a
+   * <code>String</code>) that are not ISO-8601 timestamps (See: {@link
+   * FormatRules#isoDateTimeViolation(String)}).</p>
+   *
+   * <p>This will result in a {@link
+   * uk.co.noop.themis.exception.ThemisNullTargetException
+   * ThemisNullTargetException} if the <b>target</b> <code>String</code> is
+   * <code>null</code> or a {@link
+   * uk.co.noop.themis.exception.ThemisInvalidTargetException
+   * ThemisInvalidTargetException} if the <b>target</b> <code>String</code> is
+   * not an ISO-8601 timestamp.</p>
+   *
+   * @return <code>this</code> instance of {@link StringEunomia} to further
+   * validate the <b>target</b> <code>String</code>. This will never be
+   * <code>null</code>.
+   *
+   * @throws uk.co.noop.themis.exception.ThemisTargetException Extensions of
+   * <code>ThemisTargetException</code> will be thrown for any invalid parameter
+   * scenarios.
+   *
+   * @see StringEunomia
+   * @see FormatRules
+   * @see uk.co.noop.themis.exception.ThemisNullTargetException
+   * @see uk.co.noop.themis.exception.ThemisInvalidTargetException
+   * @see uk.co.noop.themis.exception.ThemisTargetException
+   */
+  public StringEunomia againstNonIsoDateTimes() {
+
+    return againstViolation(
+        "againstNonIsoDateTimes",
+        FormatRules.isoDateTimeViolation(getTarget()));
+  }
+
+  /**
+   * <p>Validates against <b>target</b> values (<code>null</code> or a
+   * <code>String</code>) that are not IPv4 addresses (See: {@link
+   * FormatRules#ipv4AddressViolation(String)}).</p>
+   *
+   * <p>This will result in a {@link
+   * uk.co.noop.themis.exception.ThemisNullTargetException
+   * ThemisNullTargetException} if the <b>target</b> <code>String</code> is
+   * <code>null</code> or a {@link
+   * uk.co.noop.themis.exception.ThemisInvalidTargetException
+   * ThemisInvalidTargetException} if the <b>target</b> <code>String</code> is
+   * not an IPv4 address.</p>
+   *
+   * @return <code>this</code> instance of {@link StringEunomia} to further
+   * validate the <b>target</b> <code>String</code>. This will never be
+   * <code>null</code>.
+   *
+   * @throws uk.co.noop.themis.exception.ThemisTargetException Extensions of
+   * <code>ThemisTargetException</code> will be thrown for any invalid parameter
+   * scenarios.
+   *
+   * @see StringEunomia
+   * @see FormatRules
+   * @see uk.co.noop.themis.exception.ThemisNullTargetException
+   * @see uk.co.noop.themis.exception.ThemisInvalidTargetException
+   * @see uk.co.noop.themis.exception.ThemisTargetException
+   */
+  public StringEunomia againstNonIpv4Addresses() {
+
+    return againstViolation(
+        "againstNonIpv4Addresses",
+        FormatRules.ipv4AddressViolation(getTarget()));
+  }
+
+  /**
+   * <p>Validates against <b>target</b> values (<code>null</code> or a
+   * <code>String</code>) that are not IPv6 addresses (See: {@link
+   * FormatRules#ipv6AddressViolation(String)}).</p>
+   *
+   * <p>This will result in a {@link
+   * uk.co.noop.themis.exception.ThemisNullTargetException
+   * ThemisNullTargetException} if the <b>target</b> <code>String</code> is
+   * <code>null</code> or a {@link
+   * uk.co.noop.themis.exception.ThemisInvalidTargetException
+   * ThemisInvalidTargetException} if the <b>target</b> <code>String</code> is
+   * not an IPv6 address.</p>
+   *
+   * @return <code>this</code> instance of {@link StringEunomia} to further
+   * validate the <b>target</b> <code>String</code>. This will never be
+   * <code>null</code>.
+   *
+   * @throws uk.co.noop.themis.exception.ThemisTargetException Extensions of
+   * <code>ThemisTargetException</code> will be thrown for any invalid parameter
+   * scenarios.
+   *
+   * @see StringEunomia
+   * @see FormatRules
+   * @see uk.co.noop.themis.exception.ThemisNullTargetException
+   * @see uk.co.noop.themis.exception.ThemisInvalidTargetException
+   * @see uk.co.noop.themis.exception.ThemisTargetException
+   */
+  public StringEunomia againstNonIpv6Addresses() {
+
+    return againstViolation(
+        "againstNonIpv6Addresses",
+        FormatRules.ipv6AddressViolation(getTarget()));
+  }
+
+  /**
+   * <p>Validates against <b>target</b> values (<code>null</code> or a
+   * <code>String</code>) that are empty or not hexadecimal (See: {@link
+   * FormatRules#hexViolation(String)}).</p>
+   *
+   * <p>This will result in a {@link
+   * uk.co.noop.themis.exception.ThemisNullTargetException
+   * ThemisNullTargetException} if the <b>target</b> <code>String</code> is
+   * <code>null</code> or a {@link
+   * uk.co.noop.themis.exception.ThemisInvalidTargetException
+   * ThemisInvalidTargetException} if the <b>target</b> <code>String</code> is
+   * empty or not hexadecimal.</p>
+   *
+   * @return <code>this</code> instance of {@link StringEunomia} to further
+   * validate the <b>target</b> <code>String</code>. This will never be
+   * <code>null</code>.
+   *
+   * @throws uk.co.noop.themis.exception.ThemisTargetException Extensions of
+   * <code>ThemisTargetException</code> will be thrown for any invalid parameter
+   * scenarios.
+   *
+   * @see StringEunomia
+   * @see FormatRules
+   * @see uk.co.noop.themis.exception.ThemisNullTargetException
+   * @see uk.co.noop.themis.exception.ThemisInvalidTargetException
+   * @see uk.co.noop.themis.exception.ThemisTargetException
+   */
+  public StringEunomia againstNonHexStrings() {
+
+    return againstViolation(
+        "againstNonHexStrings",
+        FormatRules.hexViolation(getTarget()));
+  }
+
+  /**
+   * <p>Validates against <b>target</b> values (<code>null</code> or a
+   * <code>String</code>) that are empty or not Base64 (See: {@link
+   * FormatRules#base64Violation(String)}).</p>
+   *
+   * <p>This will result in a {@link
+   * uk.co.noop.themis.exception.ThemisNullTargetException
+   * ThemisNullTargetException} if the <b>target</b> <code>String</code> is
+   * <code>null</code> or a {@link
+   * uk.co.noop.themis.exception.ThemisInvalidTargetException
+   * ThemisInvalidTargetException} if the <b>target</b> <code>String</code> is
+   * empty or not Base64.</p>
+   *
+   * @return <code>this</code> instance of {@link StringEunomia} to further
+   * validate the <b>target</b> <code>String</code>. This will never be
+   * <code>null</code>.
+   *
+   * @throws uk.co.noop.themis.exception.ThemisTargetException Extensions of
+   * <code>ThemisTargetException</code> will be thrown for any invalid parameter
+   * scenarios.
+   *
+   * @see StringEunomia
+   * @see FormatRules
+   * @see uk.co.noop.themis.exception.ThemisNullTargetException
+   * @see uk.co.noop.themis.exception.ThemisInvalidTargetException
+   * @see uk.co.noop.themis.exception.ThemisTargetException
+   */
+  public StringEunomia againstNonBase64Strings() {
+
+    return againstViolation(
+        "againstNonBase64Strings",
+        FormatRules.base64Violation(getTarget()));
+  }
+
+  /**
+   * <p>Validates against <b>target</b> values (<code>null</code> or a
+   * <code>String</code>) that do not match the whole of the specified
+   * {@link Pattern}.</p>
+   *
+   * <p>This will result in a {@link
+   * uk.co.noop.themis.exception.ThemisNullTargetException
+   * ThemisNullTargetException} if the <b>target</b> <code>String</code> is
+   * <code>null</code> or a {@link
+   * uk.co.noop.themis.exception.ThemisInvalidTargetException
+   * ThemisInvalidTargetException} if the <b>target</b> <code>String</code>
+   * does not match.</p>
+   *
+   * @param pattern The <code>Pattern</code>, which should be held as a
+   *                constant rather than compiled for each <b>target</b>.
+   *
+   * @return <code>this</code> instance of {@link StringEunomia} to further
+   * validate the <b>target</b> <code>String</code>. This will never be
+   * <code>null</code>.
+   *
+   * @throws uk.co.noop.themis.exception.ThemisTargetException Extensions of
+   * <code>ThemisTargetException</code> will be thrown for any invalid parameter
+   * scenarios.
+   *
+   * @see #againstNonMatching(String)
+   * @see StringEunomia
+   * @see uk.co.noop.themis.exception.ThemisNullTargetException
+   * @see uk.co.noop.themis.exception.ThemisInvalidTargetException
+   * @see uk.co.noop.themis.exception.ThemisTargetException
+   */
+  public StringEunomia againstNonMatching(final Pattern pattern) {
+
+    return againstViolation(
+        "againstNonMatching",
+        FormatRules.nonMatchingViolation(getTarget(), pattern));
+  }
+
+  /**
+   * <p>Validates against <b>target</b> values (<code>null</code> or a
+   * <code>String</code>) that do not match the whole of the specified
+   * <b>regex</b>. The regex is compiled once and then shared through a cache
+   * (See: {@link FormatRules#pattern(String)}), so it is not recompiled for
+   * each <b>target</b>, unlike <code>Pattern.matches</code>.</p>
+   *
+   * <p>This will result in a {@link
+   * uk.co.noop.themis.exception.ThemisNullTargetException
+   * ThemisNullTargetException} if the <b>target</b> <code>String</code> is
+   * <code>null</code> or a {@link
+   * uk.co.noop.themis.exception.ThemisInvalidTargetException
+   * ThemisInvalidTargetException} if the <b>target</b> <code>String</code>
+   * does not match.</p>
+   *
+   * @param regex The regular expression.
+   *
+   * @return <code>this</code> instance of {@link StringEunomia} to further
+   * validate the <b>target</b> <code>String</code>. This will never be
+   * <code>null</code>.
+   *
+   * @throws uk.co.noop.themis.exception.ThemisTargetException Extensions of
+   * <code>ThemisTargetException</code> will be thrown for any invalid parameter
+   * scenarios.
+   * @throws java.util.regex.PatternSyntaxException If <b>regex</b> is
+   * invalid.
+   *
+   * @see #againstNonMatching(Pattern)
+   * @see StringEunomia
+   * @see uk.co.noop.themis.exception.ThemisNullTargetException
+   * @see uk.co.noop.themis.exception.ThemisInvalidTargetException
+   * @see uk.co.noop.themis.exception.ThemisTargetException
+   */
+  public StringEunomia againstNonMatching(final String regex) {
+    return againstNonMatching(FormatRules.pattern(regex));
+  }
+
+  /**
+   * <p>Validates against <b>target</b> values (<code>null</code> or a
+   * <code>String</code>) that are not in the specified {@link ValueSet}.</p>
+   *
+   * <p>This will result in a {@link
+   * uk.co.noop.themis.exception.ThemisInvalidTargetException
+   * ThemisInvalidTargetException} if the <b>target</b> <code>String</code>
+   * is not in <b>allowed</b>, or a {@link
+   * uk.co.noop.themis.exception.ThemisNullTargetException
+   * ThemisNullTargetException} if it is <code>null</code>.</p>
+   *
+   * <p>For example, with a set built once:</p>
+   *
+   * <p><code>
+   * Themis.validate("currency", target).againstValuesNotIn(CURRENCIES);
+   * </code></p>
+   *
+   * @param allowed The allowed values.
+   *
+   * @return <code>this</code> instance of {@link StringEunomia} to further
+   * validate the <b>target</b> <code>String</code>. This will never be
+   * <code>null</code>.
+   *
+   * @throws uk.co.noop.themis.exception.ThemisTargetException Extensions of
+   * <code>ThemisTargetException</code> will be thrown for any invalid parameter
+   * scenarios.
+   *
+   * @see ValueSet
+   * @see StringEunomia
+   * @see uk.co.noop.themis.exception.ThemisNullTargetException
+   * @see uk.co.noop.themis.exception.ThemisInvalidTargetException
+   * @see uk.co.noop.themis.exception.ThemisTargetException
+   */
+  public StringEunomia againstValuesNotIn(final ValueSet<String> allowed) {
+
+    return againstViolation(
+        "againstValuesNotIn",
+        ObjectRules.valueNotInViolation(getTarget(), allowed));
   }
 
   /**
@@ -165,18 +780,7 @@ public class StringEunomia extends AbstractEunomia<String, StringEunomia> {
   public StringEunomia againstInvalidStrings(
       final Predicate<String> predicate) {
 
-    return againstInvalidValues(predicate);
-  }
-
-  /**
-   * <p>Returns a new {@link ThemisBlankTargetStringException}.</p>
-   *
-   * @return a new <code>ThemisBlankTargetStringException</code>.
-   *
-   * @see ThemisBlankTargetStringException
-   */
-  private ThemisBlankTargetStringException blankTargetStringDetected() {
-    return new ThemisBlankTargetStringException(getTargetName());
+    return againstInvalidValues("againstInvalidStrings", predicate);
   }
 
 }
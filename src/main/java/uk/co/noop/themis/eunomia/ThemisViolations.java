@@ -0,0 +1,92 @@
+package uk.co.noop.themis.eunomia;
+
+import uk.co.noop.themis.exception.ThemisTargetException;
+import uk.co.noop.themis.metrics.ThemisFailureTracker;
+import uk.co.noop.themis.metrics.ThemisMetrics;
+import uk.co.noop.themis.violation.ThemisViolationHandler;
+import uk.co.noop.themis.violation.ThemisViolationType;
+
+import java.util.function.Supplier;
+
+/**
+ * <p>The one place a violation of a <b>target</b> is raised, i.e. passed to
+ * a {@link ThemisViolationHandler} or thrown.</p>
+ *
+ * <p><b>This is internal to Themis.</b> It is public only so that the
+ * packages of Themis can share it; it is not part of the supported API and
+ * may change without notice. Custom Eunomia classes raise their violations
+ * through {@link AbstractEunomia} instead.</p>
+ *
+ * <p>Eunomia instances, {@link uk.co.noop.themis.validator.ThemisValidator
+ * ThemisValidator}, annotated targets, column validators and failing streams
+ * raise their violations through {@link #raise}, so the
+ * {@link ThemisFailureTracker} and the
+ * <code>uk.co.noop.themis.Violation</code> Java Flight Recorder event see
+ * each violation once, however it was found. Checks that only report a
+ * {@link uk.co.noop.themis.violation.ThemisResult ThemisResult}, e.g.
+ * <code>ThemisValidator.check</code>, raise nothing until their caller
+ * does.</p>
+ *
+ * <p>A blank <b>targetName</b> passed to Themis itself is an invalid
+ * argument rather than a violation of a <b>target</b>, so it is thrown
+ * directly (See:
+ * {@link uk.co.noop.themis.rule.StringRules#validateTargetName(String)})
+ * and, as with the {@link ThemisMetrics} counters, is not recorded. Those
+ * counters are recorded by each check, as they count passing checks
+ * too.</p>
+ */
+public final class ThemisViolations {
+
+  /**
+   * <p>Raises a violation of the <b>target</b> with the specified
+   * <b>targetName</b>: records it in the installed
+   * {@link ThemisFailureTracker}, if any, and passes it to the
+   * <b>violationHandler</b>, committing a Java Flight Recorder event for it
+   * while a recording has the event enabled.</p>
+   *
+   * <p>With {@link ThemisViolationHandler#THROWING} this always throws.</p>
+   *
+   * @param targetName The name of the invalid <b>target</b>.
+   * @param rule The name of the rule that failed.
+   * @param violationType The kind of violation.
+   * @param exceptionSupplier Supplies the <code>ThemisTargetException</code>
+   *                          for the violation.
+   * @param violationHandler Handles the violation.
+   *
+   * @throws ThemisTargetException If the <code>ThemisViolationHandler</code>
+   * throws on violations.
+   */
+  public static void raise(
+      final String targetName,
+      final String rule,
+      final ThemisViolationType violationType,
+      final Supplier<? extends ThemisTargetException> exceptionSupplier,
+      final ThemisViolationHandler violationHandler) {
+
+    final ThemisFailureTracker failureTracker =
+        ThemisMetrics.getFailureTracker();
+
+    if (failureTracker != null) {
+      failureTracker.record(targetName, rule);
+    }
+
+    if (FlightRecording.isViolationEnabled()) {
+      FlightRecording.onViolation(
+          targetName,
+          rule,
+          violationType,
+          exceptionSupplier,
+          violationHandler);
+    } else {
+      violationHandler.onViolation(
+          targetName,
+          violationType,
+          exceptionSupplier);
+    }
+  }
+
+  private ThemisViolations() {
+    super();
+  }
+
+}
@@ -0,0 +1,570 @@
+package uk.co.noop.themis.eunomia;
+
+import uk.co.noop.themis.rule.CharacterSet;
+import uk.co.noop.themis.rule.Utf8Rules;
+import uk.co.noop.themis.violation.ThemisViolationHandler;
+import uk.co.noop.themis.violation.ThemisViolationType;
+
+import java.nio.ByteBuffer;
+import java.util.Objects;
+import java.util.function.Predicate;
+
+/**
+ * <p>A default Eunomia instance for validating against various invalid
+ * UTF-8 encoded <b>target</b> scenarios, where the <b>target</b> is a
+ * <code>byte[]</code> slice or the remaining bytes of a heap or direct
+ * {@link ByteBuffer}.</p>
+ *
+ * <p>The <b>target</b> is tested in place with {@link Utf8Rules}, so a
+ * payload can be rejected before it is decoded into a <code>String</code> or
+ * copied. A <code>byte[]</code> slice is only wrapped in a
+ * <code>ByteBuffer</code> for the message of a {@link
+ * uk.co.noop.themis.exception.ThemisInvalidTargetException
+ * ThemisInvalidTargetException} or to apply a {@link
+ * uk.co.noop.themis.rule.ThemisRule ThemisRule} or a
+ * <code>Predicate</code>, and the message never includes the bytes
+ * themselves.</p>
+ */
+public class Utf8Eunomia extends AbstractEunomia<ByteBuffer, Utf8Eunomia> {
+
+  private final byte[] bytes;
+  private final int offset;
+  private final int length;
+  private final ByteBuffer buffer;
+
+  /**
+   * <p>Creates a new instance of <code>Utf8Eunomia</code> using the specified
+   * <b>targetName</b> and <b>target</b> slice.</p>
+   *
+   * @param targetName The <b>target</b> name; this should not be
+   *                   <code>null</code>, empty or contain only whitespace
+   *                   characters but this is not validated.
+   * @param target The target bytes.
+   * @param offset The index of the first byte of the slice.
+   * @param length The number of bytes in the slice.
+   *
+   * @throws IndexOutOfBoundsException If the <b>target</b> is not
+   * <code>null</code> and the slice is out of its bounds.
+   */
+  public Utf8Eunomia(
+      final String targetName,
+      final byte[] target,
+      final int offset,
+      final int length) {
+
+    this(targetName, target, offset, length, ThemisViolationHandler.THROWING);
+  }
+
+  /**
+   * <p>Creates a new instance of <code>Utf8Eunomia</code> using the specified
+   * <b>targetName</b>, <b>target</b> slice and <b>violationHandler</b>.</p>
+   *
+   * @param targetName The <b>target</b> name; this should not be
+   *                   <code>null</code>, empty or contain only whitespace
+   *                   characters but this is not validated.
+   * @param target The target bytes.
+   * @param offset The index of the first byte of the slice.
+   * @param length The number of bytes in the slice.
+   * @param violationHandler Handles any violations detected; this should not
+   *                         be <code>null</code> but this is not validated.
+   *
+   * @throws IndexOutOfBoundsException If the <b>target</b> is not
+   * <code>null</code> and the slice is out of its bounds.
+   *
+   * @see ThemisViolationHandler
+   */
+  public Utf8Eunomia(
+      final String targetName,
+      final byte[] target,
+      final int offset,
+      final int length,
+      final ThemisViolationHandler violationHandler) {
+
+    super(targetName, null, violationHandler);
+
+    if (target != null) {
+      Objects.checkFromIndexSize(offset, length, target.length);
+    }
+
+    this.bytes = target;
+    this.offset = offset;
+    this.length = length;
+    this.buffer = null;
+  }
+
+  /**
+   * <p>Creates a new instance of <code>Utf8Eunomia</code> using the specified
+   * <b>targetName</b> and <b>target</b> buffer.</p>
+   *
+   * @param targetName The <b>target</b> name; this should not be
+   *                   <code>null</code>, empty or contain only whitespace
+   *                   characters but this is not validated.
+   * @param target The target; its bytes from its position to its limit.
+   */
+  public Utf8Eunomia(final String targetName, final ByteBuffer target) {
+    this(targetName, target, ThemisViolationHandler.THROWING);
+  }
+
+  /**
+   * <p>Creates a new instance of <code>Utf8Eunomia</code> using the specified
+   * <b>targetName</b>, <b>target</b> buffer and <b>violationHandler</b>.</p>
+   *
+   * @param targetName The <b>target</b> name; this should not be
+   *                   <code>null</code>, empty or contain only whitespace
+   *                   characters but this is not validated.
+   * @param target The target; its bytes from its position to its limit.
+   * @param violationHandler Handles any violations detected; this should not
+   *                         be <code>null</code> but this is not validated.
+   *
+   * @see ThemisViolationHandler
+   */
+  public Utf8Eunomia(
+      final String targetName,
+      final ByteBuffer target,
+      final ThemisViolationHandler violationHandler) {
+
+    super(targetName, null, violationHandler);
+
+    this.bytes = null;
+    this.offset = 0;
+    this.length = 0;
+    this.buffer = target;
+  }
+
+  /**
+   * <p>Validates against <code>null</code> <b>target</b> values.</p>
+   *
+   * <p>This will result in a {@link
+   * uk.co.noop.themis.exception.ThemisNullTargetException
+   * ThemisNullTargetException} if the <b>target</b> is
+   * <code>null</code>.</p>
+   *
+   * @return <code>this</code> instance of {@link Utf8Eunomia} to further
+   * validate the <b>target</b>. This will never be <code>null</code>.
+   *
+   * @throws uk.co.noop.themis.exception.ThemisTargetException Extensions of
+   * <code>ThemisTargetException</code> will be thrown for any invalid parameter
+   * scenarios.
+   *
+   * @see Utf8Eunomia
+   * @see uk.co.noop.themis.exception.ThemisNullTargetException
+   * @see uk.co.noop.themis.exception.ThemisTargetException
+   */
+  public Utf8Eunomia againstNullUtf8Bytes() {
+
+    return againstViolation(
+        "againstNullUtf8Bytes",
+        bytes == null && buffer == null
+            ? ThemisViolationType.NULL_TARGET
+            : null);
+  }
+
+  /**
+   * <p>Validates against empty <b>target</b> values (<code>null</code> or no
+   * bytes).</p>
+   *
+   * <p>This will result in a {@link
+   * uk.co.noop.themis.exception.ThemisNullTargetException
+   * ThemisNullTargetException} if the <b>target</b> is <code>null</code> or a
+   * {@link uk.co.noop.themis.exception.ThemisEmptyTargetException
+   * ThemisEmptyTargetException} if it has no bytes.</p>
+   *
+   * @return <code>this</code> instance of {@link Utf8Eunomia} to further
+   * validate the <b>target</b>. This will never be <code>null</code>.
+   *
+   * @throws uk.co.noop.themis.exception.ThemisTargetException Extensions of
+   * <code>ThemisTargetException</code> will be thrown for any invalid parameter
+   * scenarios.
+   *
+   * @see Utf8Eunomia
+   * @see uk.co.noop.themis.exception.ThemisEmptyTargetException
+   * @see uk.co.noop.themis.exception.ThemisTargetException
+   */
+  public Utf8Eunomia againstEmptyUtf8Bytes() {
+
+    return againstViolation(
+        "againstEmptyUtf8Bytes",
+        buffer == null
+            ? Utf8Rules.emptyViolation(bytes, offset, length)
+            : Utf8Rules.emptyViolation(buffer));
+  }
+
+  /**
+   * <p>Validates against blank <b>target</b> values (<code>null</code>, no
+   * bytes or only whitespace characters, as defined by
+   * {@link String#trim()}).</p>
+   *
+   * <p>This will result in a {@link
+   * uk.co.noop.themis.exception.ThemisNullTargetException
+   * ThemisNullTargetException} if the <b>target</b> is <code>null</code>, a
+   * {@link uk.co.noop.themis.exception.ThemisEmptyTargetException
+   * ThemisEmptyTargetException} if it has no bytes or a {@link
+   * uk.co.noop.themis.exception.ThemisBlankTargetStringException
+   * ThemisBlankTargetStringException} if it contains only whitespace
+   * characters.</p>
+   *
+   * @return <code>this</code> instance of {@link Utf8Eunomia} to further
+   * validate the <b>target</b>. This will never be <code>null</code>.
+   *
+   * @throws uk.co.noop.themis.exception.ThemisTargetException Extensions of
+   * <code>ThemisTargetException</code> will be thrown for any invalid parameter
+   * scenarios.
+   *
+   * @see Utf8Eunomia
+   * @see uk.co.noop.themis.exception.ThemisBlankTargetStringException
+   * @see uk.co.noop.themis.exception.ThemisTargetException
+   */
+  public Utf8Eunomia againstBlankUtf8Bytes() {
+
+    return againstViolation(
+        "againstBlankUtf8Bytes",
+        buffer == null
+            ? Utf8Rules.blankViolation(bytes, offset, length)
+            : Utf8Rules.blankViolation(buffer));
+  }
+
+  /**
+   * <p>Validates against <b>target</b> values (<code>null</code> or bytes)
+   * that are not well-formed UTF-8.</p>
+   *
+   * <p>This will result in a {@link
+   * uk.co.noop.themis.exception.ThemisNullTargetException
+   * ThemisNullTargetException} if the <b>target</b> is <code>null</code> or a
+   * {@link uk.co.noop.themis.exception.ThemisInvalidTargetException
+   * ThemisInvalidTargetException} if it contains an invalid or truncated
+   * sequence, an overlong encoding, a surrogate or a code point above
+   * <code>U+10FFFF</code>.</p>
+   *
+   * @return <code>this</code> instance of {@link Utf8Eunomia} to further
+   * validate the <b>target</b>. This will never be <code>null</code>.
+   *
+   * @throws uk.co.noop.themis.exception.ThemisTargetException Extensions of
+   * <code>ThemisTargetException</code> will be thrown for any invalid parameter
+   * scenarios.
+   *
+   * @see Utf8Eunomia
+   * @see uk.co.noop.themis.exception.ThemisInvalidTargetException
+   * @see uk.co.noop.themis.exception.ThemisTargetException
+   */
+  public Utf8Eunomia againstMalformedUtf8Bytes() {
+
+    return againstViolation(
+        "againstMalformedUtf8Bytes",
+        buffer == null
+            ? Utf8Rules.malformedViolation(bytes, offset, length)
+            : Utf8Rules.malformedViolation(buffer));
+  }
+
+  /**
+   * <p>Validates against short <b>target</b> values (<code>null</code> or
+   * fewer bytes than the specified <b>minBytes</b>).</p>
+   *
+   * <p>This will result in a {@link
+   * uk.co.noop.themis.exception.ThemisNullTargetException
+   * ThemisNullTargetException} if the <b>target</b> is <code>null</code> or a
+   * {@link uk.co.noop.themis.exception.ThemisInvalidTargetException
+   * ThemisInvalidTargetException} if it is shorter than <b>minBytes</b>.</p>
+   *
+   * @param minBytes The minimum length, in bytes.
+   *
+   * @return <code>this</code> instance of {@link Utf8Eunomia} to further
+   * validate the <b>target</b>. This will never be <code>null</code>.
+   *
+   * @throws uk.co.noop.themis.exception.ThemisTargetException Extensions of
+   * <code>ThemisTargetException</code> will be thrown for any invalid parameter
+   * scenarios.
+   *
+   * @see Utf8Eunomia
+   * @see uk.co.noop.themis.exception.ThemisInvalidTargetException
+   * @see uk.co.noop.themis.exception.ThemisTargetException
+   */
+  public Utf8Eunomia againstShortUtf8Bytes(final int minBytes) {
+
+    return againstViolation(
+        "againstShortUtf8Bytes",
+        buffer == null
+            ? Utf8Rules.shortBytesViolation(bytes, offset, length, minBytes)
+            : Utf8Rules.shortBytesViolation(buffer, minBytes));
+  }
+
+  /**
+   * <p>Validates against long <b>target</b> values (<code>null</code> or more
+   * bytes than the specified <b>maxBytes</b>).</p>
+   *
+   * <p>This will result in a {@link
+   * uk.co.noop.themis.exception.ThemisNullTargetException
+   * ThemisNullTargetException} if the <b>target</b> is <code>null</code> or a
+   * {@link uk.co.noop.themis.exception.ThemisInvalidTargetException
+   * ThemisInvalidTargetException} if it is longer than <b>maxBytes</b>.</p>
+   *
+   * @param maxBytes The maximum length, in bytes.
+   *
+   * @return <code>this</code> instance of {@link Utf8Eunomia} to further
+   * validate the <b>target</b>. This will never be <code>null</code>.
+   *
+   * @throws uk.co.noop.themis.exception.ThemisTargetException Extensions of
+   * <code>ThemisTargetException</code> will be thrown for any invalid parameter
+   * scenarios.
+   *
+   * @see Utf8Eunomia
+   * @see uk.co.noop.themis.exception.ThemisInvalidTargetException
+   * @see uk.co.noop.themis.exception.ThemisTargetException
+   */
+  public Utf8Eunomia againstLongUtf8Bytes(final int maxBytes) {
+
+    return againstViolation(
+        "againstLongUtf8Bytes",
+        buffer == null
+            ? Utf8Rules.longBytesViolation(bytes, offset, length, maxBytes)
+            : Utf8Rules.longBytesViolation(buffer, maxBytes));
+  }
+
+  /**
+   * <p>Validates against short <b>target</b> values (<code>null</code> or
+   * fewer code points than the specified <b>minCodePoints</b>).</p>
+   *
+   * <p>This will result in a {@link
+   * uk.co.noop.themis.exception.ThemisNullTargetException
+   * ThemisNullTargetException} if the <b>target</b> is <code>null</code> or a
+   * {@link uk.co.noop.themis.exception.ThemisInvalidTargetException
+   * ThemisInvalidTargetException} if it encodes fewer than
+   * <b>minCodePoints</b> code points.</p>
+   *
+   * @param minCodePoints The minimum length, in code points.
+   *
+   * @return <code>this</code> instance of {@link Utf8Eunomia} to further
+   * validate the <b>target</b>. This will never be <code>null</code>.
+   *
+   * @throws uk.co.noop.themis.exception.ThemisTargetException Extensions of
+   * <code>ThemisTargetException</code> will be thrown for any invalid parameter
+   * scenarios.
+   *
+   * @see Utf8Rules#shortCodePointsViolation(byte[], int, int, int)
+   * @see uk.co.noop.themis.exception.ThemisInvalidTargetException
+   * @see uk.co.noop.themis.exception.ThemisTargetException
+   */
+  public Utf8Eunomia againstShortUtf8CodePoints(final int minCodePoints) {
+
+    return againstViolation(
+        "againstShortUtf8CodePoints",
+        buffer == null
+            ? Utf8Rules.shortCodePointsViolation(
+                bytes,
+                offset,
+                length,
+                minCodePoints)
+            : Utf8Rules.shortCodePointsViolation(buffer, minCodePoints));
+  }
+
+  /**
+   * <p>Validates against long <b>target</b> values (<code>null</code> or more
+   * code points than the specified <b>maxCodePoints</b>).</p>
+   *
+   * <p>This will result in a {@link
+   * uk.co.noop.themis.exception.ThemisNullTargetException
+   * ThemisNullTargetException} if the <b>target</b> is <code>null</code> or a
+   * {@link uk.co.noop.themis.exception.ThemisInvalidTargetException
+   * ThemisInvalidTargetException} if it encodes more than
+   * <b>maxCodePoints</b> code points.</p>
+   *
+   * @param maxCodePoints The maximum length, in code points.
+   *
+   * @return <code>this</code> instance of {@link Utf8Eunomia} to further
+   * validate the <b>target</b>. This will never be <code>null</code>.
+   *
+   * @throws uk.co.noop.themis.exception.ThemisTargetException Extensions of
+   * <code>ThemisTargetException</code> will be thrown for any invalid parameter
+   * scenarios.
+   *
+   * @see Utf8Rules#longCodePointsViolation(byte[], int, int, int)
+   * @see uk.co.noop.themis.exception.ThemisInvalidTargetException
+   * @see uk.co.noop.themis.exception.ThemisTargetException
+   */
+  public Utf8Eunomia againstLongUtf8CodePoints(final int maxCodePoints) {
+
+    return againstViolation(
+        "againstLongUtf8CodePoints",
+        buffer == null
+            ? Utf8Rules.longCodePointsViolation(
+                bytes,
+                offset,
+                length,
+                maxCodePoints)
+            : Utf8Rules.longCodePointsViolation(buffer, maxCodePoints));
+  }
+
+  /**
+   * <p>Validates against <b>target</b> values (<code>null</code> or bytes)
+   * that decode to any <code>char</code> outside the specified
+   * {@link CharacterSet}, or that are not well-formed UTF-8.</p>
+   *
+   * <p>This will result in a {@link
+   * uk.co.noop.themis.exception.ThemisNullTargetException
+   * ThemisNullTargetException} if the <b>target</b> is <code>null</code> or a
+   * {@link uk.co.noop.themis.exception.ThemisInvalidTargetException
+   * ThemisInvalidTargetException} if it contains a character that is not
+   * allowed or a malformed sequence.</p>
+   *
+   * <p>For example, to accept only text that ISO-8859-1 can encode:</p>
+   *
+   * <p><code>
+   * private static final CharacterSet LATIN_1 =<br>
+   * &nbsp; CharacterSet.range((char) 0x00, (char) 0xFF);<br>
+   * <br>
+   * Themis.validateUtf8("name", payload)<br>
+   * &nbsp; &nbsp;.againstCharactersOutside(LATIN_1);
+   * </code></p>
+   *
+   * @param allowed The allowed characters.
+   *
+   * @return <code>this</code> instance of {@link Utf8Eunomia} to further
+   * validate the <b>target</b>. This will never be <code>null</code>.
+   *
+   * @throws uk.co.noop.themis.exception.ThemisTargetException Extensions of
+   * <code>ThemisTargetException</code> will be thrown for any invalid parameter
+   * scenarios.
+   *
+   * @see CharacterSet
+   * @see Utf8Eunomia
+   * @see uk.co.noop.themis.exception.ThemisInvalidTargetException
+   * @see uk.co.noop.themis.exception.ThemisTargetException
+   */
+  public Utf8Eunomia againstCharactersOutside(final CharacterSet allowed) {
+
+    return againstViolation(
+        "againstCharactersOutside",
+        buffer == null
+            ? Utf8Rules.charactersOutsideViolation(
+                bytes,
+                offset,
+                length,
+                allowed)
+            : Utf8Rules.charactersOutsideViolation(buffer, allowed));
+  }
+
+  /**
+   * <p>Validates against <b>target</b> values (<code>null</code> or bytes)
+   * containing any non-ASCII character, i.e. any byte above
+   * <code>0x7F</code>.</p>
+   *
+   * <p>This will result in a {@link
+   * uk.co.noop.themis.exception.ThemisNullTargetException
+   * ThemisNullTargetException} if the <b>target</b> is <code>null</code> or a
+   * {@link uk.co.noop.themis.exception.ThemisInvalidTargetException
+   * ThemisInvalidTargetException} if it contains a non-ASCII byte.</p>
+   *
+   * @return <code>this</code> instance of {@link Utf8Eunomia} to further
+   * validate the <b>target</b>. This will never be <code>null</code>.
+   *
+   * @throws uk.co.noop.themis.exception.ThemisTargetException Extensions of
+   * <code>ThemisTargetException</code> will be thrown for any invalid parameter
+   * scenarios.
+   *
+   * @see Utf8Eunomia
+   * @see uk.co.noop.themis.exception.ThemisInvalidTargetException
+   * @see uk.co.noop.themis.exception.ThemisTargetException
+   */
+  public Utf8Eunomia againstNonAsciiCharacters() {
+
+    return againstViolation(
+        "againstNonAsciiCharacters",
+        buffer == null
+            ? Utf8Rules.nonAsciiCharactersViolation(bytes, offset, length)
+            : Utf8Rules.nonAsciiCharactersViolation(buffer));
+  }
+
+  /**
+   * <p>Validates against <b>target</b> values (<code>null</code> or bytes)
+   * containing any ISO control character (See:
+   * {@link Character#isISOControl(int)}), or that are not well-formed
+   * UTF-8.</p>
+   *
+   * <p>This will result in a {@link
+   * uk.co.noop.themis.exception.ThemisNullTargetException
+   * ThemisNullTargetException} if the <b>target</b> is <code>null</code> or a
+   * {@link uk.co.noop.themis.exception.ThemisInvalidTargetException
+   * ThemisInvalidTargetException} if it contains a control character or a
+   * malformed sequence.</p>
+   *
+   * @return <code>this</code> instance of {@link Utf8Eunomia} to further
+   * validate the <b>target</b>. This will never be <code>null</code>.
+   *
+   * @throws uk.co.noop.themis.exception.ThemisTargetException Extensions of
+   * <code>ThemisTargetException</code> will be thrown for any invalid parameter
+   * scenarios.
+   *
+   * @see Utf8Eunomia
+   * @see uk.co.noop.themis.exception.ThemisInvalidTargetException
+   * @see uk.co.noop.themis.exception.ThemisTargetException
+   */
+  public Utf8Eunomia againstControlCharacters() {
+
+    return againstViolation(
+        "againstControlCharacters",
+        buffer == null
+            ? Utf8Rules.controlCharactersViolation(bytes, offset, length)
+            : Utf8Rules.controlCharactersViolation(buffer));
+  }
+
+  /**
+   * <p>Validates against invalid <b>target</b> values using the specified
+   * {@link Predicate}.</p>
+   *
+   * <p>This will result in a {@link
+   * uk.co.noop.themis.exception.ThemisInvalidTargetException
+   * ThemisInvalidTargetException} if the <code>Predicate</code> returns
+   * <code>true</code> when testing the <b>target</b>.</p>
+   *
+   * <p>The <code>Predicate</code> is passed a <code>ByteBuffer</code> over
+   * the <b>target</b> bytes; a <code>byte[]</code> slice is wrapped, without
+   * copying, for the call.</p>
+   *
+   * @param predicate The <code>Predicate</code> used to test the
+   *                  <b>target</b>. Returns <code>true</code> if the
+   *                  <b>target</b> is invalid.
+   *
+   * @return <code>this</code> instance of {@link Utf8Eunomia} to further
+   * validate the <b>target</b>. This will never be <code>null</code>.
+   *
+   * @throws uk.co.noop.themis.exception.ThemisTargetException Extensions of
+   * <code>ThemisTargetException</code> will be thrown for any invalid parameter
+   * scenarios.
+   *
+   * @see Predicate
+   * @see Utf8Eunomia
+   * @see uk.co.noop.themis.exception.ThemisInvalidTargetException
+   * @see uk.co.noop.themis.exception.ThemisTargetException
+   */
+  public Utf8Eunomia againstInvalidUtf8Bytes(
+      final Predicate<ByteBuffer> predicate) {
+
+    return againstInvalidValues("againstInvalidUtf8Bytes", predicate);
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * <p>A <code>byte[]</code> slice is wrapped in a new
+   * <code>ByteBuffer</code> on each call.</p>
+   */
+  @Override
+  protected ByteBuffer getTarget() {
+
+    if (buffer != null || bytes == null) {
+      return buffer;
+    }
+
+    return ByteBuffer.wrap(bytes, offset, length).slice();
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @return <code>this</code> instance of <code>Utf8Eunomia</code>.
+   */
+  @Override
+  protected Utf8Eunomia getEunomia() {
+    return this;
+  }
+
+}
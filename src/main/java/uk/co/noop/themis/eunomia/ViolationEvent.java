@@ -0,0 +1,40 @@
+package uk.co.noop.themis.eunomia;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * <p>The Java Flight Recorder event committed for every violation detected
+ * by a Eunomia, whether it is thrown or recorded.</p>
+ *
+ * <p>The event is only created on the failing path and records no stack
+ * trace, so it is cheap to leave enabled; while no recording is running it
+ * costs nothing.</p>
+ */
+@Name(ViolationEvent.NAME)
+@Label("Themis Violation")
+@Category("Themis")
+@Description("A target failed a validation rule")
+@StackTrace(false)
+final class ViolationEvent extends Event {
+
+  static final String NAME = "uk.co.noop.themis.Violation";
+
+  @Label("Target Name")
+  String targetName;
+
+  @Label("Rule")
+  String rule;
+
+  @Label("Violation Type")
+  String violationType;
+
+  @Label("Exception Type")
+  @Description("The exception created for the violation, if any")
+  Class<?> exceptionType;
+
+}
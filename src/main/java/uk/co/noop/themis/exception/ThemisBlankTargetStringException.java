@@ -9,7 +9,7 @@ package uk.co.noop.themis.exception;
  */
 public class ThemisBlankTargetStringException extends ThemisTargetException {
 
-  private static final String MESSAGE_FORMAT =
+  static final String MESSAGE_FORMAT =
       "Themis detected a blank target `String`; `%s` cannot be blank.";
 
   /**
@@ -19,7 +19,21 @@ public class ThemisBlankTargetStringException extends ThemisTargetException {
    * @param targetName The name of the <b>target</b>.
    */
   public ThemisBlankTargetStringException(final String targetName) {
-    super(String.format(MESSAGE_FORMAT, targetName));
+    super(MESSAGE_FORMAT, targetName, null);
+  }
+
+  /**
+   * <p>Creates a new instance of <code>ThemisBlankTargetStringException</code>
+   * with a message prebuilt by {@link ThemisTargetMessages}.</p>
+   *
+   * @param targetName The name of the <b>target</b>.
+   * @param message The prebuilt message.
+   */
+  ThemisBlankTargetStringException(
+      final String targetName,
+      final String message) {
+
+    super(message, null, targetName, null);
   }
 
 }
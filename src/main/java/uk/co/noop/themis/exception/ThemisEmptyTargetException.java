@@ -8,7 +8,7 @@ package uk.co.noop.themis.exception;
  */
 public class ThemisEmptyTargetException extends ThemisTargetException {
 
-  private static final String MESSAGE_FORMAT =
+  static final String MESSAGE_FORMAT =
       "Themis detected an empty target; `%s` cannot be empty.";
 
   /**
@@ -18,7 +18,21 @@ public class ThemisEmptyTargetException extends ThemisTargetException {
    * @param targetName The name of the <b>target</b>.
    */
   public ThemisEmptyTargetException(final String targetName) {
-    super(String.format(MESSAGE_FORMAT, targetName));
+    super(MESSAGE_FORMAT, targetName, null);
+  }
+
+  /**
+   * <p>Creates a new instance of <code>ThemisEmptyTargetException</code>
+   * with a message prebuilt by {@link ThemisTargetMessages}.</p>
+   *
+   * @param targetName The name of the <b>target</b>.
+   * @param message The prebuilt message.
+   */
+  ThemisEmptyTargetException(
+      final String targetName,
+      final String message) {
+
+    super(message, null, targetName, null);
   }
 
 }
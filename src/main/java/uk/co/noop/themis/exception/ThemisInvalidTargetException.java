@@ -8,7 +8,7 @@ package uk.co.noop.themis.exception;
  */
 public class ThemisInvalidTargetException extends ThemisTargetException {
 
-  private static final String MESSAGE_FORMAT =
+  static final String MESSAGE_FORMAT =
       "Themis detected an invalid target; `%s` cannot be `%s`.";
 
   /**
@@ -22,10 +22,25 @@ public class ThemisInvalidTargetException extends ThemisTargetException {
       final String targetName,
       final Object target) {
 
-    super(String.format(
-        MESSAGE_FORMAT,
-        targetName,
-        target == null ? null : target.toString()));
+    super(MESSAGE_FORMAT, targetName, target);
+  }
+
+  /**
+   * <p>Creates a new instance of <code>ThemisInvalidTargetException</code>
+   * with a message prebuilt by {@link ThemisTargetMessages}.</p>
+   *
+   * @param targetName The name of the <b>target</b>.
+   * @param target The <b>target</b>.
+   * @param messagePrefix The message up to the <b>target</b>.
+   * @param messageSuffix The message after the <b>target</b>.
+   */
+  ThemisInvalidTargetException(
+      final String targetName,
+      final Object target,
+      final String messagePrefix,
+      final String messageSuffix) {
+
+    super(messagePrefix, messageSuffix, targetName, target);
   }
 
 }
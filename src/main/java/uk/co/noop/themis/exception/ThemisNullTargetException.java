@@ -8,7 +8,7 @@ package uk.co.noop.themis.exception;
  */
 public class ThemisNullTargetException extends ThemisTargetException {
 
-  private static final String MESSAGE_FORMAT =
+  static final String MESSAGE_FORMAT =
       "Themis detected a `null` target; `%s` cannot be `null`.";
 
   /**
@@ -18,7 +18,21 @@ public class ThemisNullTargetException extends ThemisTargetException {
    * @param targetName The name of the <b>target</b>.
    */
   public ThemisNullTargetException(final String targetName) {
-    super(String.format(MESSAGE_FORMAT, targetName));
+    super(MESSAGE_FORMAT, targetName, null);
+  }
+
+  /**
+   * <p>Creates a new instance of <code>ThemisNullTargetException</code>
+   * with a message prebuilt by {@link ThemisTargetMessages}.</p>
+   *
+   * @param targetName The name of the <b>target</b>.
+   * @param message The prebuilt message.
+   */
+  ThemisNullTargetException(
+      final String targetName,
+      final String message) {
+
+    super(message, null, targetName, null);
   }
 
 }
@@ -1,21 +1,242 @@
 package uk.co.noop.themis.exception;
 
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.io.Serial;
+
 /**
  * <p><code>ThemisTargetException</code> is a {@link RuntimeException} for
  * invalid all <b>target</b> scenarios.</p>
  *
+ * <p>By default a <code>ThemisTargetException</code> captures its stack trace
+ * and formats its message when it is created, like any other
+ * <code>Exception</code>. In lightweight mode (See:
+ * {@link #setLightweight(boolean)}) it skips capturing the stack trace and
+ * formats its message from the stored <b>targetName</b> and <b>target</b>
+ * only when {@link #getMessage()} is first called, which makes the failure
+ * path considerably cheaper when many <b>targets</b> are invalid.</p>
+ *
+ * <p>Lightweight mode can also be enabled at start up with the
+ * <code>uk.co.noop.themis.lightweightExceptions</code> system property.</p>
+ *
  * @see RuntimeException
  */
 public class ThemisTargetException extends RuntimeException {
 
+  private static final long serialVersionUID = 1L;
+
+  private static final String LIGHTWEIGHT_PROPERTY =
+      "uk.co.noop.themis.lightweightExceptions";
+
+  private static volatile boolean lightweight =
+      Boolean.getBoolean(LIGHTWEIGHT_PROPERTY);
+
+  private final transient String messageFormat;
+  private final transient String messagePrefix;
+  private final transient String messageSuffix;
+  private final transient Object target;
+
+  /**
+   * The name of the invalid <b>target</b>, or <code>null</code> if
+   * <code>this</code> exception was created with a plain message.
+   */
+  private final String targetName;
+
+  /**
+   * The message, once formatted; always formatted before serialization, as
+   * the <b>target</b> it may be formatted from is not serialized.
+   */
+  private String message;
+
   /**
    * <p>Creates a new instance of <code>ThemisTargetException</code> with the
    * specified <b>message</b>.</p>
    *
+   * <p>The <b>message</b> is always eager; only the stack trace honours
+   * lightweight mode.</p>
+   *
    * @param message The <b>message</b>.
    */
   protected ThemisTargetException(final String message) {
-    super(message);
+
+    super(message, null, true, !lightweight);
+
+    this.messageFormat = null;
+    this.messagePrefix = null;
+    this.messageSuffix = null;
+    this.targetName = null;
+    this.target = null;
+  }
+
+  /**
+   * <p>Creates a new instance of <code>ThemisTargetException</code> with a
+   * message formatted from the specified <b>messageFormat</b>,
+   * <b>targetName</b> and <b>target</b>, in that order.</p>
+   *
+   * <p>In lightweight mode the message is formatted lazily, so the
+   * <b>target</b>'s <code>toString()</code> is only called if the message is
+   * requested.</p>
+   *
+   * @param messageFormat The {@link String#format(String, Object...)} format
+   *                      of the message.
+   * @param targetName The name of the <b>target</b>.
+   * @param target The <b>target</b>; this may be <code>null</code> if it is
+   *               not part of the message.
+   */
+  protected ThemisTargetException(
+      final String messageFormat,
+      final String targetName,
+      final Object target) {
+
+    this(messageFormat, null, null, targetName, target, lightweight);
+  }
+
+  /**
+   * <p>Creates a new instance of <code>ThemisTargetException</code> with a
+   * message prebuilt for the <b>targetName</b> by {@link
+   * ThemisTargetMessages}: the <b>messagePrefix</b>, followed by the
+   * <b>target</b> and the <b>messageSuffix</b> if there is one.</p>
+   *
+   * <p>Building the message is a concatenation rather than a
+   * <code>String.format</code> call, and in lightweight mode it is still
+   * deferred.</p>
+   *
+   * @param messagePrefix The message up to the <b>target</b>, or the whole
+   *                      message if <b>messageSuffix</b> is
+   *                      <code>null</code>.
+   * @param messageSuffix The message after the <b>target</b>, or
+   *                      <code>null</code> if the <b>target</b> is not part
+   *                      of the message.
+   * @param targetName The name of the <b>target</b>.
+   * @param target The <b>target</b>.
+   */
+  ThemisTargetException(
+      final String messagePrefix,
+      final String messageSuffix,
+      final String targetName,
+      final Object target) {
+
+    this(null, messagePrefix, messageSuffix, targetName, target, lightweight);
+  }
+
+  private ThemisTargetException(
+      final String messageFormat,
+      final String messagePrefix,
+      final String messageSuffix,
+      final String targetName,
+      final Object target,
+      final boolean lightweight) {
+
+    super(
+        lightweight
+            ? null
+            : format(
+                messageFormat,
+                messagePrefix,
+                messageSuffix,
+                targetName,
+                target),
+        null,
+        true,
+        !lightweight);
+
+    this.messageFormat = messageFormat;
+    this.messagePrefix = messagePrefix;
+    this.messageSuffix = messageSuffix;
+    this.targetName = targetName;
+    this.target = lightweight ? target : null;
+  }
+
+  /**
+   * <p>Enables or disables lightweight mode for all
+   * <code>ThemisTargetException</code> instances created from now on.</p>
+   *
+   * @param lightweight <code>true</code> to skip capturing stack traces and
+   *                    format messages lazily, <code>false</code> for the
+   *                    default behaviour.
+   */
+  public static void setLightweight(final boolean lightweight) {
+    ThemisTargetException.lightweight = lightweight;
+  }
+
+  /**
+   * <p>Returns whether lightweight mode is enabled.</p>
+   *
+   * @return <code>true</code> if lightweight mode is enabled, otherwise
+   * <code>false</code>.
+   *
+   * @see #setLightweight(boolean)
+   */
+  public static boolean isLightweight() {
+    return lightweight;
+  }
+
+  /**
+   * <p>Returns the name of the invalid <b>target</b>, if known.</p>
+   *
+   * @return The name of the invalid <b>target</b> or <code>null</code> if
+   * <code>this</code> exception was created with a plain message.
+   */
+  public String getTargetName() {
+    return targetName;
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * <p>In lightweight mode the message is formatted on the first call.</p>
+   */
+  @Override
+  public String getMessage() {
+
+    if (message == null) {
+
+      final String eagerMessage = super.getMessage();
+
+      message =
+          eagerMessage != null
+              || messageFormat == null && messagePrefix == null
+              ? eagerMessage
+              : format(messageFormat, messagePrefix, messageSuffix,
+                  targetName, target);
+    }
+
+    return message;
+  }
+
+  /**
+   * <p>Formats the message before writing <code>this</code> exception, so a
+   * lightweight exception is serialized with its message rather than its
+   * <b>target</b>, which may not be <code>Serializable</code>.</p>
+   *
+   * @param out The stream to write to.
+   *
+   * @throws IOException If the stream cannot be written.
+   */
+  @Serial
+  private void writeObject(final ObjectOutputStream out) throws IOException {
+
+    getMessage();
+    out.defaultWriteObject();
+  }
+
+  private static String format(
+      final String messageFormat,
+      final String messagePrefix,
+      final String messageSuffix,
+      final String targetName,
+      final Object target) {
+
+    if (messageFormat == null) {
+      return messageSuffix == null
+          ? messagePrefix
+          : messagePrefix + target + messageSuffix;
+    }
+
+    return String.format(
+        messageFormat,
+        targetName,
+        target == null ? null : target.toString());
   }
 
 }
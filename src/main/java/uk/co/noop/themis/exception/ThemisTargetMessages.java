@@ -0,0 +1,136 @@
+package uk.co.noop.themis.exception;
+
+/**
+ * <p>The messages of every {@link ThemisTargetException} for one
+ * <b>targetName</b>, built once instead of by a
+ * <code>String.format</code> call for each exception.</p>
+ *
+ * <p>Only the message of a {@link ThemisInvalidTargetException} depends on
+ * the <b>target</b>; it is kept as a prefix and a suffix, so creating one is
+ * a single concatenation, which lightweight mode still defers (See: {@link
+ * ThemisTargetException#setLightweight(boolean)}).</p>
+ *
+ * <p>A <code>ThemisTargetMessages</code> is immutable and safe to share
+ * between threads; it is normally held by a {@link
+ * uk.co.noop.themis.ThemisTarget ThemisTarget}.</p>
+ *
+ * @see uk.co.noop.themis.ThemisTarget
+ */
+public final class ThemisTargetMessages {
+
+  private static final String PLACEHOLDER = "%s";
+
+  private final String targetName;
+  private final String nullMessage;
+  private final String emptyMessage;
+  private final String blankMessage;
+  private final String invalidPrefix;
+  private final String invalidSuffix;
+
+  /**
+   * <p>Builds the messages for the specified <b>targetName</b>.</p>
+   *
+   * @param targetName The name of the <b>target</b>; this should not be
+   *                   <code>null</code>, empty or contain only whitespace
+   *                   characters but this is not validated.
+   *
+   * @return A new <code>ThemisTargetMessages</code>. This will never be
+   * <code>null</code>.
+   */
+  public static ThemisTargetMessages of(final String targetName) {
+    return new ThemisTargetMessages(targetName);
+  }
+
+  private ThemisTargetMessages(final String targetName) {
+
+    this.targetName = targetName;
+    this.nullMessage =
+        substitute(ThemisNullTargetException.MESSAGE_FORMAT, targetName);
+    this.emptyMessage =
+        substitute(ThemisEmptyTargetException.MESSAGE_FORMAT, targetName);
+    this.blankMessage = substitute(
+        ThemisBlankTargetStringException.MESSAGE_FORMAT,
+        targetName);
+
+    final String invalidFormat = substitute(
+        ThemisInvalidTargetException.MESSAGE_FORMAT,
+        targetName);
+    final int target = invalidFormat.lastIndexOf(PLACEHOLDER);
+
+    this.invalidPrefix = invalidFormat.substring(0, target);
+    this.invalidSuffix =
+        invalidFormat.substring(target + PLACEHOLDER.length());
+  }
+
+  /**
+   * <p>Returns the <b>targetName</b> the messages were built for.</p>
+   *
+   * @return The <b>targetName</b>.
+   */
+  public String getTargetName() {
+    return targetName;
+  }
+
+  /**
+   * <p>Returns a new {@link ThemisNullTargetException} with the prebuilt
+   * message.</p>
+   *
+   * @return A new <code>ThemisNullTargetException</code>. This will never be
+   * <code>null</code>.
+   */
+  public ThemisNullTargetException nullTarget() {
+    return new ThemisNullTargetException(targetName, nullMessage);
+  }
+
+  /**
+   * <p>Returns a new {@link ThemisEmptyTargetException} with the prebuilt
+   * message.</p>
+   *
+   * @return A new <code>ThemisEmptyTargetException</code>. This will never be
+   * <code>null</code>.
+   */
+  public ThemisEmptyTargetException emptyTarget() {
+    return new ThemisEmptyTargetException(targetName, emptyMessage);
+  }
+
+  /**
+   * <p>Returns a new {@link ThemisBlankTargetStringException} with the
+   * prebuilt message.</p>
+   *
+   * @return A new <code>ThemisBlankTargetStringException</code>. This will
+   * never be <code>null</code>.
+   */
+  public ThemisBlankTargetStringException blankTargetString() {
+    return new ThemisBlankTargetStringException(targetName, blankMessage);
+  }
+
+  /**
+   * <p>Returns a new {@link ThemisInvalidTargetException} for the specified
+   * <b>target</b> with the prebuilt message.</p>
+   *
+   * @param target The <b>target</b>.
+   *
+   * @return A new <code>ThemisInvalidTargetException</code>. This will never
+   * be <code>null</code>.
+   */
+  public ThemisInvalidTargetException invalidTarget(final Object target) {
+
+    return new ThemisInvalidTargetException(
+        targetName,
+        target,
+        invalidPrefix,
+        invalidSuffix);
+  }
+
+  private static String substitute(
+      final String messageFormat,
+      final String targetName) {
+
+    final int placeholder = messageFormat.indexOf(PLACEHOLDER);
+
+    return messageFormat.substring(0, placeholder)
+        + targetName
+        + messageFormat.substring(placeholder + PLACEHOLDER.length());
+  }
+
+}
@@ -0,0 +1,166 @@
+package uk.co.noop.themis.file;
+
+import uk.co.noop.themis.Themis;
+import uk.co.noop.themis.rule.ThemisRule;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * <p>Builds a {@link ThemisFileValidator} from a chain of {@link ThemisRule}
+ * instances for each column of a delimited file.</p>
+ *
+ * <p>A builder is not thread-safe, but the <code>ThemisFileValidator</code> it
+ * builds is.</p>
+ *
+ * @see ThemisFileValidator#forDelimited(char)
+ */
+public final class FileValidatorBuilder {
+
+  private static final int DEFAULT_CHUNK_SIZE = 32 << 20;
+
+  private static final int DEFAULT_MAX_VIOLATIONS = 1_000_000;
+
+  private final byte delimiter;
+  private final List<List<ThemisRule<? super ByteBuffer>>> columns =
+      new ArrayList<>();
+
+  private boolean header;
+  private int chunkSize = DEFAULT_CHUNK_SIZE;
+  private int maxViolations = DEFAULT_MAX_VIOLATIONS;
+
+  FileValidatorBuilder(final byte delimiter) {
+    super();
+    this.delimiter = delimiter;
+  }
+
+  /**
+   * <p>Adds the specified {@link ThemisRule} to the chain for the specified
+   * <b>column</b>. Each field is passed to the rule as a {@link ByteBuffer}
+   * of its UTF-8 bytes, between its position and limit, so the rules in
+   * {@link uk.co.noop.themis.rule.Utf8Rules Utf8Rules} apply without decoding
+   * it. A record with too few fields is passed <code>null</code> for each
+   * missing field.</p>
+   *
+   * <p>The <code>ByteBuffer</code> is a read-only view of the mapped file that
+   * is reused for every field, so a rule must read it relative to its
+   * position and must not retain it.</p>
+   *
+   * @param column The 0-based index of the field.
+   * @param rule The <code>ThemisRule</code>; this should be stateless.
+   *
+   * @return <code>this</code> builder. This will never be <code>null</code>.
+   *
+   * @throws uk.co.noop.themis.exception.ThemisInvalidTargetException If
+   * <b>column</b> is negative.
+   */
+  public FileValidatorBuilder againstRule(
+      final int column,
+      final ThemisRule<? super ByteBuffer> rule) {
+
+    Themis.validate("column", column).againstNegativeValues();
+
+    while (columns.size() <= column) {
+      columns.add(new ArrayList<>());
+    }
+
+    columns.get(column).add(rule);
+
+    return this;
+  }
+
+  /**
+   * <p>Skips the first line of the file, which is not validated but is still
+   * counted in the rows of the report.</p>
+   *
+   * @return <code>this</code> builder. This will never be <code>null</code>.
+   */
+  public FileValidatorBuilder skipHeader() {
+
+    header = true;
+
+    return this;
+  }
+
+  /**
+   * <p>Sets the approximate number of bytes mapped and validated by each
+   * task. Chunks end on a line boundary, so each is extended to the end of
+   * its last line. The default is 32 MiB.</p>
+   *
+   * @param chunkSize The chunk size in bytes.
+   *
+   * @return <code>this</code> builder. This will never be <code>null</code>.
+   *
+   * @throws uk.co.noop.themis.exception.ThemisInvalidTargetException If
+   * <b>chunkSize</b> is less than <code>1</code>.
+   */
+  public FileValidatorBuilder chunkSize(final int chunkSize) {
+
+    Themis.validate("chunkSize", chunkSize).againstValuesBelow(1);
+
+    this.chunkSize = chunkSize;
+
+    return this;
+  }
+
+  /**
+   * <p>Sets the maximum number of violations kept in the report, to bound its
+   * memory for a file that is invalid throughout. The default is
+   * 1,000,000.</p>
+   *
+   * @param maxViolations The maximum number of violations.
+   *
+   * @return <code>this</code> builder. This will never be <code>null</code>.
+   *
+   * @throws uk.co.noop.themis.exception.ThemisInvalidTargetException If
+   * <b>maxViolations</b> is negative.
+   *
+   * @see ThemisFileReport#isTruncated()
+   */
+  public FileValidatorBuilder maxViolations(final int maxViolations) {
+
+    Themis.validate("maxViolations", maxViolations).againstNegativeValues();
+
+    this.maxViolations = maxViolations;
+
+    return this;
+  }
+
+  /**
+   * <p>Builds an immutable {@link ThemisFileValidator} from the chains so
+   * far.</p>
+   *
+   * @return A new <code>ThemisFileValidator</code>. This will never be
+   * <code>null</code>.
+   */
+  public ThemisFileValidator build() {
+
+    return new ThemisFileValidator(
+        delimiter,
+        toArray(columns),
+        header,
+        chunkSize,
+        maxViolations);
+  }
+
+  /**
+   * <p>Copies the <b>columns</b> to an array of arrays, which cannot be
+   * created with their generic type; they are only ever read as that
+   * type.</p>
+   */
+  @SuppressWarnings({"rawtypes", "unchecked"})
+  private static ThemisRule<? super ByteBuffer>[][] toArray(
+      final List<List<ThemisRule<? super ByteBuffer>>> columns) {
+
+    final ThemisRule<? super ByteBuffer>[][] rules =
+        new ThemisRule[columns.size()][];
+
+    for (int i = 0; i < rules.length; i++) {
+      rules[i] = columns.get(i).toArray(new ThemisRule[0]);
+    }
+
+    return rules;
+  }
+
+}
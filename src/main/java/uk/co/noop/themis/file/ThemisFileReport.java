@@ -0,0 +1,290 @@
+package uk.co.noop.themis.file;
+
+import uk.co.noop.themis.violation.ThemisViolationType;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * <p>An immutable report of every violation found by a {@link
+ * ThemisFileValidator}, ordered by row and then column.</p>
+ *
+ * <p>Each violation is a row (the 1-based line number in the file, counting
+ * any header), a column (the 0-based field index), a rule (the 0-based index
+ * of the rule in that column's chain) and the kind of violation, stored in
+ * parallel primitive arrays rather than as exceptions.</p>
+ *
+ * @see ThemisFileValidator
+ */
+public final class ThemisFileReport {
+
+  private final long[] rows;
+  private final int[] columns;
+  private final int[] rules;
+  private final ThemisViolationType[] violationTypes;
+  private final int size;
+  private final long recordCount;
+  private final boolean truncated;
+
+  ThemisFileReport(
+      final long[] rows,
+      final int[] columns,
+      final int[] rules,
+      final ThemisViolationType[] violationTypes,
+      final int size,
+      final long recordCount,
+      final boolean truncated) {
+
+    super();
+    this.rows = rows;
+    this.columns = columns;
+    this.rules = rules;
+    this.violationTypes = violationTypes;
+    this.size = size;
+    this.recordCount = recordCount;
+    this.truncated = truncated;
+  }
+
+  /**
+   * <p>Returns whether no violations were found.</p>
+   *
+   * @return <code>true</code> if no violations were found, otherwise
+   * <code>false</code>.
+   */
+  public boolean isValid() {
+    return size == 0;
+  }
+
+  /**
+   * <p>Returns the number of violations in <code>this</code> report.</p>
+   *
+   * @return The number of violations.
+   */
+  public int size() {
+    return size;
+  }
+
+  /**
+   * <p>Returns whether violations were dropped because there were more than
+   * the validator's maximum (See: {@link
+   * FileValidatorBuilder#maxViolations(int)}). Only the first violations, by
+   * row and column, are kept.</p>
+   *
+   * @return <code>true</code> if violations were dropped, otherwise
+   * <code>false</code>.
+   */
+  public boolean isTruncated() {
+    return truncated;
+  }
+
+  /**
+   * <p>Returns the number of records validated, not counting any
+   * header.</p>
+   *
+   * @return The number of records validated.
+   */
+  public long getRecordCount() {
+    return recordCount;
+  }
+
+  /**
+   * <p>Returns the row of the violation at the specified <b>index</b>.</p>
+   *
+   * @param index The index of the violation.
+   *
+   * @return The 1-based line number of the invalid record, counting any
+   * header.
+   *
+   * @throws IndexOutOfBoundsException If <b>index</b> is out of range.
+   */
+  public long getRow(final int index) {
+    return rows[checkIndex(index)];
+  }
+
+  /**
+   * <p>Returns the column of the violation at the specified
+   * <b>index</b>.</p>
+   *
+   * @param index The index of the violation.
+   *
+   * @return The 0-based index of the invalid field.
+   *
+   * @throws IndexOutOfBoundsException If <b>index</b> is out of range.
+   */
+  public int getColumn(final int index) {
+    return columns[checkIndex(index)];
+  }
+
+  /**
+   * <p>Returns the rule of the violation at the specified <b>index</b>.</p>
+   *
+   * @param index The index of the violation.
+   *
+   * @return The 0-based index of the rule in the column's chain, in the order
+   * the rules were added.
+   *
+   * @throws IndexOutOfBoundsException If <b>index</b> is out of range.
+   */
+  public int getRule(final int index) {
+    return rules[checkIndex(index)];
+  }
+
+  /**
+   * <p>Returns the kind of the violation at the specified <b>index</b>.</p>
+   *
+   * @param index The index of the violation.
+   *
+   * @return The kind of violation.
+   *
+   * @throws IndexOutOfBoundsException If <b>index</b> is out of range.
+   */
+  public ThemisViolationType getViolationType(final int index) {
+    return violationTypes[checkIndex(index)];
+  }
+
+  @Override
+  public String toString() {
+
+    final StringBuilder builder = new StringBuilder("ThemisFileReport[");
+
+    for (int i = 0; i < size; i++) {
+
+      if (i > 0) {
+        builder.append(", ");
+      }
+
+      builder.append(rows[i])
+          .append(':')
+          .append(columns[i])
+          .append(':')
+          .append(rules[i])
+          .append(' ')
+          .append(violationTypes[i]);
+    }
+
+    return builder.append(truncated ? ", ...]" : "]").toString();
+  }
+
+  /**
+   * <p>Merges the violations of each chunk, in file order, offsetting each
+   * chunk's rows by the records before it and keeping at most
+   * <b>maxViolations</b>.</p>
+   */
+  static ThemisFileReport merge(
+      final ChunkResult[] chunks,
+      final int maxViolations) {
+
+    long total = 0;
+
+    for (final ChunkResult chunk : chunks) {
+      total += chunk.size;
+    }
+
+    final int size = (int) Math.min(total, maxViolations);
+    final long[] rows = new long[size];
+    final int[] columns = new int[size];
+    final int[] rules = new int[size];
+    final ThemisViolationType[] violationTypes =
+        new ThemisViolationType[size];
+
+    boolean truncated = total > maxViolations;
+    long lines = 0;
+    long recordCount = 0;
+    int n = 0;
+
+    for (final ChunkResult chunk : chunks) {
+
+      final int count = Math.min(chunk.size, size - n);
+
+      for (int i = 0; i < count; i++) {
+        rows[n + i] = lines + chunk.rows[i] + 1;
+      }
+
+      if (count > 0) {
+        System.arraycopy(chunk.columns, 0, columns, n, count);
+        System.arraycopy(chunk.rules, 0, rules, n, count);
+        System.arraycopy(chunk.violationTypes, 0, violationTypes, n, count);
+      }
+
+      n += count;
+      lines += chunk.lineCount;
+      recordCount += chunk.recordCount;
+      truncated |= chunk.truncated;
+    }
+
+    return new ThemisFileReport(
+        rows,
+        columns,
+        rules,
+        violationTypes,
+        size,
+        recordCount,
+        truncated);
+  }
+
+  private int checkIndex(final int index) {
+    return Objects.checkIndex(index, size);
+  }
+
+  /**
+   * <p>The violations found in one chunk of a file, with rows relative to the
+   * start of the chunk. The arrays are only allocated when the first
+   * violation is found and then grow as needed.</p>
+   */
+  static final class ChunkResult {
+
+    private static final int INITIAL_CAPACITY = 8;
+
+    private final int maxViolations;
+
+    private int[] rows;
+    private int[] columns;
+    private int[] rules;
+    private ThemisViolationType[] violationTypes;
+    private int size;
+    private int lineCount;
+    private long recordCount;
+    private boolean truncated;
+
+    ChunkResult(final int maxViolations) {
+      super();
+      this.maxViolations = maxViolations;
+    }
+
+    void add(
+        final int row,
+        final int column,
+        final int rule,
+        final ThemisViolationType violationType) {
+
+      if (size == maxViolations) {
+        truncated = true;
+        return;
+      }
+
+      if (rows == null) {
+        rows = new int[INITIAL_CAPACITY];
+        columns = new int[INITIAL_CAPACITY];
+        rules = new int[INITIAL_CAPACITY];
+        violationTypes = new ThemisViolationType[INITIAL_CAPACITY];
+      } else if (size == rows.length) {
+        rows = Arrays.copyOf(rows, size << 1);
+        columns = Arrays.copyOf(columns, size << 1);
+        rules = Arrays.copyOf(rules, size << 1);
+        violationTypes = Arrays.copyOf(violationTypes, size << 1);
+      }
+
+      rows[size] = row;
+      columns[size] = column;
+      rules[size] = rule;
+      violationTypes[size] = violationType;
+      size++;
+    }
+
+    void setCounts(final int lineCount, final long recordCount) {
+      this.lineCount = lineCount;
+      this.recordCount = recordCount;
+    }
+  }
+
+}
@@ -0,0 +1,391 @@
+package uk.co.noop.themis.file;
+
+import uk.co.noop.themis.Themis;
+import uk.co.noop.themis.rule.ThemisRule;
+import uk.co.noop.themis.violation.ThemisViolationType;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+/**
+ * <p>An immutable plan that validates every field of a large delimited file
+ * (e.g. CSV or TSV) against a chain of {@link ThemisRule} instances for each
+ * column, and reports every violation in a {@link ThemisFileReport} instead
+ * of throwing.</p>
+ *
+ * <p>The file is memory-mapped with {@link FileChannel#map} in chunks that
+ * end on line boundaries, and the chunks are validated in parallel on the
+ * common {@link ForkJoinPool}, unless it only has a single thread. Fields are
+ * never decoded into <code>String</code> values: each is passed to its rules
+ * as a {@link ByteBuffer} over the mapped bytes, so the rules in {@link
+ * uk.co.noop.themis.rule.Utf8Rules Utf8Rules} validate it in place:</p>
+ *
+ * <p><code>
+ * private static final ThemisFileValidator EXPORT =<br>
+ * &nbsp; ThemisFileValidator.forDelimited(',')<br>
+ * &nbsp; &nbsp; .skipHeader()<br>
+ * &nbsp; &nbsp; .againstRule(0, Utf8Rules.againstBlankUtf8Bytes())<br>
+ * &nbsp; &nbsp; .againstRule(0, Utf8Rules.againstLongUtf8Bytes(64))<br>
+ * &nbsp; &nbsp; .againstRule(2, Utf8Rules.againstMalformedUtf8Bytes())<br>
+ * &nbsp; &nbsp; .build();<br>
+ * <br>
+ * final ThemisFileReport report = EXPORT.validate(path);
+ * </code></p>
+ *
+ * <p>Records end with <code>'\n'</code>, and a <code>'\r'</code> before it is
+ * ignored. Fields are split on every delimiter: quoting is not interpreted,
+ * so a quoted field containing the delimiter or a line break is split. Each
+ * column's rules are tested in turn, stopping at the first violation, as in
+ * {@link uk.co.noop.themis.validator.ThemisValidator ThemisValidator}.</p>
+ *
+ * @see FileValidatorBuilder
+ * @see ThemisFileReport
+ */
+public final class ThemisFileValidator {
+
+  private static final int BOUNDARY_BUFFER_SIZE = 8192;
+
+  private static final byte NEW_LINE = '\n';
+
+  private static final long ONES = 0x0101010101010101L;
+
+  private static final long HIGH_BITS = 0x8080808080808080L;
+
+  private final byte delimiter;
+  private final ThemisRule<? super ByteBuffer>[][] rules;
+  private final boolean header;
+  private final int chunkSize;
+  private final int maxViolations;
+
+  ThemisFileValidator(
+      final byte delimiter,
+      final ThemisRule<? super ByteBuffer>[][] rules,
+      final boolean header,
+      final int chunkSize,
+      final int maxViolations) {
+
+    super();
+    this.delimiter = delimiter;
+    this.rules = rules;
+    this.header = header;
+    this.chunkSize = chunkSize;
+    this.maxViolations = maxViolations;
+  }
+
+  /**
+   * <p>Creates a new {@link FileValidatorBuilder} for files whose fields are
+   * separated by the specified <b>delimiter</b>.</p>
+   *
+   * @param delimiter The field delimiter; this must be an ASCII character
+   *                  other than <code>'\r'</code> or <code>'\n'</code>.
+   *
+   * @return A new <code>FileValidatorBuilder</code>. This will never be
+   * <code>null</code>.
+   *
+   * @throws uk.co.noop.themis.exception.ThemisInvalidTargetException If
+   * <b>delimiter</b> is not ASCII or is a line break.
+   */
+  public static FileValidatorBuilder forDelimited(final char delimiter) {
+
+    Themis.validate("delimiter", (int) delimiter)
+        .againstValuesAbove(0x7F)
+        .againstInvalidInts(d -> d == '\r' || d == '\n');
+
+    return new FileValidatorBuilder((byte) delimiter);
+  }
+
+  /**
+   * <p>Creates a new {@link FileValidatorBuilder} for comma-separated
+   * files.</p>
+   *
+   * @return A new <code>FileValidatorBuilder</code>. This will never be
+   * <code>null</code>.
+   */
+  public static FileValidatorBuilder forCsv() {
+    return forDelimited(',');
+  }
+
+  /**
+   * <p>Creates a new {@link FileValidatorBuilder} for tab-separated
+   * files.</p>
+   *
+   * @return A new <code>FileValidatorBuilder</code>. This will never be
+   * <code>null</code>.
+   */
+  public static FileValidatorBuilder forTsv() {
+    return forDelimited('\t');
+  }
+
+  /**
+   * <p>Validates every record of the file at the specified <b>path</b>.</p>
+   *
+   * @param path The path of the file.
+   *
+   * @return A report of every violation, up to the maximum. This will never
+   * be <code>null</code>.
+   *
+   * @throws IOException If the file cannot be opened, read or mapped.
+   */
+  public ThemisFileReport validate(final Path path) throws IOException {
+
+    try (FileChannel channel = FileChannel.open(
+        path,
+        StandardOpenOption.READ)) {
+
+      final long[] bounds = split(channel);
+      final ThemisFileReport.ChunkResult[] chunks =
+          new ThemisFileReport.ChunkResult[bounds.length - 1];
+
+      IntStream indexes = IntStream.range(0, chunks.length);
+
+      if (chunks.length > 1 && ForkJoinPool.getCommonPoolParallelism() > 1) {
+        indexes = indexes.parallel();
+      }
+
+      try {
+        indexes.forEach(
+            i -> chunks[i] = scan(channel, bounds[i], bounds[i + 1]));
+      } catch (final UncheckedIOException e) {
+        throw e.getCause();
+      }
+
+      return ThemisFileReport.merge(chunks, maxViolations);
+    }
+  }
+
+  /**
+   * <p>Returns the start of each chunk followed by the end of the file. Each
+   * chunk after the first starts just after the first <code>'\n'</code> at or
+   * after <b>chunkSize</b> bytes into the previous chunk.</p>
+   */
+  private long[] split(final FileChannel channel) throws IOException {
+
+    final long size = channel.size();
+    final ByteBuffer buffer = ByteBuffer.allocate(BOUNDARY_BUFFER_SIZE);
+
+    long[] bounds = new long[8];
+    int count = 0;
+    long start = 0;
+
+    while (start < size) {
+
+      if (count + 1 == bounds.length) {
+        bounds = Arrays.copyOf(bounds, count << 1);
+      }
+
+      bounds[count++] = start;
+      start = nextLine(channel, buffer, start + chunkSize - 1, size);
+    }
+
+    bounds[count++] = size;
+
+    return Arrays.copyOf(bounds, count);
+  }
+
+  /**
+   * <p>Returns the index just after the first <code>'\n'</code> at or after
+   * <b>from</b>, or <b>size</b> if there is none.</p>
+   */
+  private static long nextLine(
+      final FileChannel channel,
+      final ByteBuffer buffer,
+      final long from,
+      final long size) throws IOException {
+
+    long position = from;
+
+    while (position < size) {
+
+      buffer.clear();
+
+      final int read = channel.read(buffer, position);
+
+      if (read < 0) {
+        break;
+      }
+
+      for (int i = 0; i < read; i++) {
+        if (buffer.get(i) == '\n') {
+          return position + i + 1;
+        }
+      }
+
+      position += read;
+    }
+
+    return size;
+  }
+
+  private ThemisFileReport.ChunkResult scan(
+      final FileChannel channel,
+      final long start,
+      final long end) {
+
+    final MappedByteBuffer bytes;
+
+    try {
+      bytes = channel.map(FileChannel.MapMode.READ_ONLY, start, end - start);
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+
+    final ByteBuffer field = bytes.duplicate();
+    final ThemisFileReport.ChunkResult result =
+        new ThemisFileReport.ChunkResult(maxViolations);
+    final int limit = bytes.limit();
+
+    bytes.order(ByteOrder.LITTLE_ENDIAN);
+
+    int line = 0;
+    long recordCount = 0;
+    int i = 0;
+
+    while (i < limit) {
+
+      final int lineEnd;
+
+      if (header && start == 0 && line == 0) {
+        lineEnd = indexOfAny(bytes, i, limit, NEW_LINE, NEW_LINE);
+      } else {
+        lineEnd = scanRecord(bytes, field, i, limit, line, result);
+        recordCount++;
+      }
+
+      line++;
+      i = lineEnd + 1;
+    }
+
+    result.setCounts(line, recordCount);
+
+    return result;
+  }
+
+  /**
+   * <p>Validates the record starting at <b>from</b>, splitting only as many
+   * fields as there are columns with rules, and returns the index of the
+   * <code>'\n'</code> ending it, or <b>limit</b> if there is none.</p>
+   */
+  private int scanRecord(
+      final ByteBuffer bytes,
+      final ByteBuffer field,
+      final int from,
+      final int limit,
+      final int line,
+      final ThemisFileReport.ChunkResult result) {
+
+    int fieldStart = from;
+    int fieldEnd = from;
+    boolean ended = false;
+
+    for (int column = 0; column < rules.length; column++) {
+
+      final boolean missing = ended;
+
+      if (!missing) {
+        fieldEnd = indexOfAny(bytes, fieldStart, limit, delimiter, NEW_LINE);
+        ended = fieldEnd == limit || bytes.get(fieldEnd) == NEW_LINE;
+      }
+
+      final int valueEnd = ended
+          && fieldEnd > fieldStart
+          && bytes.get(fieldEnd - 1) == '\r'
+          ? fieldEnd - 1
+          : fieldEnd;
+
+      final ThemisRule<? super ByteBuffer>[] chain = rules[column];
+
+      for (int rule = 0; rule < chain.length; rule++) {
+
+        final ThemisViolationType violationType = missing
+            ? chain[rule].test(null)
+            : chain[rule].test(view(field, fieldStart, valueEnd));
+
+        if (violationType != null) {
+          result.add(line, column, rule, violationType);
+          break;
+        }
+      }
+
+      fieldStart = fieldEnd + 1;
+    }
+
+    return ended
+        ? fieldEnd
+        : indexOfAny(bytes, fieldStart, limit, NEW_LINE, NEW_LINE);
+  }
+
+  /**
+   * <p>Resets the reused <b>field</b> view before each rule, in case a
+   * previous rule moved its position.</p>
+   */
+  private static ByteBuffer view(
+      final ByteBuffer field,
+      final int from,
+      final int to) {
+
+    return field.clear().position(from).limit(to);
+  }
+
+  /**
+   * <p>Returns the index of the first <b>first</b> or <b>second</b> byte at
+   * or after <b>from</b>, or <b>to</b> if there is none, testing eight bytes
+   * at a time. The <b>bytes</b> must be little-endian, so the lowest match in
+   * a word is the first in the buffer: a false match can only follow a true
+   * one.</p>
+   */
+  private static int indexOfAny(
+      final ByteBuffer bytes,
+      final int from,
+      final int to,
+      final byte first,
+      final byte second) {
+
+    final long firsts = ONES * (first & 0xFF);
+    final long seconds = ONES * (second & 0xFF);
+
+    int i = from;
+
+    while (i <= to - Long.BYTES) {
+
+      final long word = bytes.getLong(i);
+      final long found = zeros(word ^ firsts) | zeros(word ^ seconds);
+
+      if (found != 0) {
+        return i + (Long.numberOfTrailingZeros(found) >>> 3);
+      }
+
+      i += Long.BYTES;
+    }
+
+    while (i < to) {
+
+      final byte b = bytes.get(i);
+
+      if (b == first || b == second) {
+        return i;
+      }
+
+      i++;
+    }
+
+    return to;
+  }
+
+  /**
+   * <p>Sets the high bit of each zero byte in the <b>word</b>, and possibly
+   * of bytes above a zero byte.</p>
+   */
+  private static long zeros(final long word) {
+    return (word - ONES) & ~word & HIGH_BITS;
+  }
+
+}
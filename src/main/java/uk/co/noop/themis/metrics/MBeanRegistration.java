@@ -0,0 +1,48 @@
+package uk.co.noop.themis.metrics;
+
+import uk.co.noop.themis.exception.ThemisEunomiaException;
+
+import javax.management.InstanceAlreadyExistsException;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+
+/**
+ * <p>Registers the {@link ThemisMetricsMXBean}.</p>
+ *
+ * <p>This is the only class of Themis that refers to the
+ * <code>java.management</code> module, and it is only loaded by
+ * {@link ThemisMetrics#registerMBean()}, so Themis runs without that module
+ * unless the MBean is registered.</p>
+ */
+final class MBeanRegistration {
+
+  static ObjectName register() {
+
+    final MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+
+    try {
+
+      final ObjectName name = new ObjectName(ThemisMetrics.MBEAN_NAME);
+
+      if (!server.isRegistered(name)) {
+        try {
+          server.registerMBean(new ThemisMetricsBean(), name);
+        } catch (final InstanceAlreadyExistsException e) {
+          // Registered concurrently.
+        }
+      }
+
+      return name;
+
+    } catch (final JMException e) {
+      throw new ThemisEunomiaException(e);
+    }
+  }
+
+  private MBeanRegistration() {
+    super();
+  }
+
+}
@@ -0,0 +1,71 @@
+package uk.co.noop.themis.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * <p>The live counters of one rule applied to one <b>targetName</b>.</p>
+ *
+ * <p>Every count, including each bucket of the latency histogram, is a
+ * {@link LongAdder}, which stripes its updates across cells under
+ * contention, so many threads checking the same <b>target</b> do not fight
+ * over one cache line.</p>
+ */
+final class RuleCounters {
+
+  private final String targetName;
+  private final String rule;
+  private final LongAdder checks = new LongAdder();
+  private final LongAdder failures = new LongAdder();
+  private final LongAdder sampled = new LongAdder();
+  private final LongAdder sampledNanos = new LongAdder();
+  private final LongAdder[] histogram =
+      new LongAdder[ThemisRuleMetrics.BUCKETS];
+
+  RuleCounters(final String targetName, final String rule) {
+
+    this.targetName = targetName;
+    this.rule = rule;
+
+    for (int i = 0; i < histogram.length; i++) {
+      histogram[i] = new LongAdder();
+    }
+  }
+
+  void record(final boolean failed, final long latencyNanos) {
+
+    checks.increment();
+
+    if (failed) {
+      failures.increment();
+    }
+
+    if (latencyNanos >= 0) {
+      sampled.increment();
+      sampledNanos.add(latencyNanos);
+      histogram[ThemisRuleMetrics.bucket(latencyNanos)].increment();
+    }
+  }
+
+  ThemisRuleMetrics snapshot() {
+
+    final long[] counts = new long[histogram.length];
+
+    for (int i = 0; i < counts.length; i++) {
+      counts[i] = histogram[i].sum();
+    }
+
+    // Failures are read before checks, so a concurrent check can never make
+    // the snapshot report more failures than checks.
+    final long failed = failures.sum();
+
+    return new ThemisRuleMetrics(
+        targetName,
+        rule,
+        Math.max(checks.sum(), failed),
+        failed,
+        sampled.sum(),
+        sampledNanos.sum(),
+        counts);
+  }
+
+}
@@ -0,0 +1,411 @@
+package uk.co.noop.themis.metrics;
+
+import uk.co.noop.themis.Themis;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * <p>Tracks the <b>targetNames</b> and rules that fail most often in a fixed
+ * amount of memory, however many distinct <b>targetNames</b> fail.</p>
+ *
+ * <p>Failures are counted in a Count-Min sketch of <b>depth</b> rows of
+ * <b>width</b> counters, and the <b>capacity</b> <b>targetName</b> and rule
+ * pairs with the highest estimates are kept as candidates. An estimate is
+ * never below the true count and, with probability
+ * <code>1 - e<sup>-depth</sup></code>, exceeds it by at most
+ * <code>e / width</code> of all failures. A new pair replaces the candidate
+ * with the lowest estimate once its own estimate is higher, so pairs that
+ * fail far more often than the rest are kept, while the order of pairs with
+ * similar counts may be approximate.</p>
+ *
+ * <p>Recording is lock-free: it updates the sketch with atomic operations,
+ * finds a tracked pair through a small hash index over the candidates and
+ * replaces a candidate with a compare-and-set, scanning the candidates only
+ * for a pair that is not tracked, so it is meant for the failing path rather
+ * than every check. Install
+ * a tracker with {@link ThemisMetrics#setFailureTracker(ThemisFailureTracker)}
+ * to record every violation:</p>
+ *
+ * <p><code>
+ * final ThemisFailureTracker tracker = new ThemisFailureTracker(10);<br>
+ * ThemisMetrics.setFailureTracker(tracker);<br>
+ * ...<br>
+ * tracker.getTop().forEach(failure -&gt; log.info("{}", failure));
+ * </code></p>
+ *
+ * @see ThemisTrackedFailure
+ * @see ThemisMetrics
+ */
+public final class ThemisFailureTracker {
+
+  private static final int DEFAULT_WIDTH = 2048;
+  private static final int DEFAULT_DEPTH = 4;
+  private static final int PROBES = 4;
+
+  private final int mask;
+  private final int depth;
+  private final AtomicLongArray counters;
+  private final AtomicReferenceArray<Candidate> candidates;
+  private final AtomicIntegerArray slots;
+  private final int slotMask;
+  private final LongAdder failures = new LongAdder();
+
+  private volatile long floor;
+  private volatile long startNanos = System.nanoTime();
+
+  /**
+   * <p>Creates a new instance of <code>ThemisFailureTracker</code> reporting
+   * up to <b>capacity</b> pairs, with a sketch of 4 rows of 2048 counters
+   * (64 KiB).</p>
+   *
+   * @param capacity The number of pairs to report.
+   *
+   * @throws uk.co.noop.themis.exception.ThemisInvalidTargetException If
+   * <b>capacity</b> is below <code>1</code> or above <code>1024</code>.
+   */
+  public ThemisFailureTracker(final int capacity) {
+    this(capacity, DEFAULT_WIDTH, DEFAULT_DEPTH);
+  }
+
+  /**
+   * <p>Creates a new instance of <code>ThemisFailureTracker</code> reporting
+   * up to <b>capacity</b> pairs, with a sketch of <b>depth</b> rows of
+   * <b>width</b> counters.</p>
+   *
+   * @param capacity The number of pairs to report.
+   * @param width The number of counters in each row, rounded up to a power of
+   *              two.
+   * @param depth The number of rows.
+   *
+   * @throws uk.co.noop.themis.exception.ThemisInvalidTargetException If
+   * <b>capacity</b> is outside <code>1</code> to <code>1024</code>,
+   * <b>width</b> outside <code>1</code> to <code>2<sup>24</sup></code> or
+   * <b>depth</b> outside <code>1</code> to <code>16</code>.
+   */
+  public ThemisFailureTracker(
+      final int capacity,
+      final int width,
+      final int depth) {
+
+    Themis.validate("capacity", capacity).againstValuesOutside(1, 1024);
+    Themis.validate("width", width).againstValuesOutside(1, 1 << 24);
+    Themis.validate("depth", depth).againstValuesOutside(1, 16);
+
+    final int rowWidth =
+        width == 1 ? 1 : Integer.highestOneBit(width - 1) << 1;
+
+    this.mask = rowWidth - 1;
+    this.depth = depth;
+    this.counters = new AtomicLongArray(rowWidth * depth);
+    this.candidates = new AtomicReferenceArray<>(capacity);
+    this.slots = new AtomicIntegerArray(
+        Integer.highestOneBit(capacity) << 2);
+    this.slotMask = slots.length() - 1;
+  }
+
+  /**
+   * <p>Records one failure of the specified <b>rule</b> for the <b>target</b>
+   * with the specified <b>targetName</b>.</p>
+   *
+   * <p>Estimates only grow, so the lowest estimate of the candidates seen by
+   * the last full scan is a floor: a pair whose estimate is not above it
+   * cannot replace a candidate, and is recorded without a scan. A pair
+   * above it is looked up in the hash index first, and the candidates are
+   * scanned for the lowest estimate only when it is not found there.</p>
+   *
+   * @param targetName The name of the <b>target</b>.
+   * @param rule The name of the rule.
+   */
+  public void record(final String targetName, final String rule) {
+
+    final String name = targetName == null ? "null" : targetName;
+    final String ruleName = rule == null ? ThemisMetrics.UNNAMED_RULE : rule;
+    final int hash = hash(name, ruleName);
+
+    failures.increment();
+
+    final long estimate = increment(hash);
+
+    if (estimate <= floor || isIndexed(name, ruleName, hash)) {
+      return;
+    }
+
+    int replace = -1;
+    Candidate replaced = null;
+    long lowest = Long.MAX_VALUE;
+
+    for (int i = 0; i < candidates.length(); i++) {
+
+      Candidate candidate = candidates.get(i);
+
+      if (candidate == null) {
+
+        if (candidates.compareAndSet(
+            i,
+            null,
+            new Candidate(name, ruleName, hash))) {
+
+          indexCandidate(hash, i);
+          return;
+        }
+
+        candidate = candidates.get(i);
+      }
+
+      if (candidate.matches(name, ruleName, hash)) {
+        indexCandidate(hash, i);
+        return;
+      }
+
+      final long candidateEstimate = estimate(candidate.hash);
+
+      if (candidateEstimate < lowest) {
+        lowest = candidateEstimate;
+        replace = i;
+        replaced = candidate;
+      }
+    }
+
+    if (lowest != floor) {
+      floor = lowest;
+    }
+
+    if (lowest < estimate
+        && candidates.compareAndSet(
+            replace,
+            replaced,
+            new Candidate(name, ruleName, hash))) {
+
+      indexCandidate(hash, replace);
+    }
+  }
+
+  /**
+   * <p>Returns the estimated most frequently failing <b>targetName</b> and
+   * rule pairs, most frequent first.</p>
+   *
+   * @return Up to <b>capacity</b> estimates. This will never be
+   * <code>null</code>.
+   */
+  public List<ThemisTrackedFailure> getTop() {
+
+    final long total = failures.sum();
+    final long elapsed = System.nanoTime() - startNanos;
+    final List<ThemisTrackedFailure> top = new ArrayList<>();
+
+    for (int i = 0; i < candidates.length(); i++) {
+
+      final Candidate candidate = candidates.get(i);
+
+      if (candidate != null && !contains(top, candidate)) {
+        top.add(new ThemisTrackedFailure(
+            candidate.targetName,
+            candidate.rule,
+            estimate(candidate.hash),
+            total,
+            elapsed));
+      }
+    }
+
+    top.sort(Comparator.comparingLong(ThemisTrackedFailure::getFailures)
+        .reversed()
+        .thenComparing(ThemisTrackedFailure::getTargetName)
+        .thenComparing(ThemisTrackedFailure::getRule));
+
+    return List.copyOf(top);
+  }
+
+  /**
+   * <p>Returns the total number of failures recorded.</p>
+   *
+   * @return The total number of failures.
+   */
+  public long getFailures() {
+    return failures.sum();
+  }
+
+  /**
+   * <p>Discards every failure recorded so far and restarts the period over
+   * which failures per second are measured. Failures recorded concurrently
+   * may be partly kept.</p>
+   */
+  public void reset() {
+
+    for (int i = 0; i < candidates.length(); i++) {
+      candidates.set(i, null);
+    }
+
+    for (int i = 0; i < slots.length(); i++) {
+      slots.set(i, 0);
+    }
+
+    for (int i = 0; i < counters.length(); i++) {
+      counters.set(i, 0);
+    }
+
+    failures.reset();
+    floor = 0;
+    startNanos = System.nanoTime();
+  }
+
+  /**
+   * <p>Adds one to the counter of the specified <b>hash</b> in every row and
+   * returns the lowest. Every increment is kept, even when threads race, so
+   * the estimate is never below the true count.</p>
+   */
+  private long increment(final int hash) {
+
+    long estimate = Long.MAX_VALUE;
+
+    for (int row = 0; row < depth; row++) {
+      estimate = Math.min(
+          estimate,
+          counters.incrementAndGet(index(hash, row)));
+    }
+
+    return estimate;
+  }
+
+  /**
+   * <p>Returns whether the pair is a candidate, looking only at the slots the
+   * hash index holds for the specified <b>hash</b>. A slot is checked against
+   * the candidate it names, so a stale or missing entry only sends the pair
+   * to the scan.</p>
+   */
+  private boolean isIndexed(
+      final String targetName,
+      final String rule,
+      final int hash) {
+
+    for (int probe = 0; probe < PROBES; probe++) {
+
+      final int slot = slots.get((hash + probe) & slotMask) - 1;
+
+      if (slot >= 0) {
+
+        final Candidate candidate = candidates.get(slot);
+
+        if (candidate != null && candidate.matches(targetName, rule, hash)) {
+          return true;
+        }
+      }
+    }
+
+    return false;
+  }
+
+  /**
+   * <p>Points the hash index at the candidate in the specified <b>slot</b>,
+   * using the first probe of the <b>hash</b> that is free or holds a stale
+   * entry, or else the first probe.</p>
+   */
+  private void indexCandidate(final int hash, final int slot) {
+
+    int target = hash & slotMask;
+
+    for (int probe = 0; probe < PROBES; probe++) {
+
+      final int bucket = (hash + probe) & slotMask;
+      final int entry = slots.get(bucket) - 1;
+
+      if (entry == slot) {
+        return;
+      }
+
+      if (entry < 0 || isStale(bucket, entry)) {
+        target = bucket;
+        break;
+      }
+    }
+
+    slots.set(target, slot + 1);
+  }
+
+  /**
+   * <p>Returns whether the index entry in the specified <b>bucket</b> names a
+   * slot whose candidate could not be found through that bucket.</p>
+   */
+  private boolean isStale(final int bucket, final int slot) {
+
+    final Candidate candidate = candidates.get(slot);
+
+    return candidate == null
+        || ((bucket - candidate.hash) & slotMask) >= PROBES;
+  }
+
+  private long estimate(final int hash) {
+
+    long estimate = Long.MAX_VALUE;
+
+    for (int row = 0; row < depth; row++) {
+      estimate = Math.min(estimate, counters.get(index(hash, row)));
+    }
+
+    return estimate;
+  }
+
+  /**
+   * <p>Returns the counter of the specified <b>hash</b> in the specified
+   * <b>row</b>, deriving the hash of each row from the mixed hash and its
+   * bit reversal.</p>
+   */
+  private int index(final int hash, final int row) {
+
+    final int second = Integer.reverse(hash) | 1;
+
+    return row * (mask + 1) + ((hash + row * second) & mask);
+  }
+
+  private static int hash(final String targetName, final String rule) {
+
+    int hash = targetName.hashCode() * 31 + rule.hashCode();
+
+    hash ^= hash >>> 16;
+    hash *= 0x85ebca6b;
+    hash ^= hash >>> 13;
+    hash *= 0xc2b2ae35;
+
+    return hash ^ (hash >>> 16);
+  }
+
+  private static boolean contains(
+      final List<ThemisTrackedFailure> top,
+      final Candidate candidate) {
+
+    for (final ThemisTrackedFailure failure : top) {
+      if (failure.getTargetName().equals(candidate.targetName)
+          && failure.getRule().equals(candidate.rule)) {
+
+        return true;
+      }
+    }
+
+    return false;
+  }
+
+  /**
+   * <p>A <b>targetName</b> and rule pair kept for reporting. Its count is
+   * read from the sketch, so a candidate is only replaced, never
+   * updated.</p>
+   */
+  private record Candidate(String targetName, String rule, int hash) {
+
+    boolean matches(
+        final String targetName,
+        final String rule,
+        final int hash) {
+
+      return this.hash == hash
+          && this.targetName.equals(targetName)
+          && this.rule.equals(rule);
+    }
+
+  }
+
+}
@@ -0,0 +1,341 @@
+package uk.co.noop.themis.metrics;
+
+import uk.co.noop.themis.Themis;
+
+import javax.management.ObjectName;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * <p>Optional metrics of every check made by a Eunomia: how many times each
+ * rule was applied to each <b>targetName</b>, how many of those checks
+ * passed and failed, and a histogram of sampled latencies.</p>
+ *
+ * <p>Metrics are disabled by default. While disabled, each Eunomia reads one
+ * <code>volatile</code> flag when it is created and when it checks, and
+ * records nothing. Enable them with {@link #setEnabled(boolean)} or at start
+ * up with the <code>uk.co.noop.themis.metrics</code> system property:</p>
+ *
+ * <p><code>
+ * ThemisMetrics.setEnabled(true);<br>
+ * ThemisMetrics.registerMBean();<br>
+ * ...<br>
+ * final ThemisRuleMetrics id =<br>
+ * &nbsp; ThemisMetrics.snapshot().get("id", "againstBlankStrings");
+ * </code></p>
+ *
+ * <p>The counts are {@link java.util.concurrent.atomic.LongAdder
+ * LongAdder}s, so threads checking the same <b>target</b> update separate
+ * cells rather than contending for one counter. Latencies are measured for
+ * the checks that call code Themis cannot see into: a <code>Predicate</code>
+ * passed to a Eunomia, a {@link uk.co.noop.themis.rule.ThemisRule
+ * ThemisRule} passed to <code>againstRule</code> and a whole
+ * {@link uk.co.noop.themis.validator.ThemisValidator ThemisValidator}. The
+ * built-in rules take a few nanoseconds, less than reading the clock, and
+ * are only counted. Only one in every {@link #getSampleRate()} timed checks,
+ * chosen at random, is measured.</p>
+ *
+ * <p>Counters are kept for each distinct <b>targetName</b> and rule until
+ * {@link #reset()}, so <b>targetNames</b> should be constants rather than
+ * built from the <b>target</b>, e.g. not <code>"row " + index</code>.</p>
+ *
+ * <p>Only {@link #registerMBean()} uses the <code>java.management</code>
+ * module, so Themis, and its metrics, run without it.</p>
+ *
+ * <p>Snapshots can be read with {@link #snapshot()}, pushed to listeners
+ * with {@link #publish()} or read through JMX (See:
+ * {@link ThemisMetricsMXBean}).</p>
+ *
+ * @see ThemisMetricsSnapshot
+ * @see ThemisRuleMetrics
+ */
+public final class ThemisMetrics {
+
+  /**
+   * <p>The rule name recorded for the checks of a custom Eunomia that does
+   * not name its rules.</p>
+   */
+  public static final String UNNAMED_RULE = "unnamed";
+
+  /**
+   * <p>The rule name recorded for each use of a
+   * {@link uk.co.noop.themis.validator.ThemisValidator ThemisValidator}, which
+   * applies its whole chain as one check.</p>
+   */
+  public static final String VALIDATOR_RULE = "validator";
+
+  /**
+   * <p>The latency recorded for a check that was not sampled.</p>
+   */
+  public static final long NOT_SAMPLED = Long.MIN_VALUE;
+
+  /**
+   * <p>The name of the MBean registered by {@link #registerMBean()}.</p>
+   */
+  public static final String MBEAN_NAME =
+      "uk.co.noop.themis:type=ThemisMetrics";
+
+  private static final String ENABLED_PROPERTY = "uk.co.noop.themis.metrics";
+
+  private static final String SAMPLE_RATE_PROPERTY =
+      "uk.co.noop.themis.metrics.sampleRate";
+
+  private static final int DEFAULT_SAMPLE_RATE = 64;
+
+  private static final Map<String, Map<String, RuleCounters>> COUNTERS =
+      new ConcurrentHashMap<>();
+
+  private static final List<ThemisMetricsListener> LISTENERS =
+      new CopyOnWriteArrayList<>();
+
+  private static volatile boolean enabled =
+      Boolean.getBoolean(ENABLED_PROPERTY);
+
+  private static volatile ThemisFailureTracker failureTracker;
+
+  private static volatile int sampleRate = Math.max(
+      1,
+      Math.min(
+          1 << 30,
+          Integer.getInteger(SAMPLE_RATE_PROPERTY, DEFAULT_SAMPLE_RATE)));
+
+  /**
+   * <p>Enables or disables the collection of metrics. Metrics already
+   * collected are kept.</p>
+   *
+   * @param enabled <code>true</code> to collect metrics.
+   */
+  public static void setEnabled(final boolean enabled) {
+    ThemisMetrics.enabled = enabled;
+  }
+
+  /**
+   * <p>Returns whether metrics are being collected.</p>
+   *
+   * @return <code>true</code> if metrics are enabled, otherwise
+   * <code>false</code>.
+   */
+  public static boolean isEnabled() {
+    return enabled;
+  }
+
+  /**
+   * <p>Sets how often the latencies of timed checks are measured: one in
+   * every <b>sampleRate</b>, exactly, chosen at random. The default is
+   * <code>64</code>, or the <code>uk.co.noop.themis.metrics.sampleRate</code>
+   * system property, which is clamped to the same range.</p>
+   *
+   * @param sampleRate The sample rate; <code>1</code> measures every timed
+   *                   check.
+   *
+   * @throws uk.co.noop.themis.exception.ThemisInvalidTargetException If
+   * <b>sampleRate</b> is below <code>1</code> or above
+   * <code>2<sup>30</sup></code>.
+   */
+  public static void setSampleRate(final int sampleRate) {
+
+    Themis.validate("sampleRate", sampleRate)
+        .againstValuesOutside(1, 1 << 30);
+
+    ThemisMetrics.sampleRate = sampleRate;
+  }
+
+  /**
+   * <p>Returns how often the latencies of timed checks are measured.</p>
+   *
+   * @return One in this many timed checks have their latencies measured.
+   */
+  public static int getSampleRate() {
+    return sampleRate;
+  }
+
+  /**
+   * <p>Decides whether the latency of a check about to start is measured,
+   * and if so returns its start time. Pass the result to
+   * {@link #latencySince(long)} once the check has finished.</p>
+   *
+   * @return The current {@link System#nanoTime()}, or {@link #NOT_SAMPLED}.
+   */
+  public static long startSample() {
+
+    return ThreadLocalRandom.current().nextInt(sampleRate) == 0
+        ? System.nanoTime()
+        : NOT_SAMPLED;
+  }
+
+  /**
+   * <p>Returns the latency of a check started at the specified
+   * <b>start</b>.</p>
+   *
+   * @param start The result of {@link #startSample()}.
+   *
+   * @return The nanoseconds since <b>start</b>, or {@link #NOT_SAMPLED} if
+   * the check was not sampled.
+   */
+  public static long latencySince(final long start) {
+    return start == NOT_SAMPLED ? NOT_SAMPLED : System.nanoTime() - start;
+  }
+
+  /**
+   * <p>Records one check of the specified <b>rule</b> applied to the
+   * <b>target</b> with the specified <b>targetName</b>. This is called by
+   * every Eunomia while metrics are enabled; custom validators may call it
+   * too.</p>
+   *
+   * @param targetName The name of the <b>target</b>.
+   * @param rule The name of the rule.
+   * @param failed <code>true</code> if the check rejected the
+   *               <b>target</b>.
+   * @param latencyNanos The latency of the check, or {@link #NOT_SAMPLED}.
+   */
+  public static void record(
+      final String targetName,
+      final String rule,
+      final boolean failed,
+      final long latencyNanos) {
+
+    final String name = targetName == null ? "null" : targetName;
+
+    Map<String, RuleCounters> rules = COUNTERS.get(name);
+
+    if (rules == null) {
+      rules = COUNTERS.computeIfAbsent(
+          name,
+          key -> new ConcurrentHashMap<>());
+    }
+
+    RuleCounters counters = rules.get(rule);
+
+    if (counters == null) {
+      counters = rules.computeIfAbsent(
+          rule,
+          key -> new RuleCounters(name, key));
+    }
+
+    counters.record(failed, latencyNanos);
+  }
+
+  /**
+   * <p>Sets the {@link ThemisFailureTracker} that records every violation
+   * detected by a Eunomia, with the name of the failed rule. This is
+   * independent of {@link #setEnabled(boolean)}, and costs nothing on the
+   * passing path.</p>
+   *
+   * @param tracker The tracker, or <code>null</code> to stop tracking
+   *                failures.
+   */
+  public static void setFailureTracker(final ThemisFailureTracker tracker) {
+    failureTracker = tracker;
+  }
+
+  /**
+   * <p>Returns the {@link ThemisFailureTracker} that records every
+   * violation, if any.</p>
+   *
+   * @return The tracker, or <code>null</code> if failures are not being
+   * tracked.
+   */
+  public static ThemisFailureTracker getFailureTracker() {
+    return failureTracker;
+  }
+
+  /**
+   * <p>Takes a snapshot of every metric collected so far.</p>
+   *
+   * @return A new <code>ThemisMetricsSnapshot</code>. This will never be
+   * <code>null</code>.
+   */
+  public static ThemisMetricsSnapshot snapshot() {
+
+    final List<ThemisRuleMetrics> rules = new ArrayList<>();
+
+    for (final Map<String, RuleCounters> counters : COUNTERS.values()) {
+      for (final RuleCounters counter : counters.values()) {
+        rules.add(counter.snapshot());
+      }
+    }
+
+    rules.sort(Comparator.comparing(ThemisRuleMetrics::getTargetName)
+        .thenComparing(ThemisRuleMetrics::getRule));
+
+    return new ThemisMetricsSnapshot(rules);
+  }
+
+  /**
+   * <p>Discards every metric collected so far. Checks made concurrently may
+   * be lost.</p>
+   */
+  public static void reset() {
+    COUNTERS.clear();
+  }
+
+  /**
+   * <p>Adds a listener to receive the snapshots published by
+   * {@link #publish()}.</p>
+   *
+   * @param listener The listener.
+   *
+   * @throws uk.co.noop.themis.exception.ThemisNullTargetException If
+   * <b>listener</b> is <code>null</code>.
+   */
+  public static void addListener(final ThemisMetricsListener listener) {
+
+    Themis.validate("listener", (Object) listener).againstNullObjects();
+
+    LISTENERS.add(listener);
+  }
+
+  /**
+   * <p>Removes a listener added by
+   * {@link #addListener(ThemisMetricsListener)}.</p>
+   *
+   * @param listener The listener.
+   *
+   * @return <code>true</code> if the listener had been added.
+   */
+  public static boolean removeListener(final ThemisMetricsListener listener) {
+    return LISTENERS.remove(listener);
+  }
+
+  /**
+   * <p>Takes a snapshot and passes it to every listener, in the order they
+   * were added.</p>
+   *
+   * @return The snapshot published. This will never be <code>null</code>.
+   */
+  public static ThemisMetricsSnapshot publish() {
+
+    final ThemisMetricsSnapshot snapshot = snapshot();
+
+    for (final ThemisMetricsListener listener : LISTENERS) {
+      listener.onSnapshot(snapshot);
+    }
+
+    return snapshot;
+  }
+
+  /**
+   * <p>Registers the {@link ThemisMetricsMXBean} with the platform
+   * <code>MBeanServer</code> as {@link #MBEAN_NAME}, if it is not already
+   * registered.</p>
+   *
+   * @return The <code>ObjectName</code> of the MBean. This will never be
+   * <code>null</code>.
+   *
+   * @throws uk.co.noop.themis.exception.ThemisEunomiaException If the MBean
+   * cannot be registered.
+   */
+  public static ObjectName registerMBean() {
+    return MBeanRegistration.register();
+  }
+
+  private ThemisMetrics() {
+    super();
+  }
+
+}
@@ -0,0 +1,55 @@
+package uk.co.noop.themis.metrics;
+
+import java.util.List;
+
+/**
+ * <p>The {@link ThemisMetricsMXBean} registered by
+ * {@link ThemisMetrics#registerMBean()}, which reads a new snapshot for each
+ * attribute.</p>
+ */
+final class ThemisMetricsBean implements ThemisMetricsMXBean {
+
+  @Override
+  public boolean isEnabled() {
+    return ThemisMetrics.isEnabled();
+  }
+
+  @Override
+  public void setEnabled(final boolean enabled) {
+    ThemisMetrics.setEnabled(enabled);
+  }
+
+  @Override
+  public int getSampleRate() {
+    return ThemisMetrics.getSampleRate();
+  }
+
+  @Override
+  public long getChecks() {
+    return ThemisMetrics.snapshot().getChecks();
+  }
+
+  @Override
+  public long getFailures() {
+    return ThemisMetrics.snapshot().getFailures();
+  }
+
+  @Override
+  public List<ThemisRuleMetrics> getRules() {
+    return ThemisMetrics.snapshot().getRules();
+  }
+
+  @Override
+  public List<ThemisTrackedFailure> getTopFailures() {
+
+    final ThemisFailureTracker tracker = ThemisMetrics.getFailureTracker();
+
+    return tracker == null ? List.of() : tracker.getTop();
+  }
+
+  @Override
+  public void reset() {
+    ThemisMetrics.reset();
+  }
+
+}
@@ -0,0 +1,28 @@
+package uk.co.noop.themis.metrics;
+
+/**
+ * <p>Receives the snapshots published by {@link ThemisMetrics#publish()},
+ * e.g. to forward them to a metrics system.</p>
+ *
+ * <p>Themis starts no threads of its own, so snapshots are only published
+ * when the application calls <code>publish()</code>, typically from a
+ * scheduled task:</p>
+ *
+ * <p><code>
+ * ThemisMetrics.addListener(snapshot -&gt; log.info("{}", snapshot));<br>
+ * scheduler.scheduleAtFixedRate(ThemisMetrics::publish, 1, 1, MINUTES);
+ * </code></p>
+ *
+ * @see ThemisMetrics
+ */
+@FunctionalInterface
+public interface ThemisMetricsListener {
+
+  /**
+   * <p>Receives a snapshot of the metrics.</p>
+   *
+   * @param snapshot The snapshot. This will never be <code>null</code>.
+   */
+  void onSnapshot(ThemisMetricsSnapshot snapshot);
+
+}
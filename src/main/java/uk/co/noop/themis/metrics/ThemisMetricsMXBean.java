@@ -0,0 +1,86 @@
+package uk.co.noop.themis.metrics;
+
+import java.util.List;
+
+/**
+ * <p>The JMX view of {@link ThemisMetrics}, registered by
+ * {@link ThemisMetrics#registerMBean()} as
+ * <code>uk.co.noop.themis:type=ThemisMetrics</code>.</p>
+ *
+ * <p>Each {@link ThemisRuleMetrics} is exposed as composite data, so it can
+ * be read by any JMX client without Themis on its class path.</p>
+ *
+ * @see ThemisMetrics
+ */
+public interface ThemisMetricsMXBean {
+
+  /**
+   * <p>Returns whether metrics are being collected.</p>
+   *
+   * @return <code>true</code> if metrics are enabled.
+   *
+   * @see ThemisMetrics#isEnabled()
+   */
+  boolean isEnabled();
+
+  /**
+   * <p>Enables or disables the collection of metrics.</p>
+   *
+   * @param enabled <code>true</code> to collect metrics.
+   *
+   * @see ThemisMetrics#setEnabled(boolean)
+   */
+  void setEnabled(boolean enabled);
+
+  /**
+   * <p>Returns how often the latency of a check is measured.</p>
+   *
+   * @return One in this many Eunomia instances have their latencies
+   * measured.
+   *
+   * @see ThemisMetrics#getSampleRate()
+   */
+  int getSampleRate();
+
+  /**
+   * <p>Returns the total number of checks of every rule.</p>
+   *
+   * @return The total number of checks.
+   */
+  long getChecks();
+
+  /**
+   * <p>Returns the total number of failed checks of every rule.</p>
+   *
+   * @return The total number of failed checks.
+   */
+  long getFailures();
+
+  /**
+   * <p>Returns the metrics of every rule and <b>targetName</b>.</p>
+   *
+   * @return The metrics. This will never be <code>null</code>.
+   *
+   * @see ThemisMetricsSnapshot#getRules()
+   */
+  List<ThemisRuleMetrics> getRules();
+
+  /**
+   * <p>Returns the most frequently failing <b>targetNames</b> and rules
+   * estimated by the {@link ThemisFailureTracker}, if one is set.</p>
+   *
+   * @return The estimates, most frequent first. This will never be
+   * <code>null</code>.
+   *
+   * @see ThemisMetrics#setFailureTracker(ThemisFailureTracker)
+   */
+  List<ThemisTrackedFailure> getTopFailures();
+
+  /**
+   * <p>Discards every metric collected so far.</p>
+   *
+   * @see ThemisMetrics#reset()
+   */
+  void reset();
+
+}
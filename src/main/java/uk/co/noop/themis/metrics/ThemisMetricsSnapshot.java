@@ -0,0 +1,84 @@
+package uk.co.noop.themis.metrics;
+
+import java.util.List;
+
+/**
+ * <p>An immutable snapshot of the metrics of every rule applied to every
+ * <b>targetName</b> since metrics were enabled or last reset, taken by
+ * {@link ThemisMetrics#snapshot()}.</p>
+ *
+ * <p>Each {@link ThemisRuleMetrics} is read consistently on its own, but
+ * checks made while the snapshot is taken may be counted for some rules and
+ * not for others.</p>
+ *
+ * @see ThemisMetrics
+ * @see ThemisRuleMetrics
+ */
+public final class ThemisMetricsSnapshot {
+
+  private final List<ThemisRuleMetrics> rules;
+
+  ThemisMetricsSnapshot(final List<ThemisRuleMetrics> rules) {
+
+    super();
+    this.rules = List.copyOf(rules);
+  }
+
+  /**
+   * <p>Returns the metrics of every rule and <b>targetName</b>, ordered by
+   * <b>targetName</b> and then rule.</p>
+   *
+   * @return An unmodifiable list of metrics. This will never be
+   * <code>null</code>.
+   */
+  public List<ThemisRuleMetrics> getRules() {
+    return rules;
+  }
+
+  /**
+   * <p>Returns the metrics of the specified <b>rule</b> applied to the
+   * specified <b>targetName</b>.</p>
+   *
+   * @param targetName The name of the <b>target</b>.
+   * @param rule The name of the rule, e.g. <code>againstBlankStrings</code>.
+   *
+   * @return The metrics, or <code>null</code> if the rule has not been applied
+   * to the <b>target</b>.
+   */
+  public ThemisRuleMetrics get(final String targetName, final String rule) {
+
+    for (final ThemisRuleMetrics metrics : rules) {
+      if (metrics.getTargetName().equals(targetName)
+          && metrics.getRule().equals(rule)) {
+
+        return metrics;
+      }
+    }
+
+    return null;
+  }
+
+  /**
+   * <p>Returns the total number of checks of every rule.</p>
+   *
+   * @return The total number of checks.
+   */
+  public long getChecks() {
+    return rules.stream().mapToLong(ThemisRuleMetrics::getChecks).sum();
+  }
+
+  /**
+   * <p>Returns the total number of failed checks of every rule.</p>
+   *
+   * @return The total number of failed checks.
+   */
+  public long getFailures() {
+    return rules.stream().mapToLong(ThemisRuleMetrics::getFailures).sum();
+  }
+
+  @Override
+  public String toString() {
+    return rules.toString();
+  }
+
+}
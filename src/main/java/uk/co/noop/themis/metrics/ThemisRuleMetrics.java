@@ -0,0 +1,179 @@
+package uk.co.noop.themis.metrics;
+
+/**
+ * <p>An immutable snapshot of the metrics of one rule, e.g.
+ * <code>againstBlankStrings</code>, applied to one <b>targetName</b>.</p>
+ *
+ * <p>Every check is counted. Latencies are only measured for sampled checks
+ * (See: {@link ThemisMetrics#setSampleRate(int)}) and are held in a histogram
+ * of power of two buckets: bucket <code>i</code> counts the latencies from
+ * <code>2<sup>i</sup></code> up to <code>2<sup>i + 1</sup></code>
+ * nanoseconds, and bucket <code>0</code> also counts those below one
+ * nanosecond.</p>
+ *
+ * <p>Only timed checks have latencies: a <code>Predicate</code> or
+ * {@link uk.co.noop.themis.rule.ThemisRule ThemisRule} applied by a Eunomia,
+ * timed around that call alone, and a whole
+ * {@link uk.co.noop.themis.validator.ThemisValidator ThemisValidator}.</p>
+ *
+ * @see ThemisMetrics
+ * @see ThemisMetricsSnapshot
+ */
+public final class ThemisRuleMetrics {
+
+  static final int BUCKETS = 64;
+
+  private final String targetName;
+  private final String rule;
+  private final long checks;
+  private final long failures;
+  private final long sampledChecks;
+  private final long sampledNanos;
+  private final long[] latencyHistogram;
+
+  ThemisRuleMetrics(
+      final String targetName,
+      final String rule,
+      final long checks,
+      final long failures,
+      final long sampledChecks,
+      final long sampledNanos,
+      final long[] latencyHistogram) {
+
+    super();
+    this.targetName = targetName;
+    this.rule = rule;
+    this.checks = checks;
+    this.failures = failures;
+    this.sampledChecks = sampledChecks;
+    this.sampledNanos = sampledNanos;
+    this.latencyHistogram = latencyHistogram;
+  }
+
+  /**
+   * <p>Returns the name of the checked <b>target</b>.</p>
+   *
+   * @return The <b>targetName</b>. This will never be <code>null</code>.
+   */
+  public String getTargetName() {
+    return targetName;
+  }
+
+  /**
+   * <p>Returns the name of the rule, e.g. <code>againstBlankStrings</code>, or
+   * {@link ThemisMetrics#UNNAMED_RULE} for the rules of a custom Eunomia that
+   * does not name them.</p>
+   *
+   * @return The name of the rule. This will never be <code>null</code>.
+   */
+  public String getRule() {
+    return rule;
+  }
+
+  /**
+   * <p>Returns the number of checks.</p>
+   *
+   * @return The number of checks, passed or failed.
+   */
+  public long getChecks() {
+    return checks;
+  }
+
+  /**
+   * <p>Returns the number of checks that passed.</p>
+   *
+   * @return The number of checks that passed.
+   */
+  public long getPasses() {
+    return checks - failures;
+  }
+
+  /**
+   * <p>Returns the number of checks that failed, i.e. rejected the
+   * <b>target</b>.</p>
+   *
+   * @return The number of checks that failed.
+   */
+  public long getFailures() {
+    return failures;
+  }
+
+  /**
+   * <p>Returns the number of checks whose latency was measured.</p>
+   *
+   * @return The number of sampled checks.
+   */
+  public long getSampledChecks() {
+    return sampledChecks;
+  }
+
+  /**
+   * <p>Returns the mean latency of the sampled checks.</p>
+   *
+   * @return The mean latency in nanoseconds, or <code>0</code> if no check
+   * was sampled.
+   */
+  public long getMeanLatencyNanos() {
+    return sampledChecks == 0 ? 0 : sampledNanos / sampledChecks;
+  }
+
+  /**
+   * <p>Returns the latency histogram of the sampled checks.</p>
+   *
+   * @return A copy of the counts of the 64 power of two buckets. This will
+   * never be <code>null</code>.
+   */
+  public long[] getLatencyHistogram() {
+    return latencyHistogram.clone();
+  }
+
+  /**
+   * <p>Returns an upper bound of the specified <b>percentile</b> of the
+   * sampled latencies: the exclusive upper bound of the histogram bucket that
+   * holds it, so it is at most twice the true value.</p>
+   *
+   * @param percentile The percentile, from <code>0</code> to
+   *                   <code>100</code>.
+   *
+   * @return The upper bound in nanoseconds, or <code>0</code> if no check was
+   * sampled.
+   */
+  public long latencyPercentileNanos(final double percentile) {
+
+    if (sampledChecks == 0) {
+      return 0;
+    }
+
+    final long rank = (long) Math.ceil(sampledChecks * percentile / 100);
+    long seen = 0;
+
+    for (int i = 0; i < latencyHistogram.length; i++) {
+
+      seen += latencyHistogram[i];
+
+      if (seen >= Math.max(1, rank)) {
+        return i == BUCKETS - 1 ? Long.MAX_VALUE : 1L << (i + 1);
+      }
+    }
+
+    return Long.MAX_VALUE;
+  }
+
+  @Override
+  public String toString() {
+
+    return String.format(
+        "%s.%s: %d checks, %d failures, p50 < %d ns, p99 < %d ns",
+        targetName,
+        rule,
+        checks,
+        failures,
+        latencyPercentileNanos(50),
+        latencyPercentileNanos(99));
+  }
+
+  static int bucket(final long latencyNanos) {
+    return Math.max(0, 63 - Long.numberOfLeadingZeros(latencyNanos));
+  }
+
+}
@@ -0,0 +1,98 @@
+package uk.co.noop.themis.metrics;
+
+/**
+ * <p>An immutable estimate of how often one rule, e.g.
+ * <code>againstBlankStrings</code>, failed for one <b>targetName</b>, as
+ * reported by a {@link ThemisFailureTracker}.</p>
+ *
+ * <p>The count is an estimate from a fixed size sketch: it is never below the
+ * true count, and exceeds it by at most a small fraction of all failures
+ * (See: {@link ThemisFailureTracker}).</p>
+ *
+ * @see ThemisFailureTracker
+ */
+public final class ThemisTrackedFailure {
+
+  private final String targetName;
+  private final String rule;
+  private final long failures;
+  private final long totalFailures;
+  private final long elapsedNanos;
+
+  ThemisTrackedFailure(
+      final String targetName,
+      final String rule,
+      final long failures,
+      final long totalFailures,
+      final long elapsedNanos) {
+
+    super();
+    this.targetName = targetName;
+    this.rule = rule;
+    this.failures = failures;
+    this.totalFailures = totalFailures;
+    this.elapsedNanos = elapsedNanos;
+  }
+
+  /**
+   * <p>Returns the name of the failing <b>target</b>.</p>
+   *
+   * @return The <b>targetName</b>. This will never be <code>null</code>.
+   */
+  public String getTargetName() {
+    return targetName;
+  }
+
+  /**
+   * <p>Returns the name of the failed rule.</p>
+   *
+   * @return The rule name. This will never be <code>null</code>.
+   */
+  public String getRule() {
+    return rule;
+  }
+
+  /**
+   * <p>Returns the estimated number of failures.</p>
+   *
+   * @return The estimated number of failures; never below the true number.
+   */
+  public long getFailures() {
+    return failures;
+  }
+
+  /**
+   * <p>Returns the estimated share of all failures recorded by the
+   * tracker.</p>
+   *
+   * @return The share, from <code>0</code> to <code>1</code>.
+   */
+  public double getFailureShare() {
+    return totalFailures == 0
+        ? 0
+        : Math.min(1, (double) failures / totalFailures);
+  }
+
+  /**
+   * <p>Returns the estimated number of failures per second since the
+   * tracker was created or last reset.</p>
+   *
+   * @return The failures per second.
+   */
+  public double getFailuresPerSecond() {
+    return elapsedNanos <= 0 ? 0 : failures * 1e9 / elapsedNanos;
+  }
+
+  @Override
+  public String toString() {
+
+    return String.format(
+        "%s.%s: ~%d failures (%.1f%%, %.2f/s)",
+        targetName,
+        rule,
+        failures,
+        getFailureShare() * 100,
+        getFailuresPerSecond());
+  }
+
+}
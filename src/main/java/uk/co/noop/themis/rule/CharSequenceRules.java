@@ -0,0 +1,346 @@
+package uk.co.noop.themis.rule;
+
+import uk.co.noop.themis.violation.ThemisViolationType;
+
+import java.util.function.Predicate;
+
+/**
+ * <p>The {@link ThemisRule} instances behind {@link
+ * uk.co.noop.themis.eunomia.CharSequenceEunomia CharSequenceEunomia}, e.g.
+ * for a <code>StringBuilder</code> or a <code>CharBuffer</code> over a
+ * network buffer.</p>
+ *
+ * <p>Each rule also has a static <code>*Violation</code> method that tests a
+ * <b>target</b> directly, without a <code>ThemisRule</code> instance. They
+ * read the <b>target</b> in place with <code>charAt</code> and never call
+ * <code>toString()</code>, so it is not copied. A <code>String</code>
+ * <b>target</b> is tested with the same scans as {@link StringRules}.</p>
+ *
+ * @see uk.co.noop.themis.eunomia.CharSequenceEunomia
+ */
+public final class CharSequenceRules {
+
+  private static final ThemisRule<CharSequence> NULL_CHAR_SEQUENCES =
+      ObjectRules::nullObjectViolation;
+
+  private static final ThemisRule<CharSequence> EMPTY_CHAR_SEQUENCES =
+      CharSequenceRules::emptyViolation;
+
+  private static final ThemisRule<CharSequence> BLANK_CHAR_SEQUENCES =
+      CharSequenceRules::blankViolation;
+
+  private static final ThemisRule<CharSequence> NON_ASCII_CHARACTERS =
+      CharSequenceRules::nonAsciiCharactersViolation;
+
+  private static final ThemisRule<CharSequence> CONTROL_CHARACTERS =
+      CharSequenceRules::controlCharactersViolation;
+
+  /**
+   * <p>Returns the rule against <code>null</code> <b>target</b> values.</p>
+   *
+   * @return The shared rule. This will never be <code>null</code>.
+   *
+   * @see uk.co.noop.themis.eunomia.CharSequenceEunomia
+   */
+  public static ThemisRule<CharSequence> againstNullCharSequences() {
+    return NULL_CHAR_SEQUENCES;
+  }
+
+  /**
+   * <p>Returns the rule against empty <b>target</b> values (<code>null</code>
+   * or an empty <code>CharSequence</code>).</p>
+   *
+   * @return The shared rule. This will never be <code>null</code>.
+   *
+   * @see uk.co.noop.themis.eunomia.CharSequenceEunomia
+   */
+  public static ThemisRule<CharSequence> againstEmptyCharSequences() {
+    return EMPTY_CHAR_SEQUENCES;
+  }
+
+  /**
+   * <p>Returns the rule against blank <b>target</b> values (<code>null</code>,
+   * an empty <code>CharSequence</code> or a <code>CharSequence</code>
+   * containing only whitespace characters).</p>
+   *
+   * @return The shared rule. This will never be <code>null</code>.
+   *
+   * @see uk.co.noop.themis.eunomia.CharSequenceEunomia
+   */
+  public static ThemisRule<CharSequence> againstBlankCharSequences() {
+    return BLANK_CHAR_SEQUENCES;
+  }
+
+  /**
+   * <p>Returns a rule against <b>target</b> values (<code>null</code> or a
+   * <code>CharSequence</code>) longer than the specified
+   * <b>maxLength</b>.</p>
+   *
+   * @param maxLength The maximum length, in <code>char</code> values.
+   *
+   * @return A new rule. This will never be <code>null</code>.
+   *
+   * @see uk.co.noop.themis.eunomia.CharSequenceEunomia
+   */
+  public static ThemisRule<CharSequence> againstLongCharSequences(
+      final int maxLength) {
+
+    return target -> longViolation(target, maxLength);
+  }
+
+  /**
+   * <p>Returns a rule against <b>target</b> values (<code>null</code> or a
+   * <code>CharSequence</code>) shorter than the specified
+   * <b>minLength</b>.</p>
+   *
+   * @param minLength The minimum length, in <code>char</code> values.
+   *
+   * @return A new rule. This will never be <code>null</code>.
+   *
+   * @see uk.co.noop.themis.eunomia.CharSequenceEunomia
+   */
+  public static ThemisRule<CharSequence> againstShortCharSequences(
+      final int minLength) {
+
+    return target -> shortViolation(target, minLength);
+  }
+
+  /**
+   * <p>Returns a rule against <b>target</b> values (<code>null</code> or a
+   * <code>CharSequence</code>) containing any <code>char</code> outside the
+   * specified {@link CharacterSet}.</p>
+   *
+   * @param allowed The allowed characters.
+   *
+   * @return A new rule. This will never be <code>null</code>.
+   *
+   * @see uk.co.noop.themis.eunomia.CharSequenceEunomia
+   */
+  public static ThemisRule<CharSequence> againstCharactersOutside(
+      final CharacterSet allowed) {
+
+    return target -> charactersOutsideViolation(target, allowed);
+  }
+
+  /**
+   * <p>Returns the rule against <b>target</b> values (<code>null</code> or a
+   * <code>CharSequence</code>) containing any non-ASCII <code>char</code>,
+   * i.e. any <code>char</code> above <code>0x7F</code>.</p>
+   *
+   * @return The shared rule. This will never be <code>null</code>.
+   *
+   * @see uk.co.noop.themis.eunomia.CharSequenceEunomia
+   */
+  public static ThemisRule<CharSequence> againstNonAsciiCharacters() {
+    return NON_ASCII_CHARACTERS;
+  }
+
+  /**
+   * <p>Returns the rule against <b>target</b> values (<code>null</code> or a
+   * <code>CharSequence</code>) containing any ISO control <code>char</code>
+   * (See: {@link Character#isISOControl(char)}).</p>
+   *
+   * @return The shared rule. This will never be <code>null</code>.
+   *
+   * @see uk.co.noop.themis.eunomia.CharSequenceEunomia
+   */
+  public static ThemisRule<CharSequence> againstControlCharacters() {
+    return CONTROL_CHARACTERS;
+  }
+
+  /**
+   * <p>Returns a rule against invalid <b>target</b> values using the specified
+   * {@link Predicate}. A <code>null</code> <b>target</b> is always
+   * invalid.</p>
+   *
+   * @param predicate The <code>Predicate</code> used to test the
+   *                  <b>target</b>. Returns <code>true</code> if the
+   *                  <b>target</b> is invalid.
+   *
+   * @return A new rule. This will never be <code>null</code>.
+   *
+   * @see uk.co.noop.themis.eunomia.CharSequenceEunomia
+   */
+  public static ThemisRule<CharSequence> againstInvalidCharSequences(
+      final Predicate<CharSequence> predicate) {
+
+    return target -> ObjectRules.invalidValueViolation(target, predicate);
+  }
+
+  /**
+   * <p>Tests the specified <b>target</b> against empty values.</p>
+   *
+   * @param target The <b>target</b>.
+   *
+   * @return {@link ThemisViolationType#NULL_TARGET}, {@link
+   * ThemisViolationType#EMPTY_TARGET} or <code>null</code> if the
+   * <b>target</b> is valid.
+   */
+  public static ThemisViolationType emptyViolation(
+      final CharSequence target) {
+
+    if (target == null) {
+      return ThemisViolationType.NULL_TARGET;
+    }
+
+    return target.length() == 0 ? ThemisViolationType.EMPTY_TARGET : null;
+  }
+
+  /**
+   * <p>Tests the specified <b>target</b> against blank values, using the same
+   * definition of whitespace as {@link String#trim()}.</p>
+   *
+   * @param target The <b>target</b>.
+   *
+   * @return {@link ThemisViolationType#NULL_TARGET}, {@link
+   * ThemisViolationType#EMPTY_TARGET}, {@link
+   * ThemisViolationType#BLANK_TARGET_STRING} or <code>null</code> if the
+   * <b>target</b> is valid.
+   */
+  public static ThemisViolationType blankViolation(
+      final CharSequence target) {
+
+    if (target instanceof String) {
+      return StringRules.blankStringViolation((String) target);
+    }
+
+    final ThemisViolationType violationType = emptyViolation(target);
+
+    if (violationType != null) {
+      return violationType;
+    }
+
+    for (int i = 0; i < target.length(); i++) {
+      if (target.charAt(i) > ' ') {
+        return null;
+      }
+    }
+
+    return ThemisViolationType.BLANK_TARGET_STRING;
+  }
+
+  /**
+   * <p>Tests the specified <b>target</b> against values longer than the
+   * specified <b>maxLength</b>.</p>
+   *
+   * @param target The <b>target</b>.
+   * @param maxLength The maximum length, in <code>char</code> values.
+   *
+   * @return {@link ThemisViolationType#NULL_TARGET}, {@link
+   * ThemisViolationType#INVALID_TARGET} or <code>null</code> if the
+   * <b>target</b> is valid.
+   */
+  public static ThemisViolationType longViolation(
+      final CharSequence target,
+      final int maxLength) {
+
+    if (target == null) {
+      return ThemisViolationType.NULL_TARGET;
+    }
+
+    return target.length() > maxLength
+        ? ThemisViolationType.INVALID_TARGET
+        : null;
+  }
+
+  /**
+   * <p>Tests the specified <b>target</b> against values shorter than the
+   * specified <b>minLength</b>.</p>
+   *
+   * @param target The <b>target</b>.
+   * @param minLength The minimum length, in <code>char</code> values.
+   *
+   * @return {@link ThemisViolationType#NULL_TARGET}, {@link
+   * ThemisViolationType#INVALID_TARGET} or <code>null</code> if the
+   * <b>target</b> is valid.
+   */
+  public static ThemisViolationType shortViolation(
+      final CharSequence target,
+      final int minLength) {
+
+    if (target == null) {
+      return ThemisViolationType.NULL_TARGET;
+    }
+
+    return target.length() < minLength
+        ? ThemisViolationType.INVALID_TARGET
+        : null;
+  }
+
+  /**
+   * <p>Tests the specified <b>target</b> against values containing any
+   * <code>char</code> outside the specified {@link CharacterSet}.</p>
+   *
+   * @param target The <b>target</b>.
+   * @param allowed The allowed characters.
+   *
+   * @return {@link ThemisViolationType#NULL_TARGET}, {@link
+   * ThemisViolationType#INVALID_TARGET} or <code>null</code> if the
+   * <b>target</b> is valid.
+   */
+  public static ThemisViolationType charactersOutsideViolation(
+      final CharSequence target,
+      final CharacterSet allowed) {
+
+    if (target instanceof String) {
+      return StringRules.charactersOutsideViolation((String) target, allowed);
+    }
+
+    if (target == null) {
+      return ThemisViolationType.NULL_TARGET;
+    }
+
+    for (int i = 0; i < target.length(); i++) {
+      if (!allowed.contains(target.charAt(i))) {
+        return ThemisViolationType.INVALID_TARGET;
+      }
+    }
+
+    return null;
+  }
+
+  /**
+   * <p>Tests the specified <b>target</b> against values containing any
+   * non-ASCII <code>char</code>.</p>
+   *
+   * @param target The <b>target</b>.
+   *
+   * @return {@link ThemisViolationType#NULL_TARGET}, {@link
+   * ThemisViolationType#INVALID_TARGET} or <code>null</code> if the
+   * <b>target</b> is valid.
+   */
+  public static ThemisViolationType nonAsciiCharactersViolation(
+      final CharSequence target) {
+
+    if (target instanceof String) {
+      return StringRules.nonAsciiCharactersViolation((String) target);
+    }
+
+    return charactersOutsideViolation(target, CharacterSet.ASCII);
+  }
+
+  /**
+   * <p>Tests the specified <b>target</b> against values containing any ISO
+   * control <code>char</code>.</p>
+   *
+   * @param target The <b>target</b>.
+   *
+   * @return {@link ThemisViolationType#NULL_TARGET}, {@link
+   * ThemisViolationType#INVALID_TARGET} or <code>null</code> if the
+   * <b>target</b> is valid.
+   */
+  public static ThemisViolationType controlCharactersViolation(
+      final CharSequence target) {
+
+    if (target instanceof String) {
+      return StringRules.controlCharactersViolation((String) target);
+    }
+
+    return charactersOutsideViolation(target, CharacterSet.NON_CONTROL);
+  }
+
+  private CharSequenceRules() {
+    super();
+  }
+
+}
@@ -0,0 +1,291 @@
+package uk.co.noop.themis.rule;
+
+import uk.co.noop.themis.Themis;
+
+import java.util.Arrays;
+
+/**
+ * <p>An immutable set of <code>char</code> values, e.g. the characters allowed
+ * in an identifier, backed by a bitmap so that membership is a single array
+ * lookup.</p>
+ *
+ * <p>The bitmap only extends as far as the highest <code>char</code> in the
+ * set, so sets of ASCII characters take two <code>long</code> values.</p>
+ *
+ * @see StringRules#againstCharactersOutside(CharacterSet)
+ */
+public final class CharacterSet {
+
+  /**
+   * <p>The ASCII digits, <code>0</code> to <code>9</code>.</p>
+   */
+  public static final CharacterSet ASCII_DIGITS = range('0', '9');
+
+  /**
+   * <p>The ASCII letters, <code>a</code> to <code>z</code> and <code>A</code>
+   * to <code>Z</code>.</p>
+   */
+  public static final CharacterSet ASCII_LETTERS =
+      range('a', 'z').or(range('A', 'Z'));
+
+  /**
+   * <p>The ASCII letters and digits.</p>
+   */
+  public static final CharacterSet ASCII_ALPHANUMERICS =
+      ASCII_LETTERS.or(ASCII_DIGITS);
+
+  /**
+   * <p>The hexadecimal digits, in upper and lower case.</p>
+   */
+  public static final CharacterSet ASCII_HEX_DIGITS =
+      ASCII_DIGITS.or(range('a', 'f')).or(range('A', 'F'));
+
+  /**
+   * <p>The printable ASCII characters, space (<code>0x20</code>) to
+   * <code>~</code> (<code>0x7E</code>).</p>
+   */
+  public static final CharacterSet PRINTABLE_ASCII = range(' ', '~');
+
+  /**
+   * <p>Every ASCII character, <code>0x00</code> to <code>0x7F</code>.</p>
+   */
+  public static final CharacterSet ASCII = range('\u0000', '\u007F');
+
+  /**
+   * <p>Every <code>char</code> that is not an ISO control character (See:
+   * {@link Character#isISOControl(char)}).</p>
+   */
+  static final CharacterSet NON_CONTROL =
+      range(' ', '~').or(range('\u00A0', '\uFFFF'));
+
+  private final long[] bits;
+  private final char[] ranges;
+
+  private CharacterSet(final long[] bits) {
+    super();
+    this.bits = bits;
+    this.ranges = ranges(bits);
+  }
+
+  /**
+   * <p>Creates a new <code>CharacterSet</code> containing each
+   * <code>char</code> of the specified <b>characters</b>.</p>
+   *
+   * @param characters The characters; this should not be <code>null</code>.
+   *
+   * @return A new <code>CharacterSet</code>. This will never be
+   * <code>null</code>.
+   */
+  public static CharacterSet of(final CharSequence characters) {
+
+    char max = 0;
+
+    for (int i = 0; i < characters.length(); i++) {
+      max = (char) Math.max(max, characters.charAt(i));
+    }
+
+    final long[] bits = new long[(max >>> 6) + 1];
+
+    for (int i = 0; i < characters.length(); i++) {
+
+      final char c = characters.charAt(i);
+
+      bits[c >>> 6] |= 1L << c;
+    }
+
+    return new CharacterSet(bits);
+  }
+
+  /**
+   * <p>Creates a new <code>CharacterSet</code> containing every
+   * <code>char</code> from <b>first</b> to <b>last</b>, inclusive.</p>
+   *
+   * @param first The first <code>char</code>.
+   * @param last The last <code>char</code>; this should not be less than
+   *             <b>first</b>.
+   *
+   * @return A new <code>CharacterSet</code>. This will never be
+   * <code>null</code>.
+   *
+   * @throws uk.co.noop.themis.exception.ThemisInvalidTargetException If
+   * <b>last</b> is less than <b>first</b>.
+   */
+  public static CharacterSet range(final char first, final char last) {
+
+    Themis.validate("last", (int) last).againstValuesBelow(first);
+
+    final long[] bits = new long[(last >>> 6) + 1];
+
+    for (int c = first; c <= last; c++) {
+      bits[c >>> 6] |= 1L << c;
+    }
+
+    return new CharacterSet(bits);
+  }
+
+  /**
+   * <p>Returns a new <code>CharacterSet</code> containing every
+   * <code>char</code> in <code>this</code> or the <b>other</b> set.</p>
+   *
+   * @param other The other <code>CharacterSet</code>.
+   *
+   * @return A new <code>CharacterSet</code>. This will never be
+   * <code>null</code>.
+   */
+  public CharacterSet or(final CharacterSet other) {
+
+    final long[] union =
+        Arrays.copyOf(bits, Math.max(bits.length, other.bits.length));
+
+    for (int i = 0; i < other.bits.length; i++) {
+      union[i] |= other.bits[i];
+    }
+
+    return new CharacterSet(union);
+  }
+
+  /**
+   * <p>Returns a new <code>CharacterSet</code> containing every
+   * <code>char</code> in both <code>this</code> and the <b>other</b> set.</p>
+   *
+   * @param other The other <code>CharacterSet</code>.
+   *
+   * @return A new <code>CharacterSet</code>. This will never be
+   * <code>null</code>.
+   */
+  public CharacterSet and(final CharacterSet other) {
+
+    final long[] intersection =
+        Arrays.copyOf(bits, Math.min(bits.length, other.bits.length));
+
+    for (int i = 0; i < intersection.length; i++) {
+      intersection[i] &= other.bits[i];
+    }
+
+    return new CharacterSet(intersection);
+  }
+
+  /**
+   * <p>Tests whether <code>this</code> set contains the specified
+   * <code>char</code>.</p>
+   *
+   * @param c The <code>char</code>.
+   *
+   * @return <code>true</code> if <code>this</code> set contains <b>c</b>,
+   * otherwise <code>false</code>.
+   */
+  public boolean contains(final char c) {
+
+    final int index = c >>> 6;
+
+    return index < bits.length && (bits[index] & (1L << c)) != 0;
+  }
+
+  /**
+   * <p>Returns the index of the first <code>char</code> of the specified
+   * <code>String</code> that is not in <code>this</code> set.</p>
+   *
+   * @param string The <code>String</code>; this should not be
+   *               <code>null</code>.
+   *
+   * @return The index of the first <code>char</code> outside <code>this</code>
+   * set, or <code>-1</code> if every <code>char</code> is in <code>this</code>
+   * set.
+   */
+  public int indexOfFirstOutside(final String string) {
+
+    return StringScanner.INSTANCE.indexOfOutside(string, this);
+  }
+
+  /**
+   * <p>Returns the contiguous runs of <code>this</code> set as
+   * <code>(first, last)</code> pairs, in order.</p>
+   */
+  char[] ranges() {
+    return ranges;
+  }
+
+  @Override
+  public boolean equals(final Object o) {
+
+    if (this == o) {
+      return true;
+    }
+
+    if (!(o instanceof CharacterSet)) {
+      return false;
+    }
+
+    return Arrays.equals(trim(bits), trim(((CharacterSet) o).bits));
+  }
+
+  @Override
+  public int hashCode() {
+    return Arrays.hashCode(trim(bits));
+  }
+
+  private static char[] ranges(final long[] bits) {
+
+    char[] ranges = new char[8];
+    int size = 0;
+    int first = nextBit(bits, 0, true);
+
+    while (first >= 0) {
+
+      final int end = nextBit(bits, first, false);
+
+      if (size == ranges.length) {
+        ranges = Arrays.copyOf(ranges, size * 2);
+      }
+
+      ranges[size++] = (char) first;
+      ranges[size++] = (char) (end - 1);
+      first = nextBit(bits, end, true);
+    }
+
+    return Arrays.copyOf(ranges, size);
+  }
+
+  /**
+   * <p>Returns the first bit from <b>from</b> that is <b>set</b> (or clear),
+   * or, if there is none, <code>-1</code> (or the bitmap size).</p>
+   */
+  private static int nextBit(
+      final long[] bits,
+      final int from,
+      final boolean set) {
+
+    final int none = set ? -1 : bits.length << 6;
+
+    int index = from >>> 6;
+
+    if (index >= bits.length) {
+      return none;
+    }
+
+    long word = (set ? bits[index] : ~bits[index]) & (-1L << from);
+
+    while (word == 0) {
+
+      if (++index == bits.length) {
+        return none;
+      }
+
+      word = set ? bits[index] : ~bits[index];
+    }
+
+    return (index << 6) + Long.numberOfTrailingZeros(word);
+  }
+
+  private static long[] trim(final long[] bits) {
+
+    int length = bits.length;
+
+    while (length > 0 && bits[length - 1] == 0) {
+      length--;
+    }
+
+    return length == bits.length ? bits : Arrays.copyOf(bits, length);
+  }
+
+}
@@ -0,0 +1,357 @@
+package uk.co.noop.themis.rule;
+
+import uk.co.noop.themis.Themis;
+import uk.co.noop.themis.violation.ThemisViolationType;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Predicate;
+
+/**
+ * <p>The {@link ThemisRule} instances behind {@link
+ * uk.co.noop.themis.eunomia.CollectionEunomia CollectionEunomia} and {@link
+ * uk.co.noop.themis.eunomia.ArrayEunomia ArrayEunomia}.</p>
+ *
+ * <p>Each rule also has a static <code>*Violation</code> method that tests a
+ * <b>target</b> directly, without a <code>ThemisRule</code> instance. The
+ * array methods view the array as a <code>List</code> without copying it.</p>
+ *
+ * <p><b>Targets</b> with at least {@link #getParallelThreshold()} elements are
+ * tested in parallel, with a parallel stream on the common
+ * {@link ForkJoinPool}, unless it only has a single thread, so element
+ * <code>Predicate</code>s must be thread-safe. The threshold can also be set at
+ * start up with the <code>uk.co.noop.themis.parallelThreshold</code> system
+ * property.</p>
+ *
+ * @see uk.co.noop.themis.eunomia.CollectionEunomia
+ * @see uk.co.noop.themis.eunomia.ArrayEunomia
+ */
+public final class CollectionRules {
+
+  private static final String PARALLEL_THRESHOLD_PROPERTY =
+      "uk.co.noop.themis.parallelThreshold";
+
+  private static final int DEFAULT_PARALLEL_THRESHOLD = 10_000;
+
+  private static final Object NULL_ELEMENT = new Object();
+
+  private static final ThemisRule<Collection<?>> EMPTY_COLLECTIONS =
+      CollectionRules::emptyViolation;
+
+  private static final ThemisRule<Collection<?>> NULL_ELEMENTS =
+      CollectionRules::nullElementViolation;
+
+  private static final ThemisRule<Collection<?>> DUPLICATE_ELEMENTS =
+      CollectionRules::duplicateElementViolation;
+
+  private static volatile int parallelThreshold = Integer.getInteger(
+      PARALLEL_THRESHOLD_PROPERTY,
+      DEFAULT_PARALLEL_THRESHOLD);
+
+  /**
+   * <p>Returns the rule against empty <b>target</b> values (<code>null</code>
+   * or an empty <code>Collection</code>).</p>
+   *
+   * @return The shared rule. This will never be <code>null</code>.
+   *
+   * @see uk.co.noop.themis.eunomia.CollectionEunomia#againstEmptyCollections()
+   */
+  public static ThemisRule<Collection<?>> againstEmptyCollections() {
+    return EMPTY_COLLECTIONS;
+  }
+
+  /**
+   * <p>Returns the rule against <b>target</b> values (<code>null</code> or a
+   * <code>Collection</code>) containing a <code>null</code> element.</p>
+   *
+   * @return The shared rule. This will never be <code>null</code>.
+   *
+   * @see uk.co.noop.themis.eunomia.CollectionEunomia#againstNullElements()
+   */
+  public static ThemisRule<Collection<?>> againstNullElements() {
+    return NULL_ELEMENTS;
+  }
+
+  /**
+   * <p>Returns the rule against <b>target</b> values (<code>null</code> or a
+   * <code>Collection</code>) containing equal elements.</p>
+   *
+   * @return The shared rule. This will never be <code>null</code>.
+   *
+   * @see uk.co.noop.themis.eunomia.CollectionEunomia#againstDuplicateElements()
+   */
+  public static ThemisRule<Collection<?>> againstDuplicateElements() {
+    return DUPLICATE_ELEMENTS;
+  }
+
+  /**
+   * <p>Returns a rule against <b>target</b> values (<code>null</code> or a
+   * <code>Collection</code>) containing an element that is invalid according
+   * to the specified {@link Predicate}.</p>
+   *
+   * @param predicate The <code>Predicate</code> used to test each element.
+   *                  Returns <code>true</code> if the element is invalid. This
+   *                  should be thread-safe.
+   * @param <T> The element type.
+   *
+   * @return A new rule. This will never be <code>null</code>.
+   *
+   * @see uk.co.noop.themis.eunomia.CollectionEunomia#againstInvalidElements(
+   * Predicate)
+   */
+  public static <T> ThemisRule<Collection<? extends T>> againstInvalidElements(
+      final Predicate<? super T> predicate) {
+
+    return target -> invalidElementViolation(target, predicate);
+  }
+
+  /**
+   * <p>Sets the number of elements from which <b>targets</b> are tested in
+   * parallel.</p>
+   *
+   * @param parallelThreshold The minimum number of elements to test in
+   *                          parallel; <code>Integer.MAX_VALUE</code> never
+   *                          tests in parallel.
+   *
+   * @throws uk.co.noop.themis.exception.ThemisInvalidTargetException If
+   * <b>parallelThreshold</b> is less than one.
+   */
+  public static void setParallelThreshold(final int parallelThreshold) {
+
+    Themis.validate("parallelThreshold", parallelThreshold)
+        .againstValuesBelow(1);
+
+    CollectionRules.parallelThreshold = parallelThreshold;
+  }
+
+  /**
+   * <p>Returns the number of elements from which <b>targets</b> are tested in
+   * parallel.</p>
+   *
+   * @return The parallel threshold.
+   *
+   * @see #setParallelThreshold(int)
+   */
+  public static int getParallelThreshold() {
+    return parallelThreshold;
+  }
+
+  /**
+   * <p>Tests the specified <b>target</b> against empty values.</p>
+   *
+   * @param target The <b>target</b>.
+   *
+   * @return {@link ThemisViolationType#NULL_TARGET}, {@link
+   * ThemisViolationType#EMPTY_TARGET} or <code>null</code> if the
+   * <b>target</b> is valid.
+   */
+  public static ThemisViolationType emptyViolation(
+      final Collection<?> target) {
+
+    if (target == null) {
+      return ThemisViolationType.NULL_TARGET;
+    }
+
+    return target.isEmpty() ? ThemisViolationType.EMPTY_TARGET : null;
+  }
+
+  /**
+   * <p>Overloads {@link #emptyViolation(Collection)} for arrays.</p>
+   *
+   * @param target The <b>target</b>.
+   *
+   * @return {@link ThemisViolationType#NULL_TARGET}, {@link
+   * ThemisViolationType#EMPTY_TARGET} or <code>null</code> if the
+   * <b>target</b> is valid.
+   */
+  public static ThemisViolationType emptyViolation(final Object[] target) {
+
+    if (target == null) {
+      return ThemisViolationType.NULL_TARGET;
+    }
+
+    return target.length == 0 ? ThemisViolationType.EMPTY_TARGET : null;
+  }
+
+  /**
+   * <p>Tests the specified <b>target</b> against values containing a
+   * <code>null</code> element.</p>
+   *
+   * @param target The <b>target</b>.
+   *
+   * @return {@link ThemisViolationType#NULL_TARGET}, {@link
+   * ThemisViolationType#INVALID_TARGET} or <code>null</code> if the
+   * <b>target</b> is valid.
+   */
+  public static ThemisViolationType nullElementViolation(
+      final Collection<?> target) {
+
+    return invalidElementViolation(target, Objects::isNull);
+  }
+
+  /**
+   * <p>Overloads {@link #nullElementViolation(Collection)} for arrays.</p>
+   *
+   * @param target The <b>target</b>.
+   *
+   * @return {@link ThemisViolationType#NULL_TARGET}, {@link
+   * ThemisViolationType#INVALID_TARGET} or <code>null</code> if the
+   * <b>target</b> is valid.
+   */
+  public static ThemisViolationType nullElementViolation(
+      final Object[] target) {
+
+    return nullElementViolation(target == null ? null : Arrays.asList(target));
+  }
+
+  /**
+   * <p>Tests the specified <b>target</b> against values containing equal
+   * elements.</p>
+   *
+   * <p>A <code>Set</code> <b>target</b> is always valid. Otherwise the
+   * elements are added to a hash set until one is already present, so the
+   * elements must implement <code>equals</code> and <code>hashCode</code>
+   * consistently.</p>
+   *
+   * @param target The <b>target</b>.
+   *
+   * @return {@link ThemisViolationType#NULL_TARGET}, {@link
+   * ThemisViolationType#INVALID_TARGET} or <code>null</code> if the
+   * <b>target</b> is valid.
+   */
+  public static ThemisViolationType duplicateElementViolation(
+      final Collection<?> target) {
+
+    if (target == null) {
+      return ThemisViolationType.NULL_TARGET;
+    }
+
+    if (target instanceof Set || target.size() < 2) {
+      return null;
+    }
+
+    final boolean duplicate;
+
+    if (isParallel(target)) {
+
+      final Set<Object> seen = ConcurrentHashMap.newKeySet(target.size());
+
+      duplicate = target.parallelStream()
+          .anyMatch(e -> !seen.add(e == null ? NULL_ELEMENT : e));
+
+    } else {
+
+      final Set<Object> seen = new HashSet<>(target.size() * 4 / 3 + 1);
+
+      duplicate = anyMatch(target, e -> !seen.add(e));
+    }
+
+    return duplicate ? ThemisViolationType.INVALID_TARGET : null;
+  }
+
+  /**
+   * <p>Overloads {@link #duplicateElementViolation(Collection)} for
+   * arrays.</p>
+   *
+   * @param target The <b>target</b>.
+   *
+   * @return {@link ThemisViolationType#NULL_TARGET}, {@link
+   * ThemisViolationType#INVALID_TARGET} or <code>null</code> if the
+   * <b>target</b> is valid.
+   */
+  public static ThemisViolationType duplicateElementViolation(
+      final Object[] target) {
+
+    return duplicateElementViolation(
+        target == null ? null : Arrays.asList(target));
+  }
+
+  /**
+   * <p>Tests each element of the specified <b>target</b> with the specified
+   * {@link Predicate}, stopping at the first invalid element.</p>
+   *
+   * @param target The <b>target</b>.
+   * @param predicate The <code>Predicate</code> used to test each element.
+   *                  Returns <code>true</code> if the element is invalid. This
+   *                  should be thread-safe.
+   * @param <T> The element type.
+   *
+   * @return {@link ThemisViolationType#NULL_TARGET}, {@link
+   * ThemisViolationType#INVALID_TARGET} or <code>null</code> if the
+   * <b>target</b> is valid.
+   */
+  public static <T> ThemisViolationType invalidElementViolation(
+      final Collection<? extends T> target,
+      final Predicate<? super T> predicate) {
+
+    if (target == null) {
+      return ThemisViolationType.NULL_TARGET;
+    }
+
+    final boolean invalid;
+
+    if (isParallel(target)) {
+      invalid = target.parallelStream().anyMatch(predicate);
+    } else {
+      invalid = anyMatch(target, predicate);
+    }
+
+    return invalid ? ThemisViolationType.INVALID_TARGET : null;
+  }
+
+  /**
+   * <p>Overloads {@link #invalidElementViolation(Collection, Predicate)} for
+   * arrays.</p>
+   *
+   * @param target The <b>target</b>.
+   * @param predicate The <code>Predicate</code> used to test each element.
+   *                  Returns <code>true</code> if the element is invalid. This
+   *                  should be thread-safe.
+   * @param <T> The element type.
+   *
+   * @return {@link ThemisViolationType#NULL_TARGET}, {@link
+   * ThemisViolationType#INVALID_TARGET} or <code>null</code> if the
+   * <b>target</b> is valid.
+   */
+  public static <T> ThemisViolationType invalidElementViolation(
+      final T[] target,
+      final Predicate<? super T> predicate) {
+
+    return invalidElementViolation(
+        target == null ? null : Arrays.asList(target),
+        predicate);
+  }
+
+  /**
+   * <p>Tests whether the <b>target</b> is large enough to test in parallel and
+   * there is more than one thread in the common pool to test it with.</p>
+   */
+  private static boolean isParallel(final Collection<?> target) {
+
+    return target.size() >= parallelThreshold
+        && ForkJoinPool.getCommonPoolParallelism() > 1;
+  }
+
+  private static <T> boolean anyMatch(
+      final Collection<? extends T> target,
+      final Predicate<? super T> predicate) {
+
+    for (final T element : target) {
+      if (predicate.test(element)) {
+        return true;
+      }
+    }
+
+    return false;
+  }
+
+  private CollectionRules() {
+    super();
+  }
+
+}
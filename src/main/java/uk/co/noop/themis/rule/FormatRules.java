@@ -0,0 +1,813 @@
+package uk.co.noop.themis.rule;
+
+import uk.co.noop.themis.violation.ThemisViolationType;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.regex.Pattern;
+
+/**
+ * <p>The {@link ThemisRule} instances behind the format rules of {@link
+ * uk.co.noop.themis.eunomia.StringEunomia StringEunomia}, e.g. UUIDs, email
+ * addresses and ISO-8601 dates.</p>
+ *
+ * <p>Each format is checked by a hand-written, single pass over the
+ * <b>target</b> that never backtracks or allocates, instead of a regular
+ * expression. Each rule also has a static <code>*Violation</code> method that
+ * tests a <b>target</b> directly. Any other format can be checked with
+ * {@link #againstNonMatching(String)}, whose compiled {@link Pattern} is
+ * shared through a cache.</p>
+ *
+ * @see uk.co.noop.themis.eunomia.StringEunomia
+ */
+public final class FormatRules {
+
+  private static final int MAX_CACHED_PATTERNS = 256;
+
+  private static final ConcurrentMap<String, Pattern> PATTERNS =
+      new ConcurrentHashMap<>();
+
+  private static final ThemisRule<String> NON_UUIDS =
+      FormatRules::uuidViolation;
+
+  private static final ThemisRule<String> NON_EMAILS =
+      FormatRules::emailViolation;
+
+  private static final ThemisRule<String> NON_ISO_DATES =
+      FormatRules::isoDateViolation;
+
+  private static final ThemisRule<String> NON_ISO_DATE_TIMES =
+      FormatRules::isoDateTimeViolation;
+
+  private static final ThemisRule<String> NON_IPV4_ADDRESSES =
+      FormatRules::ipv4AddressViolation;
+
+  private static final ThemisRule<String> NON_IPV6_ADDRESSES =
+      FormatRules::ipv6AddressViolation;
+
+  private static final ThemisRule<String> NON_HEX_STRINGS =
+      FormatRules::hexViolation;
+
+  private static final ThemisRule<String> NON_BASE64_STRINGS =
+      FormatRules::base64Violation;
+
+  private static final String EMAIL_SYMBOLS = "!#$%&'*+-/=?^_`{|}~";
+
+  private static final int MAX_EMAIL_LENGTH = 254;
+
+  private static final int MAX_EMAIL_LOCAL_LENGTH = 64;
+
+  private static final int MAX_DOMAIN_LABEL_LENGTH = 63;
+
+  private static final int MAX_OFFSET_HOURS = 18;
+
+  /**
+   * <p>Returns the rule against <b>target</b> values that are not UUIDs.</p>
+   *
+   * @return The shared rule. This will never be <code>null</code>.
+   *
+   * @see #uuidViolation(String)
+   */
+  public static ThemisRule<String> againstNonUuids() {
+    return NON_UUIDS;
+  }
+
+  /**
+   * <p>Returns the rule against <b>target</b> values that are not email
+   * addresses.</p>
+   *
+   * @return The shared rule. This will never be <code>null</code>.
+   *
+   * @see #emailViolation(String)
+   */
+  public static ThemisRule<String> againstNonEmails() {
+    return NON_EMAILS;
+  }
+
+  /**
+   * <p>Returns the rule against <b>target</b> values that are not ISO-8601
+   * dates.</p>
+   *
+   * @return The shared rule. This will never be <code>null</code>.
+   *
+   * @see #isoDateViolation(String)
+   */
+  public static ThemisRule<String> againstNonIsoDates() {
+    return NON_ISO_DATES;
+  }
+
+  /**
+   * <p>Returns the rule against <b>target</b> values that are not ISO-8601
+   * timestamps.</p>
+   *
+   * @return The shared rule. This will never be <code>null</code>.
+   *
+   * @see #isoDateTimeViolation(String)
+   */
+  public static ThemisRule<String> againstNonIsoDateTimes() {
+    return NON_ISO_DATE_TIMES;
+  }
+
+  /**
+   * <p>Returns the rule against <b>target</b> values that are not IPv4
+   * addresses.</p>
+   *
+   * @return The shared rule. This will never be <code>null</code>.
+   *
+   * @see #ipv4AddressViolation(String)
+   */
+  public static ThemisRule<String> againstNonIpv4Addresses() {
+    return NON_IPV4_ADDRESSES;
+  }
+
+  /**
+   * <p>Returns the rule against <b>target</b> values that are not IPv6
+   * addresses.</p>
+   *
+   * @return The shared rule. This will never be <code>null</code>.
+   *
+   * @see #ipv6AddressViolation(String)
+   */
+  public static ThemisRule<String> againstNonIpv6Addresses() {
+    return NON_IPV6_ADDRESSES;
+  }
+
+  /**
+   * <p>Returns the rule against <b>target</b> values that are not
+   * hexadecimal.</p>
+   *
+   * @return The shared rule. This will never be <code>null</code>.
+   *
+   * @see #hexViolation(String)
+   */
+  public static ThemisRule<String> againstNonHexStrings() {
+    return NON_HEX_STRINGS;
+  }
+
+  /**
+   * <p>Returns the rule against <b>target</b> values that are not
+   * Base64.</p>
+   *
+   * @return The shared rule. This will never be <code>null</code>.
+   *
+   * @see #base64Violation(String)
+   */
+  public static ThemisRule<String> againstNonBase64Strings() {
+    return NON_BASE64_STRINGS;
+  }
+
+  /**
+   * <p>Returns a rule against <b>target</b> values that do not match the
+   * whole of the specified {@link Pattern}.</p>
+   *
+   * @param pattern The <code>Pattern</code>.
+   *
+   * @return A new rule. This will never be <code>null</code>.
+   *
+   * @see #nonMatchingViolation(String, Pattern)
+   */
+  public static ThemisRule<String> againstNonMatching(final Pattern pattern) {
+    return target -> nonMatchingViolation(target, pattern);
+  }
+
+  /**
+   * <p>Returns a rule against <b>target</b> values that do not match the
+   * whole of the specified <b>regex</b>, compiled once through the shared
+   * cache (See: {@link #pattern(String)}).</p>
+   *
+   * @param regex The regular expression.
+   *
+   * @return A new rule. This will never be <code>null</code>.
+   *
+   * @throws java.util.regex.PatternSyntaxException If <b>regex</b> is
+   * invalid.
+   */
+  public static ThemisRule<String> againstNonMatching(final String regex) {
+    return againstNonMatching(pattern(regex));
+  }
+
+  /**
+   * <p>Returns the compiled {@link Pattern} for the specified <b>regex</b>
+   * from a cache shared by every rule, compiling it on first use. Once the
+   * cache holds 256 patterns, further patterns are compiled without being
+   * cached.</p>
+   *
+   * @param regex The regular expression.
+   *
+   * @return The compiled <code>Pattern</code>. This will never be
+   * <code>null</code>.
+   *
+   * @throws java.util.regex.PatternSyntaxException If <b>regex</b> is
+   * invalid.
+   */
+  public static Pattern pattern(final String regex) {
+
+    final Pattern pattern = PATTERNS.get(regex);
+
+    if (pattern != null) {
+      return pattern;
+    }
+
+    if (PATTERNS.size() >= MAX_CACHED_PATTERNS) {
+      return Pattern.compile(regex);
+    }
+
+    return PATTERNS.computeIfAbsent(regex, Pattern::compile);
+  }
+
+  /**
+   * <p>Tests the specified <b>target</b> against values that are not UUIDs in
+   * the canonical <code>8-4-4-4-12</code> form of hexadecimal digits, in
+   * either case, e.g. <code>123e4567-e89b-12d3-a456-426614174000</code>.</p>
+   *
+   * @param target The <b>target</b>.
+   *
+   * @return {@link ThemisViolationType#NULL_TARGET}, {@link
+   * ThemisViolationType#INVALID_TARGET} or <code>null</code> if the
+   * <b>target</b> is valid.
+   */
+  public static ThemisViolationType uuidViolation(final String target) {
+
+    if (target == null) {
+      return ThemisViolationType.NULL_TARGET;
+    }
+
+    return violation(isUuid(target));
+  }
+
+  /**
+   * <p>Tests the specified <b>target</b> against values that are not email
+   * addresses, as defined for HTML forms: a local part of letters, digits,
+   * dots and <code>!#$%&amp;'*+-/=?^_`{|}~</code>, with no leading, trailing
+   * or consecutive dots, then <code>@</code> and a domain of dot-separated
+   * labels of letters, digits and inner hyphens. Quoted local parts, comments
+   * and address literals are not supported.</p>
+   *
+   * @param target The <b>target</b>.
+   *
+   * @return {@link ThemisViolationType#NULL_TARGET}, {@link
+   * ThemisViolationType#INVALID_TARGET} or <code>null</code> if the
+   * <b>target</b> is valid.
+   */
+  public static ThemisViolationType emailViolation(final String target) {
+
+    if (target == null) {
+      return ThemisViolationType.NULL_TARGET;
+    }
+
+    return violation(isEmail(target));
+  }
+
+  /**
+   * <p>Tests the specified <b>target</b> against values that are not ISO-8601
+   * calendar dates of the form <code>yyyy-MM-dd</code>, e.g.
+   * <code>2024-02-29</code>. The day must exist in the month, accounting for
+   * leap years.</p>
+   *
+   * @param target The <b>target</b>.
+   *
+   * @return {@link ThemisViolationType#NULL_TARGET}, {@link
+   * ThemisViolationType#INVALID_TARGET} or <code>null</code> if the
+   * <b>target</b> is valid.
+   */
+  public static ThemisViolationType isoDateViolation(final String target) {
+
+    if (target == null) {
+      return ThemisViolationType.NULL_TARGET;
+    }
+
+    return violation(target.length() == 10 && isDate(target));
+  }
+
+  /**
+   * <p>Tests the specified <b>target</b> against values that are not ISO-8601
+   * timestamps with an offset, of the form
+   * <code>yyyy-MM-ddTHH:mm[:ss[.fraction]]offset</code>, where the fraction
+   * has one to nine digits and the offset is <code>Z</code> or
+   * <code>&#177;HH:mm</code>, e.g. <code>2024-02-29T13:45:30.5+01:00</code>.
+   * This is the form of {@link java.time.OffsetDateTime#toString()}.</p>
+   *
+   * @param target The <b>target</b>.
+   *
+   * @return {@link ThemisViolationType#NULL_TARGET}, {@link
+   * ThemisViolationType#INVALID_TARGET} or <code>null</code> if the
+   * <b>target</b> is valid.
+   */
+  public static ThemisViolationType isoDateTimeViolation(final String target) {
+
+    if (target == null) {
+      return ThemisViolationType.NULL_TARGET;
+    }
+
+    return violation(isDateTime(target));
+  }
+
+  /**
+   * <p>Tests the specified <b>target</b> against values that are not IPv4
+   * addresses in dotted-decimal form, e.g. <code>192.168.0.1</code>. Leading
+   * zeros are not allowed, as they are read as octal by some parsers.</p>
+   *
+   * @param target The <b>target</b>.
+   *
+   * @return {@link ThemisViolationType#NULL_TARGET}, {@link
+   * ThemisViolationType#INVALID_TARGET} or <code>null</code> if the
+   * <b>target</b> is valid.
+   */
+  public static ThemisViolationType ipv4AddressViolation(final String target) {
+
+    if (target == null) {
+      return ThemisViolationType.NULL_TARGET;
+    }
+
+    return violation(isIpv4Address(target, 0, target.length()));
+  }
+
+  /**
+   * <p>Tests the specified <b>target</b> against values that are not IPv6
+   * addresses in the text form of RFC 4291, e.g. <code>2001:db8::1</code> or
+   * <code>::ffff:192.168.0.1</code>. Brackets and zone IDs are not
+   * allowed.</p>
+   *
+   * @param target The <b>target</b>.
+   *
+   * @return {@link ThemisViolationType#NULL_TARGET}, {@link
+   * ThemisViolationType#INVALID_TARGET} or <code>null</code> if the
+   * <b>target</b> is valid.
+   */
+  public static ThemisViolationType ipv6AddressViolation(final String target) {
+
+    if (target == null) {
+      return ThemisViolationType.NULL_TARGET;
+    }
+
+    return violation(isIpv6Address(target));
+  }
+
+  /**
+   * <p>Tests the specified <b>target</b> against values that are empty or
+   * contain anything but hexadecimal digits, in either case.</p>
+   *
+   * @param target The <b>target</b>.
+   *
+   * @return {@link ThemisViolationType#NULL_TARGET}, {@link
+   * ThemisViolationType#INVALID_TARGET} or <code>null</code> if the
+   * <b>target</b> is valid.
+   */
+  public static ThemisViolationType hexViolation(final String target) {
+
+    if (target == null) {
+      return ThemisViolationType.NULL_TARGET;
+    }
+
+    return violation(!target.isEmpty() && isHex(target, 0, target.length()));
+  }
+
+  /**
+   * <p>Tests the specified <b>target</b> against values that are empty or not
+   * padded Base64 in the standard alphabet of RFC 4648, i.e. as encoded by
+   * {@link java.util.Base64#getEncoder()}.</p>
+   *
+   * @param target The <b>target</b>.
+   *
+   * @return {@link ThemisViolationType#NULL_TARGET}, {@link
+   * ThemisViolationType#INVALID_TARGET} or <code>null</code> if the
+   * <b>target</b> is valid.
+   */
+  public static ThemisViolationType base64Violation(final String target) {
+
+    if (target == null) {
+      return ThemisViolationType.NULL_TARGET;
+    }
+
+    return violation(isBase64(target));
+  }
+
+  /**
+   * <p>Tests the specified <b>target</b> against values that do not match the
+   * whole of the specified {@link Pattern}.</p>
+   *
+   * @param target The <b>target</b>.
+   * @param pattern The <code>Pattern</code>.
+   *
+   * @return {@link ThemisViolationType#NULL_TARGET}, {@link
+   * ThemisViolationType#INVALID_TARGET} or <code>null</code> if the
+   * <b>target</b> is valid.
+   */
+  public static ThemisViolationType nonMatchingViolation(
+      final String target,
+      final Pattern pattern) {
+
+    if (target == null) {
+      return ThemisViolationType.NULL_TARGET;
+    }
+
+    return violation(pattern.matcher(target).matches());
+  }
+
+  private static ThemisViolationType violation(final boolean valid) {
+    return valid ? null : ThemisViolationType.INVALID_TARGET;
+  }
+
+  private static boolean isUuid(final String target) {
+
+    if (target.length() != 36) {
+      return false;
+    }
+
+    return isHex(target, 0, 8)
+        && target.charAt(8) == '-'
+        && isHex(target, 9, 13)
+        && target.charAt(13) == '-'
+        && isHex(target, 14, 18)
+        && target.charAt(18) == '-'
+        && isHex(target, 19, 23)
+        && target.charAt(23) == '-'
+        && isHex(target, 24, 36);
+  }
+
+  private static boolean isEmail(final String target) {
+
+    final int length = target.length();
+
+    if (length > MAX_EMAIL_LENGTH) {
+      return false;
+    }
+
+    boolean dot = true;
+    int i = 0;
+
+    for (; i < length; i++) {
+
+      final char c = target.charAt(i);
+
+      if (c == '@') {
+        break;
+      }
+
+      if (c == '.') {
+
+        if (dot) {
+          return false;
+        }
+
+        dot = true;
+
+      } else if (isAlphanumeric(c) || EMAIL_SYMBOLS.indexOf(c) >= 0) {
+        dot = false;
+      } else {
+        return false;
+      }
+    }
+
+    if (i == length || dot || i > MAX_EMAIL_LOCAL_LENGTH) {
+      return false;
+    }
+
+    return isDomain(target, i + 1, length);
+  }
+
+  private static boolean isDomain(
+      final String target,
+      final int from,
+      final int to) {
+
+    int labelStart = from;
+
+    for (int i = from; i <= to; i++) {
+
+      if (i == to || target.charAt(i) == '.') {
+
+        final int labelLength = i - labelStart;
+
+        if (labelLength == 0
+            || labelLength > MAX_DOMAIN_LABEL_LENGTH
+            || target.charAt(labelStart) == '-'
+            || target.charAt(i - 1) == '-') {
+
+          return false;
+        }
+
+        labelStart = i + 1;
+
+      } else {
+
+        final char c = target.charAt(i);
+
+        if (!isAlphanumeric(c) && c != '-') {
+          return false;
+        }
+      }
+    }
+
+    return true;
+  }
+
+  /**
+   * <p>Tests the <code>yyyy-MM-dd</code> date at the start of the
+   * <b>target</b>, which must have at least 10 characters.</p>
+   */
+  private static boolean isDate(final String target) {
+
+    if (target.charAt(4) != '-' || target.charAt(7) != '-') {
+      return false;
+    }
+
+    final int century = twoDigits(target, 0);
+    final int yearOfCentury = twoDigits(target, 2);
+    final int month = twoDigits(target, 5);
+    final int day = twoDigits(target, 8);
+
+    if (century < 0 || yearOfCentury < 0 || month < 1 || month > 12) {
+      return false;
+    }
+
+    final int year = century * 100 + yearOfCentury;
+
+    return day >= 1 && day <= lengthOfMonth(year, month);
+  }
+
+  private static int lengthOfMonth(final int year, final int month) {
+
+    if (month == 2) {
+
+      final boolean leap =
+          year % 4 == 0 && (year % 100 != 0 || year % 400 == 0);
+
+      return leap ? 29 : 28;
+    }
+
+    return 30 + ((month + month / 8) & 1);
+  }
+
+  private static boolean isDateTime(final String target) {
+
+    final int length = target.length();
+
+    if (length < 17 || target.charAt(10) != 'T' || !isDate(target)) {
+      return false;
+    }
+
+    final int hour = twoDigits(target, 11);
+    final int minute = twoDigits(target, 14);
+
+    if (hour < 0
+        || hour > 23
+        || target.charAt(13) != ':'
+        || minute < 0
+        || minute > 59) {
+
+      return false;
+    }
+
+    int i = 16;
+
+    if (target.charAt(i) == ':') {
+
+      final int second = twoDigits(target, 17);
+
+      if (second < 0 || second > 59) {
+        return false;
+      }
+
+      i = 19;
+
+      if (i < length && target.charAt(i) == '.') {
+
+        final int fractionStart = ++i;
+
+        while (i < length && isDigit(target.charAt(i))) {
+          i++;
+        }
+
+        if (i == fractionStart || i - fractionStart > 9) {
+          return false;
+        }
+      }
+    }
+
+    return isOffset(target, i);
+  }
+
+  private static boolean isOffset(final String target, final int from) {
+
+    final int length = target.length();
+
+    if (from >= length) {
+      return false;
+    }
+
+    final char sign = target.charAt(from);
+
+    if (sign == 'Z') {
+      return from + 1 == length;
+    }
+
+    if ((sign != '+' && sign != '-')
+        || from + 6 != length
+        || target.charAt(from + 3) != ':') {
+
+      return false;
+    }
+
+    final int hours = twoDigits(target, from + 1);
+    final int minutes = twoDigits(target, from + 4);
+
+    return hours >= 0
+        && minutes >= 0
+        && minutes <= 59
+        && (hours < MAX_OFFSET_HOURS
+            || hours == MAX_OFFSET_HOURS && minutes == 0);
+  }
+
+  private static boolean isIpv4Address(
+      final String target,
+      final int from,
+      final int to) {
+
+    int i = from;
+
+    for (int octet = 0; octet < 4; octet++) {
+
+      if (octet > 0) {
+
+        if (i == to || target.charAt(i) != '.') {
+          return false;
+        }
+
+        i++;
+      }
+
+      final int start = i;
+      int value = 0;
+
+      while (i < to && i - start < 3 && isDigit(target.charAt(i))) {
+        value = value * 10 + target.charAt(i) - '0';
+        i++;
+      }
+
+      if (i == start
+          || value > 255
+          || (i - start > 1 && target.charAt(start) == '0')) {
+
+        return false;
+      }
+    }
+
+    return i == to;
+  }
+
+  private static boolean isIpv6Address(final String target) {
+
+    final int length = target.length();
+
+    if (length < 2) {
+      return false;
+    }
+
+    boolean compressed = false;
+    int groups = 0;
+    int i = 0;
+
+    if (target.charAt(0) == ':') {
+
+      if (target.charAt(1) != ':') {
+        return false;
+      }
+
+      compressed = true;
+      i = 2;
+    }
+
+    while (i < length) {
+
+      final int start = i;
+
+      while (i < length && isHexDigit(target.charAt(i))) {
+        i++;
+      }
+
+      if (i < length && target.charAt(i) == '.') {
+
+        if (!isIpv4Address(target, start, length)) {
+          return false;
+        }
+
+        groups += 2;
+        break;
+      }
+
+      if (i == start || i - start > 4) {
+        return false;
+      }
+
+      groups++;
+
+      if (i == length) {
+        break;
+      }
+
+      if (target.charAt(i) != ':' || ++i == length) {
+        return false;
+      }
+
+      if (target.charAt(i) == ':') {
+
+        if (compressed) {
+          return false;
+        }
+
+        compressed = true;
+        i++;
+      }
+    }
+
+    return compressed ? groups < 8 : groups == 8;
+  }
+
+  private static boolean isBase64(final String target) {
+
+    final int length = target.length();
+
+    if (length == 0 || (length & 3) != 0) {
+      return false;
+    }
+
+    int end = length;
+
+    if (target.charAt(end - 1) == '=') {
+      end--;
+
+      if (target.charAt(end - 1) == '=') {
+        end--;
+      }
+    }
+
+    for (int i = 0; i < end; i++) {
+
+      final char c = target.charAt(i);
+
+      if (!isAlphanumeric(c) && c != '+' && c != '/') {
+        return false;
+      }
+    }
+
+    return true;
+  }
+
+  private static boolean isHex(
+      final String target,
+      final int from,
+      final int to) {
+
+    for (int i = from; i < to; i++) {
+      if (!isHexDigit(target.charAt(i))) {
+        return false;
+      }
+    }
+
+    return true;
+  }
+
+  /**
+   * <p>Returns the value of the two decimal digits at <b>index</b>, or
+   * <code>-1</code> if either is missing or is not a digit.</p>
+   */
+  private static int twoDigits(final String target, final int index) {
+
+    if (index + 2 > target.length()) {
+      return -1;
+    }
+
+    final char tens = target.charAt(index);
+    final char units = target.charAt(index + 1);
+
+    if (!isDigit(tens) || !isDigit(units)) {
+      return -1;
+    }
+
+    return (tens - '0') * 10 + units - '0';
+  }
+
+  private static boolean isDigit(final char c) {
+    return c >= '0' && c <= '9';
+  }
+
+  private static boolean isHexDigit(final char c) {
+
+    final char lower = (char) (c | 0x20);
+
+    return isDigit(c) || (lower >= 'a' && lower <= 'f');
+  }
+
+  private static boolean isAlphanumeric(final char c) {
+
+    final char lower = (char) (c | 0x20);
+
+    return isDigit(c) || (lower >= 'a' && lower <= 'z');
+  }
+
+  private FormatRules() {
+    super();
+  }
+
+}
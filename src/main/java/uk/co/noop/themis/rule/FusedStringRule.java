@@ -0,0 +1,441 @@
+package uk.co.noop.themis.rule;
+
+import uk.co.noop.themis.violation.ThemisViolationType;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * <p>A chain of character-level <b>target</b> <code>String</code> rules
+ * (<code>null</code>, empty, blank, length bounds and allowed, non-ASCII or
+ * control characters)
+ * merged into a single scan of the <b>target</b>, without copying it.</p>
+ *
+ * <p>Chaining the equivalent {@link StringRules} walks the <b>target</b> once
+ * per rule; a <code>FusedStringRule</code> checks every character set in a
+ * single walk, and still reports the same violation the chain would have
+ * reported first. The empty and length bounds are all checked up front, so
+ * the walk stops at the first failing bound: an over-long <b>target</b> is
+ * only walked if a character set is checked before its length in the chain.
+ * The blank check stops at the first <code>char</code> above
+ * <code>' '</code>.</p>
+ *
+ * <p>The blank check, and the walk when the chain has a single character set,
+ * go through the same scanner as the equivalent {@link StringRules}, so they
+ * are vectorized when vector scanning is enabled (See:
+ * {@link StringRules}).</p>
+ *
+ * <p>For example:</p>
+ *
+ * <p><code>
+ * private static final ThemisRule&lt;String&gt; ID = StringRules.fuse()<br>
+ * &nbsp; .againstBlankStrings()<br>
+ * &nbsp; .againstLongStrings(64)<br>
+ * &nbsp; .againstCharactersOutside(CharacterSet.ASCII_ALPHANUMERICS)<br>
+ * &nbsp; .build();<br>
+ * <br>
+ * Themis.validate("id", id).againstRule(ID);
+ * </code></p>
+ *
+ * <p>{@link uk.co.noop.themis.validator.StringValidatorBuilder
+ * StringValidatorBuilder} fuses consecutive character-level rules
+ * automatically.</p>
+ *
+ * @see StringRules#fuse()
+ */
+public final class FusedStringRule implements ThemisRule<String> {
+
+  private static final byte NULL = 0;
+  private static final byte EMPTY = 1;
+  private static final byte BLANK = 2;
+  private static final byte SHORT = 3;
+  private static final byte LONG = 4;
+  private static final byte OUTSIDE = 5;
+
+  private static final int MAX_CHARACTER_SETS = Long.SIZE - 1;
+
+  private final byte[] kinds;
+  private final int[] arguments;
+  private final CharacterSet[] characterSets;
+  private final CharacterSet common;
+
+  private FusedStringRule(
+      final byte[] kinds,
+      final int[] arguments,
+      final CharacterSet[] characterSets) {
+
+    super();
+    this.kinds = kinds;
+    this.arguments = arguments;
+    this.characterSets = characterSets;
+
+    CharacterSet common = characterSets.length == 0 ? null : characterSets[0];
+
+    for (final CharacterSet characterSet : characterSets) {
+      common = common.and(characterSet);
+    }
+
+    this.common = common;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public ThemisViolationType test(final String target) {
+
+    if (target == null) {
+      return ThemisViolationType.NULL_TARGET;
+    }
+
+    final int length = target.length();
+    final int bound = firstFailingBound(length);
+    final int steps = bound < 0 ? kinds.length : bound;
+
+    long outside = -1;
+
+    for (int step = 0; step < steps; step++) {
+
+      switch (kinds[step]) {
+
+        case BLANK:
+          if (StringScanner.INSTANCE.indexOfNonBlank(target) < 0) {
+            return ThemisViolationType.BLANK_TARGET_STRING;
+          }
+          break;
+
+        case OUTSIDE:
+          if (outside < 0) {
+            outside = scan(target);
+          }
+          if ((outside & (1L << arguments[step])) != 0) {
+            return ThemisViolationType.INVALID_TARGET;
+          }
+          break;
+
+        default:
+          break;
+      }
+    }
+
+    return bound < 0 ? null : boundViolation(kinds[bound]);
+  }
+
+  /**
+   * <p>Returns the first step whose bound the <b>length</b> alone breaks, or
+   * <code>-1</code> if there is none. An empty <b>target</b> breaks the blank
+   * step too.</p>
+   */
+  private int firstFailingBound(final int length) {
+
+    for (int step = 0; step < kinds.length; step++) {
+
+      final boolean failing;
+
+      switch (kinds[step]) {
+
+        case EMPTY:
+        case BLANK:
+          failing = length == 0;
+          break;
+
+        case SHORT:
+          failing = length < arguments[step];
+          break;
+
+        case LONG:
+          failing = length > arguments[step];
+          break;
+
+        default:
+          failing = false;
+          break;
+      }
+
+      if (failing) {
+        return step;
+      }
+    }
+
+    return -1;
+  }
+
+  private static ThemisViolationType boundViolation(final byte kind) {
+
+    return kind == EMPTY || kind == BLANK
+        ? ThemisViolationType.EMPTY_TARGET
+        : ThemisViolationType.INVALID_TARGET;
+  }
+
+  /**
+   * <p>Scans the <b>target</b> once, returning a mask of the character sets
+   * with at least one <code>char</code> of the <b>target</b> outside them.
+   * The scan stops once every set has been broken.</p>
+   *
+   * <p>A single set is handed to the {@link StringScanner}. With more, a
+   * <code>char</code> in every set (the usual case for valid <b>targets</b>)
+   * costs a single lookup in their intersection; only the rest are tested
+   * against each set.</p>
+   */
+  private long scan(final String target) {
+
+    final int setCount = characterSets.length;
+
+    if (setCount == 1) {
+      return indexOfOutside(target, characterSets[0]) < 0 ? 0 : 1;
+    }
+
+    long pending = (1L << setCount) - 1;
+    long outside = 0;
+
+    for (int i = 0; i < target.length() && pending != 0; i++) {
+
+      final char c = target.charAt(i);
+
+      if (common != null && common.contains(c)) {
+        continue;
+      }
+
+      for (long remaining = pending; remaining != 0; ) {
+
+        final int set = Long.numberOfTrailingZeros(remaining);
+
+        remaining &= remaining - 1;
+
+        if (!characterSets[set].contains(c)) {
+          outside |= 1L << set;
+          pending &= ~(1L << set);
+        }
+      }
+    }
+
+    return outside;
+  }
+
+  private static int indexOfOutside(
+      final String target,
+      final CharacterSet allowed) {
+
+    if (allowed == CharacterSet.ASCII) {
+      return StringScanner.INSTANCE.indexOfNonAscii(target);
+    }
+
+    if (allowed == CharacterSet.NON_CONTROL) {
+      return StringScanner.INSTANCE.indexOfControl(target);
+    }
+
+    return StringScanner.INSTANCE.indexOfOutside(target, allowed);
+  }
+
+  /**
+   * <p>Builds a {@link FusedStringRule} from a chain of character-level
+   * rules, in order.</p>
+   *
+   * @see StringRules#fuse()
+   */
+  public static final class Builder {
+
+    private final List<Byte> kinds = new ArrayList<>();
+    private final List<Integer> arguments = new ArrayList<>();
+    private final List<ThemisRule<String>> rules = new ArrayList<>();
+    private final List<CharacterSet> characterSets = new ArrayList<>();
+
+    Builder() {
+      super();
+    }
+
+    /**
+     * <p>Adds the rule against <code>null</code> <b>target</b> values.</p>
+     *
+     * @return <code>this</code> builder. This will never be
+     * <code>null</code>.
+     *
+     * @see StringRules#againstNullStrings()
+     */
+    public Builder againstNullStrings() {
+      return add(NULL, 0, StringRules.againstNullStrings());
+    }
+
+    /**
+     * <p>Adds the rule against empty <b>target</b> values.</p>
+     *
+     * @return <code>this</code> builder. This will never be
+     * <code>null</code>.
+     *
+     * @see StringRules#againstEmptyStrings()
+     */
+    public Builder againstEmptyStrings() {
+      return add(EMPTY, 0, StringRules.againstEmptyStrings());
+    }
+
+    /**
+     * <p>Adds the rule against blank <b>target</b> values.</p>
+     *
+     * @return <code>this</code> builder. This will never be
+     * <code>null</code>.
+     *
+     * @see StringRules#againstBlankStrings()
+     */
+    public Builder againstBlankStrings() {
+      return add(BLANK, 0, StringRules.againstBlankStrings());
+    }
+
+    /**
+     * <p>Adds the rule against <b>target</b> values shorter than the
+     * specified <b>minLength</b>.</p>
+     *
+     * @param minLength The minimum length, in <code>char</code> values.
+     *
+     * @return <code>this</code> builder. This will never be
+     * <code>null</code>.
+     *
+     * @see StringRules#againstShortStrings(int)
+     */
+    public Builder againstShortStrings(final int minLength) {
+      return add(SHORT, minLength, StringRules.againstShortStrings(minLength));
+    }
+
+    /**
+     * <p>Adds the rule against <b>target</b> values longer than the specified
+     * <b>maxLength</b>.</p>
+     *
+     * @param maxLength The maximum length, in <code>char</code> values.
+     *
+     * @return <code>this</code> builder. This will never be
+     * <code>null</code>.
+     *
+     * @see StringRules#againstLongStrings(int)
+     */
+    public Builder againstLongStrings(final int maxLength) {
+      return add(LONG, maxLength, StringRules.againstLongStrings(maxLength));
+    }
+
+    /**
+     * <p>Adds the rule against <b>target</b> values containing any
+     * <code>char</code> outside the specified {@link CharacterSet}.</p>
+     *
+     * @param allowed The allowed characters.
+     *
+     * @return <code>this</code> builder. This will never be
+     * <code>null</code>.
+     *
+     * @throws IllegalStateException If more than 63 distinct
+     * <code>CharacterSet</code> instances are added.
+     *
+     * @see StringRules#againstCharactersOutside(CharacterSet)
+     */
+    public Builder againstCharactersOutside(final CharacterSet allowed) {
+      return outside(allowed, StringRules.againstCharactersOutside(allowed));
+    }
+
+    /**
+     * <p>Adds the rule against <b>target</b> values containing any non-ASCII
+     * <code>char</code>.</p>
+     *
+     * @return <code>this</code> builder. This will never be
+     * <code>null</code>.
+     *
+     * @see StringRules#againstNonAsciiCharacters()
+     */
+    public Builder againstNonAsciiCharacters() {
+
+      return outside(
+          CharacterSet.ASCII,
+          StringRules.againstNonAsciiCharacters());
+    }
+
+    /**
+     * <p>Adds the rule against <b>target</b> values containing any ISO control
+     * <code>char</code>.</p>
+     *
+     * @return <code>this</code> builder. This will never be
+     * <code>null</code>.
+     *
+     * @see StringRules#againstControlCharacters()
+     */
+    public Builder againstControlCharacters() {
+
+      return outside(
+          CharacterSet.NON_CONTROL,
+          StringRules.againstControlCharacters());
+    }
+
+    /**
+     * <p>Returns whether no rules have been added.</p>
+     *
+     * @return <code>true</code> if no rules have been added, otherwise
+     * <code>false</code>.
+     */
+    public boolean isEmpty() {
+      return kinds.isEmpty();
+    }
+
+    /**
+     * <p>Builds the fused rule.</p>
+     *
+     * <p>A single rule needs no fusing, so it is returned as it is.</p>
+     *
+     * @return A <code>FusedStringRule</code>, or the only rule added. This
+     * will never be <code>null</code>.
+     *
+     * @throws IllegalStateException If no rules have been added.
+     */
+    public ThemisRule<String> build() {
+
+      if (kinds.isEmpty()) {
+        throw new IllegalStateException("No rules have been added.");
+      }
+
+      if (kinds.size() == 1) {
+        return rules.get(0);
+      }
+
+      final byte[] kindArray = new byte[kinds.size()];
+      final int[] argumentArray = new int[arguments.size()];
+
+      for (int i = 0; i < kindArray.length; i++) {
+        kindArray[i] = kinds.get(i);
+        argumentArray[i] = arguments.get(i);
+      }
+
+      return new FusedStringRule(
+          kindArray,
+          argumentArray,
+          characterSets.toArray(new CharacterSet[0]));
+    }
+
+    private Builder outside(
+        final CharacterSet allowed,
+        final ThemisRule<String> rule) {
+
+      int index = characterSets.indexOf(allowed);
+
+      if (index < 0) {
+
+        if (characterSets.size() == MAX_CHARACTER_SETS) {
+          throw new IllegalStateException(
+              "A FusedStringRule supports at most 63 character sets.");
+        }
+
+        index = characterSets.size();
+        characterSets.add(allowed);
+      }
+
+      return add(OUTSIDE, index, rule);
+    }
+
+    private Builder add(
+        final byte kind,
+        final int argument,
+        final ThemisRule<String> rule) {
+
+      kinds.add(kind);
+      arguments.add(argument);
+      rules.add(rule);
+
+      return this;
+    }
+
+  }
+
+}
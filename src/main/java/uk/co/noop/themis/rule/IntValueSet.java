@@ -0,0 +1,149 @@
+package uk.co.noop.themis.rule;
+
+import java.util.Arrays;
+
+/**
+ * <p>An immutable set of allowed <code>int</code> values, built once for
+ * {@link uk.co.noop.themis.eunomia.IntEunomia#againstValuesNotIn(IntValueSet)
+ * IntEunomia.againstValuesNotIn}.</p>
+ *
+ * <p>The lookup structure is chosen when the set is built. Dense values, whose
+ * range spans no more than 64 times as many values as the set holds, are
+ * held in a bitset indexed from the smallest value, so {@link
+ * #contains(int)} is one subtraction, one bounds check and one bit test.
+ * Sparse values are placed by a perfect hash function, so a lookup reads
+ * exactly one slot and compares it. Neither boxes the value. In the unlikely
+ * event that no perfect hash function is found, the values are held in a
+ * sorted array and found by binary search.</p>
+ *
+ * <p>An <code>IntValueSet</code> is safe to share between threads.</p>
+ *
+ * @see ValueSet
+ * @see LongValueSet
+ */
+public final class IntValueSet {
+
+  private static final int MIN_DENSE_SPAN = 1 << 12;
+
+  private static final int MAX_DENSE_SPAN = 1 << 30;
+
+  private final int size;
+  private final long[] bits;
+  private final int min;
+  private final int span;
+  private final PerfectHash perfectHash;
+  private final int[] values;
+
+  /**
+   * <p>Builds an <code>IntValueSet</code> of the specified <b>values</b>.
+   * Duplicate values are ignored.</p>
+   *
+   * @param values The allowed values.
+   *
+   * @return A new <code>IntValueSet</code>. This will never be
+   * <code>null</code>.
+   *
+   * @throws NullPointerException If <b>values</b> is <code>null</code>.
+   */
+  public static IntValueSet of(final int... values) {
+    return new IntValueSet(
+        Arrays.stream(values).distinct().sorted().toArray());
+  }
+
+  private IntValueSet(final int[] sorted) {
+
+    this.size = sorted.length;
+
+    final long range = sorted.length == 0
+        ? 0
+        : (long) sorted[sorted.length - 1] - sorted[0] + 1;
+
+    final long denseLimit = Math.min(
+        MAX_DENSE_SPAN,
+        Math.max(MIN_DENSE_SPAN, 64L * sorted.length));
+
+    if (range <= denseLimit) {
+
+      this.bits = new long[(int) ((range + 63) >>> 6)];
+      this.min = sorted.length == 0 ? 0 : sorted[0];
+      this.span = (int) range;
+      this.perfectHash = null;
+      this.values = null;
+
+      for (final int value : sorted) {
+
+        final int offset = value - min;
+
+        bits[offset >>> 6] |= 1L << offset;
+      }
+
+      return;
+    }
+
+    final long[] hashes = Arrays.stream(sorted).asLongStream().toArray();
+    final PerfectHash placed = PerfectHash.of(hashes);
+
+    this.bits = null;
+    this.min = 0;
+    this.span = 0;
+    this.perfectHash = placed;
+
+    if (placed == null) {
+      this.values = sorted;
+      return;
+    }
+
+    this.values = new int[placed.size()];
+
+    for (int slot = 0; slot < values.length; slot++) {
+
+      // An empty slot repeats the first value, so it only matches a value
+      // that is in the set.
+      values[slot] = sorted[Math.max(0, placed.indexAt(slot))];
+    }
+  }
+
+  /**
+   * <p>Tests whether the specified <b>value</b> is in this set.</p>
+   *
+   * @param value The value.
+   *
+   * @return <code>true</code> if <b>value</b> is in this set.
+   */
+  public boolean contains(final int value) {
+
+    if (bits != null) {
+
+      final int offset = value - min;
+
+      return Integer.compareUnsigned(offset, span) < 0
+          && (bits[offset >>> 6] & 1L << offset) != 0;
+    }
+
+    if (perfectHash != null) {
+      return values[perfectHash.slot(value)] == value;
+    }
+
+    return Arrays.binarySearch(values, value) >= 0;
+  }
+
+  /**
+   * <p>Returns the number of distinct values in this set.</p>
+   *
+   * @return The number of values.
+   */
+  public int size() {
+    return size;
+  }
+
+  /**
+   * <p>Returns whether this set is held in a bitset, rather than a perfect
+   * hash table.</p>
+   *
+   * @return <code>true</code> if lookups are a single bit test.
+   */
+  public boolean isDense() {
+    return bits != null;
+  }
+
+}
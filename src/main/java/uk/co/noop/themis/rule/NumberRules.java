@@ -0,0 +1,200 @@
+package uk.co.noop.themis.rule;
+
+import uk.co.noop.themis.violation.ThemisViolationType;
+
+/**
+ * <p>The rules behind {@link uk.co.noop.themis.eunomia.IntEunomia
+ * IntEunomia}, {@link uk.co.noop.themis.eunomia.LongEunomia LongEunomia} and
+ * {@link uk.co.noop.themis.eunomia.DoubleEunomia DoubleEunomia}.</p>
+ *
+ * <p>Unlike {@link StringRules} and {@link ObjectRules} there are no
+ * {@link ThemisRule} instances here, since a <code>ThemisRule</code> would box
+ * the <b>target</b>; each rule is a static <code>*Violation</code> method
+ * that takes the primitive <b>target</b> directly.</p>
+ *
+ * <p>Every rule treats <code>NaN</code> as invalid except {@link
+ * #negativeViolation(double)} and {@link #zeroViolation(double)}, as
+ * <code>NaN</code> is neither negative nor zero.</p>
+ */
+public final class NumberRules {
+
+  /**
+   * <p>Tests the specified <b>target</b> against values outside the range
+   * <b>min</b> to <b>max</b>, inclusive.</p>
+   *
+   * @param target The <b>target</b>.
+   * @param min The minimum valid value.
+   * @param max The maximum valid value.
+   *
+   * @return {@link ThemisViolationType#INVALID_TARGET} or <code>null</code> if
+   * the <b>target</b> is valid.
+   */
+  public static ThemisViolationType rangeViolation(
+      final int target,
+      final int min,
+      final int max) {
+
+    return target < min || target > max
+        ? ThemisViolationType.INVALID_TARGET
+        : null;
+  }
+
+  /**
+   * <p>Overloads {@link #rangeViolation(int, int, int)}.</p>
+   *
+   * @param target The <b>target</b>.
+   * @param min The minimum valid value.
+   * @param max The maximum valid value.
+   *
+   * @return {@link ThemisViolationType#INVALID_TARGET} or <code>null</code> if
+   * the <b>target</b> is valid.
+   */
+  public static ThemisViolationType rangeViolation(
+      final long target,
+      final long min,
+      final long max) {
+
+    return target < min || target > max
+        ? ThemisViolationType.INVALID_TARGET
+        : null;
+  }
+
+  /**
+   * <p>Overloads {@link #rangeViolation(int, int, int)}. A <code>NaN</code>
+   * <b>target</b> is always invalid.</p>
+   *
+   * @param target The <b>target</b>.
+   * @param min The minimum valid value.
+   * @param max The maximum valid value.
+   *
+   * @return {@link ThemisViolationType#INVALID_TARGET} or <code>null</code> if
+   * the <b>target</b> is valid.
+   */
+  public static ThemisViolationType rangeViolation(
+      final double target,
+      final double min,
+      final double max) {
+
+    return target >= min && target <= max
+        ? null
+        : ThemisViolationType.INVALID_TARGET;
+  }
+
+  /**
+   * <p>Tests the specified <b>target</b> against negative values.</p>
+   *
+   * @param target The <b>target</b>.
+   *
+   * @return {@link ThemisViolationType#INVALID_TARGET} or <code>null</code> if
+   * the <b>target</b> is valid.
+   */
+  public static ThemisViolationType negativeViolation(final long target) {
+    return target < 0 ? ThemisViolationType.INVALID_TARGET : null;
+  }
+
+  /**
+   * <p>Tests the specified <b>target</b> against negative values.
+   * <code>-0.0</code> and <code>NaN</code> are not negative.</p>
+   *
+   * @param target The <b>target</b>.
+   *
+   * @return {@link ThemisViolationType#INVALID_TARGET} or <code>null</code> if
+   * the <b>target</b> is valid.
+   */
+  public static ThemisViolationType negativeViolation(final double target) {
+    return target < 0 ? ThemisViolationType.INVALID_TARGET : null;
+  }
+
+  /**
+   * <p>Tests the specified <b>target</b> against zero.</p>
+   *
+   * @param target The <b>target</b>.
+   *
+   * @return {@link ThemisViolationType#INVALID_TARGET} or <code>null</code> if
+   * the <b>target</b> is valid.
+   */
+  public static ThemisViolationType zeroViolation(final long target) {
+    return target == 0 ? ThemisViolationType.INVALID_TARGET : null;
+  }
+
+  /**
+   * <p>Tests the specified <b>target</b> against zero, positive or negative.
+   * </p>
+   *
+   * @param target The <b>target</b>.
+   *
+   * @return {@link ThemisViolationType#INVALID_TARGET} or <code>null</code> if
+   * the <b>target</b> is valid.
+   */
+  public static ThemisViolationType zeroViolation(final double target) {
+    return target == 0 ? ThemisViolationType.INVALID_TARGET : null;
+  }
+
+  /**
+   * <p>Tests the specified <b>target</b> against <code>NaN</code>.</p>
+   *
+   * @param target The <b>target</b>.
+   *
+   * @return {@link ThemisViolationType#INVALID_TARGET} or <code>null</code> if
+   * the <b>target</b> is valid.
+   */
+  public static ThemisViolationType nanViolation(final double target) {
+    return Double.isNaN(target) ? ThemisViolationType.INVALID_TARGET : null;
+  }
+
+  /**
+   * <p>Tests the specified <b>target</b> against values that are not finite,
+   * i.e. <code>NaN</code> or infinite.</p>
+   *
+   * @param target The <b>target</b>.
+   *
+   * @return {@link ThemisViolationType#INVALID_TARGET} or <code>null</code> if
+   * the <b>target</b> is valid.
+   */
+  public static ThemisViolationType nonFiniteViolation(final double target) {
+    return Double.isFinite(target) ? null : ThemisViolationType.INVALID_TARGET;
+  }
+
+  /**
+   * <p>Tests the specified <b>target</b> against values that are not in the
+   * specified {@link IntValueSet}.</p>
+   *
+   * @param target The <b>target</b>.
+   * @param allowed The allowed values.
+   *
+   * @return {@link ThemisViolationType#INVALID_TARGET} or <code>null</code> if
+   * the <b>target</b> is valid.
+   */
+  public static ThemisViolationType valueNotInViolation(
+      final int target,
+      final IntValueSet allowed) {
+
+    return allowed.contains(target)
+        ? null
+        : ThemisViolationType.INVALID_TARGET;
+  }
+
+  /**
+   * <p>Tests the specified <b>target</b> against values that are not in the
+   * specified {@link LongValueSet}.</p>
+   *
+   * @param target The <b>target</b>.
+   * @param allowed The allowed values.
+   *
+   * @return {@link ThemisViolationType#INVALID_TARGET} or <code>null</code> if
+   * the <b>target</b> is valid.
+   */
+  public static ThemisViolationType valueNotInViolation(
+      final long target,
+      final LongValueSet allowed) {
+
+    return allowed.contains(target)
+        ? null
+        : ThemisViolationType.INVALID_TARGET;
+  }
+
+  private NumberRules() {
+    super();
+  }
+
+}
@@ -0,0 +1,132 @@
+package uk.co.noop.themis.rule;
+
+import uk.co.noop.themis.violation.ThemisViolationType;
+
+import java.util.function.Predicate;
+
+/**
+ * <p>The {@link ThemisRule} instances behind {@link
+ * uk.co.noop.themis.eunomia.ObjectEunomia ObjectEunomia}.</p>
+ *
+ * <p>Each rule also has a static <code>*Violation</code> method that tests a
+ * <b>target</b> directly, without a <code>ThemisRule</code> instance.</p>
+ *
+ * @see uk.co.noop.themis.eunomia.ObjectEunomia
+ */
+public final class ObjectRules {
+
+  private static final ThemisRule<Object> NULL_OBJECTS =
+      ObjectRules::nullObjectViolation;
+
+  /**
+   * <p>Returns the rule against <code>null</code> <b>target</b> values.</p>
+   *
+   * @return The shared rule. This will never be <code>null</code>.
+   *
+   * @see uk.co.noop.themis.eunomia.ObjectEunomia#againstNullObjects()
+   */
+  public static ThemisRule<Object> againstNullObjects() {
+    return NULL_OBJECTS;
+  }
+
+  /**
+   * <p>Returns a rule against invalid <b>target</b> values using the specified
+   * {@link Predicate}. A <code>null</code> <b>target</b> is always
+   * invalid.</p>
+   *
+   * @param predicate The <code>Predicate</code> used to test the
+   *                  <b>target</b>. Returns <code>true</code> if the
+   *                  <b>target</b> is invalid.
+   *
+   * @return A new rule. This will never be <code>null</code>.
+   *
+   * @see uk.co.noop.themis.eunomia.ObjectEunomia#againstInvalidObjects(
+   * Predicate)
+   */
+  public static ThemisRule<Object> againstInvalidObjects(
+      final Predicate<Object> predicate) {
+
+    return target -> invalidValueViolation(target, predicate);
+  }
+
+  /**
+   * <p>Returns a rule against <b>target</b> values that are not in the
+   * specified {@link ValueSet}. A <code>null</code> <b>target</b> is always
+   * invalid.</p>
+   *
+   * @param allowed The allowed values.
+   *
+   * @return A new rule. This will never be <code>null</code>.
+   *
+   * @see uk.co.noop.themis.eunomia.ObjectEunomia#againstValuesNotIn(
+   * ValueSet)
+   */
+  public static ThemisRule<Object> againstValuesNotIn(
+      final ValueSet<?> allowed) {
+
+    return target -> valueNotInViolation(target, allowed);
+  }
+
+  /**
+   * <p>Tests the specified <b>target</b> against <code>null</code>.</p>
+   *
+   * @param target The <b>target</b>.
+   *
+   * @return {@link ThemisViolationType#NULL_TARGET} or <code>null</code> if
+   * the <b>target</b> is valid.
+   */
+  public static ThemisViolationType nullObjectViolation(final Object target) {
+    return target == null ? ThemisViolationType.NULL_TARGET : null;
+  }
+
+  /**
+   * <p>Tests the specified <b>target</b> using the specified
+   * {@link Predicate}.</p>
+   *
+   * @param target The <b>target</b>.
+   * @param predicate The <code>Predicate</code> used to test the
+   *                  <b>target</b>. Returns <code>true</code> if the
+   *                  <b>target</b> is invalid.
+   * @param <T> The <b>target</b> type.
+   *
+   * @return {@link ThemisViolationType#INVALID_TARGET} or <code>null</code>
+   * if the <b>target</b> is valid.
+   */
+  public static <T> ThemisViolationType invalidValueViolation(
+      final T target,
+      final Predicate<? super T> predicate) {
+
+    return target == null || predicate.test(target)
+        ? ThemisViolationType.INVALID_TARGET
+        : null;
+  }
+
+  /**
+   * <p>Tests the specified <b>target</b> against values that are not in the
+   * specified {@link ValueSet}.</p>
+   *
+   * @param target The <b>target</b>.
+   * @param allowed The allowed values.
+   *
+   * @return {@link ThemisViolationType#NULL_TARGET},
+   * {@link ThemisViolationType#INVALID_TARGET} or <code>null</code> if the
+   * <b>target</b> is valid.
+   */
+  public static ThemisViolationType valueNotInViolation(
+      final Object target,
+      final ValueSet<?> allowed) {
+
+    if (target == null) {
+      return ThemisViolationType.NULL_TARGET;
+    }
+
+    return allowed.contains(target)
+        ? null
+        : ThemisViolationType.INVALID_TARGET;
+  }
+
+  private ObjectRules() {
+    super();
+  }
+
+}
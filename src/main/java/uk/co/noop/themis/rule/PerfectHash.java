@@ -0,0 +1,195 @@
+package uk.co.noop.themis.rule;
+
+import java.util.Arrays;
+import java.util.Comparator;
+
+/**
+ * <p>A hash-and-displace perfect hash function over a fixed set of
+ * distinct <code>long</code> hashes, shared by {@link ValueSet}, {@link
+ * IntValueSet} and {@link LongValueSet}.</p>
+ *
+ * <p>The hashes are split into buckets by their top bits, and each bucket is
+ * given a displacement, chosen largest bucket first, that moves all of its
+ * hashes into free slots of a table twice the size of the set. {@link
+ * #slot(long)} is then two multiplications, two shifts and one array read,
+ * and every hash in the set has a slot of its own.</p>
+ */
+final class PerfectHash {
+
+  private static final long BUCKET_MULTIPLIER = 0x9E3779B97F4A7C15L;
+
+  private static final long SLOT_MULTIPLIER = 0xC2B2AE3D27D4EB4FL;
+
+  private static final int MAX_DISPLACEMENT = 1 << 16;
+
+  private final int[] displacements;
+  private final int bucketShift;
+  private final int slotShift;
+  private final int[] indexes;
+
+  /**
+   * <p>Builds a perfect hash function over the specified distinct
+   * <b>hashes</b>.</p>
+   *
+   * @param hashes The hashes, which must be distinct.
+   *
+   * @return The perfect hash function, or <code>null</code> if no
+   * displacement could be found for some bucket.
+   */
+  static PerfectHash of(final long[] hashes) {
+
+    final int slotBits = Math.max(1, bits(hashes.length) + 1);
+    final int bucketBits = Math.max(1, slotBits - 3);
+
+    final PerfectHash perfectHash = new PerfectHash(bucketBits, slotBits);
+
+    return perfectHash.place(hashes) ? perfectHash : null;
+  }
+
+  private PerfectHash(final int bucketBits, final int slotBits) {
+
+    this.displacements = new int[1 << bucketBits];
+    this.bucketShift = Long.SIZE - bucketBits;
+    this.slotShift = Long.SIZE - slotBits;
+    this.indexes = new int[1 << slotBits];
+
+    Arrays.fill(indexes, -1);
+  }
+
+  /**
+   * <p>Returns the slot of the specified <b>hash</b>. Every hash in the set
+   * has a slot of its own; any other hash shares a slot with a hash in the
+   * set or lands on an empty slot.</p>
+   *
+   * @param hash The hash.
+   *
+   * @return The slot, from <code>0</code> to {@link #size()} exclusive.
+   */
+  int slot(final long hash) {
+
+    final int displacement =
+        displacements[(int) ((hash * BUCKET_MULTIPLIER) >>> bucketShift)];
+
+    return (int) (((hash ^ displacement) * SLOT_MULTIPLIER) >>> slotShift);
+  }
+
+  /**
+   * <p>Returns the number of slots.</p>
+   *
+   * @return The number of slots, a power of two.
+   */
+  int size() {
+    return indexes.length;
+  }
+
+  /**
+   * <p>Returns the index, within the hashes this was built from, of the hash
+   * in the specified <b>slot</b>.</p>
+   *
+   * @param slot The slot.
+   *
+   * @return The index, or <code>-1</code> if the slot is empty.
+   */
+  int indexAt(final int slot) {
+    return indexes[slot];
+  }
+
+  private boolean place(final long[] hashes) {
+
+    final int[][] buckets = buckets(hashes);
+    final int[] candidates = new int[hashes.length];
+
+    for (final int[] bucket : buckets) {
+
+      if (bucket.length == 0) {
+        break;
+      }
+
+      final int displacement = displacement(bucket, hashes, candidates);
+
+      if (displacement < 0) {
+        return false;
+      }
+
+      displacements[bucket(hashes[bucket[0]])] = displacement;
+
+      for (int i = 0; i < bucket.length; i++) {
+        indexes[candidates[i]] = bucket[i];
+      }
+    }
+
+    return true;
+  }
+
+  private int displacement(
+      final int[] bucket,
+      final long[] hashes,
+      final int[] candidates) {
+
+    search:
+    for (int displacement = 0; displacement < MAX_DISPLACEMENT;
+        displacement++) {
+
+      for (int i = 0; i < bucket.length; i++) {
+
+        final long hash = hashes[bucket[i]] ^ displacement;
+        final int candidate = (int) ((hash * SLOT_MULTIPLIER) >>> slotShift);
+
+        if (indexes[candidate] >= 0) {
+          continue search;
+        }
+
+        for (int j = 0; j < i; j++) {
+          if (candidates[j] == candidate) {
+            continue search;
+          }
+        }
+
+        candidates[i] = candidate;
+      }
+
+      return displacement;
+    }
+
+    return -1;
+  }
+
+  private int[][] buckets(final long[] hashes) {
+
+    final int[] sizes = new int[displacements.length];
+
+    for (final long hash : hashes) {
+      sizes[bucket(hash)]++;
+    }
+
+    final int[][] buckets = new int[displacements.length][];
+
+    for (int i = 0; i < buckets.length; i++) {
+      buckets[i] = new int[sizes[i]];
+      sizes[i] = 0;
+    }
+
+    for (int i = 0; i < hashes.length; i++) {
+
+      final int bucket = bucket(hashes[i]);
+
+      buckets[bucket][sizes[bucket]++] = i;
+    }
+
+    // Place the largest buckets first, while the table is emptiest.
+    Arrays.sort(buckets, Comparator.comparingInt(bucket -> -bucket.length));
+
+    return buckets;
+  }
+
+  private int bucket(final long hash) {
+    return (int) ((hash * BUCKET_MULTIPLIER) >>> bucketShift);
+  }
+
+  private static int bits(final int count) {
+    return count <= 1
+        ? 0
+        : Integer.SIZE - Integer.numberOfLeadingZeros(count - 1);
+  }
+
+}
@@ -0,0 +1,385 @@
+package uk.co.noop.themis.rule;
+
+import uk.co.noop.themis.violation.ThemisViolationType;
+
+import java.util.function.Predicate;
+
+/**
+ * <p>The {@link ThemisRule} instances behind {@link
+ * uk.co.noop.themis.eunomia.StringEunomia StringEunomia}.</p>
+ *
+ * <p>Each rule also has a static <code>*Violation</code> method that tests a
+ * <b>target</b> directly, without a <code>ThemisRule</code> instance. None of
+ * them copy the <b>target</b> or allocate, except that, with vector scanning
+ * enabled (See: {@link StringScanner}), long <b>targets</b> are scanned
+ * through a reused buffer held per thread.</p>
+ *
+ * @see uk.co.noop.themis.eunomia.StringEunomia
+ */
+public final class StringRules {
+
+  private static final ThemisRule<String> NULL_STRINGS =
+      ObjectRules::nullObjectViolation;
+
+  private static final ThemisRule<String> EMPTY_STRINGS =
+      StringRules::emptyStringViolation;
+
+  private static final ThemisRule<String> BLANK_STRINGS =
+      StringRules::blankStringViolation;
+
+  private static final ThemisRule<String> NON_ASCII_CHARACTERS =
+      StringRules::nonAsciiCharactersViolation;
+
+  private static final ThemisRule<String> CONTROL_CHARACTERS =
+      StringRules::controlCharactersViolation;
+
+  /**
+   * <p>Returns the rule against <code>null</code> <b>target</b> values.</p>
+   *
+   * @return The shared rule. This will never be <code>null</code>.
+   *
+   * @see uk.co.noop.themis.eunomia.StringEunomia#againstNullStrings()
+   */
+  public static ThemisRule<String> againstNullStrings() {
+    return NULL_STRINGS;
+  }
+
+  /**
+   * <p>Returns the rule against empty <b>target</b> values (<code>null</code>
+   * or an empty <code>String</code>).</p>
+   *
+   * @return The shared rule. This will never be <code>null</code>.
+   *
+   * @see uk.co.noop.themis.eunomia.StringEunomia#againstEmptyStrings()
+   */
+  public static ThemisRule<String> againstEmptyStrings() {
+    return EMPTY_STRINGS;
+  }
+
+  /**
+   * <p>Returns the rule against blank <b>target</b> values (<code>null</code>,
+   * an empty <code>String</code> or a <code>String</code> containing only
+   * whitespace characters).</p>
+   *
+   * @return The shared rule. This will never be <code>null</code>.
+   *
+   * @see uk.co.noop.themis.eunomia.StringEunomia#againstBlankStrings()
+   */
+  public static ThemisRule<String> againstBlankStrings() {
+    return BLANK_STRINGS;
+  }
+
+  /**
+   * <p>Returns a rule against <b>target</b> values (<code>null</code> or a
+   * <code>String</code>) longer than the specified <b>maxLength</b>.</p>
+   *
+   * @param maxLength The maximum length, in <code>char</code> values.
+   *
+   * @return A new rule. This will never be <code>null</code>.
+   *
+   * @see uk.co.noop.themis.eunomia.StringEunomia#againstLongStrings(int)
+   */
+  public static ThemisRule<String> againstLongStrings(final int maxLength) {
+    return target -> longStringViolation(target, maxLength);
+  }
+
+  /**
+   * <p>Returns a rule against <b>target</b> values (<code>null</code> or a
+   * <code>String</code>) shorter than the specified <b>minLength</b>.</p>
+   *
+   * @param minLength The minimum length, in <code>char</code> values.
+   *
+   * @return A new rule. This will never be <code>null</code>.
+   *
+   * @see uk.co.noop.themis.eunomia.StringEunomia#againstShortStrings(int)
+   */
+  public static ThemisRule<String> againstShortStrings(final int minLength) {
+    return target -> shortStringViolation(target, minLength);
+  }
+
+  /**
+   * <p>Returns a rule against <b>target</b> values (<code>null</code> or a
+   * <code>String</code>) containing any <code>char</code> outside the
+   * specified {@link CharacterSet}.</p>
+   *
+   * @param allowed The allowed characters.
+   *
+   * @return A new rule. This will never be <code>null</code>.
+   *
+   * @see uk.co.noop.themis.eunomia.StringEunomia#againstCharactersOutside(
+   * CharacterSet)
+   */
+  public static ThemisRule<String> againstCharactersOutside(
+      final CharacterSet allowed) {
+
+    return target -> charactersOutsideViolation(target, allowed);
+  }
+
+  /**
+   * <p>Returns the rule against <b>target</b> values (<code>null</code> or a
+   * <code>String</code>) containing any non-ASCII <code>char</code>, i.e. any
+   * <code>char</code> above <code>0x7F</code>.</p>
+   *
+   * @return The shared rule. This will never be <code>null</code>.
+   *
+   * @see uk.co.noop.themis.eunomia.StringEunomia#againstNonAsciiCharacters()
+   */
+  public static ThemisRule<String> againstNonAsciiCharacters() {
+    return NON_ASCII_CHARACTERS;
+  }
+
+  /**
+   * <p>Returns the rule against <b>target</b> values (<code>null</code> or a
+   * <code>String</code>) containing any ISO control <code>char</code> (See:
+   * {@link Character#isISOControl(char)}).</p>
+   *
+   * @return The shared rule. This will never be <code>null</code>.
+   *
+   * @see uk.co.noop.themis.eunomia.StringEunomia#againstControlCharacters()
+   */
+  public static ThemisRule<String> againstControlCharacters() {
+    return CONTROL_CHARACTERS;
+  }
+
+  /**
+   * <p>Returns a rule against <b>target</b> values (<code>null</code> or a
+   * <code>String</code>) that are not in the specified {@link
+   * ValueSet}.</p>
+   *
+   * @param allowed The allowed values.
+   *
+   * @return A new rule. This will never be <code>null</code>.
+   *
+   * @see uk.co.noop.themis.eunomia.StringEunomia#againstValuesNotIn(
+   * ValueSet)
+   */
+  public static ThemisRule<String> againstValuesNotIn(
+      final ValueSet<String> allowed) {
+
+    return target -> ObjectRules.valueNotInViolation(target, allowed);
+  }
+
+  /**
+   * <p>Returns a {@link FusedStringRule.Builder} to merge a chain of
+   * character-level rules into a single scan of the <b>target</b>.</p>
+   *
+   * @return A new <code>FusedStringRule.Builder</code>. This will never be
+   * <code>null</code>.
+   *
+   * @see FusedStringRule
+   */
+  public static FusedStringRule.Builder fuse() {
+    return new FusedStringRule.Builder();
+  }
+
+  /**
+   * <p>Returns a rule against invalid <b>target</b> values using the specified
+   * {@link Predicate}. A <code>null</code> <b>target</b> is always
+   * invalid.</p>
+   *
+   * @param predicate The <code>Predicate</code> used to test the
+   *                  <b>target</b>. Returns <code>true</code> if the
+   *                  <b>target</b> is invalid.
+   *
+   * @return A new rule. This will never be <code>null</code>.
+   *
+   * @see uk.co.noop.themis.eunomia.StringEunomia#againstInvalidStrings(
+   * Predicate)
+   */
+  public static ThemisRule<String> againstInvalidStrings(
+      final Predicate<String> predicate) {
+
+    return target -> ObjectRules.invalidValueViolation(target, predicate);
+  }
+
+  /**
+   * <p>Tests the specified <b>target</b> against empty values.</p>
+   *
+   * @param target The <b>target</b>.
+   *
+   * @return {@link ThemisViolationType#NULL_TARGET}, {@link
+   * ThemisViolationType#EMPTY_TARGET} or <code>null</code> if the
+   * <b>target</b> is valid.
+   */
+  public static ThemisViolationType emptyStringViolation(final String target) {
+
+    if (target == null) {
+      return ThemisViolationType.NULL_TARGET;
+    }
+
+    return target.isEmpty() ? ThemisViolationType.EMPTY_TARGET : null;
+  }
+
+  /**
+   * <p>Tests the specified <b>target</b> against blank values, using the same
+   * definition of whitespace as {@link String#trim()} but without copying the
+   * <b>target</b>.</p>
+   *
+   * @param target The <b>target</b>.
+   *
+   * @return {@link ThemisViolationType#NULL_TARGET}, {@link
+   * ThemisViolationType#EMPTY_TARGET}, {@link
+   * ThemisViolationType#BLANK_TARGET_STRING} or <code>null</code> if the
+   * <b>target</b> is valid.
+   */
+  public static ThemisViolationType blankStringViolation(final String target) {
+
+    final ThemisViolationType violationType = emptyStringViolation(target);
+
+    if (violationType != null) {
+      return violationType;
+    }
+
+    return StringScanner.INSTANCE.indexOfNonBlank(target) < 0
+        ? ThemisViolationType.BLANK_TARGET_STRING
+        : null;
+  }
+
+  /**
+   * <p>Validates the <b>targetName</b> given to a Themis entry point, e.g.
+   * {@link uk.co.noop.themis.Themis#validate(String, String)
+   * Themis.validate} or {@link
+   * uk.co.noop.themis.validator.ThemisValidator#forStrings(String)
+   * ThemisValidator.forStrings}, against blank values.</p>
+   *
+   * @param targetName The <b>targetName</b>.
+   *
+   * @return The <b>targetName</b>, which is not blank.
+   *
+   * @throws uk.co.noop.themis.exception.ThemisTargetException Extensions of
+   * <code>ThemisTargetException</code>, named <code>targetName</code>, will be
+   * thrown if the <b>targetName</b> is blank.
+   */
+  public static String validateTargetName(final String targetName) {
+
+    final ThemisViolationType violationType =
+        blankStringViolation(targetName);
+
+    if (violationType != null) {
+      throw violationType.toException("targetName", targetName);
+    }
+
+    return targetName;
+  }
+
+  /**
+   * <p>Tests the specified <b>target</b> against values longer than the
+   * specified <b>maxLength</b>.</p>
+   *
+   * @param target The <b>target</b>.
+   * @param maxLength The maximum length, in <code>char</code> values.
+   *
+   * @return {@link ThemisViolationType#NULL_TARGET}, {@link
+   * ThemisViolationType#INVALID_TARGET} or <code>null</code> if the
+   * <b>target</b> is valid.
+   */
+  public static ThemisViolationType longStringViolation(
+      final String target,
+      final int maxLength) {
+
+    if (target == null) {
+      return ThemisViolationType.NULL_TARGET;
+    }
+
+    return target.length() > maxLength
+        ? ThemisViolationType.INVALID_TARGET
+        : null;
+  }
+
+  /**
+   * <p>Tests the specified <b>target</b> against values shorter than the
+   * specified <b>minLength</b>.</p>
+   *
+   * @param target The <b>target</b>.
+   * @param minLength The minimum length, in <code>char</code> values.
+   *
+   * @return {@link ThemisViolationType#NULL_TARGET}, {@link
+   * ThemisViolationType#INVALID_TARGET} or <code>null</code> if the
+   * <b>target</b> is valid.
+   */
+  public static ThemisViolationType shortStringViolation(
+      final String target,
+      final int minLength) {
+
+    if (target == null) {
+      return ThemisViolationType.NULL_TARGET;
+    }
+
+    return target.length() < minLength
+        ? ThemisViolationType.INVALID_TARGET
+        : null;
+  }
+
+  /**
+   * <p>Tests the specified <b>target</b> against values containing any
+   * <code>char</code> outside the specified {@link CharacterSet}.</p>
+   *
+   * @param target The <b>target</b>.
+   * @param allowed The allowed characters.
+   *
+   * @return {@link ThemisViolationType#NULL_TARGET}, {@link
+   * ThemisViolationType#INVALID_TARGET} or <code>null</code> if the
+   * <b>target</b> is valid.
+   */
+  public static ThemisViolationType charactersOutsideViolation(
+      final String target,
+      final CharacterSet allowed) {
+
+    if (target == null) {
+      return ThemisViolationType.NULL_TARGET;
+    }
+
+    return allowed.indexOfFirstOutside(target) >= 0
+        ? ThemisViolationType.INVALID_TARGET
+        : null;
+  }
+
+  /**
+   * <p>Tests the specified <b>target</b> against values containing any
+   * non-ASCII <code>char</code>.</p>
+   *
+   * @param target The <b>target</b>.
+   *
+   * @return {@link ThemisViolationType#NULL_TARGET}, {@link
+   * ThemisViolationType#INVALID_TARGET} or <code>null</code> if the
+   * <b>target</b> is valid.
+   */
+  public static ThemisViolationType nonAsciiCharactersViolation(
+      final String target) {
+
+    if (target == null) {
+      return ThemisViolationType.NULL_TARGET;
+    }
+
+    return StringScanner.INSTANCE.indexOfNonAscii(target) >= 0
+        ? ThemisViolationType.INVALID_TARGET
+        : null;
+  }
+
+  /**
+   * <p>Tests the specified <b>target</b> against values containing any ISO
+   * control <code>char</code>.</p>
+   *
+   * @param target The <b>target</b>.
+   *
+   * @return {@link ThemisViolationType#NULL_TARGET}, {@link
+   * ThemisViolationType#INVALID_TARGET} or <code>null</code> if the
+   * <b>target</b> is valid.
+   */
+  public static ThemisViolationType controlCharactersViolation(
+      final String target) {
+
+    if (target == null) {
+      return ThemisViolationType.NULL_TARGET;
+    }
+
+    return StringScanner.INSTANCE.indexOfControl(target) >= 0
+        ? ThemisViolationType.INVALID_TARGET
+        : null;
+  }
+
+  private StringRules() {
+    super();
+  }
+
+}
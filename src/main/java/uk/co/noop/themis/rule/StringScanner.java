@@ -0,0 +1,145 @@
+package uk.co.noop.themis.rule;
+
+/**
+ * <p>Finds the first <code>char</code> of a <b>target</b>
+ * <code>String</code> that breaks one of the character-level rules in
+ * {@link StringRules}.</p>
+ *
+ * <p>This is the scalar implementation, used by default. When Themis is built
+ * with the <code>vector</code> profile and the JVM is started with
+ * <code>--add-modules jdk.incubator.vector</code>, {@link #INSTANCE} is a
+ * <code>VectorStringScanner</code> instead, which scans long <b>targets</b>
+ * with SIMD instructions. Setting the
+ * <code>uk.co.noop.themis.vectorScanning</code> system property to
+ * <code>false</code> forces the scalar implementation.</p>
+ */
+class StringScanner {
+
+  private static final String VECTOR_PROPERTY =
+      "uk.co.noop.themis.vectorScanning";
+
+  private static final String VECTOR_MODULE = "jdk.incubator.vector";
+
+  private static final String VECTOR_SCANNER =
+      "uk.co.noop.themis.rule.VectorStringScanner";
+
+  /**
+   * <p>The <code>StringScanner</code> used by the rules.</p>
+   */
+  static final StringScanner INSTANCE = load();
+
+  StringScanner() {
+    super();
+  }
+
+  /**
+   * <p>Returns the index of the first <code>char</code> above
+   * <code>' '</code>, i.e. the first <code>char</code> that
+   * {@link String#trim()} would keep, or <code>-1</code> if there is none.</p>
+   */
+  int indexOfNonBlank(final String target) {
+    return indexOfNonBlank(target, 0, target.length());
+  }
+
+  /**
+   * <p>Returns the index of the first <code>char</code> above
+   * <code>0x7F</code>, or <code>-1</code> if there is none.</p>
+   */
+  int indexOfNonAscii(final String target) {
+    return indexOfNonAscii(target, 0, target.length());
+  }
+
+  /**
+   * <p>Returns the index of the first ISO control <code>char</code> (See:
+   * {@link Character#isISOControl(char)}), or <code>-1</code> if there is
+   * none.</p>
+   */
+  int indexOfControl(final String target) {
+    return indexOfControl(target, 0, target.length());
+  }
+
+  /**
+   * <p>Returns the index of the first <code>char</code> outside the
+   * <b>allowed</b> set, or <code>-1</code> if there is none.</p>
+   */
+  int indexOfOutside(final String target, final CharacterSet allowed) {
+    return indexOfOutside(target, 0, target.length(), allowed);
+  }
+
+  static int indexOfNonBlank(
+      final String target,
+      final int from,
+      final int to) {
+
+    for (int i = from; i < to; i++) {
+      if (target.charAt(i) > ' ') {
+        return i;
+      }
+    }
+
+    return -1;
+  }
+
+  static int indexOfNonAscii(
+      final String target,
+      final int from,
+      final int to) {
+
+    for (int i = from; i < to; i++) {
+      if (target.charAt(i) > '\u007F') {
+        return i;
+      }
+    }
+
+    return -1;
+  }
+
+  static int indexOfControl(
+      final String target,
+      final int from,
+      final int to) {
+
+    for (int i = from; i < to; i++) {
+      if (Character.isISOControl(target.charAt(i))) {
+        return i;
+      }
+    }
+
+    return -1;
+  }
+
+  static int indexOfOutside(
+      final String target,
+      final int from,
+      final int to,
+      final CharacterSet allowed) {
+
+    for (int i = from; i < to; i++) {
+      if (!allowed.contains(target.charAt(i))) {
+        return i;
+      }
+    }
+
+    return -1;
+  }
+
+  private static StringScanner load() {
+
+    if (Boolean.parseBoolean(System.getProperty(VECTOR_PROPERTY, "true"))
+        && ModuleLayer.boot().findModule(VECTOR_MODULE).isPresent()) {
+
+      try {
+
+        return (StringScanner) Class.forName(VECTOR_SCANNER)
+            .getDeclaredConstructor()
+            .newInstance();
+
+      } catch (final ReflectiveOperationException | LinkageError e) {
+        // Not built with the vector profile; fall back to scalar scanning.
+      }
+    }
+
+    return new StringScanner();
+  }
+
+}
@@ -0,0 +1,30 @@
+package uk.co.noop.themis.rule;
+
+import uk.co.noop.themis.violation.ThemisViolationType;
+
+/**
+ * <p>A single validation rule, e.g. "not blank" or "at most 64 characters",
+ * that can be shared by Eunomia instances and {@link
+ * uk.co.noop.themis.validator.ThemisValidator ThemisValidator} plans.</p>
+ *
+ * <p>Rules should be stateless so that they can be shared across threads.</p>
+ *
+ * @param <T> The <b>target</b> type.
+ *
+ * @see StringRules
+ * @see ObjectRules
+ */
+@FunctionalInterface
+public interface ThemisRule<T> {
+
+  /**
+   * <p>Tests the specified <b>target</b> against <code>this</code> rule.</p>
+   *
+   * @param target The <b>target</b>; this may be <code>null</code>.
+   *
+   * @return The kind of violation detected or <code>null</code> if the
+   * <b>target</b> is valid.
+   */
+  ThemisViolationType test(T target);
+
+}
@@ -0,0 +1,803 @@
+package uk.co.noop.themis.rule;
+
+import uk.co.noop.themis.violation.ThemisViolationType;
+
+import java.nio.ByteBuffer;
+
+/**
+ * <p>The {@link ThemisRule} instances behind {@link
+ * uk.co.noop.themis.eunomia.Utf8Eunomia Utf8Eunomia}, for UTF-8 encoded
+ * <b>targets</b> held in a <code>byte[]</code> slice or a
+ * {@link ByteBuffer}.</p>
+ *
+ * <p>Each rule also has static <code>*Violation</code> methods that test a
+ * <b>target</b> directly, without a <code>ThemisRule</code> instance. They
+ * test the bytes in place, so a <b>target</b> can be rejected without
+ * decoding it into a <code>String</code>, copying it or allocating. A
+ * <code>ByteBuffer</code> <b>target</b> is its bytes from its position to its
+ * limit, read with absolute gets, so neither is changed; heap and direct
+ * buffers are both supported.</p>
+ *
+ * <p>Whitespace has the same definition as {@link String#trim()}, and
+ * <code>char</code> based rules test the <code>char</code> values that the
+ * <b>target</b> would decode to, so they agree with the same rules in
+ * {@link StringRules}. A malformed <b>target</b> (See:
+ * {@link #malformedViolation(byte[], int, int)}) never has allowed
+ * characters.</p>
+ *
+ * @see uk.co.noop.themis.eunomia.Utf8Eunomia
+ */
+public final class Utf8Rules {
+
+  private static final ThemisRule<ByteBuffer> NULL_BYTES =
+      ObjectRules::nullObjectViolation;
+
+  private static final ThemisRule<ByteBuffer> EMPTY_BYTES =
+      Utf8Rules::emptyViolation;
+
+  private static final ThemisRule<ByteBuffer> BLANK_BYTES =
+      Utf8Rules::blankViolation;
+
+  private static final ThemisRule<ByteBuffer> MALFORMED_BYTES =
+      Utf8Rules::malformedViolation;
+
+  private static final ThemisRule<ByteBuffer> NON_ASCII_CHARACTERS =
+      Utf8Rules::nonAsciiCharactersViolation;
+
+  private static final ThemisRule<ByteBuffer> CONTROL_CHARACTERS =
+      Utf8Rules::controlCharactersViolation;
+
+  /**
+   * <p>Returns the rule against <code>null</code> <b>target</b> values.</p>
+   *
+   * @return The shared rule. This will never be <code>null</code>.
+   *
+   * @see uk.co.noop.themis.eunomia.Utf8Eunomia#againstNullUtf8Bytes()
+   */
+  public static ThemisRule<ByteBuffer> againstNullUtf8Bytes() {
+    return NULL_BYTES;
+  }
+
+  /**
+   * <p>Returns the rule against empty <b>target</b> values (<code>null</code>
+   * or no bytes).</p>
+   *
+   * @return The shared rule. This will never be <code>null</code>.
+   *
+   * @see uk.co.noop.themis.eunomia.Utf8Eunomia#againstEmptyUtf8Bytes()
+   */
+  public static ThemisRule<ByteBuffer> againstEmptyUtf8Bytes() {
+    return EMPTY_BYTES;
+  }
+
+  /**
+   * <p>Returns the rule against blank <b>target</b> values (<code>null</code>,
+   * no bytes or only whitespace characters).</p>
+   *
+   * @return The shared rule. This will never be <code>null</code>.
+   *
+   * @see uk.co.noop.themis.eunomia.Utf8Eunomia#againstBlankUtf8Bytes()
+   */
+  public static ThemisRule<ByteBuffer> againstBlankUtf8Bytes() {
+    return BLANK_BYTES;
+  }
+
+  /**
+   * <p>Returns the rule against <b>target</b> values (<code>null</code> or
+   * bytes) that are not well-formed UTF-8.</p>
+   *
+   * @return The shared rule. This will never be <code>null</code>.
+   *
+   * @see uk.co.noop.themis.eunomia.Utf8Eunomia#againstMalformedUtf8Bytes()
+   */
+  public static ThemisRule<ByteBuffer> againstMalformedUtf8Bytes() {
+    return MALFORMED_BYTES;
+  }
+
+  /**
+   * <p>Returns a rule against <b>target</b> values (<code>null</code> or
+   * bytes) longer than the specified <b>maxBytes</b>.</p>
+   *
+   * @param maxBytes The maximum length, in bytes.
+   *
+   * @return A new rule. This will never be <code>null</code>.
+   *
+   * @see uk.co.noop.themis.eunomia.Utf8Eunomia#againstLongUtf8Bytes(int)
+   */
+  public static ThemisRule<ByteBuffer> againstLongUtf8Bytes(
+      final int maxBytes) {
+
+    return target -> longBytesViolation(target, maxBytes);
+  }
+
+  /**
+   * <p>Returns a rule against <b>target</b> values (<code>null</code> or
+   * bytes) shorter than the specified <b>minBytes</b>.</p>
+   *
+   * @param minBytes The minimum length, in bytes.
+   *
+   * @return A new rule. This will never be <code>null</code>.
+   *
+   * @see uk.co.noop.themis.eunomia.Utf8Eunomia#againstShortUtf8Bytes(int)
+   */
+  public static ThemisRule<ByteBuffer> againstShortUtf8Bytes(
+      final int minBytes) {
+
+    return target -> shortBytesViolation(target, minBytes);
+  }
+
+  /**
+   * <p>Returns a rule against <b>target</b> values (<code>null</code> or
+   * bytes) of more than the specified <b>maxCodePoints</b>.</p>
+   *
+   * @param maxCodePoints The maximum length, in code points.
+   *
+   * @return A new rule. This will never be <code>null</code>.
+   *
+   * @see uk.co.noop.themis.eunomia.Utf8Eunomia#againstLongUtf8CodePoints(int)
+   */
+  public static ThemisRule<ByteBuffer> againstLongUtf8CodePoints(
+      final int maxCodePoints) {
+
+    return target -> longCodePointsViolation(target, maxCodePoints);
+  }
+
+  /**
+   * <p>Returns a rule against <b>target</b> values (<code>null</code> or
+   * bytes) of fewer than the specified <b>minCodePoints</b>.</p>
+   *
+   * @param minCodePoints The minimum length, in code points.
+   *
+   * @return A new rule. This will never be <code>null</code>.
+   *
+   * @see uk.co.noop.themis.eunomia.Utf8Eunomia#againstShortUtf8CodePoints(
+   * int)
+   */
+  public static ThemisRule<ByteBuffer> againstShortUtf8CodePoints(
+      final int minCodePoints) {
+
+    return target -> shortCodePointsViolation(target, minCodePoints);
+  }
+
+  /**
+   * <p>Returns a rule against <b>target</b> values (<code>null</code> or
+   * bytes) containing any <code>char</code> outside the specified
+   * {@link CharacterSet}.</p>
+   *
+   * @param allowed The allowed characters.
+   *
+   * @return A new rule. This will never be <code>null</code>.
+   *
+   * @see uk.co.noop.themis.eunomia.Utf8Eunomia#againstCharactersOutside(
+   * CharacterSet)
+   */
+  public static ThemisRule<ByteBuffer> againstCharactersOutside(
+      final CharacterSet allowed) {
+
+    return target -> charactersOutsideViolation(target, allowed);
+  }
+
+  /**
+   * <p>Returns the rule against <b>target</b> values (<code>null</code> or
+   * bytes) containing any non-ASCII character, i.e. any byte above
+   * <code>0x7F</code>.</p>
+   *
+   * @return The shared rule. This will never be <code>null</code>.
+   *
+   * @see uk.co.noop.themis.eunomia.Utf8Eunomia#againstNonAsciiCharacters()
+   */
+  public static ThemisRule<ByteBuffer> againstNonAsciiCharacters() {
+    return NON_ASCII_CHARACTERS;
+  }
+
+  /**
+   * <p>Returns the rule against <b>target</b> values (<code>null</code> or
+   * bytes) containing any ISO control character (See:
+   * {@link Character#isISOControl(int)}).</p>
+   *
+   * @return The shared rule. This will never be <code>null</code>.
+   *
+   * @see uk.co.noop.themis.eunomia.Utf8Eunomia#againstControlCharacters()
+   */
+  public static ThemisRule<ByteBuffer> againstControlCharacters() {
+    return CONTROL_CHARACTERS;
+  }
+
+  /**
+   * <p>Tests the specified <b>target</b> slice against empty values.</p>
+   *
+   * @param target The <b>target</b> bytes.
+   * @param offset The index of the first byte of the slice.
+   * @param length The number of bytes in the slice.
+   *
+   * @return {@link ThemisViolationType#NULL_TARGET}, {@link
+   * ThemisViolationType#EMPTY_TARGET} or <code>null</code> if the
+   * <b>target</b> is valid.
+   */
+  public static ThemisViolationType emptyViolation(
+      final byte[] target,
+      final int offset,
+      final int length) {
+
+    if (target == null) {
+      return ThemisViolationType.NULL_TARGET;
+    }
+
+    return length == 0 ? ThemisViolationType.EMPTY_TARGET : null;
+  }
+
+  /**
+   * <p>Tests the specified <b>target</b> buffer against empty values.</p>
+   *
+   * @param target The <b>target</b>.
+   *
+   * @return {@link ThemisViolationType#NULL_TARGET}, {@link
+   * ThemisViolationType#EMPTY_TARGET} or <code>null</code> if the
+   * <b>target</b> is valid.
+   */
+  public static ThemisViolationType emptyViolation(final ByteBuffer target) {
+
+    if (target == null) {
+      return ThemisViolationType.NULL_TARGET;
+    }
+
+    return target.hasRemaining() ? null : ThemisViolationType.EMPTY_TARGET;
+  }
+
+  /**
+   * <p>Tests the specified <b>target</b> slice against blank values.</p>
+   *
+   * @param target The <b>target</b> bytes.
+   * @param offset The index of the first byte of the slice.
+   * @param length The number of bytes in the slice.
+   *
+   * @return {@link ThemisViolationType#NULL_TARGET}, {@link
+   * ThemisViolationType#EMPTY_TARGET}, {@link
+   * ThemisViolationType#BLANK_TARGET_STRING} or <code>null</code> if the
+   * <b>target</b> is valid.
+   */
+  public static ThemisViolationType blankViolation(
+      final byte[] target,
+      final int offset,
+      final int length) {
+
+    final ThemisViolationType violationType =
+        emptyViolation(target, offset, length);
+
+    if (violationType != null) {
+      return violationType;
+    }
+
+    return Utf8Scanner.indexOfNonBlank(target, offset, offset + length) < 0
+        ? ThemisViolationType.BLANK_TARGET_STRING
+        : null;
+  }
+
+  /**
+   * <p>Tests the specified <b>target</b> buffer against blank values.</p>
+   *
+   * @param target The <b>target</b>.
+   *
+   * @return {@link ThemisViolationType#NULL_TARGET}, {@link
+   * ThemisViolationType#EMPTY_TARGET}, {@link
+   * ThemisViolationType#BLANK_TARGET_STRING} or <code>null</code> if the
+   * <b>target</b> is valid.
+   */
+  public static ThemisViolationType blankViolation(final ByteBuffer target) {
+
+    final ThemisViolationType violationType = emptyViolation(target);
+
+    if (violationType != null) {
+      return violationType;
+    }
+
+    if (target.hasArray()) {
+      return blankViolation(
+          target.array(),
+          start(target),
+          target.remaining());
+    }
+
+    return Utf8Scanner.indexOfNonBlank(
+        target,
+        target.position(),
+        target.limit()) < 0
+        ? ThemisViolationType.BLANK_TARGET_STRING
+        : null;
+  }
+
+  /**
+   * <p>Tests the specified <b>target</b> slice against values that are not
+   * well-formed UTF-8 (See: RFC 3629), i.e. that contain an invalid or
+   * truncated sequence, an overlong encoding, a surrogate or a code point
+   * above <code>U+10FFFF</code>.</p>
+   *
+   * @param target The <b>target</b> bytes.
+   * @param offset The index of the first byte of the slice.
+   * @param length The number of bytes in the slice.
+   *
+   * @return {@link ThemisViolationType#NULL_TARGET}, {@link
+   * ThemisViolationType#INVALID_TARGET} or <code>null</code> if the
+   * <b>target</b> is valid.
+   */
+  public static ThemisViolationType malformedViolation(
+      final byte[] target,
+      final int offset,
+      final int length) {
+
+    if (target == null) {
+      return ThemisViolationType.NULL_TARGET;
+    }
+
+    return Utf8Scanner.indexOfMalformed(target, offset, offset + length) >= 0
+        ? ThemisViolationType.INVALID_TARGET
+        : null;
+  }
+
+  /**
+   * <p>Tests the specified <b>target</b> buffer against values that are not
+   * well-formed UTF-8.</p>
+   *
+   * @param target The <b>target</b>.
+   *
+   * @return {@link ThemisViolationType#NULL_TARGET}, {@link
+   * ThemisViolationType#INVALID_TARGET} or <code>null</code> if the
+   * <b>target</b> is valid.
+   *
+   * @see #malformedViolation(byte[], int, int)
+   */
+  public static ThemisViolationType malformedViolation(
+      final ByteBuffer target) {
+
+    if (target == null) {
+      return ThemisViolationType.NULL_TARGET;
+    }
+
+    if (target.hasArray()) {
+      return malformedViolation(
+          target.array(),
+          start(target),
+          target.remaining());
+    }
+
+    return Utf8Scanner.indexOfMalformed(
+        target,
+        target.position(),
+        target.limit()) >= 0
+        ? ThemisViolationType.INVALID_TARGET
+        : null;
+  }
+
+  /**
+   * <p>Tests the specified <b>target</b> slice against values longer than the
+   * specified <b>maxBytes</b>.</p>
+   *
+   * @param target The <b>target</b> bytes.
+   * @param offset The index of the first byte of the slice.
+   * @param length The number of bytes in the slice.
+   * @param maxBytes The maximum length, in bytes.
+   *
+   * @return {@link ThemisViolationType#NULL_TARGET}, {@link
+   * ThemisViolationType#INVALID_TARGET} or <code>null</code> if the
+   * <b>target</b> is valid.
+   */
+  public static ThemisViolationType longBytesViolation(
+      final byte[] target,
+      final int offset,
+      final int length,
+      final int maxBytes) {
+
+    if (target == null) {
+      return ThemisViolationType.NULL_TARGET;
+    }
+
+    return length > maxBytes ? ThemisViolationType.INVALID_TARGET : null;
+  }
+
+  /**
+   * <p>Tests the specified <b>target</b> buffer against values longer than
+   * the specified <b>maxBytes</b>.</p>
+   *
+   * @param target The <b>target</b>.
+   * @param maxBytes The maximum length, in bytes.
+   *
+   * @return {@link ThemisViolationType#NULL_TARGET}, {@link
+   * ThemisViolationType#INVALID_TARGET} or <code>null</code> if the
+   * <b>target</b> is valid.
+   */
+  public static ThemisViolationType longBytesViolation(
+      final ByteBuffer target,
+      final int maxBytes) {
+
+    if (target == null) {
+      return ThemisViolationType.NULL_TARGET;
+    }
+
+    return target.remaining() > maxBytes
+        ? ThemisViolationType.INVALID_TARGET
+        : null;
+  }
+
+  /**
+   * <p>Tests the specified <b>target</b> slice against values shorter than
+   * the specified <b>minBytes</b>.</p>
+   *
+   * @param target The <b>target</b> bytes.
+   * @param offset The index of the first byte of the slice.
+   * @param length The number of bytes in the slice.
+   * @param minBytes The minimum length, in bytes.
+   *
+   * @return {@link ThemisViolationType#NULL_TARGET}, {@link
+   * ThemisViolationType#INVALID_TARGET} or <code>null</code> if the
+   * <b>target</b> is valid.
+   */
+  public static ThemisViolationType shortBytesViolation(
+      final byte[] target,
+      final int offset,
+      final int length,
+      final int minBytes) {
+
+    if (target == null) {
+      return ThemisViolationType.NULL_TARGET;
+    }
+
+    return length < minBytes ? ThemisViolationType.INVALID_TARGET : null;
+  }
+
+  /**
+   * <p>Tests the specified <b>target</b> buffer against values shorter than
+   * the specified <b>minBytes</b>.</p>
+   *
+   * @param target The <b>target</b>.
+   * @param minBytes The minimum length, in bytes.
+   *
+   * @return {@link ThemisViolationType#NULL_TARGET}, {@link
+   * ThemisViolationType#INVALID_TARGET} or <code>null</code> if the
+   * <b>target</b> is valid.
+   */
+  public static ThemisViolationType shortBytesViolation(
+      final ByteBuffer target,
+      final int minBytes) {
+
+    if (target == null) {
+      return ThemisViolationType.NULL_TARGET;
+    }
+
+    return target.remaining() < minBytes
+        ? ThemisViolationType.INVALID_TARGET
+        : null;
+  }
+
+  /**
+   * <p>Tests the specified <b>target</b> slice against values of more than
+   * the specified <b>maxCodePoints</b>.</p>
+   *
+   * <p>Every code point takes one to four bytes, so the bytes are only
+   * counted when their length alone does not decide the result. Each byte
+   * that is not a continuation byte counts as one code point, which is exact
+   * for well-formed UTF-8.</p>
+   *
+   * @param target The <b>target</b> bytes.
+   * @param offset The index of the first byte of the slice.
+   * @param length The number of bytes in the slice.
+   * @param maxCodePoints The maximum length, in code points.
+   *
+   * @return {@link ThemisViolationType#NULL_TARGET}, {@link
+   * ThemisViolationType#INVALID_TARGET} or <code>null</code> if the
+   * <b>target</b> is valid.
+   */
+  public static ThemisViolationType longCodePointsViolation(
+      final byte[] target,
+      final int offset,
+      final int length,
+      final int maxCodePoints) {
+
+    if (target == null) {
+      return ThemisViolationType.NULL_TARGET;
+    }
+
+    if (length <= maxCodePoints) {
+      return null;
+    }
+
+    return Utf8Scanner.codePointCount(target, offset, offset + length)
+        > maxCodePoints
+        ? ThemisViolationType.INVALID_TARGET
+        : null;
+  }
+
+  /**
+   * <p>Tests the specified <b>target</b> buffer against values of more than
+   * the specified <b>maxCodePoints</b>.</p>
+   *
+   * @param target The <b>target</b>.
+   * @param maxCodePoints The maximum length, in code points.
+   *
+   * @return {@link ThemisViolationType#NULL_TARGET}, {@link
+   * ThemisViolationType#INVALID_TARGET} or <code>null</code> if the
+   * <b>target</b> is valid.
+   *
+   * @see #longCodePointsViolation(byte[], int, int, int)
+   */
+  public static ThemisViolationType longCodePointsViolation(
+      final ByteBuffer target,
+      final int maxCodePoints) {
+
+    if (target == null) {
+      return ThemisViolationType.NULL_TARGET;
+    }
+
+    if (target.hasArray()) {
+      return longCodePointsViolation(
+          target.array(),
+          start(target),
+          target.remaining(),
+          maxCodePoints);
+    }
+
+    if (target.remaining() <= maxCodePoints) {
+      return null;
+    }
+
+    return Utf8Scanner.codePointCount(
+        target,
+        target.position(),
+        target.limit()) > maxCodePoints
+        ? ThemisViolationType.INVALID_TARGET
+        : null;
+  }
+
+  /**
+   * <p>Tests the specified <b>target</b> slice against values of fewer than
+   * the specified <b>minCodePoints</b>.</p>
+   *
+   * @param target The <b>target</b> bytes.
+   * @param offset The index of the first byte of the slice.
+   * @param length The number of bytes in the slice.
+   * @param minCodePoints The minimum length, in code points.
+   *
+   * @return {@link ThemisViolationType#NULL_TARGET}, {@link
+   * ThemisViolationType#INVALID_TARGET} or <code>null</code> if the
+   * <b>target</b> is valid.
+   *
+   * @see #longCodePointsViolation(byte[], int, int, int)
+   */
+  public static ThemisViolationType shortCodePointsViolation(
+      final byte[] target,
+      final int offset,
+      final int length,
+      final int minCodePoints) {
+
+    if (target == null) {
+      return ThemisViolationType.NULL_TARGET;
+    }
+
+    if (length < minCodePoints) {
+      return ThemisViolationType.INVALID_TARGET;
+    }
+
+    return Utf8Scanner.codePointCount(target, offset, offset + length)
+        < minCodePoints
+        ? ThemisViolationType.INVALID_TARGET
+        : null;
+  }
+
+  /**
+   * <p>Tests the specified <b>target</b> buffer against values of fewer than
+   * the specified <b>minCodePoints</b>.</p>
+   *
+   * @param target The <b>target</b>.
+   * @param minCodePoints The minimum length, in code points.
+   *
+   * @return {@link ThemisViolationType#NULL_TARGET}, {@link
+   * ThemisViolationType#INVALID_TARGET} or <code>null</code> if the
+   * <b>target</b> is valid.
+   *
+   * @see #longCodePointsViolation(byte[], int, int, int)
+   */
+  public static ThemisViolationType shortCodePointsViolation(
+      final ByteBuffer target,
+      final int minCodePoints) {
+
+    if (target == null) {
+      return ThemisViolationType.NULL_TARGET;
+    }
+
+    if (target.hasArray()) {
+      return shortCodePointsViolation(
+          target.array(),
+          start(target),
+          target.remaining(),
+          minCodePoints);
+    }
+
+    if (target.remaining() < minCodePoints) {
+      return ThemisViolationType.INVALID_TARGET;
+    }
+
+    return Utf8Scanner.codePointCount(
+        target,
+        target.position(),
+        target.limit()) < minCodePoints
+        ? ThemisViolationType.INVALID_TARGET
+        : null;
+  }
+
+  /**
+   * <p>Tests the specified <b>target</b> slice against values containing any
+   * <code>char</code> outside the specified {@link CharacterSet}, or that
+   * are not well-formed UTF-8.</p>
+   *
+   * @param target The <b>target</b> bytes.
+   * @param offset The index of the first byte of the slice.
+   * @param length The number of bytes in the slice.
+   * @param allowed The allowed characters.
+   *
+   * @return {@link ThemisViolationType#NULL_TARGET}, {@link
+   * ThemisViolationType#INVALID_TARGET} or <code>null</code> if the
+   * <b>target</b> is valid.
+   */
+  public static ThemisViolationType charactersOutsideViolation(
+      final byte[] target,
+      final int offset,
+      final int length,
+      final CharacterSet allowed) {
+
+    if (target == null) {
+      return ThemisViolationType.NULL_TARGET;
+    }
+
+    return Utf8Scanner.indexOfOutside(target, offset, offset + length, allowed)
+        >= 0
+        ? ThemisViolationType.INVALID_TARGET
+        : null;
+  }
+
+  /**
+   * <p>Tests the specified <b>target</b> buffer against values containing any
+   * <code>char</code> outside the specified {@link CharacterSet}, or that
+   * are not well-formed UTF-8.</p>
+   *
+   * @param target The <b>target</b>.
+   * @param allowed The allowed characters.
+   *
+   * @return {@link ThemisViolationType#NULL_TARGET}, {@link
+   * ThemisViolationType#INVALID_TARGET} or <code>null</code> if the
+   * <b>target</b> is valid.
+   */
+  public static ThemisViolationType charactersOutsideViolation(
+      final ByteBuffer target,
+      final CharacterSet allowed) {
+
+    if (target == null) {
+      return ThemisViolationType.NULL_TARGET;
+    }
+
+    if (target.hasArray()) {
+      return charactersOutsideViolation(
+          target.array(),
+          start(target),
+          target.remaining(),
+          allowed);
+    }
+
+    return Utf8Scanner.indexOfOutside(
+        target,
+        target.position(),
+        target.limit(),
+        allowed) >= 0
+        ? ThemisViolationType.INVALID_TARGET
+        : null;
+  }
+
+  /**
+   * <p>Tests the specified <b>target</b> slice against values containing any
+   * non-ASCII character, i.e. any byte above <code>0x7F</code>.</p>
+   *
+   * @param target The <b>target</b> bytes.
+   * @param offset The index of the first byte of the slice.
+   * @param length The number of bytes in the slice.
+   *
+   * @return {@link ThemisViolationType#NULL_TARGET}, {@link
+   * ThemisViolationType#INVALID_TARGET} or <code>null</code> if the
+   * <b>target</b> is valid.
+   */
+  public static ThemisViolationType nonAsciiCharactersViolation(
+      final byte[] target,
+      final int offset,
+      final int length) {
+
+    if (target == null) {
+      return ThemisViolationType.NULL_TARGET;
+    }
+
+    return Utf8Scanner.indexOfNonAscii(target, offset, offset + length) >= 0
+        ? ThemisViolationType.INVALID_TARGET
+        : null;
+  }
+
+  /**
+   * <p>Tests the specified <b>target</b> buffer against values containing any
+   * non-ASCII character, i.e. any byte above <code>0x7F</code>.</p>
+   *
+   * @param target The <b>target</b>.
+   *
+   * @return {@link ThemisViolationType#NULL_TARGET}, {@link
+   * ThemisViolationType#INVALID_TARGET} or <code>null</code> if the
+   * <b>target</b> is valid.
+   */
+  public static ThemisViolationType nonAsciiCharactersViolation(
+      final ByteBuffer target) {
+
+    if (target == null) {
+      return ThemisViolationType.NULL_TARGET;
+    }
+
+    if (target.hasArray()) {
+      return nonAsciiCharactersViolation(
+          target.array(),
+          start(target),
+          target.remaining());
+    }
+
+    return Utf8Scanner.indexOfNonAscii(
+        target,
+        target.position(),
+        target.limit()) >= 0
+        ? ThemisViolationType.INVALID_TARGET
+        : null;
+  }
+
+  /**
+   * <p>Tests the specified <b>target</b> slice against values containing any
+   * ISO control character, or that are not well-formed UTF-8.</p>
+   *
+   * @param target The <b>target</b> bytes.
+   * @param offset The index of the first byte of the slice.
+   * @param length The number of bytes in the slice.
+   *
+   * @return {@link ThemisViolationType#NULL_TARGET}, {@link
+   * ThemisViolationType#INVALID_TARGET} or <code>null</code> if the
+   * <b>target</b> is valid.
+   */
+  public static ThemisViolationType controlCharactersViolation(
+      final byte[] target,
+      final int offset,
+      final int length) {
+
+    return charactersOutsideViolation(
+        target,
+        offset,
+        length,
+        CharacterSet.NON_CONTROL);
+  }
+
+  /**
+   * <p>Tests the specified <b>target</b> buffer against values containing any
+   * ISO control character, or that are not well-formed UTF-8.</p>
+   *
+   * @param target The <b>target</b>.
+   *
+   * @return {@link ThemisViolationType#NULL_TARGET}, {@link
+   * ThemisViolationType#INVALID_TARGET} or <code>null</code> if the
+   * <b>target</b> is valid.
+   */
+  public static ThemisViolationType controlCharactersViolation(
+      final ByteBuffer target) {
+
+    return charactersOutsideViolation(target, CharacterSet.NON_CONTROL);
+  }
+
+  /**
+   * <p>Returns the index in the backing array of the <b>target</b>'s
+   * position.</p>
+   */
+  private static int start(final ByteBuffer target) {
+    return target.arrayOffset() + target.position();
+  }
+
+  private Utf8Rules() {
+    super();
+  }
+
+}
@@ -0,0 +1,408 @@
+package uk.co.noop.themis.rule;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * <p>Scans UTF-8 encoded bytes in place for the rules in {@link Utf8Rules},
+ * without decoding them into a <code>String</code>.</p>
+ *
+ * <p>Every scan has a <code>byte[]</code> form and a {@link ByteBuffer} form,
+ * for direct buffers, reading from <b>from</b> (inclusive) to <b>to</b>
+ * (exclusive) with absolute gets, so a buffer's position is never changed.
+ * ASCII, the common case, is skipped eight bytes at a time.</p>
+ */
+final class Utf8Scanner {
+
+  private static final VarHandle LONGS =
+      MethodHandles.byteArrayViewVarHandle(
+          long[].class,
+          ByteOrder.nativeOrder());
+
+  private static final long HIGH_BITS = 0x8080808080808080L;
+
+  /**
+   * <p>Returns the index of the first byte of the first malformed sequence,
+   * or <code>-1</code> if the bytes are well-formed UTF-8 (See: RFC 3629, i.e.
+   * no overlong forms, surrogates or code points above
+   * <code>U+10FFFF</code>).</p>
+   */
+  static int indexOfMalformed(
+      final byte[] bytes,
+      final int from,
+      final int to) {
+
+    int i = from;
+
+    while (i < to) {
+
+      i = skipAscii(bytes, i, to);
+
+      if (i == to) {
+        break;
+      }
+
+      final int codePoint = codePointAt(bytes, i, to);
+
+      if (codePoint < 0) {
+        return i;
+      }
+
+      i += length(codePoint);
+    }
+
+    return -1;
+  }
+
+  static int indexOfMalformed(
+      final ByteBuffer buffer,
+      final int from,
+      final int to) {
+
+    int i = from;
+
+    while (i < to) {
+
+      i = skipAscii(buffer, i, to);
+
+      if (i == to) {
+        break;
+      }
+
+      final int codePoint = codePointAt(buffer, i, to);
+
+      if (codePoint < 0) {
+        return i;
+      }
+
+      i += length(codePoint);
+    }
+
+    return -1;
+  }
+
+  /**
+   * <p>Returns the number of code points, counting each byte that is not a
+   * continuation byte. This is exact for well-formed UTF-8.</p>
+   */
+  static int codePointCount(
+      final byte[] bytes,
+      final int from,
+      final int to) {
+
+    int count = 0;
+
+    for (int i = from; i < to; i++) {
+      if ((bytes[i] & 0xC0) != 0x80) {
+        count++;
+      }
+    }
+
+    return count;
+  }
+
+  static int codePointCount(
+      final ByteBuffer buffer,
+      final int from,
+      final int to) {
+
+    int count = 0;
+
+    for (int i = from; i < to; i++) {
+      if ((buffer.get(i) & 0xC0) != 0x80) {
+        count++;
+      }
+    }
+
+    return count;
+  }
+
+  /**
+   * <p>Returns the index of the first byte above <code>' '</code>, with the
+   * same definition of whitespace as {@link String#trim()}, or
+   * <code>-1</code> if there is none. Every byte of a multi-byte sequence is
+   * above <code>' '</code>.</p>
+   */
+  static int indexOfNonBlank(
+      final byte[] bytes,
+      final int from,
+      final int to) {
+
+    for (int i = from; i < to; i++) {
+      if ((bytes[i] & 0xFF) > ' ') {
+        return i;
+      }
+    }
+
+    return -1;
+  }
+
+  static int indexOfNonBlank(
+      final ByteBuffer buffer,
+      final int from,
+      final int to) {
+
+    for (int i = from; i < to; i++) {
+      if ((buffer.get(i) & 0xFF) > ' ') {
+        return i;
+      }
+    }
+
+    return -1;
+  }
+
+  /**
+   * <p>Returns the index of the first byte above <code>0x7F</code>, i.e. the
+   * start of the first non-ASCII sequence, or <code>-1</code> if there is
+   * none.</p>
+   */
+  static int indexOfNonAscii(
+      final byte[] bytes,
+      final int from,
+      final int to) {
+
+    final int i = skipAscii(bytes, from, to);
+
+    return i == to ? -1 : i;
+  }
+
+  static int indexOfNonAscii(
+      final ByteBuffer buffer,
+      final int from,
+      final int to) {
+
+    final int i = skipAscii(buffer, from, to);
+
+    return i == to ? -1 : i;
+  }
+
+  /**
+   * <p>Returns the index of the first byte of the first code point outside
+   * the <b>allowed</b> set, or of the first malformed sequence, or
+   * <code>-1</code> if there is neither. A supplementary code point is
+   * allowed only if both <code>char</code> values of its surrogate pair
+   * are.</p>
+   */
+  static int indexOfOutside(
+      final byte[] bytes,
+      final int from,
+      final int to,
+      final CharacterSet allowed) {
+
+    int i = from;
+
+    while (i < to) {
+
+      final int codePoint = codePointAt(bytes, i, to);
+
+      if (!contains(allowed, codePoint)) {
+        return i;
+      }
+
+      i += length(codePoint);
+    }
+
+    return -1;
+  }
+
+  static int indexOfOutside(
+      final ByteBuffer buffer,
+      final int from,
+      final int to,
+      final CharacterSet allowed) {
+
+    int i = from;
+
+    while (i < to) {
+
+      final int codePoint = codePointAt(buffer, i, to);
+
+      if (!contains(allowed, codePoint)) {
+        return i;
+      }
+
+      i += length(codePoint);
+    }
+
+    return -1;
+  }
+
+  private static int skipAscii(
+      final byte[] bytes,
+      final int from,
+      final int to) {
+
+    int i = from;
+
+    while (i <= to - Long.BYTES
+        && ((long) LONGS.get(bytes, i) & HIGH_BITS) == 0) {
+
+      i += Long.BYTES;
+    }
+
+    while (i < to && bytes[i] >= 0) {
+      i++;
+    }
+
+    return i;
+  }
+
+  private static int skipAscii(
+      final ByteBuffer buffer,
+      final int from,
+      final int to) {
+
+    int i = from;
+
+    while (i <= to - Long.BYTES && (buffer.getLong(i) & HIGH_BITS) == 0) {
+      i += Long.BYTES;
+    }
+
+    while (i < to && buffer.get(i) >= 0) {
+      i++;
+    }
+
+    return i;
+  }
+
+  /**
+   * <p>Returns the code point starting at <b>index</b>, or <code>-1</code> if
+   * the sequence there is malformed or runs past <b>to</b>.</p>
+   */
+  private static int codePointAt(
+      final byte[] bytes,
+      final int index,
+      final int to) {
+
+    final int b0 = bytes[index];
+
+    if (b0 >= 0) {
+      return b0;
+    }
+
+    return decode(
+        b0,
+        index + 1 < to ? bytes[index + 1] : 0,
+        index + 2 < to ? bytes[index + 2] : 0,
+        index + 3 < to ? bytes[index + 3] : 0);
+  }
+
+  private static int codePointAt(
+      final ByteBuffer buffer,
+      final int index,
+      final int to) {
+
+    final int b0 = buffer.get(index);
+
+    if (b0 >= 0) {
+      return b0;
+    }
+
+    return decode(
+        b0,
+        index + 1 < to ? buffer.get(index + 1) : 0,
+        index + 2 < to ? buffer.get(index + 2) : 0,
+        index + 3 < to ? buffer.get(index + 3) : 0);
+  }
+
+  /**
+   * <p>Decodes the multi-byte sequence starting with the lead byte
+   * <b>b0</b>, returning <code>-1</code> if it is malformed. Bytes past the
+   * end of the input are passed as <code>0</code>, which is never a
+   * continuation byte.</p>
+   */
+  private static int decode(
+      final int b0,
+      final int b1,
+      final int b2,
+      final int b3) {
+
+    final int lead = b0 & 0xFF;
+
+    if (lead >= 0xC2 && lead <= 0xDF) {
+      return isContinuation(b1) ? (lead & 0x1F) << 6 | (b1 & 0x3F) : -1;
+    }
+
+    if (lead >= 0xE0 && lead <= 0xEF) {
+
+      if (!isContinuation(b1) || !isContinuation(b2)) {
+        return -1;
+      }
+
+      final int codePoint =
+          (lead & 0x0F) << 12 | (b1 & 0x3F) << 6 | (b2 & 0x3F);
+
+      return codePoint < 0x800
+          || (codePoint >= Character.MIN_SURROGATE
+              && codePoint <= Character.MAX_SURROGATE)
+          ? -1
+          : codePoint;
+    }
+
+    if (lead >= 0xF0 && lead <= 0xF4) {
+
+      if (!isContinuation(b1)
+          || !isContinuation(b2)
+          || !isContinuation(b3)) {
+
+        return -1;
+      }
+
+      final int codePoint = (lead & 0x07) << 18
+          | (b1 & 0x3F) << 12
+          | (b2 & 0x3F) << 6
+          | (b3 & 0x3F);
+
+      return codePoint < Character.MIN_SUPPLEMENTARY_CODE_POINT
+          || codePoint > Character.MAX_CODE_POINT
+          ? -1
+          : codePoint;
+    }
+
+    return -1;
+  }
+
+  private static boolean isContinuation(final int b) {
+    return (b & 0xC0) == 0x80;
+  }
+
+  /**
+   * <p>Returns the number of bytes in the shortest (i.e. the only
+   * well-formed) encoding of the <b>codePoint</b>.</p>
+   */
+  private static int length(final int codePoint) {
+
+    if (codePoint < 0x80) {
+      return 1;
+    }
+
+    if (codePoint < 0x800) {
+      return 2;
+    }
+
+    return codePoint < Character.MIN_SUPPLEMENTARY_CODE_POINT ? 3 : 4;
+  }
+
+  private static boolean contains(
+      final CharacterSet allowed,
+      final int codePoint) {
+
+    if (codePoint < 0) {
+      return false;
+    }
+
+    if (codePoint < Character.MIN_SUPPLEMENTARY_CODE_POINT) {
+      return allowed.contains((char) codePoint);
+    }
+
+    return allowed.contains(Character.highSurrogate(codePoint))
+        && allowed.contains(Character.lowSurrogate(codePoint));
+  }
+
+  private Utf8Scanner() {
+    super();
+  }
+
+}
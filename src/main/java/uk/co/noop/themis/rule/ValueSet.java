@@ -0,0 +1,183 @@
+package uk.co.noop.themis.rule;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * <p>An immutable set of allowed values, built once for the rules against
+ * values not in the set, e.g. {@link
+ * uk.co.noop.themis.eunomia.StringEunomia#againstValuesNotIn(ValueSet)
+ * StringEunomia.againstValuesNotIn}.</p>
+ *
+ * <p>The values are placed by a perfect hash function on their
+ * <code>hashCode()</code>, so {@link #contains(Object)} reads exactly one
+ * slot, compares the hash code stored there and makes at most one
+ * <code>equals</code> call, with no allocation and no chain to follow.
+ * <code>String</code> values cache their hash code, so a lookup that misses
+ * rarely reads the <code>String</code> contents at all.</p>
+ *
+ * <p>If two distinct values share a hash code no perfect hash function can
+ * separate them, and the values are held by {@link Set#copyOf(Collection)}
+ * instead.</p>
+ *
+ * <p>A <code>ValueSet</code> is safe to share between threads.</p>
+ *
+ * @param <T> The value type.
+ *
+ * @see IntValueSet
+ * @see LongValueSet
+ */
+public final class ValueSet<T> {
+
+  private final int size;
+  private final PerfectHash perfectHash;
+  private final Object[] values;
+  private final int[] hashes;
+  private final Set<T> fallback;
+
+  /**
+   * <p>Builds a <code>ValueSet</code> of the specified <b>values</b>.
+   * Duplicate values are ignored.</p>
+   *
+   * @param values The allowed values.
+   * @param <T> The value type.
+   *
+   * @return A new <code>ValueSet</code>. This will never be
+   * <code>null</code>.
+   *
+   * @throws NullPointerException If <b>values</b> is <code>null</code> or
+   * contains <code>null</code>.
+   */
+  public static <T> ValueSet<T> of(final Collection<? extends T> values) {
+
+    final Set<T> distinct = new LinkedHashSet<>(values.size() * 2);
+
+    for (final T value : values) {
+      distinct.add(Objects.requireNonNull(value, "value"));
+    }
+
+    return new ValueSet<>(distinct);
+  }
+
+  /**
+   * <p>Overloads {@link #of(Collection)}.</p>
+   *
+   * @param values The allowed values.
+   * @param <T> The value type.
+   *
+   * @return A new <code>ValueSet</code>. This will never be
+   * <code>null</code>.
+   *
+   * @throws NullPointerException If <b>values</b> is <code>null</code> or
+   * contains <code>null</code>.
+   */
+  @SafeVarargs
+  public static <T> ValueSet<T> of(final T... values) {
+    return of(Arrays.asList(values));
+  }
+
+  private ValueSet(final Set<T> distinct) {
+
+    final Object[] keys = distinct.toArray();
+    final long[] keyHashes = new long[keys.length];
+
+    for (int i = 0; i < keys.length; i++) {
+      keyHashes[i] = keys[i].hashCode();
+    }
+
+    final PerfectHash placed = keys.length == 0 || hasDuplicates(keyHashes)
+        ? null
+        : PerfectHash.of(keyHashes);
+
+    this.size = keys.length;
+    this.perfectHash = placed;
+
+    if (placed == null) {
+      this.values = null;
+      this.hashes = null;
+      this.fallback = Set.copyOf(distinct);
+      return;
+    }
+
+    this.values = new Object[placed.size()];
+    this.hashes = new int[placed.size()];
+    this.fallback = null;
+
+    for (int slot = 0; slot < values.length; slot++) {
+
+      // An empty slot repeats the first value, so every slot can be compared
+      // without a null check and still only matches values in the set.
+      final int index = Math.max(0, placed.indexAt(slot));
+
+      values[slot] = keys[index];
+      hashes[slot] = (int) keyHashes[index];
+    }
+  }
+
+  /**
+   * <p>Tests whether the specified <b>value</b> is in this set.</p>
+   *
+   * @param value The value; <code>null</code> is never in the set.
+   *
+   * @return <code>true</code> if <b>value</b> is in this set.
+   */
+  public boolean contains(final Object value) {
+
+    if (value == null) {
+      return false;
+    }
+
+    if (perfectHash == null) {
+      return fallback.contains(value);
+    }
+
+    final int hash = value.hashCode();
+    final int slot = perfectHash.slot(hash);
+
+    if (hashes[slot] != hash) {
+      return false;
+    }
+
+    final Object candidate = values[slot];
+
+    return candidate == value || candidate.equals(value);
+  }
+
+  /**
+   * <p>Returns the number of distinct values in this set.</p>
+   *
+   * @return The number of values.
+   */
+  public int size() {
+    return size;
+  }
+
+  /**
+   * <p>Returns whether this set is held in a perfect hash table, rather than
+   * falling back to {@link Set#copyOf(Collection)}.</p>
+   *
+   * @return <code>true</code> if lookups read a single slot.
+   */
+  public boolean isPerfect() {
+    return perfectHash != null;
+  }
+
+  private static boolean hasDuplicates(final long[] hashes) {
+
+    final long[] sorted = hashes.clone();
+
+    Arrays.sort(sorted);
+
+    for (int i = 1; i < sorted.length; i++) {
+      if (sorted[i] == sorted[i - 1]) {
+        return true;
+      }
+    }
+
+    return false;
+  }
+
+}
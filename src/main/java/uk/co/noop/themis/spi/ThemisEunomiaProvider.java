@@ -0,0 +1,61 @@
+package uk.co.noop.themis.spi;
+
+import uk.co.noop.themis.eunomia.AbstractEunomia;
+import uk.co.noop.themis.violation.ThemisViolationHandler;
+
+/**
+ * <p>Provides the Eunomia used by {@link
+ * uk.co.noop.themis.Themis#validateAny(String, Object) Themis.validateAny}
+ * and {@link uk.co.noop.themis.Themis#checkAny(String, Object)
+ * Themis.checkAny} for <b>targets</b> of one type.</p>
+ *
+ * <p>Providers are discovered with {@link java.util.ServiceLoader}, by
+ * listing their class names in
+ * <code>META-INF/services/uk.co.noop.themis.spi.ThemisEunomiaProvider</code>,
+ * or registered with {@link uk.co.noop.themis.Themis#register(
+ * ThemisEunomiaProvider) Themis.register}. A provider discovered by the
+ * <code>ServiceLoader</code> must have a public no-argument constructor.</p>
+ *
+ * <p>A <b>target</b> is dispatched to the provider registered for the most
+ * specific of its supertypes, including its interfaces, in the same way that
+ * the compiler chooses between overloads. Providers registered later replace
+ * any provider for the same <b>target</b> type, including the built-in
+ * providers, and win between unrelated types that are equally specific.</p>
+ *
+ * <p>A provider is shared between threads and should be stateless.</p>
+ *
+ * @param <T> The <b>target</b> type.
+ *
+ * @see uk.co.noop.themis.Themis#register(ThemisEunomiaProvider)
+ */
+public interface ThemisEunomiaProvider<T> {
+
+  /**
+   * <p>Returns the type of the <b>targets</b> this provider creates a Eunomia
+   * for; this may be a class, an interface or an array type, but not a
+   * primitive type.</p>
+   *
+   * @return The <b>target</b> type. This should never be <code>null</code>.
+   */
+  Class<T> getTargetType();
+
+  /**
+   * <p>Creates a new Eunomia for the specified <b>target</b>, which is never
+   * <code>null</code> unless this provider is registered for
+   * <code>Object</code>.</p>
+   *
+   * @param targetName The name of the <b>target</b>; this has already been
+   *                   validated against blank values.
+   * @param target The <b>target</b>.
+   * @param violationHandler Handles any violations detected; pass this to the
+   *                         Eunomia so that <code>Themis.checkAny</code>
+   *                         records violations instead of throwing.
+   *
+   * @return A new Eunomia. This should never be <code>null</code>.
+   */
+  AbstractEunomia<?, ?> create(
+      String targetName,
+      T target,
+      ThemisViolationHandler violationHandler);
+
+}
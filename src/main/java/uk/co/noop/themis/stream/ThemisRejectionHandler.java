@@ -0,0 +1,76 @@
+package uk.co.noop.themis.stream;
+
+import uk.co.noop.themis.eunomia.ThemisViolations;
+import uk.co.noop.themis.metrics.ThemisMetrics;
+import uk.co.noop.themis.violation.ThemisResult;
+import uk.co.noop.themis.violation.ThemisViolationHandler;
+
+/**
+ * <p>Decides what happens to an invalid element of a validated stream (See:
+ * {@link ThemisStreams}).</p>
+ *
+ * <p>Returning normally drops the element and the stream carries on; throwing
+ * fails the stream. A handler can also pass the element on somewhere else,
+ * e.g. to a dead letter queue, before returning.</p>
+ *
+ * <p>For example, to send invalid orders to a side channel:</p>
+ *
+ * <p><code>
+ * ThemisStreams.validate(orders, ORDER, (order, result) -&gt;<br>
+ * &nbsp; deadLetters.send(order, result.getViolationType()));
+ * </code></p>
+ *
+ * @param <T> The element type.
+ *
+ * @see ThemisStreams
+ */
+@FunctionalInterface
+public interface ThemisRejectionHandler<T> {
+
+  /**
+   * <p>Handles an invalid <b>element</b>.</p>
+   *
+   * @param element The invalid element.
+   * @param result The <code>ThemisResult</code> describing the first
+   *               violation. This will never be <code>null</code> or valid.
+   *
+   * @throws RuntimeException To fail the stream.
+   */
+  void onRejected(T element, ThemisResult result);
+
+  /**
+   * <p>Returns a <code>ThemisRejectionHandler</code> that fails the stream
+   * with the <code>ThemisTargetException</code> for the violation, raised
+   * through {@link ThemisViolations#raise}.</p>
+   *
+   * @param <T> The element type.
+   *
+   * @return A <code>ThemisRejectionHandler</code>. This will never be
+   * <code>null</code>.
+   */
+  static <T> ThemisRejectionHandler<T> failing() {
+
+    return (element, result) -> ThemisViolations.raise(
+        result.getTargetName(),
+        ThemisMetrics.VALIDATOR_RULE,
+        result.getViolationType(),
+        () -> result.getViolationType().toException(
+            result.getTargetName(),
+            element),
+        ThemisViolationHandler.THROWING);
+  }
+
+  /**
+   * <p>Returns a <code>ThemisRejectionHandler</code> that silently drops
+   * invalid elements.</p>
+   *
+   * @param <T> The element type.
+   *
+   * @return A <code>ThemisRejectionHandler</code>. This will never be
+   * <code>null</code>.
+   */
+  static <T> ThemisRejectionHandler<T> dropping() {
+    return (element, result) -> { };
+  }
+
+}
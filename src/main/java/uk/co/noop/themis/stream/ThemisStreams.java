@@ -0,0 +1,200 @@
+package uk.co.noop.themis.stream;
+
+import uk.co.noop.themis.validator.ThemisValidator;
+import uk.co.noop.themis.violation.ThemisResult;
+
+import java.util.Iterator;
+import java.util.concurrent.Flow;
+import java.util.stream.Stream;
+
+/**
+ * <p>Validates the elements of a {@link Stream}, {@link Iterator} or
+ * {@link Flow.Publisher} lazily, as they are pulled, with a
+ * {@link ThemisValidator}.</p>
+ *
+ * <p>Nothing is buffered beyond the element being validated, so memory use
+ * does not depend on the size of the input. What happens to invalid elements
+ * is decided by a {@link ThemisRejectionHandler}: by default the first
+ * invalid element fails the stream with its
+ * <code>ThemisTargetException</code>.</p>
+ *
+ * <p>For example, to drop invalid lines of a file:</p>
+ *
+ * <p><code>
+ * private static final ThemisValidator&lt;String&gt; LINE =<br>
+ * &nbsp; ThemisValidator.forStrings("line").againstBlankStrings().build();<br>
+ * <br>
+ * try (Stream&lt;String&gt; lines = Files.lines(path)) {<br>
+ * &nbsp; ThemisStreams.validate(lines, LINE, ThemisRejectionHandler.dropping())
+ * <br>
+ * &nbsp; &nbsp; &nbsp; .forEach(this::importLine);<br>
+ * }
+ * </code></p>
+ *
+ * @see ThemisValidator
+ * @see ThemisRejectionHandler
+ */
+public final class ThemisStreams {
+
+  /**
+   * <p>Returns a <code>Stream</code> of the elements of the specified
+   * <b>stream</b>, failing with a <code>ThemisTargetException</code> at the
+   * first invalid element.</p>
+   *
+   * @param stream The <code>Stream</code> to validate.
+   * @param validator The <code>ThemisValidator</code> applied to each
+   *                  element.
+   * @param <T> The element type.
+   *
+   * @return A lazily validated <code>Stream</code>. This will never be
+   * <code>null</code>.
+   *
+   * @see #validate(Stream, ThemisValidator, ThemisRejectionHandler)
+   */
+  public static <T> Stream<T> validate(
+      final Stream<T> stream,
+      final ThemisValidator<? super T> validator) {
+
+    return validate(stream, validator, ThemisRejectionHandler.failing());
+  }
+
+  /**
+   * <p>Returns a <code>Stream</code> of the valid elements of the specified
+   * <b>stream</b>, passing invalid elements to the specified
+   * <b>rejectionHandler</b>.</p>
+   *
+   * <p>If the returned <code>Stream</code> is parallel, the
+   * <b>rejectionHandler</b> must be thread-safe.</p>
+   *
+   * @param stream The <code>Stream</code> to validate.
+   * @param validator The <code>ThemisValidator</code> applied to each
+   *                  element.
+   * @param rejectionHandler Handles each invalid element.
+   * @param <T> The element type.
+   *
+   * @return A lazily validated <code>Stream</code>. This will never be
+   * <code>null</code>.
+   */
+  public static <T> Stream<T> validate(
+      final Stream<T> stream,
+      final ThemisValidator<? super T> validator,
+      final ThemisRejectionHandler<? super T> rejectionHandler) {
+
+    return stream.filter(element -> {
+
+      final ThemisResult result = validator.check(element);
+
+      if (result.isValid()) {
+        return true;
+      }
+
+      rejectionHandler.onRejected(element, result);
+
+      return false;
+    });
+  }
+
+  /**
+   * <p>Returns an <code>Iterator</code> over the elements of the specified
+   * <b>iterator</b>, failing with a <code>ThemisTargetException</code> at the
+   * first invalid element.</p>
+   *
+   * @param iterator The <code>Iterator</code> to validate.
+   * @param validator The <code>ThemisValidator</code> applied to each
+   *                  element.
+   * @param <T> The element type.
+   *
+   * @return A lazily validated <code>Iterator</code>. This will never be
+   * <code>null</code>.
+   *
+   * @see #validate(Iterator, ThemisValidator, ThemisRejectionHandler)
+   */
+  public static <T> Iterator<T> validate(
+      final Iterator<? extends T> iterator,
+      final ThemisValidator<? super T> validator) {
+
+    return validate(iterator, validator, ThemisRejectionHandler.failing());
+  }
+
+  /**
+   * <p>Returns an <code>Iterator</code> over the valid elements of the
+   * specified <b>iterator</b>, passing invalid elements to the specified
+   * <b>rejectionHandler</b>.</p>
+   *
+   * <p>The returned <code>Iterator</code> reads at most one element ahead of
+   * the caller, in <code>hasNext()</code>, and does not support
+   * <code>remove()</code>.</p>
+   *
+   * @param iterator The <code>Iterator</code> to validate.
+   * @param validator The <code>ThemisValidator</code> applied to each
+   *                  element.
+   * @param rejectionHandler Handles each invalid element.
+   * @param <T> The element type.
+   *
+   * @return A lazily validated <code>Iterator</code>. This will never be
+   * <code>null</code>.
+   */
+  public static <T> Iterator<T> validate(
+      final Iterator<? extends T> iterator,
+      final ThemisValidator<? super T> validator,
+      final ThemisRejectionHandler<? super T> rejectionHandler) {
+
+    return new ValidatingIterator<>(iterator, validator, rejectionHandler);
+  }
+
+  /**
+   * <p>Returns a <code>Flow.Publisher</code> of the elements of the specified
+   * <b>publisher</b>, failing each subscriber with a
+   * <code>ThemisTargetException</code> at the first invalid element.</p>
+   *
+   * @param publisher The <code>Flow.Publisher</code> to validate.
+   * @param validator The <code>ThemisValidator</code> applied to each
+   *                  element.
+   * @param <T> The element type.
+   *
+   * @return A validating <code>Flow.Publisher</code>. This will never be
+   * <code>null</code>.
+   *
+   * @see #validate(Flow.Publisher, ThemisValidator, ThemisRejectionHandler)
+   */
+  public static <T> Flow.Publisher<T> validate(
+      final Flow.Publisher<? extends T> publisher,
+      final ThemisValidator<? super T> validator) {
+
+    return validate(publisher, validator, ThemisRejectionHandler.failing());
+  }
+
+  /**
+   * <p>Returns a <code>Flow.Publisher</code> of the valid elements of the
+   * specified <b>publisher</b>, passing invalid elements to the specified
+   * <b>rejectionHandler</b>.</p>
+   *
+   * <p>Backpressure is preserved: subscriber demand is passed upstream
+   * unchanged and each rejected element is replaced by requesting one more
+   * element from upstream. If the <b>rejectionHandler</b> throws, upstream is
+   * cancelled and the subscriber receives the exception in
+   * <code>onError</code>.</p>
+   *
+   * @param publisher The <code>Flow.Publisher</code> to validate.
+   * @param validator The <code>ThemisValidator</code> applied to each
+   *                  element.
+   * @param rejectionHandler Handles each invalid element.
+   * @param <T> The element type.
+   *
+   * @return A validating <code>Flow.Publisher</code>. This will never be
+   * <code>null</code>.
+   */
+  public static <T> Flow.Publisher<T> validate(
+      final Flow.Publisher<? extends T> publisher,
+      final ThemisValidator<? super T> validator,
+      final ThemisRejectionHandler<? super T> rejectionHandler) {
+
+    return subscriber -> publisher.subscribe(
+        new ValidatingSubscriber<>(subscriber, validator, rejectionHandler));
+  }
+
+  private ThemisStreams() {
+    super();
+  }
+
+}
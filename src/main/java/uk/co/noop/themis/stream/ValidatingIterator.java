@@ -0,0 +1,69 @@
+package uk.co.noop.themis.stream;
+
+import uk.co.noop.themis.validator.ThemisValidator;
+import uk.co.noop.themis.violation.ThemisResult;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * <p>An {@link Iterator} over the valid elements of another
+ * <code>Iterator</code>, pulling at most one element ahead.</p>
+ *
+ * @param <T> The element type.
+ */
+final class ValidatingIterator<T> implements Iterator<T> {
+
+  private final Iterator<? extends T> source;
+  private final ThemisValidator<? super T> validator;
+  private final ThemisRejectionHandler<? super T> rejectionHandler;
+
+  private T next;
+  private boolean ready;
+
+  ValidatingIterator(
+      final Iterator<? extends T> source,
+      final ThemisValidator<? super T> validator,
+      final ThemisRejectionHandler<? super T> rejectionHandler) {
+
+    super();
+    this.source = source;
+    this.validator = validator;
+    this.rejectionHandler = rejectionHandler;
+  }
+
+  @Override
+  public boolean hasNext() {
+
+    while (!ready && source.hasNext()) {
+
+      final T element = source.next();
+      final ThemisResult result = validator.check(element);
+
+      if (result.isValid()) {
+        next = element;
+        ready = true;
+      } else {
+        rejectionHandler.onRejected(element, result);
+      }
+    }
+
+    return ready;
+  }
+
+  @Override
+  public T next() {
+
+    if (!hasNext()) {
+      throw new NoSuchElementException();
+    }
+
+    final T element = next;
+
+    next = null;
+    ready = false;
+
+    return element;
+  }
+
+}
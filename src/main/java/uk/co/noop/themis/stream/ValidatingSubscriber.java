@@ -0,0 +1,123 @@
+package uk.co.noop.themis.stream;
+
+import uk.co.noop.themis.validator.ThemisValidator;
+import uk.co.noop.themis.violation.ThemisResult;
+
+import java.util.Objects;
+import java.util.concurrent.Flow;
+
+/**
+ * <p>Sits between an upstream {@link Flow.Publisher} and a downstream
+ * {@link Flow.Subscriber}, passing on valid elements only.</p>
+ *
+ * <p>Downstream demand is passed upstream unchanged. Each dropped element is
+ * replaced by requesting one more from upstream, so downstream receives no
+ * more than it requested and the outstanding demand never grows. If the
+ * {@link ThemisRejectionHandler} throws, upstream is cancelled and the
+ * exception is passed downstream with <code>onError</code>.</p>
+ *
+ * <p>A second subscription is cancelled, as the Reactive Streams rules
+ * require, and once downstream cancels, items already in flight are dropped
+ * rather than passed on.</p>
+ *
+ * @param <T> The element type.
+ */
+final class ValidatingSubscriber<T>
+    implements Flow.Subscriber<T>, Flow.Subscription {
+
+  private final Flow.Subscriber<? super T> downstream;
+  private final ThemisValidator<? super T> validator;
+  private final ThemisRejectionHandler<? super T> rejectionHandler;
+
+  private Flow.Subscription upstream;
+  private volatile boolean done;
+
+  ValidatingSubscriber(
+      final Flow.Subscriber<? super T> downstream,
+      final ThemisValidator<? super T> validator,
+      final ThemisRejectionHandler<? super T> rejectionHandler) {
+
+    super();
+    this.downstream = downstream;
+    this.validator = validator;
+    this.rejectionHandler = rejectionHandler;
+  }
+
+  @Override
+  public void onSubscribe(final Flow.Subscription subscription) {
+
+    Objects.requireNonNull(subscription, "subscription");
+
+    if (upstream != null) {
+      subscription.cancel();
+      return;
+    }
+
+    upstream = subscription;
+    downstream.onSubscribe(this);
+  }
+
+  @Override
+  public void onNext(final T item) {
+
+    if (done) {
+      return;
+    }
+
+    final ThemisResult result;
+
+    try {
+
+      result = validator.check(item);
+
+      if (result.isInvalid()) {
+        rejectionHandler.onRejected(item, result);
+      }
+
+    } catch (final RuntimeException e) {
+
+      done = true;
+      upstream.cancel();
+      downstream.onError(e);
+
+      return;
+    }
+
+    if (result.isValid()) {
+      downstream.onNext(item);
+    } else {
+      upstream.request(1);
+    }
+  }
+
+  @Override
+  public void onError(final Throwable throwable) {
+
+    if (!done) {
+      done = true;
+      downstream.onError(throwable);
+    }
+  }
+
+  @Override
+  public void onComplete() {
+
+    if (!done) {
+      done = true;
+      downstream.onComplete();
+    }
+  }
+
+  @Override
+  public void request(final long n) {
+    upstream.request(n);
+  }
+
+  @Override
+  public void cancel() {
+
+    done = true;
+    upstream.cancel();
+  }
+
+}
@@ -0,0 +1,80 @@
+package uk.co.noop.themis.validator;
+
+import uk.co.noop.themis.rule.ThemisRule;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * <p>Builds a {@link ThemisValidator} from a chain of {@link ThemisRule}
+ * instances, in the same way a Eunomia validates a single <b>target</b>.</p>
+ *
+ * <p>A builder is not thread-safe, but the <code>ThemisValidator</code> it
+ * builds is.</p>
+ *
+ * @param <T> the <b>target</b> type.
+ * @param <B> the builder type, i.e. the sub-class type.
+ *
+ * @see ThemisValidator
+ */
+public abstract class AbstractValidatorBuilder<
+    T, B extends AbstractValidatorBuilder<T, B>> {
+
+  private final String targetName;
+  private final List<ThemisRule<? super T>> rules = new ArrayList<>();
+
+  /**
+   * <p>Creates a new instance of <code>AbstractValidatorBuilder</code> for the
+   * specified <b>targetName</b>.</p>
+   *
+   * @param targetName The <b>target</b> name; this should not be
+   *                   <code>null</code>, empty or contain only whitespace
+   *                   characters but this is not validated.
+   */
+  protected AbstractValidatorBuilder(final String targetName) {
+    super();
+    this.targetName = targetName;
+  }
+
+  /**
+   * <p>Adds the specified {@link ThemisRule} to the chain.</p>
+   *
+   * @param rule The <code>ThemisRule</code>; this should be stateless.
+   *
+   * @return <code>this</code> builder. This will never be <code>null</code>.
+   */
+  public B againstRule(final ThemisRule<? super T> rule) {
+
+    rules.add(rule);
+
+    return getBuilder();
+  }
+
+  /**
+   * <p>Builds an immutable {@link ThemisValidator} from the chain so
+   * far.</p>
+   *
+   * @return A new <code>ThemisValidator</code>. This will never be
+   * <code>null</code>.
+   */
+  public ThemisValidator<T> build() {
+    return new ThemisValidator<>(targetName, rules);
+  }
+
+  /**
+   * <p>Returns the rules added so far, in order.</p>
+   *
+   * @return The rules added so far.
+   */
+  protected List<ThemisRule<? super T>> getRules() {
+    return rules;
+  }
+
+  /**
+   * <p>Returns <code>this</code> builder.</p>
+   *
+   * @return <code>this</code> builder.
+   */
+  protected abstract B getBuilder();
+
+}
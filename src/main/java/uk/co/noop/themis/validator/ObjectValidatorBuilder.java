@@ -0,0 +1,81 @@
+package uk.co.noop.themis.validator;
+
+import uk.co.noop.themis.rule.ObjectRules;
+import uk.co.noop.themis.rule.ValueSet;
+
+import java.util.function.Predicate;
+
+/**
+ * <p>Builds a {@link ThemisValidator} for <b>target</b> <code>Object</code>
+ * values from the same rules as {@link
+ * uk.co.noop.themis.eunomia.ObjectEunomia ObjectEunomia}.</p>
+ *
+ * @see ThemisValidator#forObjects(String)
+ * @see ObjectRules
+ */
+public class ObjectValidatorBuilder
+    extends AbstractValidatorBuilder<Object, ObjectValidatorBuilder> {
+
+  ObjectValidatorBuilder(final String targetName) {
+    super(targetName);
+  }
+
+  /**
+   * <p>Adds the rule against <code>null</code> <b>target</b> values.</p>
+   *
+   * @return <code>this</code> builder. This will never be <code>null</code>.
+   *
+   * @see uk.co.noop.themis.eunomia.ObjectEunomia#againstNullObjects()
+   */
+  public ObjectValidatorBuilder againstNullObjects() {
+    return againstRule(ObjectRules.againstNullObjects());
+  }
+
+  /**
+   * <p>Adds a rule against <b>target</b> values that are not in the
+   * specified {@link ValueSet}.</p>
+   *
+   * @param allowed The allowed values.
+   *
+   * @return <code>this</code> builder. This will never be <code>null</code>.
+   *
+   * @see uk.co.noop.themis.eunomia.ObjectEunomia#againstValuesNotIn(
+   * ValueSet)
+   */
+  public ObjectValidatorBuilder againstValuesNotIn(
+      final ValueSet<?> allowed) {
+
+    return againstRule(ObjectRules.againstValuesNotIn(allowed));
+  }
+
+  /**
+   * <p>Adds a rule against invalid <b>target</b> values using the specified
+   * {@link Predicate}.</p>
+   *
+   * @param predicate The <code>Predicate</code> used to test the
+   *                  <b>target</b> <code>Object</code>. Returns
+   *                  <code>true</code> if the <b>target</b> <code>Object</code>
+   *                  is invalid. This should be stateless.
+   *
+   * @return <code>this</code> builder. This will never be <code>null</code>.
+   *
+   * @see uk.co.noop.themis.eunomia.ObjectEunomia#againstInvalidObjects(
+   * Predicate)
+   */
+  public ObjectValidatorBuilder againstInvalidObjects(
+      final Predicate<Object> predicate) {
+
+    return againstRule(ObjectRules.againstInvalidObjects(predicate));
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @return <code>this</code> <code>ObjectValidatorBuilder</code>.
+   */
+  @Override
+  protected ObjectValidatorBuilder getBuilder() {
+    return this;
+  }
+
+}
@@ -0,0 +1,377 @@
+package uk.co.noop.themis.validator;
+
+import uk.co.noop.themis.rule.CharacterSet;
+import uk.co.noop.themis.rule.FormatRules;
+import uk.co.noop.themis.rule.FusedStringRule;
+import uk.co.noop.themis.rule.StringRules;
+import uk.co.noop.themis.rule.ThemisRule;
+import uk.co.noop.themis.rule.ValueSet;
+
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+
+/**
+ * <p>Builds a {@link ThemisValidator} for <b>target</b> <code>String</code>
+ * values from the same rules as {@link
+ * uk.co.noop.themis.eunomia.StringEunomia StringEunomia}.</p>
+ *
+ * <p>Consecutive character-level rules (<code>null</code>, empty, blank,
+ * length bounds and allowed, non-ASCII or control characters) are merged
+ * into a single {@link FusedStringRule}, so they scan the <b>target</b> at
+ * most once.</p>
+ *
+ * @see ThemisValidator#forStrings(String)
+ * @see StringRules
+ */
+public class StringValidatorBuilder
+    extends AbstractValidatorBuilder<String, StringValidatorBuilder> {
+
+  private FusedStringRule.Builder fused;
+
+  StringValidatorBuilder(final String targetName) {
+    super(targetName);
+  }
+
+  /**
+   * <p>Adds the rule against <code>null</code> <b>target</b> values.</p>
+   *
+   * @return <code>this</code> builder. This will never be <code>null</code>.
+   *
+   * @see uk.co.noop.themis.eunomia.StringEunomia#againstNullStrings()
+   */
+  public StringValidatorBuilder againstNullStrings() {
+
+    fused().againstNullStrings();
+
+    return this;
+  }
+
+  /**
+   * <p>Adds the rule against empty <b>target</b> values.</p>
+   *
+   * @return <code>this</code> builder. This will never be <code>null</code>.
+   *
+   * @see uk.co.noop.themis.eunomia.StringEunomia#againstEmptyStrings()
+   */
+  public StringValidatorBuilder againstEmptyStrings() {
+
+    fused().againstEmptyStrings();
+
+    return this;
+  }
+
+  /**
+   * <p>Adds the rule against blank <b>target</b> values.</p>
+   *
+   * @return <code>this</code> builder. This will never be <code>null</code>.
+   *
+   * @see uk.co.noop.themis.eunomia.StringEunomia#againstBlankStrings()
+   */
+  public StringValidatorBuilder againstBlankStrings() {
+
+    fused().againstBlankStrings();
+
+    return this;
+  }
+
+  /**
+   * <p>Adds the rule against <b>target</b> values longer than the specified
+   * <b>maxLength</b>.</p>
+   *
+   * @param maxLength The maximum length, in <code>char</code> values.
+   *
+   * @return <code>this</code> builder. This will never be <code>null</code>.
+   *
+   * @see uk.co.noop.themis.eunomia.StringEunomia#againstLongStrings(int)
+   */
+  public StringValidatorBuilder againstLongStrings(final int maxLength) {
+
+    fused().againstLongStrings(maxLength);
+
+    return this;
+  }
+
+  /**
+   * <p>Adds the rule against <b>target</b> values shorter than the specified
+   * <b>minLength</b>.</p>
+   *
+   * @param minLength The minimum length, in <code>char</code> values.
+   *
+   * @return <code>this</code> builder. This will never be <code>null</code>.
+   *
+   * @see uk.co.noop.themis.eunomia.StringEunomia#againstShortStrings(int)
+   */
+  public StringValidatorBuilder againstShortStrings(final int minLength) {
+
+    fused().againstShortStrings(minLength);
+
+    return this;
+  }
+
+  /**
+   * <p>Adds the rule against <b>target</b> values containing any
+   * <code>char</code> outside the specified {@link CharacterSet}.</p>
+   *
+   * @param allowed The allowed characters.
+   *
+   * @return <code>this</code> builder. This will never be <code>null</code>.
+   *
+   * @see uk.co.noop.themis.eunomia.StringEunomia#againstCharactersOutside(
+   * CharacterSet)
+   */
+  public StringValidatorBuilder againstCharactersOutside(
+      final CharacterSet allowed) {
+
+    fused().againstCharactersOutside(allowed);
+
+    return this;
+  }
+
+  /**
+   * <p>Adds the rule against <b>target</b> values containing any non-ASCII
+   * <code>char</code>.</p>
+   *
+   * @return <code>this</code> builder. This will never be <code>null</code>.
+   *
+   * @see uk.co.noop.themis.eunomia.StringEunomia#againstNonAsciiCharacters()
+   */
+  public StringValidatorBuilder againstNonAsciiCharacters() {
+
+    fused().againstNonAsciiCharacters();
+
+    return this;
+  }
+
+  /**
+   * <p>Adds the rule against <b>target</b> values containing any ISO control
+   * <code>char</code>.</p>
+   *
+   * @return <code>this</code> builder. This will never be <code>null</code>.
+   *
+   * @see uk.co.noop.themis.eunomia.StringEunomia#againstControlCharacters()
+   */
+  public StringValidatorBuilder againstControlCharacters() {
+
+    fused().againstControlCharacters();
+
+    return this;
+  }
+
+  /**
+   * <p>Adds the rule against <b>target</b> values that are not UUIDs.</p>
+   *
+   * @return <code>this</code> builder. This will never be <code>null</code>.
+   *
+   * @see uk.co.noop.themis.eunomia.StringEunomia#againstNonUuids()
+   */
+  public StringValidatorBuilder againstNonUuids() {
+    return againstRule(FormatRules.againstNonUuids());
+  }
+
+  /**
+   * <p>Adds the rule against <b>target</b> values that are not email
+   * addresses.</p>
+   *
+   * @return <code>this</code> builder. This will never be <code>null</code>.
+   *
+   * @see uk.co.noop.themis.eunomia.StringEunomia#againstNonEmails()
+   */
+  public StringValidatorBuilder againstNonEmails() {
+    return againstRule(FormatRules.againstNonEmails());
+  }
+
+  /**
+   * <p>Adds the rule against <b>target</b> values that are not ISO-8601
+   * dates.</p>
+   *
+   * @return <code>this</code> builder. This will never be <code>null</code>.
+   *
+   * @see uk.co.noop.themis.eunomia.StringEunomia#againstNonIsoDates()
+   */
+  public StringValidatorBuilder againstNonIsoDates() {
+    return againstRule(FormatRules.againstNonIsoDates());
+  }
+
+  /**
+   * <p>Adds the rule against <b>target</b> values that are not ISO-8601
+   * timestamps.</p>
+   *
+   * @return <code>this</code> builder. This will never be <code>null</code>.
+   *
+   * @see uk.co.noop.themis.eunomia.StringEunomia#againstNonIsoDateTimes()
+   */
+  public StringValidatorBuilder againstNonIsoDateTimes() {
+    return againstRule(FormatRules.againstNonIsoDateTimes());
+  }
+
+  /**
+   * <p>Adds the rule against <b>target</b> values that are not IPv4
+   * addresses.</p>
+   *
+   * @return <code>this</code> builder. This will never be <code>null</code>.
+   *
+   * @see uk.co.noop.themis.eunomia.StringEunomia#againstNonIpv4Addresses()
+   */
+  public StringValidatorBuilder againstNonIpv4Addresses() {
+    return againstRule(FormatRules.againstNonIpv4Addresses());
+  }
+
+  /**
+   * <p>Adds the rule against <b>target</b> values that are not IPv6
+   * addresses.</p>
+   *
+   * @return <code>this</code> builder. This will never be <code>null</code>.
+   *
+   * @see uk.co.noop.themis.eunomia.StringEunomia#againstNonIpv6Addresses()
+   */
+  public StringValidatorBuilder againstNonIpv6Addresses() {
+    return againstRule(FormatRules.againstNonIpv6Addresses());
+  }
+
+  /**
+   * <p>Adds the rule against <b>target</b> values that are empty or not
+   * hexadecimal.</p>
+   *
+   * @return <code>this</code> builder. This will never be <code>null</code>.
+   *
+   * @see uk.co.noop.themis.eunomia.StringEunomia#againstNonHexStrings()
+   */
+  public StringValidatorBuilder againstNonHexStrings() {
+    return againstRule(FormatRules.againstNonHexStrings());
+  }
+
+  /**
+   * <p>Adds the rule against <b>target</b> values that are empty or not
+   * Base64.</p>
+   *
+   * @return <code>this</code> builder. This will never be <code>null</code>.
+   *
+   * @see uk.co.noop.themis.eunomia.StringEunomia#againstNonBase64Strings()
+   */
+  public StringValidatorBuilder againstNonBase64Strings() {
+    return againstRule(FormatRules.againstNonBase64Strings());
+  }
+
+  /**
+   * <p>Adds a rule against <b>target</b> values that do not match the whole
+   * of the specified {@link Pattern}.</p>
+   *
+   * @param pattern The <code>Pattern</code>.
+   *
+   * @return <code>this</code> builder. This will never be <code>null</code>.
+   *
+   * @see uk.co.noop.themis.eunomia.StringEunomia#againstNonMatching(Pattern)
+   */
+  public StringValidatorBuilder againstNonMatching(final Pattern pattern) {
+    return againstRule(FormatRules.againstNonMatching(pattern));
+  }
+
+  /**
+   * <p>Adds a rule against <b>target</b> values that do not match the whole
+   * of the specified <b>regex</b>, compiled through the shared cache (See:
+   * {@link FormatRules#pattern(String)}).</p>
+   *
+   * @param regex The regular expression.
+   *
+   * @return <code>this</code> builder. This will never be <code>null</code>.
+   *
+   * @throws java.util.regex.PatternSyntaxException If <b>regex</b> is
+   * invalid.
+   *
+   * @see uk.co.noop.themis.eunomia.StringEunomia#againstNonMatching(String)
+   */
+  public StringValidatorBuilder againstNonMatching(final String regex) {
+    return againstRule(FormatRules.againstNonMatching(regex));
+  }
+
+  /**
+   * <p>Adds a rule against <b>target</b> values that are not in the
+   * specified {@link ValueSet}.</p>
+   *
+   * @param allowed The allowed values.
+   *
+   * @return <code>this</code> builder. This will never be <code>null</code>.
+   *
+   * @see uk.co.noop.themis.eunomia.StringEunomia#againstValuesNotIn(
+   * ValueSet)
+   */
+  public StringValidatorBuilder againstValuesNotIn(
+      final ValueSet<String> allowed) {
+
+    return againstRule(StringRules.againstValuesNotIn(allowed));
+  }
+
+  /**
+   * <p>Adds a rule against invalid <b>target</b> values using the specified
+   * {@link Predicate}.</p>
+   *
+   * @param predicate The <code>Predicate</code> used to test the
+   *                  <b>target</b> <code>String</code>. Returns
+   *                  <code>true</code> if the <b>target</b> <code>String</code>
+   *                  is invalid. This should be stateless.
+   *
+   * @return <code>this</code> builder. This will never be <code>null</code>.
+   *
+   * @see uk.co.noop.themis.eunomia.StringEunomia#againstInvalidStrings(
+   * Predicate)
+   */
+  public StringValidatorBuilder againstInvalidStrings(
+      final Predicate<String> predicate) {
+
+    return againstRule(StringRules.againstInvalidStrings(predicate));
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public StringValidatorBuilder againstRule(
+      final ThemisRule<? super String> rule) {
+
+    flush();
+
+    return super.againstRule(rule);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public ThemisValidator<String> build() {
+
+    flush();
+
+    return super.build();
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @return <code>this</code> <code>StringValidatorBuilder</code>.
+   */
+  @Override
+  protected StringValidatorBuilder getBuilder() {
+    return this;
+  }
+
+  private FusedStringRule.Builder fused() {
+
+    if (fused == null) {
+      fused = StringRules.fuse();
+    }
+
+    return fused;
+  }
+
+  private void flush() {
+
+    if (fused != null) {
+
+      final ThemisRule<String> rule = fused.build();
+
+      fused = null;
+      super.againstRule(rule);
+    }
+  }
+
+}
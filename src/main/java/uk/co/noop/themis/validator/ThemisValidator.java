@@ -0,0 +1,250 @@
+package uk.co.noop.themis.validator;
+
+import uk.co.noop.themis.eunomia.ThemisViolations;
+import uk.co.noop.themis.metrics.ThemisMetrics;
+import uk.co.noop.themis.rule.StringRules;
+import uk.co.noop.themis.rule.ThemisRule;
+import uk.co.noop.themis.violation.ThemisResult;
+import uk.co.noop.themis.violation.ThemisViolationHandler;
+import uk.co.noop.themis.violation.ThemisViolationType;
+
+import java.util.List;
+
+/**
+ * <p>An immutable, precompiled chain of {@link ThemisRule} instances for a
+ * named <b>target</b>, built once and applied to any number of
+ * <b>targets</b>.</p>
+ *
+ * <p>The <b>targetName</b> is validated when the plan is built, so applying it
+ * involves no per-call setup: no Eunomia is created and nothing is allocated
+ * unless a <b>target</b> is invalid. A <code>ThemisValidator</code> is
+ * thread-safe, provided its rules are, and is intended to be held as a
+ * <code>static final</code> field:</p>
+ *
+ * <p><code>
+ * private static final ThemisValidator&lt;String&gt; ID =<br>
+ * &nbsp; ThemisValidator.forStrings("id")<br>
+ * &nbsp; &nbsp; .againstBlankStrings()<br>
+ * &nbsp; &nbsp; .againstLongStrings(64)<br>
+ * &nbsp; &nbsp; .againstInvalidStrings(id -&gt; !id.startsWith("ID-"))<br>
+ * &nbsp; &nbsp; .build();<br>
+ * <br>
+ * public void setId(final String id) {<br>
+ * &nbsp; this.id = ID.validate(id);<br>
+ * }
+ * </code></p>
+ *
+ * <p>A <code>ThemisValidator</code> is itself a <code>ThemisRule</code>, so
+ * plans can be composed.</p>
+ *
+ * @param <T> The <b>target</b> type.
+ *
+ * @see StringValidatorBuilder
+ * @see ObjectValidatorBuilder
+ */
+public final class ThemisValidator<T> implements ThemisRule<T> {
+
+  private final String targetName;
+  private final ThemisRule<? super T>[] rules;
+
+  ThemisValidator(
+      final String targetName,
+      final List<ThemisRule<? super T>> rules) {
+
+    super();
+    this.targetName = targetName;
+    this.rules = toArray(rules);
+  }
+
+  /**
+   * <p>Creates a new {@link StringValidatorBuilder} to build a
+   * <code>ThemisValidator</code> for the named <b>target</b>
+   * <code>String</code>.</p>
+   *
+   * @param targetName The name of the <b>target</b> <code>String</code>.
+   *
+   * @return A new <code>StringValidatorBuilder</code>. This will never be
+   * <code>null</code>.
+   *
+   * @throws uk.co.noop.themis.exception.ThemisTargetException Extensions of
+   * <code>ThemisTargetException</code> will be thrown for an invalid
+   * <b>targetName</b>.
+   */
+  public static StringValidatorBuilder forStrings(final String targetName) {
+
+    return new StringValidatorBuilder(
+        StringRules.validateTargetName(targetName));
+  }
+
+  /**
+   * <p>Creates a new {@link ObjectValidatorBuilder} to build a
+   * <code>ThemisValidator</code> for the named <b>target</b>
+   * <code>Object</code>.</p>
+   *
+   * @param targetName The name of the <b>target</b> <code>Object</code>.
+   *
+   * @return A new <code>ObjectValidatorBuilder</code>. This will never be
+   * <code>null</code>.
+   *
+   * @throws uk.co.noop.themis.exception.ThemisTargetException Extensions of
+   * <code>ThemisTargetException</code> will be thrown for an invalid
+   * <b>targetName</b>.
+   */
+  public static ObjectValidatorBuilder forObjects(final String targetName) {
+
+    return new ObjectValidatorBuilder(
+        StringRules.validateTargetName(targetName));
+  }
+
+  /**
+   * <p>Returns the name of the <b>target</b> validated by <code>this</code>
+   * plan.</p>
+   *
+   * @return The name of the <b>target</b>. This will never be
+   * <code>null</code>.
+   */
+  public String getTargetName() {
+    return targetName;
+  }
+
+  /**
+   * <p>Tests the specified <b>target</b> against each rule in turn, stopping
+   * at the first violation.</p>
+   *
+   * @param target The <b>target</b>; this may be <code>null</code>.
+   *
+   * @return The kind of violation detected or <code>null</code> if the
+   * <b>target</b> is valid.
+   */
+  @Override
+  public ThemisViolationType test(final T target) {
+
+    for (final ThemisRule<? super T> rule : rules) {
+
+      final ThemisViolationType violationType = rule.test(target);
+
+      if (violationType != null) {
+        return violationType;
+      }
+    }
+
+    return null;
+  }
+
+  /**
+   * <p>Validates the specified <b>target</b>.</p>
+   *
+   * @param target The <b>target</b>.
+   *
+   * @return The <b>target</b>, which is valid.
+   *
+   * @throws uk.co.noop.themis.exception.ThemisTargetException Extensions of
+   * <code>ThemisTargetException</code> will be thrown for the first
+   * violation.
+   */
+  public T validate(final T target) {
+
+    final ThemisViolationType violationType = testRecorded(target);
+
+    if (violationType != null) {
+      raise(target, violationType, ThemisViolationHandler.THROWING);
+    }
+
+    return target;
+  }
+
+  /**
+   * <p>Checks the specified <b>target</b> without throwing.</p>
+   *
+   * @param target The <b>target</b>.
+   *
+   * @return A {@link ThemisResult} describing the first violation, or the
+   * shared valid <code>ThemisResult</code>. This will never be
+   * <code>null</code>.
+   */
+  public ThemisResult check(final T target) {
+
+    final ThemisViolationType violationType = testRecorded(target);
+
+    return violationType == null
+        ? ThemisResult.valid()
+        : ThemisResult.invalid(targetName, violationType);
+  }
+
+  /**
+   * <p>Validates the specified <b>target</b>, passing the first violation, if
+   * any, to the specified {@link ThemisViolationHandler}, e.g. a {@link
+   * uk.co.noop.themis.ThemisCollector ThemisCollector}.</p>
+   *
+   * @param target The <b>target</b>.
+   * @param violationHandler Handles the first violation, if any.
+   *
+   * @return A {@link ThemisResult} describing the first violation, or the
+   * shared valid <code>ThemisResult</code>, if the
+   * <code>ThemisViolationHandler</code> does not throw. This will never be
+   * <code>null</code>.
+   */
+  public ThemisResult validate(
+      final T target,
+      final ThemisViolationHandler violationHandler) {
+
+    final ThemisViolationType violationType = testRecorded(target);
+
+    if (violationType == null) {
+      return ThemisResult.valid();
+    }
+
+    raise(target, violationType, violationHandler);
+
+    return ThemisResult.invalid(targetName, violationType);
+  }
+
+  /**
+   * <p>Tests the <b>target</b> as {@link #test(Object)} does, recording the
+   * check under {@link ThemisMetrics#VALIDATOR_RULE} while
+   * <code>ThemisMetrics</code> are enabled. A plan composed into another, or
+   * applied by a Eunomia, is recorded by its user instead.</p>
+   */
+  private ThemisViolationType testRecorded(final T target) {
+
+    if (!ThemisMetrics.isEnabled()) {
+      return test(target);
+    }
+
+    final long start = ThemisMetrics.startSample();
+    final ThemisViolationType violationType = test(target);
+
+    ThemisMetrics.record(
+        targetName,
+        ThemisMetrics.VALIDATOR_RULE,
+        violationType != null,
+        ThemisMetrics.latencySince(start));
+
+    return violationType;
+  }
+
+  private void raise(
+      final T target,
+      final ThemisViolationType violationType,
+      final ThemisViolationHandler violationHandler) {
+
+    ThemisViolations.raise(
+        targetName,
+        ThemisMetrics.VALIDATOR_RULE,
+        violationType,
+        () -> violationType.toException(targetName, target),
+        violationHandler);
+  }
+
+  /**
+   * <p>Copies the <b>rules</b> to an array, which cannot be created with its
+   * generic type; the array is only ever read as that type.</p>
+   */
+  @SuppressWarnings({"rawtypes", "unchecked"})
+  private static <T> ThemisRule<? super T>[] toArray(
+      final List<ThemisRule<? super T>> rules) {
+
+    return rules.toArray(new ThemisRule[0]);
+  }
+
+}
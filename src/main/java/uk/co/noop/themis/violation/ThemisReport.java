@@ -0,0 +1,157 @@
+package uk.co.noop.themis.violation;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * <p>An immutable report of every violation collected by a {@link
+ * uk.co.noop.themis.ThemisCollector ThemisCollector}, in the order they were
+ * detected.</p>
+ *
+ * <p>Every valid report is the same shared instance.</p>
+ *
+ * @see uk.co.noop.themis.ThemisCollector
+ * @see ThemisResult
+ */
+public final class ThemisReport {
+
+  private static final ThemisReport VALID =
+      new ThemisReport(new String[0], new ThemisViolationType[0], 0);
+
+  private final String[] targetNames;
+  private final ThemisViolationType[] violationTypes;
+  private final int size;
+
+  private ThemisReport(
+      final String[] targetNames,
+      final ThemisViolationType[] violationTypes,
+      final int size) {
+
+    super();
+    this.targetNames = targetNames;
+    this.violationTypes = violationTypes;
+    this.size = size;
+  }
+
+  /**
+   * <p>Returns the shared valid <code>ThemisReport</code>.</p>
+   *
+   * @return The shared valid <code>ThemisReport</code>. This will never be
+   * <code>null</code>.
+   */
+  public static ThemisReport valid() {
+    return VALID;
+  }
+
+  /**
+   * <p>Creates a new <code>ThemisReport</code> from the first <b>size</b>
+   * elements of the specified parallel arrays, which are copied.</p>
+   *
+   * @param targetNames The names of the invalid <b>targets</b>.
+   * @param violationTypes The kinds of violation.
+   * @param size The number of violations.
+   *
+   * @return A new <code>ThemisReport</code>, or the shared valid
+   * <code>ThemisReport</code> if <b>size</b> is <code>0</code>. This will
+   * never be <code>null</code>.
+   */
+  public static ThemisReport of(
+      final String[] targetNames,
+      final ThemisViolationType[] violationTypes,
+      final int size) {
+
+    if (size == 0) {
+      return VALID;
+    }
+
+    return new ThemisReport(
+        Arrays.copyOf(targetNames, size),
+        Arrays.copyOf(violationTypes, size),
+        size);
+  }
+
+  /**
+   * <p>Returns whether no violations were collected.</p>
+   *
+   * @return <code>true</code> if no violations were collected, otherwise
+   * <code>false</code>.
+   */
+  public boolean isValid() {
+    return size == 0;
+  }
+
+  /**
+   * <p>Returns the number of violations collected.</p>
+   *
+   * @return The number of violations collected.
+   */
+  public int size() {
+    return size;
+  }
+
+  /**
+   * <p>Returns the name of the <b>target</b> of the violation at the specified
+   * <b>index</b>.</p>
+   *
+   * @param index The index of the violation.
+   *
+   * @return The name of the invalid <b>target</b>.
+   *
+   * @throws IndexOutOfBoundsException If <b>index</b> is out of range.
+   */
+  public String getTargetName(final int index) {
+    return targetNames[checkIndex(index)];
+  }
+
+  /**
+   * <p>Returns the kind of the violation at the specified <b>index</b>.</p>
+   *
+   * @param index The index of the violation.
+   *
+   * @return The kind of violation.
+   *
+   * @throws IndexOutOfBoundsException If <b>index</b> is out of range.
+   */
+  public ThemisViolationType getViolationType(final int index) {
+    return violationTypes[checkIndex(index)];
+  }
+
+  /**
+   * <p>Returns a view of the violations as {@link ThemisResult}
+   * instances.</p>
+   *
+   * @return An unmodifiable <code>List</code> of invalid
+   * <code>ThemisResult</code> instances. This will never be
+   * <code>null</code>.
+   */
+  public List<ThemisResult> getResults() {
+
+    return new AbstractList<>() {
+
+      @Override
+      public ThemisResult get(final int index) {
+
+        return ThemisResult.invalid(
+            getTargetName(index),
+            getViolationType(index));
+      }
+
+      @Override
+      public int size() {
+        return size;
+      }
+    };
+  }
+
+  @Override
+  public String toString() {
+    return "ThemisReport" + getResults();
+  }
+
+  private int checkIndex(final int index) {
+    return Objects.checkIndex(index, size);
+  }
+
+}
@@ -0,0 +1,129 @@
+package uk.co.noop.themis.violation;
+
+import java.util.Objects;
+
+/**
+ * <p>An immutable description of whether a <b>target</b> passed validation
+ * and, if not, which violation was detected first.</p>
+ *
+ * <p>Every valid result is the same shared instance, so the passing case
+ * allocates nothing.</p>
+ *
+ * @see ThemisViolationType
+ */
+public final class ThemisResult {
+
+  private static final ThemisResult VALID = new ThemisResult(null, null);
+
+  private final String targetName;
+  private final ThemisViolationType violationType;
+
+  private ThemisResult(
+      final String targetName,
+      final ThemisViolationType violationType) {
+
+    super();
+    this.targetName = targetName;
+    this.violationType = violationType;
+  }
+
+  /**
+   * <p>Returns the shared valid <code>ThemisResult</code>.</p>
+   *
+   * @return The shared valid <code>ThemisResult</code>. This will never be
+   * <code>null</code>.
+   */
+  public static ThemisResult valid() {
+    return VALID;
+  }
+
+  /**
+   * <p>Creates a new invalid <code>ThemisResult</code> for the specified
+   * <b>targetName</b> and <b>violationType</b>.</p>
+   *
+   * @param targetName The name of the invalid <b>target</b>.
+   * @param violationType The kind of violation.
+   *
+   * @return A new invalid <code>ThemisResult</code>. This will never be
+   * <code>null</code>.
+   */
+  public static ThemisResult invalid(
+      final String targetName,
+      final ThemisViolationType violationType) {
+
+    return new ThemisResult(
+        targetName,
+        Objects.requireNonNull(violationType, "violationType"));
+  }
+
+  /**
+   * <p>Returns whether the <b>target</b> passed validation.</p>
+   *
+   * @return <code>true</code> if the <b>target</b> is valid, otherwise
+   * <code>false</code>.
+   */
+  public boolean isValid() {
+    return violationType == null;
+  }
+
+  /**
+   * <p>Returns whether the <b>target</b> failed validation.</p>
+   *
+   * @return <code>true</code> if the <b>target</b> is invalid, otherwise
+   * <code>false</code>.
+   */
+  public boolean isInvalid() {
+    return violationType != null;
+  }
+
+  /**
+   * <p>Returns the name of the invalid <b>target</b>.</p>
+   *
+   * @return The name of the invalid <b>target</b> or <code>null</code> if
+   * <code>this</code> result is valid.
+   */
+  public String getTargetName() {
+    return targetName;
+  }
+
+  /**
+   * <p>Returns the kind of violation detected.</p>
+   *
+   * @return The kind of violation detected or <code>null</code> if
+   * <code>this</code> result is valid.
+   */
+  public ThemisViolationType getViolationType() {
+    return violationType;
+  }
+
+  @Override
+  public boolean equals(final Object o) {
+
+    if (this == o) {
+      return true;
+    }
+
+    if (!(o instanceof ThemisResult)) {
+      return false;
+    }
+
+    final ThemisResult that = (ThemisResult) o;
+
+    return Objects.equals(targetName, that.targetName)
+        && violationType == that.violationType;
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(targetName, violationType);
+  }
+
+  @Override
+  public String toString() {
+
+    return isValid()
+        ? "ThemisResult[valid]"
+        : "ThemisResult[" + targetName + ": " + violationType + "]";
+  }
+
+}
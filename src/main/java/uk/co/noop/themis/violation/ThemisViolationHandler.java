@@ -0,0 +1,54 @@
+package uk.co.noop.themis.violation;
+
+import uk.co.noop.themis.exception.ThemisTargetException;
+
+import java.util.function.Supplier;
+
+/**
+ * <p>Decides what happens when a Eunomia detects an invalid <b>target</b>.</p>
+ *
+ * <p>A handler is only called when a check fails, so the passing path of a
+ * check never reaches it, and only for the first failing check of each
+ * Eunomia.</p>
+ *
+ * @see ThemisViolationType
+ */
+@FunctionalInterface
+public interface ThemisViolationHandler {
+
+  /**
+   * <p>Throws the <code>ThemisTargetException</code> for every violation; this
+   * is the behaviour of {@link uk.co.noop.themis.Themis#validate(String,
+   * String) Themis.validate}.</p>
+   */
+  ThemisViolationHandler THROWING =
+      (targetName, violationType, exceptionSupplier) -> {
+        throw exceptionSupplier.get();
+      };
+
+  /**
+   * <p>Does nothing, leaving each violation to be read from the Eunomia's
+   * {@link ThemisResult}; this is the behaviour of {@link
+   * uk.co.noop.themis.Themis#check(String, String) Themis.check}.</p>
+   */
+  ThemisViolationHandler RECORDING =
+      (targetName, violationType, exceptionSupplier) -> {
+      };
+
+  /**
+   * <p>Handles a violation of the <b>target</b> with the specified
+   * <b>targetName</b>.</p>
+   *
+   * @param targetName The name of the invalid <b>target</b>.
+   * @param violationType The kind of violation.
+   * @param exceptionSupplier Supplies the <code>ThemisTargetException</code>
+   *                          for the violation, should the handler need one.
+   *
+   * @throws ThemisTargetException If the handler throws on violations.
+   */
+  void onViolation(
+      String targetName,
+      ThemisViolationType violationType,
+      Supplier<? extends ThemisTargetException> exceptionSupplier);
+
+}
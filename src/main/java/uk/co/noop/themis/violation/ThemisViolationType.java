@@ -0,0 +1,96 @@
+package uk.co.noop.themis.violation;
+
+import uk.co.noop.themis.exception.ThemisBlankTargetStringException;
+import uk.co.noop.themis.exception.ThemisEmptyTargetException;
+import uk.co.noop.themis.exception.ThemisInvalidTargetException;
+import uk.co.noop.themis.exception.ThemisNullTargetException;
+import uk.co.noop.themis.exception.ThemisTargetException;
+
+/**
+ * <p>The kinds of invalid <b>target</b> scenarios a Eunomia can detect, each
+ * matching an extension of {@link ThemisTargetException}.</p>
+ *
+ * @see ThemisTargetException
+ */
+public enum ThemisViolationType {
+
+  /**
+   * <p>A <code>null</code> <b>target</b>.</p>
+   *
+   * @see ThemisNullTargetException
+   */
+  NULL_TARGET {
+
+    @Override
+    public ThemisTargetException toException(
+        final String targetName,
+        final Object target) {
+
+      return new ThemisNullTargetException(targetName);
+    }
+  },
+
+  /**
+   * <p>An empty <b>target</b>.</p>
+   *
+   * @see ThemisEmptyTargetException
+   */
+  EMPTY_TARGET {
+
+    @Override
+    public ThemisTargetException toException(
+        final String targetName,
+        final Object target) {
+
+      return new ThemisEmptyTargetException(targetName);
+    }
+  },
+
+  /**
+   * <p>A <b>target</b> <code>String</code> containing only whitespace
+   * characters.</p>
+   *
+   * @see ThemisBlankTargetStringException
+   */
+  BLANK_TARGET_STRING {
+
+    @Override
+    public ThemisTargetException toException(
+        final String targetName,
+        final Object target) {
+
+      return new ThemisBlankTargetStringException(targetName);
+    }
+  },
+
+  /**
+   * <p>A <b>target</b> rejected by a rule or <code>Predicate</code>.</p>
+   *
+   * @see ThemisInvalidTargetException
+   */
+  INVALID_TARGET {
+
+    @Override
+    public ThemisTargetException toException(
+        final String targetName,
+        final Object target) {
+
+      return new ThemisInvalidTargetException(targetName, target);
+    }
+  };
+
+  /**
+   * <p>Returns a new {@link ThemisTargetException} for <code>this</code>
+   * violation of the specified <b>target</b>.</p>
+   *
+   * @param targetName The name of the <b>target</b>.
+   * @param target The <b>target</b>.
+   *
+   * @return A new <code>ThemisTargetException</code>. This will never be
+   * <code>null</code>.
+   */
+  public abstract ThemisTargetException toException(
+      String targetName,
+      Object target);
+
+}
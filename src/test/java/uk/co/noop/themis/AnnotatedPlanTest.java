@@ -0,0 +1,261 @@
+package uk.co.noop.themis;
+
+import org.junit.jupiter.api.Test;
+import uk.co.noop.themis.annotation.NotBlank;
+import uk.co.noop.themis.annotation.NotEmpty;
+import uk.co.noop.themis.annotation.NotNull;
+import uk.co.noop.themis.annotation.ValidWith;
+import uk.co.noop.themis.eunomia.AbstractEunomia;
+import uk.co.noop.themis.exception.ThemisBlankTargetStringException;
+import uk.co.noop.themis.exception.ThemisEmptyTargetException;
+import uk.co.noop.themis.exception.ThemisEunomiaException;
+import uk.co.noop.themis.exception.ThemisInvalidTargetException;
+import uk.co.noop.themis.exception.ThemisNullTargetException;
+import uk.co.noop.themis.exception.ThemisTargetException;
+import uk.co.noop.themis.violation.ThemisReport;
+import uk.co.noop.themis.violation.ThemisResult;
+import uk.co.noop.themis.violation.ThemisViolationHandler;
+import uk.co.noop.themis.violation.ThemisViolationType;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class AnnotatedPlanTest {
+
+  private static final Data VALID_DATA = new Data(3);
+
+  @Test
+  public void validateAnnotated_validRecord_shouldReturnTarget() {
+
+    final User user = new User("id", VALID_DATA, List.of("a"));
+
+    assertSame(user, Themis.validateAnnotated(user));
+  }
+
+  @Test
+  public void validateAnnotated_privateRecord_shouldValidateComponents() {
+
+    Themis.validateAnnotated(new Secret("value", 1));
+
+    assertTargetException(
+        ThemisBlankTargetStringException.class,
+        "value",
+        new Secret("\t", 1));
+  }
+
+  @Test
+  public void validateAnnotated_invalidRecord_shouldThrowForComponent() {
+
+    assertTargetException(
+        ThemisBlankTargetStringException.class,
+        "id",
+        new User(" ", VALID_DATA, List.of("a")));
+    assertTargetException(
+        ThemisNullTargetException.class,
+        "data",
+        new User("id", null, List.of("a")));
+    assertTargetException(
+        ThemisEmptyTargetException.class,
+        "roles",
+        new User("id", VALID_DATA, List.of()));
+  }
+
+  @Test
+  public void validateAnnotated_validWith_shouldApplyCustomEunomiaRules() {
+
+    assertTargetException(
+        ThemisInvalidTargetException.class,
+        "data",
+        new User("id", new Data(-1), List.of("a")));
+  }
+
+  @Test
+  public void validateAnnotated_validWith_shouldThrowCustomEunomiaException() {
+
+    final ThemisTargetException exception = assertThrows(
+        ThemisTargetException.class,
+        () -> Themis.validateAnnotated(
+            new User("id", new Data(-1), List.of("a"))));
+
+    assertSame(NegativeDataException.class, exception.getClass());
+    assertEquals("data", exception.getTargetName());
+  }
+
+  @Test
+  public void validateAnnotated_subclass_shouldValidateInheritedFieldsFirst() {
+
+    assertTargetException(
+        ThemisEmptyTargetException.class,
+        "name",
+        new Account("", new StringBuilder(" "), new String[0]));
+    assertTargetException(
+        ThemisBlankTargetStringException.class,
+        "description",
+        new Account("name", new StringBuilder(" "), new String[0]));
+    assertTargetException(
+        ThemisEmptyTargetException.class,
+        "tags",
+        new Account("name", new StringBuilder("d"), new String[0]));
+
+    Themis.validateAnnotated(
+        new Account("name", new StringBuilder("d"), new String[] {"t"}));
+  }
+
+  @Test
+  public void validateAnnotated_nullTarget_shouldThrowNullTarget() {
+    assertTargetException(ThemisNullTargetException.class, "target", null);
+  }
+
+  @Test
+  public void validateAnnotated_unsupportedType_shouldThrowEunomia() {
+
+    assertThrows(
+        ThemisEunomiaException.class,
+        () -> Themis.validateAnnotated(new Unsupported(1)));
+  }
+
+  @Test
+  public void validateAnnotated_unknownRule_shouldThrowEunomia() {
+
+    assertThrows(
+        ThemisEunomiaException.class,
+        () -> Themis.validateAnnotated(new UnknownRule(VALID_DATA)));
+  }
+
+  @Test
+  public void checkAnnotated_shouldReturnFirstViolation() {
+
+    assertSame(
+        ThemisResult.valid(),
+        Themis.checkAnnotated(new User("id", VALID_DATA, List.of("a"))));
+    assertEquals(
+        ThemisResult.invalid("id", ThemisViolationType.EMPTY_TARGET),
+        Themis.checkAnnotated(new User("", null, List.of())));
+    assertEquals(
+        ThemisResult.invalid("data", ThemisViolationType.INVALID_TARGET),
+        Themis.checkAnnotated(new User("id", new Data(-1), List.of("a"))));
+    assertEquals(
+        ThemisResult.invalid("target", ThemisViolationType.NULL_TARGET),
+        Themis.checkAnnotated(null));
+  }
+
+  @Test
+  public void collectorValidateAnnotated_shouldCollectEveryViolation() {
+
+    final ThemisCollector collector = Themis.collect();
+
+    collector.validateAnnotated(new User("", new Data(-1), null));
+    collector.validateAnnotated(null);
+
+    final ThemisReport report = collector.getReport();
+
+    assertEquals(
+        List.of(
+            ThemisResult.invalid("id", ThemisViolationType.EMPTY_TARGET),
+            ThemisResult.invalid("data", ThemisViolationType.INVALID_TARGET),
+            ThemisResult.invalid("roles", ThemisViolationType.NULL_TARGET),
+            ThemisResult.invalid("target", ThemisViolationType.NULL_TARGET)),
+        report.getResults());
+  }
+
+  private static void assertTargetException(
+      final Class<? extends ThemisTargetException> type,
+      final String targetName,
+      final Object target) {
+
+    assertEquals(
+        targetName,
+        assertThrows(type, () -> Themis.validateAnnotated(target))
+            .getTargetName());
+  }
+
+  public record Data(int size) {
+  }
+
+  public record User(
+      @NotBlank String id,
+      @NotNull @ValidWith(value = DataEunomia.class, rules = "againstNegative")
+      Data data,
+      @NotEmpty List<String> roles) {
+  }
+
+  private record Secret(@NotBlank String value, @NotNull int version) {
+  }
+
+  public record Unsupported(@NotBlank int count) {
+  }
+
+  public record UnknownRule(
+      @ValidWith(value = DataEunomia.class, rules = "againstUnknown")
+      Data data) {
+  }
+
+  private static class Named {
+
+    private static final String IGNORED = null;
+
+    @NotEmpty
+    private final String name;
+
+    private Named(final String name) {
+      this.name = name;
+    }
+  }
+
+  private static final class Account extends Named {
+
+    @NotBlank
+    private final CharSequence description;
+
+    @NotEmpty
+    private final String[] tags;
+
+    private final Object unannotated = null;
+
+    private Account(
+        final String name,
+        final CharSequence description,
+        final String[] tags) {
+
+      super(name);
+      this.description = description;
+      this.tags = tags;
+    }
+  }
+
+  public static class NegativeDataException
+      extends ThemisInvalidTargetException {
+
+    public NegativeDataException(final String targetName, final Data target) {
+      super(targetName, target);
+    }
+  }
+
+  public static class DataEunomia extends AbstractEunomia<Data, DataEunomia> {
+
+    public DataEunomia(
+        final String targetName,
+        final Data target,
+        final ThemisViolationHandler violationHandler) {
+
+      super(targetName, target, violationHandler);
+    }
+
+    public DataEunomia againstNegative() {
+
+      return againstInvalidValues(
+          data -> data != null && data.size() < 0,
+          () -> new NegativeDataException(getTargetName(), getTarget()));
+    }
+
+    @Override
+    protected DataEunomia getEunomia() {
+      return this;
+    }
+
+  }
+
+}
@@ -0,0 +1,106 @@
+package uk.co.noop.themis;
+
+import org.junit.jupiter.api.Test;
+import uk.co.noop.themis.exception.ThemisBlankTargetStringException;
+import uk.co.noop.themis.violation.ThemisReport;
+import uk.co.noop.themis.violation.ThemisResult;
+import uk.co.noop.themis.violation.ThemisViolationType;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class ThemisCollectorTest {
+
+  private static final String TEST_TARGET_NAME = "Test Target Name";
+  private static final String TEST_TARGET_STRING = "Test Target String";
+  private static final Object TEST_TARGET_OBJECT = new Object();
+
+  @Test
+  public void validate_blankTargetName_shouldThrowBlankTargetString() {
+
+    assertThrows(
+        ThemisBlankTargetStringException.class,
+        () -> Themis.collect().validate(" ", TEST_TARGET_STRING));
+  }
+
+  @Test
+  public void getReport_validTargets_shouldReturnValidReport() {
+
+    final ThemisCollector collector = Themis.collect();
+
+    collector.validate(TEST_TARGET_NAME, TEST_TARGET_STRING)
+        .againstBlankStrings();
+    collector.validate(TEST_TARGET_NAME, TEST_TARGET_OBJECT)
+        .againstNullObjects();
+
+    assertSame(ThemisReport.valid(), collector.getReport());
+  }
+
+  @Test
+  public void getReport_invalidTargets_shouldReturnEveryViolation() {
+
+    final ThemisCollector collector = Themis.collect();
+
+    collector.validate("a", (String) null).againstBlankStrings();
+    collector.validate("b", "").againstBlankStrings();
+    collector.validate("c", " ").againstBlankStrings();
+    collector.validate("d", TEST_TARGET_STRING).againstBlankStrings();
+    collector.validate("e", TEST_TARGET_OBJECT)
+        .againstNullObjects()
+        .againstInvalidObjects(t -> t == TEST_TARGET_OBJECT);
+
+    assertEquals(
+        List.of(
+            ThemisResult.invalid("a", ThemisViolationType.NULL_TARGET),
+            ThemisResult.invalid("b", ThemisViolationType.EMPTY_TARGET),
+            ThemisResult.invalid(
+                "c",
+                ThemisViolationType.BLANK_TARGET_STRING),
+            ThemisResult.invalid("e", ThemisViolationType.INVALID_TARGET)),
+        collector.getReport().getResults());
+  }
+
+  @Test
+  public void getReport_manyInvalidTargets_shouldGrow() {
+
+    final ThemisCollector collector = Themis.collect();
+
+    for (int i = 0; i < 100; i++) {
+      collector.validate(TEST_TARGET_NAME + i, "").againstEmptyStrings();
+    }
+
+    final ThemisReport report = collector.getReport();
+
+    assertEquals(100, report.size());
+    assertEquals(TEST_TARGET_NAME + 99, report.getTargetName(99));
+    assertEquals(
+        ThemisViolationType.EMPTY_TARGET,
+        report.getViolationType(99));
+  }
+
+  @Test
+  public void getReport_chainedRules_shouldCollectFirstViolationOfTarget() {
+
+    final ThemisCollector collector = Themis.collect();
+
+    collector.validate("a", (Object) null)
+        .againstNullObjects()
+        .againstInvalidObjects(t -> t == TEST_TARGET_OBJECT);
+    collector.validate("b", " ")
+        .againstEmptyStrings()
+        .againstBlankStrings()
+        .againstLongStrings(0);
+
+    assertEquals(
+        List.of(
+            ThemisResult.invalid("a", ThemisViolationType.NULL_TARGET),
+            ThemisResult.invalid(
+                "b",
+                ThemisViolationType.BLANK_TARGET_STRING)),
+        collector.getReport().getResults());
+  }
+
+}
@@ -0,0 +1,87 @@
+package uk.co.noop.themis;
+
+import org.junit.jupiter.api.Test;
+import uk.co.noop.themis.annotation.NotBlank;
+import uk.co.noop.themis.exception.ThemisBlankTargetStringException;
+import uk.co.noop.themis.metrics.ThemisMetrics;
+import uk.co.noop.themis.validator.ThemisValidator;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class ThemisModulesTest {
+
+  @Test
+  public void validate_withoutManagementModule_shouldRunWorkload()
+      throws Exception {
+
+    assertEquals("ok", run("java.base,jdk.jfr"));
+  }
+
+  @Test
+  public void validate_javaBaseOnly_shouldRunWorkload() throws Exception {
+    assertEquals("ok", run("java.base"));
+  }
+
+  private static String run(final String modules)
+      throws IOException, InterruptedException {
+
+    final Process process = new ProcessBuilder(
+        ProcessHandle.current().info().command().orElseThrow(),
+        "--limit-modules",
+        modules,
+        "-cp",
+        System.getProperty("java.class.path"),
+        Workload.class.getName())
+        .redirectErrorStream(true)
+        .start();
+
+    final String output = new String(
+        process.getInputStream().readAllBytes(),
+        StandardCharsets.UTF_8).strip();
+
+    assertEquals(0, process.waitFor(), output);
+
+    return output;
+  }
+
+  public record Account(@NotBlank String id) {
+  }
+
+  /**
+   * <p>Runs passing and failing checks of every kind, with and without
+   * metrics, in a JVM limited to the modules under test.</p>
+   */
+  public static final class Workload {
+
+    public static void main(final String[] args) {
+
+      for (final boolean metrics : List.of(false, true)) {
+
+        ThemisMetrics.setEnabled(metrics);
+
+        Themis.validate("id", "a")
+            .againstBlankStrings()
+            .againstInvalidStrings(String::isEmpty);
+        Themis.check("id", " ").againstBlankStrings();
+        ThemisValidator.forStrings("id").againstBlankStrings().build()
+            .check(" ");
+        Themis.checkAnnotated(new Account(" "));
+
+        try {
+          Themis.validate("id", " ").againstBlankStrings();
+          throw new AssertionError("violation not raised");
+        } catch (final ThemisBlankTargetStringException e) {
+          // expected
+        }
+      }
+
+      System.out.println("ok");
+    }
+
+  }
+
+}
@@ -0,0 +1,161 @@
+package uk.co.noop.themis;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.function.Executable;
+import uk.co.noop.themis.eunomia.DoubleEunomia;
+import uk.co.noop.themis.eunomia.IntEunomia;
+import uk.co.noop.themis.eunomia.LongEunomia;
+import uk.co.noop.themis.eunomia.ObjectEunomia;
+import uk.co.noop.themis.eunomia.StringEunomia;
+import uk.co.noop.themis.exception.ThemisBlankTargetStringException;
+import uk.co.noop.themis.exception.ThemisEmptyTargetException;
+import uk.co.noop.themis.exception.ThemisInvalidTargetException;
+import uk.co.noop.themis.exception.ThemisNullTargetException;
+import uk.co.noop.themis.exception.ThemisTargetException;
+import uk.co.noop.themis.violation.ThemisViolationType;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ThemisTargetTest {
+
+  private static final String TEST_TARGET_NAME = "Test %s Target Name";
+
+  private static final ThemisTarget TARGET = Themis.target(TEST_TARGET_NAME);
+
+  @AfterEach
+  public void resetLightweight() {
+    ThemisTargetException.setLightweight(false);
+  }
+
+  @Test
+  public void target_blankTargetName_shouldThrowBlankTargetString() {
+
+    assertThrows(
+        ThemisBlankTargetStringException.class,
+        () -> Themis.target(" "));
+  }
+
+  @Test
+  public void target_nullTargetName_shouldThrowNullTarget() {
+    assertThrows(ThemisNullTargetException.class, () -> Themis.target(null));
+  }
+
+  @Test
+  public void getTargetName_shouldReturnTargetName() {
+    assertEquals(TEST_TARGET_NAME, TARGET.getTargetName());
+  }
+
+  @Test
+  public void validate_shouldReturnEunomiaForTargetType() {
+
+    assertEquals(StringEunomia.class, TARGET.validate("a").getClass());
+    assertEquals(
+        ObjectEunomia.class,
+        TARGET.validate(new Object()).getClass());
+    assertEquals(IntEunomia.class, TARGET.validate(1).getClass());
+    assertEquals(LongEunomia.class, TARGET.validate(1L).getClass());
+    assertEquals(DoubleEunomia.class, TARGET.validate(1.0).getClass());
+  }
+
+  @Test
+  public void validate_shouldThrowSameExceptionsAsThemis() {
+
+    assertSameException(
+        ThemisNullTargetException.class,
+        () -> TARGET.validate((String) null).againstNullStrings(),
+        () -> Themis.validate(TEST_TARGET_NAME, (String) null)
+            .againstNullStrings());
+    assertSameException(
+        ThemisEmptyTargetException.class,
+        () -> TARGET.validate("").againstEmptyStrings(),
+        () -> Themis.validate(TEST_TARGET_NAME, "").againstEmptyStrings());
+    assertSameException(
+        ThemisBlankTargetStringException.class,
+        () -> TARGET.validate(" ").againstBlankStrings(),
+        () -> Themis.validate(TEST_TARGET_NAME, " ").againstBlankStrings());
+    assertSameException(
+        ThemisInvalidTargetException.class,
+        () -> TARGET.validate("abc").againstLongStrings(2),
+        () -> Themis.validate(TEST_TARGET_NAME, "abc").againstLongStrings(2));
+    assertSameException(
+        ThemisInvalidTargetException.class,
+        () -> TARGET.validate(-1).againstNegativeValues(),
+        () -> Themis.validate(TEST_TARGET_NAME, -1).againstNegativeValues());
+    assertSameException(
+        ThemisNullTargetException.class,
+        () -> TARGET.validate((Object) null).againstNullObjects(),
+        () -> Themis.validate(TEST_TARGET_NAME, (Object) null)
+            .againstNullObjects());
+  }
+
+  @Test
+  public void validate_blankString_shouldUsePrebuiltMessage() {
+
+    final ThemisBlankTargetStringException first = assertThrows(
+        ThemisBlankTargetStringException.class,
+        () -> TARGET.validate(" ").againstBlankStrings());
+    final ThemisBlankTargetStringException second = assertThrows(
+        ThemisBlankTargetStringException.class,
+        () -> TARGET.validate("\t").againstBlankStrings());
+
+    assertSame(first.getMessage(), second.getMessage());
+  }
+
+  @Test
+  public void validate_lightweight_shouldFormatMessageLazily() {
+
+    ThemisTargetException.setLightweight(true);
+
+    final ThemisInvalidTargetException exception = assertThrows(
+        ThemisInvalidTargetException.class,
+        () -> TARGET.validate(2.5).againstValuesAbove(1));
+
+    assertEquals(0, exception.getStackTrace().length);
+    assertEquals(
+        "Themis detected an invalid target; `Test %s Target Name` cannot be "
+            + "`2.5`.",
+        exception.getMessage());
+  }
+
+  @Test
+  public void check_shouldRecordViolation() {
+
+    assertTrue(TARGET.check("a").againstBlankStrings().getResult().isValid());
+    assertEquals(
+        ThemisViolationType.NULL_TARGET,
+        TARGET.check((Object) null)
+            .againstNullObjects()
+            .getResult()
+            .getViolationType());
+    assertEquals(
+        TEST_TARGET_NAME,
+        TARGET.check(0L)
+            .againstZeroValues()
+            .getResult()
+            .getTargetName());
+    assertTrue(TARGET.check(0).againstZeroValues().getResult().isInvalid());
+    assertTrue(TARGET.check(Double.NaN)
+        .againstNaNValues()
+        .getResult()
+        .isInvalid());
+  }
+
+  private static void assertSameException(
+      final Class<? extends ThemisTargetException> type,
+      final Executable actual,
+      final Executable expected) {
+
+    final ThemisTargetException actualException =
+        assertThrows(type, actual);
+    final ThemisTargetException expectedException =
+        assertThrows(type, expected);
+
+    assertEquals(expectedException.getMessage(), actualException.getMessage());
+    assertEquals(TEST_TARGET_NAME, actualException.getTargetName());
+  }
+
+}
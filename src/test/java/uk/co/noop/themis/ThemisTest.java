@@ -1,13 +1,27 @@
 package uk.co.noop.themis;
 
 import org.junit.jupiter.api.Test;
+import uk.co.noop.themis.eunomia.AbstractEunomia;
+import uk.co.noop.themis.eunomia.ArrayEunomia;
+import uk.co.noop.themis.eunomia.CollectionEunomia;
+import uk.co.noop.themis.eunomia.IntEunomia;
 import uk.co.noop.themis.eunomia.ObjectEunomia;
 import uk.co.noop.themis.eunomia.StringEunomia;
+import uk.co.noop.themis.eunomia.Utf8Eunomia;
 import uk.co.noop.themis.exception.ThemisBlankTargetStringException;
 import uk.co.noop.themis.exception.ThemisEmptyTargetException;
+import uk.co.noop.themis.exception.ThemisEunomiaException;
+import uk.co.noop.themis.exception.ThemisInvalidTargetException;
 import uk.co.noop.themis.exception.ThemisNullTargetException;
+import uk.co.noop.themis.spi.ThemisEunomiaProvider;
+import uk.co.noop.themis.violation.ThemisViolationHandler;
+import uk.co.noop.themis.violation.ThemisViolationType;
+
+import java.util.ArrayList;
+import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 public class ThemisTest {
@@ -80,4 +94,416 @@ public class ThemisTest {
         Themis.validate(TEST_TARGET_NAME, TEST_TARGET_OBJECT).getClass());
   }
 
+  @Test
+  public void validateCustom_blankTargetName_shouldThrowBlankTargetString() {
+
+    assertThrows(
+        ThemisBlankTargetStringException.class,
+        () -> Themis.validate(" ", TEST_TARGET_STRING, StringEunomia.class));
+  }
+
+  @Test
+  public void validateCustom_shouldReturnCustomEunomia() {
+
+    assertEquals(
+        StringEunomia.class,
+        Themis.validate(
+                TEST_TARGET_NAME,
+                TEST_TARGET_STRING,
+                StringEunomia.class)
+            .getClass());
+  }
+
+  @Test
+  public void validateCustom_nullTarget_shouldReturnCustomEunomia() {
+
+    assertEquals(
+        StringEunomia.class,
+        Themis.validate(TEST_TARGET_NAME, null, StringEunomia.class)
+            .getClass());
+  }
+
+  @Test
+  public void validateCustom_subclassTarget_shouldUseMostSpecificConstructor() {
+
+    assertEquals(
+        String.class,
+        Themis.validate(
+                TEST_TARGET_NAME,
+                (CharSequence) TEST_TARGET_STRING,
+                CharSequenceEunomia.class)
+            .getConstructorType());
+
+    assertEquals(
+        CharSequence.class,
+        Themis.validate(
+                TEST_TARGET_NAME,
+                new StringBuilder(TEST_TARGET_STRING),
+                CharSequenceEunomia.class)
+            .getConstructorType());
+  }
+
+  @Test
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  public void validateCustom_noMatchingConstructor_shouldThrowEunomia() {
+
+    final Class rawEunomiaClass = StringEunomia.class;
+
+    assertThrows(
+        ThemisEunomiaException.class,
+        () -> Themis.validate(
+            TEST_TARGET_NAME,
+            TEST_TARGET_OBJECT,
+            rawEunomiaClass));
+  }
+
+  @Test
+  public void checkString_blankTargetName_shouldThrowBlankTargetString() {
+
+    assertThrows(
+        ThemisBlankTargetStringException.class,
+        () -> Themis.check(" ", TEST_TARGET_STRING));
+  }
+
+  @Test
+  public void checkString_shouldReturnStringEunomia() {
+
+    assertEquals(
+        StringEunomia.class,
+        Themis.check(TEST_TARGET_NAME, TEST_TARGET_STRING).getClass());
+  }
+
+  @Test
+  public void checkObject_blankTargetName_shouldThrowBlankTargetString() {
+
+    assertThrows(
+        ThemisBlankTargetStringException.class,
+        () -> Themis.check(" ", TEST_TARGET_OBJECT));
+  }
+
+  @Test
+  public void checkObject_shouldReturnObjectEunomia() {
+
+    assertEquals(
+        ObjectEunomia.class,
+        Themis.check(TEST_TARGET_NAME, TEST_TARGET_OBJECT).getClass());
+  }
+
+  @Test
+  public void validateAny_blankTargetName_shouldThrowBlankTargetString() {
+
+    assertThrows(
+        ThemisBlankTargetStringException.class,
+        () -> Themis.validateAny(" ", TEST_TARGET_STRING));
+  }
+
+  @Test
+  public void validateAny_shouldReturnEunomiaForRuntimeType() {
+
+    assertEquals(
+        StringEunomia.class,
+        Themis.validateAny(TEST_TARGET_NAME, TEST_TARGET_STRING).getClass());
+    assertEquals(
+        uk.co.noop.themis.eunomia.CharSequenceEunomia.class,
+        Themis.validateAny(TEST_TARGET_NAME, new StringBuilder()).getClass());
+    assertEquals(
+        CollectionEunomia.class,
+        Themis.validateAny(TEST_TARGET_NAME, new ArrayList<>()).getClass());
+    assertEquals(
+        ArrayEunomia.class,
+        Themis.validateAny(TEST_TARGET_NAME, new String[0]).getClass());
+    assertEquals(
+        IntEunomia.class,
+        Themis.validateAny(TEST_TARGET_NAME, 1).getClass());
+    assertEquals(
+        Utf8Eunomia.class,
+        Themis.validateAny(TEST_TARGET_NAME, new byte[0]).getClass());
+    assertEquals(
+        ObjectEunomia.class,
+        Themis.validateAny(TEST_TARGET_NAME, TEST_TARGET_OBJECT).getClass());
+  }
+
+  @Test
+  public void validateAny_nullTarget_shouldReturnObjectEunomia() {
+
+    final AbstractEunomia<?, ?> eunomia =
+        Themis.validateAny(TEST_TARGET_NAME, null);
+
+    assertEquals(ObjectEunomia.class, eunomia.getClass());
+    assertThrows(
+        ThemisNullTargetException.class,
+        ((ObjectEunomia) eunomia)::againstNullObjects);
+  }
+
+  @Test
+  public void validateAny_serviceLoaderProvider_shouldReturnProvidedEunomia() {
+
+    final AbstractEunomia<?, ?> eunomia =
+        Themis.validateAny(TEST_TARGET_NAME, new UUID(0, 0));
+
+    assertEquals(UuidEunomia.class, eunomia.getClass());
+    assertThrows(
+        ThemisInvalidTargetException.class,
+        ((UuidEunomia) eunomia)::againstNilUuids);
+  }
+
+  @Test
+  public void validateAny_registeredInterface_shouldUseMostSpecificProvider() {
+
+    final ThemisEunomiaProvider<Shape> shapeProvider = provider(Shape.class);
+    final ThemisEunomiaProvider<Circle> circleProvider =
+        provider(Circle.class);
+
+    Themis.register(shapeProvider);
+
+    assertSame(shapeProvider, providerOf(new Circle()));
+    assertSame(shapeProvider, providerOf(new Square()));
+
+    Themis.register(circleProvider);
+
+    assertSame(circleProvider, providerOf(new Circle()));
+    assertSame(shapeProvider, providerOf(new Square()));
+  }
+
+  @Test
+  public void validateAny_equallySpecificProviders_shouldUseLastRegistered() {
+
+    final ThemisEunomiaProvider<Labelled> labelledProvider =
+        provider(Labelled.class);
+    final ThemisEunomiaProvider<Tagged> taggedProvider =
+        provider(Tagged.class);
+
+    Themis.register(labelledProvider);
+    Themis.register(taggedProvider);
+
+    assertSame(taggedProvider, providerOf(new LabelledTag()));
+
+    Themis.register(labelledProvider);
+
+    assertSame(labelledProvider, providerOf(new LabelledTag()));
+  }
+
+  @Test
+  public void validateAny_failingProvider_shouldThrowEunomia() {
+
+    Themis.register(new ThemisEunomiaProvider<Failing>() {
+
+      @Override
+      public Class<Failing> getTargetType() {
+        return Failing.class;
+      }
+
+      @Override
+      public AbstractEunomia<?, ?> create(
+          final String targetName,
+          final Failing target,
+          final ThemisViolationHandler violationHandler) {
+
+        throw new IllegalStateException();
+      }
+    });
+
+    assertThrows(
+        ThemisEunomiaException.class,
+        () -> Themis.validateAny(TEST_TARGET_NAME, new Failing()));
+  }
+
+  @Test
+  public void register_primitiveTargetType_shouldThrowInvalidTarget() {
+
+    assertThrows(
+        ThemisInvalidTargetException.class,
+        () -> Themis.register(provider(int.class)));
+  }
+
+  @Test
+  public void register_nullProvider_shouldThrowNullTarget() {
+
+    assertThrows(
+        ThemisNullTargetException.class,
+        () -> Themis.register(null));
+  }
+
+  @Test
+  public void checkAny_shouldRecordViolation() {
+
+    final UuidEunomia eunomia = (UuidEunomia) Themis.checkAny(
+        TEST_TARGET_NAME,
+        new UUID(0, 0));
+
+    assertEquals(
+        ThemisViolationType.INVALID_TARGET,
+        eunomia.againstNilUuids().getResult().getViolationType());
+  }
+
+  @Test
+  public void againstInvalidValues_violationType_shouldMatchException() {
+
+    assertThrows(
+        ThemisNullTargetException.class,
+        () -> new UuidEunomia(
+            TEST_TARGET_NAME,
+            null,
+            ThemisViolationHandler.THROWING).againstNullUuids());
+    assertEquals(
+        ThemisViolationType.NULL_TARGET,
+        new UuidEunomia(
+            TEST_TARGET_NAME,
+            null,
+            ThemisViolationHandler.RECORDING).againstNullUuids()
+            .getResult()
+            .getViolationType());
+  }
+
+  public static class CharSequenceEunomia
+      extends AbstractEunomia<CharSequence, CharSequenceEunomia> {
+
+    private final Class<?> constructorType;
+
+    public CharSequenceEunomia(
+        final String targetName,
+        final CharSequence target) {
+
+      super(targetName, target);
+      this.constructorType = CharSequence.class;
+    }
+
+    public CharSequenceEunomia(final String targetName, final String target) {
+      super(targetName, target);
+      this.constructorType = String.class;
+    }
+
+    public Class<?> getConstructorType() {
+      return constructorType;
+    }
+
+    @Override
+    protected CharSequenceEunomia getEunomia() {
+      return this;
+    }
+
+  }
+
+  private static ThemisEunomiaProvider<?> providerOf(final Object target) {
+    return ((ProvidedEunomia) Themis.validateAny(TEST_TARGET_NAME, target))
+        .getProvider();
+  }
+
+  private static <T> ThemisEunomiaProvider<T> provider(
+      final Class<T> targetType) {
+
+    return new ThemisEunomiaProvider<>() {
+
+      @Override
+      public Class<T> getTargetType() {
+        return targetType;
+      }
+
+      @Override
+      public AbstractEunomia<?, ?> create(
+          final String targetName,
+          final T target,
+          final ThemisViolationHandler violationHandler) {
+
+        return new ProvidedEunomia(targetName, target, this);
+      }
+    };
+  }
+
+  public interface Shape {
+  }
+
+  public interface Labelled {
+  }
+
+  public interface Tagged {
+  }
+
+  public static class Circle implements Shape {
+  }
+
+  public static class Square implements Shape {
+  }
+
+  public static class LabelledTag implements Labelled, Tagged {
+  }
+
+  public static class Failing {
+  }
+
+  public static class ProvidedEunomia
+      extends AbstractEunomia<Object, ProvidedEunomia> {
+
+    private final ThemisEunomiaProvider<?> provider;
+
+    public ProvidedEunomia(
+        final String targetName,
+        final Object target,
+        final ThemisEunomiaProvider<?> provider) {
+
+      super(targetName, target);
+      this.provider = provider;
+    }
+
+    public ThemisEunomiaProvider<?> getProvider() {
+      return provider;
+    }
+
+    @Override
+    protected ProvidedEunomia getEunomia() {
+      return this;
+    }
+
+  }
+
+  public static class UuidEunomia extends AbstractEunomia<UUID, UuidEunomia> {
+
+    private static final UUID NIL = new UUID(0, 0);
+
+    public UuidEunomia(
+        final String targetName,
+        final UUID target,
+        final ThemisViolationHandler violationHandler) {
+
+      super(targetName, target, violationHandler);
+    }
+
+    public UuidEunomia againstNilUuids() {
+      return againstInvalidValues(NIL::equals);
+    }
+
+    public UuidEunomia againstNullUuids() {
+
+      return againstInvalidValues(
+          uuid -> false,
+          ThemisViolationType.NULL_TARGET,
+          this::nullTargetDetected);
+    }
+
+    @Override
+    protected UuidEunomia getEunomia() {
+      return this;
+    }
+
+  }
+
+  public static class UuidEunomiaProvider
+      implements ThemisEunomiaProvider<UUID> {
+
+    @Override
+    public Class<UUID> getTargetType() {
+      return UUID.class;
+    }
+
+    @Override
+    public AbstractEunomia<?, ?> create(
+        final String targetName,
+        final UUID target,
+        final ThemisViolationHandler violationHandler) {
+
+      return new UuidEunomia(targetName, target, violationHandler);
+    }
+
+  }
+
 }
@@ -0,0 +1,275 @@
+package uk.co.noop.themis.column;
+
+import org.junit.jupiter.api.Test;
+import uk.co.noop.themis.Themis;
+import uk.co.noop.themis.exception.ThemisBlankTargetStringException;
+import uk.co.noop.themis.exception.ThemisNullTargetException;
+import uk.co.noop.themis.rule.IntValueSet;
+import uk.co.noop.themis.rule.LongValueSet;
+import uk.co.noop.themis.validator.ThemisValidator;
+import uk.co.noop.themis.violation.ThemisViolationType;
+
+import java.util.BitSet;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ThemisColumnsTest {
+
+  private static final String TEST_TARGET_NAME = "Test Target Name";
+
+  private static final double[] SPECIAL_DOUBLES = {
+      0.0,
+      -0.0,
+      Double.NaN,
+      Double.POSITIVE_INFINITY,
+      Double.NEGATIVE_INFINITY,
+      Double.MAX_VALUE,
+      -Double.MAX_VALUE
+  };
+
+  @Test
+  public void forInts_shouldMatchIntEunomia() {
+
+    final int[] column = new Random(42).ints(1000, -200, 200).toArray();
+
+    column[0] = 0;
+    column[1] = Integer.MIN_VALUE;
+    column[2] = Integer.MAX_VALUE;
+
+    final ThemisColumnResult result = ThemisColumns.forInts(TEST_TARGET_NAME)
+        .againstNegativeValues()
+        .againstZeroValues()
+        .againstValuesAbove(150)
+        .againstInvalidInts(value -> value % 7 == 0)
+        .build()
+        .validate(column);
+
+    final BitSet expected = new BitSet();
+
+    for (int i = 0; i < column.length; i++) {
+
+      final boolean invalid = Themis.check(TEST_TARGET_NAME, column[i])
+          .againstNegativeValues()
+          .againstZeroValues()
+          .againstValuesAbove(150)
+          .againstInvalidInts(value -> value % 7 == 0)
+          .getResult()
+          .isInvalid();
+
+      expected.set(i, invalid);
+    }
+
+    assertEquals(expected, result.toBitSet());
+    assertEquals(expected.cardinality(), result.getFailureCount());
+    assertEquals(
+        expected.cardinality(),
+        result.getCount(ThemisViolationType.INVALID_TARGET));
+    assertEquals(column.length, result.size());
+  }
+
+  @Test
+  public void forLongs_shouldMatchLongEunomia() {
+
+    final long[] column = new Random(42).longs(1000, -200, 200).toArray();
+
+    column[0] = Long.MIN_VALUE;
+    column[1] = Long.MAX_VALUE;
+
+    final ThemisColumnResult result = ThemisColumns.forLongs(TEST_TARGET_NAME)
+        .againstValuesOutside(-100, 100)
+        .againstInvalidLongs(value -> value == 50)
+        .build()
+        .validate(column);
+
+    for (int i = 0; i < column.length; i++) {
+
+      final boolean invalid = Themis.check(TEST_TARGET_NAME, column[i])
+          .againstValuesOutside(-100, 100)
+          .againstInvalidLongs(value -> value == 50)
+          .getResult()
+          .isInvalid();
+
+      assertEquals(invalid, result.isFailed(i));
+    }
+  }
+
+  @Test
+  public void forDoubles_shouldMatchDoubleEunomia() {
+
+    final double[] column = new double[200];
+    final Random random = new Random(42);
+
+    for (int i = 0; i < column.length; i++) {
+      column[i] = i < SPECIAL_DOUBLES.length
+          ? SPECIAL_DOUBLES[i]
+          : random.nextDouble() * 20 - 10;
+    }
+
+    final DoubleColumnValidator[] validators = {
+        ThemisColumns.forDoubles(TEST_TARGET_NAME)
+            .againstNegativeValues()
+            .build(),
+        ThemisColumns.forDoubles(TEST_TARGET_NAME)
+            .againstZeroValues()
+            .againstNaNValues()
+            .build(),
+        ThemisColumns.forDoubles(TEST_TARGET_NAME)
+            .againstNonFiniteValues()
+            .build(),
+        ThemisColumns.forDoubles(TEST_TARGET_NAME)
+            .againstValuesBelow(-5)
+            .againstValuesAbove(5)
+            .build()
+    };
+
+    for (int i = 0; i < column.length; i++) {
+
+      final double value = column[i];
+
+      assertEquals(
+          Themis.check(TEST_TARGET_NAME, value)
+              .againstNegativeValues()
+              .getResult()
+              .isInvalid(),
+          validators[0].validate(column).isFailed(i));
+      assertEquals(
+          Themis.check(TEST_TARGET_NAME, value)
+              .againstZeroValues()
+              .againstNaNValues()
+              .getResult()
+              .isInvalid(),
+          validators[1].validate(column).isFailed(i));
+      assertEquals(
+          Themis.check(TEST_TARGET_NAME, value)
+              .againstNonFiniteValues()
+              .getResult()
+              .isInvalid(),
+          validators[2].validate(column).isFailed(i));
+      assertEquals(
+          Themis.check(TEST_TARGET_NAME, value)
+              .againstValuesOutside(-5, 5)
+              .getResult()
+              .isInvalid(),
+          validators[3].validate(column).isFailed(i));
+    }
+  }
+
+  @Test
+  public void forInts_emptyRange_shouldFailEveryValue() {
+
+    final ThemisColumnResult result = ThemisColumns.forInts(TEST_TARGET_NAME)
+        .againstValuesBelow(10)
+        .againstValuesAbove(5)
+        .build()
+        .validate(new int[] {0, 7, 10});
+
+    assertEquals(3, result.getFailureCount());
+  }
+
+  @Test
+  public void forInts_noRules_shouldBeValid() {
+
+    final ThemisColumnResult result = ThemisColumns.forInts(TEST_TARGET_NAME)
+        .build()
+        .validate(new int[] {Integer.MIN_VALUE, 0, Integer.MAX_VALUE});
+
+    assertTrue(result.isValid());
+    assertEquals(-1, result.nextFailure(0));
+  }
+
+  @Test
+  public void validate_objects_shouldCountByViolationType() {
+
+    final ThemisValidator<String> validator =
+        ThemisValidator.forStrings(TEST_TARGET_NAME)
+            .againstBlankStrings()
+            .build();
+
+    final ThemisColumnResult result = ThemisColumns.validate(
+        new String[] {"a", null, "", " ", "b", " "},
+        validator);
+
+    assertFalse(result.isValid());
+    assertEquals(4, result.getFailureCount());
+    assertEquals(1, result.getCount(ThemisViolationType.NULL_TARGET));
+    assertEquals(1, result.getCount(ThemisViolationType.EMPTY_TARGET));
+    assertEquals(2, result.getCount(ThemisViolationType.BLANK_TARGET_STRING));
+    assertEquals(0, result.getCount(ThemisViolationType.INVALID_TARGET));
+    assertArrayEquals(new long[] {0b101110}, result.getFailureMask());
+  }
+
+  @Test
+  public void nextFailure_shouldIterateInvalidIndexes() {
+
+    final int[] column = new int[300];
+
+    column[3] = -1;
+    column[64] = -1;
+    column[299] = -1;
+
+    final ThemisColumnResult result = ThemisColumns.forInts(TEST_TARGET_NAME)
+        .againstNegativeValues()
+        .build()
+        .validate(column);
+
+    final BitSet failures = new BitSet();
+
+    for (int i = result.nextFailure(0); i >= 0; i = result.nextFailure(i + 1)) {
+      failures.set(i);
+    }
+
+    assertEquals(result.toBitSet(), failures);
+    assertEquals(3, failures.cardinality());
+    assertEquals(-1, result.nextFailure(300));
+  }
+
+  @Test
+  public void validate_nullColumn_shouldThrowNullTarget() {
+
+    assertThrows(
+        ThemisNullTargetException.class,
+        () -> ThemisColumns.forInts(TEST_TARGET_NAME).build().validate(null));
+  }
+
+  @Test
+  public void forInts_blankTargetName_shouldThrowBlankTargetString() {
+
+    assertThrows(
+        ThemisBlankTargetStringException.class,
+        () -> ThemisColumns.forInts(" "));
+  }
+
+  @Test
+  public void isFailed_outOfRange_shouldThrowIndexOutOfBounds() {
+
+    final ThemisColumnResult result = ThemisColumns.forInts(TEST_TARGET_NAME)
+        .build()
+        .validate(new int[1]);
+
+    assertThrows(IndexOutOfBoundsException.class, () -> result.isFailed(1));
+  }
+
+  @Test
+  public void againstValuesNotIn_shouldFailValuesOutsideSet() {
+
+    final ThemisColumnResult ints = ThemisColumns.forInts(TEST_TARGET_NAME)
+        .againstValuesNotIn(IntValueSet.of(80, 443))
+        .build()
+        .validate(new int[] {80, 8080, 443, -1});
+
+    final ThemisColumnResult longs = ThemisColumns.forLongs(TEST_TARGET_NAME)
+        .againstNegativeValues()
+        .againstValuesNotIn(LongValueSet.of(-1L, 1L << 40))
+        .build()
+        .validate(new long[] {-1L, 1L << 40, 0L});
+
+    assertArrayEquals(new long[] {0b1010}, ints.getFailureMask());
+    assertArrayEquals(new long[] {0b101}, longs.getFailureMask());
+  }
+
+}
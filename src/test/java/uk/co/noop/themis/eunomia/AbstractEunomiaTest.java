@@ -0,0 +1,148 @@
+package uk.co.noop.themis.eunomia;
+
+import org.junit.jupiter.api.Test;
+import uk.co.noop.themis.Themis;
+import uk.co.noop.themis.validator.ThemisValidator;
+
+import java.lang.management.ManagementFactory;
+import java.util.Objects;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class AbstractEunomiaTest {
+
+  private static final String TEST_TARGET_NAME = "Test Target Name";
+  private static final String TEST_TARGET_STRING = " Test Target String ";
+  private static final Object TEST_TARGET_OBJECT = new Object();
+  private static final int ITERATIONS = 100_000;
+
+  private static final com.sun.management.ThreadMXBean THREAD_MX_BEAN =
+      (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+  /**
+   * Holds a Eunomia so that its allocation cannot be eliminated, to measure
+   * the size of one.
+   */
+  private static Object sink;
+
+  @Test
+  public void validate_againstBlankStrings_passing_shouldOnlyAllocateEunomia() {
+
+    final long eunomiaBytes = allocatedBytes(() -> sink =
+        new StringEunomia(TEST_TARGET_NAME, TEST_TARGET_STRING));
+
+    assertTrue(allocatedBytes(() -> Themis
+        .validate(TEST_TARGET_NAME, TEST_TARGET_STRING)
+        .againstBlankStrings()) <= eunomiaBytes);
+  }
+
+  @Test
+  public void check_againstBlankStrings_passing_shouldOnlyAllocateEunomia() {
+
+    final long eunomiaBytes = allocatedBytes(() -> sink =
+        new StringEunomia(TEST_TARGET_NAME, TEST_TARGET_STRING));
+
+    assertTrue(allocatedBytes(() -> Themis
+        .check(TEST_TARGET_NAME, TEST_TARGET_STRING)
+        .againstBlankStrings()
+        .getResult()) <= eunomiaBytes);
+  }
+
+  @Test
+  public void stringChecks_passing_shouldNotAllocate() {
+
+    final StringEunomia eunomia =
+        Themis.validate(TEST_TARGET_NAME, TEST_TARGET_STRING);
+
+    assertEquals(0, allocatedBytes(() -> eunomia
+        .againstNullStrings()
+        .againstEmptyStrings()
+        .againstBlankStrings()
+        .againstInvalidStrings(String::isEmpty)));
+  }
+
+  @Test
+  public void objectChecks_passing_shouldNotAllocate() {
+
+    final ObjectEunomia eunomia =
+        Themis.validate(TEST_TARGET_NAME, TEST_TARGET_OBJECT);
+
+    assertEquals(0, allocatedBytes(() -> eunomia
+        .againstNullObjects()
+        .againstInvalidObjects(Objects::isNull)));
+  }
+
+  @Test
+  public void numberChecks_passing_shouldNotAllocate() {
+
+    final IntEunomia quantity = Themis.validate(TEST_TARGET_NAME, 1_000);
+    final DoubleEunomia price = Themis.validate(TEST_TARGET_NAME, 9.99);
+
+    assertEquals(0, allocatedBytes(() -> {
+      quantity
+          .againstNegativeValues()
+          .againstValuesOutside(1, 1_000_000)
+          .againstInvalidInts(q -> q % 2 != 0);
+      price
+          .againstNonFiniteValues()
+          .againstValuesBelow(0.01)
+          .againstInvalidDoubles(p -> p > 1_000_000);
+    }));
+  }
+
+  @Test
+  public void stringChecks_checking_passing_shouldNotAllocate() {
+
+    final StringEunomia eunomia =
+        Themis.check(TEST_TARGET_NAME, TEST_TARGET_STRING);
+
+    assertEquals(0, allocatedBytes(() -> eunomia
+        .againstBlankStrings()
+        .againstInvalidStrings(String::isEmpty)
+        .getResult()));
+  }
+
+  @Test
+  public void validator_passing_shouldNotAllocate() {
+
+    final ThemisValidator<String> validator =
+        ThemisValidator.forStrings(TEST_TARGET_NAME)
+            .againstBlankStrings()
+            .againstLongStrings(64)
+            .againstInvalidStrings(String::isEmpty)
+            .build();
+
+    assertEquals(0, allocatedBytes(() -> {
+      validator.validate(TEST_TARGET_STRING);
+      validator.check(TEST_TARGET_STRING);
+    }));
+  }
+
+  /**
+   * Returns the bytes allocated by the current thread per run of the specified
+   * checks, averaged over {@link #ITERATIONS} runs so that one-off allocations
+   * by the JVM itself (e.g. while compiling) are not counted.
+   */
+  private static long allocatedBytes(final Runnable checks) {
+
+    // Warm up so that class loading and call site linkage are not measured.
+    checks.run();
+
+    final long calibrationStart =
+        THREAD_MX_BEAN.getCurrentThreadAllocatedBytes();
+    final long calibration =
+        THREAD_MX_BEAN.getCurrentThreadAllocatedBytes() - calibrationStart;
+
+    final long before = THREAD_MX_BEAN.getCurrentThreadAllocatedBytes();
+
+    for (int i = 0; i < ITERATIONS; i++) {
+      checks.run();
+    }
+
+    final long after = THREAD_MX_BEAN.getCurrentThreadAllocatedBytes();
+
+    return Math.max(0, after - before - calibration) / ITERATIONS;
+  }
+
+}
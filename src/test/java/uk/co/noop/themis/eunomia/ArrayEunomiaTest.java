@@ -0,0 +1,76 @@
+package uk.co.noop.themis.eunomia;
+
+import org.junit.jupiter.api.Test;
+import uk.co.noop.themis.Themis;
+import uk.co.noop.themis.exception.ThemisEmptyTargetException;
+import uk.co.noop.themis.exception.ThemisInvalidTargetException;
+import uk.co.noop.themis.exception.ThemisNullTargetException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class ArrayEunomiaTest {
+
+  private static final String TEST_TARGET_NAME = "Test Target Name";
+  private static final String[] TEST_TARGET = {"a", "b", "c"};
+
+  @Test
+  public void againstNullArrays_shouldThrowNullTarget() {
+
+    assertThrows(
+        ThemisNullTargetException.class,
+        () -> Themis.validateArray(TEST_TARGET_NAME, (String[]) null)
+            .againstNullArrays());
+  }
+
+  @Test
+  public void againstEmptyArrays_shouldThrowEmptyTarget() {
+
+    assertThrows(
+        ThemisEmptyTargetException.class,
+        () -> Themis.validateArray(TEST_TARGET_NAME, new String[0])
+            .againstEmptyArrays());
+  }
+
+  @Test
+  public void againstNullElements_shouldThrowInvalidTarget() {
+
+    assertThrows(
+        ThemisInvalidTargetException.class,
+        () -> Themis.validateArray(TEST_TARGET_NAME, new String[] {"a", null})
+            .againstNullElements());
+  }
+
+  @Test
+  public void againstDuplicateElements_shouldThrowInvalidTarget() {
+
+    assertThrows(
+        ThemisInvalidTargetException.class,
+        () -> Themis.validateArray(TEST_TARGET_NAME, new String[] {"a", "a"})
+            .againstDuplicateElements());
+  }
+
+  @Test
+  public void againstInvalidElements_shouldThrowInvalidTarget() {
+
+    assertThrows(
+        ThemisInvalidTargetException.class,
+        () -> Themis.validateArray(TEST_TARGET_NAME, TEST_TARGET)
+            .againstInvalidElements(e -> e.equals("b")));
+  }
+
+  @Test
+  public void allRules_shouldReturnArrayEunomia() {
+
+    assertEquals(
+        ArrayEunomia.class,
+        Themis.validateArray(TEST_TARGET_NAME, TEST_TARGET)
+            .againstNullArrays()
+            .againstEmptyArrays()
+            .againstNullElements()
+            .againstDuplicateElements()
+            .againstInvalidElements(String::isBlank)
+            .getClass());
+  }
+
+}
@@ -0,0 +1,158 @@
+package uk.co.noop.themis.eunomia;
+
+import org.junit.jupiter.api.Test;
+import uk.co.noop.themis.Themis;
+import uk.co.noop.themis.ThemisCollector;
+import uk.co.noop.themis.exception.ThemisBlankTargetStringException;
+import uk.co.noop.themis.exception.ThemisEmptyTargetException;
+import uk.co.noop.themis.exception.ThemisInvalidTargetException;
+import uk.co.noop.themis.exception.ThemisNullTargetException;
+import uk.co.noop.themis.rule.CharSequenceRules;
+import uk.co.noop.themis.rule.CharacterSet;
+import uk.co.noop.themis.violation.ThemisResult;
+import uk.co.noop.themis.violation.ThemisViolationType;
+
+import java.nio.CharBuffer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class CharSequenceEunomiaTest {
+
+  private static final String TEST_TARGET_NAME = "Test Target Name";
+  private static final CharSequence TEST_TARGET =
+      new StringBuilder("Test Target");
+  private static final CharSequence BLANK_TARGET = CharBuffer.wrap(" ");
+
+  @Test
+  public void againstNullCharSequences_shouldThrowNullTarget() {
+
+    assertThrows(
+        ThemisNullTargetException.class,
+        () -> Themis.validateCharSequence(TEST_TARGET_NAME, null)
+            .againstNullCharSequences());
+  }
+
+  @Test
+  public void againstEmptyCharSequences_shouldThrowEmptyTarget() {
+
+    final CharSequence empty = new StringBuilder();
+
+    assertThrows(
+        ThemisEmptyTargetException.class,
+        () -> Themis.validateCharSequence(TEST_TARGET_NAME, empty)
+            .againstEmptyCharSequences());
+  }
+
+  @Test
+  public void againstBlankCharSequences_shouldThrowBlankTargetString() {
+
+    assertThrows(
+        ThemisBlankTargetStringException.class,
+        () -> Themis.validateCharSequence(TEST_TARGET_NAME, BLANK_TARGET)
+            .againstBlankCharSequences());
+  }
+
+  @Test
+  public void againstBlankCharSequences_shouldReturnCharSequenceEunomia() {
+
+    assertEquals(
+        CharSequenceEunomia.class,
+        Themis.validateCharSequence(TEST_TARGET_NAME, TEST_TARGET)
+            .againstBlankCharSequences()
+            .getClass());
+  }
+
+  @Test
+  public void againstLengths_shouldThrowInvalidTarget() {
+
+    Themis.validateCharSequence(TEST_TARGET_NAME, TEST_TARGET)
+        .againstShortCharSequences(TEST_TARGET.length())
+        .againstLongCharSequences(TEST_TARGET.length());
+
+    assertThrows(
+        ThemisInvalidTargetException.class,
+        () -> Themis.validateCharSequence(TEST_TARGET_NAME, TEST_TARGET)
+            .againstLongCharSequences(TEST_TARGET.length() - 1));
+    assertThrows(
+        ThemisInvalidTargetException.class,
+        () -> Themis.validateCharSequence(TEST_TARGET_NAME, TEST_TARGET)
+            .againstShortCharSequences(TEST_TARGET.length() + 1));
+  }
+
+  @Test
+  public void againstCharactersOutside_shouldThrowInvalidTarget() {
+
+    Themis.validateCharSequence(TEST_TARGET_NAME, new StringBuilder("abc123"))
+        .againstCharactersOutside(CharacterSet.ASCII_ALPHANUMERICS);
+
+    assertThrows(
+        ThemisInvalidTargetException.class,
+        () -> Themis.validateCharSequence(TEST_TARGET_NAME, TEST_TARGET)
+            .againstCharactersOutside(CharacterSet.ASCII_ALPHANUMERICS));
+  }
+
+  @Test
+  public void againstNonAsciiAndControlCharacters_shouldMatchStrings() {
+
+    final String[] targets = {"plain", "é", "tab\t", "\u0085"};
+
+    for (final String target : targets) {
+
+      final CharSequence sequence = new StringBuilder(target);
+
+      assertEquals(
+          Themis.check(TEST_TARGET_NAME, target)
+              .againstNonAsciiCharacters()
+              .againstControlCharacters()
+              .getResult(),
+          Themis.checkCharSequence(TEST_TARGET_NAME, sequence)
+              .againstNonAsciiCharacters()
+              .againstControlCharacters()
+              .getResult());
+    }
+  }
+
+  @Test
+  public void againstInvalidCharSequences_shouldThrowInvalidTarget() {
+
+    assertThrows(
+        ThemisInvalidTargetException.class,
+        () -> Themis.validateCharSequence(TEST_TARGET_NAME, TEST_TARGET)
+            .againstInvalidCharSequences(t -> t.charAt(0) == 'T'));
+  }
+
+  @Test
+  public void againstRule_shouldApplyRule() {
+
+    assertThrows(
+        ThemisBlankTargetStringException.class,
+        () -> Themis.validateCharSequence(TEST_TARGET_NAME, BLANK_TARGET)
+            .againstRule(CharSequenceRules.againstBlankCharSequences()));
+  }
+
+  @Test
+  public void checkCharSequence_blank_shouldRecordBlankTargetString() {
+
+    final ThemisResult result =
+        Themis.checkCharSequence(TEST_TARGET_NAME, new StringBuilder("  "))
+            .againstBlankCharSequences()
+            .getResult();
+
+    assertEquals(
+        ThemisViolationType.BLANK_TARGET_STRING,
+        result.getViolationType());
+  }
+
+  @Test
+  public void collector_validateCharSequence_shouldCollectViolations() {
+
+    final ThemisCollector collector = Themis.collect();
+
+    collector.validateCharSequence("a", null).againstNullCharSequences();
+    collector.validateCharSequence("b", TEST_TARGET).againstNullCharSequences();
+
+    assertEquals(1, collector.getReport().size());
+  }
+
+}
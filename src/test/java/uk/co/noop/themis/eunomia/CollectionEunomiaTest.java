@@ -0,0 +1,176 @@
+package uk.co.noop.themis.eunomia;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import uk.co.noop.themis.Themis;
+import uk.co.noop.themis.exception.ThemisEmptyTargetException;
+import uk.co.noop.themis.exception.ThemisInvalidTargetException;
+import uk.co.noop.themis.exception.ThemisNullTargetException;
+import uk.co.noop.themis.rule.CollectionRules;
+import uk.co.noop.themis.violation.ThemisViolationType;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class CollectionEunomiaTest {
+
+  private static final String TEST_TARGET_NAME = "Test Target Name";
+  private static final List<String> TEST_TARGET = List.of("a", "b", "c");
+  private static final int LARGE_SIZE = 100_000;
+
+  private static final int DEFAULT_PARALLEL_THRESHOLD =
+      CollectionRules.getParallelThreshold();
+
+  @AfterEach
+  public void resetParallelThreshold() {
+    CollectionRules.setParallelThreshold(DEFAULT_PARALLEL_THRESHOLD);
+  }
+
+  @Test
+  public void againstNullCollections_shouldThrowNullTarget() {
+
+    assertThrows(
+        ThemisNullTargetException.class,
+        () -> Themis.validateCollection(TEST_TARGET_NAME, (List<?>) null)
+            .againstNullCollections());
+  }
+
+  @Test
+  public void againstEmptyCollections_shouldThrowEmptyTarget() {
+
+    assertThrows(
+        ThemisEmptyTargetException.class,
+        () -> Themis.validateCollection(TEST_TARGET_NAME, List.of())
+            .againstEmptyCollections());
+  }
+
+  @Test
+  public void againstNullElements_shouldThrowInvalidTarget() {
+
+    assertThrows(
+        ThemisInvalidTargetException.class,
+        () -> Themis.validateCollection(
+                TEST_TARGET_NAME,
+                Arrays.asList("a", null))
+            .againstNullElements());
+  }
+
+  @Test
+  public void againstDuplicateElements_shouldThrowInvalidTarget() {
+
+    assertThrows(
+        ThemisInvalidTargetException.class,
+        () -> Themis.validateCollection(
+                TEST_TARGET_NAME,
+                List.of("a", "b", "a"))
+            .againstDuplicateElements());
+  }
+
+  @Test
+  public void againstDuplicateElements_nullElements_shouldThrowInvalidTarget() {
+
+    assertThrows(
+        ThemisInvalidTargetException.class,
+        () -> Themis.validateCollection(
+                TEST_TARGET_NAME,
+                Arrays.asList(null, "a", null))
+            .againstDuplicateElements());
+  }
+
+  @Test
+  public void againstInvalidElements_shouldThrowInvalidTarget() {
+
+    assertThrows(
+        ThemisInvalidTargetException.class,
+        () -> Themis.validateCollection(TEST_TARGET_NAME, TEST_TARGET)
+            .againstInvalidElements(e -> e.equals("c")));
+  }
+
+  @Test
+  public void allRules_shouldReturnCollectionEunomia() {
+
+    assertEquals(
+        CollectionEunomia.class,
+        Themis.validateCollection(TEST_TARGET_NAME, TEST_TARGET)
+            .againstNullCollections()
+            .againstEmptyCollections()
+            .againstNullElements()
+            .againstDuplicateElements()
+            .againstInvalidElements(String::isBlank)
+            .getClass());
+  }
+
+  @Test
+  public void parallel_shouldMatchSequential() {
+
+    final List<Integer> unique = IntStream.range(0, LARGE_SIZE)
+        .boxed()
+        .collect(Collectors.toList());
+
+    final List<Integer> duplicated = new ArrayList<>(unique);
+    duplicated.set(LARGE_SIZE - 1, 0);
+
+    final List<Integer> withNull = new ArrayList<>(unique);
+    withNull.set(LARGE_SIZE / 2, null);
+
+    for (final int threshold : new int[] {1, Integer.MAX_VALUE}) {
+
+      CollectionRules.setParallelThreshold(threshold);
+
+      assertNull(CollectionRules.duplicateElementViolation(unique));
+      assertNull(CollectionRules.nullElementViolation(unique));
+      assertSame(
+          ThemisViolationType.INVALID_TARGET,
+          CollectionRules.duplicateElementViolation(duplicated));
+      assertSame(
+          ThemisViolationType.INVALID_TARGET,
+          CollectionRules.nullElementViolation(withNull));
+      assertSame(
+          ThemisViolationType.INVALID_TARGET,
+          CollectionRules.invalidElementViolation(unique, e -> e == 54_321));
+    }
+  }
+
+  @Test
+  public void againstDuplicateElements_set_shouldReturnCollectionEunomia() {
+
+    final Collection<String> set = new HashSet<>(TEST_TARGET);
+
+    assertEquals(
+        CollectionEunomia.class,
+        Themis.validateCollection(TEST_TARGET_NAME, set)
+            .againstDuplicateElements()
+            .getClass());
+  }
+
+  @Test
+  public void setParallelThreshold_zero_shouldThrowInvalidTarget() {
+
+    assertThrows(
+        ThemisInvalidTargetException.class,
+        () -> CollectionRules.setParallelThreshold(0));
+  }
+
+  @Test
+  public void check_shouldRecordViolation() {
+
+    assertSame(
+        ThemisViolationType.EMPTY_TARGET,
+        Themis.checkCollection(TEST_TARGET_NAME, List.of())
+            .againstEmptyCollections()
+            .againstNullElements()
+            .getResult()
+            .getViolationType());
+  }
+
+}
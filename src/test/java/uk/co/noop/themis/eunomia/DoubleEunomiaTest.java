@@ -0,0 +1,156 @@
+package uk.co.noop.themis.eunomia;
+
+import org.junit.jupiter.api.Test;
+import uk.co.noop.themis.Themis;
+import uk.co.noop.themis.exception.ThemisInvalidTargetException;
+import uk.co.noop.themis.violation.ThemisResult;
+import uk.co.noop.themis.violation.ThemisViolationType;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class DoubleEunomiaTest {
+
+  private static final String TEST_TARGET_NAME = "Test Target Name";
+  private static final double TEST_TARGET = 42.0;
+
+  @Test
+  public void againstNegativeValues_shouldThrowInvalidTarget() {
+
+    assertThrows(
+        ThemisInvalidTargetException.class,
+        () -> Themis.validate(TEST_TARGET_NAME, -1.0)
+            .againstNegativeValues());
+  }
+
+  @Test
+  public void againstNegativeValues_shouldReturnDoubleEunomia() {
+
+    assertEquals(
+        DoubleEunomia.class,
+        Themis.validate(TEST_TARGET_NAME, 0.0)
+            .againstNegativeValues()
+            .getClass());
+  }
+
+  @Test
+  public void againstZeroValues_shouldThrowInvalidTarget() {
+
+    assertThrows(
+        ThemisInvalidTargetException.class,
+        () -> Themis.validate(TEST_TARGET_NAME, 0.0).againstZeroValues());
+  }
+
+  @Test
+  public void againstValuesBelow_shouldThrowInvalidTarget() {
+
+    assertThrows(
+        ThemisInvalidTargetException.class,
+        () -> Themis.validate(TEST_TARGET_NAME, TEST_TARGET)
+            .againstValuesBelow(TEST_TARGET + 1));
+  }
+
+  @Test
+  public void againstValuesAbove_shouldThrowInvalidTarget() {
+
+    assertThrows(
+        ThemisInvalidTargetException.class,
+        () -> Themis.validate(TEST_TARGET_NAME, TEST_TARGET)
+            .againstValuesAbove(TEST_TARGET - 1));
+  }
+
+  @Test
+  public void againstValuesOutside_inclusiveBounds_shouldReturnDoubleEunomia() {
+
+    assertEquals(
+        DoubleEunomia.class,
+        Themis.validate(TEST_TARGET_NAME, TEST_TARGET)
+            .againstValuesBelow(TEST_TARGET)
+            .againstValuesAbove(TEST_TARGET)
+            .againstValuesOutside(TEST_TARGET, TEST_TARGET)
+            .getClass());
+  }
+
+  @Test
+  public void againstValuesOutside_shouldThrowInvalidTarget() {
+
+    final ThemisInvalidTargetException exception = assertThrows(
+        ThemisInvalidTargetException.class,
+        () -> Themis.validate(TEST_TARGET_NAME, TEST_TARGET)
+            .againstValuesOutside(0.0, 10.0));
+
+    assertEquals(
+        "Themis detected an invalid target; `" + TEST_TARGET_NAME
+            + "` cannot be `" + TEST_TARGET + "`.",
+        exception.getMessage());
+  }
+
+  @Test
+  public void againstInvalidDoubles_shouldThrowInvalidTarget() {
+
+    assertThrows(
+        ThemisInvalidTargetException.class,
+        () -> Themis.validate(TEST_TARGET_NAME, TEST_TARGET)
+            .againstInvalidDoubles(t -> t == TEST_TARGET));
+  }
+
+  @Test
+  public void againstInvalidDoubles_shouldReturnDoubleEunomia() {
+
+    assertEquals(
+        DoubleEunomia.class,
+        Themis.validate(TEST_TARGET_NAME, TEST_TARGET)
+            .againstInvalidDoubles(t -> t != TEST_TARGET)
+            .getClass());
+  }
+
+  @Test
+  public void check_shouldRecordViolation() {
+
+    final ThemisResult result = Themis.check(TEST_TARGET_NAME, -1.0)
+        .againstNegativeValues()
+        .againstZeroValues()
+        .getResult();
+
+    assertSame(ThemisViolationType.INVALID_TARGET, result.getViolationType());
+  }
+
+  @Test
+  public void againstNaNValues_shouldThrowInvalidTarget() {
+
+    assertThrows(
+        ThemisInvalidTargetException.class,
+        () -> Themis.validate(TEST_TARGET_NAME, Double.NaN).againstNaNValues());
+  }
+
+  @Test
+  public void againstNonFiniteValues_shouldThrowInvalidTarget() {
+
+    assertThrows(
+        ThemisInvalidTargetException.class,
+        () -> Themis.validate(TEST_TARGET_NAME, Double.POSITIVE_INFINITY)
+            .againstNonFiniteValues());
+  }
+
+  @Test
+  public void againstValuesOutside_nan_shouldThrowInvalidTarget() {
+
+    assertThrows(
+        ThemisInvalidTargetException.class,
+        () -> Themis.validate(TEST_TARGET_NAME, Double.NaN)
+            .againstValuesOutside(Double.NEGATIVE_INFINITY, Double.MAX_VALUE));
+  }
+
+  @Test
+  public void againstNegativeValues_negativeZero_shouldReturnDoubleEunomia() {
+
+    assertEquals(
+        DoubleEunomia.class,
+        Themis.validate(TEST_TARGET_NAME, -0.0)
+            .againstNegativeValues()
+            .againstNonFiniteValues()
+            .getClass());
+  }
+
+}
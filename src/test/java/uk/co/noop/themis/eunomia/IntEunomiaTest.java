@@ -0,0 +1,139 @@
+package uk.co.noop.themis.eunomia;
+
+import org.junit.jupiter.api.Test;
+import uk.co.noop.themis.Themis;
+import uk.co.noop.themis.exception.ThemisInvalidTargetException;
+import uk.co.noop.themis.rule.IntValueSet;
+import uk.co.noop.themis.violation.ThemisResult;
+import uk.co.noop.themis.violation.ThemisViolationType;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class IntEunomiaTest {
+
+  private static final String TEST_TARGET_NAME = "Test Target Name";
+  private static final int TEST_TARGET = 42;
+
+  @Test
+  public void againstNegativeValues_shouldThrowInvalidTarget() {
+
+    assertThrows(
+        ThemisInvalidTargetException.class,
+        () -> Themis.validate(TEST_TARGET_NAME, -1)
+            .againstNegativeValues());
+  }
+
+  @Test
+  public void againstNegativeValues_shouldReturnIntEunomia() {
+
+    assertEquals(
+        IntEunomia.class,
+        Themis.validate(TEST_TARGET_NAME, 0)
+            .againstNegativeValues()
+            .getClass());
+  }
+
+  @Test
+  public void againstZeroValues_shouldThrowInvalidTarget() {
+
+    assertThrows(
+        ThemisInvalidTargetException.class,
+        () -> Themis.validate(TEST_TARGET_NAME, 0).againstZeroValues());
+  }
+
+  @Test
+  public void againstValuesBelow_shouldThrowInvalidTarget() {
+
+    assertThrows(
+        ThemisInvalidTargetException.class,
+        () -> Themis.validate(TEST_TARGET_NAME, TEST_TARGET)
+            .againstValuesBelow(TEST_TARGET + 1));
+  }
+
+  @Test
+  public void againstValuesAbove_shouldThrowInvalidTarget() {
+
+    assertThrows(
+        ThemisInvalidTargetException.class,
+        () -> Themis.validate(TEST_TARGET_NAME, TEST_TARGET)
+            .againstValuesAbove(TEST_TARGET - 1));
+  }
+
+  @Test
+  public void againstValuesOutside_inclusiveBounds_shouldReturnIntEunomia() {
+
+    assertEquals(
+        IntEunomia.class,
+        Themis.validate(TEST_TARGET_NAME, TEST_TARGET)
+            .againstValuesBelow(TEST_TARGET)
+            .againstValuesAbove(TEST_TARGET)
+            .againstValuesOutside(TEST_TARGET, TEST_TARGET)
+            .getClass());
+  }
+
+  @Test
+  public void againstValuesOutside_shouldThrowInvalidTarget() {
+
+    final ThemisInvalidTargetException exception = assertThrows(
+        ThemisInvalidTargetException.class,
+        () -> Themis.validate(TEST_TARGET_NAME, TEST_TARGET)
+            .againstValuesOutside(0, 10));
+
+    assertEquals(
+        "Themis detected an invalid target; `" + TEST_TARGET_NAME
+            + "` cannot be `" + TEST_TARGET + "`.",
+        exception.getMessage());
+  }
+
+  @Test
+  public void againstInvalidInts_shouldThrowInvalidTarget() {
+
+    assertThrows(
+        ThemisInvalidTargetException.class,
+        () -> Themis.validate(TEST_TARGET_NAME, TEST_TARGET)
+            .againstInvalidInts(t -> t == TEST_TARGET));
+  }
+
+  @Test
+  public void againstInvalidInts_shouldReturnIntEunomia() {
+
+    assertEquals(
+        IntEunomia.class,
+        Themis.validate(TEST_TARGET_NAME, TEST_TARGET)
+            .againstInvalidInts(t -> t != TEST_TARGET)
+            .getClass());
+  }
+
+  @Test
+  public void check_shouldRecordViolation() {
+
+    final ThemisResult result = Themis.check(TEST_TARGET_NAME, -1)
+        .againstNegativeValues()
+        .againstZeroValues()
+        .getResult();
+
+    assertSame(ThemisViolationType.INVALID_TARGET, result.getViolationType());
+  }
+
+  @Test
+  public void againstValuesNotIn_shouldThrowInvalidTarget() {
+
+    assertThrows(
+        ThemisInvalidTargetException.class,
+        () -> Themis.validate(TEST_TARGET_NAME, TEST_TARGET)
+            .againstValuesNotIn(IntValueSet.of(1, 2)));
+  }
+
+  @Test
+  public void againstValuesNotIn_shouldReturnIntEunomia() {
+
+    assertEquals(
+        IntEunomia.class,
+        Themis.validate(TEST_TARGET_NAME, TEST_TARGET)
+            .againstValuesNotIn(IntValueSet.of(TEST_TARGET))
+            .getClass());
+  }
+
+}
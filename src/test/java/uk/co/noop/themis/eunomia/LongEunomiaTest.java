@@ -0,0 +1,139 @@
+package uk.co.noop.themis.eunomia;
+
+import org.junit.jupiter.api.Test;
+import uk.co.noop.themis.Themis;
+import uk.co.noop.themis.exception.ThemisInvalidTargetException;
+import uk.co.noop.themis.rule.LongValueSet;
+import uk.co.noop.themis.violation.ThemisResult;
+import uk.co.noop.themis.violation.ThemisViolationType;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class LongEunomiaTest {
+
+  private static final String TEST_TARGET_NAME = "Test Target Name";
+  private static final long TEST_TARGET = 42L;
+
+  @Test
+  public void againstNegativeValues_shouldThrowInvalidTarget() {
+
+    assertThrows(
+        ThemisInvalidTargetException.class,
+        () -> Themis.validate(TEST_TARGET_NAME, -1L)
+            .againstNegativeValues());
+  }
+
+  @Test
+  public void againstNegativeValues_shouldReturnLongEunomia() {
+
+    assertEquals(
+        LongEunomia.class,
+        Themis.validate(TEST_TARGET_NAME, 0L)
+            .againstNegativeValues()
+            .getClass());
+  }
+
+  @Test
+  public void againstZeroValues_shouldThrowInvalidTarget() {
+
+    assertThrows(
+        ThemisInvalidTargetException.class,
+        () -> Themis.validate(TEST_TARGET_NAME, 0L).againstZeroValues());
+  }
+
+  @Test
+  public void againstValuesBelow_shouldThrowInvalidTarget() {
+
+    assertThrows(
+        ThemisInvalidTargetException.class,
+        () -> Themis.validate(TEST_TARGET_NAME, TEST_TARGET)
+            .againstValuesBelow(TEST_TARGET + 1));
+  }
+
+  @Test
+  public void againstValuesAbove_shouldThrowInvalidTarget() {
+
+    assertThrows(
+        ThemisInvalidTargetException.class,
+        () -> Themis.validate(TEST_TARGET_NAME, TEST_TARGET)
+            .againstValuesAbove(TEST_TARGET - 1));
+  }
+
+  @Test
+  public void againstValuesOutside_inclusiveBounds_shouldReturnLongEunomia() {
+
+    assertEquals(
+        LongEunomia.class,
+        Themis.validate(TEST_TARGET_NAME, TEST_TARGET)
+            .againstValuesBelow(TEST_TARGET)
+            .againstValuesAbove(TEST_TARGET)
+            .againstValuesOutside(TEST_TARGET, TEST_TARGET)
+            .getClass());
+  }
+
+  @Test
+  public void againstValuesOutside_shouldThrowInvalidTarget() {
+
+    final ThemisInvalidTargetException exception = assertThrows(
+        ThemisInvalidTargetException.class,
+        () -> Themis.validate(TEST_TARGET_NAME, TEST_TARGET)
+            .againstValuesOutside(0L, 10L));
+
+    assertEquals(
+        "Themis detected an invalid target; `" + TEST_TARGET_NAME
+            + "` cannot be `" + TEST_TARGET + "`.",
+        exception.getMessage());
+  }
+
+  @Test
+  public void againstInvalidLongs_shouldThrowInvalidTarget() {
+
+    assertThrows(
+        ThemisInvalidTargetException.class,
+        () -> Themis.validate(TEST_TARGET_NAME, TEST_TARGET)
+            .againstInvalidLongs(t -> t == TEST_TARGET));
+  }
+
+  @Test
+  public void againstInvalidLongs_shouldReturnLongEunomia() {
+
+    assertEquals(
+        LongEunomia.class,
+        Themis.validate(TEST_TARGET_NAME, TEST_TARGET)
+            .againstInvalidLongs(t -> t != TEST_TARGET)
+            .getClass());
+  }
+
+  @Test
+  public void check_shouldRecordViolation() {
+
+    final ThemisResult result = Themis.check(TEST_TARGET_NAME, -1L)
+        .againstNegativeValues()
+        .againstZeroValues()
+        .getResult();
+
+    assertSame(ThemisViolationType.INVALID_TARGET, result.getViolationType());
+  }
+
+  @Test
+  public void againstValuesNotIn_shouldThrowInvalidTarget() {
+
+    assertThrows(
+        ThemisInvalidTargetException.class,
+        () -> Themis.validate(TEST_TARGET_NAME, TEST_TARGET)
+            .againstValuesNotIn(LongValueSet.of(1L, 2L)));
+  }
+
+  @Test
+  public void againstValuesNotIn_shouldReturnLongEunomia() {
+
+    assertEquals(
+        LongEunomia.class,
+        Themis.validate(TEST_TARGET_NAME, TEST_TARGET)
+            .againstValuesNotIn(LongValueSet.of(TEST_TARGET))
+            .getClass());
+  }
+
+}
@@ -4,8 +4,12 @@ import org.junit.jupiter.api.Test;
 import uk.co.noop.themis.Themis;
 import uk.co.noop.themis.exception.ThemisInvalidTargetException;
 import uk.co.noop.themis.exception.ThemisNullTargetException;
+import uk.co.noop.themis.rule.ValueSet;
+import uk.co.noop.themis.violation.ThemisResult;
+import uk.co.noop.themis.violation.ThemisViolationType;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 public class ObjectEunomiaTest {
@@ -52,4 +56,56 @@ public class ObjectEunomiaTest {
             .getClass());
   }
 
+  @Test
+  public void check_againstNullObjects_shouldReturnNullTarget() {
+
+    assertEquals(
+        ThemisViolationType.NULL_TARGET,
+        Themis.check(TEST_TARGET_NAME, (Object) null)
+            .againstNullObjects()
+            .getResult()
+            .getViolationType());
+  }
+
+  @Test
+  public void check_againstInvalidObjects_shouldReturnInvalidTarget() {
+
+    assertEquals(
+        ThemisViolationType.INVALID_TARGET,
+        Themis.check(TEST_TARGET_NAME, TEST_INVALID_TARGET)
+            .againstInvalidObjects(t -> t instanceof Exception)
+            .getResult()
+            .getViolationType());
+  }
+
+  @Test
+  public void check_validTarget_shouldReturnValid() {
+
+    assertSame(
+        ThemisResult.valid(),
+        Themis.check(TEST_TARGET_NAME, TEST_TARGET)
+            .againstNullObjects()
+            .againstInvalidObjects(t -> t instanceof Exception)
+            .getResult());
+  }
+
+  @Test
+  public void againstValuesNotIn_shouldThrowInvalidTarget() {
+
+    assertThrows(
+        ThemisInvalidTargetException.class,
+        () -> Themis.validate(TEST_TARGET_NAME, TEST_INVALID_TARGET)
+            .againstValuesNotIn(ValueSet.of(TEST_TARGET)));
+  }
+
+  @Test
+  public void againstValuesNotIn_shouldReturnObjectEunomia() {
+
+    assertEquals(
+        ObjectEunomia.class,
+        Themis.validate(TEST_TARGET_NAME, TEST_TARGET)
+            .againstValuesNotIn(ValueSet.of(TEST_TARGET))
+            .getClass());
+  }
+
 }
@@ -0,0 +1,71 @@
+package uk.co.noop.themis.eunomia;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import uk.co.noop.themis.Themis;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class SlowPredicateEventTest {
+
+  @Test
+  public void againstInvalidValues_slowPredicate_shouldCommitEvent()
+      throws Exception {
+
+    final List<RecordedEvent> events = record(() -> {
+
+      Themis.validate("fast", "a").againstInvalidStrings(String::isEmpty);
+      Themis.validate("slow", (Object) "a").againstInvalidObjects(target -> {
+        sleep(20);
+        return false;
+      });
+    });
+
+    assertEquals(1, events.size());
+    assertEquals("slow", events.get(0).getString("targetName"));
+    assertEquals("againstInvalidObjects", events.get(0).getString("rule"));
+    assertFalse(events.get(0).getBoolean("invalid"));
+    assertTrue(events.get(0).getDuration().compareTo(
+        Duration.ofMillis(10)) >= 0);
+  }
+
+  private static void sleep(final long millis) {
+
+    try {
+      Thread.sleep(millis);
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private static List<RecordedEvent> record(final Runnable runnable)
+      throws Exception {
+
+    final Path file = Files.createTempFile("themis", ".jfr");
+
+    try (Recording recording = new Recording()) {
+
+      recording.enable(SlowPredicateEvent.NAME)
+          .withThreshold(Duration.ofMillis(10));
+      recording.start();
+      runnable.run();
+      recording.stop();
+      recording.dump(file);
+
+      return RecordingFile.readAllEvents(file);
+
+    } finally {
+      Files.deleteIfExists(file);
+    }
+  }
+
+}
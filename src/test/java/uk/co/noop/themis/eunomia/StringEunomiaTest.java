@@ -6,8 +6,16 @@ import uk.co.noop.themis.exception.ThemisBlankTargetStringException;
 import uk.co.noop.themis.exception.ThemisEmptyTargetException;
 import uk.co.noop.themis.exception.ThemisInvalidTargetException;
 import uk.co.noop.themis.exception.ThemisNullTargetException;
+import uk.co.noop.themis.rule.CharacterSet;
+import uk.co.noop.themis.rule.StringRules;
+import uk.co.noop.themis.rule.ValueSet;
+import uk.co.noop.themis.violation.ThemisResult;
+import uk.co.noop.themis.violation.ThemisViolationType;
+
+import java.util.regex.Pattern;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 public class StringEunomiaTest {
@@ -94,6 +102,137 @@ public class StringEunomiaTest {
             .getClass());
   }
 
+  @Test
+  public void againstLongStrings_shouldThrowNullTarget() {
+
+    assertThrows(
+        ThemisNullTargetException.class,
+        () -> Themis.validate(TEST_TARGET_NAME, null).againstLongStrings(1));
+  }
+
+  @Test
+  public void againstLongStrings_shouldThrowInvalidTarget() {
+
+    assertThrows(
+        ThemisInvalidTargetException.class,
+        () -> Themis.validate(TEST_TARGET_NAME, TEST_TARGET)
+            .againstLongStrings(TEST_TARGET.length() - 1));
+  }
+
+  @Test
+  public void againstLongStrings_shouldReturnStringEunomia() {
+
+    assertEquals(
+        StringEunomia.class,
+        Themis.validate(TEST_TARGET_NAME, TEST_TARGET)
+            .againstLongStrings(TEST_TARGET.length())
+            .getClass());
+  }
+
+  @Test
+  public void againstShortStrings_shouldThrowInvalidTarget() {
+
+    assertThrows(
+        ThemisInvalidTargetException.class,
+        () -> Themis.validate(TEST_TARGET_NAME, TEST_TARGET)
+            .againstShortStrings(TEST_TARGET.length() + 1));
+  }
+
+  @Test
+  public void againstShortStrings_shouldReturnStringEunomia() {
+
+    assertEquals(
+        StringEunomia.class,
+        Themis.validate(TEST_TARGET_NAME, TEST_TARGET)
+            .againstShortStrings(TEST_TARGET.length())
+            .getClass());
+  }
+
+  @Test
+  public void againstCharactersOutside_shouldThrowNullTarget() {
+
+    assertThrows(
+        ThemisNullTargetException.class,
+        () -> Themis.validate(TEST_TARGET_NAME, null)
+            .againstCharactersOutside(CharacterSet.ASCII_LETTERS));
+  }
+
+  @Test
+  public void againstCharactersOutside_shouldThrowInvalidTarget() {
+
+    assertThrows(
+        ThemisInvalidTargetException.class,
+        () -> Themis.validate(TEST_TARGET_NAME, TEST_TARGET)
+            .againstCharactersOutside(CharacterSet.ASCII_LETTERS));
+  }
+
+  @Test
+  public void againstCharactersOutside_shouldReturnStringEunomia() {
+
+    assertEquals(
+        StringEunomia.class,
+        Themis.validate(TEST_TARGET_NAME, TEST_TARGET)
+            .againstCharactersOutside(
+                CharacterSet.ASCII_LETTERS.or(CharacterSet.of(" ")))
+            .getClass());
+  }
+
+  @Test
+  public void againstNonAsciiCharacters_shouldThrowInvalidTarget() {
+
+    assertThrows(
+        ThemisInvalidTargetException.class,
+        () -> Themis.validate(TEST_TARGET_NAME, "caf\u00E9")
+            .againstNonAsciiCharacters());
+  }
+
+  @Test
+  public void againstNonAsciiCharacters_shouldReturnStringEunomia() {
+
+    assertEquals(
+        StringEunomia.class,
+        Themis.validate(TEST_TARGET_NAME, TEST_TARGET)
+            .againstNonAsciiCharacters()
+            .getClass());
+  }
+
+  @Test
+  public void againstControlCharacters_shouldThrowNullTarget() {
+
+    assertThrows(
+        ThemisNullTargetException.class,
+        () -> Themis.validate(TEST_TARGET_NAME, null)
+            .againstControlCharacters());
+  }
+
+  @Test
+  public void againstControlCharacters_shouldThrowInvalidTarget() {
+
+    assertThrows(
+        ThemisInvalidTargetException.class,
+        () -> Themis.validate(TEST_TARGET_NAME, "Test\u0000Target")
+            .againstControlCharacters());
+  }
+
+  @Test
+  public void againstControlCharacters_shouldReturnStringEunomia() {
+
+    assertEquals(
+        StringEunomia.class,
+        Themis.validate(TEST_TARGET_NAME, TEST_TARGET)
+            .againstControlCharacters()
+            .getClass());
+  }
+
+  @Test
+  public void againstRule_shouldThrowBlankTargetString() {
+
+    assertThrows(
+        ThemisBlankTargetStringException.class,
+        () -> Themis.validate(TEST_TARGET_NAME, " ")
+            .againstRule(StringRules.againstBlankStrings()));
+  }
+
   @Test
   public void againstInvalidStrings_shouldThrowInvalidTarget() {
 
@@ -113,4 +252,155 @@ public class StringEunomiaTest {
             .getClass());
   }
 
+  @Test
+  public void check_againstNullStrings_shouldReturnNullTarget() {
+
+    assertEquals(
+        ThemisViolationType.NULL_TARGET,
+        Themis.check(TEST_TARGET_NAME, null)
+            .againstNullStrings()
+            .getResult()
+            .getViolationType());
+  }
+
+  @Test
+  public void check_againstEmptyStrings_shouldReturnNullTarget() {
+
+    assertEquals(
+        ThemisViolationType.NULL_TARGET,
+        Themis.check(TEST_TARGET_NAME, null)
+            .againstEmptyStrings()
+            .getResult()
+            .getViolationType());
+  }
+
+  @Test
+  public void check_againstEmptyStrings_shouldReturnEmptyTarget() {
+
+    assertEquals(
+        ThemisViolationType.EMPTY_TARGET,
+        Themis.check(TEST_TARGET_NAME, "")
+            .againstEmptyStrings()
+            .getResult()
+            .getViolationType());
+  }
+
+  @Test
+  public void check_againstBlankStrings_shouldReturnBlankTargetString() {
+
+    assertEquals(
+        ThemisResult.invalid(
+            TEST_TARGET_NAME,
+            ThemisViolationType.BLANK_TARGET_STRING),
+        Themis.check(TEST_TARGET_NAME, " ")
+            .againstBlankStrings()
+            .getResult());
+  }
+
+  @Test
+  public void check_againstInvalidStrings_shouldReturnInvalidTarget() {
+
+    assertEquals(
+        ThemisViolationType.INVALID_TARGET,
+        Themis.check(TEST_TARGET_NAME, TEST_INVALID_TARGET)
+            .againstInvalidStrings(t -> t.equals(TEST_INVALID_TARGET))
+            .getResult()
+            .getViolationType());
+  }
+
+  @Test
+  public void check_shouldReturnFirstViolation() {
+
+    assertEquals(
+        ThemisViolationType.NULL_TARGET,
+        Themis.check(TEST_TARGET_NAME, null)
+            .againstNullStrings()
+            .againstBlankStrings()
+            .againstInvalidStrings(String::isEmpty)
+            .getResult()
+            .getViolationType());
+  }
+
+  @Test
+  public void check_validTarget_shouldReturnValid() {
+
+    assertSame(
+        ThemisResult.valid(),
+        Themis.check(TEST_TARGET_NAME, TEST_TARGET)
+            .againstBlankStrings()
+            .againstInvalidStrings(t -> t.equals(TEST_INVALID_TARGET))
+            .getResult());
+  }
+
+  @Test
+  public void againstNonUuids_shouldThrowInvalidTarget() {
+
+    assertThrows(
+        ThemisInvalidTargetException.class,
+        () -> Themis.validate(TEST_TARGET_NAME, TEST_TARGET)
+            .againstNonUuids());
+  }
+
+  @Test
+  public void formatRules_validTargets_shouldReturnStringEunomia() {
+
+    assertEquals(
+        StringEunomia.class,
+        Themis.validate(TEST_TARGET_NAME, "2024-02-29")
+            .againstNonIsoDates()
+            .againstNonMatching("[0-9-]+")
+            .againstNonMatching(Pattern.compile("\\d{4}-.*"))
+            .getClass());
+    assertEquals(
+        StringEunomia.class,
+        Themis.validate(TEST_TARGET_NAME, "::ffff:10.0.0.1")
+            .againstNonIpv6Addresses()
+            .getClass());
+  }
+
+  @Test
+  public void againstNonEmails_nullTarget_shouldThrowNullTarget() {
+
+    assertThrows(
+        ThemisNullTargetException.class,
+        () -> Themis.validate(TEST_TARGET_NAME, null).againstNonEmails());
+  }
+
+  @Test
+  public void againstNonMatching_shouldThrowInvalidTarget() {
+
+    assertThrows(
+        ThemisInvalidTargetException.class,
+        () -> Themis.validate(TEST_TARGET_NAME, TEST_TARGET)
+            .againstNonMatching("Test"));
+  }
+
+  @Test
+  public void againstValuesNotIn_shouldThrowInvalidTarget() {
+
+    assertThrows(
+        ThemisInvalidTargetException.class,
+        () -> Themis.validate(TEST_TARGET_NAME, TEST_TARGET)
+            .againstValuesNotIn(ValueSet.of("GBP", "EUR")));
+  }
+
+  @Test
+  public void againstValuesNotIn_shouldReturnStringEunomia() {
+
+    assertEquals(
+        StringEunomia.class,
+        Themis.validate(TEST_TARGET_NAME, "EUR")
+            .againstValuesNotIn(ValueSet.of("GBP", "EUR"))
+            .getClass());
+  }
+
+  @Test
+  public void againstValuesNotIn_nullTarget_shouldThrowNullTarget() {
+
+    assertThrows(
+        ThemisNullTargetException.class,
+        () -> Themis.validate(TEST_TARGET_NAME, null)
+            .againstValuesNotIn(ValueSet.of("GBP")));
+  }
+
 }
@@ -0,0 +1,233 @@
+package uk.co.noop.themis.eunomia;
+
+import org.junit.jupiter.api.Test;
+import uk.co.noop.themis.Themis;
+import uk.co.noop.themis.ThemisCollector;
+import uk.co.noop.themis.exception.ThemisBlankTargetStringException;
+import uk.co.noop.themis.exception.ThemisEmptyTargetException;
+import uk.co.noop.themis.exception.ThemisInvalidTargetException;
+import uk.co.noop.themis.exception.ThemisNullTargetException;
+import uk.co.noop.themis.rule.CharacterSet;
+import uk.co.noop.themis.rule.Utf8Rules;
+import uk.co.noop.themis.violation.ThemisResult;
+import uk.co.noop.themis.violation.ThemisViolationType;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class Utf8EunomiaTest {
+
+  private static final String TEST_TARGET_NAME = "Test Target Name";
+
+  private static final byte[] TEST_TARGET =
+      "Grüße, 世界".getBytes(StandardCharsets.UTF_8);
+
+  private static final byte[] TEST_MALFORMED_TARGET =
+      {'o', 'k', (byte) 0xC3, '!'};
+
+  @Test
+  public void againstNullUtf8Bytes_shouldThrowNullTarget() {
+
+    assertThrows(
+        ThemisNullTargetException.class,
+        () -> Themis.validateUtf8(TEST_TARGET_NAME, (byte[]) null)
+            .againstNullUtf8Bytes());
+    assertThrows(
+        ThemisNullTargetException.class,
+        () -> Themis.validateUtf8(TEST_TARGET_NAME, (ByteBuffer) null)
+            .againstMalformedUtf8Bytes());
+  }
+
+  @Test
+  public void againstEmptyUtf8Bytes_shouldThrowEmptyTarget() {
+
+    assertThrows(
+        ThemisEmptyTargetException.class,
+        () -> Themis.validateUtf8(TEST_TARGET_NAME, TEST_TARGET, 3, 0)
+            .againstEmptyUtf8Bytes());
+  }
+
+  @Test
+  public void againstBlankUtf8Bytes_shouldThrowBlankTargetString() {
+
+    assertThrows(
+        ThemisBlankTargetStringException.class,
+        () -> Themis.validateUtf8(TEST_TARGET_NAME, direct(" \t\n "))
+            .againstBlankUtf8Bytes());
+  }
+
+  @Test
+  public void againstMalformedUtf8Bytes_shouldThrowInvalidTarget() {
+
+    assertThrows(
+        ThemisInvalidTargetException.class,
+        () -> Themis.validateUtf8(TEST_TARGET_NAME, TEST_MALFORMED_TARGET)
+            .againstMalformedUtf8Bytes());
+  }
+
+  @Test
+  public void againstMalformedUtf8Bytes_validSlice_shouldReturnUtf8Eunomia() {
+
+    assertEquals(
+        Utf8Eunomia.class,
+        Themis.validateUtf8(TEST_TARGET_NAME, TEST_MALFORMED_TARGET, 0, 2)
+            .againstMalformedUtf8Bytes()
+            .getClass());
+  }
+
+  @Test
+  public void validateUtf8_sliceOutOfBounds_shouldThrowIndexOutOfBounds() {
+
+    assertThrows(
+        IndexOutOfBoundsException.class,
+        () -> Themis.validateUtf8(TEST_TARGET_NAME, TEST_TARGET, 4, 100));
+  }
+
+  @Test
+  public void againstLongUtf8Bytes_shouldThrowInvalidTarget() {
+
+    assertThrows(
+        ThemisInvalidTargetException.class,
+        () -> Themis.validateUtf8(TEST_TARGET_NAME, TEST_TARGET)
+            .againstLongUtf8Bytes(TEST_TARGET.length - 1));
+  }
+
+  @Test
+  public void againstLongUtf8CodePoints_shouldCountCodePoints() {
+
+    final ByteBuffer target = direct("Grüße, 世界");
+
+    Themis.validateUtf8(TEST_TARGET_NAME, target)
+        .againstLongUtf8CodePoints(9)
+        .againstShortUtf8CodePoints(9)
+        .againstShortUtf8Bytes(target.remaining());
+
+    assertThrows(
+        ThemisInvalidTargetException.class,
+        () -> Themis.validateUtf8(TEST_TARGET_NAME, target)
+            .againstLongUtf8CodePoints(8));
+  }
+
+  @Test
+  public void againstCharactersOutside_shouldThrowInvalidTarget() {
+
+    final CharacterSet latin1 = CharacterSet.range((char) 0x00, (char) 0xFF);
+
+    Themis.validateUtf8(TEST_TARGET_NAME, TEST_TARGET, 0, 7)
+        .againstCharactersOutside(latin1);
+
+    assertThrows(
+        ThemisInvalidTargetException.class,
+        () -> Themis.validateUtf8(TEST_TARGET_NAME, TEST_TARGET)
+            .againstCharactersOutside(latin1));
+  }
+
+  @Test
+  public void againstNonAsciiCharacters_shouldThrowInvalidTarget() {
+
+    final ByteBuffer target = ByteBuffer.wrap(TEST_TARGET);
+
+    assertThrows(
+        ThemisInvalidTargetException.class,
+        () -> Themis.validateUtf8(TEST_TARGET_NAME, target)
+            .againstNonAsciiCharacters());
+  }
+
+  @Test
+  public void againstControlCharacters_shouldThrowInvalidTarget() {
+
+    assertThrows(
+        ThemisInvalidTargetException.class,
+        () -> Themis.validateUtf8(TEST_TARGET_NAME, direct("bell\u0007"))
+            .againstControlCharacters());
+  }
+
+  @Test
+  public void againstInvalidUtf8Bytes_shouldTestSlice() {
+
+    Themis.validateUtf8(TEST_TARGET_NAME, TEST_TARGET, 2, 3)
+        .againstInvalidUtf8Bytes(buffer -> buffer.remaining() != 3);
+
+    assertThrows(
+        ThemisInvalidTargetException.class,
+        () -> Themis.validateUtf8(TEST_TARGET_NAME, TEST_TARGET, 2, 3)
+            .againstInvalidUtf8Bytes(buffer -> buffer.get(0) == (byte) 0xC3));
+  }
+
+  @Test
+  public void againstRule_shouldTestBuffer() {
+
+    assertThrows(
+        ThemisInvalidTargetException.class,
+        () -> Themis.validateUtf8(TEST_TARGET_NAME, TEST_MALFORMED_TARGET)
+            .againstRule(Utf8Rules.againstMalformedUtf8Bytes()));
+  }
+
+  @Test
+  public void validateUtf8_buffer_shouldNotChangePosition() {
+
+    final ByteBuffer target = direct("Grüße, 世界");
+
+    target.position(2);
+
+    Themis.validateUtf8(TEST_TARGET_NAME, target)
+        .againstMalformedUtf8Bytes()
+        .againstControlCharacters()
+        .againstLongUtf8CodePoints(64);
+
+    assertEquals(2, target.position());
+  }
+
+  @Test
+  public void checkUtf8_malformed_shouldRecordInvalidTarget() {
+
+    final ThemisResult result =
+        Themis.checkUtf8(TEST_TARGET_NAME, TEST_MALFORMED_TARGET)
+            .againstBlankUtf8Bytes()
+            .againstMalformedUtf8Bytes()
+            .getResult();
+
+    assertTrue(result.isInvalid());
+    assertEquals(
+        ThemisViolationType.INVALID_TARGET,
+        result.getViolationType());
+  }
+
+  @Test
+  public void checkUtf8_valid_shouldReturnSharedValidResult() {
+
+    assertSame(
+        ThemisResult.valid(),
+        Themis.checkUtf8(TEST_TARGET_NAME, direct("valid"))
+            .againstMalformedUtf8Bytes()
+            .getResult());
+  }
+
+  @Test
+  public void collector_validateUtf8_shouldCollectViolations() {
+
+    final ThemisCollector collector = Themis.collect();
+
+    collector.validateUtf8("a", TEST_MALFORMED_TARGET)
+        .againstMalformedUtf8Bytes();
+    collector.validateUtf8("b", direct(" ")).againstBlankUtf8Bytes();
+    collector.validateUtf8("c", TEST_TARGET).againstMalformedUtf8Bytes();
+
+    assertFalse(collector.getReport().isValid());
+    assertEquals(2, collector.getReport().size());
+  }
+
+  private static ByteBuffer direct(final String target) {
+
+    final byte[] bytes = target.getBytes(StandardCharsets.UTF_8);
+
+    return ByteBuffer.allocateDirect(bytes.length).put(bytes).flip();
+  }
+
+}
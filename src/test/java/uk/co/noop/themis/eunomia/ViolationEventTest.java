@@ -0,0 +1,108 @@
+package uk.co.noop.themis.eunomia;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import uk.co.noop.themis.Themis;
+import uk.co.noop.themis.exception.ThemisBlankTargetStringException;
+import uk.co.noop.themis.exception.ThemisInvalidTargetException;
+import uk.co.noop.themis.metrics.ThemisMetrics;
+import uk.co.noop.themis.validator.ThemisValidator;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ViolationEventTest {
+
+  @Test
+  public void violated_recording_shouldCommitEventForEachViolation()
+      throws Exception {
+
+    final List<RecordedEvent> events = record(() -> {
+
+      Themis.validate("id", "a").againstBlankStrings();
+      assertThrows(
+          ThemisBlankTargetStringException.class,
+          () -> Themis.validate("id", " ").againstBlankStrings());
+      assertThrows(
+          ThemisInvalidTargetException.class,
+          () -> Themis.validate("code", "x").againstInvalidStrings(
+              code -> code.length() < 2));
+    });
+
+    assertEquals(2, events.size());
+    assertEquals("id", events.get(0).getString("targetName"));
+    assertEquals("againstBlankStrings", events.get(0).getString("rule"));
+    assertEquals(
+        "BLANK_TARGET_STRING",
+        events.get(0).getString("violationType"));
+    assertEquals(
+        ThemisBlankTargetStringException.class.getName(),
+        events.get(0).getClass("exceptionType").getName());
+    assertEquals("code", events.get(1).getString("targetName"));
+    assertEquals("againstInvalidStrings", events.get(1).getString("rule"));
+  }
+
+  @Test
+  public void violated_checking_shouldCommitEventWithoutExceptionType()
+      throws Exception {
+
+    final List<RecordedEvent> events =
+        record(() -> Themis.check("id", "").againstBlankStrings());
+
+    assertEquals(1, events.size());
+    assertEquals("EMPTY_TARGET", events.get(0).getString("violationType"));
+    assertNull(events.get(0).getClass("exceptionType"));
+  }
+
+  @Test
+  public void raise_validator_shouldCommitEvent() throws Exception {
+
+    final ThemisValidator<String> validator =
+        ThemisValidator.forStrings("name").againstBlankStrings().build();
+
+    final List<RecordedEvent> events = record(() -> assertThrows(
+        ThemisBlankTargetStringException.class,
+        () -> validator.validate(" ")));
+
+    assertEquals(1, events.size());
+    assertEquals("name", events.get(0).getString("targetName"));
+    assertEquals(
+        ThemisMetrics.VALIDATOR_RULE,
+        events.get(0).getString("rule"));
+  }
+
+  private static List<RecordedEvent> record(final Runnable runnable)
+      throws Exception {
+
+    final Path file = Files.createTempFile("themis", ".jfr");
+
+    try (Recording recording = new Recording()) {
+
+      recording.enable(ViolationEvent.NAME);
+      recording.start();
+      runnable.run();
+      recording.stop();
+      recording.dump(file);
+
+      final List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+
+      assertTrue(events.stream().allMatch(
+          event -> event.getEventType().getName()
+              .equals(ViolationEvent.NAME)));
+
+      return events;
+
+    } finally {
+      Files.deleteIfExists(file);
+    }
+  }
+
+}
@@ -0,0 +1,160 @@
+package uk.co.noop.themis.exception;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+public class ThemisTargetExceptionTest {
+
+  private static final String TEST_TARGET_NAME = "Test Target Name";
+  private static final String TEST_TARGET = "Test Target";
+  private static final String TEST_MESSAGE =
+      "Themis detected an invalid target; "
+          + "`Test Target Name` cannot be `Test Target`.";
+
+  @AfterEach
+  public void resetLightweight() {
+    ThemisTargetException.setLightweight(false);
+  }
+
+  @Test
+  public void getMessage_shouldReturnFormattedMessage() {
+
+    assertEquals(
+        TEST_MESSAGE,
+        new ThemisInvalidTargetException(TEST_TARGET_NAME, TEST_TARGET)
+            .getMessage());
+  }
+
+  @Test
+  public void getMessage_lightweight_shouldReturnFormattedMessage() {
+
+    ThemisTargetException.setLightweight(true);
+
+    assertEquals(
+        TEST_MESSAGE,
+        new ThemisInvalidTargetException(TEST_TARGET_NAME, TEST_TARGET)
+            .getMessage());
+  }
+
+  @Test
+  public void getStackTrace_shouldReturnStackTrace() {
+
+    assertNotEquals(
+        0,
+        new ThemisNullTargetException(TEST_TARGET_NAME)
+            .getStackTrace()
+            .length);
+  }
+
+  @Test
+  public void getStackTrace_lightweight_shouldReturnEmptyStackTrace() {
+
+    ThemisTargetException.setLightweight(true);
+
+    assertEquals(
+        0,
+        new ThemisNullTargetException(TEST_TARGET_NAME)
+            .getStackTrace()
+            .length);
+  }
+
+  @Test
+  public void getTargetName_shouldReturnTargetName() {
+
+    assertEquals(
+        TEST_TARGET_NAME,
+        new ThemisEmptyTargetException(TEST_TARGET_NAME).getTargetName());
+  }
+
+  @Test
+  public void getMessage_prebuilt_shouldReturnFormattedMessage() {
+
+    final ThemisTargetMessages messages =
+        ThemisTargetMessages.of(TEST_TARGET_NAME);
+
+    assertEquals(
+        TEST_MESSAGE,
+        messages.invalidTarget(TEST_TARGET).getMessage());
+    assertEquals(
+        new ThemisNullTargetException(TEST_TARGET_NAME).getMessage(),
+        messages.nullTarget().getMessage());
+    assertEquals(
+        new ThemisEmptyTargetException(TEST_TARGET_NAME).getMessage(),
+        messages.emptyTarget().getMessage());
+    assertEquals(
+        new ThemisBlankTargetStringException(TEST_TARGET_NAME).getMessage(),
+        messages.blankTargetString().getMessage());
+  }
+
+  @Test
+  public void getMessage_prebuiltLightweight_shouldReturnFormattedMessage() {
+
+    ThemisTargetException.setLightweight(true);
+
+    final ThemisInvalidTargetException exception =
+        ThemisTargetMessages.of(TEST_TARGET_NAME).invalidTarget(null);
+
+    assertEquals(0, exception.getStackTrace().length);
+    assertEquals(
+        "Themis detected an invalid target; "
+            + "`Test Target Name` cannot be `null`.",
+        exception.getMessage());
+    assertEquals(TEST_TARGET_NAME, exception.getTargetName());
+  }
+
+  @Test
+  public void serialize_lightweight_shouldKeepMessageNotTarget()
+      throws Exception {
+
+    ThemisTargetException.setLightweight(true);
+
+    final Object target = new Object() {
+
+      @Override
+      public String toString() {
+        return TEST_TARGET;
+      }
+    };
+
+    final ThemisTargetException exception = roundTrip(
+        new ThemisInvalidTargetException(TEST_TARGET_NAME, target));
+
+    assertEquals(TEST_MESSAGE, exception.getMessage());
+    assertEquals(TEST_TARGET_NAME, exception.getTargetName());
+  }
+
+  @Test
+  public void serialize_shouldKeepMessage() throws Exception {
+
+    final ThemisTargetException exception = roundTrip(
+        new ThemisInvalidTargetException(TEST_TARGET_NAME, TEST_TARGET));
+
+    assertEquals(TEST_MESSAGE, exception.getMessage());
+    assertEquals(TEST_TARGET_NAME, exception.getTargetName());
+  }
+
+  private static ThemisTargetException roundTrip(
+      final ThemisTargetException exception) throws Exception {
+
+    final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+    try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+      out.writeObject(exception);
+    }
+
+    try (ObjectInputStream in = new ObjectInputStream(
+        new ByteArrayInputStream(bytes.toByteArray()))) {
+
+      return (ThemisTargetException) in.readObject();
+    }
+  }
+
+}
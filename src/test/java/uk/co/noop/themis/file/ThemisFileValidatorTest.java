@@ -0,0 +1,209 @@
+package uk.co.noop.themis.file;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import uk.co.noop.themis.exception.ThemisInvalidTargetException;
+import uk.co.noop.themis.rule.ThemisRule;
+import uk.co.noop.themis.rule.Utf8Rules;
+import uk.co.noop.themis.violation.ThemisViolationType;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ThemisFileValidatorTest {
+
+  private static final ThemisFileValidator VALIDATOR =
+      ThemisFileValidator.forCsv()
+          .skipHeader()
+          .againstRule(0, Utf8Rules.againstBlankUtf8Bytes())
+          .againstRule(0, Utf8Rules.againstLongUtf8Bytes(3))
+          .againstRule(2, Utf8Rules.againstNonAsciiCharacters())
+          .build();
+
+  @TempDir
+  private Path directory;
+
+  @Test
+  public void validate_validFile_shouldReturnValidReport() throws IOException {
+
+    final ThemisFileReport report = VALIDATOR.validate(
+        write("id,name,city\n1,a,x\n22,b,y\n333,c,z\n"));
+
+    assertTrue(report.isValid());
+    assertEquals(0, report.size());
+    assertEquals(3, report.getRecordCount());
+    assertFalse(report.isTruncated());
+  }
+
+  @Test
+  public void validate_invalidFields_shouldReportRowColumnAndRule()
+      throws IOException {
+
+    final ThemisFileReport report = VALIDATOR.validate(
+        write("id,name,city\r\n ,a,x\r\n4444,b,Zürich\r\n5,c\r\n"));
+
+    assertEquals(4, report.size());
+    assertReported(report, 0, 2, 0, 0, ThemisViolationType.BLANK_TARGET_STRING);
+    assertReported(report, 1, 3, 0, 1, ThemisViolationType.INVALID_TARGET);
+    assertReported(report, 2, 3, 2, 0, ThemisViolationType.INVALID_TARGET);
+    assertReported(report, 3, 4, 2, 0, ThemisViolationType.NULL_TARGET);
+  }
+
+  @Test
+  public void validate_crlf_shouldNotIncludeCarriageReturn()
+      throws IOException {
+
+    final ThemisFileReport report = ThemisFileValidator.forTsv()
+        .againstRule(1, Utf8Rules.againstControlCharacters())
+        .build()
+        .validate(write("a\tb\r\nc\td\r\n"));
+
+    assertTrue(report.isValid());
+    assertEquals(2, report.getRecordCount());
+  }
+
+  @Test
+  public void validate_smallChunks_shouldMatchSingleChunk()
+      throws IOException {
+
+    final StringBuilder content = new StringBuilder("id,name,city\n");
+
+    for (int i = 0; i < 1000; i++) {
+      content.append(i % 7 == 0 ? " " : Integer.toString(i % 1000))
+          .append(',')
+          .append(i)
+          .append(i % 11 == 0 ? "\n" : ",é\n");
+    }
+
+    final Path path = write(content.toString());
+    final ThemisFileReport expected = VALIDATOR.validate(path);
+
+    for (final int chunkSize : new int[] {1, 7, 64, 1000}) {
+
+      final ThemisFileReport actual = ThemisFileValidator.forCsv()
+          .skipHeader()
+          .againstRule(0, Utf8Rules.againstBlankUtf8Bytes())
+          .againstRule(0, Utf8Rules.againstLongUtf8Bytes(3))
+          .againstRule(2, Utf8Rules.againstNonAsciiCharacters())
+          .chunkSize(chunkSize)
+          .build()
+          .validate(path);
+
+      assertEquals(expected.toString(), actual.toString());
+      assertEquals(1000, actual.getRecordCount());
+    }
+
+    assertFalse(expected.isValid());
+  }
+
+  @Test
+  public void validate_maxViolations_shouldTruncate() throws IOException {
+
+    final ThemisFileReport report = ThemisFileValidator.forCsv()
+        .againstRule(0, Utf8Rules.againstBlankUtf8Bytes())
+        .maxViolations(2)
+        .chunkSize(4)
+        .build()
+        .validate(write(" \n \nx\n \n \n"));
+
+    assertEquals(2, report.size());
+    assertEquals(1, report.getRow(0));
+    assertEquals(2, report.getRow(1));
+    assertTrue(report.isTruncated());
+  }
+
+  @Test
+  public void validate_emptyFile_shouldReturnValidReport()
+      throws IOException {
+
+    final ThemisFileReport report = VALIDATOR.validate(write(""));
+
+    assertTrue(report.isValid());
+    assertEquals(0, report.getRecordCount());
+  }
+
+  @Test
+  public void validate_fields_shouldBeRelativeToPosition()
+      throws IOException {
+
+    final List<String> fields = new ArrayList<>();
+    final ThemisRule<ByteBuffer> recording = field -> {
+      fields.add(StandardCharsets.UTF_8.decode(field).toString());
+      return null;
+    };
+
+    ThemisFileValidator.forDelimited('|')
+        .againstRule(1, recording)
+        .againstRule(1, recording)
+        .build()
+        .validate(write("a|bc|d\n|é\n"));
+
+    assertEquals(List.of("bc", "bc", "é", "é"), fields);
+  }
+
+  @Test
+  public void validate_missingFile_shouldThrowIOException() {
+
+    assertThrows(
+        NoSuchFileException.class,
+        () -> VALIDATOR.validate(directory.resolve("missing.csv")));
+  }
+
+  @Test
+  public void forDelimited_lineBreak_shouldThrowInvalidTarget() {
+
+    assertThrows(
+        ThemisInvalidTargetException.class,
+        () -> ThemisFileValidator.forDelimited('\n'));
+  }
+
+  @Test
+  public void forDelimited_nonAscii_shouldThrowInvalidTarget() {
+
+    assertThrows(
+        ThemisInvalidTargetException.class,
+        () -> ThemisFileValidator.forDelimited('\u00A7'));
+  }
+
+  @Test
+  public void againstRule_negativeColumn_shouldThrowInvalidTarget() {
+
+    assertThrows(
+        ThemisInvalidTargetException.class,
+        () -> ThemisFileValidator.forCsv()
+            .againstRule(-1, Utf8Rules.againstNullUtf8Bytes()));
+  }
+
+  private Path write(final String content) throws IOException {
+
+    return Files.writeString(
+        Files.createTempFile(directory, "themis", ".csv"),
+        content);
+  }
+
+  private static void assertReported(
+      final ThemisFileReport report,
+      final int index,
+      final long row,
+      final int column,
+      final int rule,
+      final ThemisViolationType violationType) {
+
+    assertEquals(row, report.getRow(index));
+    assertEquals(column, report.getColumn(index));
+    assertEquals(rule, report.getRule(index));
+    assertEquals(violationType, report.getViolationType(index));
+  }
+
+}
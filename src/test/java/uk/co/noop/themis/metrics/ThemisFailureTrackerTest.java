@@ -0,0 +1,247 @@
+package uk.co.noop.themis.metrics;
+
+import org.junit.jupiter.api.Test;
+import uk.co.noop.themis.Themis;
+import uk.co.noop.themis.annotation.NotBlank;
+import uk.co.noop.themis.column.ThemisColumns;
+import uk.co.noop.themis.exception.ThemisBlankTargetStringException;
+import uk.co.noop.themis.exception.ThemisInvalidTargetException;
+import uk.co.noop.themis.exception.ThemisNullTargetException;
+import uk.co.noop.themis.stream.ThemisStreams;
+import uk.co.noop.themis.validator.ThemisValidator;
+import uk.co.noop.themis.violation.ThemisViolationHandler;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ThemisFailureTrackerTest {
+
+  @Test
+  public void getTop_shouldReportHeavyHittersAmongManyTargets() {
+
+    final ThemisFailureTracker tracker = new ThemisFailureTracker(4);
+
+    for (int i = 0; i < 20_000; i++) {
+
+      tracker.record("row " + i, "againstBlankStrings");
+
+      if (i % 4 == 0) {
+        tracker.record("id", "againstBlankStrings");
+      }
+
+      if (i % 8 == 0) {
+        tracker.record("email", "againstInvalidEmails");
+      }
+    }
+
+    final List<ThemisTrackedFailure> top = tracker.getTop();
+
+    assertTrue(top.size() <= 4);
+    assertEquals("id", top.get(0).getTargetName());
+    assertEquals("againstBlankStrings", top.get(0).getRule());
+    assertTrue(top.get(0).getFailures() >= 5_000);
+    assertTrue(top.get(0).getFailures() < 5_500);
+    assertEquals("email", top.get(1).getTargetName());
+    assertEquals("againstInvalidEmails", top.get(1).getRule());
+    assertTrue(top.get(1).getFailures() >= 2_500);
+    assertEquals(27_500, tracker.getFailures());
+    assertTrue(top.get(0).getFailureShare() > 0.18);
+    assertTrue(top.get(0).getFailuresPerSecond() > 0);
+  }
+
+  @Test
+  public void getTop_shouldSeparateRulesOfSameTarget() {
+
+    final ThemisFailureTracker tracker = new ThemisFailureTracker(4);
+
+    tracker.record("id", "againstBlankStrings");
+    tracker.record("id", "againstLongStrings");
+    tracker.record("id", "againstLongStrings");
+
+    final List<ThemisTrackedFailure> top = tracker.getTop();
+
+    assertEquals(2, top.size());
+    assertEquals("againstLongStrings", top.get(0).getRule());
+    assertEquals(2, top.get(0).getFailures());
+    assertEquals("againstBlankStrings", top.get(1).getRule());
+    assertEquals(1, top.get(1).getFailures());
+  }
+
+  @Test
+  public void getTop_fullOfHeavyHitters_shouldKeepEachOnce() {
+
+    final ThemisFailureTracker tracker = new ThemisFailureTracker(64);
+
+    for (int i = 0; i < 64_000; i++) {
+
+      tracker.record("field " + i % 64, "againstBlankStrings");
+
+      if (i % 16 == 0) {
+        tracker.record("row " + i, "againstBlankStrings");
+      }
+    }
+
+    final List<ThemisTrackedFailure> top = tracker.getTop();
+
+    assertEquals(64, top.size());
+
+    for (final ThemisTrackedFailure failure : top) {
+      assertTrue(failure.getTargetName().startsWith("field "));
+      assertTrue(failure.getFailures() >= 1_000);
+    }
+  }
+
+  @Test
+  public void record_concurrently_shouldCountEveryFailure() throws Exception {
+
+    final ThemisFailureTracker tracker = new ThemisFailureTracker(8);
+    final ExecutorService executor = Executors.newFixedThreadPool(4);
+    final List<Future<?>> futures = new ArrayList<>();
+
+    try {
+
+      for (int t = 0; t < 4; t++) {
+
+        final int thread = t;
+
+        futures.add(executor.submit(() -> {
+          for (int i = 0; i < 10_000; i++) {
+            tracker.record("id", "againstBlankStrings");
+            tracker.record("thread " + thread + " row " + i, "againstNull");
+          }
+        }));
+      }
+
+      for (final Future<?> future : futures) {
+        future.get(30, TimeUnit.SECONDS);
+      }
+
+    } finally {
+      executor.shutdown();
+    }
+
+    final ThemisTrackedFailure first = tracker.getTop().get(0);
+
+    assertEquals("id", first.getTargetName());
+    assertTrue(first.getFailures() >= 40_000);
+    assertEquals(80_000, tracker.getFailures());
+  }
+
+  @Test
+  public void raise_everySite_shouldRecordFailure() {
+
+    final ThemisFailureTracker tracker = new ThemisFailureTracker(8);
+    final ThemisValidator<String> validator =
+        ThemisValidator.forStrings("name").againstBlankStrings().build();
+
+    ThemisMetrics.setFailureTracker(tracker);
+
+    try {
+
+      Themis.check("id", " ").againstBlankStrings();
+      validator.check(" ");
+      validator.validate(" ", ThemisViolationHandler.RECORDING);
+      assertThrows(
+          ThemisBlankTargetStringException.class,
+          () -> validator.validate(" "));
+      assertThrows(
+          ThemisBlankTargetStringException.class,
+          () -> ThemisStreams.validate(Stream.of(" "), validator).toList());
+      assertThrows(
+          ThemisBlankTargetStringException.class,
+          () -> Themis.validateAnnotated(new Account(" ")));
+      assertThrows(
+          ThemisNullTargetException.class,
+          () -> ThemisColumns.forInts("ages").build().validate(null));
+
+    } finally {
+      ThemisMetrics.setFailureTracker(null);
+    }
+
+    assertEquals(1, failures(tracker, "id", "againstBlankStrings"));
+    assertEquals(
+        3,
+        failures(tracker, "name", ThemisMetrics.VALIDATOR_RULE));
+    assertEquals(1, failures(tracker, "code", "@NotBlank"));
+    assertEquals(1, failures(tracker, "ages", "againstNullColumns"));
+    assertEquals(6, tracker.getFailures());
+  }
+
+  @Test
+  public void reset_shouldDiscardFailures() {
+
+    final ThemisFailureTracker tracker = new ThemisFailureTracker(4);
+
+    tracker.record("id", "againstBlankStrings");
+    tracker.reset();
+
+    assertTrue(tracker.getTop().isEmpty());
+    assertEquals(0, tracker.getFailures());
+  }
+
+  @Test
+  public void new_invalidCapacity_shouldThrowInvalidTarget() {
+
+    assertThrows(
+        ThemisInvalidTargetException.class,
+        () -> new ThemisFailureTracker(0));
+    assertThrows(
+        ThemisInvalidTargetException.class,
+        () -> new ThemisFailureTracker(4, 1024, 17));
+  }
+
+  @Test
+  public void setFailureTracker_shouldRecordEveryViolation() {
+
+    final ThemisFailureTracker tracker = new ThemisFailureTracker(4);
+
+    ThemisMetrics.setFailureTracker(tracker);
+
+    try {
+
+      Themis.check("id", " ").againstBlankStrings();
+      Themis.check("id", "a").againstBlankStrings();
+      assertThrows(
+          ThemisInvalidTargetException.class,
+          () -> Themis.validate("count", 5).againstValuesAbove(4));
+
+    } finally {
+      ThemisMetrics.setFailureTracker(null);
+    }
+
+    Themis.check("id", " ").againstBlankStrings();
+
+    final List<ThemisTrackedFailure> top = tracker.getTop();
+
+    assertEquals(2, top.size());
+    assertEquals("count", top.get(0).getTargetName());
+    assertEquals("againstValuesAbove", top.get(0).getRule());
+    assertEquals("id", top.get(1).getTargetName());
+    assertEquals("againstBlankStrings", top.get(1).getRule());
+  }
+
+  private static long failures(
+      final ThemisFailureTracker tracker,
+      final String targetName,
+      final String rule) {
+
+    return tracker.getTop().stream()
+        .filter(failure -> failure.getTargetName().equals(targetName))
+        .filter(failure -> failure.getRule().equals(rule))
+        .mapToLong(ThemisTrackedFailure::getFailures)
+        .sum();
+  }
+
+  private record Account(@NotBlank String code) {
+  }
+
+}
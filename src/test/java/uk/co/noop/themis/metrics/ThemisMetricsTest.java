@@ -0,0 +1,275 @@
+package uk.co.noop.themis.metrics;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import uk.co.noop.themis.Themis;
+import uk.co.noop.themis.annotation.NotBlank;
+import uk.co.noop.themis.annotation.NotNull;
+import uk.co.noop.themis.eunomia.AbstractEunomia;
+import uk.co.noop.themis.exception.ThemisBlankTargetStringException;
+import uk.co.noop.themis.exception.ThemisInvalidTargetException;
+import uk.co.noop.themis.exception.ThemisNullTargetException;
+import uk.co.noop.themis.validator.ThemisValidator;
+
+import javax.management.ObjectName;
+import javax.management.openmbean.CompositeData;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ThemisMetricsTest {
+
+  @BeforeEach
+  public void setUp() {
+    ThemisMetrics.reset();
+    ThemisMetrics.setEnabled(true);
+  }
+
+  @AfterEach
+  public void tearDown() {
+    ThemisMetrics.setEnabled(false);
+    ThemisMetrics.setSampleRate(64);
+    ThemisMetrics.reset();
+  }
+
+  @Test
+  public void record_shouldCountChecksPerTargetAndRule() {
+
+    Themis.validate("id", "a").againstBlankStrings();
+    Themis.validate("id", "b").againstBlankStrings();
+    Themis.check("id", " ").againstBlankStrings();
+    Themis.validate("count", 3).againstNegativeValues();
+
+    final ThemisMetricsSnapshot snapshot = ThemisMetrics.snapshot();
+    final ThemisRuleMetrics id = snapshot.get("id", "againstBlankStrings");
+
+    assertEquals(3, id.getChecks());
+    assertEquals(2, id.getPasses());
+    assertEquals(1, id.getFailures());
+    assertEquals(
+        1,
+        snapshot.get("count", "againstNegativeValues").getChecks());
+    assertEquals(4, snapshot.getChecks());
+    assertNull(snapshot.get("targetName", "againstBlankStrings"));
+    assertEquals(1, snapshot.getFailures());
+  }
+
+  @Test
+  public void record_throwingViolation_shouldCountFailure() {
+
+    assertThrows(
+        ThemisBlankTargetStringException.class,
+        () -> Themis.validate("id", " ").againstBlankStrings());
+    assertThrows(
+        ThemisNullTargetException.class,
+        () -> Themis.validate("value", (Object) null).againstNullObjects());
+
+    final ThemisMetricsSnapshot snapshot = ThemisMetrics.snapshot();
+
+    assertEquals(
+        1,
+        snapshot.get("id", "againstBlankStrings").getFailures());
+    assertEquals(
+        1,
+        snapshot.get("value", "againstNullObjects").getFailures());
+  }
+
+  @Test
+  public void record_unnamedRule_shouldCountUnderUnnamed() {
+
+    assertThrows(
+        ThemisInvalidTargetException.class,
+        () -> new EvenEunomia("even", 3).againstOdd());
+
+    assertEquals(
+        1,
+        ThemisMetrics.snapshot()
+            .get("even", ThemisMetrics.UNNAMED_RULE)
+            .getFailures());
+  }
+
+  @Test
+  public void record_disabled_shouldRecordNothing() {
+
+    ThemisMetrics.setEnabled(false);
+
+    Themis.validate("id", "a").againstBlankStrings();
+    Themis.check("id", " ").againstBlankStrings();
+
+    assertTrue(ThemisMetrics.snapshot().getRules().isEmpty());
+    assertNull(ThemisMetrics.snapshot().get("id", "againstBlankStrings"));
+  }
+
+  @Test
+  public void record_sampleRateOne_shouldSampleEveryCheck() {
+
+    ThemisMetrics.setSampleRate(1);
+
+    for (int i = 0; i < 100; i++) {
+      Themis.validate("id", "a")
+          .againstBlankStrings()
+          .againstInvalidStrings(String::isEmpty);
+    }
+
+    final ThemisMetricsSnapshot snapshot = ThemisMetrics.snapshot();
+    final ThemisRuleMetrics id = snapshot.get("id", "againstInvalidStrings");
+
+    assertEquals(100, id.getSampledChecks());
+    assertEquals(
+        100,
+        Arrays.stream(id.getLatencyHistogram()).sum());
+    assertTrue(id.latencyPercentileNanos(100) >= id.getMeanLatencyNanos());
+    assertEquals(
+        0,
+        snapshot.get("id", "againstBlankStrings").getSampledChecks());
+  }
+
+  @Test
+  public void record_validator_shouldCountChecks() {
+
+    final ThemisValidator<String> validator =
+        ThemisValidator.forStrings("id").againstBlankStrings().build();
+
+    validator.validate("a");
+    validator.check(" ");
+
+    final ThemisRuleMetrics id =
+        ThemisMetrics.snapshot().get("id", ThemisMetrics.VALIDATOR_RULE);
+
+    assertEquals(2, id.getChecks());
+    assertEquals(1, id.getFailures());
+  }
+
+  @Test
+  public void record_annotations_shouldCountChecks() {
+
+    Themis.checkAnnotated(new Account("a", "b"));
+    Themis.checkAnnotated(new Account(" ", "b"));
+
+    final ThemisMetricsSnapshot snapshot = ThemisMetrics.snapshot();
+
+    assertEquals(2, snapshot.get("id", "@NotBlank").getChecks());
+    assertEquals(1, snapshot.get("id", "@NotBlank").getFailures());
+    assertEquals(1, snapshot.get("name", "@NotNull").getPasses());
+  }
+
+  @Test
+  public void setSampleRate_shouldKeepExactRate() {
+
+    ThemisMetrics.setSampleRate(100);
+
+    assertEquals(100, ThemisMetrics.getSampleRate());
+    assertThrows(
+        ThemisInvalidTargetException.class,
+        () -> ThemisMetrics.setSampleRate(0));
+  }
+
+  @Test
+  public void publish_shouldPassSnapshotToListeners() {
+
+    final List<ThemisMetricsSnapshot> published = new ArrayList<>();
+    final ThemisMetricsListener listener = published::add;
+
+    ThemisMetrics.addListener(listener);
+
+    try {
+
+      Themis.validate("id", "a").againstBlankStrings();
+
+      final ThemisMetricsSnapshot snapshot = ThemisMetrics.publish();
+
+      assertEquals(List.of(snapshot), published);
+      assertEquals(
+          1,
+          snapshot.get("id", "againstBlankStrings").getChecks());
+
+    } finally {
+      assertTrue(ThemisMetrics.removeListener(listener));
+    }
+
+    assertFalse(ThemisMetrics.removeListener(listener));
+  }
+
+  @Test
+  public void reset_shouldDiscardMetrics() {
+
+    Themis.validate("id", "a").againstBlankStrings();
+    ThemisMetrics.reset();
+
+    assertTrue(ThemisMetrics.snapshot().getRules().isEmpty());
+  }
+
+  @Test
+  public void registerMBean_shouldExposeMetrics() throws Exception {
+
+    final ObjectName name = ThemisMetrics.registerMBean();
+
+    assertEquals(name, ThemisMetrics.registerMBean());
+
+    Themis.check("id", " ").againstBlankStrings();
+
+    assertEquals(
+        1L,
+        ManagementFactory.getPlatformMBeanServer()
+            .getAttribute(name, "Failures"));
+    assertEquals(
+        Boolean.TRUE,
+        ManagementFactory.getPlatformMBeanServer()
+            .getAttribute(name, "Enabled"));
+  }
+
+  @Test
+  public void registerMBean_failureTracker_shouldExposeTopFailures()
+      throws Exception {
+
+    final ObjectName name = ThemisMetrics.registerMBean();
+
+    ThemisMetrics.setFailureTracker(new ThemisFailureTracker(4));
+
+    try {
+
+      Themis.check("id", " ").againstBlankStrings();
+
+      final CompositeData[] top = (CompositeData[])
+          ManagementFactory.getPlatformMBeanServer()
+              .getAttribute(name, "TopFailures");
+
+      assertEquals(1, top.length);
+      assertEquals("id", top[0].get("targetName"));
+      assertEquals(1L, top[0].get("failures"));
+
+    } finally {
+      ThemisMetrics.setFailureTracker(null);
+    }
+  }
+
+  private record Account(@NotBlank String id, @NotNull String name) {
+  }
+
+  private static final class EvenEunomia
+      extends AbstractEunomia<Integer, EvenEunomia> {
+
+    EvenEunomia(final String targetName, final Integer target) {
+      super(targetName, target);
+    }
+
+    EvenEunomia againstOdd() {
+      return againstInvalidValues(value -> value % 2 != 0);
+    }
+
+    @Override
+    protected EvenEunomia getEunomia() {
+      return this;
+    }
+
+  }
+
+}
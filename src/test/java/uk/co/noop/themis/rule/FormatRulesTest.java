@@ -0,0 +1,328 @@
+package uk.co.noop.themis.rule;
+
+import org.junit.jupiter.api.Test;
+import uk.co.noop.themis.violation.ThemisViolationType;
+
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.Random;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+public class FormatRulesTest {
+
+  @Test
+  public void uuidViolation_shouldMatchUuidFormat() {
+
+    final Random random = new Random(42);
+
+    for (int i = 0; i < 100; i++) {
+
+      final String uuid = new UUID(random.nextLong(), random.nextLong())
+          .toString();
+
+      assertValid(FormatRules::uuidViolation, uuid, uuid.toUpperCase());
+    }
+
+    assertInvalid(
+        FormatRules::uuidViolation,
+        "",
+        "123e4567-e89b-12d3-a456-42661417400",
+        "123e4567-e89b-12d3-a456-4266141740000",
+        "123e4567e89b-12d3-a456-426614174000-",
+        "123e4567-e89b-12d3-a456_426614174000",
+        "123e4567-e89b-12d3-a456-42661417400g",
+        "{123e4567-e89b-12d3-a456-426614174000}");
+  }
+
+  @Test
+  public void emailViolation_shouldMatchEmailFormat() {
+
+    assertValid(
+        FormatRules::emailViolation,
+        "a@b",
+        "first.last@example.com",
+        "o'brien+tag@mail.example.co.uk",
+        "x@a-b.c1",
+        "!#$%&'*+-/=?^_`{|}~@example.com",
+        "a".repeat(64) + "@example.com");
+
+    assertInvalid(
+        FormatRules::emailViolation,
+        "",
+        "@example.com",
+        "a@",
+        "a",
+        "a@@example.com",
+        ".a@example.com",
+        "a.@example.com",
+        "a..b@example.com",
+        "a b@example.com",
+        "a@example..com",
+        "a@example.com.",
+        "a@-example.com",
+        "a@example-.com",
+        "a@exa_mple.com",
+        "a@" + "b".repeat(64) + ".com",
+        "a".repeat(65) + "@example.com",
+        "a@" + "b.".repeat(126) + "cd",
+        "\"a\"@example.com",
+        "é@example.com");
+  }
+
+  @Test
+  public void isoDateViolation_shouldMatchLocalDateParse() {
+
+    final Random random = new Random(42);
+
+    for (int i = 0; i < 10_000; i++) {
+
+      final String target = String.format(
+          "%04d-%02d-%02d",
+          random.nextInt(10_000),
+          random.nextInt(14),
+          random.nextInt(33));
+
+      assertEquals(
+          parses(LocalDate::parse, target),
+          FormatRules.isoDateViolation(target) == null,
+          target);
+    }
+
+    assertValid(FormatRules::isoDateViolation, "2000-02-29", "2024-02-29");
+    assertInvalid(
+        FormatRules::isoDateViolation,
+        "1900-02-29",
+        "2023-02-29",
+        "2024-04-31",
+        "2024-1-01",
+        "2024/01/01",
+        "+2024-01-01",
+        "2024-01-01T00:00",
+        "２０２４-01-01");
+  }
+
+  @Test
+  public void isoDateTimeViolation_shouldMatchOffsetDateTimeParse() {
+
+    final Random random = new Random(42);
+    final String[] seconds = {"", ":00", ":59", ":60", ":5", ":07.1",
+        ":07.123456789", ":07.1234567890"};
+    final String[] offsets = {"Z", "+01:00", "-18:00", "+18:00", "+18:01",
+        "+19:00", "+05:60", "+0100", "", "z", "+01"};
+
+    for (int i = 0; i < 10_000; i++) {
+
+      final String target = String.format(
+          "%04d-%02d-%02dT%02d:%02d%s%s",
+          random.nextInt(3000),
+          1 + random.nextInt(12),
+          1 + random.nextInt(31),
+          random.nextInt(26),
+          random.nextInt(62),
+          seconds[random.nextInt(seconds.length)],
+          offsets[random.nextInt(offsets.length - 2)]);
+
+      assertEquals(
+          parses(OffsetDateTime::parse, target),
+          FormatRules.isoDateTimeViolation(target) == null,
+          target);
+    }
+
+    assertValid(
+        FormatRules::isoDateTimeViolation,
+        "2024-02-29T13:45Z",
+        "2024-02-29T13:45:30.5+01:00",
+        OffsetDateTime.now().toString());
+
+    assertInvalid(
+        FormatRules::isoDateTimeViolation,
+        "2024-02-29",
+        "2024-02-29T13:45",
+        "2024-02-29 13:45Z",
+        "2024-02-29T13:45z",
+        "2024-02-29T13:45+01",
+        "2024-02-29T13:45+0100",
+        "2024-02-29T13:45:30.Z",
+        "2024-02-29T24:00Z");
+  }
+
+  @Test
+  public void ipv4AddressViolation_shouldMatchDottedDecimal() {
+
+    assertValid(
+        FormatRules::ipv4AddressViolation,
+        "0.0.0.0",
+        "127.0.0.1",
+        "192.168.10.255",
+        "255.255.255.255");
+
+    assertInvalid(
+        FormatRules::ipv4AddressViolation,
+        "",
+        "1.2.3",
+        "1.2.3.4.5",
+        "1.2.3.256",
+        "1.2.3.04",
+        "1.2.3.1234",
+        "1..3.4",
+        ".1.2.3",
+        "1.2.3.4.",
+        "1.2.3.-4",
+        "a.b.c.d",
+        " 1.2.3.4");
+  }
+
+  @Test
+  public void ipv6AddressViolation_shouldMatchRfc4291() {
+
+    assertValid(
+        FormatRules::ipv6AddressViolation,
+        "::",
+        "::1",
+        "1::",
+        "2001:db8::1",
+        "2001:DB8:0:0:8:800:200C:417A",
+        "1:2:3:4:5:6:7::",
+        "::2:3:4:5:6:7:8",
+        "fe80::1:2",
+        "::ffff:192.168.0.1",
+        "1:2:3:4:5:6:1.2.3.4",
+        "64:ff9b::1.2.3.4");
+
+    assertInvalid(
+        FormatRules::ipv6AddressViolation,
+        "",
+        ":",
+        ":::",
+        "1",
+        "1:2:3:4:5:6:7",
+        "1:2:3:4:5:6:7:8:9",
+        "1:2:3:4:5:6:7:8::",
+        "1::2::3",
+        ":1::2",
+        "1::2:",
+        "12345::",
+        "g::",
+        "1.2.3.4",
+        "::1.2.3",
+        "::1.2.3.4:5",
+        "1:2:3:4:5:6:7:1.2.3.4",
+        "fe80::1%eth0",
+        "[::1]");
+  }
+
+  @Test
+  public void hexViolation_shouldMatchHexDigits() {
+
+    assertValid(FormatRules::hexViolation, "0", "deadBEEF", "0123456789abcdef");
+    assertInvalid(FormatRules::hexViolation, "", "0x1F", "abcg", " a");
+  }
+
+  @Test
+  public void base64Violation_shouldMatchBase64Encoder() {
+
+    final Random random = new Random(42);
+
+    for (int length = 1; length < 100; length++) {
+
+      final byte[] bytes = new byte[length];
+
+      random.nextBytes(bytes);
+
+      assertValid(
+          FormatRules::base64Violation,
+          Base64.getEncoder().encodeToString(bytes));
+    }
+
+    assertInvalid(
+        FormatRules::base64Violation,
+        "",
+        "QQ",
+        "QQ=",
+        "Q===",
+        "====",
+        "QQ=A",
+        "Zm9v-mFy",
+        "Zm9v_mFy",
+        "Zm9v YmFy");
+  }
+
+  @Test
+  public void nonMatchingViolation_shouldMatchWholeTarget() {
+
+    final ThemisRule<String> rule = FormatRules.againstNonMatching("[a-z]+");
+
+    assertNull(rule.test("abc"));
+    assertEquals(ThemisViolationType.INVALID_TARGET, rule.test("abc1"));
+    assertEquals(ThemisViolationType.NULL_TARGET, rule.test(null));
+  }
+
+  @Test
+  public void pattern_shouldBeCached() {
+
+    final Pattern pattern = FormatRules.pattern("[0-9]{3}-cached");
+
+    assertSame(pattern, FormatRules.pattern("[0-9]{3}-cached"));
+  }
+
+  @Test
+  public void violations_nullTarget_shouldReturnNullTarget() {
+
+    final ThemisRule<?>[] rules = {
+        FormatRules.againstNonUuids(),
+        FormatRules.againstNonEmails(),
+        FormatRules.againstNonIsoDates(),
+        FormatRules.againstNonIsoDateTimes(),
+        FormatRules.againstNonIpv4Addresses(),
+        FormatRules.againstNonIpv6Addresses(),
+        FormatRules.againstNonHexStrings(),
+        FormatRules.againstNonBase64Strings()
+    };
+
+    for (final ThemisRule<?> rule : rules) {
+      assertEquals(ThemisViolationType.NULL_TARGET, rule.test(null));
+    }
+  }
+
+  private static boolean parses(
+      final Function<String, ?> parser,
+      final String target) {
+
+    try {
+      parser.apply(target);
+      return true;
+    } catch (final DateTimeParseException e) {
+      return false;
+    }
+  }
+
+  private static void assertValid(
+      final ThemisRule<String> rule,
+      final String... targets) {
+
+    for (final String target : targets) {
+      assertNull(rule.test(target), target);
+    }
+  }
+
+  private static void assertInvalid(
+      final ThemisRule<String> rule,
+      final String... targets) {
+
+    for (final String target : targets) {
+      assertEquals(
+          ThemisViolationType.INVALID_TARGET,
+          rule.test(target),
+          target);
+    }
+  }
+
+}
@@ -0,0 +1,241 @@
+package uk.co.noop.themis.rule;
+
+import org.junit.jupiter.api.Test;
+import uk.co.noop.themis.exception.ThemisInvalidTargetException;
+import uk.co.noop.themis.violation.ThemisViolationType;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class FusedStringRuleTest {
+
+  private static final CharacterSet LOWER = CharacterSet.range('a', 'z');
+  private static final CharacterSet UPPER = CharacterSet.range('A', 'Z');
+
+  private static final List<String> TARGETS = List.of(
+      "",
+      " ",
+      "    ",
+      "\t\n",
+      "abc",
+      "ABC",
+      "aBc",
+      " abc ",
+      "abcdefgh",
+      "a1",
+      "été",
+      "a\tb",
+      "ab\u0085");
+
+  @Test
+  public void test_null_shouldReturnNullTarget() {
+
+    assertEquals(
+        ThemisViolationType.NULL_TARGET,
+        StringRules.fuse()
+            .againstBlankStrings()
+            .againstLongStrings(4)
+            .build()
+            .test(null));
+  }
+
+  @Test
+  public void test_lengthBeforeBlank_shouldMatchChain() {
+
+    assertMatchesChain(
+        List.of(
+            StringRules.againstLongStrings(3),
+            StringRules.againstBlankStrings()),
+        StringRules.fuse()
+            .againstLongStrings(3)
+            .againstBlankStrings()
+            .build());
+  }
+
+  @Test
+  public void test_blankBeforeLength_shouldMatchChain() {
+
+    assertMatchesChain(
+        List.of(
+            StringRules.againstEmptyStrings(),
+            StringRules.againstBlankStrings(),
+            StringRules.againstShortStrings(2),
+            StringRules.againstLongStrings(4)),
+        StringRules.fuse()
+            .againstEmptyStrings()
+            .againstBlankStrings()
+            .againstShortStrings(2)
+            .againstLongStrings(4)
+            .build());
+  }
+
+  @Test
+  public void test_characterSetsAroundBlank_shouldMatchChain() {
+
+    assertMatchesChain(
+        List.of(
+            StringRules.againstCharactersOutside(LOWER),
+            StringRules.againstBlankStrings(),
+            StringRules.againstCharactersOutside(UPPER)),
+        StringRules.fuse()
+            .againstCharactersOutside(LOWER)
+            .againstBlankStrings()
+            .againstCharactersOutside(UPPER)
+            .build());
+  }
+
+  @Test
+  public void test_repeatedCharacterSet_shouldMatchChain() {
+
+    assertMatchesChain(
+        List.of(
+            StringRules.againstCharactersOutside(CharacterSet.ASCII),
+            StringRules.againstLongStrings(5),
+            StringRules.againstCharactersOutside(CharacterSet.ASCII)),
+        StringRules.fuse()
+            .againstCharactersOutside(CharacterSet.ASCII)
+            .againstLongStrings(5)
+            .againstCharactersOutside(CharacterSet.ASCII)
+            .build());
+  }
+
+  @Test
+  public void test_asciiAndControl_shouldMatchChain() {
+
+    assertMatchesChain(
+        List.of(
+            StringRules.againstControlCharacters(),
+            StringRules.againstLongStrings(3),
+            StringRules.againstNonAsciiCharacters()),
+        StringRules.fuse()
+            .againstControlCharacters()
+            .againstLongStrings(3)
+            .againstNonAsciiCharacters()
+            .build());
+  }
+
+  @Test
+  public void test_blankAndSingleCharacterSet_shouldMatchChain() {
+
+    assertMatchesChain(
+        List.of(
+            StringRules.againstBlankStrings(),
+            StringRules.againstControlCharacters()),
+        StringRules.fuse()
+            .againstBlankStrings()
+            .againstControlCharacters()
+            .build());
+
+    assertMatchesChain(
+        List.of(
+            StringRules.againstBlankStrings(),
+            StringRules.againstCharactersOutside(LOWER)),
+        StringRules.fuse()
+            .againstBlankStrings()
+            .againstCharactersOutside(LOWER)
+            .build());
+  }
+
+  @Test
+  public void test_lengthAfterCharacterSet_shouldMatchChain() {
+
+    assertMatchesChain(
+        List.of(
+            StringRules.againstShortStrings(2),
+            StringRules.againstCharactersOutside(LOWER),
+            StringRules.againstBlankStrings(),
+            StringRules.againstLongStrings(3)),
+        StringRules.fuse()
+            .againstShortStrings(2)
+            .againstCharactersOutside(LOWER)
+            .againstBlankStrings()
+            .againstLongStrings(3)
+            .build());
+  }
+
+  @Test
+  public void build_singleRule_shouldReturnPlainRule() {
+
+    assertFalse(
+        StringRules.fuse().againstBlankStrings().build()
+            instanceof FusedStringRule);
+  }
+
+  @Test
+  public void build_noRules_shouldThrowIllegalState() {
+
+    assertThrows(
+        IllegalStateException.class,
+        () -> StringRules.fuse().build());
+  }
+
+  @Test
+  public void againstCharactersOutside_tooManySets_shouldThrowIllegalState() {
+
+    final FusedStringRule.Builder builder = StringRules.fuse();
+
+    for (char c = 'a'; c < 'a' + 63; c++) {
+      builder.againstCharactersOutside(CharacterSet.of(String.valueOf(c)));
+    }
+
+    assertThrows(
+        IllegalStateException.class,
+        () -> builder.againstCharactersOutside(CharacterSet.of("0")));
+  }
+
+  @Test
+  public void characterSet_equalSets_shouldBeEqual() {
+
+    assertEquals(CharacterSet.of("abc"), CharacterSet.range('a', 'c'));
+    assertEquals(
+        CharacterSet.ASCII_HEX_DIGITS,
+        CharacterSet.of("0123456789abcdefABCDEF"));
+    assertNotEquals(CharacterSet.ASCII_LETTERS, CharacterSet.ASCII);
+    assertEquals(
+        CharacterSet.ASCII_LETTERS,
+        CharacterSet.ASCII_ALPHANUMERICS.and(CharacterSet.range('A', 'z')));
+  }
+
+  @Test
+  public void characterSet_indexOfFirstOutside_shouldFindFirst() {
+
+    assertEquals(-1, CharacterSet.ASCII_DIGITS.indexOfFirstOutside("0123"));
+    assertEquals(2, CharacterSet.ASCII_DIGITS.indexOfFirstOutside("01x3"));
+    assertEquals(1, CharacterSet.ASCII.indexOfFirstOutside("aé"));
+  }
+
+  @Test
+  public void characterSet_range_reversed_shouldThrowInvalidTarget() {
+
+    assertThrows(
+        ThemisInvalidTargetException.class,
+        () -> CharacterSet.range('z', 'a'));
+  }
+
+  private static void assertMatchesChain(
+      final List<ThemisRule<String>> chain,
+      final ThemisRule<String> fused) {
+
+    for (final String target : TARGETS) {
+
+      ThemisViolationType expected = null;
+
+      for (final ThemisRule<String> rule : chain) {
+
+        expected = rule.test(target);
+
+        if (expected != null) {
+          break;
+        }
+      }
+
+      assertSame(expected, fused.test(target), () -> "\"" + target + "\"");
+    }
+  }
+
+}
@@ -0,0 +1,98 @@
+package uk.co.noop.themis.rule;
+
+import org.junit.jupiter.api.Test;
+import uk.co.noop.themis.violation.ThemisViolationType;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class IntValueSetTest {
+
+  @Test
+  public void of_denseValues_shouldUseBitset() {
+
+    final int[] values = new Random(42).ints(500, -1000, 1000).toArray();
+    final IntValueSet set = IntValueSet.of(values);
+
+    assertTrue(set.isDense());
+    assertContainsExactly(set, values, -1100, 1100);
+  }
+
+  @Test
+  public void of_sparseValues_shouldUsePerfectHash() {
+
+    final int[] values = new Random(42).ints(500).toArray();
+    final IntValueSet set = IntValueSet.of(values);
+
+    assertFalse(set.isDense());
+    assertContainsExactly(set, values, -1100, 1100);
+
+    for (final int value : values) {
+      assertTrue(set.contains(value));
+    }
+  }
+
+  @Test
+  public void contains_extremeValues_shouldNotOverflow() {
+
+    final IntValueSet dense = IntValueSet.of(Integer.MAX_VALUE - 1);
+    final IntValueSet sparse =
+        IntValueSet.of(Integer.MIN_VALUE, Integer.MAX_VALUE);
+
+    assertTrue(dense.contains(Integer.MAX_VALUE - 1));
+    assertFalse(dense.contains(Integer.MAX_VALUE));
+    assertFalse(dense.contains(Integer.MIN_VALUE));
+    assertTrue(sparse.contains(Integer.MIN_VALUE));
+    assertTrue(sparse.contains(Integer.MAX_VALUE));
+    assertFalse(sparse.contains(0));
+  }
+
+  @Test
+  public void of_noValues_shouldContainNothing() {
+
+    final IntValueSet set = IntValueSet.of();
+
+    assertEquals(0, set.size());
+    assertFalse(set.contains(0));
+  }
+
+  @Test
+  public void of_duplicates_shouldBeIgnored() {
+    assertEquals(2, IntValueSet.of(1, 2, 1, 2).size());
+  }
+
+  @Test
+  public void valueNotInViolation_shouldReturnInvalidTarget() {
+
+    final IntValueSet set = IntValueSet.of(80, 443);
+
+    assertNull(NumberRules.valueNotInViolation(443, set));
+    assertEquals(
+        ThemisViolationType.INVALID_TARGET,
+        NumberRules.valueNotInViolation(8080, set));
+  }
+
+  private static void assertContainsExactly(
+      final IntValueSet set,
+      final int[] values,
+      final int from,
+      final int to) {
+
+    final int[] sorted = values.clone();
+
+    Arrays.sort(sorted);
+
+    for (int value = from; value < to; value++) {
+      assertEquals(
+          Arrays.binarySearch(sorted, value) >= 0,
+          set.contains(value),
+          Integer.toString(value));
+    }
+  }
+
+}
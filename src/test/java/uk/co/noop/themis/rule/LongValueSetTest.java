@@ -0,0 +1,67 @@
+package uk.co.noop.themis.rule;
+
+import org.junit.jupiter.api.Test;
+import uk.co.noop.themis.violation.ThemisViolationType;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class LongValueSetTest {
+
+  @Test
+  public void of_denseValues_shouldUseBitset() {
+
+    final long base = 1L << 40;
+    final LongValueSet set = LongValueSet.of(base, base + 2, base + 4);
+
+    assertTrue(set.isDense());
+    assertEquals(3, set.size());
+
+    for (long value = base - 70; value < base + 70; value++) {
+      assertEquals(
+          value == base || value == base + 2 || value == base + 4,
+          set.contains(value));
+    }
+  }
+
+  @Test
+  public void of_sparseValues_shouldUsePerfectHash() {
+
+    final long[] values = new Random(42).longs(500).toArray();
+    final LongValueSet set = LongValueSet.of(values);
+
+    assertFalse(set.isDense());
+
+    for (final long value : values) {
+      assertTrue(set.contains(value));
+      assertFalse(set.contains(~value));
+    }
+  }
+
+  @Test
+  public void of_fullRange_shouldNotOverflow() {
+
+    final LongValueSet set = LongValueSet.of(Long.MIN_VALUE, Long.MAX_VALUE);
+
+    assertFalse(set.isDense());
+    assertTrue(set.contains(Long.MIN_VALUE));
+    assertTrue(set.contains(Long.MAX_VALUE));
+    assertFalse(set.contains(0));
+  }
+
+  @Test
+  public void valueNotInViolation_shouldReturnInvalidTarget() {
+
+    final LongValueSet set = LongValueSet.of(7L);
+
+    assertNull(NumberRules.valueNotInViolation(7L, set));
+    assertEquals(
+        ThemisViolationType.INVALID_TARGET,
+        NumberRules.valueNotInViolation(8L, set));
+  }
+
+}
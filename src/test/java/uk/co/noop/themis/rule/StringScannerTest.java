@@ -0,0 +1,144 @@
+package uk.co.noop.themis.rule;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class StringScannerTest {
+
+  private static final CharacterSet TOKEN =
+      CharacterSet.ASCII_ALPHANUMERICS.or(CharacterSet.of("-_"));
+
+  private static final CharacterSet MANY_RANGES =
+      CharacterSet.of("acegikmoqsuwy");
+
+  private static final int[] LENGTHS = {0, 1, 63, 64, 65, 100, 4160, 10_000};
+
+  @Test
+  public void instance_vectorModule_shouldMatchScanner() {
+
+    final boolean vector =
+        ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent();
+
+    assertEquals(
+        vector ? "VectorStringScanner" : "StringScanner",
+        StringScanner.INSTANCE.getClass().getSimpleName());
+  }
+
+  @Test
+  public void indexOfNonBlank_shouldFindFirstNonBlank() {
+
+    for (final String target : targets(' ', 'x')) {
+      assertEquals(
+          expected(target, c -> c > ' '),
+          StringScanner.INSTANCE.indexOfNonBlank(target));
+    }
+  }
+
+  @Test
+  public void indexOfNonAscii_shouldFindFirstNonAscii() {
+
+    for (final String target : targets('a', 'é')) {
+      assertEquals(
+          expected(target, c -> c > '\u007F'),
+          StringScanner.INSTANCE.indexOfNonAscii(target));
+    }
+
+    for (final String target : targets('a', '￿')) {
+      assertEquals(
+          expected(target, c -> c > '\u007F'),
+          StringScanner.INSTANCE.indexOfNonAscii(target));
+    }
+  }
+
+  @Test
+  public void indexOfControl_shouldFindFirstControl() {
+
+    for (final char control : new char[] {'\u0000', '\t', '\u007F', '\u009F'}) {
+      for (final String target : targets('a', control)) {
+        assertEquals(
+            expected(target, Character::isISOControl),
+            StringScanner.INSTANCE.indexOfControl(target));
+      }
+    }
+
+    for (final String target : targets('a', ' ')) {
+      assertEquals(-1, StringScanner.INSTANCE.indexOfControl(target));
+    }
+  }
+
+  @Test
+  public void indexOfOutside_shouldFindFirstOutside() {
+
+    for (final char outside : new char[] {' ', '.', '`', '{', 'é'}) {
+      for (final String target : targets('_', outside)) {
+        assertEquals(
+            expected(target, c -> !TOKEN.contains(c)),
+            StringScanner.INSTANCE.indexOfOutside(target, TOKEN));
+      }
+    }
+
+    for (final String target : targets('c', 'b')) {
+      assertEquals(
+          expected(target, c -> !MANY_RANGES.contains(c)),
+          StringScanner.INSTANCE.indexOfOutside(target, MANY_RANGES));
+    }
+  }
+
+  @Test
+  public void ranges_shouldReturnContiguousRuns() {
+
+    assertEquals(
+        "09AZaz",
+        new String(CharacterSet.ASCII_ALPHANUMERICS.ranges()));
+    assertEquals(
+        "\u0000￿",
+        new String(CharacterSet.range('\u0000', '￿').ranges()));
+    assertEquals("", new String(CharacterSet.of("").ranges()));
+  }
+
+  /**
+   * Returns strings of each of the {@link #LENGTHS} made of <b>fill</b>, with
+   * and without a single <b>mark</b> at the start, end and either side of the
+   * scalar prefix and chunk boundaries.
+   */
+  private static List<String> targets(final char fill, final char mark) {
+
+    final List<String> targets = new ArrayList<>();
+
+    for (final int length : LENGTHS) {
+
+      final String filled = String.valueOf(fill).repeat(length);
+
+      targets.add(filled);
+
+      for (final int at : new int[] {0, 63, 64, 65, 4159, 4160, length - 1}) {
+        if (at >= 0 && at < length) {
+          targets.add(
+              filled.substring(0, at) + mark + filled.substring(at + 1));
+        }
+      }
+    }
+
+    return targets;
+  }
+
+  private static int expected(final String target, final CharTest test) {
+
+    for (int i = 0; i < target.length(); i++) {
+      if (test.test(target.charAt(i))) {
+        return i;
+      }
+    }
+
+    return -1;
+  }
+
+  private interface CharTest {
+    boolean test(char c);
+  }
+
+}
@@ -0,0 +1,240 @@
+package uk.co.noop.themis.rule;
+
+import org.junit.jupiter.api.Test;
+import uk.co.noop.themis.violation.ThemisViolationType;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+public class Utf8RulesTest {
+
+  private static final String TEXT = "Grüße, 世界! 😀 plain ascii text";
+
+  private static final byte[][] MALFORMED = {
+      {(byte) 0x80},
+      {(byte) 0xC0, (byte) 0xAF},
+      {(byte) 0xC1, (byte) 0xBF},
+      {(byte) 0xC3},
+      {(byte) 0xE0, (byte) 0x80, (byte) 0xAF},
+      {(byte) 0xE2, (byte) 0x82},
+      {(byte) 0xED, (byte) 0xA0, (byte) 0x80},
+      {(byte) 0xF0, (byte) 0x8F, (byte) 0xBF, (byte) 0xBF},
+      {(byte) 0xF4, (byte) 0x90, (byte) 0x80, (byte) 0x80},
+      {(byte) 0xF5, (byte) 0x80, (byte) 0x80, (byte) 0x80},
+      {(byte) 0xFF},
+  };
+
+  @Test
+  public void malformedViolation_wellFormed_shouldReturnNull() {
+
+    final byte[] bytes = TEXT.getBytes(StandardCharsets.UTF_8);
+
+    assertNull(Utf8Rules.malformedViolation(bytes, 0, bytes.length));
+    assertNull(Utf8Rules.malformedViolation(direct(bytes)));
+  }
+
+  @Test
+  public void malformedViolation_malformed_shouldReturnInvalidTarget() {
+
+    for (final byte[] sequence : MALFORMED) {
+      for (final byte[] bytes : new byte[][] {
+          sequence,
+          concat("0123456789abcdef", sequence, "0123456789abcdef")}) {
+
+        assertEquals(
+            ThemisViolationType.INVALID_TARGET,
+            Utf8Rules.malformedViolation(bytes, 0, bytes.length));
+        assertEquals(
+            ThemisViolationType.INVALID_TARGET,
+            Utf8Rules.malformedViolation(direct(bytes)));
+      }
+    }
+  }
+
+  @Test
+  public void malformedViolation_random_shouldMatchDecoder() {
+
+    final Random random = new Random(42);
+
+    for (int i = 0; i < 20_000; i++) {
+
+      final byte[] bytes = new byte[random.nextInt(24)];
+
+      for (int j = 0; j < bytes.length; j++) {
+        bytes[j] = random.nextInt(4) == 0
+            ? (byte) random.nextInt(0x80)
+            : (byte) (0x80 + random.nextInt(0x80));
+      }
+
+      final ThemisViolationType expected =
+          isWellFormed(bytes) ? null : ThemisViolationType.INVALID_TARGET;
+
+      assertEquals(
+          expected,
+          Utf8Rules.malformedViolation(bytes, 0, bytes.length));
+      assertEquals(expected, Utf8Rules.malformedViolation(direct(bytes)));
+    }
+  }
+
+  @Test
+  public void malformedViolation_slice_shouldIgnoreBytesOutside() {
+
+    final byte[] bytes = concat("", new byte[] {(byte) 0xFF}, "valid");
+
+    assertNull(Utf8Rules.malformedViolation(bytes, 1, 5));
+    assertNull(Utf8Rules.malformedViolation(ByteBuffer.wrap(bytes, 1, 5)));
+    assertNull(Utf8Rules.malformedViolation(
+        ByteBuffer.wrap(bytes).position(1).slice()));
+  }
+
+  @Test
+  public void malformedViolation_null_shouldReturnNullTarget() {
+
+    assertEquals(
+        ThemisViolationType.NULL_TARGET,
+        Utf8Rules.malformedViolation(null, 0, 0));
+    assertEquals(
+        ThemisViolationType.NULL_TARGET,
+        Utf8Rules.malformedViolation((ByteBuffer) null));
+  }
+
+  @Test
+  public void blankViolation_shouldMatchStringRules() {
+
+    final String[] targets = {"", " ", " \t\r\n ", " x ", "é"};
+
+    for (final String target : targets) {
+
+      final byte[] bytes = target.getBytes(StandardCharsets.UTF_8);
+      final ThemisViolationType expected =
+          StringRules.blankStringViolation(target);
+
+      assertEquals(expected, Utf8Rules.blankViolation(bytes, 0, bytes.length));
+      assertEquals(expected, Utf8Rules.blankViolation(direct(bytes)));
+    }
+  }
+
+  @Test
+  public void codePointsViolations_shouldCountCodePoints() {
+
+    final byte[] bytes = TEXT.getBytes(StandardCharsets.UTF_8);
+    final int codePoints = TEXT.codePointCount(0, TEXT.length());
+
+    assertNull(
+        Utf8Rules.longCodePointsViolation(bytes, 0, bytes.length, codePoints));
+    assertEquals(
+        ThemisViolationType.INVALID_TARGET,
+        Utf8Rules.longCodePointsViolation(direct(bytes), codePoints - 1));
+    assertNull(
+        Utf8Rules.shortCodePointsViolation(direct(bytes), codePoints));
+    assertEquals(
+        ThemisViolationType.INVALID_TARGET,
+        Utf8Rules.shortCodePointsViolation(
+            bytes,
+            0,
+            bytes.length,
+            codePoints + 1));
+  }
+
+  @Test
+  public void bytesViolations_shouldCountBytes() {
+
+    final ByteBuffer buffer = direct(TEXT.getBytes(StandardCharsets.UTF_8));
+    final int length = buffer.remaining();
+
+    assertNull(Utf8Rules.longBytesViolation(buffer, length));
+    assertNull(Utf8Rules.shortBytesViolation(buffer, length));
+    assertEquals(
+        ThemisViolationType.INVALID_TARGET,
+        Utf8Rules.longBytesViolation(buffer, length - 1));
+    assertEquals(
+        ThemisViolationType.INVALID_TARGET,
+        Utf8Rules.shortBytesViolation(buffer, length + 1));
+  }
+
+  @Test
+  public void characterViolations_shouldMatchStringRules() {
+
+    final CharacterSet latin1 = CharacterSet.range((char) 0x00, (char) 0xFF);
+
+    for (final String target : new String[] {
+        "plain", "Grüße", "世界", "😀", "tab\there", "c1\u0085",
+        " ", TEXT}) {
+
+      final byte[] bytes = target.getBytes(StandardCharsets.UTF_8);
+      final ByteBuffer buffer = direct(bytes);
+
+      assertEquals(
+          StringRules.charactersOutsideViolation(target, latin1),
+          Utf8Rules.charactersOutsideViolation(bytes, 0, bytes.length, latin1));
+      assertEquals(
+          StringRules.charactersOutsideViolation(target, latin1),
+          Utf8Rules.charactersOutsideViolation(buffer, latin1));
+      assertEquals(
+          StringRules.nonAsciiCharactersViolation(target),
+          Utf8Rules.nonAsciiCharactersViolation(bytes, 0, bytes.length));
+      assertEquals(
+          StringRules.nonAsciiCharactersViolation(target),
+          Utf8Rules.nonAsciiCharactersViolation(buffer));
+      assertEquals(
+          StringRules.controlCharactersViolation(target),
+          Utf8Rules.controlCharactersViolation(bytes, 0, bytes.length));
+      assertEquals(
+          StringRules.controlCharactersViolation(target),
+          Utf8Rules.controlCharactersViolation(buffer));
+    }
+  }
+
+  @Test
+  public void characterViolations_buffer_shouldNotChangePosition() {
+
+    final ByteBuffer buffer = direct(TEXT.getBytes(StandardCharsets.UTF_8));
+
+    buffer.position(3);
+
+    Utf8Rules.malformedViolation(buffer);
+    Utf8Rules.charactersOutsideViolation(buffer, CharacterSet.ASCII);
+
+    assertEquals(3, buffer.position());
+  }
+
+  private static boolean isWellFormed(final byte[] bytes) {
+
+    try {
+      StandardCharsets.UTF_8.newDecoder()
+          .onMalformedInput(CodingErrorAction.REPORT)
+          .onUnmappableCharacter(CodingErrorAction.REPORT)
+          .decode(ByteBuffer.wrap(bytes));
+      return true;
+    } catch (final CharacterCodingException e) {
+      return false;
+    }
+  }
+
+  private static ByteBuffer direct(final byte[] bytes) {
+    return ByteBuffer.allocateDirect(bytes.length).put(bytes).flip();
+  }
+
+  private static byte[] concat(
+      final String prefix,
+      final byte[] middle,
+      final String suffix) {
+
+    final byte[] start = prefix.getBytes(StandardCharsets.UTF_8);
+    final byte[] end = suffix.getBytes(StandardCharsets.UTF_8);
+    final byte[] bytes = new byte[start.length + middle.length + end.length];
+
+    System.arraycopy(start, 0, bytes, 0, start.length);
+    System.arraycopy(middle, 0, bytes, start.length, middle.length);
+    System.arraycopy(end, 0, bytes, start.length + middle.length, end.length);
+
+    return bytes;
+  }
+
+}
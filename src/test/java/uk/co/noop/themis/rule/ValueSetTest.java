@@ -0,0 +1,100 @@
+package uk.co.noop.themis.rule;
+
+import org.junit.jupiter.api.Test;
+import uk.co.noop.themis.violation.ThemisViolationType;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ValueSetTest {
+
+  @Test
+  public void contains_shouldMatchHashSet() {
+
+    final Random random = new Random(42);
+
+    for (final int size : new int[] {0, 1, 2, 3, 17, 100, 1000, 5000}) {
+
+      final Set<String> expected = new HashSet<>();
+
+      while (expected.size() < size) {
+        expected.add(Long.toString(random.nextLong(), 36));
+      }
+
+      final ValueSet<String> set = ValueSet.of(expected);
+
+      assertEquals(size > 0, set.isPerfect());
+      assertEquals(size, set.size());
+
+      for (final String value : expected) {
+        assertTrue(set.contains(new String(value)), value);
+      }
+
+      for (int i = 0; i < 1000; i++) {
+
+        final String value = Long.toString(random.nextLong(), 36);
+
+        assertEquals(expected.contains(value), set.contains(value), value);
+      }
+    }
+  }
+
+  @Test
+  public void contains_sharedHashCodes_shouldFallBack() {
+
+    // "Aa" and "BB" have the same hashCode().
+    final ValueSet<String> set = ValueSet.of("Aa", "BB", "C");
+
+    assertFalse(set.isPerfect());
+    assertTrue(set.contains("Aa"));
+    assertTrue(set.contains("BB"));
+    assertTrue(set.contains("C"));
+    assertFalse(set.contains("D"));
+    assertFalse(set.contains(null));
+  }
+
+  @Test
+  public void contains_otherTypes_shouldBeFalse() {
+
+    final ValueSet<Integer> set = ValueSet.of(1, 2, 3);
+
+    assertTrue(set.contains(2));
+    assertFalse(set.contains(2L));
+    assertFalse(set.contains("2"));
+    assertFalse(set.contains(null));
+  }
+
+  @Test
+  public void of_duplicates_shouldBeIgnored() {
+    assertEquals(2, ValueSet.of(List.of("a", "b", "a")).size());
+  }
+
+  @Test
+  public void of_nullValue_shouldThrowNullPointer() {
+
+    assertThrows(
+        NullPointerException.class,
+        () -> ValueSet.of("a", null));
+  }
+
+  @Test
+  public void valueNotInViolation_shouldReturnViolationType() {
+
+    final ValueSet<String> set = ValueSet.of("GBP", "EUR", "USD");
+    final ThemisRule<String> rule = StringRules.againstValuesNotIn(set);
+
+    assertNull(rule.test("EUR"));
+    assertEquals(ThemisViolationType.INVALID_TARGET, rule.test("JPY"));
+    assertEquals(ThemisViolationType.NULL_TARGET, rule.test(null));
+    assertNull(ObjectRules.valueNotInViolation("USD", set));
+  }
+
+}
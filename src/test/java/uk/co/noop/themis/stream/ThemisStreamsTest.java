@@ -0,0 +1,349 @@
+package uk.co.noop.themis.stream;
+
+import org.junit.jupiter.api.Test;
+import uk.co.noop.themis.exception.ThemisBlankTargetStringException;
+import uk.co.noop.themis.validator.ThemisValidator;
+import uk.co.noop.themis.violation.ThemisViolationType;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ThemisStreamsTest {
+
+  private static final String TEST_TARGET_NAME = "Test Target Name";
+
+  private static final ThemisValidator<String> VALIDATOR =
+      ThemisValidator.forStrings(TEST_TARGET_NAME)
+          .againstBlankStrings()
+          .build();
+
+  private static final List<String> TEST_TARGETS =
+      List.of("a", " ", "b", "", "c");
+
+  private static final List<String> VALID_TEST_TARGETS = List.of("a", "b", "c");
+
+  @Test
+  public void validateStream_allValid_shouldPassAll() {
+
+    assertEquals(
+        VALID_TEST_TARGETS,
+        ThemisStreams.validate(VALID_TEST_TARGETS.stream(), VALIDATOR)
+            .collect(Collectors.toList()));
+  }
+
+  @Test
+  public void validateStream_invalid_shouldThrowTargetException() {
+
+    final Stream<String> stream =
+        ThemisStreams.validate(TEST_TARGETS.stream(), VALIDATOR);
+
+    assertThrows(
+        ThemisBlankTargetStringException.class,
+        () -> stream.collect(Collectors.toList()));
+  }
+
+  @Test
+  public void validateStream_dropping_shouldDropInvalid() {
+
+    assertEquals(
+        VALID_TEST_TARGETS,
+        ThemisStreams.validate(
+            TEST_TARGETS.stream(),
+            VALIDATOR,
+            ThemisRejectionHandler.dropping())
+            .collect(Collectors.toList()));
+  }
+
+  @Test
+  public void validateStream_sideChannel_shouldReceiveInvalid() {
+
+    final List<String> rejected = new ArrayList<>();
+    final List<ThemisViolationType> violations = new ArrayList<>();
+
+    final List<String> valid = ThemisStreams.validate(
+        TEST_TARGETS.stream(),
+        VALIDATOR,
+        (element, result) -> {
+          rejected.add(element);
+          violations.add(result.getViolationType());
+        })
+        .collect(Collectors.toList());
+
+    assertEquals(VALID_TEST_TARGETS, valid);
+    assertEquals(List.of(" ", ""), rejected);
+    assertEquals(
+        List.of(
+            ThemisViolationType.BLANK_TARGET_STRING,
+            ThemisViolationType.EMPTY_TARGET),
+        violations);
+  }
+
+  @Test
+  public void validateStream_infinite_shouldBeLazy() {
+
+    final AtomicInteger pulled = new AtomicInteger();
+
+    final List<String> valid = ThemisStreams.validate(
+        Stream.iterate(0, i -> i + 1)
+            .peek(i -> pulled.incrementAndGet())
+            .map(i -> i % 2 == 0 ? " " : String.valueOf(i)),
+        VALIDATOR,
+        ThemisRejectionHandler.dropping())
+        .limit(3)
+        .collect(Collectors.toList());
+
+    assertEquals(List.of("1", "3", "5"), valid);
+    assertEquals(6, pulled.get());
+  }
+
+  @Test
+  public void validateIterator_dropping_shouldDropInvalid() {
+
+    final Iterator<String> iterator = ThemisStreams.validate(
+        TEST_TARGETS.iterator(),
+        VALIDATOR,
+        ThemisRejectionHandler.dropping());
+
+    final List<String> valid = new ArrayList<>();
+
+    iterator.forEachRemaining(valid::add);
+
+    assertEquals(VALID_TEST_TARGETS, valid);
+    assertFalse(iterator.hasNext());
+    assertThrows(NoSuchElementException.class, iterator::next);
+  }
+
+  @Test
+  public void validateIterator_invalid_shouldThrowTargetException() {
+
+    final Iterator<String> iterator =
+        ThemisStreams.validate(TEST_TARGETS.iterator(), VALIDATOR);
+
+    assertEquals("a", iterator.next());
+    assertThrows(ThemisBlankTargetStringException.class, iterator::next);
+  }
+
+  @Test
+  public void validateIterator_hasNext_shouldReadOneAhead() {
+
+    final AtomicInteger pulled = new AtomicInteger();
+    final Iterator<String> source = TEST_TARGETS.iterator();
+
+    final Iterator<String> iterator = ThemisStreams.validate(
+        new Iterator<String>() {
+
+          @Override
+          public boolean hasNext() {
+            return source.hasNext();
+          }
+
+          @Override
+          public String next() {
+            pulled.incrementAndGet();
+            return source.next();
+          }
+        },
+        VALIDATOR,
+        ThemisRejectionHandler.dropping());
+
+    assertEquals(0, pulled.get());
+    assertTrue(iterator.hasNext());
+    assertTrue(iterator.hasNext());
+    assertEquals(1, pulled.get());
+    assertEquals("a", iterator.next());
+    assertEquals("b", iterator.next());
+    assertEquals(3, pulled.get());
+  }
+
+  @Test
+  public void validatePublisher_dropping_shouldDropInvalidAndRespectDemand() {
+
+    final TestPublisher publisher = new TestPublisher(TEST_TARGETS);
+    final TestSubscriber subscriber = new TestSubscriber();
+
+    ThemisStreams.validate(
+        publisher,
+        VALIDATOR,
+        ThemisRejectionHandler.<String>dropping())
+        .subscribe(subscriber);
+
+    subscriber.subscription.request(1);
+
+    assertEquals(List.of("a"), subscriber.received);
+    assertEquals(1, publisher.emitted);
+
+    subscriber.subscription.request(1);
+
+    assertEquals(List.of("a", "b"), subscriber.received);
+    assertEquals(3, publisher.emitted);
+    assertFalse(subscriber.completed);
+
+    subscriber.subscription.request(Long.MAX_VALUE);
+
+    assertEquals(VALID_TEST_TARGETS, subscriber.received);
+    assertTrue(subscriber.completed);
+    assertNull(subscriber.error);
+  }
+
+  @Test
+  public void validatePublisher_invalid_shouldCancelAndSignalError() {
+
+    final TestPublisher publisher = new TestPublisher(TEST_TARGETS);
+    final TestSubscriber subscriber = new TestSubscriber();
+
+    ThemisStreams.validate(publisher, VALIDATOR).subscribe(subscriber);
+
+    subscriber.subscription.request(Long.MAX_VALUE);
+
+    assertEquals(List.of("a"), subscriber.received);
+    assertInstanceOf(ThemisBlankTargetStringException.class, subscriber.error);
+    assertTrue(publisher.cancelled);
+    assertFalse(subscriber.completed);
+    assertEquals(2, publisher.emitted);
+  }
+
+  @Test
+  public void validatePublisher_cancel_shouldCancelUpstream() {
+
+    final TestPublisher publisher = new TestPublisher(TEST_TARGETS);
+    final TestSubscriber subscriber = new TestSubscriber();
+
+    ThemisStreams.validate(publisher, VALIDATOR).subscribe(subscriber);
+
+    subscriber.subscription.cancel();
+
+    assertTrue(publisher.cancelled);
+  }
+
+  @Test
+  public void validatePublisher_cancel_shouldDropItemsInFlight() {
+
+    final TestPublisher publisher = new TestPublisher(TEST_TARGETS);
+    final TestSubscriber subscriber = new TestSubscriber();
+
+    ThemisStreams.validate(publisher, VALIDATOR).subscribe(subscriber);
+
+    subscriber.subscription.cancel();
+    publisher.subscriber.onNext("a");
+
+    assertTrue(subscriber.received.isEmpty());
+  }
+
+  @Test
+  public void validatePublisher_secondSubscription_shouldCancelIt() {
+
+    final TestPublisher publisher = new TestPublisher(TEST_TARGETS);
+    final TestPublisher second = new TestPublisher(TEST_TARGETS);
+
+    ThemisStreams.validate(publisher, VALIDATOR)
+        .subscribe(new TestSubscriber());
+
+    second.subscribe(publisher.subscriber);
+
+    assertTrue(second.cancelled);
+    assertFalse(publisher.cancelled);
+    assertThrows(
+        NullPointerException.class,
+        () -> publisher.subscriber.onSubscribe(null));
+  }
+
+  /**
+   * A synchronous publisher that emits no more than has been requested.
+   */
+  private static final class TestPublisher
+      implements Flow.Publisher<String>, Flow.Subscription {
+
+    private final List<String> items;
+
+    private Flow.Subscriber<? super String> subscriber;
+    private long demand;
+    private int emitted;
+    private boolean emitting;
+    private boolean cancelled;
+
+    private TestPublisher(final List<String> items) {
+      this.items = items;
+    }
+
+    @Override
+    public void subscribe(final Flow.Subscriber<? super String> subscriber) {
+      this.subscriber = subscriber;
+      subscriber.onSubscribe(this);
+    }
+
+    @Override
+    public void request(final long n) {
+
+      demand = Long.MAX_VALUE - demand < n ? Long.MAX_VALUE : demand + n;
+
+      if (emitting) {
+        return;
+      }
+
+      emitting = true;
+
+      while (demand > 0 && emitted < items.size() && !cancelled) {
+        demand--;
+        subscriber.onNext(items.get(emitted++));
+      }
+
+      if (emitted == items.size() && !cancelled) {
+        cancelled = true;
+        subscriber.onComplete();
+      }
+
+      emitting = false;
+    }
+
+    @Override
+    public void cancel() {
+      cancelled = true;
+    }
+
+  }
+
+  private static final class TestSubscriber
+      implements Flow.Subscriber<String> {
+
+    private final List<String> received = new ArrayList<>();
+
+    private Flow.Subscription subscription;
+    private Throwable error;
+    private boolean completed;
+
+    @Override
+    public void onSubscribe(final Flow.Subscription subscription) {
+      this.subscription = subscription;
+    }
+
+    @Override
+    public void onNext(final String item) {
+      received.add(item);
+    }
+
+    @Override
+    public void onError(final Throwable throwable) {
+      error = throwable;
+    }
+
+    @Override
+    public void onComplete() {
+      completed = true;
+    }
+
+  }
+
+}
@@ -0,0 +1,206 @@
+package uk.co.noop.themis.validator;
+
+import org.junit.jupiter.api.Test;
+import uk.co.noop.themis.Themis;
+import uk.co.noop.themis.ThemisCollector;
+import uk.co.noop.themis.exception.ThemisBlankTargetStringException;
+import uk.co.noop.themis.exception.ThemisInvalidTargetException;
+import uk.co.noop.themis.exception.ThemisNullTargetException;
+import uk.co.noop.themis.rule.CharacterSet;
+import uk.co.noop.themis.rule.ValueSet;
+import uk.co.noop.themis.violation.ThemisResult;
+import uk.co.noop.themis.violation.ThemisViolationType;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class ThemisValidatorTest {
+
+  private static final String TEST_TARGET_NAME = "Test Target Name";
+  private static final String TEST_TARGET = "Test Target";
+  private static final String TEST_INVALID_TARGET = "Test Invalid Target";
+
+  private static final ThemisValidator<String> STRING_VALIDATOR =
+      ThemisValidator.forStrings(TEST_TARGET_NAME)
+          .againstBlankStrings()
+          .againstLongStrings(TEST_TARGET.length())
+          .againstInvalidStrings(t -> t.startsWith(" "))
+          .build();
+
+  private static final ThemisValidator<Object> OBJECT_VALIDATOR =
+      ThemisValidator.forObjects(TEST_TARGET_NAME)
+          .againstNullObjects()
+          .againstInvalidObjects(t -> t instanceof Exception)
+          .build();
+
+  @Test
+  public void forStrings_blankTargetName_shouldThrowBlankTargetString() {
+
+    assertThrows(
+        ThemisBlankTargetStringException.class,
+        () -> ThemisValidator.forStrings(" "));
+  }
+
+  @Test
+  public void validate_nullTarget_shouldThrowNullTarget() {
+
+    assertThrows(
+        ThemisNullTargetException.class,
+        () -> STRING_VALIDATOR.validate(null));
+  }
+
+  @Test
+  public void validate_blankTarget_shouldThrowBlankTargetString() {
+
+    assertThrows(
+        ThemisBlankTargetStringException.class,
+        () -> STRING_VALIDATOR.validate(" "));
+  }
+
+  @Test
+  public void validate_longTarget_shouldThrowInvalidTarget() {
+
+    assertThrows(
+        ThemisInvalidTargetException.class,
+        () -> STRING_VALIDATOR.validate(TEST_INVALID_TARGET));
+  }
+
+  @Test
+  public void validate_predicate_shouldThrowInvalidTarget() {
+
+    assertThrows(
+        ThemisInvalidTargetException.class,
+        () -> STRING_VALIDATOR.validate(" x"));
+  }
+
+  @Test
+  public void validate_predicateBetweenFusedRules_shouldKeepOrder() {
+
+    final ThemisValidator<String> validator =
+        ThemisValidator.forStrings(TEST_TARGET_NAME)
+            .againstNullStrings()
+            .againstInvalidStrings(t -> t.startsWith(" "))
+            .againstBlankStrings()
+            .againstCharactersOutside(CharacterSet.ASCII_LETTERS)
+            .build();
+
+    assertThrows(
+        ThemisInvalidTargetException.class,
+        () -> validator.validate(" "));
+    assertThrows(
+        ThemisBlankTargetStringException.class,
+        () -> validator.validate("\t"));
+    assertThrows(
+        ThemisInvalidTargetException.class,
+        () -> validator.validate(TEST_TARGET));
+    assertSame("Test", validator.validate("Test"));
+  }
+
+  @Test
+  public void validate_shouldReturnTarget() {
+    assertSame(TEST_TARGET, STRING_VALIDATOR.validate(TEST_TARGET));
+  }
+
+  @Test
+  public void validateObject_invalidTarget_shouldThrowInvalidTarget() {
+
+    assertThrows(
+        ThemisInvalidTargetException.class,
+        () -> OBJECT_VALIDATOR.validate(new Exception()));
+  }
+
+  @Test
+  public void check_invalidTarget_shouldReturnInvalid() {
+
+    assertEquals(
+        ThemisResult.invalid(
+            TEST_TARGET_NAME,
+            ThemisViolationType.INVALID_TARGET),
+        STRING_VALIDATOR.check(TEST_INVALID_TARGET));
+  }
+
+  @Test
+  public void check_validTarget_shouldReturnValid() {
+    assertSame(ThemisResult.valid(), STRING_VALIDATOR.check(TEST_TARGET));
+  }
+
+  @Test
+  public void validateWithHandler_invalidTarget_shouldCollectViolation() {
+
+    final ThemisCollector collector = Themis.collect();
+
+    STRING_VALIDATOR.validate("", collector);
+    OBJECT_VALIDATOR.validate(new Object(), collector);
+
+    assertEquals(1, collector.getReport().size());
+    assertEquals(
+        ThemisViolationType.EMPTY_TARGET,
+        collector.getReport().getViolationType(0));
+  }
+
+  @Test
+  public void test_composedValidator_shouldApplyInnerRules() {
+
+    final ThemisValidator<String> composed =
+        ThemisValidator.forStrings(TEST_TARGET_NAME)
+            .againstRule(STRING_VALIDATOR)
+            .againstInvalidStrings(TEST_TARGET::equals)
+            .build();
+
+    assertEquals(ThemisViolationType.NULL_TARGET, composed.test(null));
+    assertEquals(
+        ThemisViolationType.INVALID_TARGET,
+        composed.test(TEST_TARGET));
+    assertNull(composed.test("Target"));
+  }
+
+  @Test
+  public void test_formatRules_shouldFollowFusedRules() {
+
+    final ThemisValidator<String> validator =
+        ThemisValidator.forStrings(TEST_TARGET_NAME)
+            .againstBlankStrings()
+            .againstLongStrings(15)
+            .againstNonIpv4Addresses()
+            .againstNonMatching("10\\..*")
+            .build();
+
+    assertEquals(
+        ThemisViolationType.BLANK_TARGET_STRING,
+        validator.test(" "));
+    assertEquals(
+        ThemisViolationType.INVALID_TARGET,
+        validator.test("192.168.000.001"));
+    assertEquals(
+        ThemisViolationType.INVALID_TARGET,
+        validator.test("192.168.0.1"));
+    assertNull(validator.test("10.0.0.1"));
+  }
+
+  @Test
+  public void test_againstValuesNotIn_shouldReturnViolationType() {
+
+    final ThemisValidator<String> strings =
+        ThemisValidator.forStrings(TEST_TARGET_NAME)
+            .againstBlankStrings()
+            .againstValuesNotIn(ValueSet.of("GBP", "EUR"))
+            .build();
+
+    final ThemisValidator<Object> objects =
+        ThemisValidator.forObjects(TEST_TARGET_NAME)
+            .againstValuesNotIn(ValueSet.of(1, 2))
+            .build();
+
+    assertNull(strings.test("GBP"));
+    assertEquals(
+        ThemisViolationType.BLANK_TARGET_STRING,
+        strings.test(" "));
+    assertEquals(ThemisViolationType.INVALID_TARGET, strings.test("USD"));
+    assertNull(objects.test(2));
+    assertEquals(ThemisViolationType.INVALID_TARGET, objects.test(3));
+    assertEquals(ThemisViolationType.NULL_TARGET, objects.test(null));
+  }
+
+}
@@ -0,0 +1,276 @@
+package uk.co.noop.themis.rule;
+
+import jdk.incubator.vector.ShortVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * <p>A {@link StringScanner} that scans long <b>targets</b> with the
+ * incubating Vector API, a vector of <code>char</code> values at a time.</p>
+ *
+ * <p>A <code>String</code> does not expose its contents, so each
+ * <b>target</b> is copied a chunk at a time into a buffer held per thread.
+ * The first {@link #SCALAR_PREFIX} <code>char</code> values are always scanned
+ * by the scalar implementation, so short <b>targets</b>, and long
+ * <b>targets</b> that break a rule early, are never copied.</p>
+ *
+ * <p>This class is only compiled with the <code>vector</code> profile (See:
+ * {@link StringScanner}).</p>
+ */
+final class VectorStringScanner extends StringScanner {
+
+  private static final VectorSpecies<Short> SPECIES =
+      ShortVector.SPECIES_PREFERRED;
+
+  private static final int SCALAR_PREFIX = 64;
+  private static final int CHUNK = 4096;
+  private static final int MAX_RANGES = 8;
+
+  private static final ThreadLocal<char[]> BUFFERS =
+      ThreadLocal.withInitial(() -> new char[CHUNK]);
+
+  VectorStringScanner() {
+    super();
+  }
+
+  @Override
+  int indexOfNonBlank(final String target) {
+
+    final int length = target.length();
+    final int prefix = Math.min(length, SCALAR_PREFIX);
+    final int index = indexOfNonBlank(target, 0, prefix);
+
+    if (index >= 0 || prefix == length) {
+      return index;
+    }
+
+    final char[] buffer = BUFFERS.get();
+
+    for (int start = prefix; start < length; start += CHUNK) {
+
+      final int end = Math.min(length, start + CHUNK);
+
+      target.getChars(start, end, buffer, 0);
+
+      final int found = indexOfAbove(buffer, end - start, ' ');
+
+      if (found >= 0) {
+        return start + found;
+      }
+    }
+
+    return -1;
+  }
+
+  @Override
+  int indexOfNonAscii(final String target) {
+
+    final int length = target.length();
+    final int prefix = Math.min(length, SCALAR_PREFIX);
+    final int index = indexOfNonAscii(target, 0, prefix);
+
+    if (index >= 0 || prefix == length) {
+      return index;
+    }
+
+    final char[] buffer = BUFFERS.get();
+
+    for (int start = prefix; start < length; start += CHUNK) {
+
+      final int end = Math.min(length, start + CHUNK);
+
+      target.getChars(start, end, buffer, 0);
+
+      final int found = indexOfAbove(buffer, end - start, '\u007F');
+
+      if (found >= 0) {
+        return start + found;
+      }
+    }
+
+    return -1;
+  }
+
+  @Override
+  int indexOfControl(final String target) {
+
+    final int length = target.length();
+    final int prefix = Math.min(length, SCALAR_PREFIX);
+    final int index = indexOfControl(target, 0, prefix);
+
+    if (index >= 0 || prefix == length) {
+      return index;
+    }
+
+    final char[] buffer = BUFFERS.get();
+
+    for (int start = prefix; start < length; start += CHUNK) {
+
+      final int end = Math.min(length, start + CHUNK);
+
+      target.getChars(start, end, buffer, 0);
+
+      final int found = indexOfControl(buffer, end - start);
+
+      if (found >= 0) {
+        return start + found;
+      }
+    }
+
+    return -1;
+  }
+
+  @Override
+  int indexOfOutside(final String target, final CharacterSet allowed) {
+
+    final char[] ranges = allowed.ranges();
+
+    if (ranges.length > 2 * MAX_RANGES) {
+      return super.indexOfOutside(target, allowed);
+    }
+
+    final int length = target.length();
+    final int prefix = Math.min(length, SCALAR_PREFIX);
+    final int index = indexOfOutside(target, 0, prefix, allowed);
+
+    if (index >= 0 || prefix == length) {
+      return index;
+    }
+
+    final char[] buffer = BUFFERS.get();
+
+    for (int start = prefix; start < length; start += CHUNK) {
+
+      final int end = Math.min(length, start + CHUNK);
+
+      target.getChars(start, end, buffer, 0);
+
+      final int found = indexOfOutside(buffer, end - start, ranges);
+
+      if (found >= 0) {
+        return start + found;
+      }
+    }
+
+    return -1;
+  }
+
+  private static int indexOfAbove(
+      final char[] buffer,
+      final int length,
+      final char max) {
+
+    final int bound = SPECIES.loopBound(length);
+
+    int i = 0;
+
+    for (; i < bound; i += SPECIES.length()) {
+
+      final VectorMask<Short> above = ShortVector
+          .fromCharArray(SPECIES, buffer, i)
+          .compare(VectorOperators.UNSIGNED_GT, (short) max);
+
+      if (above.anyTrue()) {
+        return i + above.firstTrue();
+      }
+    }
+
+    for (; i < length; i++) {
+      if (buffer[i] > max) {
+        return i;
+      }
+    }
+
+    return -1;
+  }
+
+  /**
+   * <p>ISO control characters are <code>0x00</code> to <code>0x1F</code> and
+   * <code>0x7F</code> to <code>0x9F</code>; each range is a single unsigned
+   * comparison once offset to start at zero.</p>
+   */
+  private static int indexOfControl(final char[] buffer, final int length) {
+
+    final int bound = SPECIES.loopBound(length);
+
+    int i = 0;
+
+    for (; i < bound; i += SPECIES.length()) {
+
+      final ShortVector chars = ShortVector.fromCharArray(SPECIES, buffer, i);
+
+      final VectorMask<Short> control = chars
+          .compare(VectorOperators.UNSIGNED_LT, (short) 0x20)
+          .or(chars
+              .sub((short) 0x7F)
+              .compare(VectorOperators.UNSIGNED_LT, (short) 0x21));
+
+      if (control.anyTrue()) {
+        return i + control.firstTrue();
+      }
+    }
+
+    for (; i < length; i++) {
+      if (Character.isISOControl(buffer[i])) {
+        return i;
+      }
+    }
+
+    return -1;
+  }
+
+  /**
+   * <p>Tests each <code>char</code> against the <b>ranges</b> of the allowed
+   * set, as <code>(first, last)</code> pairs, with one unsigned comparison
+   * per range.</p>
+   */
+  private static int indexOfOutside(
+      final char[] buffer,
+      final int length,
+      final char[] ranges) {
+
+    final int bound = SPECIES.loopBound(length);
+
+    int i = 0;
+
+    for (; i < bound; i += SPECIES.length()) {
+
+      final ShortVector chars = ShortVector.fromCharArray(SPECIES, buffer, i);
+
+      VectorMask<Short> inside = SPECIES.maskAll(false);
+
+      for (int r = 0; r < ranges.length; r += 2) {
+        inside = inside.or(chars
+            .sub((short) ranges[r])
+            .compare(
+                VectorOperators.UNSIGNED_LE,
+                (short) (ranges[r + 1] - ranges[r])));
+      }
+
+      if (!inside.allTrue()) {
+        return i + inside.not().firstTrue();
+      }
+    }
+
+    for (; i < length; i++) {
+      if (!inRanges(buffer[i], ranges)) {
+        return i;
+      }
+    }
+
+    return -1;
+  }
+
+  private static boolean inRanges(final char c, final char[] ranges) {
+
+    for (int r = 0; r < ranges.length; r += 2) {
+      if (c >= ranges[r] && c <= ranges[r + 1]) {
+        return true;
+      }
+    }
+
+    return false;
+  }
+
+}
@@ -0,0 +1,88 @@
+package uk.co.noop.themis.sample;
+
+import uk.co.noop.themis.Themis;
+import uk.co.noop.themis.annotation.NotBlank;
+import uk.co.noop.themis.annotation.NotEmpty;
+import uk.co.noop.themis.annotation.NotNull;
+import uk.co.noop.themis.annotation.ValidWith;
+import uk.co.noop.themis.eunomia.AbstractEunomia;
+import uk.co.noop.themis.violation.ThemisViolationHandler;
+
+import java.util.List;
+
+/**
+ * <p>Validates an annotated record in each of the ways that need reflection
+ * or generated code, and prints how long the first call of each took, in
+ * microseconds, as <code>name=value</code> lines.</p>
+ *
+ * <p>Each first call pays for loading and initialising the classes it uses,
+ * so the calls are made in a fixed order: the generated validator first,
+ * then <code>Themis.validateAnnotated</code>, then a custom Eunomia created
+ * by <code>Themis.validate(String, T, Class)</code>. On a JVM these are
+ * dominated by class loading and interpretation; in a native image they are
+ * already compiled, so comparing the two runs shows what native-image saves.
+ * The whole process time is measured outside, by
+ * <code>scripts/native-benchmark.sh</code>.</p>
+ */
+public final class ThemisNativeSample {
+
+  private ThemisNativeSample() {
+  }
+
+  public static void main(final String[] args) {
+
+    final Order order = new Order("0a1b2c3d", List.of("tea"), 3);
+
+    long start = System.nanoTime();
+    ThemisNativeSample_OrderThemisValidator.validate(order);
+    print("generated_first_call_us", start);
+
+    start = System.nanoTime();
+    Themis.validateAnnotated(order);
+    print("annotated_first_call_us", start);
+
+    start = System.nanoTime();
+    Themis.validate("quantity", order.quantity(), QuantityEunomia.class)
+        .againstNegative();
+    print("custom_eunomia_first_call_us", start);
+  }
+
+  private static void print(final String name, final long start) {
+    System.out.println(name + "=" + (System.nanoTime() - start) / 1_000);
+  }
+
+  public record Order(
+      @NotBlank String id,
+      @NotEmpty List<String> lines,
+      @NotNull
+      @ValidWith(value = QuantityEunomia.class, rules = "againstNegative")
+      Integer quantity) {
+  }
+
+  public static final class QuantityEunomia
+      extends AbstractEunomia<Integer, QuantityEunomia> {
+
+    public QuantityEunomia(final String targetName, final Integer target) {
+      super(targetName, target);
+    }
+
+    public QuantityEunomia(
+        final String targetName,
+        final Integer target,
+        final ThemisViolationHandler violationHandler) {
+
+      super(targetName, target, violationHandler);
+    }
+
+    public QuantityEunomia againstNegative() {
+      return againstInvalidValues(quantity -> quantity != null && quantity < 0);
+    }
+
+    @Override
+    protected QuantityEunomia getEunomia() {
+      return this;
+    }
+
+  }
+
+}
@@ -0,0 +1,55 @@
+package uk.co.noop.themis.processor.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import uk.co.noop.themis.Themis;
+import uk.co.noop.themis.annotation.NotBlank;
+import uk.co.noop.themis.annotation.NotEmpty;
+import uk.co.noop.themis.annotation.NotNull;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>Benchmarks the first validation of an annotated record in a new JVM:
+ * the validator generated by the Themis annotation processor against
+ * {@link Themis#validateAnnotated(Object)}, which must first read the
+ * annotations and bind the accessors.</p>
+ *
+ * <p>Each fork measures a single call with no warmup, so the results include
+ * class loading and the building of the annotated plan. The two benchmarks
+ * must run in separate forks, which JMH does by default.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@Fork(20)
+public class StartupBenchmark {
+
+  private final User user = new User("0a1b2c3d", "Ada Lovelace", new Object());
+
+  @Benchmark
+  public Object generated_firstCall() {
+    return StartupBenchmark_UserThemisValidator.validate(user);
+  }
+
+  @Benchmark
+  public Object annotated_firstCall() {
+    return Themis.validateAnnotated(user);
+  }
+
+  public record User(
+      @NotBlank String id,
+      @NotEmpty String name,
+      @NotNull Object data) {
+  }
+
+}
@@ -0,0 +1,79 @@
+package uk.co.noop.themis.processor;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * <p>The GraalVM native image <code>reflect-config.json</code> for the types
+ * that Themis reaches reflectively: annotated types, read by
+ * <code>Themis.validateAnnotated</code>, and custom Eunomia classes, created
+ * by <code>Themis.validate(String, T, Class)</code> or named by
+ * <code>ValidWith</code>.</p>
+ *
+ * <p>Each type is registered once, with the union of its members, in binary
+ * name order so the file is the same on every build.</p>
+ */
+final class ReflectionConfig {
+
+  static final String ALL_DECLARED_FIELDS = "allDeclaredFields";
+  static final String ALL_DECLARED_METHODS = "allDeclaredMethods";
+  static final String ALL_PUBLIC_CONSTRUCTORS = "allPublicConstructors";
+  static final String ALL_PUBLIC_METHODS = "allPublicMethods";
+
+  private final Map<String, Set<String>> types = new TreeMap<>();
+
+  /**
+   * <p>Registers the specified <b>members</b> of the type with the specified
+   * <b>binaryName</b>.</p>
+   */
+  void register(final String binaryName, final String... members) {
+
+    final Set<String> registered =
+        types.computeIfAbsent(binaryName, name -> new TreeSet<>());
+
+    registered.addAll(Set.of(members));
+  }
+
+  boolean isEmpty() {
+    return types.isEmpty();
+  }
+
+  /**
+   * <p>Returns the package of the first registered type, which names the
+   * directory of the configuration so that it does not clash with that of
+   * other libraries.</p>
+   */
+  String firstPackage() {
+
+    final String first = types.keySet().iterator().next();
+    final int end = first.lastIndexOf('.');
+
+    return end < 0 ? "default" : first.substring(0, end);
+  }
+
+  @Override
+  public String toString() {
+
+    final StringBuilder json = new StringBuilder("[");
+    String separator = "\n";
+
+    for (final Map.Entry<String, Set<String>> type : types.entrySet()) {
+
+      json.append(separator)
+          .append("  {\n")
+          .append("    \"name\": \"").append(type.getKey()).append("\"");
+
+      for (final String member : type.getValue()) {
+        json.append(",\n    \"").append(member).append("\": true");
+      }
+
+      json.append("\n  }");
+      separator = ",\n";
+    }
+
+    return json.append("\n]\n").toString();
+  }
+
+}
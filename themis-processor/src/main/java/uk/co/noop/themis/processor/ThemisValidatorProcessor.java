@@ -0,0 +1,637 @@
+package uk.co.noop.themis.processor;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.annotation.processing.SupportedOptions;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.RecordComponentElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.PrimitiveType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic;
+import javax.tools.StandardLocation;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * <p>Generates a plain Java validator for each type with fields or record
+ * components annotated with the Themis annotations, e.g. <code>NotNull</code>,
+ * <code>NotBlank</code> or <code>ValidWith</code>.</p>
+ *
+ * <p>For a type <code>User</code>, the generated
+ * <code>UserThemisValidator</code> has the same behaviour as
+ * <code>Themis.validateAnnotated</code>, <code>Themis.checkAnnotated</code>
+ * and <code>ThemisCollector.validateAnnotated</code>, but is made of the
+ * same <code>Themis.validate</code> calls that would be written by hand, so
+ * nothing is reflective at run time:</p>
+ *
+ * <p><code>
+ * UserThemisValidator.validate(user);<br>
+ * final ThemisResult result = UserThemisValidator.check(user);<br>
+ * UserThemisValidator.validate(user, collector);
+ * </code></p>
+ *
+ * <p>Private fields are read with a non-private <code>getX()</code> or
+ * <code>isX()</code> method; any other misplaced annotation is reported as a
+ * compile error on the annotated element.</p>
+ *
+ * <p>The processor also writes the GraalVM native image reflection metadata
+ * for the annotated types and for every concrete custom Eunomia class it
+ * compiles, to <code>reflect-config.json</code> in
+ * <code>META-INF/native-image/themis/&lt;package&gt;</code>, so <code>Themis.validateAnnotated</code> and
+ * <code>Themis.validate(String, T, Class)</code> also work in a native
+ * image. This can be turned off with <code>-Athemis.nativeImage=false</code>.
+ * As it looks for custom Eunomia classes in every source file, the processor
+ * supports every annotation type, but never claims any.</p>
+ */
+@SupportedAnnotationTypes("*")
+@SupportedOptions(ThemisValidatorProcessor.NATIVE_IMAGE)
+public final class ThemisValidatorProcessor extends AbstractProcessor {
+
+  static final String NOT_NULL = "uk.co.noop.themis.annotation.NotNull";
+  static final String NOT_EMPTY = "uk.co.noop.themis.annotation.NotEmpty";
+  static final String NOT_BLANK = "uk.co.noop.themis.annotation.NotBlank";
+  static final String VALID_WITH = "uk.co.noop.themis.annotation.ValidWith";
+
+  static final String NATIVE_IMAGE = "themis.nativeImage";
+
+  private static final String ABSTRACT_EUNOMIA =
+      "uk.co.noop.themis.eunomia.AbstractEunomia";
+
+  private static final String VIOLATION_HANDLER =
+      "uk.co.noop.themis.violation.ThemisViolationHandler";
+
+  private static final String SUFFIX = "ThemisValidator";
+
+  private final ReflectionConfig reflectionConfig = new ReflectionConfig();
+
+  @Override
+  public SourceVersion getSupportedSourceVersion() {
+    return SourceVersion.latestSupported();
+  }
+
+  @Override
+  public boolean process(
+      final Set<? extends TypeElement> annotations,
+      final RoundEnvironment roundEnvironment) {
+
+    final Elements elements = processingEnv.getElementUtils();
+    final Set<TypeElement> types = new LinkedHashSet<>();
+
+    for (final String name
+        : List.of(NOT_NULL, NOT_EMPTY, NOT_BLANK, VALID_WITH)) {
+
+      final TypeElement annotation = elements.getTypeElement(name);
+
+      if (annotation == null) {
+        continue;
+      }
+
+      for (final Element element
+          : roundEnvironment.getElementsAnnotatedWith(annotation)) {
+
+        if (element.getEnclosingElement() instanceof TypeElement) {
+          types.add((TypeElement) element.getEnclosingElement());
+        }
+      }
+    }
+
+    for (final TypeElement type : types) {
+      generate(type);
+    }
+
+    if (isNativeImageEnabled()) {
+
+      registerEunomiaClasses(
+          ElementFilter.typesIn(roundEnvironment.getRootElements()));
+
+      if (roundEnvironment.processingOver() && !reflectionConfig.isEmpty()) {
+        writeReflectionConfig();
+      }
+    }
+
+    return false;
+  }
+
+  private void generate(final TypeElement type) {
+
+    if (!isAccessible(type)) {
+      error(type, "must not be private to generate a Themis validator");
+      return;
+    }
+
+    final List<ValidatorSource.Property> properties = new ArrayList<>();
+    boolean valid = true;
+
+    if (type.getKind() == ElementKind.RECORD) {
+      for (final RecordComponentElement component
+          : type.getRecordComponents()) {
+
+        valid &= addProperty(
+            properties,
+            component,
+            component.getSimpleName() + "()",
+            component.asType());
+      }
+    } else {
+      for (final TypeElement owner : hierarchy(type)) {
+        for (final VariableElement field
+            : ElementFilter.fieldsIn(owner.getEnclosedElements())) {
+
+          if (!field.getModifiers().contains(Modifier.STATIC)
+              && isAnnotated(field)) {
+
+            final String accessor = accessor(type, field);
+
+            valid &= accessor != null && addProperty(
+                properties,
+                field,
+                accessor,
+                field.asType());
+          }
+        }
+      }
+    }
+
+    if (!valid) {
+      return;
+    }
+
+    final Elements elements = processingEnv.getElementUtils();
+
+    for (final TypeElement owner : type.getKind() == ElementKind.RECORD
+        ? List.of(type)
+        : hierarchy(type)) {
+
+      reflectionConfig.register(
+          elements.getBinaryName(owner).toString(),
+          ReflectionConfig.ALL_DECLARED_FIELDS,
+          ReflectionConfig.ALL_DECLARED_METHODS);
+    }
+
+    final String packageName =
+        elements.getPackageOf(type).getQualifiedName().toString();
+    final String simpleName = flatName(type) + SUFFIX;
+    final String qualifiedName = packageName.isEmpty()
+        ? simpleName
+        : packageName + "." + simpleName;
+
+    final ValidatorSource source = new ValidatorSource(
+        packageName,
+        simpleName,
+        type.getQualifiedName().toString(),
+        targetType(type),
+        properties,
+        elements.getTypeElement("javax.annotation.processing.Generated")
+            != null);
+
+    try (Writer writer = processingEnv.getFiler()
+        .createSourceFile(qualifiedName, type)
+        .openWriter()) {
+
+      writer.write(source.toString());
+
+    } catch (final IOException e) {
+      error(type, "could not write " + qualifiedName + ": " + e.getMessage());
+    }
+  }
+
+  /**
+   * <p>Adds the checks for the annotations on the specified <b>element</b>
+   * in the same order as <code>Themis.validateAnnotated</code>, or reports
+   * the annotations that cannot be applied to its type.</p>
+   */
+  private boolean addProperty(
+      final List<ValidatorSource.Property> properties,
+      final Element element,
+      final String accessor,
+      final TypeMirror type) {
+
+    final ValidatorSource.Property property = new ValidatorSource.Property(
+        element.getSimpleName().toString(),
+        accessor);
+
+    boolean valid = true;
+
+    if (annotation(element, NOT_NULL) != null
+        && !type.getKind().isPrimitive()) {
+
+      property.add(ValidatorSource.Kind.OBJECT, "againstNullObjects");
+    }
+
+    if (annotation(element, NOT_EMPTY) != null) {
+      valid &= addNotEmpty(property, element, type);
+    }
+
+    if (annotation(element, NOT_BLANK) != null) {
+      valid &= addNotBlank(property, element, type);
+    }
+
+    final AnnotationMirror validWith = annotation(element, VALID_WITH);
+
+    if (validWith != null) {
+      valid &= addValidWith(property, element, type, validWith);
+    }
+
+    if (valid && !property.isEmpty()) {
+      properties.add(property);
+    }
+
+    return valid;
+  }
+
+  private boolean addNotEmpty(
+      final ValidatorSource.Property property,
+      final Element element,
+      final TypeMirror type) {
+
+    if (isString(type)) {
+      property.add(ValidatorSource.Kind.STRING, "againstEmptyStrings");
+    } else if (isSubtype(type, "java.lang.CharSequence")) {
+      property.add(
+          ValidatorSource.Kind.CHAR_SEQUENCE,
+          "againstEmptyCharSequences");
+    } else if (isSubtype(type, "java.util.Collection")) {
+      property.add(
+          ValidatorSource.Kind.COLLECTION,
+          "againstEmptyCollections");
+    } else if (isObjectArray(type)) {
+      property.add(ValidatorSource.Kind.ARRAY, "againstEmptyArrays");
+    } else {
+      return unsupported(element, "@NotEmpty", type);
+    }
+
+    return true;
+  }
+
+  private boolean addNotBlank(
+      final ValidatorSource.Property property,
+      final Element element,
+      final TypeMirror type) {
+
+    if (isString(type)) {
+      property.add(ValidatorSource.Kind.STRING, "againstBlankStrings");
+    } else if (isSubtype(type, "java.lang.CharSequence")) {
+      property.add(
+          ValidatorSource.Kind.CHAR_SEQUENCE,
+          "againstBlankCharSequences");
+    } else {
+      return unsupported(element, "@NotBlank", type);
+    }
+
+    return true;
+  }
+
+  /**
+   * <p>Adds a custom Eunomia step, after checking that the Eunomia has a
+   * public <code>(String, X, ThemisViolationHandler)</code> constructor that
+   * accepts the annotated type and a public method without parameters for
+   * each named rule.</p>
+   */
+  private boolean addValidWith(
+      final ValidatorSource.Property property,
+      final Element element,
+      final TypeMirror type,
+      final AnnotationMirror validWith) {
+
+    final Types types = processingEnv.getTypeUtils();
+    final TypeElement eunomia = (TypeElement) ((DeclaredType) value(
+        validWith,
+        "value").getValue()).asElement();
+    final TypeMirror targetType = type.getKind().isPrimitive()
+        ? types.boxedClass((PrimitiveType) type).asType()
+        : type;
+
+    boolean hasConstructor = false;
+
+    for (final ExecutableElement constructor
+        : ElementFilter.constructorsIn(eunomia.getEnclosedElements())) {
+
+      final List<? extends VariableElement> parameters =
+          constructor.getParameters();
+
+      hasConstructor |= constructor.getModifiers().contains(Modifier.PUBLIC)
+          && parameters.size() == 3
+          && isString(parameters.get(0).asType())
+          && types.isAssignable(
+              targetType,
+              types.erasure(parameters.get(1).asType()))
+          && types.erasure(parameters.get(2).asType())
+              .toString()
+              .equals(VIOLATION_HANDLER);
+    }
+
+    if (!hasConstructor) {
+
+      error(element, eunomia.getQualifiedName()
+          + " has no public (String, " + targetType
+          + ", ThemisViolationHandler) constructor");
+
+      return false;
+    }
+
+    final List<String> rules = new ArrayList<>();
+
+    for (final Object rule : (List<?>) value(validWith, "rules").getValue()) {
+
+      final String name = (String) ((AnnotationValue) rule).getValue();
+
+      if (!hasRule(eunomia, name)) {
+
+        error(element, eunomia.getQualifiedName()
+            + " has no public rule " + name + "()");
+
+        return false;
+      }
+
+      rules.add(name);
+    }
+
+    reflectionConfig.register(
+        processingEnv.getElementUtils().getBinaryName(eunomia).toString(),
+        ReflectionConfig.ALL_PUBLIC_CONSTRUCTORS,
+        ReflectionConfig.ALL_PUBLIC_METHODS);
+
+    property.addCustom(
+        eunomia.getQualifiedName().toString(),
+        !eunomia.getTypeParameters().isEmpty(),
+        rules);
+
+    return true;
+  }
+
+  private boolean hasRule(final TypeElement eunomia, final String name) {
+
+    for (final ExecutableElement method : ElementFilter.methodsIn(
+        processingEnv.getElementUtils().getAllMembers(eunomia))) {
+
+      if (method.getSimpleName().contentEquals(name)
+          && method.getParameters().isEmpty()
+          && method.getModifiers().contains(Modifier.PUBLIC)
+          && !method.getModifiers().contains(Modifier.STATIC)
+          && method.getReturnType().getKind() != TypeKind.VOID) {
+
+        return true;
+      }
+    }
+
+    return false;
+  }
+
+  /**
+   * <p>Registers the public constructors of each concrete custom Eunomia class
+   * among the specified <b>types</b> and the types nested in them, for
+   * <code>Themis.validate(String, T, Class)</code>.</p>
+   */
+  private void registerEunomiaClasses(
+      final Collection<TypeElement> types) {
+
+    final TypeElement abstractEunomia =
+        processingEnv.getElementUtils().getTypeElement(ABSTRACT_EUNOMIA);
+
+    if (abstractEunomia == null) {
+      return;
+    }
+
+    final Types typeUtils = processingEnv.getTypeUtils();
+    final TypeMirror erasure = typeUtils.erasure(abstractEunomia.asType());
+
+    for (final TypeElement type : types) {
+
+      if (!type.getModifiers().contains(Modifier.ABSTRACT)
+          && type.getKind() == ElementKind.CLASS
+          && typeUtils.isSubtype(typeUtils.erasure(type.asType()), erasure)) {
+
+        reflectionConfig.register(
+            processingEnv.getElementUtils().getBinaryName(type).toString(),
+            ReflectionConfig.ALL_PUBLIC_CONSTRUCTORS);
+      }
+
+      registerEunomiaClasses(
+          ElementFilter.typesIn(type.getEnclosedElements()));
+    }
+  }
+
+  private boolean isNativeImageEnabled() {
+    return !"false".equals(processingEnv.getOptions().get(NATIVE_IMAGE));
+  }
+
+  private void writeReflectionConfig() {
+
+    final String name = "META-INF/native-image/themis/"
+        + reflectionConfig.firstPackage()
+        + "/reflect-config.json";
+
+    try (Writer writer = processingEnv.getFiler()
+        .createResource(StandardLocation.CLASS_OUTPUT, "", name)
+        .openWriter()) {
+
+      writer.write(reflectionConfig.toString());
+
+    } catch (final IOException e) {
+      processingEnv.getMessager().printMessage(
+          Diagnostic.Kind.ERROR,
+          "could not write " + name + ": " + e.getMessage());
+    }
+  }
+
+  /**
+   * <p>Returns the expression, relative to the <b>target</b>, that reads the
+   * specified <b>field</b>: the field itself if it is not private, or
+   * otherwise its non-private getter.</p>
+   */
+  private String accessor(final TypeElement type, final VariableElement field) {
+
+    final String name = field.getSimpleName().toString();
+
+    if (!field.getModifiers().contains(Modifier.PRIVATE)) {
+      return name;
+    }
+
+    final String suffix =
+        Character.toUpperCase(name.charAt(0)) + name.substring(1);
+
+    for (final ExecutableElement method : ElementFilter.methodsIn(
+        processingEnv.getElementUtils().getAllMembers(type))) {
+
+      final String methodName = method.getSimpleName().toString();
+
+      if ((methodName.equals("get" + suffix)
+          || methodName.equals("is" + suffix))
+          && method.getParameters().isEmpty()
+          && !method.getModifiers().contains(Modifier.PRIVATE)
+          && !method.getModifiers().contains(Modifier.STATIC)) {
+
+        return methodName + "()";
+      }
+    }
+
+    error(field, "must not be private, or must have a non-private get"
+        + suffix + "() method, to generate a Themis validator");
+
+    return null;
+  }
+
+  private List<TypeElement> hierarchy(final TypeElement type) {
+
+    final List<TypeElement> hierarchy = new ArrayList<>();
+
+    for (TypeElement owner = type; owner != null; owner = superclass(owner)) {
+      hierarchy.add(0, owner);
+    }
+
+    return hierarchy;
+  }
+
+  private TypeElement superclass(final TypeElement type) {
+
+    final TypeMirror superclass = type.getSuperclass();
+
+    if (superclass.getKind() != TypeKind.DECLARED) {
+      return null;
+    }
+
+    final TypeElement element =
+        (TypeElement) ((DeclaredType) superclass).asElement();
+
+    return element.getQualifiedName().contentEquals("java.lang.Object")
+        ? null
+        : element;
+  }
+
+  private boolean isAnnotated(final Element element) {
+
+    return annotation(element, NOT_NULL) != null
+        || annotation(element, NOT_EMPTY) != null
+        || annotation(element, NOT_BLANK) != null
+        || annotation(element, VALID_WITH) != null;
+  }
+
+  private static AnnotationMirror annotation(
+      final Element element,
+      final String annotationType) {
+
+    for (final AnnotationMirror mirror : element.getAnnotationMirrors()) {
+
+      final TypeElement type =
+          (TypeElement) mirror.getAnnotationType().asElement();
+
+      if (type.getQualifiedName().contentEquals(annotationType)) {
+        return mirror;
+      }
+    }
+
+    return null;
+  }
+
+  private static AnnotationValue value(
+      final AnnotationMirror mirror,
+      final String name) {
+
+    for (final Map.Entry<? extends ExecutableElement,
+        ? extends AnnotationValue> entry
+        : mirror.getElementValues().entrySet()) {
+
+      if (entry.getKey().getSimpleName().contentEquals(name)) {
+        return entry.getValue();
+      }
+    }
+
+    throw new IllegalStateException(name + " is required");
+  }
+
+  private boolean isString(final TypeMirror type) {
+    return type.toString().equals("java.lang.String");
+  }
+
+  private boolean isSubtype(final TypeMirror type, final String supertype) {
+
+    final Types types = processingEnv.getTypeUtils();
+
+    return !type.getKind().isPrimitive() && types.isAssignable(
+        types.erasure(type),
+        types.erasure(processingEnv.getElementUtils()
+            .getTypeElement(supertype)
+            .asType()));
+  }
+
+  private boolean isObjectArray(final TypeMirror type) {
+
+    return type.getKind() == TypeKind.ARRAY
+        && !((ArrayType) type).getComponentType()
+            .getKind()
+            .isPrimitive();
+  }
+
+  private boolean unsupported(
+      final Element element,
+      final String annotation,
+      final TypeMirror type) {
+
+    error(element, annotation + " is not supported on type " + type);
+
+    return false;
+  }
+
+  private static boolean isAccessible(final TypeElement type) {
+
+    for (Element element = type; element instanceof TypeElement;
+        element = element.getEnclosingElement()) {
+
+      if (element.getModifiers().contains(Modifier.PRIVATE)) {
+        return false;
+      }
+    }
+
+    return true;
+  }
+
+  private static String flatName(final TypeElement type) {
+
+    return type.getEnclosingElement() instanceof TypeElement
+        ? flatName((TypeElement) type.getEnclosingElement())
+            + "_" + type.getSimpleName()
+        : type.getSimpleName().toString();
+  }
+
+  private static String targetType(final TypeElement type) {
+
+    final int parameters = type.getTypeParameters().size();
+
+    if (parameters == 0) {
+      return type.getQualifiedName().toString();
+    }
+
+    return type.getQualifiedName()
+        + "<" + String.join(", ", Collections.nCopies(parameters, "?")) + ">";
+  }
+
+  private void error(final Element element, final String message) {
+    processingEnv.getMessager().printMessage(
+        Diagnostic.Kind.ERROR,
+        message,
+        element);
+  }
+
+}
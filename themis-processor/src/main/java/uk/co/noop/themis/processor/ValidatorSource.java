@@ -0,0 +1,284 @@
+package uk.co.noop.themis.processor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * <p>The source of one generated validator: the checks of each annotated
+ * property of a type, written as the <code>Themis</code> calls that would be
+ * written by hand.</p>
+ */
+final class ValidatorSource {
+
+  private static final String THEMIS = "uk.co.noop.themis.Themis";
+  private static final String COLLECTOR = "uk.co.noop.themis.ThemisCollector";
+  private static final String RESULT =
+      "uk.co.noop.themis.violation.ThemisResult";
+  private static final String HANDLER =
+      "uk.co.noop.themis.violation.ThemisViolationHandler";
+
+  /**
+   * <p>How a property is handed to <code>Themis</code>: the factory methods,
+   * and the cast that picks their overload.</p>
+   */
+  enum Kind {
+
+    OBJECT("validate", "check", "(java.lang.Object) "),
+    STRING("validate", "check", "(java.lang.String) "),
+    CHAR_SEQUENCE("validateCharSequence", "checkCharSequence", ""),
+    COLLECTION("validateCollection", "checkCollection", ""),
+    ARRAY("validateArray", "checkArray", "");
+
+    private final String validate;
+    private final String check;
+    private final String cast;
+
+    Kind(final String validate, final String check, final String cast) {
+      this.validate = validate;
+      this.check = check;
+      this.cast = cast;
+    }
+
+  }
+
+  /**
+   * <p>The three generated methods: throwing on the first violation,
+   * returning the first violation, or collecting the first violation of each
+   * property.</p>
+   */
+  private enum Mode {
+
+    THROWING(THEMIS + ".", HANDLER + ".THROWING"),
+    RECORDING(THEMIS + ".", HANDLER + ".RECORDING"),
+    COLLECTING("collector.", "collector");
+
+    private final String receiver;
+    private final String handler;
+
+    Mode(final String receiver, final String handler) {
+      this.receiver = receiver;
+      this.handler = handler;
+    }
+
+  }
+
+  /**
+   * <p>One check of a property: a built-in rule, or a custom Eunomia with
+   * its named rules.</p>
+   */
+  private record Step(
+      Kind kind,
+      String rule,
+      String eunomia,
+      boolean generic,
+      List<String> rules) {
+
+    String expression(final Property property, final Mode mode) {
+
+      final String name = "\"" + property.name + "\"";
+      final String value = "target." + property.accessor;
+
+      if (eunomia == null) {
+
+        return mode.receiver
+            + (mode == Mode.RECORDING ? kind.check : kind.validate)
+            + "(" + name + ", " + kind.cast + value + ")." + rule + "()";
+      }
+
+      final StringBuilder expression = new StringBuilder("new ")
+          .append(eunomia).append(generic ? "<>(" : "(")
+          .append(name).append(", ")
+          .append(value).append(", ")
+          .append(mode.handler).append(")");
+
+      for (final String custom : rules) {
+        expression.append(".").append(custom).append("()");
+      }
+
+      return expression.toString();
+    }
+
+  }
+
+  /**
+   * <p>An annotated field or record component, with the expression that
+   * reads it from the <code>target</code> and its checks in order.</p>
+   */
+  static final class Property {
+
+    private final String name;
+    private final String accessor;
+    private final List<Step> steps = new ArrayList<>();
+
+    Property(final String name, final String accessor) {
+      this.name = name;
+      this.accessor = accessor;
+    }
+
+    void add(final Kind kind, final String rule) {
+      steps.add(new Step(kind, rule, null, false, List.of()));
+    }
+
+    void addCustom(
+        final String eunomia,
+        final boolean generic,
+        final List<String> rules) {
+
+      steps.add(new Step(null, null, eunomia, generic, List.copyOf(rules)));
+    }
+
+    boolean isEmpty() {
+      return steps.isEmpty();
+    }
+
+  }
+
+  private final String packageName;
+  private final String simpleName;
+  private final String typeName;
+  private final String targetType;
+  private final List<Property> properties;
+  private final boolean generated;
+
+  ValidatorSource(
+      final String packageName,
+      final String simpleName,
+      final String typeName,
+      final String targetType,
+      final List<Property> properties,
+      final boolean generated) {
+
+    this.packageName = packageName;
+    this.simpleName = simpleName;
+    this.typeName = typeName;
+    this.targetType = targetType;
+    this.properties = List.copyOf(properties);
+    this.generated = generated;
+  }
+
+  @Override
+  public String toString() {
+
+    final StringBuilder source = new StringBuilder();
+
+    if (!packageName.isEmpty()) {
+      source.append("package ").append(packageName).append(";\n\n");
+    }
+
+    source.append("/**\n")
+        .append(" * <p>Validates the annotated properties of {@link ")
+        .append(typeName).append("}.</p>\n")
+        .append(" */\n");
+
+    if (generated) {
+      source.append("@javax.annotation.processing.Generated(\"")
+          .append(ThemisValidatorProcessor.class.getName())
+          .append("\")\n");
+    }
+
+    source.append("public final class ").append(simpleName).append(" {\n\n")
+        .append("  private ").append(simpleName).append("() {\n")
+        .append("  }\n\n");
+
+    appendValidate(source);
+    appendCheck(source);
+    appendCollect(source);
+
+    return source.append("}\n").toString();
+  }
+
+  private void appendValidate(final StringBuilder source) {
+
+    source.append("  public static <T extends ").append(targetType)
+        .append("> T validate(final T target) {\n\n")
+        .append("    ").append(THEMIS)
+        .append(".validate(\"target\", (java.lang.Object) target)")
+        .append(".againstNullObjects();\n");
+
+    for (final Property property : properties) {
+      for (final Step step : property.steps) {
+        source.append("    ")
+            .append(step.expression(property, Mode.THROWING))
+            .append(";\n");
+      }
+    }
+
+    source.append("\n    return target;\n  }\n\n");
+  }
+
+  private void appendCheck(final StringBuilder source) {
+
+    source.append("  public static ").append(RESULT)
+        .append(" check(final ").append(targetType).append(" target) {\n\n")
+        .append("    if (target == null) {\n")
+        .append("      return ").append(THEMIS)
+        .append(".check(\"target\", (java.lang.Object) null)")
+        .append(".againstNullObjects().getResult();\n")
+        .append("    }\n\n");
+
+    if (!properties.isEmpty()) {
+      source.append("    ").append(RESULT).append(" result;\n\n");
+    }
+
+    for (final Property property : properties) {
+      for (final Step step : property.steps) {
+        source.append("    result = ")
+            .append(step.expression(property, Mode.RECORDING))
+            .append(".getResult();\n\n")
+            .append("    if (!result.isValid()) {\n")
+            .append("      return result;\n")
+            .append("    }\n\n");
+      }
+    }
+
+    source.append("    return ").append(RESULT).append(".valid();\n")
+        .append("  }\n\n");
+  }
+
+  /**
+   * <p>Appends the collecting method, in which each check of a property is
+   * nested in the previous check passing, so only the first violation of
+   * each property is collected, as
+   * <code>ThemisCollector.validateAnnotated</code> does.</p>
+   */
+  private void appendCollect(final StringBuilder source) {
+
+    source.append("  public static void validate(\n")
+        .append("      final ").append(targetType).append(" target,\n")
+        .append("      final ").append(COLLECTOR).append(" collector) {\n\n")
+        .append("    if (!collector.validate(\"target\", ")
+        .append("(java.lang.Object) target)\n")
+        .append("        .againstNullObjects().getResult().isValid()) {\n")
+        .append("      return;\n")
+        .append("    }\n");
+
+    for (final Property property : properties) {
+
+      final int last = property.steps.size() - 1;
+
+      source.append("\n");
+
+      for (int i = 0; i < last; i++) {
+        source.append("    ").append("  ".repeat(i))
+            .append("if (")
+            .append(property.steps.get(i).expression(
+                property,
+                Mode.COLLECTING))
+            .append(".getResult().isValid()) {\n");
+      }
+
+      source.append("    ").append("  ".repeat(last))
+          .append(property.steps.get(last).expression(
+              property,
+              Mode.COLLECTING))
+          .append(";\n");
+
+      for (int i = last - 1; i >= 0; i--) {
+        source.append("    ").append("  ".repeat(i)).append("}\n");
+      }
+    }
+
+    source.append("  }\n\n");
+  }
+
+}
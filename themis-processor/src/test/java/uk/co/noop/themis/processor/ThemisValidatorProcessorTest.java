@@ -0,0 +1,412 @@
+package uk.co.noop.themis.processor;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.function.Executable;
+import uk.co.noop.themis.Themis;
+import uk.co.noop.themis.ThemisCollector;
+import uk.co.noop.themis.annotation.NotBlank;
+import uk.co.noop.themis.annotation.NotEmpty;
+import uk.co.noop.themis.annotation.NotNull;
+import uk.co.noop.themis.annotation.ValidWith;
+import uk.co.noop.themis.eunomia.AbstractEunomia;
+import uk.co.noop.themis.exception.ThemisBlankTargetStringException;
+import uk.co.noop.themis.exception.ThemisEmptyTargetException;
+import uk.co.noop.themis.exception.ThemisInvalidTargetException;
+import uk.co.noop.themis.exception.ThemisNullTargetException;
+import uk.co.noop.themis.exception.ThemisTargetException;
+import uk.co.noop.themis.violation.ThemisResult;
+import uk.co.noop.themis.violation.ThemisViolationHandler;
+import uk.co.noop.themis.violation.ThemisViolationType;
+
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.ToolProvider;
+import java.io.InputStream;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ThemisValidatorProcessorTest {
+
+  private static final Data VALID_DATA = new Data(3);
+
+  @Test
+  public void validate_validRecord_shouldReturnTarget() {
+
+    final User user = new User("id", VALID_DATA, List.of("a"));
+
+    assertSame(user, ThemisValidatorProcessorTest_UserThemisValidator
+        .validate(user));
+  }
+
+  @Test
+  public void validate_invalidRecord_shouldThrowForComponent() {
+
+    assertTargetException(
+        ThemisBlankTargetStringException.class,
+        "id",
+        () -> ThemisValidatorProcessorTest_UserThemisValidator.validate(
+            new User(" ", VALID_DATA, List.of("a"))));
+    assertTargetException(
+        ThemisNullTargetException.class,
+        "data",
+        () -> ThemisValidatorProcessorTest_UserThemisValidator.validate(
+            new User("id", null, List.of("a"))));
+    assertTargetException(
+        ThemisEmptyTargetException.class,
+        "roles",
+        () -> ThemisValidatorProcessorTest_UserThemisValidator.validate(
+            new User("id", VALID_DATA, List.of())));
+  }
+
+  @Test
+  public void validate_validWith_shouldApplyCustomEunomiaRules() {
+
+    assertTargetException(
+        ThemisInvalidTargetException.class,
+        "data",
+        () -> ThemisValidatorProcessorTest_UserThemisValidator.validate(
+            new User("id", new Data(-1), List.of("a"))));
+  }
+
+  @Test
+  public void validate_nullTarget_shouldThrowForTarget() {
+
+    assertTargetException(
+        ThemisNullTargetException.class,
+        "target",
+        () -> ThemisValidatorProcessorTest_UserThemisValidator.validate(
+            null));
+  }
+
+  @Test
+  public void validate_subclass_shouldValidateInheritedFieldsFirst() {
+
+    assertTargetException(
+        ThemisEmptyTargetException.class,
+        "name",
+        () -> ThemisValidatorProcessorTest_AccountThemisValidator.validate(
+            new Account("", " ", new String[0])));
+    assertTargetException(
+        ThemisBlankTargetStringException.class,
+        "description",
+        () -> ThemisValidatorProcessorTest_AccountThemisValidator.validate(
+            new Account("name", " ", new String[0])));
+    assertTargetException(
+        ThemisEmptyTargetException.class,
+        "tags",
+        () -> ThemisValidatorProcessorTest_AccountThemisValidator.validate(
+            new Account("name", "description", new String[0])));
+  }
+
+  @Test
+  public void check_shouldMatchCheckAnnotated() {
+
+    final List<Object> users = List.of(
+        new User("id", VALID_DATA, List.of("a")),
+        new User("\t", null, List.of()),
+        new User("id", null, List.of()),
+        new User("id", new Data(-1), List.of("a")),
+        new User("id", VALID_DATA, List.of()));
+
+    for (final Object user : users) {
+
+      final ThemisResult expected = Themis.checkAnnotated(user);
+      final ThemisResult actual =
+          ThemisValidatorProcessorTest_UserThemisValidator.check((User) user);
+
+      assertEquals(expected.getTargetName(), actual.getTargetName());
+      assertEquals(expected.getViolationType(), actual.getViolationType());
+    }
+  }
+
+  @Test
+  public void check_nullTarget_shouldReturnNullTargetResult() {
+
+    final ThemisResult result =
+        ThemisValidatorProcessorTest_UserThemisValidator.check(null);
+
+    assertEquals("target", result.getTargetName());
+    assertEquals(ThemisViolationType.NULL_TARGET, result.getViolationType());
+  }
+
+  @Test
+  public void validate_collector_shouldCollectFirstViolationOfEachProperty() {
+
+    final ThemisCollector collector = Themis.collect();
+
+    ThemisValidatorProcessorTest_UserThemisValidator.validate(
+        new User(" ", null, List.of()),
+        collector);
+
+    assertFalse(collector.isValid());
+    assertEquals(
+        List.of("id", "data", "roles"),
+        collector.getReport().getResults().stream()
+            .map(ThemisResult::getTargetName)
+            .toList());
+  }
+
+  @Test
+  public void validate_collector_validTarget_shouldCollectNothing() {
+
+    final ThemisCollector collector = Themis.collect();
+
+    ThemisValidatorProcessorTest_AccountThemisValidator.validate(
+        new Account("name", "description", new String[] {"tag"}),
+        collector);
+
+    assertTrue(collector.isValid());
+  }
+
+  @Test
+  public void process_unsupportedType_shouldReportError() throws Exception {
+
+    final List<Diagnostic<? extends JavaFileObject>> errors = compile(
+        "Unsupported",
+        "public record Unsupported("
+            + "@uk.co.noop.themis.annotation.NotBlank int count) {}");
+
+    assertEquals(1, errors.size());
+    assertEquals(
+        "@NotBlank is not supported on type int",
+        errors.get(0).getMessage(null));
+  }
+
+  @Test
+  public void process_privateFieldWithoutGetter_shouldReportError()
+      throws Exception {
+
+    final List<Diagnostic<? extends JavaFileObject>> errors = compile(
+        "Hidden",
+        "public class Hidden {"
+            + "@uk.co.noop.themis.annotation.NotNull private Object value; }");
+
+    assertEquals(1, errors.size());
+    assertTrue(errors.get(0).getMessage(null).contains("getValue()"));
+  }
+
+  @Test
+  public void process_unknownRule_shouldReportError() throws Exception {
+
+    final List<Diagnostic<? extends JavaFileObject>> errors = compile(
+        "UnknownRule",
+        "public record UnknownRule("
+            + "@uk.co.noop.themis.annotation.ValidWith(value = "
+            + ThemisValidatorProcessorTest.class.getName()
+            + ".DataEunomia.class, rules = \"againstUnknown\") "
+            + ThemisValidatorProcessorTest.class.getName()
+            + ".Data data) {}");
+
+    assertEquals(1, errors.size());
+    assertTrue(errors.get(0).getMessage(null).contains("againstUnknown()"));
+  }
+
+  @Test
+  public void process_shouldWriteReflectionConfigForNativeImage()
+      throws Exception {
+
+    final String config;
+
+    try (InputStream in = ThemisValidatorProcessorTest.class
+        .getResourceAsStream("/META-INF/native-image/themis/"
+            + "uk.co.noop.themis.processor/reflect-config.json")) {
+
+      config = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+    }
+
+    assertTrue(config.contains("\"name\": \""
+        + User.class.getName() + "\",\n    \"allDeclaredFields\": true"));
+    assertTrue(config.contains("\"name\": \""
+        + Named.class.getName() + "\""));
+    assertTrue(config.contains("\"name\": \""
+        + DataEunomia.class.getName() + "\",\n"
+        + "    \"allPublicConstructors\": true,\n"
+        + "    \"allPublicMethods\": true"));
+  }
+
+  @Test
+  public void process_customEunomia_shouldRegisterConstructors()
+      throws Exception {
+
+    final Path output = Files.createTempDirectory("themis-processor");
+
+    assertTrue(compile(
+        output,
+        List.of(),
+        "sample.SampleEunomia",
+        "package sample;"
+            + "public class SampleEunomia extends "
+            + "uk.co.noop.themis.eunomia.AbstractEunomia<Object, SampleEunomia>"
+            + "{ public SampleEunomia(String n, Object t) { super(n, t); }"
+            + "protected SampleEunomia getEunomia() { return this; } }")
+        .isEmpty());
+
+    assertEquals(
+        "[\n  {\n    \"name\": \"sample.SampleEunomia\",\n"
+            + "    \"allPublicConstructors\": true\n  }\n]\n",
+        Files.readString(output.resolve(
+            "META-INF/native-image/themis/sample/reflect-config.json")));
+  }
+
+  @Test
+  public void process_nativeImageDisabled_shouldNotWriteReflectionConfig()
+      throws Exception {
+
+    final Path output = Files.createTempDirectory("themis-processor");
+
+    compile(
+        output,
+        List.of("-Athemis.nativeImage=false"),
+        "sample.Named",
+        "package sample; public record Named("
+            + "@uk.co.noop.themis.annotation.NotNull String name) {}");
+
+    assertTrue(Files.exists(output.resolve(
+        "sample/NamedThemisValidator.java")));
+    assertFalse(Files.exists(output.resolve("META-INF")));
+  }
+
+  private static void assertTargetException(
+      final Class<? extends ThemisTargetException> type,
+      final String targetName,
+      final Executable executable) {
+
+    assertEquals(
+        targetName,
+        assertThrows(type, executable).getTargetName());
+  }
+
+  private static List<Diagnostic<? extends JavaFileObject>> compile(
+      final String name,
+      final String source) throws Exception {
+
+    return compile(
+        Files.createTempDirectory("themis-processor"),
+        List.of(),
+        name,
+        source);
+  }
+
+  private static List<Diagnostic<? extends JavaFileObject>> compile(
+      final Path output,
+      final List<String> options,
+      final String name,
+      final String source) {
+
+    final JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+    final DiagnosticCollector<JavaFileObject> diagnostics =
+        new DiagnosticCollector<>();
+    final List<String> arguments = new ArrayList<>(List.of(
+        "-classpath", System.getProperty("java.class.path"),
+        "-d", output.toString(),
+        "-s", output.toString(),
+        "-proc:only"));
+
+    arguments.addAll(options);
+
+    final JavaCompiler.CompilationTask task = compiler.getTask(
+        null,
+        null,
+        diagnostics,
+        arguments,
+        null,
+        List.of(new SimpleJavaFileObject(
+            URI.create("string:///" + name.replace('.', '/') + ".java"),
+            JavaFileObject.Kind.SOURCE) {
+
+          @Override
+          public CharSequence getCharContent(final boolean ignoreErrors) {
+            return source;
+          }
+        }));
+
+    task.setProcessors(List.of(new ThemisValidatorProcessor()));
+    task.call();
+
+    return diagnostics.getDiagnostics().stream()
+        .filter(diagnostic -> diagnostic.getKind() == Diagnostic.Kind.ERROR)
+        .toList();
+  }
+
+  public record Data(int size) {
+  }
+
+  public record User(
+      @NotBlank String id,
+      @NotNull @ValidWith(value = DataEunomia.class, rules = "againstNegative")
+      Data data,
+      @NotEmpty List<String> roles) {
+  }
+
+  static class Named {
+
+    @NotEmpty
+    final String name;
+
+    Named(final String name) {
+      this.name = name;
+    }
+  }
+
+  static final class Account extends Named {
+
+    @NotBlank
+    private final CharSequence description;
+
+    @NotEmpty
+    private final String[] tags;
+
+    Account(
+        final String name,
+        final CharSequence description,
+        final String[] tags) {
+
+      super(name);
+      this.description = description;
+      this.tags = tags;
+    }
+
+    CharSequence getDescription() {
+      return description;
+    }
+
+    String[] getTags() {
+      return tags;
+    }
+  }
+
+  public static class DataEunomia extends AbstractEunomia<Data, DataEunomia> {
+
+    public DataEunomia(
+        final String targetName,
+        final Data target,
+        final ThemisViolationHandler violationHandler) {
+
+      super(targetName, target, violationHandler);
+    }
+
+    public DataEunomia againstNegative() {
+      return againstInvalidValues(data -> data != null && data.size() < 0);
+    }
+
+    @Override
+    protected DataEunomia getEunomia() {
+      return this;
+    }
+
+  }
+
+}